@@ -24,11 +24,15 @@ package com.ibm.j9ddr;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.ref.SoftReference;
 import java.security.SecureClassLoader;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.ibm.j9ddr.StructureReader.PackageNameType;
 import com.ibm.j9ddr.StructureReader.StructureDescriptor;
@@ -80,6 +84,53 @@ public class J9DDRClassLoader extends SecureClassLoader {
 		}
 	}
 
+	/*
+	 * The number of builds for which generated class bytes are kept. Tools that open
+	 * many cores (such as a batch heap analysis) usually see only a few builds.
+	 */
+	private static final int SHARED_BUILD_LIMIT = 4;
+
+	/*
+	 * Generated class bytes, keyed by structure reader fingerprint, then by class name.
+	 * Each core has its own class loader, but cores from the same build generate the
+	 * same classes, so the bytes are only generated once.
+	 */
+	private static final Map<String, Map<String, byte[]>> generatedClassBytes = new LinkedHashMap<String, Map<String, byte[]>>(SHARED_BUILD_LIMIT, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Map<String, byte[]>> eldest) {
+			return size() > SHARED_BUILD_LIMIT;
+		}
+	};
+
+	// Bytes of the regular classes duplicated for each core file; they don't depend on the build.
+	private static SoftReference<Map<String, byte[]>> copiedClassBytes = new SoftReference<>(null);
+
+	private static Map<String, byte[]> getGeneratedClassBytes(String fingerprint) {
+		synchronized (generatedClassBytes) {
+			Map<String, byte[]> classBytes = generatedClassBytes.get(fingerprint);
+
+			if (classBytes == null) {
+				classBytes = new ConcurrentHashMap<>();
+				generatedClassBytes.put(fingerprint, classBytes);
+			}
+
+			return classBytes;
+		}
+	}
+
+	private static synchronized Map<String, byte[]> getCopiedClassBytes() {
+		Map<String, byte[]> classBytes = copiedClassBytes.get();
+
+		if (classBytes == null) {
+			classBytes = new ConcurrentHashMap<>();
+			copiedClassBytes = new SoftReference<>(classBytes);
+		}
+
+		return classBytes;
+	}
+
 	// Byte code cache
 	private final HashMap<String, Class<?>> cache;
 
@@ -122,15 +173,21 @@ public class J9DDRClassLoader extends SecureClassLoader {
 
 			if (binaryName.startsWith(structurePackageDotName)) {
 				// generate the requested structure class
-				data = getStructureClass(binaryName);
+				data = getGeneratedClass(binaryName, false);
 				generated = true;
 			} else if (generatePointers && binaryName.startsWith(pointerPackageDotName)) {
 				// generate the requested pointer class
-				data = getPointerClass(binaryName);
+				data = getGeneratedClass(binaryName, true);
 				generated = true;
 			} else {
 				// This is a regular class that we need to duplicate for this classloader.
-				data = loadClassBytes(binaryName);
+				Map<String, byte[]> copied = getCopiedClassBytes();
+
+				data = copied.get(binaryName);
+				if (data == null) {
+					data = loadClassBytes(binaryName);
+					copied.put(binaryName, data);
+				}
 				generated = false;
 			}
 
@@ -222,6 +279,26 @@ public class J9DDRClassLoader extends SecureClassLoader {
 		}
 	}
 
+	/*
+	 * Get the bytes of a structure or pointer class, reusing those generated for
+	 * another core file if it has identical structure data.
+	 */
+	private byte[] getGeneratedClass(String binaryName, boolean pointer) throws ClassNotFoundException {
+		// The fingerprint is cleared if the structures change, so check it for each class.
+		String fingerprint = reader.getFingerprint();
+		Map<String, byte[]> shared = (fingerprint == null) ? null : getGeneratedClassBytes(fingerprint);
+		byte[] data = (shared == null) ? null : shared.get(binaryName);
+
+		if (data == null) {
+			data = pointer ? getPointerClass(binaryName) : getStructureClass(binaryName);
+			if ((shared != null) && fingerprint.equals(reader.getFingerprint())) {
+				shared.putIfAbsent(binaryName, data);
+			}
+		}
+
+		return data;
+	}
+
 	private byte[] getPointerClass(String binaryName) throws ClassNotFoundException {
 		try {
 			return reader.getPointerClassBytes(binaryName);
@@ -33,6 +33,8 @@ import java.io.PrintWriter;
 import java.io.Reader;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -40,6 +42,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -79,6 +82,9 @@ public class StructureReader {
 
 	private final StructureTypeManager typeManager;
 
+	// Digest of the structure data as read from the blob, or null once it has been modified.
+	private volatile String fingerprint;
+
 	/* Patterns for cleaning types */
 	/* Pattern that matches a 1 or more characters not including ']' that occur after [ */
 	private static final Pattern CONTENTS_OF_ARRAY_PATTERN = Pattern.compile("(?<=\\[).*?(?=\\])");
@@ -121,6 +127,7 @@ public class StructureReader {
 		addCompatibilityConstants();
 		loadAuxFieldInfo();
 		typeManager = new StructureTypeManager(getStructures());
+		fingerprint = computeFingerprint();
 	}
 
 	/**
@@ -136,6 +143,57 @@ public class StructureReader {
 		return header;
 	}
 
+	/**
+	 * Returns a digest of the structure data read from the blob. Readers with the same
+	 * fingerprint generate identical structure and pointer classes, so the class bytes
+	 * can be shared between cores from the same build.
+	 *
+	 * @return the fingerprint, or null if it is not known or the structures have been
+	 * modified after the reader was created (for example by adding blob fragments)
+	 */
+	public String getFingerprint() {
+		return fingerprint;
+	}
+
+	private String computeFingerprint() {
+		MessageDigest digest;
+
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		}
+
+		StringBuilder text = new StringBuilder();
+
+		text.append(packageDotBaseName).append('|').append(header.getCoreVersion());
+		text.append('|').append(header.getSizeofBool()).append('|').append(header.getSizeofUDATA());
+		text.append('|').append(header.getBitfieldFormat()).append('\n');
+		for (StructureDescriptor structure : new TreeMap<>(structures).values()) {
+			text.append(structure.deflate()).append('|').append(structure.getSizeOf()).append('\n');
+			for (FieldDescriptor field : structure.getFields()) {
+				text.append(field.getName()).append('|').append(field.getDeclaredName());
+				text.append('|').append(field.getType()).append('|').append(field.getDeclaredType());
+				text.append('|').append(field.getOffset());
+				text.append('|').append(field.isOptional()).append('|').append(field.isPresent()).append('|').append(field.isRequired());
+				text.append('\n');
+			}
+			for (ConstantDescriptor constant : structure.getConstants()) {
+				text.append(constant.getName()).append('=').append(constant.getValue()).append('\n');
+			}
+			digest.update(text.toString().getBytes(StandardCharsets.UTF_8));
+			text.setLength(0);
+		}
+
+		StringBuilder result = new StringBuilder();
+
+		for (byte b : digest.digest()) {
+			result.append(String.format("%02x", b & 0xFF));
+		}
+
+		return result.toString();
+	}
+
 	/**
 	 * Sets the based on the DDRAlgorithmVersions field in the blob.
 	 */
@@ -239,6 +297,7 @@ public class StructureReader {
 	}
 
 	public void addCompatibilityConstants(InputStream inputStream) throws IOException {
+		fingerprint = null;
 		Map<String, Map<String, Long>> map = new HashMap<>();
 		String text = stripComments(loadUTF8(inputStream));
 
@@ -331,6 +390,7 @@ public class StructureReader {
 	}
 
 	public void loadAuxFieldInfo(InputStream stream) throws IOException {
+		fingerprint = null;
 		Map<String, Map<String, String>> fieldMap = new HashMap<>();
 		Pattern fieldPattern = Pattern.compile("(.+?)\\.(.+?)=(.+)$", Pattern.MULTILINE);
 		String text = stripComments(loadUTF8(stream));
@@ -593,6 +653,7 @@ public class StructureReader {
 	 * @throws IOException
 	 */
 	public void addStructures(ImageInputStream ddrStream) throws IOException {
+		fingerprint = null;
 		StructureHeader fragmentHeader = new StructureHeader(ddrStream);
 		checkBlobVersion();
 		if (header.getSizeofBool() != fragmentHeader.getSizeofBool()) {
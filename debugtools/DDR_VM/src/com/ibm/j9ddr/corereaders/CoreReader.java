@@ -36,8 +36,11 @@ import javax.imageio.stream.ImageInputStream;
 
 import com.ibm.j9ddr.corereaders.ICoreFileReader.DumpTestResult;
 import com.ibm.j9ddr.corereaders.aix.AIXDumpReaderFactory;
+import com.ibm.j9ddr.corereaders.elf.ELFDumpReader;
 import com.ibm.j9ddr.corereaders.elf.ELFDumpReaderFactory;
+import com.ibm.j9ddr.corereaders.elf.ELFFileReader;
 import com.ibm.j9ddr.corereaders.macho.MachoDumpReaderFactory;
+import com.ibm.j9ddr.corereaders.memory.BlockCompressedImageInputStream;
 import com.ibm.j9ddr.corereaders.minidump.MiniDumpReader;
 
 /**
@@ -95,6 +98,12 @@ public class CoreReader
 	public static ICore readCoreFile(String path)
 			throws IOException
 	{
+		File file = new File(path);
+
+		if (BlockCompressedImageInputStream.isBlockCompressed(file)) {
+			return readCompressedCoreFile(file);
+		}
+
 		DumpTestResult accruedResult = null;
 		IOException thrown = null;
 
@@ -142,6 +151,37 @@ public class CoreReader
 		}
 	}
 
+	/**
+	 * Create a ICore object for a block compressed core file, inflating
+	 * blocks only as they are read.
+	 * 
+	 * ELF cores are opened by file so that libraries can still be found
+	 * next to the core; other formats are read through the stream.
+	 */
+	private static ICore readCompressedCoreFile(File file) throws IOException
+	{
+		ImageInputStream in = new BlockCompressedImageInputStream(file);
+		boolean isELF;
+
+		try {
+			isELF = ELFFileReader.isELF(getFileHeader(in));
+		} catch (IOException e) {
+			in.close();
+			throw e;
+		}
+
+		if (isELF) {
+			in.close();
+			try {
+				return ELFDumpReader.getELFDumpReader(file);
+			} catch (InvalidDumpFormatException e) {
+				throw new IOException("Dump: " + file.getPath() + " is not a valid ELF core file", e);
+			}
+		}
+
+		return readCoreFile(in);
+	}
+
 	public static ICore readCoreFile(ImageInputStream in) throws IOException
 	{
 		DumpTestResult accruedResult = null;
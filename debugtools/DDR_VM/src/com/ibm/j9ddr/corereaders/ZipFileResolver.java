@@ -36,6 +36,8 @@ import java.util.zip.ZipFile;
 import javax.imageio.stream.ImageInputStream;
 import javax.imageio.stream.MemoryCacheImageInputStream;
 
+import com.ibm.dtfj.utils.file.LibraryStore;
+
 /**
  * Resolves entries in a zip file without extracting the file
  * 
@@ -86,16 +88,17 @@ public class ZipFileResolver implements ILibraryResolver {
 						entry = nextEntry;		//we found the name we were asked to resolve
 					}
 				}
-				if(entry == null) {
-					//didn't find the named entry whilst building the cache
-					throw new FileNotFoundException(fileName);
-				}
-			} else {
-				if(entryNames.contains(fileName)) {
-					entry = zip.getEntry(fileName);
-				} else {
+			} else if(entryNames.contains(fileName)) {
+				entry = zip.getEntry(fileName);
+			}
+			if(entry == null) {
+				//jextract omits libraries which are in its library store
+				File stored = LibraryStore.findLibrary(zip, fileName);
+				if(stored == null) {
 					throw new FileNotFoundException(fileName);
 				}
+				log.fine("Resolved library " + fileName + " in library store as " + stored.getAbsolutePath());
+				return new LibraryDataSource(stored);
 			}
 			MemoryCacheImageInputStream stream = new MemoryCacheImageInputStream(zip.getInputStream(entry));
 			log.fine("Resolved library " + fileName + " in zip file " + zipfile.getAbsolutePath());
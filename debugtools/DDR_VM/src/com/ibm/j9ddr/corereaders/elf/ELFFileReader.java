@@ -37,10 +37,10 @@ import java.util.Properties;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import javax.imageio.stream.FileImageInputStream;
 import javax.imageio.stream.ImageInputStream;
 
 import com.ibm.j9ddr.corereaders.InvalidDumpFormatException;
+import com.ibm.j9ddr.corereaders.memory.BlockCompressedImageInputStream;
 import com.ibm.j9ddr.corereaders.memory.IMemorySource;
 import com.ibm.j9ddr.corereaders.memory.ISymbol;
 import com.ibm.j9ddr.corereaders.memory.Symbol;
@@ -147,7 +147,7 @@ public abstract class ELFFileReader {
 	// Use openELFFile to get an ELFFile instance.
 	protected ELFFileReader(File file, ByteOrder byteOrder) throws IOException, InvalidDumpFormatException {
 		try {
-			is = new FileImageInputStream(file);
+			is = BlockCompressedImageInputStream.open(file);
 			is.setByteOrder(byteOrder);
 			this._file = file;
 			sourceName = file.getAbsolutePath();
@@ -227,7 +227,7 @@ public abstract class ELFFileReader {
 	// or Little Endian (Linux/IA).
 	public static ELFFileReader getELFFileReader(File file) throws IOException, InvalidDumpFormatException {
 		// Figure out which combination of bitness and architecture we are
-		try (ImageInputStream in = new FileImageInputStream(file)) {
+		try (ImageInputStream in = BlockCompressedImageInputStream.open(file)) {
 			if (!isFormatValid(in)) {
 				throw new InvalidDumpFormatException("File " + file.getAbsolutePath() + " is not an ELF file");
 			}
@@ -667,8 +667,7 @@ public abstract class ELFFileReader {
 		if (is != null) {
 			return is;
 		} else {
-			FileImageInputStream fis = new FileImageInputStream(_file);
-			return fis;
+			return BlockCompressedImageInputStream.open(_file);
 		}
 	}
 
@@ -0,0 +1,388 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.j9ddr.corereaders.memory;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import javax.imageio.stream.FileImageInputStream;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageInputStreamImpl;
+
+/**
+ * Seekable ImageInputStream over a block compressed core file.
+ * 
+ * The file is a sequence of gzip members, each holding one block of the
+ * original core, so it can still be expanded with gunzip. Every member header
+ * carries an extra field recording the length of the member and of the block
+ * it holds, which lets the block index be built on open without inflating
+ * anything. Reads only inflate the blocks they touch, and the most recently
+ * used blocks are kept in an LRU cache.
+ * 
+ * @see BlockCompressedOutputStream
+ */
+public class BlockCompressedImageInputStream extends ImageInputStreamImpl
+{
+	/**
+	 * System property giving the number of inflated blocks to keep in memory.
+	 */
+	public static final String CACHE_BLOCKS_PROPERTY = "com.ibm.j9ddr.corereaders.compressed.cacheBlocks";
+
+	private static final int DEFAULT_CACHE_BLOCKS = 64;
+
+	/* gzip member header: ID1 ID2 CM FLG MTIME(4) XFL OS XLEN(2), then our subfield */
+	static final int ID1 = 0x1F;
+	static final int ID2 = 0x8B;
+	static final int CM_DEFLATE = 8;
+	static final int FLG_FEXTRA = 4;
+	static final int OS_UNKNOWN = 255;
+	static final int XLEN = 12;
+
+	/* subfield: SI1 SI2 LEN(2) member length(4) block length(4) */
+	static final int SI1 = 'J';
+	static final int SI2 = 'B';
+	static final int SUBFIELD_LENGTH = 8;
+
+	static final int HEADER_LENGTH = 12 + XLEN;
+	static final int TRAILER_LENGTH = 8;
+
+	private static final class Block
+	{
+		final long compressedOffset;
+		final int compressedLength;
+		final long offset;
+		final int length;
+
+		Block(long compressedOffset, int compressedLength, long offset, int length)
+		{
+			this.compressedOffset = compressedOffset;
+			this.compressedLength = compressedLength;
+			this.offset = offset;
+			this.length = length;
+		}
+	}
+
+	private final RandomAccessFile file;
+
+	private final Block[] blocks;
+
+	private final long length;
+
+	private final Map<Integer, byte[]> cache;
+
+	private final Inflater inflater = new Inflater(true);
+
+	private final CRC32 crc = new CRC32();
+
+	private byte[] compressed = new byte[0];
+
+	/* the block last read from, checked before the cache lookup */
+	private int currentIndex = -1;
+
+	private byte[] currentData;
+
+	public BlockCompressedImageInputStream(File file) throws IOException
+	{
+		this(file, Integer.getInteger(CACHE_BLOCKS_PROPERTY, DEFAULT_CACHE_BLOCKS).intValue());
+	}
+
+	public BlockCompressedImageInputStream(File file, final int cacheBlocks) throws IOException
+	{
+		if (cacheBlocks < 1) {
+			throw new IllegalArgumentException("Cache must hold at least one block: " + cacheBlocks);
+		}
+		this.file = new RandomAccessFile(file, "r");
+		try {
+			List<Block> index = new ArrayList<Block>();
+			byte[] header = new byte[HEADER_LENGTH];
+			long fileLength = this.file.length();
+			long compressedOffset = 0;
+			long offset = 0;
+
+			while (compressedOffset < fileLength) {
+				this.file.seek(compressedOffset);
+				this.file.readFully(header);
+				if (!isBlockHeader(header)) {
+					throw new IOException(file.getPath() + " has an invalid block header at offset " + compressedOffset);
+				}
+				int compressedLength = getInt(header, 16);
+				int blockLength = getInt(header, 20);
+				if ((compressedLength < (HEADER_LENGTH + TRAILER_LENGTH)) || (blockLength < 0)
+						|| (compressedLength > (fileLength - compressedOffset))) {
+					throw new IOException(file.getPath() + " has an invalid block length at offset " + compressedOffset);
+				}
+				index.add(new Block(compressedOffset, compressedLength, offset, blockLength));
+				compressedOffset += compressedLength;
+				offset += blockLength;
+			}
+
+			this.blocks = index.toArray(new Block[index.size()]);
+			this.length = offset;
+		} catch (IOException e) {
+			// Don't leak the file handle if the index can't be built.
+			this.file.close();
+			throw e;
+		}
+
+		this.cache = new LinkedHashMap<Integer, byte[]>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, byte[]> eldest)
+			{
+				return size() > cacheBlocks;
+			}
+		};
+	}
+
+	/**
+	 * Opens a file for reading, decompressing it on demand if it is block compressed.
+	 * 
+	 * @param file the file to open
+	 * @return a BlockCompressedImageInputStream or a FileImageInputStream
+	 * @throws IOException
+	 */
+	public static ImageInputStream open(File file) throws IOException
+	{
+		if (isBlockCompressed(file)) {
+			return new BlockCompressedImageInputStream(file);
+		} else {
+			return new FileImageInputStream(file);
+		}
+	}
+
+	/**
+	 * Tests whether a file starts with a block compressed member.
+	 * 
+	 * @param file the file to test
+	 * @return true if the file is block compressed, false if it isn't or can't be read
+	 */
+	public static boolean isBlockCompressed(File file)
+	{
+		if (!file.isFile()) {
+			return false;
+		}
+
+		try (RandomAccessFile in = new RandomAccessFile(file, "r")) {
+			byte[] header = new byte[HEADER_LENGTH];
+			in.readFully(header);
+			return isBlockHeader(header);
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	private static boolean isBlockHeader(byte[] header)
+	{
+		return ((header[0] & 0xFF) == ID1)
+				&& ((header[1] & 0xFF) == ID2)
+				&& (header[2] == CM_DEFLATE)
+				&& ((header[3] & FLG_FEXTRA) != 0)
+				&& (getShort(header, 10) == XLEN)
+				&& (header[12] == SI1)
+				&& (header[13] == SI2)
+				&& (getShort(header, 14) == SUBFIELD_LENGTH);
+	}
+
+	/* gzip fields are little endian */
+	private static int getShort(byte[] data, int offset)
+	{
+		return (data[offset] & 0xFF) | ((data[offset + 1] & 0xFF) << 8);
+	}
+
+	private static int getInt(byte[] data, int offset)
+	{
+		return getShort(data, offset) | (getShort(data, offset + 2) << 16);
+	}
+
+	@Override
+	public long length()
+	{
+		return length;
+	}
+
+	@Override
+	public int read() throws IOException
+	{
+		checkClosed();
+		bitOffset = 0;
+
+		if (streamPos >= length) {
+			return -1;
+		}
+
+		int index = findBlock(streamPos);
+		byte[] data = getBlock(index);
+		int value = data[(int) (streamPos - blocks[index].offset)] & 0xFF;
+
+		streamPos++;
+
+		return value;
+	}
+
+	@Override
+	public int read(byte[] buffer, int offset, int len) throws IOException
+	{
+		checkClosed();
+		if ((offset < 0) || (len < 0) || (offset > (buffer.length - len))) {
+			throw new IndexOutOfBoundsException();
+		}
+		bitOffset = 0;
+
+		if (len == 0) {
+			return 0;
+		}
+		if (streamPos >= length) {
+			return -1;
+		}
+
+		int read = 0;
+
+		while ((len > 0) && (streamPos < length)) {
+			int index = findBlock(streamPos);
+			Block block = blocks[index];
+			byte[] data = getBlock(index);
+			int start = (int) (streamPos - block.offset);
+			int count = Math.min(len, block.length - start);
+
+			System.arraycopy(data, start, buffer, offset, count);
+			streamPos += count;
+			offset += count;
+			len -= count;
+			read += count;
+		}
+
+		return read;
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		super.close();
+		file.close();
+		inflater.end();
+		cache.clear();
+		currentData = null;
+	}
+
+	/* Find the block holding position, which must be less than length */
+	private int findBlock(long position)
+	{
+		if (currentIndex >= 0) {
+			Block current = blocks[currentIndex];
+			if ((position >= current.offset) && ((position - current.offset) < current.length)) {
+				return currentIndex;
+			}
+		}
+
+		int low = 0;
+		int high = blocks.length - 1;
+
+		while (low < high) {
+			int middle = (low + high + 1) >>> 1;
+
+			if (blocks[middle].offset <= position) {
+				low = middle;
+			} else {
+				high = middle - 1;
+			}
+		}
+
+		/* skip past any empty blocks starting at the same offset */
+		while ((position - blocks[low].offset) >= blocks[low].length) {
+			low++;
+		}
+
+		return low;
+	}
+
+	private byte[] getBlock(int index) throws IOException
+	{
+		if (index == currentIndex) {
+			return currentData;
+		}
+
+		Integer key = Integer.valueOf(index);
+		byte[] data = cache.get(key);
+
+		if (data == null) {
+			data = inflateBlock(blocks[index]);
+			cache.put(key, data);
+		}
+
+		currentIndex = index;
+		currentData = data;
+
+		return data;
+	}
+
+	private byte[] inflateBlock(Block block) throws IOException
+	{
+		int deflatedLength = block.compressedLength - HEADER_LENGTH - TRAILER_LENGTH;
+
+		if (compressed.length < (deflatedLength + TRAILER_LENGTH)) {
+			compressed = new byte[deflatedLength + TRAILER_LENGTH];
+		}
+
+		file.seek(block.compressedOffset + HEADER_LENGTH);
+		file.readFully(compressed, 0, deflatedLength + TRAILER_LENGTH);
+
+		byte[] data = new byte[block.length];
+		int inflated = 0;
+
+		inflater.reset();
+		inflater.setInput(compressed, 0, deflatedLength);
+		try {
+			while (inflated < data.length) {
+				int count = inflater.inflate(data, inflated, data.length - inflated);
+
+				if (count == 0) {
+					if (inflater.finished() || inflater.needsInput() || inflater.needsDictionary()) {
+						throw new EOFException("Block at offset " + block.compressedOffset + " is truncated");
+					}
+				}
+				inflated += count;
+			}
+		} catch (DataFormatException e) {
+			throw new IOException("Block at offset " + block.compressedOffset + " is corrupt: " + e.getMessage(), e);
+		}
+
+		crc.reset();
+		crc.update(data, 0, data.length);
+		if (((int) crc.getValue() != getInt(compressed, deflatedLength))
+				|| (data.length != getInt(compressed, deflatedLength + 4))) {
+			throw new IOException("Block at offset " + block.compressedOffset + " fails its CRC check");
+		}
+
+		return data;
+	}
+
+}
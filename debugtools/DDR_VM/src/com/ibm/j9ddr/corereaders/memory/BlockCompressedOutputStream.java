@@ -0,0 +1,199 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.j9ddr.corereaders.memory;
+
+import static com.ibm.j9ddr.corereaders.memory.BlockCompressedImageInputStream.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Writes a core file in the block compressed format read by
+ * {@link BlockCompressedImageInputStream}: one gzip member per block, each
+ * with an extra field recording the member and block lengths.
+ */
+public class BlockCompressedOutputStream extends OutputStream
+{
+	public static final int DEFAULT_BLOCK_SIZE = 1024 * 1024;
+
+	/* keeps every member length within the int recorded in its header */
+	public static final int MAX_BLOCK_SIZE = 64 * 1024 * 1024;
+
+	private final OutputStream out;
+
+	private final byte[] block;
+
+	private int count;
+
+	private final Deflater deflater;
+
+	private final CRC32 crc = new CRC32();
+
+	private final byte[] header = new byte[HEADER_LENGTH];
+
+	private final byte[] trailer = new byte[TRAILER_LENGTH];
+
+	private byte[] compressed;
+
+	private boolean closed;
+
+	public BlockCompressedOutputStream(OutputStream out)
+	{
+		this(out, DEFAULT_BLOCK_SIZE, Deflater.DEFAULT_COMPRESSION);
+	}
+
+	public BlockCompressedOutputStream(OutputStream out, int blockSize, int level)
+	{
+		if ((blockSize <= 0) || (blockSize > MAX_BLOCK_SIZE)) {
+			throw new IllegalArgumentException("Invalid block size: " + blockSize);
+		}
+		this.out = out;
+		this.block = new byte[blockSize];
+		this.compressed = new byte[Math.max(blockSize / 2, 1024)];
+		this.deflater = new Deflater(level, true);
+	}
+
+	@Override
+	public void write(int b) throws IOException
+	{
+		ensureOpen();
+		block[count++] = (byte) b;
+		if (count == block.length) {
+			writeBlock();
+		}
+	}
+
+	@Override
+	public void write(byte[] buffer, int offset, int length) throws IOException
+	{
+		ensureOpen();
+		if ((offset < 0) || (length < 0) || (offset > (buffer.length - length))) {
+			throw new IndexOutOfBoundsException();
+		}
+
+		while (length > 0) {
+			int copy = Math.min(length, block.length - count);
+
+			System.arraycopy(buffer, offset, block, count, copy);
+			count += copy;
+			offset += copy;
+			length -= copy;
+			if (count == block.length) {
+				writeBlock();
+			}
+		}
+	}
+
+	/**
+	 * Writes any buffered data as a (short) block and flushes the underlying stream.
+	 */
+	@Override
+	public void flush() throws IOException
+	{
+		ensureOpen();
+		if (count > 0) {
+			writeBlock();
+		}
+		out.flush();
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		if (!closed) {
+			try {
+				if (count > 0) {
+					writeBlock();
+				}
+			} finally {
+				closed = true;
+				deflater.end();
+				out.close();
+			}
+		}
+	}
+
+	private void ensureOpen() throws IOException
+	{
+		if (closed) {
+			throw new IOException("Stream closed");
+		}
+	}
+
+	private void writeBlock() throws IOException
+	{
+		int deflated = 0;
+
+		deflater.reset();
+		deflater.setInput(block, 0, count);
+		deflater.finish();
+		while (!deflater.finished()) {
+			if (deflated == compressed.length) {
+				byte[] larger = new byte[compressed.length * 2];
+
+				System.arraycopy(compressed, 0, larger, 0, deflated);
+				compressed = larger;
+			}
+			deflated += deflater.deflate(compressed, deflated, compressed.length - deflated);
+		}
+
+		crc.reset();
+		crc.update(block, 0, count);
+
+		header[0] = (byte) ID1;
+		header[1] = (byte) ID2;
+		header[2] = CM_DEFLATE;
+		header[3] = FLG_FEXTRA;
+		/* MTIME and XFL are left zero */
+		header[9] = (byte) OS_UNKNOWN;
+		putShort(header, 10, XLEN);
+		header[12] = SI1;
+		header[13] = SI2;
+		putShort(header, 14, SUBFIELD_LENGTH);
+		putInt(header, 16, HEADER_LENGTH + deflated + TRAILER_LENGTH);
+		putInt(header, 20, count);
+
+		putInt(trailer, 0, (int) crc.getValue());
+		putInt(trailer, 4, count);
+
+		out.write(header);
+		out.write(compressed, 0, deflated);
+		out.write(trailer);
+		count = 0;
+	}
+
+	/* gzip fields are little endian */
+	private static void putShort(byte[] data, int offset, int value)
+	{
+		data[offset] = (byte) value;
+		data[offset + 1] = (byte) (value >>> 8);
+	}
+
+	private static void putInt(byte[] data, int offset, int value)
+	{
+		putShort(data, offset, value);
+		putShort(data, offset + 2, value >>> 16);
+	}
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.j9ddr.tools;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+
+import com.ibm.j9ddr.corereaders.memory.BlockCompressedOutputStream;
+
+/**
+ * Compresses a core file into the block compressed format, which DDR can
+ * read in place without decompressing the whole file first.
+ * 
+ * Usage: CompressCoreFile [-b blockSizeKB] [-l level] core [output]
+ * 
+ * The output defaults to the core file name with .gz appended, and can be
+ * expanded with gunzip. DTFJ recognises the format by its contents rather
+ * than the .gz suffix, so jdmpview opens the output without extracting it.
+ */
+public class CompressCoreFile {
+
+	public static void main(String[] args) {
+		int blockSize = BlockCompressedOutputStream.DEFAULT_BLOCK_SIZE;
+		int level = Deflater.DEFAULT_COMPRESSION;
+		String coreName = null;
+		String outputName = null;
+
+		try {
+			for (int i = 0; i < args.length; i++) {
+				String arg = args[i];
+				if (arg.equals("-b") && (i + 1 < args.length)) {
+					blockSize = Integer.parseInt(args[++i]) * 1024;
+				} else if (arg.equals("-l") && (i + 1 < args.length)) {
+					level = Integer.parseInt(args[++i]);
+				} else if (coreName == null) {
+					coreName = arg;
+				} else if (outputName == null) {
+					outputName = arg;
+				} else {
+					usage();
+					return;
+				}
+			}
+		} catch (NumberFormatException e) {
+			usage();
+			return;
+		}
+
+		if (coreName == null) {
+			usage();
+			return;
+		}
+		if (outputName == null) {
+			outputName = coreName + ".gz";
+		}
+
+		File core = new File(coreName);
+		File output = new File(outputName);
+
+		try (InputStream in = new BufferedInputStream(new FileInputStream(core));
+			 OutputStream out = new BlockCompressedOutputStream(new FileOutputStream(output), blockSize, level)) {
+			byte[] buffer = new byte[64 * 1024];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				out.write(buffer, 0, read);
+			}
+		} catch (IOException | IllegalArgumentException e) {
+			System.err.println("Failed to compress " + core.getAbsolutePath() + ": " + e.getMessage());
+			return;
+		}
+
+		System.out.println("Compressed " + core.getAbsolutePath() + " (" + core.length() + " bytes) to "
+				+ output.getAbsolutePath() + " (" + output.length() + " bytes)");
+	}
+
+	private static void usage() {
+		System.err.println("Usage: CompressCoreFile [-b blockSizeKB] [-l level] core [output]");
+	}
+
+}
@@ -58,6 +58,7 @@ import com.ibm.j9ddr.vm29.tools.ddrinteractive.commands.DumpRomMethodCommand;
 import com.ibm.j9ddr.vm29.tools.ddrinteractive.commands.DumpSegmentsInListCommand;
 import com.ibm.j9ddr.vm29.tools.ddrinteractive.commands.DumpSegregatedStatsCommand;
 import com.ibm.j9ddr.vm29.tools.ddrinteractive.commands.DumpStringTableCommand;
+import com.ibm.j9ddr.vm29.tools.ddrinteractive.commands.DuplicateStringsCommand;
 import com.ibm.j9ddr.vm29.tools.ddrinteractive.commands.ExtendedMethodFlagInfoCommand;
 import com.ibm.j9ddr.vm29.tools.ddrinteractive.commands.FindAllModulesCommand;
 import com.ibm.j9ddr.vm29.tools.ddrinteractive.commands.FindAllReadsCommand;
@@ -179,6 +180,7 @@ public class GetCommandsTask extends BaseJVMCommands implements IBootstrapRunnab
 		toPassBack.add(new GCCheckCommand());
 		toPassBack.add(new DumpStringTableCommand());
 		toPassBack.add(new SearchStringTableCommand());
+		toPassBack.add(new DuplicateStringsCommand());
 		toPassBack.add(new RomClassForNameCommand());
 		toPassBack.add(new RuntimeSettingsCommand());
 		toPassBack.add(new RootPathCommand());
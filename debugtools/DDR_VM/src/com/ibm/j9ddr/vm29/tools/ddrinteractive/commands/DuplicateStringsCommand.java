@@ -0,0 +1,574 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.j9ddr.vm29.tools.ddrinteractive.commands;
+
+import java.io.PrintStream;
+import java.nio.ByteOrder;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.ibm.j9ddr.CorruptDataException;
+import com.ibm.j9ddr.corereaders.memory.MemoryFault;
+import com.ibm.j9ddr.tools.ddrinteractive.Command;
+import com.ibm.j9ddr.tools.ddrinteractive.CommandUtils;
+import com.ibm.j9ddr.tools.ddrinteractive.Context;
+import com.ibm.j9ddr.tools.ddrinteractive.DDRInteractiveCommandException;
+import com.ibm.j9ddr.tools.ddrinteractive.Table;
+import com.ibm.j9ddr.vm29.j9.AlgorithmVersion;
+import com.ibm.j9ddr.vm29.j9.DataType;
+import com.ibm.j9ddr.vm29.j9.J9ObjectFieldOffset;
+import com.ibm.j9ddr.vm29.j9.ObjectModel;
+import com.ibm.j9ddr.vm29.j9.gc.GCHeapRegionDescriptor;
+import com.ibm.j9ddr.vm29.j9.gc.GCHeapRegionIterator;
+import com.ibm.j9ddr.vm29.j9.gc.GCObjectHeapIterator;
+import com.ibm.j9ddr.vm29.j9.gc.GCStringTableIterator;
+import com.ibm.j9ddr.vm29.pointer.U8Pointer;
+import com.ibm.j9ddr.vm29.pointer.generated.J9ClassPointer;
+import com.ibm.j9ddr.vm29.pointer.generated.J9IndexableObjectPointer;
+import com.ibm.j9ddr.vm29.pointer.generated.J9ObjectPointer;
+import com.ibm.j9ddr.vm29.pointer.helper.J9ClassHelper;
+import com.ibm.j9ddr.vm29.pointer.helper.J9IndexableObjectHelper;
+import com.ibm.j9ddr.vm29.pointer.helper.J9ObjectHelper;
+
+/**
+ * Finds java/lang/String values that are held by more than one String object
+ * and reports the bytes that could be saved by sharing a single copy.
+ * 
+ * String contents are compared as the SHA-256 digest of the raw Latin-1 or
+ * UTF-16 bytes of their value arrays, which are read from the core in large
+ * pieces into a reused buffer rather than decoded a character at a time.
+ * Only the digest and an example String address are kept for each distinct
+ * value, so the memory used does not grow with the String data in the heap;
+ * the values shown in the report are read from the core again. Reading the
+ * core is not thread safe and is most of the work, so the scan runs on the
+ * calling thread. Strings that can't be read are skipped and counted, so a
+ * corrupt object or string table entry does not end the scan.
+ */
+public class DuplicateStringsCommand extends Command
+{
+	private static final String nl = System.getProperty("line.separator");
+
+	private static final int DEFAULT_LIMIT = 20;
+
+	private static final int VALUE_DISPLAY_LIMIT = 60;
+
+	private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+	private boolean stringTableOnly;
+
+	private int limit;
+
+	/* per run state describing the layout of java/lang/String, set from the first String seen */
+	private J9ClassPointer stringClass;
+
+	private final Map<Long, Boolean> isStringClass = new HashMap<Long, Boolean>();
+
+	private J9ObjectFieldOffset valueOffset;
+
+	private J9ObjectFieldOffset coderOffset;
+
+	private J9ObjectFieldOffset countOffset;
+
+	private boolean compressionEnabled;
+
+	private long skipped;
+
+	private MessageDigest digest;
+
+	private final byte[] readBuffer = new byte[READ_BUFFER_SIZE];
+
+	public DuplicateStringsCommand()
+	{
+		addCommand("duplicatestrings", "[-stringtable] [-limit <n>]", "Report String values held by more than one String object");
+	}
+
+	private void printHelp(PrintStream out)
+	{
+		CommandUtils.dbgPrint(out, "!duplicatestrings [-stringtable] [-limit <n>]\n"
+				+ "Reports String values held by more than one String object, ordered by the bytes wasted on the extra copies.\n"
+				+ "-stringtable: scan the string table instead of the whole heap\n"
+				+ "-limit <n>: number of values to report (default: " + DEFAULT_LIMIT + ", 0 for all)\n");
+	}
+
+	private boolean parseArgs(PrintStream out, String[] args)
+	{
+		stringTableOnly = false;
+		limit = DEFAULT_LIMIT;
+
+		for (int i = 0; i < args.length; i++) {
+			String arg = args[i];
+			try {
+				if (arg.equals("help")) {
+					printHelp(out);
+					return false;
+				} else if (arg.equals("-stringtable")) {
+					stringTableOnly = true;
+				} else if (arg.equals("-limit") && (i + 1 < args.length)) {
+					limit = Integer.parseInt(args[++i]);
+				} else {
+					out.append("Invalid argument: " + arg + nl);
+					printHelp(out);
+					return false;
+				}
+			} catch (NumberFormatException e) {
+				out.append("Invalid number: " + args[i] + nl);
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public void run(String command, String[] args, Context context, PrintStream out) throws DDRInteractiveCommandException
+	{
+		if (!parseArgs(out, args)) {
+			return;
+		}
+
+		stringClass = null;
+		isStringClass.clear();
+		skipped = 0;
+
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new DDRInteractiveCommandException(e);
+		}
+
+		Map<StringKey, DuplicateGroup> groups = new HashMap<StringKey, DuplicateGroup>();
+		long strings = 0;
+
+		try {
+			if (stringTableOnly) {
+				strings = scanStringTable(groups);
+			} else {
+				strings = scanHeap(groups);
+			}
+		} catch (CorruptDataException e) {
+			throw new DDRInteractiveCommandException(e);
+		}
+
+		report(out, strings, groups, DataType.getProcess().getByteOrder());
+	}
+
+	private long scanStringTable(Map<StringKey, DuplicateGroup> groups) throws CorruptDataException
+	{
+		long strings = 0;
+		GCStringTableIterator it = GCStringTableIterator.from();
+
+		while (it.hasNext()) {
+			J9ObjectPointer object = it.next();
+			try {
+				if (object.notNull() && isString(object) && addString(object, groups)) {
+					strings++;
+				}
+			} catch (CorruptDataException e) {
+				// skip entries that can't be read
+				skipped++;
+			}
+		}
+		return strings;
+	}
+
+	private long scanHeap(Map<StringKey, DuplicateGroup> groups) throws CorruptDataException
+	{
+		long strings = 0;
+		GCHeapRegionIterator regions = GCHeapRegionIterator.from();
+
+		while (regions.hasNext()) {
+			GCHeapRegionDescriptor region = regions.next();
+			GCObjectHeapIterator heapIterator = GCObjectHeapIterator.fromHeapRegionDescriptor(region, true, false);
+
+			while (heapIterator.hasNext()) {
+				J9ObjectPointer object = heapIterator.next();
+				try {
+					if (isString(object) && addString(object, groups)) {
+						strings++;
+					}
+				} catch (CorruptDataException e) {
+					// skip objects that can't be read
+					skipped++;
+				}
+			}
+		}
+		return strings;
+	}
+
+	private boolean isString(J9ObjectPointer object) throws CorruptDataException
+	{
+		J9ClassPointer clazz = J9ObjectHelper.clazz(object);
+
+		if (clazz.isNull()) {
+			return false;
+		}
+		if (stringClass != null) {
+			return clazz.getAddress() == stringClass.getAddress();
+		}
+
+		/* until a String has been seen, check the name of each class once */
+		Long key = Long.valueOf(clazz.getAddress());
+		Boolean result = isStringClass.get(key);
+		if (result == null) {
+			result = Boolean.valueOf(J9ClassHelper.getName(clazz).equals("java/lang/String"));
+			isStringClass.put(key, result);
+			if (result.booleanValue()) {
+				initStringLayout(object, clazz);
+			}
+		}
+		return result.booleanValue();
+	}
+
+	private void initStringLayout(J9ObjectPointer string, J9ClassPointer clazz) throws CorruptDataException
+	{
+		coderOffset = null;
+		countOffset = null;
+		compressionEnabled = false;
+		try {
+			valueOffset = J9ObjectHelper.getFieldOffset(string, "value", "[B");
+			coderOffset = J9ObjectHelper.getFieldOffset(string, "coder", "B");
+		} catch (NoSuchElementException e) {
+			valueOffset = J9ObjectHelper.getFieldOffset(string, "value", "[C");
+			countOffset = J9ObjectHelper.getFieldOffset(string, "count", "I");
+
+			String enableCompressionFieldName;
+			if (AlgorithmVersion.getVersionOf(AlgorithmVersion.JAVA_LANG_STRING_VERSION).getAlgorithmVersion() >= 1) {
+				enableCompressionFieldName = "COMPACT_STRINGS";
+			} else {
+				enableCompressionFieldName = "enableCompression";
+			}
+			compressionEnabled = J9ObjectHelper.getBooleanField(string, J9ObjectHelper.getFieldOffset(string, enableCompressionFieldName, "Z"));
+		}
+		stringClass = clazz;
+	}
+
+	/**
+	 * Reads where the content of a String is held.
+	 * 
+	 * @return the value, or null for a String without a value array
+	 */
+	private StringValue readValue(J9ObjectPointer string) throws CorruptDataException
+	{
+		J9ObjectPointer valueObject = J9ObjectHelper.getObjectField(string, valueOffset);
+
+		if (valueObject.isNull()) {
+			return null;
+		}
+
+		J9IndexableObjectPointer valueArray = J9IndexableObjectPointer.cast(valueObject);
+		int length;
+		boolean latin1;
+
+		if (coderOffset != null) {
+			latin1 = J9ObjectHelper.getByteField(string, coderOffset) == 0;
+			length = (int) J9IndexableObjectHelper.size(valueArray).longValue();
+		} else {
+			int count = J9ObjectHelper.getIntField(string, countOffset);
+			if (compressionEnabled && (count >= 0)) {
+				latin1 = true;
+				length = count;
+			} else {
+				latin1 = false;
+				length = (count & 0x7FFFFFFF) * 2;
+			}
+		}
+
+		return new StringValue(valueObject, valueArray, latin1, length);
+	}
+
+	/**
+	 * Adds a String to the group for its value.
+	 * 
+	 * @return true if the String was added, false for a String without a value array
+	 */
+	private boolean addString(J9ObjectPointer string, Map<StringKey, DuplicateGroup> groups) throws CorruptDataException
+	{
+		StringValue value = readValue(string);
+
+		if (value == null) {
+			return false;
+		}
+
+		StringKey key = new StringKey(value.latin1, value.length, digest(value.array, value.length));
+		DuplicateGroup group = groups.get(key);
+
+		if (group == null) {
+			long size = ObjectModel.getConsumedSizeInBytesWithHeader(string).longValue();
+			long arraySize = ObjectModel.getConsumedSizeInBytesWithHeader(value.object).longValue();
+
+			group = new DuplicateGroup(size, arraySize, value.array.getAddress());
+			groups.put(key, group);
+		}
+		group.add(string.getAddress(), value.array.getAddress());
+		return true;
+	}
+
+	/* Digest the first length bytes of an array's data, read in large pieces when the data is contiguous */
+	private byte[] digest(J9IndexableObjectPointer array, int length) throws CorruptDataException
+	{
+		try {
+			if (length > 0) {
+				long first = ObjectModel.getElementAddress(array, 0, 1).getAddress();
+				long last = ObjectModel.getElementAddress(array, length - 1, 1).getAddress();
+				boolean contiguous = (last - first) == (length - 1);
+
+				for (int offset = 0; offset < length; offset += readBuffer.length) {
+					int count = Math.min(readBuffer.length, length - offset);
+					if (contiguous) {
+						DataType.getProcess().getBytesAt(first + offset, readBuffer, 0, count);
+					} else {
+						/* discontiguous arraylet */
+						for (int i = 0; i < count; i++) {
+							readBuffer[i] = U8Pointer.cast(ObjectModel.getElementAddress(array, offset + i, 1)).at(0).byteValue();
+						}
+					}
+					digest.update(readBuffer, 0, count);
+				}
+			}
+			return digest.digest();
+		} catch (CorruptDataException e) {
+			/* don't let the bytes already read leak into the digest of the next String */
+			digest.reset();
+			throw e;
+		}
+	}
+
+	/* Read the first length bytes of an array's data, in one read when the data is contiguous */
+	private static byte[] readBytes(J9IndexableObjectPointer array, int length) throws CorruptDataException
+	{
+		byte[] bytes = new byte[length];
+
+		if (length == 0) {
+			return bytes;
+		}
+
+		long first = ObjectModel.getElementAddress(array, 0, 1).getAddress();
+		long last = ObjectModel.getElementAddress(array, length - 1, 1).getAddress();
+
+		if ((last - first) == (length - 1)) {
+			try {
+				DataType.getProcess().getBytesAt(first, bytes);
+			} catch (MemoryFault e) {
+				throw new CorruptDataException(e);
+			}
+		} else {
+			/* discontiguous arraylet */
+			for (int i = 0; i < length; i++) {
+				bytes[i] = U8Pointer.cast(ObjectModel.getElementAddress(array, i, 1)).at(0).byteValue();
+			}
+		}
+		return bytes;
+	}
+
+	/* Read the start of the value of a String again, decoded for display, truncated and with control characters escaped */
+	private String toDisplayString(long address, ByteOrder byteOrder)
+	{
+		try {
+			StringValue value = readValue(J9ObjectPointer.cast(address));
+			int length = value.latin1 ? value.length : (value.length / 2);
+			int shown = Math.min(length, VALUE_DISPLAY_LIMIT);
+			byte[] bytes = readBytes(value.array, value.latin1 ? shown : (shown * 2));
+			StringBuilder builder = new StringBuilder();
+
+			for (int i = 0; i < shown; i++) {
+				char ch;
+				if (value.latin1) {
+					ch = (char) (bytes[i] & 0xFF);
+				} else if (byteOrder == ByteOrder.BIG_ENDIAN) {
+					ch = (char) (((bytes[2 * i] & 0xFF) << 8) | (bytes[(2 * i) + 1] & 0xFF));
+				} else {
+					ch = (char) ((bytes[2 * i] & 0xFF) | ((bytes[(2 * i) + 1] & 0xFF) << 8));
+				}
+				if (Character.isISOControl(ch)) {
+					builder.append(String.format("\\u%04x", Integer.valueOf(ch)));
+				} else {
+					builder.append(ch);
+				}
+			}
+			if (length > VALUE_DISPLAY_LIMIT) {
+				builder.append("...");
+			}
+			return "<" + builder.toString() + ">";
+		} catch (CorruptDataException e) {
+			return "<unreadable>";
+		}
+	}
+
+	private void report(PrintStream out, long strings, Map<StringKey, DuplicateGroup> groups, ByteOrder byteOrder)
+	{
+		List<DuplicateGroup> duplicates = new ArrayList<DuplicateGroup>();
+		long duplicateStrings = 0;
+		long wastedBytes = 0;
+
+		for (DuplicateGroup group : groups.values()) {
+			if (group.strings > 1) {
+				duplicates.add(group);
+				duplicateStrings += group.strings;
+				wastedBytes += group.getWastedBytes();
+			}
+		}
+
+		Collections.sort(duplicates, new Comparator<DuplicateGroup>() {
+			public int compare(DuplicateGroup o1, DuplicateGroup o2)
+			{
+				long wasted1 = o1.getWastedBytes();
+				long wasted2 = o2.getWastedBytes();
+				if (wasted1 != wasted2) {
+					return (wasted1 > wasted2) ? -1 : 1;
+				}
+				return Long.compareUnsigned(o1.firstString, o2.firstString);
+			}
+		});
+
+		Table table = new Table("Duplicate strings");
+		table.row("Wasted bytes", "Instances", "Arrays", "Example", "Value");
+
+		int rows = ((limit <= 0) || (limit > duplicates.size())) ? duplicates.size() : limit;
+		for (DuplicateGroup group : duplicates.subList(0, rows)) {
+			table.row(Long.toString(group.getWastedBytes()),
+					Long.toString(group.strings),
+					Integer.toString(group.getArrayCount()),
+					"!j9object 0x" + Long.toHexString(group.firstString),
+					toDisplayString(group.firstString, byteOrder));
+		}
+		table.render(out);
+
+		out.append("Strings scanned = " + strings + ", distinct values = " + groups.size() + nl);
+		if (skipped != 0) {
+			out.append("Unreadable objects skipped = " + skipped + nl);
+		}
+		out.append("Duplicated values = " + duplicates.size() + ", held by " + duplicateStrings
+				+ " strings, wasting " + wastedBytes + " bytes" + nl);
+	}
+
+	/**
+	 * Where the content of one String is held in the core.
+	 */
+	private static final class StringValue
+	{
+		final J9ObjectPointer object;
+		final J9IndexableObjectPointer array;
+		final boolean latin1;
+		final int length;
+
+		StringValue(J9ObjectPointer object, J9IndexableObjectPointer array, boolean latin1, int length)
+		{
+			this.object = object;
+			this.array = array;
+			this.latin1 = latin1;
+			this.length = length;
+		}
+	}
+
+	/**
+	 * A String value identified by its coder, its length in bytes and the digest of its bytes.
+	 */
+	private static final class StringKey
+	{
+		final boolean latin1;
+		final int length;
+		final byte[] digest;
+		final int hash;
+
+		StringKey(boolean latin1, int length, byte[] digest)
+		{
+			this.latin1 = latin1;
+			this.length = length;
+			this.digest = digest;
+			this.hash = Arrays.hashCode(digest) ^ length ^ (latin1 ? 0 : 0x5bd1e995);
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object other)
+		{
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof StringKey)) {
+				return false;
+			}
+			StringKey key = (StringKey) other;
+			return (hash == key.hash) && (latin1 == key.latin1) && (length == key.length) && Arrays.equals(digest, key.digest);
+		}
+	}
+
+	/**
+	 * The Strings found holding one value.
+	 */
+	private static final class DuplicateGroup
+	{
+		final long size;
+		final long arraySize;
+		final long firstArray;
+		/* further distinct value arrays, only allocated for values held by more than one array */
+		Set<Long> otherArrays;
+		long strings;
+		long firstString = -1;
+
+		DuplicateGroup(long size, long arraySize, long firstArray)
+		{
+			this.size = size;
+			this.arraySize = arraySize;
+			this.firstArray = firstArray;
+		}
+
+		void add(long address, long arrayAddress)
+		{
+			strings++;
+			if (arrayAddress != firstArray) {
+				if (otherArrays == null) {
+					otherArrays = new HashSet<Long>();
+				}
+				otherArrays.add(Long.valueOf(arrayAddress));
+			}
+			if (Long.compareUnsigned(address, firstString) < 0) {
+				firstString = address;
+			}
+		}
+
+		/* every String and value array beyond the first could be shared; arrays already shared aren't counted */
+		long getWastedBytes()
+		{
+			return ((strings - 1) * size) + ((getArrayCount() - 1) * arraySize);
+		}
+
+		int getArrayCount()
+		{
+			return (otherArrays == null) ? 1 : (1 + otherArrays.size());
+		}
+	}
+
+}
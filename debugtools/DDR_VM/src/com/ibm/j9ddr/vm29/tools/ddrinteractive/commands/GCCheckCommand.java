@@ -37,7 +37,7 @@ public class GCCheckCommand extends Command
 {
 	public GCCheckCommand()
 	{
-		addCommand("gccheck", "[parameters]", "run the GC Check tool");
+		addCommand("gccheck", "[parameters] [-regions start[-end]] [-checkpoint file]", "run the GC Check tool");
 	}
 
 	public void run(String command, String[] args, Context context, PrintStream out) throws DDRInteractiveCommandException
@@ -0,0 +1,301 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.j9ddr.vm29.tools.ddrinteractive.commands;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Aggregated footprint of a shared class cache, accumulated while walking the
+ * cache metadata once and printed as CSV or JSON by <code>!shrc footprint</code>.
+ */
+class SharedCacheFootprint
+{
+	static final String HOTNESS_HINTED = "jithint";
+	static final String HOTNESS_PROFILED = "jitprofile";
+	static final String HOTNESS_NONE = "none";
+
+	/**
+	 * Count and bytes of the live and stale entries in one group.
+	 */
+	static final class Usage {
+		long count;
+		long bytes;
+		long staleCount;
+		long staleBytes;
+
+		void add(long size, boolean isStale) {
+			if (isStale) {
+				staleCount += 1;
+				staleBytes += size;
+			} else {
+				count += 1;
+				bytes += size;
+			}
+		}
+	}
+
+	/**
+	 * Space accounting for one cache layer.
+	 */
+	static final class Layer {
+		final int layer;
+		long totalBytes;
+		long usedBytes;
+		long softmxBytes;
+		long freeAvailableBytes;
+		long unusedBytes;
+		long debugUnusedBytes;
+		long romClassBytes;
+		long aotBytes;
+		long jitBytes;
+
+		Layer(int layer) {
+			this.layer = layer;
+		}
+	}
+
+	private final Map<String, Usage> packages = new TreeMap<>();
+	private final Map<String, Usage> classpaths = new TreeMap<>();
+	private final Map<String, Usage> types = new TreeMap<>();
+	/* whether each ROM class seen so far is stale */
+	private final Map<Long, Boolean> romClasses = new HashMap<>();
+	/* AOT bytes of each ROM method: { live bytes, stale bytes, live count, stale count } */
+	private final Map<Long, long[]> aotMethods = new HashMap<>();
+	private final Set<Long> hintedMethods = new HashSet<>();
+	private final Set<Long> profiledMethods = new HashSet<>();
+	private final List<Layer> layers = new ArrayList<>();
+
+	private static Usage usage(Map<String, Usage> map, String key) {
+		Usage usage = map.get(key);
+		if (null == usage) {
+			usage = new Usage();
+			map.put(key, usage);
+		}
+		return usage;
+	}
+
+	/**
+	 * Record a cache item by type, including its metadata.
+	 */
+	void addItem(String type, long size, boolean isStale) {
+		usage(types, type).add(size, isStale);
+	}
+
+	/**
+	 * Record a metadata entry referring to a ROM class. Each ROM class is counted
+	 * once per package even if several entries refer to it. The staleness of every
+	 * entry is taken into account: the ROM class is live if any entry referring to
+	 * it is live, and stale only if all of them are.
+	 */
+	void addROMClass(long address, String className, long romSize, boolean isStale) {
+		Long key = Long.valueOf(address);
+		Boolean wasStale = romClasses.get(key);
+		if ((null != wasStale) && (isStale || !wasStale.booleanValue())) {
+			return;
+		}
+		romClasses.put(key, Boolean.valueOf(isStale));
+		int lastSlash = className.lastIndexOf('/');
+		String packageName = (lastSlash < 0) ? "" : className.substring(0, lastSlash).replace('/', '.');
+		Usage usage = usage(packages, packageName);
+		if (null != wasStale) {
+			/* a live entry for a ROM class counted as stale so far */
+			usage.staleCount -= 1;
+			usage.staleBytes -= romSize;
+		}
+		usage.add(romSize, isStale);
+	}
+
+	/**
+	 * Record a ROM class loaded from the given class path entry.
+	 */
+	void addClasspathROMClass(String classpathEntry, long romSize, boolean isStale) {
+		usage(classpaths, classpathEntry).add(romSize, isStale);
+	}
+
+	void addAOTMethod(long romMethod, long size, boolean isStale) {
+		long[] entry = aotMethods.get(Long.valueOf(romMethod));
+		if (null == entry) {
+			entry = new long[4];
+			aotMethods.put(Long.valueOf(romMethod), entry);
+		}
+		int index = isStale ? 1 : 0;
+		entry[index] += size;
+		entry[index + 2] += 1;
+	}
+
+	void addAttachedData(long romMethod, boolean jitHint) {
+		if (jitHint) {
+			hintedMethods.add(Long.valueOf(romMethod));
+		} else {
+			profiledMethods.add(Long.valueOf(romMethod));
+		}
+	}
+
+	void addLayer(Layer layer) {
+		layers.add(layer);
+	}
+
+	/**
+	 * Group the AOT code by the hotness the JIT recorded for each method: methods with
+	 * a JIT hint, methods with only a JIT profile, and methods with neither.
+	 */
+	private Map<String, Usage> aotByHotness() {
+		Map<String, Usage> hotness = new TreeMap<>();
+		usage(hotness, HOTNESS_HINTED);
+		usage(hotness, HOTNESS_PROFILED);
+		usage(hotness, HOTNESS_NONE);
+		for (Map.Entry<Long, long[]> method : aotMethods.entrySet()) {
+			Long romMethod = method.getKey();
+			long[] entry = method.getValue();
+			String key;
+			if (hintedMethods.contains(romMethod)) {
+				key = HOTNESS_HINTED;
+			} else if (profiledMethods.contains(romMethod)) {
+				key = HOTNESS_PROFILED;
+			} else {
+				key = HOTNESS_NONE;
+			}
+			Usage usage = hotness.get(key);
+			usage.count += entry[2];
+			usage.bytes += entry[0];
+			usage.staleCount += entry[3];
+			usage.staleBytes += entry[1];
+		}
+		return hotness;
+	}
+
+	void printCSV(PrintStream out) {
+		out.println("section,key,count,bytes,staleCount,staleBytes");
+		printCSVSection(out, "type", types);
+		printCSVSection(out, "package", packages);
+		printCSVSection(out, "classpath", classpaths);
+		printCSVSection(out, "aot", aotByHotness());
+		for (Layer layer : layers) {
+			String section = "layer" + layer.layer;
+			printCSVRow(out, section, "totalBytes", layer.totalBytes);
+			printCSVRow(out, section, "usedBytes", layer.usedBytes);
+			printCSVRow(out, section, "softmxBytes", layer.softmxBytes);
+			printCSVRow(out, section, "freeAvailableBytes", layer.freeAvailableBytes);
+			printCSVRow(out, section, "unusedBytes", layer.unusedBytes);
+			printCSVRow(out, section, "debugUnusedBytes", layer.debugUnusedBytes);
+			printCSVRow(out, section, "romClassBytes", layer.romClassBytes);
+			printCSVRow(out, section, "aotBytes", layer.aotBytes);
+			printCSVRow(out, section, "jitBytes", layer.jitBytes);
+		}
+	}
+
+	private static void printCSVSection(PrintStream out, String section, Map<String, Usage> map) {
+		for (Map.Entry<String, Usage> entry : map.entrySet()) {
+			Usage usage = entry.getValue();
+			out.println(section + ',' + csv(entry.getKey()) + ',' + usage.count + ',' + usage.bytes + ',' + usage.staleCount + ',' + usage.staleBytes);
+		}
+	}
+
+	private static void printCSVRow(PrintStream out, String section, String key, long bytes) {
+		out.println(section + ',' + key + ",," + bytes + ",,");
+	}
+
+	private static String csv(String value) {
+		if ((value.indexOf(',') < 0) && (value.indexOf('"') < 0) && (value.indexOf('\n') < 0)) {
+			return value;
+		}
+		return '"' + value.replace("\"", "\"\"") + '"';
+	}
+
+	void printJSON(PrintStream out) {
+		out.println("{");
+		printJSONSection(out, "types", types);
+		out.println(",");
+		printJSONSection(out, "packages", packages);
+		out.println(",");
+		printJSONSection(out, "classpaths", classpaths);
+		out.println(",");
+		printJSONSection(out, "aot", aotByHotness());
+		out.println(",");
+		out.print("  \"layers\": [");
+		String separator = "\n";
+		for (Layer layer : layers) {
+			out.print(separator);
+			out.print("    {\"layer\": " + layer.layer
+					+ ", \"totalBytes\": " + layer.totalBytes
+					+ ", \"usedBytes\": " + layer.usedBytes
+					+ ", \"softmxBytes\": " + layer.softmxBytes
+					+ ", \"freeAvailableBytes\": " + layer.freeAvailableBytes
+					+ ", \"unusedBytes\": " + layer.unusedBytes
+					+ ", \"debugUnusedBytes\": " + layer.debugUnusedBytes
+					+ ", \"romClassBytes\": " + layer.romClassBytes
+					+ ", \"aotBytes\": " + layer.aotBytes
+					+ ", \"jitBytes\": " + layer.jitBytes + "}");
+			separator = ",\n";
+		}
+		out.println("\n  ]");
+		out.println("}");
+	}
+
+	private static void printJSONSection(PrintStream out, String name, Map<String, Usage> map) {
+		out.print("  \"" + name + "\": [");
+		String separator = "\n";
+		for (Map.Entry<String, Usage> entry : map.entrySet()) {
+			Usage usage = entry.getValue();
+			out.print(separator);
+			out.print("    {\"name\": " + json(entry.getKey())
+					+ ", \"count\": " + usage.count
+					+ ", \"bytes\": " + usage.bytes
+					+ ", \"staleCount\": " + usage.staleCount
+					+ ", \"staleBytes\": " + usage.staleBytes + "}");
+			separator = ",\n";
+		}
+		out.print("\n  ]");
+	}
+
+	private static String json(String value) {
+		StringBuilder buffer = new StringBuilder(value.length() + 2);
+		buffer.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+			case '"':
+				buffer.append("\\\"");
+				break;
+			case '\\':
+				buffer.append("\\\\");
+				break;
+			default:
+				if (c < 0x20) {
+					buffer.append(String.format("\\u%04x", (int) c));
+				} else {
+					buffer.append(c);
+				}
+				break;
+			}
+		}
+		buffer.append('"');
+		return buffer.toString();
+	}
+}
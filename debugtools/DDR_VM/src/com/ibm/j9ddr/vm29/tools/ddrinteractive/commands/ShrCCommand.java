@@ -32,9 +32,11 @@ import java.io.IOException;
 import java.io.PrintStream;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -93,7 +95,10 @@ public class ShrCCommand extends Command
 			J9JavaVMPointer vm = J9RASHelper.getVM(DataType.getJ9RASPointer());
 
 			J9SharedClassConfigPointer sharedClassConfig = vm.sharedClassConfig();
-			CommandUtils.dbgPrint(out, "!j9sharedclassconfig %s\n\n", sharedClassConfig.getHexAddress());
+			/* keep the footprint report machine readable */
+			if ((args.length == 0) || !args[0].equals("footprint")) {
+				CommandUtils.dbgPrint(out, "!j9sharedclassconfig %s\n\n", sharedClassConfig.getHexAddress());
+			}
 
 			if (args.length == 0) {
 				printHelp(out);
@@ -373,6 +378,12 @@ public class ShrCCommand extends Command
 					}
 				} else if (args[0].equals("name")) {
 					dbgShrcCacheName(out, sharedClassConfig);
+				} else if (args[0].equals("footprint")) {
+					String format = args[args.length - 1];
+					boolean json = (args.length > 1) && format.equals("json");
+					/* a range or layer= always selects the metadata of a single layer */
+					int footprintLayer = userSpecRange ? getArrayIndexForMetadataAddress(metaStart[0], metaStartInCache, metaEndInCache) : -1;
+					dbgShrcPrintFootprint(out, vm, sharedClassConfig, metaStart, metaEnd, footprintLayer, json);
 				} else {
 					CommandUtils.dbgPrint(out, "Unknown arg(s) : ");
 					for (int i = 0; i< args.length; i++) {
@@ -686,6 +697,7 @@ public class ShrCCommand extends Command
 		CommandUtils.dbgPrint(out, "!shrc extraflags [layer=<n>]                   -- Display shared classes extra flags present in cache header\n");
 		CommandUtils.dbgPrint(out, "!shrc write <dir> [<name>]                     -- Write the shared cache to the given directory\n");
 		CommandUtils.dbgPrint(out, "!shrc name                                     -- Display the name of the shared cache\n");
+		CommandUtils.dbgPrint(out, "!shrc footprint [range|layer=<n>] [csv|json]   -- Print cache footprint by type, package, classpath and AOT hotness\n");
 
 		CommandUtils.dbgPrint(out,  "\nNote: [range] is specified as <start addr>..<end addr> eg 0x1000..0x2000\n");
 	}
@@ -1158,6 +1170,153 @@ public class ShrCCommand extends Command
 		}
 	}
 
+	/**
+	 * Print the footprint of the cache in a single pass over the metadata: bytes by item type,
+	 * by package and by class path entry, AOT code grouped by the JIT hotness recorded for the
+	 * method, live versus stale entries, and the unused space in each layer.
+	 * If selectedLayer is not negative only that layer is reported.
+	 */
+	private void dbgShrcPrintFootprint(PrintStream out, J9JavaVMPointer vm, J9SharedClassConfigPointer sharedClassConfig, U8Pointer[] metaStartArray, U8Pointer[] metaEndArray, int selectedLayer, boolean json) throws CorruptDataException {
+		SharedCacheFootprint footprint = new SharedCacheFootprint();
+		Map<Long, String[]> classpathEntries = new HashMap<>();
+		int topLayer = dbgShrcCacheTopLayer(out, sharedClassConfig);
+		ShrcConfig config = dbgShrcReadConfig(sharedClassConfig, out);
+		if (null == config) {
+			return;
+		}
+		J9SharedCacheHeaderPointer[] cacheHeader = config.getCacheStartAddress();
+		UDATA[] romclassStartAddress = config.getRomclassStartAddress();
+		UDATA[] segmentPtr = config.getSegmentPtr();
+		U8Pointer[] cacheHeaderPtr = null;
+
+		if (topLayer >= 0) {
+			cacheHeaderPtr = new U8Pointer[cacheHeader.length];
+			for (int i = 0; i < cacheHeader.length; i++) {
+				cacheHeaderPtr[i] = U8Pointer.cast(cacheHeader[i]);
+			}
+		}
+
+		for (int i = 0; i < metaStartArray.length; i++) {
+			SharedClassMetadataIterator iterator = new SharedClassMetadataIterator(vm, metaStartArray[i], metaEndArray[i], 0, true, out);
+			while (iterator.hasNext()) {
+				ShcItemPointer it = iterator.next();
+				U16 itemType = it.dataType();
+				ShcItemHdrPointer itemHdr = ShcItemHdrPointer.cast(ShcItemHelper.ITEMEND(it));
+				boolean isStale = ShcItemHdrHelper.CCITEMSTALE(itemHdr);
+				long itemLen = ShcItemHdrHelper.CCITEMLEN(itemHdr).longValue();
+
+				if (itemType.eq(TYPE_ORPHAN)) {
+					footprint.addItem("ORPHAN", itemLen, isStale);
+					J9ROMClassPointer romClass = OrphanWrapperHelper.romClass(OrphanWrapperPointer.cast(ShcItemHelper.ITEMDATA(it)), cacheHeaderPtr);
+					addFootprintROMClass(footprint, romClass, isStale);
+				} else if (itemType.eq(TYPE_ROMCLASS) || itemType.eq(TYPE_SCOPED_ROMCLASS)) {
+					footprint.addItem(itemType.eq(TYPE_ROMCLASS) ? "ROMCLASS" : "SCOPED_ROMCLASS", itemLen, isStale);
+					ROMClassWrapperPointer rcw = ROMClassWrapperPointer.cast(ShcItemHelper.ITEMDATA(it));
+					J9ROMClassPointer romClass = J9ROMClassPointer.cast(ROMClassWrapperHelper.RCWROMCLASS(rcw, cacheHeaderPtr));
+					long romSize = addFootprintROMClass(footprint, romClass, isStale);
+					ClasspathWrapperPointer cpw = ClasspathWrapperPointer.cast(ROMClassWrapperHelper.RCWCLASSPATH(rcw, cacheHeaderPtr));
+					footprint.addClasspathROMClass(getClasspathEntryName(cpw, rcw.cpeIndex().intValue(), classpathEntries), romSize, isStale);
+				} else if (itemType.eq(TYPE_CLASSPATH)) {
+					footprint.addItem("CLASSPATH", itemLen, isStale);
+				} else if (itemType.eq(TYPE_COMPILED_METHOD) || itemType.eq(TYPE_INVALIDATED_COMPILED_METHOD)) {
+					footprint.addItem(itemType.eq(TYPE_COMPILED_METHOD) ? "AOT" : "INVALIDATED_AOT", itemLen, isStale);
+					CompiledMethodWrapperPointer cmw = CompiledMethodWrapperPointer.cast(ShcItemHelper.ITEMDATA(it));
+					J9ROMMethodPointer romMethod = J9ROMMethodPointer.cast(CompiledMethodWrapperHelper.CMWROMMETHOD(cmw, cacheHeaderPtr));
+					footprint.addAOTMethod(romMethod.getAddress(), cmw.dataLength().longValue() + cmw.codeLength().longValue(), isStale);
+				} else if (itemType.eq(TYPE_ATTACHED_DATA)) {
+					AttachedDataWrapperPointer adw = AttachedDataWrapperPointer.cast(ShcItemHelper.ITEMDATA(it));
+					J9ROMMethodPointer romMethod = J9ROMMethodPointer.cast(AttachedDataWrapperHelper.ADWCACHEOFFSET(adw, cacheHeaderPtr));
+					boolean jitHint = (J9SHR_ATTACHED_DATA_TYPE_JITHINT == adw.type().intValue());
+					footprint.addItem(jitHint ? "JITHINT" : "JITPROFILE", itemLen, isStale);
+					footprint.addAttachedData(romMethod.getAddress(), jitHint);
+				} else if (itemType.eq(TYPE_SCOPE)) {
+					footprint.addItem("SCOPE", itemLen, isStale);
+				} else if (itemType.eq(TYPE_BYTE_DATA)) {
+					ByteDataWrapperPointer bdw = ByteDataWrapperPointer.cast(ShcItemHelper.ITEMDATA(it));
+					UDATA byteDataType = new UDATA(ByteDataWrapperHelper.BDWTYPE(bdw));
+					long size = itemLen;
+					if (!new UDATA(ByteDataWrapperHelper.BDWEXTBLOCK(bdw, cacheHeaderPtr)).eq(0)) {
+						/* the data is in the read-write area rather than in the item */
+						size += new UDATA(ByteDataWrapperHelper.BDWLEN(bdw)).longValue();
+					}
+					footprint.addItem("BYTEDATA " + getType(byteDataType), size, isStale);
+				} else if (itemType.eq(TYPE_UNINDEXED_BYTE_DATA)) {
+					footprint.addItem("UNINDEXEDBYTEDATA", itemLen, isStale);
+				} else if (itemType.eq(TYPE_CACHELET)) {
+					footprint.addItem("CACHELET", itemLen, isStale);
+				} else if (itemType.eq(TYPE_PREREQ_CACHE)) {
+					footprint.addItem("PREREQ_CACHE", itemLen, isStale);
+				} else {
+					footprint.addItem("UNKNOWN", itemLen, isStale);
+				}
+			}
+		}
+
+		for (int i = 0; i < cacheHeader.length; i++) {
+			if ((selectedLayer >= 0) && (i != selectedLayer)) {
+				continue;
+			}
+			J9SharedCacheHeaderInfo helper = new J9SharedCacheHeaderInfo(cacheHeader[i]);
+			SharedCacheFootprint.Layer layer = new SharedCacheFootprint.Layer(i);
+			U32 softMaxBytes = helper.getSoftMaxBytes();
+			U32 usedBytes = helper.getUsedBytes();
+			UDATA freeAvailableBytes = helper.getFreeAvailableBytes();
+
+			layer.totalBytes = helper.getTotalBytes().longValue();
+			layer.usedBytes = (null == usedBytes) ? -1 : usedBytes.longValue();
+			layer.softmxBytes = softMaxBytes.eq(U32.MAX) ? -1 : softMaxBytes.longValue();
+			layer.freeAvailableBytes = (null == freeAvailableBytes) ? -1 : freeAvailableBytes.longValue();
+			layer.unusedBytes = helper.getFreeBlockBytes().longValue();
+			layer.debugUnusedBytes = helper.getDebugAreaSize().longValue() - helper.getDebugLNTUsed().longValue() - helper.getDebugLVTUsed().longValue();
+			if (cacheHeader[i].containsCachelets().eq(0)) {
+				layer.romClassBytes = segmentPtr[i].sub(romclassStartAddress[i]).longValue();
+			}
+			layer.aotBytes = helper.getAotBytes().longValue();
+			layer.jitBytes = helper.getJitBytes().longValue();
+			footprint.addLayer(layer);
+		}
+
+		if (json) {
+			footprint.printJSON(out);
+		} else {
+			footprint.printCSV(out);
+		}
+	}
+
+	private long addFootprintROMClass(SharedCacheFootprint footprint, J9ROMClassPointer romClass, boolean isStale) throws CorruptDataException {
+		if (romClass.isNull() || romClass.className().isNull()) {
+			return 0;
+		}
+		long romSize = romClass.romSize().longValue();
+		footprint.addROMClass(romClass.getAddress(), J9UTF8Helper.stringValue(romClass.className()), romSize, isStale);
+		return romSize;
+	}
+
+	/**
+	 * @return the path of the entry at index in the class path, or the path of the URL or token
+	 */
+	private String getClasspathEntryName(ClasspathWrapperPointer cpw, int index, Map<Long, String[]> classpathEntries) throws CorruptDataException {
+		if (cpw.isNull()) {
+			return "";
+		}
+		String[] entries = classpathEntries.get(cpw.getAddress());
+		ClasspathItemPointer cpi = ClasspathItemPointer.cast(ClasspathWrapperHelper.CPWDATA(cpw));
+		if (null == entries) {
+			IDATAPointer cpeiArrayPtr = ClasspathItemHelper.CPEI_ARRAY_PTR_FROM_CPI(cpi);
+			entries = new String[(int) cpi.itemsAdded().longValue()];
+			for (int i = 0; i < entries.length; i++) {
+				ClasspathEntryItemPointer cpei = ClasspathEntryItemPointer.cast(UDATA.cast(cpi).add(cpeiArrayPtr.at(i)));
+				entries[i] = ClasspathEntryItemHelper.CPEIPATH(cpei).getCStringAtOffset(0, cpei.pathLen().longValue());
+			}
+			classpathEntries.put(cpw.getAddress(), entries);
+		}
+		if (!new UDATA(cpi.type()).eq(CP_TYPE_CLASSPATH)) {
+			/* URLs and tokens have a single entry */
+			index = 0;
+		}
+		return ((index >= 0) && (index < entries.length)) ? entries[index] : cpw.getHexAddress();
+	}
+
 	ShrcConfig dbgShrcReadConfig(J9SharedClassConfigPointer sharedClassConfig, PrintStream out) throws CorruptDataException {
 		int topLayer = dbgShrcCacheTopLayer(out, sharedClassConfig);
 		J9SharedCacheHeaderPointer[] cacheStartAddress = null;
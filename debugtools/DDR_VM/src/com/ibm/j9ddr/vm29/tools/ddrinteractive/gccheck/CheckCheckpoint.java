@@ -0,0 +1,279 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.j9ddr.vm29.tools.ddrinteractive.gccheck;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashSet;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Persistent progress of a GC check so that an interrupted check can be resumed.
+ *
+ * The checkpoint file is a properties file recording the options, the range of heap
+ * regions being checked, the next region to check, the checks already completed and
+ * the number of errors reported so far. Output written through {@link #tee(PrintStream)}
+ * is held back and appended to the findings file (the checkpoint file name with
+ * ".findings" appended) each time the checkpoint is saved. The checkpoint also records
+ * the length of the findings file, and any findings beyond that length, written by a
+ * run that was interrupted before it could record its progress, are discarded when the
+ * checkpoint is loaded, so the findings always correspond to the recorded progress.
+ */
+class CheckCheckpoint
+{
+	private static final String OPTIONS = "options";
+	private static final String REGION_START = "regions.start";
+	private static final String REGION_END = "regions.end";
+	private static final String REGION_NEXT = "regions.next";
+	private static final String COMPLETED_CHECKS = "checks.completed";
+	private static final String ERROR_COUNT = "errors";
+	private static final String OWNABLE_SYNCHRONIZER_COUNT = "ownablesynchronizers.heap";
+	private static final String COMPLETE = "complete";
+	private static final String FINDINGS_LENGTH = "findings.length";
+
+	private final File _file;
+	private final File _findingsFile;
+	private final ByteArrayOutputStream _pending = new ByteArrayOutputStream();
+	private String _options = "";
+	private int _regionStart;
+	private int _regionEnd = Integer.MAX_VALUE;
+	private int _nextRegion;
+	private final Set<String> _completedChecks = new LinkedHashSet<>();
+	private int _errorCount;
+	private int _ownableSynchronizerCountOnHeap = -1;
+	private boolean _complete;
+	private long _findingsLength;
+
+	public CheckCheckpoint(File file)
+	{
+		_file = file;
+		_findingsFile = new File(file.getPath() + ".findings");
+	}
+
+	/**
+	 * Read the checkpoint file if it exists, and cut the findings file back to the
+	 * length recorded with the progress.
+	 * @return true if an earlier check is being resumed
+	 */
+	public boolean load() throws IOException
+	{
+		if (!_file.exists()) {
+			/* findings left by an earlier check without a checkpoint do not belong to this one */
+			_findingsLength = 0;
+			truncateFindings();
+			return false;
+		}
+		Properties properties = new Properties();
+		try (InputStream in = new FileInputStream(_file)) {
+			properties.load(in);
+		}
+		try {
+			_options = properties.getProperty(OPTIONS, "");
+			_regionStart = Integer.parseInt(properties.getProperty(REGION_START, "0"));
+			_regionEnd = Integer.parseInt(properties.getProperty(REGION_END, String.valueOf(Integer.MAX_VALUE)));
+			_nextRegion = Integer.parseInt(properties.getProperty(REGION_NEXT, String.valueOf(_regionStart)));
+			_errorCount = Integer.parseInt(properties.getProperty(ERROR_COUNT, "0"));
+			_ownableSynchronizerCountOnHeap = Integer.parseInt(properties.getProperty(OWNABLE_SYNCHRONIZER_COUNT, "-1"));
+			_findingsLength = Long.parseLong(properties.getProperty(FINDINGS_LENGTH, String.valueOf(_findingsFile.length())));
+		} catch (NumberFormatException e) {
+			throw new IOException("Malformed GC check checkpoint " + _file + ": " + e.getMessage());
+		}
+		for (String check : properties.getProperty(COMPLETED_CHECKS, "").split(",")) {
+			if (!check.isEmpty()) {
+				_completedChecks.add(check);
+			}
+		}
+		_complete = Boolean.parseBoolean(properties.getProperty(COMPLETE));
+		truncateFindings();
+		return true;
+	}
+
+	private void truncateFindings() throws IOException
+	{
+		if (_findingsFile.length() > _findingsLength) {
+			try (RandomAccessFile findings = new RandomAccessFile(_findingsFile, "rw")) {
+				findings.setLength(_findingsLength);
+			}
+		}
+	}
+
+	/**
+	 * Write the pending findings and then the progress. The properties are written to a
+	 * temporary file and renamed so an interruption leaves the previous checkpoint intact,
+	 * together with the findings length it records.
+	 */
+	public void save() throws IOException
+	{
+		if (_pending.size() > 0) {
+			try (OutputStream out = new FileOutputStream(_findingsFile, true)) {
+				_pending.writeTo(out);
+			}
+			_findingsLength += _pending.size();
+			_pending.reset();
+		}
+
+		Properties properties = new Properties();
+		properties.setProperty(OPTIONS, _options);
+		properties.setProperty(REGION_START, String.valueOf(_regionStart));
+		properties.setProperty(REGION_END, String.valueOf(_regionEnd));
+		properties.setProperty(REGION_NEXT, String.valueOf(_nextRegion));
+		properties.setProperty(COMPLETED_CHECKS, String.join(",", _completedChecks));
+		properties.setProperty(ERROR_COUNT, String.valueOf(_errorCount));
+		properties.setProperty(OWNABLE_SYNCHRONIZER_COUNT, String.valueOf(_ownableSynchronizerCountOnHeap));
+		properties.setProperty(COMPLETE, String.valueOf(_complete));
+		properties.setProperty(FINDINGS_LENGTH, String.valueOf(_findingsLength));
+
+		File temp = new File(_file.getPath() + ".tmp");
+		try {
+			try (OutputStream out = new FileOutputStream(temp)) {
+				properties.store(out, "GC check checkpoint");
+			}
+			try {
+				Files.move(temp.toPath(), _file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (IOException e) {
+				Files.move(temp.toPath(), _file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			temp.delete();
+		}
+	}
+
+	/**
+	 * Wrap a stream so that everything written to it is also recorded as findings.
+	 */
+	public PrintStream tee(final PrintStream out)
+	{
+		return new PrintStream(new OutputStream() {
+			@Override
+			public void write(int b)
+			{
+				out.write(b);
+				_pending.write(b);
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len)
+			{
+				out.write(b, off, len);
+				_pending.write(b, off, len);
+			}
+
+			@Override
+			public void flush()
+			{
+				out.flush();
+			}
+		}, true);
+	}
+
+	public File getFindingsFile()
+	{
+		return _findingsFile;
+	}
+
+	public String getOptions()
+	{
+		return _options;
+	}
+
+	public void setOptions(String options)
+	{
+		_options = options;
+	}
+
+	public int getRegionStart()
+	{
+		return _regionStart;
+	}
+
+	public int getRegionEnd()
+	{
+		return _regionEnd;
+	}
+
+	public void setRegionRange(int start, int end)
+	{
+		_regionStart = start;
+		_regionEnd = end;
+		_nextRegion = start;
+	}
+
+	public int getNextRegion()
+	{
+		return _nextRegion;
+	}
+
+	public void setNextRegion(int nextRegion)
+	{
+		_nextRegion = nextRegion;
+	}
+
+	public boolean isCheckComplete(String checkName)
+	{
+		return _completedChecks.contains(checkName);
+	}
+
+	public void setCheckComplete(String checkName)
+	{
+		_completedChecks.add(checkName);
+	}
+
+	public int getErrorCount()
+	{
+		return _errorCount;
+	}
+
+	public void setErrorCount(int errorCount)
+	{
+		_errorCount = errorCount;
+	}
+
+	public int getOwnableSynchronizerCountOnHeap()
+	{
+		return _ownableSynchronizerCountOnHeap;
+	}
+
+	public void setOwnableSynchronizerCountOnHeap(int count)
+	{
+		_ownableSynchronizerCountOnHeap = count;
+	}
+
+	public boolean isComplete()
+	{
+		return _complete;
+	}
+
+	public void setComplete()
+	{
+		_complete = true;
+	}
+}
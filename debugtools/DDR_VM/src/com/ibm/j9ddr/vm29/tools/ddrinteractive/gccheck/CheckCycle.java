@@ -21,6 +21,7 @@
  */
 package com.ibm.j9ddr.vm29.tools.ddrinteractive.gccheck;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.StringTokenizer;
@@ -48,6 +49,10 @@ class CheckCycle
 //	J9PortLibrary *_portLibrary;
 	private CheckEngine _engine;
 	private boolean _printHelp;
+	private int _regionStart = 0;
+	private int _regionEnd = Integer.MAX_VALUE;
+	private CheckCheckpoint _checkpoint;
+	private boolean _resumed;
 
 	static
 	{
@@ -154,6 +159,12 @@ private void printHelp()
 		reporter.println("  scavengerbackout");
 		reporter.println("  ownablesynchronizerconsistency");
 		reporter.println();
+
+		reporter.println("gccheck options (following the option string):");
+		reporter.println("  -regions start[-end]  only check heap objects in the given regions; the other");
+		reporter.println("                        checks only run for a range starting at region 0");
+		reporter.println("  -checkpoint file      save progress to file and resume from it");
+		reporter.println();
 	}
 
 	private void initialize(String options)
@@ -460,18 +471,104 @@ private void printHelp()
 		}
 	}
 
+	/**
+	 * Restrict the object heap check to heap regions with indices in [start, end).
+	 */
+	public void setRegionRange(int start, int end)
+	{
+		_regionStart = start;
+		_regionEnd = end;
+	}
+
+	/**
+	 * Record progress in the given checkpoint after every heap region and every check.
+	 * @param checkpoint the checkpoint to update
+	 * @param resumed whether the checkpoint holds progress from an earlier run to continue from
+	 */
+	public void setCheckpoint(CheckCheckpoint checkpoint, boolean resumed)
+	{
+		_checkpoint = checkpoint;
+		_resumed = resumed;
+		if (resumed) {
+			_errorCount = checkpoint.getErrorCount();
+		}
+	}
+
+	public boolean isPrintHelp()
+	{
+		return _printHelp;
+	}
+
+	/**
+	 * @return whether the heap region with the given index is still to be checked
+	 */
+	public boolean isRegionSelected(int index)
+	{
+		if ((index < _regionStart) || (index >= _regionEnd)) {
+			return false;
+		}
+		return (_checkpoint == null) || (index >= _checkpoint.getNextRegion());
+	}
+
+	/**
+	 * Called when all objects in a selected heap region have been checked.
+	 */
+	public void regionChecked(int index)
+	{
+		if (_checkpoint != null) {
+			_checkpoint.setNextRegion(index + 1);
+			saveCheckpoint();
+		}
+	}
+
+	private void saveCheckpoint()
+	{
+		_checkpoint.setErrorCount(_errorCount);
+		_checkpoint.setOwnableSynchronizerCountOnHeap(_engine.getOwnableSynchronizerCountOnHeap());
+		try {
+			_checkpoint.save();
+		} catch (IOException e) {
+			_engine.getReporter().println("GC Check: unable to save checkpoint: " + e.getMessage());
+		}
+	}
+
 	public void run() throws CorruptDataException
 	{
 		if (_printHelp) {
 			printHelp();
 		} else {
+			if ((_regionStart > 0) || (_regionEnd != Integer.MAX_VALUE)) {
+				/* the heap count only covers the selected regions, so it cannot match the lists */
+				_miscFlags &= ~J9MODRON_GCCHK_MISC_OWNABLESYNCHRONIZER_CONSISTENCY;
+			}
 			_engine.startCheckCycle(this);
+			if (_resumed) {
+				_engine.setOwnableSynchronizerCountOnHeap(_checkpoint.getOwnableSynchronizerCountOnHeap());
+			}
 			for (int i = 0; i < _checks.length; i++) {
+				String checkName = _checks[i].getCheckName();
+				if ((_checkpoint != null) && _checkpoint.isCheckComplete(checkName)) {
+					_engine.getReporter().println("Checking " + checkName + "...done (from checkpoint).");
+					continue;
+				}
+				if ((_regionStart > 0) && !(_checks[i] instanceof CheckObjectHeap)) {
+					/* checks not divided by region are done with the range starting at region 0 */
+					_engine.getReporter().println("Checking " + checkName + "...skipped (not in region range).");
+					continue;
+				}
 				boolean check = (J9MODRON_GCCHK_MISC_CHECK == (_miscFlags & J9MODRON_GCCHK_MISC_CHECK));
 				boolean scan = (J9MODRON_GCCHK_MISC_SCAN == (_miscFlags & J9MODRON_GCCHK_MISC_SCAN));
 				_checks[i].run(check, scan);
+				if (_checkpoint != null) {
+					_checkpoint.setCheckComplete(checkName);
+					saveCheckpoint();
+				}
 			}
 			_engine.endCheckCycle();
+			if (_checkpoint != null) {
+				_checkpoint.setComplete();
+				saveCheckpoint();
+			}
 		}
 	}
 
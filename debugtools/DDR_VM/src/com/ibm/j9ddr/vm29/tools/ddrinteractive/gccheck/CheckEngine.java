@@ -1471,6 +1471,26 @@ class CheckEngine
 		_ownableSynchronizerObjectCountOnHeap = 0;
 	}
 
+	public int getOwnableSynchronizerCountOnHeap()
+	{
+		return _ownableSynchronizerObjectCountOnHeap;
+	}
+
+	public void setOwnableSynchronizerCountOnHeap(int count)
+	{
+		_ownableSynchronizerObjectCountOnHeap = count;
+	}
+
+	public boolean isRegionSelected(int index)
+	{
+		return _cycle.isRegionSelected(index);
+	}
+
+	public void regionChecked(int index)
+	{
+		_cycle.regionChecked(index);
+	}
+
 	public boolean needVerifyOwnableSynchronizerConsistency()
 	{
 		return _needVerifyOwnableSynchronizerConsistency;
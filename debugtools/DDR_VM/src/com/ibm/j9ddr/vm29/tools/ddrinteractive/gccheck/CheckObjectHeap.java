@@ -46,8 +46,11 @@ class CheckObjectHeap extends Check
 			boolean midScavenge = _engine.isMidscavengeFlagSet();
 			boolean isVLHGC = GCExtensions.isVLHGC();
 
-			while (regions.hasNext()) {
+			for (int regionIndex = 0; regions.hasNext(); regionIndex++) {
 				GCHeapRegionDescriptor region = GCHeapRegionDescriptor.fromHeapRegionDescriptor(regions.next());
+				if (!_engine.isRegionSelected(regionIndex)) {
+					continue;
+				}
 				boolean isRegionTypeNew = region.getTypeFlags().allBitsIn(MEMORY_TYPE_NEW);
 				
 				GCObjectHeapIterator heapIterator = region.objectIterator(true, true);
@@ -77,6 +80,7 @@ class CheckObjectHeap extends Check
 					heapIterator.next();
 					_engine.pushPreviousObject(object);
 				}
+				_engine.regionChecked(regionIndex);
 			}
 		} catch (CorruptDataException e) {
 			// TODO: handle exception
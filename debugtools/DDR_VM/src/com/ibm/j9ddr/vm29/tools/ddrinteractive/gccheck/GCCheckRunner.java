@@ -21,6 +21,8 @@
  */
 package com.ibm.j9ddr.vm29.tools.ddrinteractive.gccheck;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.PrintStream;
 import java.util.List;
 
@@ -47,19 +49,104 @@ public class GCCheckRunner implements IBootstrapRunnable
 		}
 	}
 	
+	/**
+	 * Run the GC check.
+	 *
+	 * The first argument that is not one of the following is the -Xcheck:gc style option string.
+	 * <ul>
+	 * <li>-regions start[-end] : only check heap objects in regions with indices start to end inclusive,
+	 * or from start onwards if end is omitted; the checks which do not walk the object heap are
+	 * only run when start is 0</li>
+	 * <li>-checkpoint file : record progress in file after every region and check, and resume
+	 * from it if it already exists; the output is kept in file.findings</li>
+	 * </ul>
+	 * Disjoint region ranges may be checked concurrently by separate processes, each with its own checkpoint.
+	 */
 	public static void run(J9JavaVMPointer vm, String[] args, PrintStream out) throws CorruptDataException
 	{
-		String options = args.length > 0 ? args[0] : "";
-		
-		CheckReporter reporter = new CheckReporterTTY(out);
+		String options = null;
+		int regionStart = 0;
+		int regionEnd = Integer.MAX_VALUE;
+		String checkpointFile = null;
+
+		for (int i = 0; i < args.length; i++) {
+			String arg = args[i];
+			if (arg.equals("-regions") && (i + 1 < args.length)) {
+				String range = args[++i];
+				int dash = range.indexOf('-');
+				try {
+					if (dash < 0) {
+						regionStart = Integer.parseInt(range);
+					} else {
+						regionStart = Integer.parseInt(range.substring(0, dash));
+						regionEnd = Integer.parseInt(range.substring(dash + 1)) + 1;
+					}
+				} catch (NumberFormatException e) {
+					out.println("GC Check: invalid region range '" + range + "'");
+					return;
+				}
+				if ((regionStart < 0) || (regionEnd <= regionStart)) {
+					out.println("GC Check: invalid region range '" + range + "'");
+					return;
+				}
+			} else if (arg.equals("-checkpoint") && (i + 1 < args.length)) {
+				checkpointFile = args[++i];
+			} else if (options == null) {
+				options = arg;
+			}
+		}
+		if (options == null) {
+			options = "";
+		}
+
+		CheckCheckpoint checkpoint = null;
+		boolean resumed = false;
+		if (checkpointFile != null) {
+			checkpoint = new CheckCheckpoint(new File(checkpointFile));
+			try {
+				resumed = checkpoint.load();
+			} catch (IOException e) {
+				out.println("GC Check: unable to read checkpoint: " + e.getMessage());
+				return;
+			}
+			if (resumed) {
+				if (checkpoint.isComplete()) {
+					out.println("GC Check recorded in " + checkpointFile + " is complete, see " + checkpoint.getFindingsFile());
+					return;
+				}
+				/* continue with the options and regions the check was started with */
+				options = checkpoint.getOptions();
+				regionStart = checkpoint.getRegionStart();
+				regionEnd = checkpoint.getRegionEnd();
+				out.println("Resuming GC Check from " + checkpointFile + " at heap region " + checkpoint.getNextRegion());
+			} else {
+				checkpoint.setOptions(options);
+				checkpoint.setRegionRange(regionStart, regionEnd);
+			}
+		}
+
+		PrintStream reportOut = (checkpoint == null) ? out : checkpoint.tee(out);
+		CheckReporter reporter = new CheckReporterTTY(reportOut);
 		CheckEngine engine = new CheckEngine(vm, reporter);
 		CheckCycle cycle = new CheckCycle(vm, engine, options);
-		
-		out.println("Starting GC Check");
+		cycle.setRegionRange(regionStart, regionEnd);
+		if ((checkpoint != null) && !cycle.isPrintHelp()) {
+			cycle.setCheckpoint(checkpoint, resumed);
+		}
+
+		reportOut.println("Starting GC Check");
 		long startTime = System.currentTimeMillis();
 		cycle.run();
 		long endTime = System.currentTimeMillis();
-		out.println("Done (" + (endTime - startTime) + "ms)");
+		reportOut.println("Done (" + (endTime - startTime) + "ms)");
+		if ((checkpoint != null) && checkpoint.isComplete()) {
+			/* keep the output written after the final progress update */
+			try {
+				checkpoint.save();
+			} catch (IOException e) {
+				out.println("GC Check: unable to save checkpoint: " + e.getMessage());
+			}
+		}
 
 //		AbstractPointer.reportClassCacheStats();
 //		J9ObjectHelper.reportClassCacheStats();
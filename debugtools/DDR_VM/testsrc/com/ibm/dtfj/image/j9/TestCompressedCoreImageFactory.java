@@ -0,0 +1,149 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.dtfj.image.j9;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ibm.dtfj.image.Image;
+import com.ibm.dtfj.image.ImageAddressSpace;
+import com.ibm.dtfj.utils.file.FileManager;
+import com.ibm.dtfj.utils.file.ImageSourceType;
+import com.ibm.dtfj.utils.file.ManagedImageSource;
+import com.ibm.dtfj.utils.file.SimpleFileManager;
+import com.ibm.j9ddr.corereaders.memory.BlockCompressedOutputStream;
+
+public class TestCompressedCoreImageFactory
+{
+	private static final int PID = 1234;
+
+	/* sizes for x86-64 */
+	private static final int ELF_HEADER_SIZE = 64;
+	private static final int PROGRAM_HEADER_SIZE = 56;
+	private static final int PRPSINFO_SIZE = 136;
+
+	private File _core;
+
+	/**
+	 * Build the smallest x86-64 ELF core the DDR reader accepts: a single note
+	 * segment holding the process information.
+	 */
+	private static byte[] elfCore()
+	{
+		ByteBuffer core = ByteBuffer.allocate(4096).order(ByteOrder.LITTLE_ENDIAN);
+		int noteOffset = ELF_HEADER_SIZE + PROGRAM_HEADER_SIZE;
+		int noteSize = 12 + 8 + PRPSINFO_SIZE;
+
+		/* ELF header: 64-bit, little endian, ET_CORE, EM_X86_64 */
+		core.put(new byte[] { 0x7f, 'E', 'L', 'F', 2, 1, 1, 0 });
+		core.position(16);
+		core.putShort((short) 4).putShort((short) 62).putInt(1);
+		core.putLong(0).putLong(ELF_HEADER_SIZE).putLong(0).putInt(0);
+		core.putShort((short) ELF_HEADER_SIZE).putShort((short) PROGRAM_HEADER_SIZE).putShort((short) 1);
+		core.putShort((short) 64).putShort((short) 0).putShort((short) 0);
+
+		/* PT_NOTE */
+		core.putInt(4).putInt(0).putLong(noteOffset).putLong(0).putLong(0).putLong(noteSize).putLong(0).putLong(4);
+
+		/* NT_PRPSINFO note */
+		core.putInt(5).putInt(PRPSINFO_SIZE).putInt(3);
+		core.put("CORE\0\0\0\0".getBytes(StandardCharsets.US_ASCII));
+		int info = core.position();
+		core.position(info + 8);
+		core.putLong(0).putInt(0).putInt(0).putInt(PID);
+		core.position(info + PRPSINFO_SIZE - 96);
+		core.put("java".getBytes(StandardCharsets.US_ASCII));
+		core.position(info + PRPSINFO_SIZE - 80);
+		core.put("java -version".getBytes(StandardCharsets.US_ASCII));
+		return core.array();
+	}
+
+	@Before
+	public void setUp() throws IOException
+	{
+		_core = File.createTempFile("core", ".dmp.gz");
+		OutputStream out = new BlockCompressedOutputStream(new FileOutputStream(_core), 1024, Deflater.DEFAULT_COMPRESSION);
+		try {
+			out.write(elfCore());
+		} finally {
+			out.close();
+		}
+	}
+
+	@After
+	public void tearDown()
+	{
+		_core.delete();
+	}
+
+	@Test
+	public void testReadInPlace() throws IOException
+	{
+		assertFalse(FileManager.isArchive(_core));
+		FileManager manager = FileManager.getManager(_core);
+		assertTrue(manager instanceof SimpleFileManager);
+		ManagedImageSource source = manager.getImageSources().get(0);
+		assertEquals(ImageSourceType.CORE, source.getType());
+	}
+
+	@Test
+	public void testPlainGzipIsArchive() throws IOException
+	{
+		File gzip = File.createTempFile("core", ".dmp.gz");
+		try {
+			OutputStream out = new GZIPOutputStream(new FileOutputStream(gzip));
+			try {
+				out.write(elfCore());
+			} finally {
+				out.close();
+			}
+			assertTrue(FileManager.isArchive(gzip));
+		} finally {
+			gzip.delete();
+		}
+	}
+
+	@Test
+	public void testGetImage() throws Exception
+	{
+		Image image = new ImageFactory().getImage(_core);
+		try {
+			ImageAddressSpace addressSpace = (ImageAddressSpace) image.getAddressSpaces().next();
+			assertEquals(Integer.toString(PID), addressSpace.getCurrentProcess().getID());
+		} finally {
+			image.close();
+		}
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.dtfj.javacore.parser.j9;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ibm.dtfj.image.CorruptDataException;
+import com.ibm.dtfj.image.Image;
+import com.ibm.dtfj.image.ImageAddressSpace;
+import com.ibm.dtfj.image.ImageProcess;
+import com.ibm.dtfj.java.JavaRuntime;
+import com.ibm.dtfj.java.JavaThread;
+import com.ibm.dtfj.javacore.builder.javacore.ImageBuilderFactory;
+
+public class TestJavaCoreSectionIndex
+{
+	private static final String SAMPLE_JAVACORE =
+		"0SECTION       TITLE subcomponent dump routine\n" +
+		"NULL           ===============================\n" +
+		"1TICHARSET     UTF-8\n" +
+		"1TISIGINFO     Dump Requested By User (00100000) Through com.ibm.jvm.Dump.javaDumpToFile\n" +
+		"1TIDATETIME    Date: 2026/10/19 at 10:00:00:000\n" +
+		"1TINANOTIME    System nanotime: 1000\n" +
+		"1TIFILENAME    Javacore filename:    /tmp/javacore.txt\n" +
+		"NULL           ------------------------------------------------------------------------\n" +
+		"0SECTION       GPINFO subcomponent dump routine\n" +
+		"NULL           ================================\n" +
+		"2XHOSLEVEL     OS Level         : Linux 6.1\n" +
+		"2XHCPUS        Processors -\n" +
+		"3XHCPUARCH       Architecture   : amd64\n" +
+		"3XHNUMCPUS       How Many       : 4\n" +
+		"NULL           ------------------------------------------------------------------------\n" +
+		"0SECTION       ENVINFO subcomponent dump routine\n" +
+		"NULL           =================================\n" +
+		"1CIJAVAVERSION JRE 17.0.0 Linux amd64-64 (build 17.0.0+35)\n" +
+		"NULL           ------------------------------------------------------------------------\n" +
+		"0SECTION       MEMINFO subcomponent dump routine\n" +
+		"NULL           =================================\n" +
+		"1STHEAPTYPE    Object Memory\n" +
+		"NULL           ------------------------------------------------------------------------\n" +
+		"0SECTION       THREADS subcomponent dump routine\n" +
+		"NULL           =================================\n" +
+		"1XMCURTHDINFO  Current thread\n" +
+		"3XMTHREADINFO      \"main\" J9VMThread:0x0000000000021800, omrthread_t:0x00007F0000001000, java/lang/Thread:0x00000000FFF00000, state:R, prio=5\n" +
+		"3XMJAVALTHREAD            (java/lang/Thread getId:0x1, isDaemon:false)\n" +
+		"3XMTHREADINFO1            (native thread ID:0x1234, native priority:0x5, native policy:UNKNOWN, vmstate:R, vm thread flags:0x00000020)\n" +
+		"3XMTHREADINFO3           Java callstack:\n" +
+		"4XESTACKTRACE                at java/lang/Thread.sleep(Native Method)\n" +
+		"4XESTACKTRACE                at Sample.main(Sample.java:10)\n" +
+		"NULL\n" +
+		"1XMTHDINFO     Thread Details\n" +
+		"NULL\n" +
+		"3XMTHREADINFO      \"worker\" J9VMThread:0x0000000000022800, omrthread_t:0x00007F0000002000, java/lang/Thread:0x00000000FFF00100, state:P, prio=5\n" +
+		"3XMJAVALTHREAD            (java/lang/Thread getId:0x2, isDaemon:false)\n" +
+		"3XMTHREADINFO1            (native thread ID:0x1235, native priority:0x5, native policy:UNKNOWN, vmstate:P, vm thread flags:0x00000020)\n" +
+		"3XMTHREADINFO3           Java callstack:\n" +
+		"4XESTACKTRACE                at sun/misc/Unsafe.park(Native Method)\n" +
+		"NULL\n" +
+		"NULL           ------------------------------------------------------------------------\n" +
+		"0SECTION       CLASSES subcomponent dump routine\n" +
+		"NULL           =================================\n" +
+		"1CLTEXTCLLOS   \tClassloader summaries\n" +
+		"NULL           ------------------------------------------------------------------------\n" +
+		"0SECTION       Javadump End section\n" +
+		"NULL           ---------------------- END OF DUMP -------------------------------------\n";
+
+	private File javacore;
+
+	@Before
+	public void setUp() throws IOException
+	{
+		javacore = File.createTempFile("javacore", ".txt");
+		try (OutputStream out = new FileOutputStream(javacore)) {
+			out.write(SAMPLE_JAVACORE.getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+	@After
+	public void tearDown()
+	{
+		javacore.delete();
+	}
+
+	@Test
+	public void testSectionNames() throws IOException
+	{
+		JavaCoreSectionIndex index = new JavaCoreSectionIndex(javacore, new ImageBuilderFactory());
+		try {
+			List<String> names = new ArrayList<>(index.getSectionNames());
+			assertEquals("[TITLE, GPINFO, ENVINFO, MEMINFO, THREADS, CLASSES, Javadump]", names.toString());
+			assertTrue(index.hasSection("THREADS"));
+			assertFalse(index.hasSection("LOCKS"));
+		} finally {
+			index.close();
+		}
+	}
+
+	@Test
+	public void testThreadsMatchFullParse() throws Exception
+	{
+		Image full;
+		try (InputStream in = new FileInputStream(javacore)) {
+			full = new JavaCoreReader(new ImageBuilderFactory()).generateImage(in);
+		}
+		JavaCoreSectionIndex index = new JavaCoreSectionIndex(javacore, new ImageBuilderFactory());
+		try {
+			Image threads = index.getImage(new String[] { "THREADS" });
+			List<String> expected = getThreadNames(full);
+			assertEquals(2, expected.size());
+			assertEquals(expected, getThreadNames(threads));
+
+			/* the image is reused while no new sections are needed */
+			assertSame(threads, index.getImage(new String[] { "THREADS", "LOCKS" }));
+			Image classes = index.getImage(new String[] { "CLASSES" });
+			assertFalse(threads == classes);
+			assertEquals(expected, getThreadNames(classes));
+		} finally {
+			index.close();
+		}
+	}
+
+	private static List<String> getThreadNames(Image image) throws CorruptDataException
+	{
+		List<String> names = new ArrayList<>();
+		for (Iterator spaces = image.getAddressSpaces(); spaces.hasNext();) {
+			for (Iterator processes = ((ImageAddressSpace) spaces.next()).getProcesses(); processes.hasNext();) {
+				for (Iterator runtimes = ((ImageProcess) processes.next()).getRuntimes(); runtimes.hasNext();) {
+					for (Iterator threads = ((JavaRuntime) runtimes.next()).getThreads(); threads.hasNext();) {
+						names.add(((JavaThread) threads.next()).getName());
+					}
+				}
+			}
+		}
+		return names;
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.dtfj.utils.collections;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class TestLongIntMap
+{
+	@Test
+	public void testMissingValue()
+	{
+		LongIntMap map = new LongIntMap(-7);
+		assertEquals(-7, map.getMissingValue());
+		assertEquals(-7, map.get(0x1000));
+		assertEquals(-7, map.get(0));
+		assertTrue(map.isEmpty());
+		assertFalse(map.containsKey(0x1000));
+	}
+
+	@Test
+	public void testPutReturnsPrevious()
+	{
+		LongIntMap map = new LongIntMap(-1);
+		assertEquals(-1, map.put(0x1000, 1));
+		assertEquals(1, map.put(0x1000, 2));
+		assertEquals(2, map.get(0x1000));
+		assertEquals(1, map.size());
+	}
+
+	@Test
+	public void testZeroKey()
+	{
+		LongIntMap map = new LongIntMap(-1);
+		assertFalse(map.containsKey(0));
+		assertEquals(-1, map.put(0, 5));
+		assertTrue(map.containsKey(0));
+		assertEquals(5, map.get(0));
+		assertEquals(5, map.put(0, 6));
+		assertEquals(6, map.get(0));
+		assertEquals(1, map.size());
+	}
+
+	@Test
+	public void testNegativeKeys()
+	{
+		LongIntMap map = new LongIntMap(-1);
+		map.put(-1L, 1);
+		map.put(Long.MIN_VALUE, 2);
+		map.put(Long.MAX_VALUE, 3);
+		assertEquals(1, map.get(-1L));
+		assertEquals(2, map.get(Long.MIN_VALUE));
+		assertEquals(3, map.get(Long.MAX_VALUE));
+	}
+
+	@Test
+	public void testGrowth()
+	{
+		LongIntMap map = new LongIntMap(-1);
+		long initialCapacity = map.capacity();
+		int count = 100000;
+		for (int i = 0; i < count; i++) {
+			// aligned addresses, as found in a heap
+			map.put(0x10000000L + (i * 8L), i);
+		}
+		assertTrue(map.capacity() > initialCapacity);
+		assertEquals(count, map.size());
+		for (int i = 0; i < count; i++) {
+			assertEquals(i, map.get(0x10000000L + (i * 8L)));
+		}
+		assertEquals(-1, map.get(0x10000000L + (count * 8L)));
+	}
+
+	@Test
+	public void testPresized()
+	{
+		LongIntMap map = new LongIntMap(1000, -1);
+		long capacity = map.capacity();
+		for (int i = 1; i <= 1000; i++) {
+			map.put(i, i);
+		}
+		assertEquals(capacity, map.capacity());
+	}
+
+	@Test
+	public void testCollisions()
+	{
+		LongIntMap map = new LongIntMap(-1);
+		// keys which differ only above the bits used to pick the initial slot
+		for (int i = 1; i <= 64; i++) {
+			map.put((long) i << 40, i);
+		}
+		for (int i = 1; i <= 64; i++) {
+			assertEquals(i, map.get((long) i << 40));
+		}
+		assertEquals(64, map.size());
+	}
+
+	@Test
+	public void testNegativeSize()
+	{
+		try {
+			new LongIntMap(-1, 0);
+			fail("Expected IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+}
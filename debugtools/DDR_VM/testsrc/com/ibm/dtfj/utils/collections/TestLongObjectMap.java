@@ -0,0 +1,119 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.dtfj.utils.collections;
+
+import static org.junit.Assert.*;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+
+public class TestLongObjectMap
+{
+	@Test
+	public void testEmpty()
+	{
+		LongObjectMap<String> map = new LongObjectMap<>();
+		assertTrue(map.isEmpty());
+		assertEquals(0, map.size());
+		assertEquals(null, map.get(1));
+		assertFalse(map.containsKey(1));
+		assertFalse(map.iterator().hasNext());
+	}
+
+	@Test
+	public void testInsertionOrder()
+	{
+		LongObjectMap<String> map = new LongObjectMap<>();
+		map.put(30, "c");
+		map.put(0, "zero");
+		map.put(10, "a");
+		map.put(20, "b");
+		assertIterates(map, "c", "zero", "a", "b");
+	}
+
+	@Test
+	public void testReplaceKeepsPosition()
+	{
+		LongObjectMap<String> map = new LongObjectMap<>();
+		map.put(1, "a");
+		map.put(2, "b");
+		assertEquals("a", map.put(1, "A"));
+		assertEquals("A", map.get(1));
+		assertEquals(2, map.size());
+		assertIterates(map, "A", "b");
+	}
+
+	@Test
+	public void testNullValue()
+	{
+		LongObjectMap<String> map = new LongObjectMap<>();
+		assertEquals(null, map.put(5, null));
+		assertTrue(map.containsKey(5));
+		assertEquals(null, map.get(5));
+		assertEquals(1, map.size());
+	}
+
+	@Test
+	public void testGrowth()
+	{
+		LongObjectMap<Integer> map = new LongObjectMap<>(2);
+		int count = 10000;
+		for (int i = 0; i < count; i++) {
+			map.put(0x2000000L + (i * 16L), Integer.valueOf(i));
+		}
+		assertEquals(count, map.size());
+		int expected = 0;
+		for (Integer value : map) {
+			assertEquals(expected, value.intValue());
+			assertSame(value, map.get(0x2000000L + (expected * 16L)));
+			expected += 1;
+		}
+		assertEquals(count, expected);
+	}
+
+	@Test
+	public void testIteratorExhausted()
+	{
+		LongObjectMap<String> map = new LongObjectMap<>();
+		map.put(1, "a");
+		Iterator<String> values = map.iterator();
+		values.next();
+		try {
+			values.next();
+			fail("Expected NoSuchElementException");
+		} catch (NoSuchElementException e) {
+			// expected
+		}
+	}
+
+	private static void assertIterates(LongObjectMap<String> map, String... expected)
+	{
+		Iterator<String> values = map.iterator();
+		for (String value : expected) {
+			assertTrue(values.hasNext());
+			assertEquals(value, values.next());
+		}
+		assertFalse(values.hasNext());
+	}
+}
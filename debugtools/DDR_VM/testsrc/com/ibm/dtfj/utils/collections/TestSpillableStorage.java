@@ -0,0 +1,73 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.dtfj.utils.collections;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class TestSpillableStorage
+{
+	private static final long SIZE = 2 * 1024 * 1024;
+
+	@Test
+	public void testHeapStorage()
+	{
+		checkStorage(new SpillableStorage(SIZE, false));
+	}
+
+	@Test
+	public void testMappedStorage()
+	{
+		// falls back to the heap if the temporary file cannot be mapped, which is still correct
+		checkStorage(new SpillableStorage(SIZE, true));
+	}
+
+	@Test
+	public void testReleaseTwice()
+	{
+		SpillableStorage storage = new SpillableStorage(SIZE, false);
+		storage.release();
+		storage.release();
+	}
+
+	private static void checkStorage(SpillableStorage storage)
+	{
+		long longs = SIZE / 8;
+		assertEquals(0, storage.getLong(0));
+		assertEquals(0, storage.getLong(longs - 1));
+		for (long i = 0; i < longs; i += 997) {
+			storage.putLong(i, (i << 32) | i);
+		}
+		storage.putLong(longs - 1, -1L);
+		for (long i = 0; i < longs; i += 997) {
+			assertEquals((i << 32) | i, storage.getLong(i));
+		}
+		assertEquals(-1L, storage.getLong(longs - 1));
+		storage.release();
+
+		SpillableStorage ints = new SpillableStorage(SIZE, false);
+		ints.putInt((SIZE / 4) - 1, Integer.MIN_VALUE);
+		assertEquals(Integer.MIN_VALUE, ints.getInt((SIZE / 4) - 1));
+		ints.release();
+	}
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.dtfj.utils.file;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ibm.dtfj.image.j9.ZipExtractionResolver;
+
+public class TestLibraryStore
+{
+	/* SHA-256 of "abc" */
+	private static final String ABC_HASH = "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+	private static final String LIBRARY_PATH = "/opt/java/lib/lib with space.so";
+
+	private File _store;
+	private File _archive;
+
+	@Before
+	public void setUp() throws IOException
+	{
+		_archive = File.createTempFile("librarystore", ".zip");
+		_store = File.createTempFile("librarystore", ".dir");
+		_store.delete();
+		assertTrue(_store.mkdir());
+		write(new File(_store, ABC_HASH), "abc");
+	}
+
+	@After
+	public void tearDown()
+	{
+		System.clearProperty(LibraryStore.LOCATION_PROPERTY);
+		File[] stored = _store.listFiles();
+		if (null != stored) {
+			for (File file : stored) {
+				file.delete();
+			}
+		}
+		_store.delete();
+		_archive.delete();
+	}
+
+	private static void write(File file, String contents) throws IOException
+	{
+		OutputStream out = new FileOutputStream(file);
+		try {
+			out.write(contents.getBytes(StandardCharsets.UTF_8));
+		} finally {
+			out.close();
+		}
+	}
+
+	private ZipFile archive(String manifest) throws IOException
+	{
+		ZipOutputStream zip = new ZipOutputStream(new FileOutputStream(_archive));
+		try {
+			zip.putNextEntry(new ZipEntry("core.dmp"));
+			zip.write(new byte[16]);
+			zip.closeEntry();
+			if (null != manifest) {
+				zip.putNextEntry(new ZipEntry(LibraryStore.MANIFEST_NAME));
+				zip.write(manifest.getBytes(StandardCharsets.UTF_8));
+				zip.closeEntry();
+			}
+		} finally {
+			zip.close();
+		}
+		return new ZipFile(_archive);
+	}
+
+	private String manifest(String status, String storePath, long size)
+	{
+		return LibraryStore.STORE_PREFIX + storePath + "\n"
+				+ LibraryStore.ARCHIVED + " 0000 3 /opt/java/lib/other.so\n"
+				+ status + " " + ABC_HASH + " " + size + " " + LIBRARY_PATH + "\n";
+	}
+
+	@Test
+	public void testHash() throws IOException
+	{
+		assertEquals(ABC_HASH, LibraryStore.hash(new File(_store, ABC_HASH)));
+	}
+
+	@Test
+	public void testFindOmittedLibrary() throws IOException
+	{
+		ZipFile zip = archive(manifest(LibraryStore.OMITTED, _store.getAbsolutePath(), 3));
+		try {
+			assertEquals(new File(_store, ABC_HASH), LibraryStore.findLibrary(zip, LIBRARY_PATH));
+			assertNull(LibraryStore.findLibrary(zip, "/opt/java/lib/other.so"));
+			assertNull(LibraryStore.findLibrary(zip, "/opt/java/lib/missing.so"));
+		} finally {
+			zip.close();
+		}
+	}
+
+	@Test
+	public void testArchivedOrChangedLibrary() throws IOException
+	{
+		ZipFile zip = archive(manifest(LibraryStore.ARCHIVED, _store.getAbsolutePath(), 3));
+		try {
+			assertNull(LibraryStore.findLibrary(zip, LIBRARY_PATH));
+		} finally {
+			zip.close();
+		}
+		zip = archive(manifest(LibraryStore.OMITTED, _store.getAbsolutePath(), 4));
+		try {
+			assertNull(LibraryStore.findLibrary(zip, LIBRARY_PATH));
+		} finally {
+			zip.close();
+		}
+	}
+
+	@Test
+	public void testNoManifest() throws IOException
+	{
+		ZipFile zip = archive(null);
+		try {
+			assertNull(LibraryStore.findLibrary(zip, LIBRARY_PATH));
+		} finally {
+			zip.close();
+		}
+	}
+
+	@Test
+	public void testMovedStore() throws IOException
+	{
+		ZipFile zip = archive(manifest(LibraryStore.OMITTED, "/no/such/store", 3));
+		try {
+			assertNull(LibraryStore.findLibrary(zip, LIBRARY_PATH));
+			System.setProperty(LibraryStore.LOCATION_PROPERTY, _store.getAbsolutePath());
+			assertEquals(new File(_store, ABC_HASH), LibraryStore.findLibrary(zip, LIBRARY_PATH));
+		} finally {
+			zip.close();
+		}
+	}
+
+	@Test
+	public void testZipExtractionResolver() throws IOException
+	{
+		ZipExtractionResolver resolver = new ZipExtractionResolver(archive(manifest(LibraryStore.OMITTED, _store.getAbsolutePath(), 3)));
+		try {
+			assertEquals(new File(_store, ABC_HASH), resolver.findFileWithFullPath(LIBRARY_PATH));
+			/* the store is shared, so releasing the resolver must not delete the library */
+			resolver.releaseResources();
+			assertTrue(new File(_store, ABC_HASH).isFile());
+		} finally {
+			resolver.closeOpenFiles();
+		}
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.j9ddr.corereaders.memory;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+import javax.imageio.stream.FileImageInputStream;
+import javax.imageio.stream.ImageInputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestBlockCompressedImageInputStream
+{
+	private static final int BLOCK_SIZE = 4096;
+
+	private File compressed;
+
+	private byte[] original;
+
+	@Before
+	public void setUp() throws IOException
+	{
+		/* partly compressible data spanning several blocks and a short final block */
+		original = new byte[BLOCK_SIZE * 5 + 123];
+		Random random = new Random(42);
+		for (int i = 0; i < original.length; i++) {
+			original[i] = (byte) (((i % 7) == 0) ? random.nextInt() : i);
+		}
+
+		compressed = File.createTempFile("core", ".gz");
+		try (OutputStream out = new BlockCompressedOutputStream(new FileOutputStream(compressed), BLOCK_SIZE, Deflater.DEFAULT_COMPRESSION)) {
+			out.write(original, 0, 100);
+			out.write(original[100]);
+			out.write(original, 101, original.length - 101);
+		}
+	}
+
+	@After
+	public void tearDown()
+	{
+		compressed.delete();
+	}
+
+	@Test
+	public void testDetection() throws IOException
+	{
+		assertTrue(BlockCompressedImageInputStream.isBlockCompressed(compressed));
+
+		File plain = File.createTempFile("core", null);
+		try {
+			try (OutputStream out = new FileOutputStream(plain)) {
+				out.write(original);
+			}
+			assertFalse(BlockCompressedImageInputStream.isBlockCompressed(plain));
+
+			ImageInputStream in = BlockCompressedImageInputStream.open(plain);
+			assertTrue(in instanceof FileImageInputStream);
+			in.close();
+		} finally {
+			plain.delete();
+		}
+	}
+
+	@Test
+	public void testSequentialRead() throws IOException
+	{
+		try (ImageInputStream in = BlockCompressedImageInputStream.open(compressed)) {
+			assertTrue(in instanceof BlockCompressedImageInputStream);
+			assertEquals(original.length, in.length());
+
+			byte[] data = new byte[original.length];
+			in.readFully(data);
+			assertArrayEquals(original, data);
+			assertEquals(-1, in.read());
+			assertEquals(-1, in.read(data, 0, 1));
+		}
+	}
+
+	@Test
+	public void testRandomAccess() throws IOException
+	{
+		Random random = new Random(7);
+
+		/* a single cached block forces blocks to be inflated again */
+		try (ImageInputStream in = new BlockCompressedImageInputStream(compressed, 1)) {
+			for (int i = 0; i < 1000; i++) {
+				int position = random.nextInt(original.length);
+				int length = Math.min(random.nextInt(BLOCK_SIZE * 2), original.length - position);
+				byte[] data = new byte[length];
+
+				in.seek(position);
+				in.readFully(data);
+				for (int j = 0; j < length; j++) {
+					assertEquals(original[position + j], data[j]);
+				}
+				assertEquals(position + length, in.getStreamPosition());
+			}
+
+			in.seek(BLOCK_SIZE - 2);
+			int expected = ((original[BLOCK_SIZE - 2] & 0xFF) << 24) | ((original[BLOCK_SIZE - 1] & 0xFF) << 16)
+					| ((original[BLOCK_SIZE] & 0xFF) << 8) | (original[BLOCK_SIZE + 1] & 0xFF);
+			assertEquals(expected, in.readInt());
+		}
+	}
+
+	@Test
+	public void testGunzipCompatible() throws IOException
+	{
+		try (InputStream in = new GZIPInputStream(new FileInputStream(compressed))) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[1024];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				out.write(buffer, 0, read);
+			}
+			assertArrayEquals(original, out.toByteArray());
+		}
+	}
+
+	@Test
+	public void testCorruptBlock() throws IOException
+	{
+		try (RandomAccessFile file = new RandomAccessFile(compressed, "rw")) {
+			/* flip a bit in the trailer CRC of the first block */
+			int memberLength = Integer.reverseBytes(readInt(file, 16));
+			file.seek(memberLength - 8);
+			int crc = file.read();
+			file.seek(memberLength - 8);
+			file.write(crc ^ 1);
+		}
+
+		try (ImageInputStream in = new BlockCompressedImageInputStream(compressed)) {
+			in.seek(BLOCK_SIZE);
+			in.read();
+			in.seek(0);
+			try {
+				in.read();
+				fail("Expected IOException");
+			} catch (IOException e) {
+				// expected
+			}
+		}
+	}
+
+	private static int readInt(RandomAccessFile file, long offset) throws IOException
+	{
+		file.seek(offset);
+		return file.readInt();
+	}
+
+}
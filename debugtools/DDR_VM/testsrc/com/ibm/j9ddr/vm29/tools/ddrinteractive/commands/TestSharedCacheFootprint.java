@@ -0,0 +1,187 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.j9ddr.vm29.tools.ddrinteractive.commands;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class TestSharedCacheFootprint
+{
+	private static List<String> csv(SharedCacheFootprint footprint) throws UnsupportedEncodingException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(bytes, true, "UTF-8");
+		footprint.printCSV(out);
+		return Arrays.asList(bytes.toString("UTF-8").split("\\r?\\n"));
+	}
+
+	private static String json(SharedCacheFootprint footprint) throws UnsupportedEncodingException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(bytes, true, "UTF-8");
+		footprint.printJSON(out);
+		return bytes.toString("UTF-8").replace("\r\n", "\n");
+	}
+
+	@Test
+	public void testAddItem() throws Exception
+	{
+		SharedCacheFootprint footprint = new SharedCacheFootprint();
+		footprint.addItem("ROMCLASS", 100, false);
+		footprint.addItem("ROMCLASS", 50, false);
+		footprint.addItem("ROMCLASS", 30, true);
+		footprint.addItem("AOT", 200, true);
+
+		List<String> lines = csv(footprint);
+		assertEquals("section,key,count,bytes,staleCount,staleBytes", lines.get(0));
+		assertTrue(lines.contains("type,AOT,0,0,1,200"));
+		assertTrue(lines.contains("type,ROMCLASS,2,150,1,30"));
+		/* the types are sorted by name */
+		assertTrue(lines.indexOf("type,AOT,0,0,1,200") < lines.indexOf("type,ROMCLASS,2,150,1,30"));
+	}
+
+	@Test
+	public void testROMClassCountedOncePerPackage() throws Exception
+	{
+		SharedCacheFootprint footprint = new SharedCacheFootprint();
+		footprint.addROMClass(0x1000, "java/lang/String", 400, false);
+		footprint.addROMClass(0x1000, "java/lang/String", 400, false);
+		footprint.addROMClass(0x2000, "java/lang/Object", 100, false);
+		footprint.addROMClass(0x3000, "Default", 10, false);
+
+		List<String> lines = csv(footprint);
+		assertTrue(lines.contains("package,java.lang,2,500,0,0"));
+		assertTrue(lines.contains("package,,1,10,0,0"));
+	}
+
+	@Test
+	public void testStaleLiveSplit() throws Exception
+	{
+		SharedCacheFootprint footprint = new SharedCacheFootprint();
+		/* only stale entries refer to this class */
+		footprint.addROMClass(0x1000, "p/Stale", 100, true);
+		footprint.addROMClass(0x1000, "p/Stale", 100, true);
+		/* a stale entry is followed by a live one, so the class is live */
+		footprint.addROMClass(0x2000, "p/Revived", 40, true);
+		footprint.addROMClass(0x2000, "p/Revived", 40, false);
+		/* a live entry is followed by a stale one, so the class stays live */
+		footprint.addROMClass(0x3000, "p/Live", 7, false);
+		footprint.addROMClass(0x3000, "p/Live", 7, true);
+
+		footprint.addClasspathROMClass("/app/a.jar", 100, true);
+		footprint.addClasspathROMClass("/app/a.jar", 40, false);
+
+		footprint.addAOTMethod(0x10, 64, false);
+		footprint.addAOTMethod(0x10, 32, true);
+
+		List<String> lines = csv(footprint);
+		assertTrue(lines.contains("package,p,2,47,1,100"));
+		assertTrue(lines.contains("classpath,/app/a.jar,1,40,1,100"));
+		assertTrue(lines.contains("aot,none,1,64,1,32"));
+	}
+
+	@Test
+	public void testAOTHotness() throws Exception
+	{
+		SharedCacheFootprint footprint = new SharedCacheFootprint();
+		footprint.addAOTMethod(0x10, 100, false);
+		footprint.addAOTMethod(0x20, 200, false);
+		footprint.addAOTMethod(0x30, 300, false);
+		footprint.addAttachedData(0x10, true);
+		footprint.addAttachedData(0x10, false);
+		footprint.addAttachedData(0x20, false);
+
+		List<String> lines = csv(footprint);
+		assertTrue(lines.contains("aot,jithint,1,100,0,0"));
+		assertTrue(lines.contains("aot,jitprofile,1,200,0,0"));
+		assertTrue(lines.contains("aot,none,1,300,0,0"));
+	}
+
+	@Test
+	public void testCSV() throws Exception
+	{
+		SharedCacheFootprint footprint = new SharedCacheFootprint();
+		footprint.addClasspathROMClass("/a,b/\"c\".jar", 8, false);
+		SharedCacheFootprint.Layer layer = new SharedCacheFootprint.Layer(0);
+		layer.totalBytes = 4096;
+		layer.softmxBytes = -1;
+		footprint.addLayer(layer);
+
+		List<String> lines = csv(footprint);
+		assertTrue(lines.contains("classpath,\"/a,b/\"\"c\"\".jar\",1,8,0,0"));
+		assertTrue(lines.contains("layer0,totalBytes,,4096,,"));
+		assertTrue(lines.contains("layer0,softmxBytes,,-1,,"));
+		assertTrue(lines.contains("layer0,jitBytes,,0,,"));
+		assertEquals(1 + 1 + 3 + 9, lines.size());
+	}
+
+	@Test
+	public void testJSON() throws Exception
+	{
+		SharedCacheFootprint footprint = new SharedCacheFootprint();
+		footprint.addItem("ROMCLASS", 100, false);
+		footprint.addROMClass(0x1000, "p/Q", 100, true);
+		footprint.addClasspathROMClass("C:\\lib\\\"x\".jar", 100, true);
+		SharedCacheFootprint.Layer layer = new SharedCacheFootprint.Layer(1);
+		layer.totalBytes = 10;
+		layer.usedBytes = 5;
+		footprint.addLayer(layer);
+
+		String expected = "{\n"
+				+ "  \"types\": [\n"
+				+ "    {\"name\": \"ROMCLASS\", \"count\": 1, \"bytes\": 100, \"staleCount\": 0, \"staleBytes\": 0}\n"
+				+ "  ],\n"
+				+ "  \"packages\": [\n"
+				+ "    {\"name\": \"p\", \"count\": 0, \"bytes\": 0, \"staleCount\": 1, \"staleBytes\": 100}\n"
+				+ "  ],\n"
+				+ "  \"classpaths\": [\n"
+				+ "    {\"name\": \"C:\\\\lib\\\\\\\"x\\\".jar\", \"count\": 0, \"bytes\": 0, \"staleCount\": 1, \"staleBytes\": 100}\n"
+				+ "  ],\n"
+				+ "  \"aot\": [\n"
+				+ "    {\"name\": \"jithint\", \"count\": 0, \"bytes\": 0, \"staleCount\": 0, \"staleBytes\": 0},\n"
+				+ "    {\"name\": \"jitprofile\", \"count\": 0, \"bytes\": 0, \"staleCount\": 0, \"staleBytes\": 0},\n"
+				+ "    {\"name\": \"none\", \"count\": 0, \"bytes\": 0, \"staleCount\": 0, \"staleBytes\": 0}\n"
+				+ "  ],\n"
+				+ "  \"layers\": [\n"
+				+ "    {\"layer\": 1, \"totalBytes\": 10, \"usedBytes\": 5, \"softmxBytes\": 0, \"freeAvailableBytes\": 0,"
+				+ " \"unusedBytes\": 0, \"debugUnusedBytes\": 0, \"romClassBytes\": 0, \"aotBytes\": 0, \"jitBytes\": 0}\n"
+				+ "  ]\n"
+				+ "}\n";
+		assertEquals(expected, json(footprint));
+	}
+
+	@Test
+	public void testJSONEscapesControlCharacters() throws Exception
+	{
+		SharedCacheFootprint footprint = new SharedCacheFootprint();
+		footprint.addItem("a\tb", 1, false);
+
+		assertTrue(json(footprint).contains("{\"name\": \"a\\u0009b\""));
+	}
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.j9ddr.vm29.tools.ddrinteractive.gccheck;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestCheckCheckpoint
+{
+	private File _file;
+
+	@Before
+	public void setUp() throws IOException
+	{
+		_file = File.createTempFile("gccheck", ".checkpoint");
+		_file.delete();
+	}
+
+	@After
+	public void tearDown()
+	{
+		new File(_file.getPath() + ".findings").delete();
+		_file.delete();
+	}
+
+	@Test
+	public void testRoundTrip() throws IOException
+	{
+		CheckCheckpoint checkpoint = new CheckCheckpoint(_file);
+		assertFalse(checkpoint.load());
+		checkpoint.setOptions("all,nocheck");
+		checkpoint.setRegionRange(4, 9);
+		checkpoint.setNextRegion(6);
+		checkpoint.setCheckComplete("objectheap");
+		checkpoint.setErrorCount(3);
+		checkpoint.setOwnableSynchronizerCountOnHeap(12);
+		checkpoint.save();
+
+		CheckCheckpoint resumed = new CheckCheckpoint(_file);
+		assertTrue(resumed.load());
+		assertEquals("all,nocheck", resumed.getOptions());
+		assertEquals(4, resumed.getRegionStart());
+		assertEquals(9, resumed.getRegionEnd());
+		assertEquals(6, resumed.getNextRegion());
+		assertTrue(resumed.isCheckComplete("objectheap"));
+		assertFalse(resumed.isCheckComplete("classheap"));
+		assertEquals(3, resumed.getErrorCount());
+		assertEquals(12, resumed.getOwnableSynchronizerCountOnHeap());
+		assertFalse(resumed.isComplete());
+	}
+
+	@Test
+	public void testFindingsFollowSaves() throws IOException
+	{
+		CheckCheckpoint checkpoint = new CheckCheckpoint(_file);
+		checkpoint.load();
+		ByteArrayOutputStream console = new ByteArrayOutputStream();
+		PrintStream out = checkpoint.tee(new PrintStream(console, true));
+		out.print("first\n");
+		assertEquals(0, checkpoint.getFindingsFile().length());
+		checkpoint.save();
+		out.print("second\n");
+
+		/* output after the last save is not part of the findings */
+		assertEquals("first\n", readFindings(checkpoint));
+		assertEquals("first\nsecond\n", new String(console.toByteArray(), StandardCharsets.UTF_8));
+		checkpoint.save();
+		assertEquals("first\nsecond\n", readFindings(checkpoint));
+	}
+
+	@Test
+	public void testInterruptedSaveDiscardsFindings() throws IOException
+	{
+		CheckCheckpoint checkpoint = new CheckCheckpoint(_file);
+		checkpoint.load();
+		PrintStream out = checkpoint.tee(new PrintStream(new ByteArrayOutputStream()));
+		out.print("region 0\n");
+		checkpoint.setNextRegion(1);
+		checkpoint.save();
+
+		/* findings appended by a run that stopped before it recorded its progress */
+		try (OutputStream findings = new FileOutputStream(checkpoint.getFindingsFile(), true)) {
+			findings.write("region 1\n".getBytes(StandardCharsets.UTF_8));
+		}
+
+		CheckCheckpoint resumed = new CheckCheckpoint(_file);
+		assertTrue(resumed.load());
+		assertEquals(1, resumed.getNextRegion());
+		assertEquals("region 0\n", readFindings(resumed));
+
+		out = resumed.tee(new PrintStream(new ByteArrayOutputStream()));
+		out.print("region 1\n");
+		resumed.setNextRegion(2);
+		resumed.save();
+		assertEquals("region 0\nregion 1\n", readFindings(resumed));
+	}
+
+	@Test
+	public void testNewCheckDiscardsOldFindings() throws IOException
+	{
+		CheckCheckpoint checkpoint = new CheckCheckpoint(_file);
+		try (OutputStream findings = new FileOutputStream(checkpoint.getFindingsFile())) {
+			findings.write("stale\n".getBytes(StandardCharsets.UTF_8));
+		}
+		assertFalse(checkpoint.load());
+		assertEquals("", readFindings(checkpoint));
+	}
+
+	@Test
+	public void testComplete() throws IOException
+	{
+		CheckCheckpoint checkpoint = new CheckCheckpoint(_file);
+		checkpoint.load();
+		checkpoint.setComplete();
+		checkpoint.save();
+
+		CheckCheckpoint resumed = new CheckCheckpoint(_file);
+		assertTrue(resumed.load());
+		assertTrue(resumed.isComplete());
+	}
+
+	private static String readFindings(CheckCheckpoint checkpoint) throws IOException
+	{
+		File findings = checkpoint.getFindingsFile();
+		if (!findings.exists()) {
+			return "";
+		}
+		return new String(Files.readAllBytes(findings.toPath()), StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.java.diagnostics.utils.plugins.impl;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Collections;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.Test;
+
+import com.ibm.java.diagnostics.utils.plugins.Annotation;
+import com.ibm.java.diagnostics.utils.plugins.ClassInfo;
+import com.ibm.java.diagnostics.utils.plugins.DTFJPlugin;
+
+public class TestPluginIndex
+{
+	@DTFJPlugin(version = "1.*", runtime = false)
+	public static class SamplePlugin implements Runnable
+	{
+		@Override
+		public void run()
+		{
+		}
+	}
+
+	private static final String SAMPLE_ENTRY = SamplePlugin.class.getName().replace('.', '/') + ".class";
+
+	private static InputStream openSample()
+	{
+		return TestPluginIndex.class.getResourceAsStream("/" + SAMPLE_ENTRY);
+	}
+
+	private static void checkSample(PluginIndex.ClassRecord record) throws Exception
+	{
+		assertEquals(SamplePlugin.class.getName(), record.classname);
+		assertEquals(Object.class.getName(), record.superName);
+		ClassInfo info = record.toClassInfo(new URL("file:/sample"));
+		// interfaces are recorded in their internal form, as ASM reports them
+		assertTrue(info.hasInterface("java/lang/Runnable"));
+		Annotation annotation = info.getAnnotation("L" + DTFJPlugin.class.getName().replace('.', '/') + ";");
+		assertNotNull(annotation);
+		assertEquals("1.*", annotation.getValues().get("version"));
+		assertEquals(Boolean.FALSE, annotation.getValues().get("runtime"));
+	}
+
+	@Test
+	public void testScanClass() throws Exception
+	{
+		try (InputStream in = openSample()) {
+			PluginIndex.ClassRecord record = PluginIndex.scanClass(in);
+			checkSample(record);
+			assertTrue(record.isPersistable());
+		}
+	}
+
+	@Test
+	public void testGetChecksIdentity() throws Exception
+	{
+		PluginIndex index = new PluginIndex();
+		PluginIndex.ClassRecord record;
+		try (InputStream in = openSample()) {
+			record = PluginIndex.scanClass(in);
+		}
+		assertFalse(index.isModified());
+		index.put(new PluginIndex.Source("/plugins/sample.jar", 100, 200, Collections.singletonList(record)));
+		assertTrue(index.isModified());
+		assertNotNull(index.get("/plugins/sample.jar", 100, 200));
+		assertNull(index.get("/plugins/sample.jar", 101, 200));
+		assertNull(index.get("/plugins/sample.jar", 100, 201));
+		// a source whose identity is unknown is always scanned again
+		assertNull(index.get("/plugins/sample.jar", -1, 200));
+		assertNull(index.get("/plugins/other.jar", 100, 200));
+	}
+
+	@Test
+	public void testStoreAndLoad() throws Exception
+	{
+		PluginIndex index = new PluginIndex();
+		PluginIndex.ClassRecord record;
+		try (InputStream in = openSample()) {
+			record = PluginIndex.scanClass(in);
+		}
+		record.entryName = SAMPLE_ENTRY;
+		String key = PluginIndex.MODULE_KEY_PREFIX + "sample";
+		index.put(new PluginIndex.Source(key, 10, 20, Collections.singletonList(record)));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		index.store(out);
+
+		PluginIndex loaded = new PluginIndex();
+		loaded.load(new ByteArrayInputStream(out.toByteArray()));
+		assertFalse(loaded.isModified());
+		PluginIndex.Source source = loaded.get(key, 10, 20);
+		assertNotNull(source);
+		assertEquals(1, source.classes.size());
+		assertEquals(SAMPLE_ENTRY, source.classes.get(0).entryName);
+		checkSample(source.classes.get(0));
+	}
+
+	@Test
+	public void testLoadRejectsInvalidIndex() throws Exception
+	{
+		PluginIndex index = new PluginIndex();
+		try {
+			index.load(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 }));
+			fail("expected an IOException");
+		} catch (IOException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testScanJarFile() throws Exception
+	{
+		File dir = File.createTempFile("pluginindex", ".dir");
+		assertTrue(dir.delete() && dir.mkdir());
+		File jar = new File(dir, "plugins.jar");
+		File indexFile = new File(dir, "plugins.idx");
+		try {
+			try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar)); InputStream in = openSample()) {
+				out.putNextEntry(new JarEntry("META-INF/readme.txt"));
+				out.write(new byte[] { 'x' });
+				out.putNextEntry(new JarEntry(SAMPLE_ENTRY));
+				byte[] buffer = new byte[4096];
+				for (int count; (count = in.read(buffer)) > 0;) {
+					out.write(buffer, 0, count);
+				}
+			}
+
+			PluginIndex.Source source = PluginIndex.scanJarFile(jar);
+			assertEquals(jar.getAbsolutePath(), source.key);
+			assertEquals(1, source.classes.size());
+			assertEquals(SAMPLE_ENTRY, source.classes.get(0).entryName);
+			checkSample(source.classes.get(0));
+
+			// the index is only kept for sources which still exist
+			PluginIndex index = new PluginIndex();
+			index.put(source);
+			index.put(new PluginIndex.Source(new File(dir, "missing.jar").getAbsolutePath(), 1, 1, source.classes));
+			index.store(indexFile);
+			assertFalse(index.isModified());
+
+			PluginIndex loaded = new PluginIndex();
+			loaded.load(indexFile);
+			assertNotNull(loaded.get(jar.getAbsolutePath(), jar.length(), jar.lastModified()));
+			assertNull(loaded.get(new File(dir, "missing.jar").getAbsolutePath(), 1, 1));
+		} finally {
+			jar.delete();
+			indexFile.delete();
+			dir.delete();
+		}
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.jvm.dtfjview.heapdump;
+
+import static org.junit.Assert.*;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+import org.junit.Test;
+
+public class TestHistogramHeapDumpFormatter
+{
+	private static final long STRING_CLASS = 0x1000;
+	private static final long OBJECT_CLASS = 0x2000;
+	private static final long CLASS_CLASS = 0x3000;
+	private static final long BYTE_ARRAY_CLASS = 0x4000;
+	private static final long STRING_ARRAY_CLASS = 0x5000;
+
+	private static final int TYPE_BYTE = 4;
+
+	private static ReferenceIterator noReferences()
+	{
+		return new LongArrayReferenceIterator(new long[0]);
+	}
+
+	private static String histogram(HistogramHeapDumpFormatter formatter)
+	{
+		StringWriter text = new StringWriter();
+		try (PrintWriter writer = new PrintWriter(text)) {
+			formatter.writeHistogram(writer);
+		}
+		return text.toString();
+	}
+
+	private static String suspects(HistogramHeapDumpFormatter formatter, double threshold, int limit)
+	{
+		StringWriter text = new StringWriter();
+		try (PrintWriter writer = new PrintWriter(text)) {
+			formatter.writeLeakSuspects(writer, threshold, limit);
+		}
+		return text.toString();
+	}
+
+	private static String[] lines(String text)
+	{
+		return text.split("\\r?\\n");
+	}
+
+	@Test
+	public void testHistogramOrderedBySize() throws Exception
+	{
+		HistogramHeapDumpFormatter formatter = new HistogramHeapDumpFormatter("test", true, 10);
+
+		formatter.addObject(0x10, STRING_CLASS, "java/lang/String", 24, 0, noReferences());
+		formatter.addObject(0x28, STRING_CLASS, "java/lang/String", 24, 0, noReferences());
+		formatter.addObject(0x40, OBJECT_CLASS, "java/lang/Object", 16, 0, noReferences());
+		formatter.addPrimitiveArray(0x50, BYTE_ARRAY_CLASS, TYPE_BYTE, 1040, 0, 1024);
+		formatter.addObjectArray(0x460, STRING_ARRAY_CLASS, "[Ljava/lang/String;", STRING_CLASS, "java/lang/String",
+				32, 4, 0, noReferences());
+
+		assertEquals(5, formatter.getTotalObjects());
+		assertEquals(1136, formatter.getTotalBytes());
+
+		String[] lines = lines(histogram(formatter));
+		assertEquals(5, lines.length);
+		assertEquals("class,address,instances,bytes", lines[0]);
+		assertEquals("[B,0x4000,1,1040", lines[1]);
+		assertEquals("java/lang/String,0x1000,2,48", lines[2]);
+		assertEquals("[Ljava/lang/String;,0x5000,1,32", lines[3]);
+		assertEquals("java/lang/Object,0x2000,1,16", lines[4]);
+	}
+
+	@Test
+	public void testClassObjectsCountedAsClassInstances() throws Exception
+	{
+		HistogramHeapDumpFormatter formatter = new HistogramHeapDumpFormatter("test", true, 10);
+
+		formatter.addClass(CLASS_CLASS, "java/lang/Class", OBJECT_CLASS, 100, 80, 0, noReferences());
+		formatter.addClass(STRING_CLASS, "java/lang/String", OBJECT_CLASS, 60, 24, 0, noReferences());
+		// classes are repeated when each heap has its own heapdump
+		formatter.addClass(STRING_CLASS, "java/lang/String", OBJECT_CLASS, 60, 24, 0, noReferences());
+		formatter.addObject(0x10, CLASS_CLASS, "java/lang/Class", 80, 0, noReferences());
+		formatter.addObject(0x60, STRING_CLASS, "java/lang/String", 24, 0, noReferences());
+
+		assertEquals(4, formatter.getTotalObjects());
+		assertEquals(264, formatter.getTotalBytes());
+
+		String[] lines = lines(histogram(formatter));
+		assertEquals(3, lines.length);
+		assertEquals("java/lang/Class,0x3000,3,240", lines[1]);
+		assertEquals("java/lang/String,0x1000,1,24", lines[2]);
+	}
+
+	@Test
+	public void testClassNamesQuoted() throws Exception
+	{
+		HistogramHeapDumpFormatter formatter = new HistogramHeapDumpFormatter("test", true, 0);
+
+		formatter.addObject(0x10, OBJECT_CLASS, "odd,\"name\"", 16, 0, noReferences());
+
+		assertEquals("\"odd,\"\"name\"\"\",0x2000,1,16", lines(histogram(formatter))[1]);
+	}
+
+	@Test
+	public void testLeakSuspects() throws Exception
+	{
+		HistogramHeapDumpFormatter formatter = new HistogramHeapDumpFormatter("test", true, 2);
+
+		formatter.addPrimitiveArray(0x100, BYTE_ARRAY_CLASS, TYPE_BYTE, 800, 0, 784);
+		formatter.addPrimitiveArray(0x500, BYTE_ARRAY_CLASS, TYPE_BYTE, 100, 0, 84);
+		for (int i = 0; i < 4; i++) {
+			formatter.addObject(0x1000 + (i * 32), STRING_CLASS, "java/lang/String", 25, 0, noReferences());
+		}
+
+		String text = suspects(formatter, 50.0, 2);
+		assertTrue(text, text.contains("Objects: 6, total size: 1000 bytes, classes with instances: 2"));
+		assertTrue(text, text.contains(" 90.0%  900 bytes in 2 instances (average 450 bytes) of [B"));
+		assertFalse(text, text.contains("average 25 bytes"));
+		assertTrue(text, text.contains("Largest 2 objects:"));
+		assertTrue(text, text.contains(" 80.0%  800 bytes at 0x100, [B with 784 elements"));
+		assertTrue(text, text.contains(" 10.0%  100 bytes at 0x500, [B with 84 elements"));
+		// the strings are smaller than the two largest objects kept
+		assertFalse(text, text.contains("bytes at 0x1000"));
+
+		text = suspects(formatter, 95.0, 2);
+		assertTrue(text, text.contains("using more than 95.0% of the heap):" + System.lineSeparator() + "\tnone"));
+	}
+
+	@Test
+	public void testEmptyHeap() throws Exception
+	{
+		HistogramHeapDumpFormatter formatter = new HistogramHeapDumpFormatter("test", true, 5);
+
+		assertEquals(1, lines(histogram(formatter)).length);
+		String text = suspects(formatter, 10.0, 5);
+		assertTrue(text, text.contains("Objects: 0, total size: 0 bytes, classes with instances: 0"));
+		assertTrue(text, text.contains("Largest 0 objects:"));
+	}
+
+	@Test
+	public void testInvalidPrimitiveType() throws Exception
+	{
+		HistogramHeapDumpFormatter formatter = new HistogramHeapDumpFormatter("test", true, 5);
+
+		try {
+			formatter.addPrimitiveArray(0x10, BYTE_ARRAY_CLASS, 8, 16, 0, 0);
+			fail("expected IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		assertEquals(0, formatter.getTotalObjects());
+	}
+}
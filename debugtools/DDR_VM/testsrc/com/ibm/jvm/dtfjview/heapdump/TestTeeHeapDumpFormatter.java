@@ -0,0 +1,159 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.jvm.dtfjview.heapdump;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class TestTeeHeapDumpFormatter
+{
+	/**
+	 * Records each call, with the references it could read, as a line of text.
+	 */
+	private static final class RecordingFormatter extends HeapDumpFormatter
+	{
+		final List<String> records = new ArrayList<String>();
+		boolean closed = false;
+
+		RecordingFormatter()
+		{
+			super("test", true);
+		}
+
+		private static String references(ReferenceIterator references)
+		{
+			StringBuilder text = new StringBuilder("[");
+			while (references.hasNext()) {
+				if (text.length() > 1) {
+					text.append(',');
+				}
+				text.append(Long.toHexString(references.nextLong()));
+			}
+			return text.append(']').toString();
+		}
+
+		public void addClass(long address, String name, long superClassAddress, int size, long instanceSize,
+				int hashCode, ReferenceIterator references) throws IOException
+		{
+			records.add("class " + name + " " + size + " " + instanceSize + " " + references(references));
+		}
+
+		public void addObject(long address, long classAddress, String className, int size, int hashCode,
+				ReferenceIterator references) throws IOException
+		{
+			records.add("object " + Long.toHexString(address) + " " + className + " " + size + " " + references(references));
+		}
+
+		public void addPrimitiveArray(long address, long arrayClassAddress, int type, long size, int hashCode,
+				int numberOfElements) throws IOException, IllegalArgumentException
+		{
+			records.add("primitive " + Long.toHexString(address) + " " + type + " " + size + " " + numberOfElements);
+		}
+
+		public void addObjectArray(long address, long arrayClassAddress, String arrayClassName,
+				long elementClassAddress, String elementClassName, long size, int numberOfElements, int hashCode,
+				ReferenceIterator references) throws IOException
+		{
+			records.add("array " + Long.toHexString(address) + " " + arrayClassName + " " + elementClassName + " "
+					+ size + " " + numberOfElements + " " + references(references));
+		}
+
+		public void close() throws IOException
+		{
+			closed = true;
+		}
+	}
+
+	private static void addRecords(HeapDumpFormatter formatter) throws IOException
+	{
+		formatter.addClass(0x100, "example/Node", 0x200, 64, 24, 0, new LongArrayReferenceIterator(new long[] { 0x200 }));
+		formatter.addObject(0x1000, 0x100, "example/Node", 24, 7, new LongArrayReferenceIterator(new long[] { 0x1018, 0x2000 }));
+		formatter.addPrimitiveArray(0x1018, 0x300, 4, 32, 0, 16);
+		formatter.addObjectArray(0x2000, 0x400, "[Lexample/Node;", 0x100, "example/Node", 32, 2, 0,
+				new LongArrayReferenceIterator(new long[] { 0x1000, 0 }));
+	}
+
+	@Test
+	public void testBothFormattersSeeEveryRecord() throws Exception
+	{
+		RecordingFormatter primary = new RecordingFormatter();
+		RecordingFormatter secondary = new RecordingFormatter();
+		RecordingFormatter expected = new RecordingFormatter();
+		TeeHeapDumpFormatter tee = new TeeHeapDumpFormatter(primary, secondary, "test", true);
+
+		addRecords(tee);
+		addRecords(expected);
+
+		assertEquals(4, expected.records.size());
+		// the references are reset after the primary formatter, so both read all of them
+		assertEquals(expected.records, primary.records);
+		assertEquals(expected.records, secondary.records);
+	}
+
+	@Test
+	public void testSecondaryOnly() throws Exception
+	{
+		RecordingFormatter secondary = new RecordingFormatter();
+		RecordingFormatter expected = new RecordingFormatter();
+		TeeHeapDumpFormatter tee = new TeeHeapDumpFormatter(null, secondary, "test", true);
+
+		addRecords(tee);
+		addRecords(expected);
+		tee.close();
+
+		assertEquals(expected.records, secondary.records);
+		assertFalse(secondary.closed);
+	}
+
+	@Test
+	public void testCloseOnlyClosesPrimary() throws Exception
+	{
+		RecordingFormatter primary = new RecordingFormatter();
+		RecordingFormatter secondary = new RecordingFormatter();
+		TeeHeapDumpFormatter tee = new TeeHeapDumpFormatter(primary, secondary, "test", true);
+
+		tee.close();
+
+		assertTrue(primary.closed);
+		assertFalse(secondary.closed);
+	}
+
+	@Test
+	public void testFeedsHistogram() throws Exception
+	{
+		RecordingFormatter primary = new RecordingFormatter();
+		HistogramHeapDumpFormatter histogram = new HistogramHeapDumpFormatter("test", true, 3);
+		TeeHeapDumpFormatter tee = new TeeHeapDumpFormatter(primary, histogram, "test", true);
+
+		addRecords(tee);
+
+		assertEquals(4, primary.records.size());
+		// one class object, one object and two arrays
+		assertEquals(4, histogram.getTotalObjects());
+		assertEquals(64 + 24 + 32 + 32, histogram.getTotalBytes());
+	}
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.jvm.j9.dump.extract;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestParallelZipWriter
+{
+	private static final int CHUNK_SIZE = 1000;
+
+	private File _file;
+
+	@Before
+	public void setUp() throws IOException
+	{
+		_file = File.createTempFile("parallelzip", ".zip");
+	}
+
+	@After
+	public void tearDown()
+	{
+		_file.delete();
+	}
+
+	private static byte[] data(int size, long seed)
+	{
+		byte[] data = new byte[size];
+		Random random = new Random(seed);
+		/* mix compressible runs with random bytes */
+		for (int i = 0; i < size; i++) {
+			data[i] = ((i / 64) % 2 == 0) ? (byte) (i / 64) : (byte) random.nextInt();
+		}
+		return data;
+	}
+
+	private static byte[] readAll(InputStream in) throws IOException
+	{
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[4096];
+		int count;
+		while ((count = in.read(buffer)) != -1) {
+			out.write(buffer, 0, count);
+		}
+		return out.toByteArray();
+	}
+
+	private Map<String, byte[]> writeArchive(int threads) throws IOException
+	{
+		Map<String, byte[]> contents = new LinkedHashMap<String, byte[]>();
+		contents.put("empty", new byte[0]);
+		contents.put("small.txt", data(100, 1));
+		contents.put("exactly-one-chunk", data(CHUNK_SIZE, 2));
+		contents.put("/abs/path/to/core.dmp", data((CHUNK_SIZE * 37) + 11, 3));
+		contents.put("chunk-multiple", data(CHUNK_SIZE * 8, 4));
+
+		ParallelZipWriter zip = new ParallelZipWriter(new FileOutputStream(_file), threads, CHUNK_SIZE, Deflater.DEFAULT_COMPRESSION);
+		try {
+			for (Map.Entry<String, byte[]> entry : contents.entrySet()) {
+				if (entry.getKey().startsWith("/")) {
+					zip.addEntry(entry.getKey(), 0, new ByteArrayInputStream(entry.getValue()));
+				} else {
+					zip.addEntry(entry.getKey(), System.currentTimeMillis(), entry.getValue());
+				}
+			}
+		} finally {
+			zip.close();
+		}
+		return contents;
+	}
+
+	@Test
+	public void testReadWithZipFile() throws IOException
+	{
+		Map<String, byte[]> contents = writeArchive(4);
+		ZipFile zip = new ZipFile(_file);
+		try {
+			assertEquals(contents.size(), zip.size());
+			Enumeration<? extends ZipEntry> entries = zip.entries();
+			for (String name : contents.keySet()) {
+				ZipEntry entry = entries.nextElement();
+				assertEquals(name, entry.getName());
+				assertEquals(ZipEntry.DEFLATED, entry.getMethod());
+				assertEquals(contents.get(name).length, entry.getSize());
+				InputStream in = zip.getInputStream(entry);
+				try {
+					assertTrue(name, Arrays.equals(contents.get(name), readAll(in)));
+				} finally {
+					in.close();
+				}
+			}
+		} finally {
+			zip.close();
+		}
+	}
+
+	@Test
+	public void testReadWithZipInputStream() throws IOException
+	{
+		Map<String, byte[]> contents = writeArchive(3);
+		ZipInputStream in = new ZipInputStream(new FileInputStream(_file));
+		try {
+			for (String name : contents.keySet()) {
+				ZipEntry entry = in.getNextEntry();
+				assertNotNull(name, entry);
+				assertEquals(name, entry.getName());
+				assertTrue(name, Arrays.equals(contents.get(name), readAll(in)));
+			}
+			assertNull(in.getNextEntry());
+		} finally {
+			in.close();
+		}
+	}
+
+	@Test
+	public void testSingleThread() throws IOException
+	{
+		Map<String, byte[]> contents = writeArchive(1);
+		ZipFile zip = new ZipFile(_file);
+		try {
+			for (String name : contents.keySet()) {
+				InputStream in = zip.getInputStream(zip.getEntry(name));
+				try {
+					assertTrue(name, Arrays.equals(contents.get(name), readAll(in)));
+				} finally {
+					in.close();
+				}
+			}
+		} finally {
+			zip.close();
+		}
+	}
+
+	@Test
+	public void testAddAfterClose() throws IOException
+	{
+		ParallelZipWriter zip = new ParallelZipWriter(new FileOutputStream(_file), 2, CHUNK_SIZE, Deflater.DEFAULT_COMPRESSION);
+		zip.close();
+		try {
+			zip.addEntry("late", 0, new byte[1]);
+			fail("entry added to a closed archive");
+		} catch (IOException e) {
+			/* expected */
+		}
+	}
+}
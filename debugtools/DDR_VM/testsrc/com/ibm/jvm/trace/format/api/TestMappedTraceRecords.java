@@ -0,0 +1,166 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.jvm.trace.format.api;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Formats a trace file written by an OpenJ9 JVM twice, once with the records read from the
+ * file and once with the records backed by views of mapped windows of the file, and checks
+ * that the formatted tracepoints are the same.
+ */
+public class TestMappedTraceRecords {
+	/* small buffers give many records, and so many tracepoints split across records */
+	private static final String BUFFER_SIZE = "8k";
+
+	private File traceFile;
+
+	@Before
+	public void setUp() throws Exception {
+		String vmName = System.getProperty("java.vm.name", "");
+		assumeTrue("a trace file can only be written by an OpenJ9 JVM", vmName.contains("OpenJ9"));
+
+		traceFile = File.createTempFile("mappedtrace", ".trc");
+		String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+		ProcessBuilder builder = new ProcessBuilder(java,
+				"-Xtrace:buffers=" + BUFFER_SIZE + ",maximal=j9vm,output=" + traceFile.getAbsolutePath(),
+				"-version");
+		builder.inheritIO();
+		assertEquals(0, builder.start().waitFor());
+	}
+
+	@After
+	public void tearDown() {
+		if (traceFile != null) {
+			traceFile.delete();
+		}
+	}
+
+	private static TraceContext createContext(RandomAccessFile file) throws IOException {
+		String lib = System.getProperty("java.home") + File.separator + "lib" + File.separator;
+		byte header[] = new byte[(int)Math.min(file.length(), 1024 * 1024)];
+
+		file.seek(0);
+		file.readFully(header);
+
+		TraceContext context = TraceContext.getContext(header, header.length, new File(lib + "J9TraceFormat.dat"), null, null, null, null);
+		context.addMessageData(new File(lib + "OMRTraceFormat.dat"));
+		context.setRecordThreadNames(true);
+		return context;
+	}
+
+	/**
+	 * Formats the tracepoints of the file as the trace formatter does, except for the time stamp
+	 * which is left raw.
+	 *
+	 * @param windowRecords - the number of records in each mapped window, or 0 to read the records from the file
+	 */
+	private List<String> format(int windowRecords) throws IOException {
+		List<String> formatted = new ArrayList<String>();
+
+		try (RandomAccessFile file = new RandomAccessFile(traceFile, "r")) {
+			TraceContext context = createContext(file);
+			long recordSize = context.getRecordSize();
+			long offset = context.getHeaderSize();
+			long length = file.length();
+
+			assertEquals("the trace file does not hold whole records", 0, (length - offset) % recordSize);
+
+			while (offset < length) {
+				if (windowRecords == 0) {
+					context.addData(file, offset);
+					offset += recordSize;
+				} else {
+					long records = Math.min(windowRecords, (length - offset) / recordSize);
+					ByteBuffer window = file.getChannel().map(FileChannel.MapMode.READ_ONLY, offset, records * recordSize);
+
+					for (int r = 0; r < records; r++) {
+						context.addData(window, (int)(r * recordSize));
+					}
+					offset += records * recordSize;
+				}
+			}
+
+			Iterator itr = context.getTracepoints();
+			while (itr.hasNext()) {
+				TracePoint tracepoint;
+
+				try {
+					tracepoint = (TracePoint)itr.next();
+				} catch (MissingDataException e) {
+					formatted.add("missing " + e.getMissingBytes() + " bytes");
+					continue;
+				}
+
+				formatted.add(tracepoint.getRawTime()
+						+ " " + context.formatPointer(tracepoint.getThread().getThreadID())
+						+ " " + tracepoint.getComponent() + "(" + tracepoint.getContainerComponent() + ")." + tracepoint.getID()
+						+ " " + tracepoint.getType()
+						+ " " + tracepoint.getFormattedParameters());
+			}
+
+			/* any errors must be reported whichever way the records were read */
+			formatted.add("errors " + context.getErrorCount());
+		}
+
+		return formatted;
+	}
+
+	@Test
+	public void testSingleRecordWindows() throws IOException {
+		List<String> expected = format(0);
+
+		assertTrue("no tracepoints were formatted", expected.size() > 1);
+
+		/* every record boundary is also a window boundary, so each tracepoint split across two records
+		 * of a thread is split across two windows
+		 */
+		assertEquals(expected, format(1));
+	}
+
+	@Test
+	public void testMultipleRecordWindows() throws IOException {
+		List<String> expected = format(0);
+
+		assertTrue("no tracepoints were formatted", expected.size() > 1);
+
+		/* windows of a few records, with a shorter window at the end of the file unless the
+		 * record count happens to be a multiple of the window
+		 */
+		assertEquals(expected, format(3));
+		assertEquals(expected, format(7));
+	}
+}
@@ -36,6 +36,16 @@ public class BigDecimalExtension implements java.math.BigDecimal.BigDecimalExten
 	// IT MUST BE THE FIRST THING IN THE INITIALIZATION
 	private static final boolean DFP_HW_AVAILABLE = DFPCheckHWAvailable();
 
+	/* When there is no DFP hardware, operations on long lookaside operands can be
+	 * performed in software by Decimal64 if -Dcom.ibm.jit.softwareDecimal64=true
+	 * is specified. No BigDecimal is ever put into the DFP representation in this
+	 * mode, so the paths that create or consume DFP values fail and the classlib
+	 * keeps using the long lookaside representation. For the same reason
+	 * useExtension(), which tells the classlib to prefer the DFP representation,
+	 * stays false; only isAvailable() reports the software arithmetic.
+	 */
+	private static final boolean SOFTWARE_DFP = !DFP_HW_AVAILABLE && Decimal64.isEnabled();
+
 	/*
 	 *    public static final int    ROUND_CEILING  2
 	 *       DFP hardware uses the value 010 == 2
@@ -126,7 +136,7 @@ public class BigDecimalExtension implements java.math.BigDecimal.BigDecimalExten
 	}
 
 	public boolean isAvailable() {
-		return DFPHWAvailable();
+		return DFPHWAvailable() || SOFTWARE_DFP;
 	}
 
 	public boolean useExtension() {
@@ -138,6 +148,9 @@ public class BigDecimalExtension implements java.math.BigDecimal.BigDecimalExten
 	}
 
 	public int add(BigDecimal res, BigDecimal lhs, BigDecimal rhs) {
+		if (SOFTWARE_DFP) {
+			return Decimal64.add(res, lhs, rhs, 0, BigDecimal.ROUND_UNNECESSARY, false);
+		}
 		int resExp =-(Math.max(lhs.scale(), rhs.scale()));
 		/* Precision = 0, rounding = UNNECESSARY */
 		if (resExp >=-398 && resExp<=369) {
@@ -164,6 +177,9 @@ public class BigDecimalExtension implements java.math.BigDecimal.BigDecimalExten
 	}
 
 	public int add(BigDecimal res, BigDecimal lhs, BigDecimal rhs, MathContext set) {
+		if (SOFTWARE_DFP) {
+			return Decimal64.add(res, lhs, rhs, set.getPrecision(), set.getRoundingMode().ordinal(), false);
+		}
 		boolean passed = false;
 		int prec = set.getPrecision();
 		int rm = set.getRoundingMode().ordinal();
@@ -273,6 +289,9 @@ public class BigDecimalExtension implements java.math.BigDecimal.BigDecimalExten
 	}
 
 	public int subtract(BigDecimal res, BigDecimal lhs, BigDecimal rhs) {
+		if (SOFTWARE_DFP) {
+			return Decimal64.add(res, lhs, rhs, 0, BigDecimal.ROUND_UNNECESSARY, true);
+		}
 
 		int resExp =-(Math.max(lhs.scale(), rhs.scale()));
 		// Precision = 0, rounding = UNNECESSARY
@@ -296,6 +315,9 @@ public class BigDecimalExtension implements java.math.BigDecimal.BigDecimalExten
 	}
 
 	public int subtract(BigDecimal res, BigDecimal lhs, BigDecimal rhs, MathContext set) {
+		if (SOFTWARE_DFP) {
+			return Decimal64.add(res, lhs, rhs, set.getPrecision(), set.getRoundingMode().ordinal(), true);
+		}
 		boolean passed = false;
 		int prec = set.getPrecision();
 		int rm = set.getRoundingMode().ordinal();
@@ -407,6 +429,9 @@ public class BigDecimalExtension implements java.math.BigDecimal.BigDecimalExten
 	}
 
 	public int multiply(BigDecimal res, BigDecimal lhs, BigDecimal rhs) {
+		if (SOFTWARE_DFP) {
+			return Decimal64.multiply(res, lhs, rhs, 0, BigDecimal.ROUND_UNNECESSARY);
+		}
 
 		int resExp =-(lhs.scale()+rhs.scale());
 
@@ -430,6 +455,9 @@ public class BigDecimalExtension implements java.math.BigDecimal.BigDecimalExten
 	}
 
 	public int multiply(BigDecimal res, BigDecimal lhs, BigDecimal rhs, MathContext set) {
+		if (SOFTWARE_DFP) {
+			return Decimal64.multiply(res, lhs, rhs, set.getPrecision(), set.getRoundingMode().ordinal());
+		}
 
 		boolean passed = false;
 		int prec = set.getPrecision();
@@ -503,6 +531,10 @@ public class BigDecimalExtension implements java.math.BigDecimal.BigDecimalExten
 	}
 
 	public int divide(BigDecimal res, BigDecimal lhs, BigDecimal rhs) {
+		if (SOFTWARE_DFP) {
+			// the classlib detects a non-terminating expansion
+			return HARDWARE_OPERATION_FAIL;
+		}
 
 		long rhslaside = getlaside(rhs);
 		if (isDFPZero(rhslaside)) {
@@ -554,6 +586,9 @@ public class BigDecimalExtension implements java.math.BigDecimal.BigDecimalExten
 	}
 
 	public int divide(BigDecimal res, BigDecimal lhs, BigDecimal rhs, MathContext set) {
+		if (SOFTWARE_DFP) {
+			return Decimal64.divide(res, lhs, rhs, set.getPrecision(), set.getRoundingMode().ordinal());
+		}
 
 		long rhslaside = getlaside(rhs);
 		if (isDFPZero(rhslaside)) {
@@ -616,6 +651,9 @@ public class BigDecimalExtension implements java.math.BigDecimal.BigDecimalExten
 	}
 
 	public int negate(BigDecimal res, MathContext set) {
+		if (SOFTWARE_DFP) {
+			return HARDWARE_OPERATION_FAIL;
+		}
 
 		int signum = res.signum();
 		int flags = getflags(res);
@@ -645,6 +683,9 @@ public class BigDecimalExtension implements java.math.BigDecimal.BigDecimalExten
 	}
 
 	public int compareTo(BigDecimal lhs, BigDecimal rhs) {
+		if (SOFTWARE_DFP) {
+			return Decimal64.compareTo(lhs, rhs);
+		}
 
 		int res = DFPCompareTo(getlaside(lhs), getlaside(rhs));
 		if (res != -2) {
@@ -676,6 +717,9 @@ public class BigDecimalExtension implements java.math.BigDecimal.BigDecimalExten
 	}
 
 	public int setScale(BigDecimal bd, int scale) {
+		if (SOFTWARE_DFP) {
+			return Decimal64.setScale(bd, scale, BigDecimal.ROUND_UNNECESSARY);
+		}
 
 		if (-scale >= -398 && -scale <= 369) {
 			int ret = DFPSetScale(bd, getlaside(bd), -scale+398, false, 0, true);
@@ -725,6 +769,9 @@ public class BigDecimalExtension implements java.math.BigDecimal.BigDecimalExten
 	}
 
 	public int setScale(BigDecimal bd, int scale, int roundingMode) {
+		if (SOFTWARE_DFP) {
+			return Decimal64.setScale(bd, scale, roundingMode);
+		}
 
 		if (-scale >= -398 && -scale <= 369) {
 
@@ -1040,6 +1087,9 @@ public class BigDecimalExtension implements java.math.BigDecimal.BigDecimalExten
 	}
 
 	public int valueOf(BigDecimal res, long value, int scale) {
+		if (SOFTWARE_DFP) {
+			return HARDWARE_OPERATION_FAIL;
+		}
 
 		if (DFPUseDFP()) {
 			if (value == 0 && scale == 0) {
@@ -1080,6 +1130,9 @@ public class BigDecimalExtension implements java.math.BigDecimal.BigDecimalExten
 	}
 
 	public int round(BigDecimal res, int precision, int roundingMode) {
+		if (SOFTWARE_DFP) {
+			return HARDWARE_OPERATION_FAIL;
+		}
 
 		// Only enter here iff precision > 0
 		if (res.precision() > precision) { // and only perform if request is shorter then us
@@ -1256,6 +1309,9 @@ public class BigDecimalExtension implements java.math.BigDecimal.BigDecimalExten
 	}
 
 	public int convertToExtension(BigDecimal res) {
+		if (SOFTWARE_DFP) {
+			return HARDWARE_OPERATION_FAIL;
+		}
 
 		int flags = getflags(res);
 		BigInteger bi = getbi(res);
@@ -1455,6 +1511,9 @@ public class BigDecimalExtension implements java.math.BigDecimal.BigDecimalExten
 	}
 
 	public int createZero(BigDecimal res) {
+		if (SOFTWARE_DFP) {
+			return HARDWARE_OPERATION_FAIL;
+		}
 		setlaside(res, dfpZERO);
 		setbi(res, null);
 		setscale(res, 0);
@@ -1475,6 +1534,9 @@ public class BigDecimalExtension implements java.math.BigDecimal.BigDecimalExten
 	}
 
 	public int intConstructor(BigDecimal res, int value, MathContext set) {
+		if (SOFTWARE_DFP) {
+			return HARDWARE_OPERATION_FAIL;
+		}
 		// quick path for 0e0
 		if (value == 0) {
 			createZero(res);
@@ -1605,6 +1667,9 @@ public class BigDecimalExtension implements java.math.BigDecimal.BigDecimalExten
 	}
 
 	public int longConstructor(BigDecimal res, long value, int scale, MathContext set) {
+		if (SOFTWARE_DFP) {
+			return HARDWARE_OPERATION_FAIL;
+		}
 		// don't want to send in 0 and then round with hardware
 		// cause it might place a crummy exponent value...
 		if (value == 0) {
@@ -1740,6 +1805,9 @@ public class BigDecimalExtension implements java.math.BigDecimal.BigDecimalExten
 	}
 
 	public int longConstructor(BigDecimal res, long value, int scale, int nDigits, int sign, MathContext set) {
+		if (SOFTWARE_DFP) {
+			return HARDWARE_OPERATION_FAIL;
+		}
 		int prec = set.getPrecision();
 		int rm = set.getRoundingMode().ordinal();
 
@@ -1934,6 +2002,9 @@ public class BigDecimalExtension implements java.math.BigDecimal.BigDecimalExten
 	}
 
 	public int bigIntegerConstructor(BigDecimal res, BigInteger bi, int scale, MathContext set) {
+		if (SOFTWARE_DFP) {
+			return HARDWARE_OPERATION_FAIL;
+		}
 
 		int biPrecision = bi.toString().length() + ((bi.signum() ==-1) ? -1 : 0);
 
@@ -0,0 +1,496 @@
+/*[INCLUDE-IF]*/
+package com.ibm.jit;
+
+import java.math.BigDecimal;
+
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+
+/**
+ * Software decimal arithmetic on the long lookaside representation of BigDecimal,
+ * used by {@link BigDecimalExtension} on hosts without DFP hardware.
+ *
+ * An operand is an unscaled long and an int scale, read directly from the
+ * BigDecimal. A rounded result is computed from the exact result, which is held
+ * in a pair of longs when it needs up to 128 bits. The result is written back
+ * into the long lookaside fields of the result BigDecimal, so no objects are
+ * allocated. Every operation returns HARDWARE_OPERATION_FAIL when it cannot
+ * produce the result in this representation. That includes every case where
+ * the classlib must throw an ArithmeticException. The caller then falls back
+ * to the classlib implementation.
+ */
+final class Decimal64 {
+
+	/* representation bits of the BigDecimal flags: long lookaside, nothing cached */
+	private static final int LONG_LOOKASIDE = 0x1;
+
+	/* the largest precision for which rounded results are computed */
+	private static final int MAX_PRECISION = 18;
+
+	/* sentinel returned by the rounding helpers when ROUND_UNNECESSARY would be violated */
+	private static final long INEXACT = Long.MIN_VALUE;
+
+	private static final long MASK32 = 0xFFFFFFFFL;
+
+	private static final long[] POWERS_OF_TEN = new long[19];
+	/* 10^0 to 10^38 as 128 bit values */
+	private static final long[] POWERS_OF_TEN_HIGH = new long[39];
+	private static final long[] POWERS_OF_TEN_LOW = new long[39];
+
+	static {
+		long high = 0;
+		long low = 1;
+		for (int i = 0; i < POWERS_OF_TEN_LOW.length; i++) {
+			if (i < POWERS_OF_TEN.length) {
+				POWERS_OF_TEN[i] = low;
+			}
+			POWERS_OF_TEN_HIGH[i] = high;
+			POWERS_OF_TEN_LOW[i] = low;
+			high = (high * 10) + unsignedMultiplyHigh(low, 10);
+			low *= 10;
+		}
+	}
+
+	private Decimal64() {
+	}
+
+	/**
+	 * @return true if the software implementation has been requested with -Dcom.ibm.jit.softwareDecimal64=true
+	 */
+	static boolean isEnabled() {
+		java.util.Properties props = com.ibm.oti.vm.VM.internalGetProperties();
+		return (null != props) && Boolean.parseBoolean(props.getProperty("com.ibm.jit.softwareDecimal64")); //$NON-NLS-1$
+	}
+
+	static boolean isLongLookaside(BigDecimal bd) {
+		return (BigDecimalExtension.getflags(bd) & 0x3) == LONG_LOOKASIDE;
+	}
+
+	/**
+	 * Adds or subtracts two long lookaside operands.
+	 *
+	 * @param prec the precision to round to, or 0 for an exact result
+	 * @param rm the rounding mode, one of the BigDecimal.ROUND_ constants
+	 * @param subtract true to subtract rhs from lhs
+	 */
+	static int add(BigDecimal res, BigDecimal lhs, BigDecimal rhs, int prec, int rm, boolean subtract) {
+		if (!isLongLookaside(lhs) || !isLongLookaside(rhs) || (prec > MAX_PRECISION)) {
+			return BigDecimalExtension.HARDWARE_OPERATION_FAIL;
+		}
+		long lhsValue = BigDecimalExtension.getlaside(lhs);
+		long rhsValue = BigDecimalExtension.getlaside(rhs);
+		int lhsScale = BigDecimalExtension.getscale(lhs);
+		int rhsScale = BigDecimalExtension.getscale(rhs);
+		if (subtract) {
+			if (Long.MIN_VALUE == rhsValue) {
+				return BigDecimalExtension.HARDWARE_OPERATION_FAIL;
+			}
+			rhsValue = -rhsValue;
+		}
+		/* the classlib has its own rules for the scale of a rounded sum with a zero operand */
+		if ((0 != prec) && ((0 == lhsValue) || (0 == rhsValue))) {
+			return BigDecimalExtension.HARDWARE_OPERATION_FAIL;
+		}
+		int scale = Math.max(lhsScale, rhsScale);
+		lhsValue = scaleUp(lhsValue, scale - lhsScale);
+		rhsValue = scaleUp(rhsValue, scale - rhsScale);
+		if ((INEXACT == lhsValue) || (INEXACT == rhsValue)) {
+			return BigDecimalExtension.HARDWARE_OPERATION_FAIL;
+		}
+		long sum = lhsValue + rhsValue;
+		if ((((lhsValue ^ sum) & (rhsValue ^ sum)) < 0) || (INEXACT == sum)) {
+			return BigDecimalExtension.HARDWARE_OPERATION_FAIL;
+		}
+		return round(res, sum, scale, prec, rm);
+	}
+
+	/**
+	 * Multiplies two long lookaside operands.
+	 *
+	 * @param prec the precision to round to, or 0 for an exact result
+	 * @param rm the rounding mode, one of the BigDecimal.ROUND_ constants
+	 */
+	static int multiply(BigDecimal res, BigDecimal lhs, BigDecimal rhs, int prec, int rm) {
+		if (!isLongLookaside(lhs) || !isLongLookaside(rhs) || (prec > MAX_PRECISION)) {
+			return BigDecimalExtension.HARDWARE_OPERATION_FAIL;
+		}
+		long lhsValue = BigDecimalExtension.getlaside(lhs);
+		long rhsValue = BigDecimalExtension.getlaside(rhs);
+		long scale = (long)BigDecimalExtension.getscale(lhs) + BigDecimalExtension.getscale(rhs);
+		if ((Long.MIN_VALUE == lhsValue) || (Long.MIN_VALUE == rhsValue)) {
+			return BigDecimalExtension.HARDWARE_OPERATION_FAIL;
+		}
+		boolean negative = (lhsValue < 0) != (rhsValue < 0);
+		long lhsMagnitude = Math.abs(lhsValue);
+		long rhsMagnitude = Math.abs(rhsValue);
+		long high = unsignedMultiplyHigh(lhsMagnitude, rhsMagnitude);
+		long low = lhsMagnitude * rhsMagnitude;
+
+		if ((0 == high) && (low >= 0)) {
+			return round(res, negative ? -low : low, scale, prec, rm);
+		}
+		if (0 == prec) {
+			return BigDecimalExtension.HARDWARE_OPERATION_FAIL;
+		}
+		int drop = numDigits(high, low) - prec;
+		if (drop > MAX_PRECISION) {
+			return BigDecimalExtension.HARDWARE_OPERATION_FAIL;
+		}
+		long divisor = POWERS_OF_TEN[drop];
+		long quotient = unsignedDivide(high, low, divisor);
+		long remainder = low - (quotient * divisor);
+		int comparison = compareToHalf(remainder, divisor);
+		if (-2 != comparison) {
+			quotient = roundQuotient(quotient, comparison, negative, rm);
+			if (INEXACT == quotient) {
+				return BigDecimalExtension.HARDWARE_OPERATION_FAIL;
+			}
+		}
+		if (quotient == POWERS_OF_TEN[prec]) {
+			quotient /= 10;
+			drop += 1;
+		}
+		return store(res, negative ? -quotient : quotient, scale - drop);
+	}
+
+	/**
+	 * Divides two long lookaside operands, rounding the quotient to the given precision.
+	 * An exact quotient is given the scale closest to the preferred scale, as the classlib does.
+	 *
+	 * @param prec the precision to round to, which must be positive and less than 18 so that
+	 * the unrounded quotient fits in a long
+	 * @param rm the rounding mode, one of the BigDecimal.ROUND_ constants
+	 */
+	static int divide(BigDecimal res, BigDecimal lhs, BigDecimal rhs, int prec, int rm) {
+		if (!isLongLookaside(lhs) || !isLongLookaside(rhs) || (prec <= 0) || (prec >= MAX_PRECISION)) {
+			return BigDecimalExtension.HARDWARE_OPERATION_FAIL;
+		}
+		long lhsValue = BigDecimalExtension.getlaside(lhs);
+		long rhsValue = BigDecimalExtension.getlaside(rhs);
+		/* division by zero and zero dividends are left to the classlib */
+		if ((0 == lhsValue) || (0 == rhsValue) || (Long.MIN_VALUE == lhsValue) || (Long.MIN_VALUE == rhsValue)) {
+			return BigDecimalExtension.HARDWARE_OPERATION_FAIL;
+		}
+		long preferredScale = (long)BigDecimalExtension.getscale(lhs) - BigDecimalExtension.getscale(rhs);
+		boolean negative = (lhsValue < 0) != (rhsValue < 0);
+		long dividend = Math.abs(lhsValue);
+		long divisor = Math.abs(rhsValue);
+
+		/* scale the dividend so that the quotient has prec or prec + 1 digits */
+		int shift = prec + numDigits(divisor) - numDigits(dividend);
+		if (shift < 0) {
+			return BigDecimalExtension.HARDWARE_OPERATION_FAIL;
+		}
+		long high;
+		long low;
+		if (shift <= MAX_PRECISION) {
+			high = unsignedMultiplyHigh(dividend, POWERS_OF_TEN[shift]);
+			low = dividend * POWERS_OF_TEN[shift];
+		} else {
+			/* the product fits in 128 bits because it has at most prec + 19 digits */
+			long multiplier = POWERS_OF_TEN[shift - MAX_PRECISION];
+			long partialHigh = unsignedMultiplyHigh(dividend, POWERS_OF_TEN[MAX_PRECISION]);
+			long partialLow = dividend * POWERS_OF_TEN[MAX_PRECISION];
+			high = (partialHigh * multiplier) + unsignedMultiplyHigh(partialLow, multiplier);
+			low = partialLow * multiplier;
+		}
+		long quotient = unsignedDivide(high, low, divisor);
+		long remainder = low - (quotient * divisor);
+		long scale = preferredScale + shift;
+
+		int comparison;
+		if (numDigits(quotient) > prec) {
+			/* drop the last digit, the remainder only tells whether it was exact */
+			int digit = (int)(quotient % 10);
+			quotient /= 10;
+			scale -= 1;
+			if (5 == digit) {
+				comparison = (0 == remainder) ? 0 : 1;
+			} else if ((0 == digit) && (0 == remainder)) {
+				comparison = -2;
+			} else {
+				comparison = (digit < 5) ? -1 : 1;
+			}
+		} else {
+			comparison = compareToHalf(remainder, divisor);
+		}
+		if (-2 == comparison) {
+			/* exact, strip trailing zeros down to the preferred scale */
+			while ((scale > preferredScale) && (0 == (quotient % 10))) {
+				quotient /= 10;
+				scale -= 1;
+			}
+		} else {
+			quotient = roundQuotient(quotient, comparison, negative, rm);
+			if (INEXACT == quotient) {
+				return BigDecimalExtension.HARDWARE_OPERATION_FAIL;
+			}
+			if (quotient == POWERS_OF_TEN[prec]) {
+				quotient /= 10;
+				scale -= 1;
+			}
+		}
+		return store(res, negative ? -quotient : quotient, scale);
+	}
+
+	/**
+	 * Changes the scale of a long lookaside value in place.
+	 *
+	 * @param rm the rounding mode, one of the BigDecimal.ROUND_ constants
+	 */
+	static int setScale(BigDecimal bd, int newScale, int rm) {
+		if (!isLongLookaside(bd)) {
+			return BigDecimalExtension.HARDWARE_OPERATION_FAIL;
+		}
+		long value = BigDecimalExtension.getlaside(bd);
+		int scale = BigDecimalExtension.getscale(bd);
+		if (Long.MIN_VALUE == value) {
+			return BigDecimalExtension.HARDWARE_OPERATION_FAIL;
+		}
+		long result;
+		if (newScale >= scale) {
+			result = scaleUp(value, (long)newScale - scale);
+		} else {
+			result = divideRounded(value, (long)scale - newScale, rm);
+		}
+		if (INEXACT == result) {
+			return BigDecimalExtension.HARDWARE_OPERATION_FAIL;
+		}
+		return store(bd, result, newScale);
+	}
+
+	/**
+	 * Compares two long lookaside operands.
+	 *
+	 * @return -1, 0 or 1, or HARDWARE_OPERATION_FAIL if the operands cannot be aligned
+	 */
+	static int compareTo(BigDecimal lhs, BigDecimal rhs) {
+		if (!isLongLookaside(lhs) || !isLongLookaside(rhs)) {
+			return BigDecimalExtension.HARDWARE_OPERATION_FAIL;
+		}
+		long lhsValue = BigDecimalExtension.getlaside(lhs);
+		long rhsValue = BigDecimalExtension.getlaside(rhs);
+		int lhsScale = BigDecimalExtension.getscale(lhs);
+		int rhsScale = BigDecimalExtension.getscale(rhs);
+		if ((lhsValue < 0) != (rhsValue < 0)) {
+			return (lhsValue < 0) ? -1 : 1;
+		}
+		int scale = Math.max(lhsScale, rhsScale);
+		lhsValue = scaleUp(lhsValue, scale - lhsScale);
+		rhsValue = scaleUp(rhsValue, scale - rhsScale);
+		if ((INEXACT == lhsValue) || (INEXACT == rhsValue)) {
+			return BigDecimalExtension.HARDWARE_OPERATION_FAIL;
+		}
+		return Long.compare(lhsValue, rhsValue);
+	}
+
+	/* rounds an exact value to prec digits, 0 meaning no rounding, and stores it */
+	private static int round(BigDecimal res, long value, long scale, int prec, int rm) {
+		if (0 != prec) {
+			int drop = numDigits(Math.abs(value)) - prec;
+			if (drop > 0) {
+				value = divideRounded(value, drop, rm);
+				if (INEXACT == value) {
+					return BigDecimalExtension.HARDWARE_OPERATION_FAIL;
+				}
+				if (Math.abs(value) == POWERS_OF_TEN[prec]) {
+					value /= 10;
+					drop += 1;
+				}
+				scale -= drop;
+			}
+		}
+		return store(res, value, scale);
+	}
+
+	private static int store(BigDecimal res, long value, long scale) {
+		if ((scale < Integer.MIN_VALUE) || (scale > Integer.MAX_VALUE)) {
+			return BigDecimalExtension.HARDWARE_OPERATION_FAIL;
+		}
+		BigDecimalExtension.setflags(res, LONG_LOOKASIDE);
+		BigDecimalExtension.setlaside(res, value);
+		BigDecimalExtension.setscale(res, (int)scale);
+		BigDecimalExtension.setbi(res, null);
+		return BigDecimalExtension.HARDWARE_OPERATION_SUCCESS;
+	}
+
+	/* returns value * 10^digits, or INEXACT if it overflows */
+	private static long scaleUp(long value, long digits) {
+		if ((0 == digits) || (0 == value)) {
+			return value;
+		}
+		if ((digits > MAX_PRECISION) || (Long.MIN_VALUE == value)) {
+			return INEXACT;
+		}
+		long magnitude = Math.abs(value);
+		long multiplier = POWERS_OF_TEN[(int)digits];
+		long product = magnitude * multiplier;
+		if ((0 != unsignedMultiplyHigh(magnitude, multiplier)) || (product < 0)) {
+			return INEXACT;
+		}
+		return (value < 0) ? -product : product;
+	}
+
+	/* returns value / 10^digits rounded with rm, or INEXACT if rm is ROUND_UNNECESSARY and the division is inexact */
+	private static long divideRounded(long value, long digits, int rm) {
+		boolean negative = value < 0;
+		long magnitude = Math.abs(value);
+		long quotient;
+		int comparison;
+		if (digits > MAX_PRECISION) {
+			quotient = 0;
+			if (0 == magnitude) {
+				comparison = -2;
+			} else if (digits == (MAX_PRECISION + 1)) {
+				comparison = Long.signum(magnitude - (5 * POWERS_OF_TEN[MAX_PRECISION]));
+			} else {
+				comparison = -1;
+			}
+		} else {
+			long divisor = POWERS_OF_TEN[(int)digits];
+			quotient = magnitude / divisor;
+			comparison = compareToHalf(magnitude - (quotient * divisor), divisor);
+		}
+		if (-2 != comparison) {
+			quotient = roundQuotient(quotient, comparison, negative, rm);
+			if (INEXACT == quotient) {
+				return INEXACT;
+			}
+		}
+		return negative ? -quotient : quotient;
+	}
+
+	/* returns -2 for a zero remainder, otherwise the sign of remainder - divisor / 2 */
+	private static int compareToHalf(long remainder, long divisor) {
+		if (0 == remainder) {
+			return -2;
+		}
+		/* remainder < divisor < 2^63, so doubling cannot overflow an unsigned long */
+		return Long.signum(Long.compareUnsigned(remainder << 1, divisor));
+	}
+
+	/* rounds the magnitude of an inexact quotient, given how the discarded fraction compares to one half */
+	private static long roundQuotient(long quotient, int comparison, boolean negative, int rm) {
+		boolean increment;
+		switch (rm) {
+		case BigDecimal.ROUND_UP:
+			increment = true;
+			break;
+		case BigDecimal.ROUND_DOWN:
+			increment = false;
+			break;
+		case BigDecimal.ROUND_CEILING:
+			increment = !negative;
+			break;
+		case BigDecimal.ROUND_FLOOR:
+			increment = negative;
+			break;
+		case BigDecimal.ROUND_HALF_UP:
+			increment = comparison >= 0;
+			break;
+		case BigDecimal.ROUND_HALF_DOWN:
+			increment = comparison > 0;
+			break;
+		case BigDecimal.ROUND_HALF_EVEN:
+			increment = (comparison > 0) || ((0 == comparison) && (0 != (quotient & 1)));
+			break;
+		default:
+			return INEXACT;
+		}
+		return increment ? (quotient + 1) : quotient;
+	}
+
+	/* returns the number of decimal digits of a non-negative value, 1 for 0 */
+	private static int numDigits(long value) {
+		int digits = 1;
+		while ((digits < POWERS_OF_TEN.length) && (value >= POWERS_OF_TEN[digits])) {
+			digits += 1;
+		}
+		return digits;
+	}
+
+	/* returns the number of decimal digits of an unsigned 128 bit value */
+	private static int numDigits(long high, long low) {
+		int digits = 1;
+		while ((digits < POWERS_OF_TEN_LOW.length) && !unsignedLessThan(high, low, POWERS_OF_TEN_HIGH[digits], POWERS_OF_TEN_LOW[digits])) {
+			digits += 1;
+		}
+		return digits;
+	}
+
+	private static boolean unsignedLessThan(long high1, long low1, long high2, long low2) {
+		return (high1 != high2) ? (Long.compareUnsigned(high1, high2) < 0) : (Long.compareUnsigned(low1, low2) < 0);
+	}
+
+	/* returns the high 64 bits of the unsigned 128 bit product */
+	static long unsignedMultiplyHigh(long x, long y) {
+		long x0 = x & MASK32;
+		long x1 = x >>> 32;
+		long y0 = y & MASK32;
+		long y1 = y >>> 32;
+		long w0 = x0 * y0;
+		long t = (x1 * y0) + (w0 >>> 32);
+		long w1 = (t & MASK32) + (x0 * y1);
+		return (x1 * y1) + (t >>> 32) + (w1 >>> 32);
+	}
+
+	/*
+	 * Returns the unsigned 128 bit value high:low divided by divisor, which must be
+	 * positive and greater than high so that the quotient fits in 64 bits. This is
+	 * the two digit long division of Hacker's Delight (divlu) with 32 bit digits.
+	 */
+	static long unsignedDivide(long high, long low, long divisor) {
+		if (0 == high) {
+			return Long.divideUnsigned(low, divisor);
+		}
+		int shift = Long.numberOfLeadingZeros(divisor);
+		long v = divisor << shift;
+		long vn1 = v >>> 32;
+		long vn0 = v & MASK32;
+		long un32 = (high << shift) | ((0 == shift) ? 0 : (low >>> (64 - shift)));
+		long un10 = low << shift;
+		long un1 = un10 >>> 32;
+		long un0 = un10 & MASK32;
+
+		long q1 = Long.divideUnsigned(un32, vn1);
+		long rhat = un32 - (q1 * vn1);
+		while ((q1 > MASK32) || (Long.compareUnsigned(q1 * vn0, (rhat << 32) | un1) > 0)) {
+			q1 -= 1;
+			rhat += vn1;
+			if (rhat > MASK32) {
+				break;
+			}
+		}
+
+		long un21 = ((un32 << 32) | un1) - (q1 * v);
+		long q0 = Long.divideUnsigned(un21, vn1);
+		rhat = un21 - (q0 * vn1);
+		while ((q0 > MASK32) || (Long.compareUnsigned(q0 * vn0, (rhat << 32) | un0) > 0)) {
+			q0 -= 1;
+			rhat += vn1;
+			if (rhat > MASK32) {
+				break;
+			}
+		}
+		return (q1 << 32) | q0;
+	}
+}
@@ -41,7 +41,7 @@ import java.util.NoSuchElementException;
 import java.util.Queue;
 import java.util.Vector;
 import java.util.Collections;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.*;
@@ -55,7 +55,6 @@ import java.util.Spliterators;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import jdk.internal.module.ServicesCatalog;
-import java.util.concurrent.ConcurrentHashMap;
 import jdk.internal.reflect.CallerSensitive;
 import jdk.internal.loader.ClassLoaders;
 import jdk.internal.loader.BootLoader;
@@ -119,10 +118,10 @@ public abstract class ClassLoader {
 	private Map<String, Boolean> packageAssertionStatus;
 	private Map<String, Boolean> classAssertionStatus;
 	/*[IF JAVA_SPEC_VERSION >= 9]*/
-	private final Hashtable<String, NamedPackage> packages = new Hashtable<>();
+	private final ConcurrentHashMap<String, NamedPackage> packages = new ConcurrentHashMap<>();
 	private volatile ConcurrentHashMap<?, ?> classLoaderValueMap;
 	/*[ELSE] JAVA_SPEC_VERSION >= 9 */
-	private final Hashtable<String, Package> packages = new Hashtable<>();
+	private final ConcurrentHashMap<String, Package> packages = new ConcurrentHashMap<>();
 	/*[ENDIF] JAVA_SPEC_VERSION >= 9 */
 	/*[PR CMVC 94437] fix deadlocks */
 	/*[PR 122459] LIR646 - Remove use of generic object for synchronization */
@@ -133,15 +132,16 @@ public abstract class ClassLoader {
 	private static Certificate[] emptyCertificates = new Certificate[0];
 	private volatile ProtectionDomain defaultProtectionDomain;
 
-	//	store parallel capable classloader classes
-	private static Map<Class<?>, Object> parallelCapableCollection;
+	//	store parallel capable classloader classes, weakly and without a global lock
+	private static ClassValue<ParallelCapableState> parallelCapableClasses;
 	//	store class binary name based lock
-	private volatile Hashtable<String, ClassNameLockRef> classNameBasedLock;
+	private volatile ConcurrentHashMap<String, ClassNameLockRef> classNameBasedLock;
 	//	for performance purpose, only check once if registered as parallel capable
 	//	assume customer classloader follow Java specification requirement
 	//	in which registerAsParallelCapable shall be invoked during initialization
 	private boolean isParallelCapable;
 	private static final class ClassNameBasedLock { ClassNameBasedLock() {} }
+	private static final class ParallelCapableState { volatile boolean registered; }
 	private static final Package[] EMPTY_PACKAGE_ARRAY = new Package[0];
 
 	// Cache instances of java.lang.invoke.MethodType generated from method descriptor strings
@@ -164,19 +164,16 @@ public abstract class ClassLoader {
 	static final class ClassNameLockRef extends WeakReference<Object> implements Runnable {
 		private static final ReferenceQueue<Object> queue = new ReferenceQueue<>();
 		private final String key;
-		private final Hashtable<?, ?> classNameLockHT;
-		public ClassNameLockRef(Object referent, String keyValue, Hashtable<?, ?> classNameLockHTValue) {
+		private final ConcurrentHashMap<?, ?> classNameLockMap;
+		public ClassNameLockRef(Object referent, String keyValue, ConcurrentHashMap<?, ?> classNameLockMapValue) {
 			super(referent, queue);
 			key = keyValue;
-			classNameLockHT = classNameLockHTValue;
+			classNameLockMap = classNameLockMapValue;
 		}
 		@Override
 		public void run() {
-			synchronized(classNameLockHT) {
-				if (classNameLockHT.get(key) == this) {
-					classNameLockHT.remove(key);
-				}
-			}
+			// only remove the mapping if it has not been replaced by a newer lock
+			classNameLockMap.remove(key, this);
 		}
 	}
 
@@ -184,7 +181,12 @@ public abstract class ClassLoader {
 		if (null != bootstrapClassLoader) {
 			return;
 		}
-		parallelCapableCollection = Collections.synchronizedMap(new WeakHashMap<>());
+		parallelCapableClasses = new ClassValue<ParallelCapableState>() {
+			@Override
+			protected ParallelCapableState computeValue(Class<?> type) {
+				return new ParallelCapableState();
+			}
+		};
 
 		allowArraySyntax = "true".equalsIgnoreCase(	//$NON-NLS-1$
 				System.internalGetProperties().getProperty("sun.lang.ClassLoader.allowArraySyntax"));	//$NON-NLS-1$
@@ -391,7 +393,7 @@ private ClassLoader(Void staticMethodHolder, String classLoaderName, ClassLoader
 	}
 /*[ENDIF] JAVA_SPEC_VERSION > 8 */
 
-	if (parallelCapableCollection.containsKey(this.getClass())) {
+	if (isRegisteredAsParallelCapable(this.getClass())) {
 		isParallelCapable = true;
 	}
 
@@ -652,8 +654,9 @@ private static final class NamedPackageProvider implements java.util.function.Fu
  * @param newClass
  */
 void addPackageToList(Class<?> newClass) {
-	synchronized (packages) {
-		packages.computeIfAbsent(newClass.getPackageName(), new NamedPackageProvider(newClass));
+	String pkgName = newClass.getPackageName();
+	if (!packages.containsKey(pkgName)) {
+		packages.computeIfAbsent(pkgName, new NamedPackageProvider(newClass));
 	}
 }
 /*[ENDIF] JAVA_SPEC_VERSION >= 9 */
@@ -1418,14 +1421,14 @@ protected static boolean registerAsParallelCapable() {
 /*[IF JAVA_SPEC_VERSION >= 18]*/
 	return registerAsParallelCapable(callerCls);
 /*[ELSE] JAVA_SPEC_VERSION >= 18
-	if (parallelCapableCollection.containsKey(callerCls)) {
+	if (isRegisteredAsParallelCapable(callerCls)) {
 		return true;
 	}
 
 	Class<?> superCls = callerCls.getSuperclass();
 
-	if (superCls == ClassLoader.class || parallelCapableCollection.containsKey(superCls)) {
-		parallelCapableCollection.put(callerCls, null);
+	if (superCls == ClassLoader.class || isRegisteredAsParallelCapable(superCls)) {
+		parallelCapableClasses.get(callerCls).registered = true;
 		return true;
 	}
 
@@ -1443,14 +1446,14 @@ private static boolean registerAsParallelCapable(Class<?> callerCls) {
 	}
 	/*[ENDIF] JAVA_SPEC_VERSION >= 19 */
 
-	if (parallelCapableCollection.containsKey(callerCls)) {
+	if (isRegisteredAsParallelCapable(callerCls)) {
 		return true;
 	}
 
 	Class<?> superCls = callerCls.getSuperclass();
 
-	if (superCls == ClassLoader.class || parallelCapableCollection.containsKey(superCls)) {
-		parallelCapableCollection.put(callerCls, null);
+	if (superCls == ClassLoader.class || isRegisteredAsParallelCapable(superCls)) {
+		parallelCapableClasses.get(callerCls).registered = true;
 		return true;
 	}
 
@@ -1458,6 +1461,10 @@ private static boolean registerAsParallelCapable(Class<?> callerCls) {
 }
 /*[ENDIF] JAVA_SPEC_VERSION >= 18 */
 
+private static boolean isRegisteredAsParallelCapable(Class<?> cls) {
+	return parallelCapableClasses.get(cls).registered;
+}
+
 /**
  * Answers the lock object for class loading in parallel.
  * If this ClassLoader object has been registered as parallel capable,
@@ -1481,20 +1488,37 @@ private static boolean registerAsParallelCapable(Class<?> callerCls) {
 protected Object getClassLoadingLock(final String className) {
 	Object lock = this;
 	if (isParallelCapable)	{
-		if (classNameBasedLock == null) {
+		ConcurrentHashMap<String, ClassNameLockRef> lockMap = classNameBasedLock;
+		if (lockMap == null) {
 			synchronized(lazyInitLock) {
-				if (classNameBasedLock == null) {
-					classNameBasedLock = new Hashtable<>();
+				lockMap = classNameBasedLock;
+				if (lockMap == null) {
+					lockMap = new ConcurrentHashMap<>();
+					classNameBasedLock = lockMap;
 				}
 			}
 		}
-		synchronized(classNameBasedLock) {
-			// get() does null pointer check
-			ClassNameLockRef wf = classNameBasedLock.get(className);
-			lock = (null != wf) ? wf.get() : null;
-			if (lock == null) {
-				lock = new ClassNameBasedLock();
-				classNameBasedLock.put(className, new ClassNameLockRef(lock, className, classNameBasedLock));
+		// get() does null pointer check
+		ClassNameLockRef wf = lockMap.get(className);
+		lock = (null != wf) ? wf.get() : null;
+		while (lock == null) {
+			// the entry is absent or its lock has been collected, install a new lock unless another thread has
+			Object newLock = new ClassNameBasedLock();
+			ClassNameLockRef newRef = new ClassNameLockRef(newLock, className, lockMap);
+			boolean installed;
+			if (null == wf) {
+				wf = lockMap.putIfAbsent(className, newRef);
+				installed = (null == wf);
+			} else {
+				installed = lockMap.replace(className, wf, newRef);
+				if (!installed) {
+					wf = lockMap.get(className);
+				}
+			}
+			if (installed) {
+				lock = newLock;
+			} else if (null != wf) {
+				lock = wf.get();
 			}
 		}
 	}
@@ -1651,19 +1675,8 @@ public
 /*[ENDIF] JAVA_SPEC_VERSION >= 9 */
 final Package getDefinedPackage(String name) {
 	/*[IF JAVA_SPEC_VERSION >= 9]*/
-	Package pkg = null;
-	synchronized(packages) {
-		NamedPackage np = packages.get(name);
-		if (null != np) {
-			if (np instanceof Package) {
-				pkg = (Package)np;
-			} else {
-				pkg = NamedPackage.toPackage(np.packageName(), np.module());
-				packages.put(name, pkg);
-			}
-		}
-	}
-	return pkg;
+	NamedPackage np = packages.get(name);
+	return (null == np) ? null : toPackage(name, np, np.module());
 	/*[ELSE] JAVA_SPEC_VERSION >= 9 */
 	return packages.get(name);
 	/*[ENDIF] JAVA_SPEC_VERSION >= 9 */
@@ -1676,12 +1689,10 @@ final Package getDefinedPackage(String name) {
  * @return Array of Package objects or zero length array if no package is defined
  */
 public final Package[] getDefinedPackages() {
-	synchronized(packages) {
-		if (packages.isEmpty()) {
-			return EMPTY_PACKAGE_ARRAY;
-		} else {
-			return packages().toArray(Package[]::new);
-		}
+	if (packages.isEmpty()) {
+		return EMPTY_PACKAGE_ARRAY;
+	} else {
+		return packages().toArray(Package[]::new);
 	}
 }
 /*[ENDIF] JAVA_SPEC_VERSION >= 9 */
@@ -1719,37 +1730,6 @@ protected Package getPackage(String name) {
 	}
 }
 
-private Package[] getPackagesHelper(
-		/*[IF JAVA_SPEC_VERSION >= 9]*/
-		Hashtable<?, NamedPackage>
-		/*[ELSE] JAVA_SPEC_VERSION >= 9
-		Hashtable<?, Package>
-		/*[ENDIF] JAVA_SPEC_VERSION >= 9 */
-		localPackages, Package[] ancestorsPackages) {
-	int resultSize = localPackages.size();
-	if (ancestorsPackages != null) {
-		resultSize += ancestorsPackages.length;
-	}
-	Package[] result = new Package[resultSize];
-	int i = 0;
-	if (ancestorsPackages != null) {
-		i = ancestorsPackages.length;
-		System.arraycopy(ancestorsPackages, 0, result, 0, i);
-	}
-
-	/*[IF JAVA_SPEC_VERSION >= 9]*/
-	Package[] pkgs = packages().toArray(Package[]::new);
-	System.arraycopy(pkgs, 0, result, i, pkgs.length);
-	/*[ELSE] JAVA_SPEC_VERSION >= 9 */
-	Enumeration<Package> myPkgs = localPackages.elements();
-	while (myPkgs.hasMoreElements()) {
-		result[i++] = myPkgs.nextElement();
-	}
-	/*[ENDIF] JAVA_SPEC_VERSION >= 9 */
-
-	return result;
-}
-
 /**
  * Answers all the packages known to this class loader.
  *
@@ -1775,38 +1755,19 @@ protected Package[] getPackages() {
 		ancestorsPackages = parent.getPackages();
 	}
 
+	/* the concurrent map can be iterated while packages are being defined */
 	/*[IF JAVA_SPEC_VERSION >= 9]*/
-	Hashtable<?, NamedPackage> localPackages = packages;
+	Package[] localPackages = packages().toArray(Package[]::new);
 	/*[ELSE] JAVA_SPEC_VERSION >= 9 */
-	Hashtable<?, Package> localPackages = packages;
+	Package[] localPackages = packages.values().toArray(EMPTY_PACKAGE_ARRAY);
 	/*[ENDIF] JAVA_SPEC_VERSION >= 9 */
-
-	boolean rtExceptionThrown = false;
-	do {
-		try {
-			Package[] result;
-			/*[IF JAVA_SPEC_VERSION >= 9]*/
-			if (rtExceptionThrown) {
-				synchronized(packages) {
-					result = getPackagesHelper(localPackages, ancestorsPackages);
-				}
-			} else {
-			/*[ENDIF] JAVA_SPEC_VERSION >= 9 */
-				result = getPackagesHelper(localPackages, ancestorsPackages);
-			/*[IF JAVA_SPEC_VERSION >= 9]*/
-			}
-			/*[ENDIF] JAVA_SPEC_VERSION >= 9 */
-			return result;
-		} catch(RuntimeException ex) {
-			if (rtExceptionThrown) {
-				throw ex;
-			}
-			rtExceptionThrown = true;
-			/*[IF JAVA_SPEC_VERSION == 8]*/
-			localPackages = (Hashtable<?, Package>)packages.clone();
-			/*[ENDIF] JAVA_SPEC_VERSION == 8 */
-		}
-	} while (true);
+	if ((ancestorsPackages == null) || (ancestorsPackages.length == 0)) {
+		return localPackages;
+	}
+	Package[] result = new Package[ancestorsPackages.length + localPackages.length];
+	System.arraycopy(ancestorsPackages, 0, result, 0, ancestorsPackages.length);
+	System.arraycopy(localPackages, 0, result, ancestorsPackages.length, localPackages.length);
+	return result;
 }
 
 /**
@@ -1832,20 +1793,20 @@ protected Package definePackage(
 	final String implVendor, final URL sealBase)
 	throws IllegalArgumentException
 {
-	synchronized(packages) {
-		/*[IF JAVA_SPEC_VERSION >= 9]*/
-		if (packages.containsKey(name)) {
-		/*[ELSE] JAVA_SPEC_VERSION >= 9
-		if (null != getPackage(name)) {
-		/*[ENDIF] JAVA_SPEC_VERSION >= 9 */
-			/*[MSG "K0053", "Package {0} already defined."]*/
-			throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K0053", name)); //$NON-NLS-1$
-		} else {
-			Package newPackage = new Package(name, specTitle, specVersion, specVendor, implTitle, implVersion, implVendor, sealBase, this);
-			packages.put(name, newPackage);
+	/*[IF JAVA_SPEC_VERSION >= 9]*/
+	boolean defined = packages.containsKey(name);
+	/*[ELSE] JAVA_SPEC_VERSION >= 9
+	boolean defined = (null != getPackage(name));
+	/*[ENDIF] JAVA_SPEC_VERSION >= 9 */
+	if (!defined) {
+		Package newPackage = new Package(name, specTitle, specVersion, specVendor, implTitle, implVersion, implVendor, sealBase, this);
+		// a racing definition of the same package fails here
+		if (null == packages.putIfAbsent(name, newPackage)) {
 			return newPackage;
 		}
 	}
+	/*[MSG "K0053", "Package {0} already defined."]*/
+	throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K0053", name)); //$NON-NLS-1$
 }
 
 /**
@@ -2525,21 +2486,40 @@ protected URL findResource(String moduleName, String resName) throws IOException
 }
 
 Package definePackage(String name, Module module) {
-	Package	pkg = null;
 	if (name.isEmpty() && module.isNamed()) {
 		throw new InternalError("Unnamed package in " + module); //$NON-NLS-1$
 	}
-	synchronized(packages) {
-		NamedPackage np = packages.get(name);
-		if ((null != np) && (np instanceof Package)) {
-			pkg = (Package)np;
+	return toPackage(name, packages.get(name), module);
+}
+
+/**
+ * Answer the Package for a package name, replacing the NamedPackage in the
+ * packages map with a Package in the given module if necessary. The map is
+ * updated with conditional operations rather than a lock, so a Package
+ * installed by another thread is returned in preference to a new one.
+ *
+ * @param name the package name
+ * @param np the current mapping for the name, may be null
+ * @param module the module of a new Package
+ * @return the Package
+ */
+private Package toPackage(String name, NamedPackage np, Module module) {
+	for (;;) {
+		if (np instanceof Package) {
+			return (Package)np;
+		}
+		Package pkg = NamedPackage.toPackage(name, module);
+		if (null == np) {
+			np = packages.putIfAbsent(name, pkg);
+			if (null == np) {
+				return pkg;
+			}
+		} else if (packages.replace(name, np, pkg)) {
+			return pkg;
 		} else {
-			pkg = NamedPackage.toPackage(name, module);
-			packages.put(name, pkg);
+			np = packages.get(name);
 		}
 	}
-
-	return pkg;
 }
 Stream<Package> packages() {
 	return packages.values().stream().map(p->definePackage(p.packageName(), p.module()));
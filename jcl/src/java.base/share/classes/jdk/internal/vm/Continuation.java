@@ -30,6 +30,9 @@ import jdk.internal.access.SharedSecrets;
 import jdk.internal.misc.Unsafe;
 import jdk.internal.vm.annotation.Hidden;
 import jdk.internal.vm.annotation.JvmtiMountTransition;
+/*[IF JAVA_SPEC_VERSION >= 21]*/
+import openj9.internal.management.VirtualThreadPinningStatistics;
+/*[ENDIF] JAVA_SPEC_VERSION >= 21 */
 
 /**
  * Continuation class performing the mount/unmount operation for VirtualThread
@@ -62,6 +65,13 @@ public class Continuation {
 	private static Unsafe unsafe = Unsafe.getUnsafe();
 	private static long isAccessibleOffset = unsafe.objectFieldOffset(Continuation.class, "isAccessible");
 
+/*[IF JAVA_SPEC_VERSION >= 21]*/
+	/* The pin recorded by VirtualThreadPinningStatistics which has not yet ended. */
+	private Pinned pinnedReason;
+	private int pinnedSite;
+	private long pinnedSince;
+/*[ENDIF] JAVA_SPEC_VERSION >= 21 */
+
 	/**
 	 * Continuation's Pinned reasons
 	 */
@@ -186,6 +196,9 @@ public class Continuation {
 		try {
 			cont.runnable.run();
 		} finally {
+/*[IF JAVA_SPEC_VERSION >= 21]*/
+			cont.endPinned();
+/*[ENDIF] JAVA_SPEC_VERSION >= 21 */
 			yieldImpl(true);
 		}
 	}
@@ -239,6 +252,9 @@ public class Continuation {
 
 	@Hidden
 	private boolean yield0() {
+/*[IF JAVA_SPEC_VERSION >= 21]*/
+		endPinned();
+/*[ENDIF] JAVA_SPEC_VERSION >= 21 */
 		int rcPinned = isPinnedImpl();
 		if (rcPinned != 0) {
 			Pinned reason = null;
@@ -251,6 +267,13 @@ public class Continuation {
 			} else {
 				throw new AssertionError("Unknown pinned error code: " + rcPinned);
 			}
+/*[IF JAVA_SPEC_VERSION >= 21]*/
+			if (VirtualThreadPinningStatistics.isEnabled()) {
+				pinnedSite = VirtualThreadPinningStatistics.pinned(reason);
+				pinnedReason = reason;
+				pinnedSince = System.nanoTime();
+			}
+/*[ENDIF] JAVA_SPEC_VERSION >= 21 */
 			onPinned(reason);
 		} else {
 			yieldImpl(false);
@@ -259,6 +282,21 @@ public class Continuation {
 		return (rcPinned == 0);
 	}
 
+/*[IF JAVA_SPEC_VERSION >= 21]*/
+	/**
+	 * Ends the pin started by the last failed yield, if any. The carrier has been
+	 * held by this continuation from then until the next attempt to yield or until
+	 * the continuation completes.
+	 */
+	private void endPinned() {
+		Pinned reason = pinnedReason;
+		if (null != reason) {
+			pinnedReason = null;
+			VirtualThreadPinningStatistics.unpinned(reason, pinnedSite, System.nanoTime() - pinnedSince);
+		}
+	}
+/*[ENDIF] JAVA_SPEC_VERSION >= 21 */
+
 	protected void onPinned(Pinned reason) {
 		throw new IllegalStateException("Continuation is pinned: " + reason);
 	}
@@ -0,0 +1,67 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package openj9.internal.management;
+
+/**
+ * Garbage collection and thread counters, for diagnostic commands which
+ * cannot depend on java.management.
+ */
+public class RuntimeCountersBaseImpl {
+	/**
+	 * Indices of the values returned by getCollectorCountersImpl().
+	 */
+	public static final int GC_COLLECTION_COUNT = 0;
+	public static final int GC_COLLECTION_TIME = 1;
+	public static final int GC_HEAP_USED = 2;
+	public static final int GC_HEAP_SIZE = 3;
+	public static final int GC_COUNTERS = 4;
+
+	/**
+	 * Indices of the values returned by getThreadCountersImpl().
+	 */
+	public static final int THREAD_LIVE = 0;
+	public static final int THREAD_DAEMON = 1;
+	public static final int THREAD_PEAK = 2;
+	public static final int THREAD_STARTED = 3;
+	public static final int THREAD_COUNTERS = 4;
+
+	/**
+	 * Get the number of collections and their total time in milliseconds, summed
+	 * over all collectors, and the heap used and heap size after the last collection.
+	 *
+	 * @param counts array of at least GC_COUNTERS elements to receive the values
+	 */
+	public static native void getCollectorCountersImpl(long[] counts);
+
+	/**
+	 * Get the number of live, live daemon and peak live Java threads,
+	 * and the number of Java threads started.
+	 *
+	 * @param counts array of at least THREAD_COUNTERS elements to receive the values
+	 */
+	public static native void getThreadCountersImpl(long[] counts);
+
+	private RuntimeCountersBaseImpl() {
+		super();
+	}
+}
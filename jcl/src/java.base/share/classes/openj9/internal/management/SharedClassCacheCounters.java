@@ -0,0 +1,279 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package openj9.internal.management;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cumulative counters of the lookups and stores made through the shared class
+ * and shared data helpers of the <code>openj9.sharedclasses</code> module.
+ * <p>
+ * Every helper owns a {@link Counters} instance which is also added to the totals
+ * for its helper type. The counters are {@link LongAdder}s, so recording an event
+ * costs an uncontended add even when many threads load classes at once, and they
+ * are always on. The counters of a helper are discarded together with the helper
+ * when its class loader is unloaded; the totals for the helper type are kept.
+ * <p>
+ * Only calls which reach the shared class cache are counted. Requests refused
+ * by the helper itself, for example for lack of permission, are not.
+ */
+public final class SharedClassCacheCounters {
+
+	/**
+	 * Index of the helper type of {@code SharedClassURLHelper}.
+	 */
+	public static final int URL_HELPER = 0;
+	/**
+	 * Index of the helper type of {@code SharedClassURLClasspathHelper}.
+	 */
+	public static final int URL_CLASSPATH_HELPER = 1;
+	/**
+	 * Index of the helper type of {@code SharedClassTokenHelper}.
+	 */
+	public static final int TOKEN_HELPER = 2;
+	/**
+	 * Index of the helper type of {@code SharedDataHelper}.
+	 */
+	public static final int DATA_HELPER = 3;
+
+	/**
+	 * Index of the number of stale classes in the result of {@link #getCacheCounts()}.
+	 */
+	public static final int STALE_CLASS_COUNT = 0;
+	/**
+	 * Index of the number of AOT methods in the result of {@link #getCacheCounts()}.
+	 */
+	public static final int AOT_METHOD_COUNT = 1;
+
+	private static final String[] HELPER_TYPE_NAMES = {
+		"SharedClassURLHelper", //$NON-NLS-1$
+		"SharedClassURLClasspathHelper", //$NON-NLS-1$
+		"SharedClassTokenHelper", //$NON-NLS-1$
+		"SharedDataHelper", //$NON-NLS-1$
+	};
+
+	private static final Counters[] helperTypeCounters;
+
+	/* the counters of the live helpers, guarded by itself */
+	private static final Set<Counters> helperCounters = Collections.newSetFromMap(new WeakHashMap<Counters, Boolean>());
+
+	static {
+		Counters[] counters = new Counters[HELPER_TYPE_NAMES.length];
+		for (int i = 0; i < counters.length; ++i) {
+			counters[i] = new Counters(HELPER_TYPE_NAMES[i], null);
+		}
+		helperTypeCounters = counters;
+	}
+
+	/**
+	 * The counters of a single helper, or the totals of a helper type.
+	 */
+	public static final class Counters {
+		private final String name;
+		private final Counters parent;
+		private final LongAdder findHits = new LongAdder();
+		private final LongAdder findMisses = new LongAdder();
+		private final LongAdder stores = new LongAdder();
+		private final LongAdder storeFailures = new LongAdder();
+
+		Counters(String name, Counters parent) {
+			super();
+			this.name = name;
+			this.parent = parent;
+		}
+
+		/**
+		 * Records a lookup in the shared class cache.
+		 *
+		 * @param hit true if the class or data was found in the cache
+		 */
+		public void recordFind(boolean hit) {
+			for (Counters counters = this; null != counters; counters = counters.parent) {
+				(hit ? counters.findHits : counters.findMisses).increment();
+			}
+		}
+
+		/**
+		 * Records an attempt to store into the shared class cache.
+		 *
+		 * @param stored true if the class or data was stored, or was already present
+		 */
+		public void recordStore(boolean stored) {
+			for (Counters counters = this; null != counters; counters = counters.parent) {
+				(stored ? counters.stores : counters.storeFailures).increment();
+			}
+		}
+
+		Snapshot snapshot(String snapshotName) {
+			return new Snapshot(snapshotName, findHits.sum(), findMisses.sum(), stores.sum(), storeFailures.sum());
+		}
+	}
+
+	/**
+	 * The values of a set of counters at one point in time.
+	 */
+	public static final class Snapshot {
+		private final String name;
+		private final long findHits;
+		private final long findMisses;
+		private final long stores;
+		private final long storeFailures;
+
+		Snapshot(String name, long findHits, long findMisses, long stores, long storeFailures) {
+			super();
+			this.name = name;
+			this.findHits = findHits;
+			this.findMisses = findMisses;
+			this.stores = stores;
+			this.storeFailures = storeFailures;
+		}
+
+		/**
+		 * @return the helper type or class loader the counters belong to
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * @return the number of lookups which found the class or data in the cache
+		 */
+		public long getFindHits() {
+			return findHits;
+		}
+
+		/**
+		 * @return the number of lookups which did not find the class or data in the cache
+		 */
+		public long getFindMisses() {
+			return findMisses;
+		}
+
+		/**
+		 * @return the number of classes or data stored, including those already present
+		 */
+		public long getStores() {
+			return stores;
+		}
+
+		/**
+		 * @return the number of attempts to store which failed
+		 */
+		public long getStoreFailures() {
+			return storeFailures;
+		}
+
+		Snapshot add(Snapshot other) {
+			return new Snapshot(name,
+					findHits + other.findHits,
+					findMisses + other.findMisses,
+					stores + other.stores,
+					storeFailures + other.storeFailures);
+		}
+	}
+
+	/**
+	 * Creates the counters for a new helper.
+	 *
+	 * @param helperType the helper type, one of the <code>*_HELPER</code> constants
+	 * @param loader the class loader owning the helper
+	 * @return the counters, which contribute to the totals of the helper type
+	 */
+	public static Counters newHelperCounters(int helperType, ClassLoader loader) {
+		Counters counters = new Counters(describe(loader), helperTypeCounters[helperType]);
+		synchronized (helperCounters) {
+			helperCounters.add(counters);
+		}
+		return counters;
+	}
+
+	/**
+	 * @return the totals for each helper type
+	 */
+	public static Snapshot[] getHelperTypeSnapshots() {
+		Snapshot[] snapshots = new Snapshot[helperTypeCounters.length];
+		for (int i = 0; i < snapshots.length; ++i) {
+			snapshots[i] = helperTypeCounters[i].snapshot(HELPER_TYPE_NAMES[i]);
+		}
+		return snapshots;
+	}
+
+	/**
+	 * The counters of all the helpers of a class loader are combined.
+	 *
+	 * @return the totals for each class loader which owns a live helper
+	 */
+	public static Snapshot[] getClassLoaderSnapshots() {
+		List<Counters> live;
+		synchronized (helperCounters) {
+			live = new ArrayList<>(helperCounters);
+		}
+		Map<String, Snapshot> byLoader = new LinkedHashMap<>();
+		for (Counters counters : live) {
+			Snapshot snapshot = counters.snapshot(counters.name);
+			Snapshot previous = byLoader.get(counters.name);
+			byLoader.put(counters.name, (null == previous) ? snapshot : previous.add(snapshot));
+		}
+		return byLoader.values().toArray(new Snapshot[byLoader.size()]);
+	}
+
+	/**
+	 * Reads counts which the shared class cache keeps for all the JVMs attached to it.
+	 * Each count is -1 if there is no shared class cache.
+	 *
+	 * @return the counts, indexed by <code>STALE_CLASS_COUNT</code> and <code>AOT_METHOD_COUNT</code>
+	 */
+	public static long[] getCacheCounts() {
+		long[] counts = { -1, -1 };
+		getCacheCountsImpl(counts);
+		return counts;
+	}
+
+	private static String describe(ClassLoader loader) {
+		if (null == loader) {
+			return "bootstrap"; //$NON-NLS-1$
+		}
+		String name = null;
+		/*[IF JAVA_SPEC_VERSION >= 9]*/
+		name = loader.getName();
+		/*[ENDIF] JAVA_SPEC_VERSION >= 9 */
+		if (null == name) {
+			name = loader.getClass().getName();
+		}
+		return name + '@' + Integer.toHexString(System.identityHashCode(loader));
+	}
+
+	private static native void getCacheCountsImpl(long[] counts);
+
+	private SharedClassCacheCounters() {
+		super();
+	}
+
+}
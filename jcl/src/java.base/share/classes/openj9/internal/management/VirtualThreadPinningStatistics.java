@@ -0,0 +1,377 @@
+/*[INCLUDE-IF JAVA_SPEC_VERSION >= 21]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package openj9.internal.management;
+
+import java.lang.StackWalker.StackFrame;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.ibm.oti.vm.VM;
+import jdk.internal.vm.Continuation;
+
+/**
+ * Aggregates the events in which a virtual thread could not unmount from its carrier
+ * because its continuation was pinned. Every event is counted against its
+ * {@link Continuation.Pinned} reason, in striped counters so that carrier threads pinning
+ * at the same time do not contend on a shared cache line. On average one event in every
+ * sample interval, chosen at random on each thread, also walks the stack to attribute the
+ * event to the top frame responsible for the pin; those samples are kept per reason and
+ * frame in a fixed size table. Once the table is full, samples for new sites are only
+ * counted as dropped.
+ * <p>
+ * The duration of a pin is the time from the failed attempt to unmount until the
+ * virtual thread next attempts to unmount or terminates. For that time its carrier
+ * cannot run any other virtual thread.
+ */
+public final class VirtualThreadPinningStatistics {
+
+	/**
+	 * The maximum number of distinct sites which are recorded.
+	 */
+	public static final int MAX_SITES = 256;
+
+	/**
+	 * The system property which sets the initial sample interval.
+	 */
+	public static final String SAMPLE_INTERVAL_PROPERTY = "com.ibm.lang.management.pinningSampleInterval"; //$NON-NLS-1$
+
+	private static final int DEFAULT_SAMPLE_INTERVAL = 16;
+
+	/* power of two, at least twice MAX_SITES to keep the probe sequences short */
+	private static final int TABLE_SIZE = 512;
+	private static final int INDEX_MASK = TABLE_SIZE - 1;
+	private static final int GENERATION_SHIFT = 16;
+
+	private static final Continuation.Pinned[] REASONS = Continuation.Pinned.values();
+
+	/* frames of classes with these prefixes implement blocking and are not reported as the pinning site */
+	private static final String[] INFRASTRUCTURE_PREFIXES = {
+		"java.lang.Object", //$NON-NLS-1$
+		"java.lang.System$", //$NON-NLS-1$
+		"java.lang.Thread", //$NON-NLS-1$
+		"java.lang.VirtualThread", //$NON-NLS-1$
+		"java.util.concurrent.", //$NON-NLS-1$
+		"jdk.internal.", //$NON-NLS-1$
+		"openj9.internal.management.", //$NON-NLS-1$
+		"sun.nio.ch.", //$NON-NLS-1$
+	};
+
+	private static final String UNKNOWN_FRAME = "<unknown>"; //$NON-NLS-1$
+
+	private static final StackWalker WALKER = StackWalker.getInstance();
+
+	private static volatile int sampleInterval;
+	private static final LongAdder[] reasonCounts = newAdders();
+	private static final LongAdder[] reasonTimes = newAdders();
+
+	/* the site table and the fields below are guarded by siteLock */
+	private static final Object siteLock = new Object();
+	private static final String[] siteFrames = new String[TABLE_SIZE];
+	private static final int[] siteReasons = new int[TABLE_SIZE];
+	private static final long[] siteCounts = new long[TABLE_SIZE];
+	private static final long[] siteTimes = new long[TABLE_SIZE];
+	private static final long[] siteMaxTimes = new long[TABLE_SIZE];
+	private static int siteCount;
+	private static long droppedSamples;
+	/* distinguishes site handles issued before a reset */
+	private static int generation;
+
+	static {
+		int interval = DEFAULT_SAMPLE_INTERVAL;
+		String value = VM.internalGetProperties().getProperty(SAMPLE_INTERVAL_PROPERTY);
+		if (null != value) {
+			try {
+				interval = Integer.parseInt(value.trim());
+			} catch (NumberFormatException e) {
+				/* use the default */
+			}
+		}
+		sampleInterval = Math.max(0, interval);
+	}
+
+	/**
+	 * A site to which sampled pinning events have been attributed.
+	 */
+	public static final class Site {
+		private final String reason;
+		private final String frame;
+		private final long count;
+		private final long time;
+		private final long maxTime;
+
+		Site(String reason, String frame, long count, long time, long maxTime) {
+			this.reason = reason;
+			this.frame = frame;
+			this.count = count;
+			this.time = time;
+			this.maxTime = maxTime;
+		}
+
+		/**
+		 * @return the name of the {@link Continuation.Pinned} reason
+		 */
+		public String getReason() {
+			return reason;
+		}
+
+		/**
+		 * @return the top frame responsible for the pin
+		 */
+		public String getFrame() {
+			return frame;
+		}
+
+		/**
+		 * @return the number of sampled events
+		 */
+		public long getCount() {
+			return count;
+		}
+
+		/**
+		 * @return the total duration of the sampled events in nanoseconds
+		 */
+		public long getTime() {
+			return time;
+		}
+
+		/**
+		 * @return the longest duration of a sampled event in nanoseconds
+		 */
+		public long getMaxTime() {
+			return maxTime;
+		}
+	}
+
+	private VirtualThreadPinningStatistics() {
+		super();
+	}
+
+	/**
+	 * @return true if pinning events are being recorded
+	 */
+	public static boolean isEnabled() {
+		return 0 != sampleInterval;
+	}
+
+	/**
+	 * @return the average number of events per stack sample, or 0 if recording is disabled
+	 */
+	public static int getSampleInterval() {
+		return sampleInterval;
+	}
+
+	/**
+	 * Sets the average number of events per stack sample. 1 samples every event and 0 disables recording.
+	 *
+	 * @param interval the new sample interval
+	 * @throws IllegalArgumentException if interval is negative
+	 */
+	public static void setSampleInterval(int interval) {
+		if (interval < 0) {
+			throw new IllegalArgumentException(String.valueOf(interval));
+		}
+		sampleInterval = interval;
+	}
+
+	/**
+	 * Records that the current virtual thread failed to unmount.
+	 *
+	 * @param reason the reason the continuation is pinned
+	 * @return a handle for the site, to be passed to {@link #unpinned}
+	 */
+	public static int pinned(Continuation.Pinned reason) {
+		int interval = sampleInterval;
+		int ordinal = reason.ordinal();
+		reasonCounts[ordinal].increment();
+		int handle = -1;
+		if ((interval > 0) && (0 == ThreadLocalRandom.current().nextInt(interval))) {
+			String frame = topFrame(reason);
+			synchronized (siteLock) {
+				int index = findSite(frame, ordinal);
+				if (index >= 0) {
+					siteCounts[index] += 1;
+					handle = (generation << GENERATION_SHIFT) | index;
+				} else {
+					droppedSamples += 1;
+				}
+			}
+		}
+		return handle;
+	}
+
+	/**
+	 * Records the end of a pin reported by {@link #pinned}.
+	 *
+	 * @param reason the reason passed to {@link #pinned}
+	 * @param handle the handle returned by {@link #pinned}
+	 * @param nanos the duration of the pin
+	 */
+	public static void unpinned(Continuation.Pinned reason, int handle, long nanos) {
+		reasonTimes[reason.ordinal()].add(nanos);
+		if (handle >= 0) {
+			synchronized (siteLock) {
+				if ((handle >>> GENERATION_SHIFT) == generation) {
+					int index = handle & INDEX_MASK;
+					siteTimes[index] += nanos;
+					if (nanos > siteMaxTimes[index]) {
+						siteMaxTimes[index] = nanos;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return the names of the pinning reasons, in the order used by the other per reason methods
+	 */
+	public static String[] getReasonNames() {
+		String[] names = new String[REASONS.length];
+		for (int i = 0; i < REASONS.length; i++) {
+			names[i] = REASONS[i].name();
+		}
+		return names;
+	}
+
+	/**
+	 * @return the number of pinning events for each reason
+	 */
+	public static long[] getReasonCounts() {
+		return sum(reasonCounts);
+	}
+
+	/**
+	 * @return the total duration of the pinning events for each reason in nanoseconds
+	 */
+	public static long[] getReasonTimes() {
+		return sum(reasonTimes);
+	}
+
+	/**
+	 * @return the number of samples which were discarded because the site table was full
+	 */
+	public static long getDroppedSampleCount() {
+		synchronized (siteLock) {
+			return droppedSamples;
+		}
+	}
+
+	/**
+	 * @return the recorded sites, most frequently sampled first
+	 */
+	public static Site[] getSites() {
+		Site[] sites;
+		synchronized (siteLock) {
+			sites = new Site[siteCount];
+			int next = 0;
+			for (int i = 0; i < TABLE_SIZE; i++) {
+				if (null != siteFrames[i]) {
+					sites[next++] = new Site(REASONS[siteReasons[i]].name(), siteFrames[i], siteCounts[i], siteTimes[i], siteMaxTimes[i]);
+				}
+			}
+		}
+		Arrays.sort(sites, Comparator.comparingLong(Site::getCount).reversed());
+		return sites;
+	}
+
+	/**
+	 * Discards all recorded events.
+	 */
+	public static void reset() {
+		synchronized (siteLock) {
+			Arrays.fill(siteFrames, null);
+			Arrays.fill(siteCounts, 0);
+			Arrays.fill(siteTimes, 0);
+			Arrays.fill(siteMaxTimes, 0);
+			siteCount = 0;
+			droppedSamples = 0;
+			generation = (generation + 1) & (Integer.MAX_VALUE >>> GENERATION_SHIFT);
+			for (int i = 0; i < REASONS.length; i++) {
+				reasonCounts[i].reset();
+				reasonTimes[i].reset();
+			}
+		}
+	}
+
+	/* must be called while holding siteLock */
+	private static int findSite(String frame, int ordinal) {
+		int index = ((frame.hashCode() * 31) + ordinal) & INDEX_MASK;
+		for (;;) {
+			String existing = siteFrames[index];
+			if (null == existing) {
+				if (siteCount >= MAX_SITES) {
+					return -1;
+				}
+				siteFrames[index] = frame;
+				siteReasons[index] = ordinal;
+				siteCount += 1;
+				return index;
+			}
+			if ((ordinal == siteReasons[index]) && existing.equals(frame)) {
+				return index;
+			}
+			index = (index + 1) & INDEX_MASK;
+		}
+	}
+
+	private static String topFrame(Continuation.Pinned reason) {
+		boolean nativeOnly = (Continuation.Pinned.NATIVE == reason);
+		StackFrame frame = WALKER.walk(s -> s
+				.filter(f -> nativeOnly ? f.isNativeMethod() : !isInfrastructure(f.getClassName()))
+				.findFirst()
+				.orElse(null));
+		if (null == frame) {
+			return UNKNOWN_FRAME;
+		}
+		int line = frame.getLineNumber();
+		String name = frame.getClassName() + '.' + frame.getMethodName();
+		return (line >= 0) ? (name + ':' + line) : name;
+	}
+
+	private static boolean isInfrastructure(String className) {
+		for (String prefix : INFRASTRUCTURE_PREFIXES) {
+			if (className.startsWith(prefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static LongAdder[] newAdders() {
+		LongAdder[] adders = new LongAdder[REASONS.length];
+		for (int i = 0; i < adders.length; i++) {
+			adders[i] = new LongAdder();
+		}
+		return adders;
+	}
+
+	private static long[] sum(LongAdder[] adders) {
+		long[] result = new long[adders.length];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = adders[i].sum();
+		}
+		return result;
+	}
+}
@@ -64,6 +64,9 @@ final class Attachment extends Thread implements Response {
 	private Socket attacherSocket;
 	private final int portNumber;
 	private InputStream commandStream;
+	private DiagnosticResultStream resultStream;
+	/* properties replies use length-prefixed frames, at the request of the attacher */
+	private boolean framedReplies;
 	private String attachError;
 	private final AttachHandler handler;
 	private final String key;
@@ -268,13 +271,35 @@ final class Attachment extends Thread implements Response {
 				} else {
 					AttachmentConnection.streamSend(respStream, Response.ERROR + " " + attachError); //$NON-NLS-1$
 				}
-			} else if (cmd.startsWith(Command.ATTACH_DIAGNOSTICS_PREFIX)) {
+			} else if (cmd.startsWith(Command.FRAMED_REPLIES)) {
+				framedReplies = true;
+				AttachmentConnection.streamSend(respStream, Response.ACK);
+			} else if (cmd.startsWith(Command.ATTACH_DIAGNOSTICS_PREFIX) && framedReplies) {
+				/* a streamed result cannot be framed, since its length is not known in advance */
 				try {
 					String diagnosticCommand = cmd.substring(Command.ATTACH_DIAGNOSTICS_PREFIX.length());
 					replyWithProperties(DiagnosticUtils.executeDiagnosticCommand(diagnosticCommand));
 				} catch (Exception e) {
 					replyWithProperties(DiagnosticProperties.makeExceptionProperties(e));
 				}
+			} else if (cmd.startsWith(Command.ATTACH_DIAGNOSTICS_PREFIX)) {
+				if (null == resultStream) {
+					resultStream = new DiagnosticResultStream();
+				}
+				try {
+					String diagnosticCommand = cmd.substring(Command.ATTACH_DIAGNOSTICS_PREFIX.length());
+					DiagnosticProperties result = DiagnosticUtils.executeDiagnosticCommand(diagnosticCommand, respStream, resultStream);
+					if (null != result) {
+						replyWithProperties(result);
+					}
+				} catch (Exception e) {
+					if (resultStream.isStarted()) {
+						/* part of the result has been sent, so the properties cannot be replaced */
+						resultStream.abort(e);
+					} else {
+						replyWithProperties(DiagnosticProperties.makeExceptionProperties(e));
+					}
+				}
 			} else {
 				AttachmentConnection.streamSend(respStream, Response.ERROR
 						+ " command invalid: " + cmd); //$NON-NLS-1$
@@ -296,11 +321,19 @@ final class Attachment extends Thread implements Response {
 	}
 
 	private void replyWithProperties(DiagnosticProperties props) throws IOException {
-		replyWithProperties(props.toProperties());
+		if (framedReplies) {
+			AttachmentConnection.sendFrame(responseStream, props);
+		} else {
+			IPC.sendProperties(props.toProperties(), responseStream);
+		}
 	}
 
 	private void replyWithProperties(Properties props) throws IOException {
-		IPC.sendProperties(props, responseStream);
+		if (framedReplies) {
+			AttachmentConnection.sendFrame(responseStream, props);
+		} else {
+			IPC.sendProperties(props, responseStream);
+		}
 	}
 
 	/**
@@ -28,6 +28,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Properties;
 
 /**
  *
@@ -38,6 +43,23 @@ public final class AttachmentConnection {
 
 	private static final String STREAM_ENCODING = "UTF8"; //$NON-NLS-1$
 
+	/*
+	 * Field types in a framed message. A frame is a 4 byte big-endian payload
+	 * length followed by the fields. Each field is a type byte, the key, and the
+	 * value. Strings are a 4 byte count of UTF-16 chars followed by the chars.
+	 */
+	static final byte FIELD_STRING = 1;
+	static final byte FIELD_INT = 2;
+	static final byte FIELD_LONG = 3;
+	static final byte FIELD_BOOLEAN = 4;
+
+	private static final int FRAME_HEADER_LENGTH = 4;
+	private static final int FRAME_BUFFER_CAPACITY = 8 * 1024;
+	/* buffers which have grown beyond this are dropped rather than pooled */
+	private static final int FRAME_BUFFER_RETAIN_LIMIT = 256 * 1024;
+	private static final int FRAME_POOL_SIZE = 4;
+	private static final ArrayDeque<ByteBuffer> framePool = new ArrayDeque<>(FRAME_POOL_SIZE);
+
 	/**
 	 * read until null byte found
 	 * @param channel input stream
@@ -141,4 +163,242 @@ public final class AttachmentConnection {
 		return message;
 	}
 
+	/**
+	 * Write properties as a single length-prefixed frame. Fields added with the
+	 * typed put() methods of DiagnosticProperties are sent in binary.
+	 * @param channel output channel
+	 * @param props properties to send
+	 * @throws IOException if channel not open
+	 */
+	public static void sendFrame(OutputStream channel, DiagnosticProperties props) throws IOException {
+		if (null == channel) {
+			throw new IOException();
+		}
+		ByteBuffer frame = acquireFrameBuffer(FRAME_BUFFER_CAPACITY);
+		try {
+			frame.position(FRAME_HEADER_LENGTH);
+			for (Map.Entry<Object, Object> entry : props.toProperties().entrySet()) {
+				Object key = entry.getKey();
+				if ((key instanceof String) && (entry.getValue() instanceof String)) {
+					frame = putField(frame, (String) key, props.getTypedValue((String) key));
+				}
+			}
+			int length = frame.position();
+			frame.putInt(0, length - FRAME_HEADER_LENGTH);
+			IPC.logMessage("sendFrame length=", length); //$NON-NLS-1$
+			channel.write(frame.array(), frame.arrayOffset(), length);
+			channel.flush();
+		} finally {
+			releaseFrameBuffer(frame);
+		}
+	}
+
+	/**
+	 * Write properties as a single length-prefixed frame of string fields.
+	 * @param channel output channel
+	 * @param props properties to send
+	 * @throws IOException if channel not open
+	 */
+	public static void sendFrame(OutputStream channel, Properties props) throws IOException {
+		sendFrame(channel, new DiagnosticProperties(props));
+	}
+
+	/**
+	 * Ask the target to send properties replies on this connection as frames.
+	 * Targets which predate framing reply with an error, and the connection
+	 * continues to use text.
+	 * @param commandStream stream to the target
+	 * @param responseStream stream from the target
+	 * @return true if the target will send frames
+	 * @throws IOException if the connection fails
+	 */
+	public static boolean requestFramedReplies(OutputStream commandStream, InputStream responseStream) throws IOException {
+		streamSend(commandStream, Command.FRAMED_REPLIES);
+		String response = streamReceiveString(responseStream);
+		IPC.logMessage("requestFramedReplies response: ", response); //$NON-NLS-1$
+		return response.startsWith(Response.ACK);
+	}
+
+	/**
+	 * Read a properties reply, either a frame or null-terminated text.
+	 * @param channel input stream
+	 * @param framed true if framed replies were accepted by the target
+	 * @return properties, with the field types of the sender if framed
+	 * @throws IOException if the stream closed before the end of the reply or the reply is malformed
+	 */
+	public static DiagnosticProperties receiveProperties(InputStream channel, boolean framed) throws IOException {
+		if (framed) {
+			return receiveFrame(channel);
+		}
+		return new DiagnosticProperties(IPC.receiveProperties(channel, true));
+	}
+
+	/**
+	 * Read a frame written by sendFrame(). Use this only if you trust the sender.
+	 * @param channel input stream
+	 * @return properties, with the field types of the sender
+	 * @throws IOException if the stream closed before the end of the frame or the frame is malformed
+	 */
+	public static DiagnosticProperties receiveFrame(InputStream channel) throws IOException {
+		if (null == channel) {
+			/*[MSG "K0575", "channel is null"]*/
+			throw new IOException(com.ibm.oti.util.Msg.getString("K0575")); //$NON-NLS-1$
+		}
+		ByteBuffer frame = acquireFrameBuffer(FRAME_BUFFER_CAPACITY);
+		try {
+			readFully(channel, frame.array(), frame.arrayOffset(), FRAME_HEADER_LENGTH);
+			int length = frame.getInt(0);
+			if (length < 0) {
+				throw new IOException("invalid frame length " + length); //$NON-NLS-1$
+			}
+			if (length > frame.capacity()) {
+				ByteBuffer larger = acquireFrameBuffer(length);
+				releaseFrameBuffer(frame);
+				frame = larger;
+			}
+			readFully(channel, frame.array(), frame.arrayOffset(), length);
+			frame.clear().limit(length);
+			DiagnosticProperties props = new DiagnosticProperties();
+			try {
+				while (frame.hasRemaining()) {
+					byte type = frame.get();
+					String key = getString(frame);
+					switch (type) {
+					case FIELD_STRING:
+						props.put(key, getString(frame));
+						break;
+					case FIELD_INT:
+						props.put(key, frame.getInt());
+						break;
+					case FIELD_LONG:
+						props.put(key, frame.getLong());
+						break;
+					case FIELD_BOOLEAN:
+						props.put(key, 0 != frame.get());
+						break;
+					default:
+						throw new IOException("invalid frame field type " + type); //$NON-NLS-1$
+					}
+				}
+			} catch (RuntimeException e) {
+				/* BufferUnderflowException or IndexOutOfBoundsException from a truncated field */
+				throw new IOException("malformed frame", e); //$NON-NLS-1$
+			}
+			return props;
+		} finally {
+			releaseFrameBuffer(frame);
+		}
+	}
+
+	private static ByteBuffer putField(ByteBuffer frame, String key, Object value) {
+		byte type;
+		int valueLength;
+		if (value instanceof Integer) {
+			type = FIELD_INT;
+			valueLength = Integer.BYTES;
+		} else if (value instanceof Long) {
+			type = FIELD_LONG;
+			valueLength = Long.BYTES;
+		} else if (value instanceof Boolean) {
+			type = FIELD_BOOLEAN;
+			valueLength = 1;
+		} else {
+			type = FIELD_STRING;
+			valueLength = Integer.BYTES + (((String) value).length() * Character.BYTES);
+		}
+		ByteBuffer buffer = ensureCapacity(frame, 1 + Integer.BYTES + (key.length() * Character.BYTES) + valueLength);
+		buffer.put(type);
+		putString(buffer, key);
+		switch (type) {
+		case FIELD_INT:
+			buffer.putInt(((Integer) value).intValue());
+			break;
+		case FIELD_LONG:
+			buffer.putLong(((Long) value).longValue());
+			break;
+		case FIELD_BOOLEAN:
+			buffer.put(((Boolean) value).booleanValue() ? (byte) 1 : (byte) 0);
+			break;
+		default:
+			putString(buffer, (String) value);
+			break;
+		}
+		return buffer;
+	}
+
+	private static void putString(ByteBuffer buffer, String s) {
+		int length = s.length();
+		buffer.putInt(length);
+		for (int i = 0; i < length; ++i) {
+			buffer.putChar(s.charAt(i));
+		}
+	}
+
+	private static String getString(ByteBuffer buffer) {
+		int length = buffer.getInt();
+		int byteLength = length * Character.BYTES;
+		if ((length < 0) || (byteLength > buffer.remaining())) {
+			throw new IndexOutOfBoundsException();
+		}
+		int start = buffer.position();
+		buffer.position(start + byteLength);
+		return new String(buffer.array(), buffer.arrayOffset() + start, byteLength, StandardCharsets.UTF_16BE);
+	}
+
+	private static void readFully(InputStream channel, byte[] buffer, int offset, int length) throws IOException {
+		int count = 0;
+		while (count < length) {
+			int nRead = channel.read(buffer, offset + count, length - count);
+			if (nRead < 0) {
+				/*[MSG "K0571", "input stream closed"]*/
+				throw new IOException(com.ibm.oti.util.Msg.getString("K0571")); /* premature close of the socket */ //$NON-NLS-1$
+			}
+			count += nRead;
+		}
+	}
+
+	/**
+	 * Grow the frame if it cannot hold the given number of additional bytes.
+	 * The contents of the frame are preserved.
+	 */
+	private static ByteBuffer ensureCapacity(ByteBuffer frame, int needed) {
+		ByteBuffer result = frame;
+		if (frame.remaining() < needed) {
+			int position = frame.position();
+			int capacity = Math.max(frame.capacity() * 2, position + needed);
+			result = ByteBuffer.allocate(capacity);
+			result.put(frame.array(), frame.arrayOffset(), position);
+			releaseFrameBuffer(frame);
+		}
+		return result;
+	}
+
+	/**
+	 * Frame buffers are backed by arrays since the attach sockets are used
+	 * through streams, so a direct buffer would add a copy on every transfer.
+	 */
+	private static ByteBuffer acquireFrameBuffer(int capacity) {
+		ByteBuffer frame = null;
+		if (capacity <= FRAME_BUFFER_CAPACITY) {
+			synchronized (framePool) {
+				frame = framePool.pollFirst();
+			}
+		}
+		if (null == frame) {
+			frame = ByteBuffer.allocate(Math.max(capacity, FRAME_BUFFER_CAPACITY));
+		}
+		frame.clear();
+		return frame;
+	}
+
+	private static void releaseFrameBuffer(ByteBuffer frame) {
+		if (frame.capacity() <= FRAME_BUFFER_RETAIN_LIMIT) {
+			synchronized (framePool) {
+				if (framePool.size() < FRAME_POOL_SIZE) {
+					framePool.addFirst(frame);
+				}
+			}
+		}
+	}
+
 }
@@ -56,4 +56,11 @@ public interface Command {
 	static final String START_LOCAL_MANAGEMENT_AGENT = "ATTACH_START_LOCAL_MANAGEMENT_AGENT"; //$NON-NLS-1$
 	static final String ATTACH_DIAGNOSTICS_PREFIX = "ATTACH_DIAGNOSTICS:"; //$NON-NLS-1$
 
+	/**
+	 * Request that properties replies on this connection use length-prefixed
+	 * frames with typed fields rather than text. Targets which do not recognize
+	 * this reply with an error and continue to use text.
+	 */
+	static final String FRAMED_REPLIES = "ATTACH_FRAMED_REPLIES"; //$NON-NLS-1$
+
 }
@@ -28,6 +28,8 @@ import java.io.StringWriter;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 /**
@@ -37,6 +39,13 @@ import java.util.Properties;
 public class DiagnosticProperties {
 	private final Properties baseProperties;
 
+	/**
+	 * Values of the fields added with the int, long, and boolean put() methods,
+	 * so the framed protocol can send them in binary and the getters need not
+	 * parse them. Absent for all-string properties.
+	 */
+	private Map<String, Object> typedValues;
+
 	/**
 	 * Main prefix for property keys
 	 */
@@ -88,6 +97,7 @@ public class DiagnosticProperties {
 	 */
 	public void put(String key, int value) {
 		baseProperties.setProperty(key, Integer.toString(value));
+		setTypedValue(key, Integer.valueOf(value));
 	}
 
 	/**
@@ -98,6 +108,29 @@ public class DiagnosticProperties {
 	 */
 	public void put(String key, String value) {
 		baseProperties.setProperty(key, value);
+		if (null != typedValues) {
+			typedValues.remove(key);
+		}
+	}
+
+	private void setTypedValue(String key, Object value) {
+		if (null == typedValues) {
+			typedValues = new HashMap<>();
+		}
+		typedValues.put(key, value);
+	}
+
+	/**
+	 * Return a property value with the type with which it was added, either
+	 * locally or by the target when the properties were received in a frame.
+	 *
+	 * @param key property name
+	 * @return an Integer, Long or Boolean for typed properties, a String for
+	 *         other properties, or null if the property is not found
+	 */
+	public Object getTypedValue(String key) {
+		Object value = (null == typedValues) ? null : typedValues.get(key);
+		return (null == value) ? baseProperties.getProperty(key) : value;
 	}
 
 	/**
@@ -108,6 +141,7 @@ public class DiagnosticProperties {
 	 */
 	public void put(String key, long value) {
 		baseProperties.setProperty(key, Long.toString(value));
+		setTypedValue(key, Long.valueOf(value));
 	}
 
 	/**
@@ -118,6 +152,7 @@ public class DiagnosticProperties {
 	 */
 	public void put(String key, boolean value) {
 		baseProperties.setProperty(key, Boolean.toString(value));
+		setTypedValue(key, Boolean.valueOf(value));
 	}
 
 	private void checkExists(String key) throws IOException {
@@ -147,6 +182,10 @@ public class DiagnosticProperties {
 	 */
 	public int getInt(String key) throws NumberFormatException, IOException {
 		checkExists(key);
+		Object value = getTypedValue(key);
+		if (value instanceof Integer) {
+			return ((Integer) value).intValue();
+		}
 		return Integer.parseInt(baseProperties.getProperty(key));
 	}
 
@@ -161,6 +200,10 @@ public class DiagnosticProperties {
 	 */
 	public long getLong(String key) throws NumberFormatException, IOException {
 		checkExists(key);
+		Object value = getTypedValue(key);
+		if ((value instanceof Long) || (value instanceof Integer)) {
+			return ((Number) value).longValue();
+		}
 		return Long.parseLong(baseProperties.getProperty(key));
 	}
 
@@ -173,6 +216,10 @@ public class DiagnosticProperties {
 	 */
 	public boolean getBoolean(String key) throws IOException {
 		checkExists(key);
+		Object value = getTypedValue(key);
+		if (value instanceof Boolean) {
+			return ((Boolean) value).booleanValue();
+		}
 		return Boolean.parseBoolean(baseProperties.getProperty(key));
 	}
 
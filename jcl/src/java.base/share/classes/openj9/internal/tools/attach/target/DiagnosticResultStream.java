@@ -0,0 +1,215 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package openj9.internal.tools.attach.target;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Writes the result of a diagnostic command which produces a single string
+ * directly to the attacher, in the properties file format produced by
+ * {@link IPC#sendProperties(Properties, OutputStream)}. The text is escaped
+ * as it is appended and sent through a fixed size buffer, so the complete
+ * result is never held in memory. One instance is reused for all the
+ * commands on a connection.
+ */
+final class DiagnosticResultStream implements Appendable {
+
+	private static final int BUFFER_SIZE = 8 * 1024;
+
+	/* the longest escape sequence is a unicode escape, \\uXXXX */
+	private static final int MAX_ESCAPED_LENGTH = 6;
+
+	private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray(); //$NON-NLS-1$
+
+	private final byte[] buffer = new byte[BUFFER_SIZE];
+	private int count;
+	private OutputStream out;
+	private boolean valueStart;
+
+	/**
+	 * Start a successful result. The status properties are written, followed by
+	 * the key of the string result, so that the text of the result can be appended.
+	 *
+	 * @param responseStream stream to the attacher
+	 * @param diagnosticCommand the command which produces the result
+	 * @throws IOException on communication error
+	 */
+	void begin(OutputStream responseStream, String diagnosticCommand) throws IOException {
+		out = responseStream;
+		count = 0;
+		Properties status = DiagnosticProperties.makeCommandSucceeded().toProperties();
+		status.remove(DiagnosticProperties.DIAGNOSTICS_STRING_RESULT);
+		status.setProperty(DiagnosticUtils.COMMAND_STRING, diagnosticCommand);
+		for (Map.Entry<Object, Object> entry : status.entrySet()) {
+			writeKey((String) entry.getKey());
+			append((String) entry.getValue());
+			writeByte('\n');
+		}
+		writeKey(DiagnosticProperties.DIAGNOSTICS_STRING_RESULT);
+	}
+
+	/**
+	 * @return true if a result has been started and not yet ended
+	 */
+	boolean isStarted() {
+		return null != out;
+	}
+
+	/**
+	 * Complete a result which could not be finished because of an exception.
+	 * The status properties have already been sent, so the exception is
+	 * reported at the end of the text.
+	 *
+	 * @param e the exception
+	 * @throws IOException on communication error
+	 */
+	void abort(Exception e) throws IOException {
+		append(System.lineSeparator());
+		append("Error: "); //$NON-NLS-1$
+		append(e.toString());
+		end();
+	}
+
+	/**
+	 * Complete the result and send any buffered text.
+	 *
+	 * @throws IOException on communication error
+	 */
+	void end() throws IOException {
+		try {
+			writeByte('\n');
+			writeByte(0);
+			flushBuffer();
+			out.flush();
+		} finally {
+			out = null;
+		}
+	}
+
+	@Override
+	public DiagnosticResultStream append(CharSequence csq) throws IOException {
+		if (null == csq) {
+			csq = "null"; //$NON-NLS-1$
+		}
+		return append(csq, 0, csq.length());
+	}
+
+	@Override
+	public DiagnosticResultStream append(CharSequence csq, int start, int end) throws IOException {
+		if (null == csq) {
+			csq = "null"; //$NON-NLS-1$
+		}
+		for (int i = start; i < end; ++i) {
+			append(csq.charAt(i));
+		}
+		return this;
+	}
+
+	/**
+	 * Append a character, escaped as Properties.store() escapes a value
+	 * written to a stream in ISO 8859-1.
+	 */
+	@Override
+	public DiagnosticResultStream append(char c) throws IOException {
+		if ((count + MAX_ESCAPED_LENGTH) > BUFFER_SIZE) {
+			flushBuffer();
+		}
+		byte[] bytes = buffer;
+		int index = count;
+		switch (c) {
+		case ' ':
+			/* only a leading space in a value is significant */
+			if (valueStart) {
+				bytes[index++] = '\\';
+			}
+			bytes[index++] = ' ';
+			break;
+		case '\t':
+			bytes[index++] = '\\';
+			bytes[index++] = 't';
+			break;
+		case '\n':
+			bytes[index++] = '\\';
+			bytes[index++] = 'n';
+			break;
+		case '\r':
+			bytes[index++] = '\\';
+			bytes[index++] = 'r';
+			break;
+		case '\f':
+			bytes[index++] = '\\';
+			bytes[index++] = 'f';
+			break;
+		case '\\':
+		case '=':
+		case ':':
+		case '#':
+		case '!':
+			bytes[index++] = '\\';
+			bytes[index++] = (byte) c;
+			break;
+		default:
+			if ((c < 0x20) || (c > 0x7e)) {
+				bytes[index++] = '\\';
+				bytes[index++] = 'u';
+				bytes[index++] = (byte) HEX_DIGITS[(c >> 12) & 0xF];
+				bytes[index++] = (byte) HEX_DIGITS[(c >> 8) & 0xF];
+				bytes[index++] = (byte) HEX_DIGITS[(c >> 4) & 0xF];
+				bytes[index++] = (byte) HEX_DIGITS[c & 0xF];
+			} else {
+				bytes[index++] = (byte) c;
+			}
+			break;
+		}
+		count = index;
+		valueStart = false;
+		return this;
+	}
+
+	private void writeKey(String key) throws IOException {
+		/* the keys used by the diagnostic commands contain no characters which need escaping */
+		for (int i = 0; i < key.length(); ++i) {
+			writeByte(key.charAt(i));
+		}
+		writeByte('=');
+		valueStart = true;
+	}
+
+	private void writeByte(int b) throws IOException {
+		if (count == BUFFER_SIZE) {
+			flushBuffer();
+		}
+		buffer[count++] = (byte) b;
+	}
+
+	private void flushBuffer() throws IOException {
+		if (count > 0) {
+			out.write(buffer, 0, count);
+			count = 0;
+		}
+	}
+
+}
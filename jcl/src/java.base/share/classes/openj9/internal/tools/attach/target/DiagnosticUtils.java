@@ -23,6 +23,8 @@
 
 package openj9.internal.tools.attach.target;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
@@ -39,9 +41,12 @@ import com.ibm.oti.vm.VM;
 import openj9.internal.criu.InternalCRIUSupport;
 /*[ENDIF] CRAC_SUPPORT */
 import openj9.internal.management.ClassLoaderInfoBaseImpl;
+import openj9.internal.management.RuntimeCountersBaseImpl;
+/*[IF JAVA_SPEC_VERSION >= 21]*/
+import openj9.internal.management.VirtualThreadPinningStatistics;
+/*[ENDIF] JAVA_SPEC_VERSION >= 21 */
 import openj9.management.internal.IDCacheInitializer;
 import openj9.management.internal.InvalidDumpOptionExceptionBase;
-import openj9.management.internal.LockInfoBase;
 import openj9.management.internal.ThreadInfoBase;
 
 /**
@@ -111,6 +116,13 @@ public class DiagnosticUtils {
 	 */
 	private static final String DIAGNOSTICS_THREAD_PRINT = "Thread.print";
 
+/*[IF JAVA_SPEC_VERSION >= 21]*/
+	/**
+	 * Report or control the virtual thread pinning statistics.
+	 */
+	private static final String DIAGNOSTICS_THREAD_PINNING = "Thread.pinning";
+/*[ENDIF] JAVA_SPEC_VERSION >= 21 */
+
 /*[IF CRAC_SUPPORT]*/
 	/**
 	 * Generate a checkpoint via CRIUSupport using a compatability name.
@@ -151,6 +163,33 @@ public class DiagnosticUtils {
 	 */
 	private static final String DIAGNOSTICS_STAT_CLASS = "jstat.class";
 
+	/**
+	 * Keys for the class counts reported by jstat.class, for attachers which
+	 * poll the counts rather than parse the text result.
+	 */
+	public static final String DIAGNOSTICS_STAT_CLASS_LOADED = DiagnosticProperties.OPENJ9_DIAGNOSTICS_PREFIX + "jstat.class.loaded";
+	public static final String DIAGNOSTICS_STAT_CLASS_UNLOADED = DiagnosticProperties.OPENJ9_DIAGNOSTICS_PREFIX + "jstat.class.unloaded";
+
+	private static final String DIAGNOSTICS_STAT_GC = "jstat.gc";
+
+	/**
+	 * Keys for the garbage collection counts reported by jstat.gc.
+	 */
+	public static final String DIAGNOSTICS_STAT_GC_COUNT = DiagnosticProperties.OPENJ9_DIAGNOSTICS_PREFIX + "jstat.gc.count";
+	public static final String DIAGNOSTICS_STAT_GC_TIME = DiagnosticProperties.OPENJ9_DIAGNOSTICS_PREFIX + "jstat.gc.time";
+	public static final String DIAGNOSTICS_STAT_GC_HEAP_USED = DiagnosticProperties.OPENJ9_DIAGNOSTICS_PREFIX + "jstat.gc.heap_used";
+	public static final String DIAGNOSTICS_STAT_GC_HEAP_SIZE = DiagnosticProperties.OPENJ9_DIAGNOSTICS_PREFIX + "jstat.gc.heap_size";
+
+	private static final String DIAGNOSTICS_STAT_THREAD = "jstat.thread";
+
+	/**
+	 * Keys for the thread counts reported by jstat.thread.
+	 */
+	public static final String DIAGNOSTICS_STAT_THREAD_LIVE = DiagnosticProperties.OPENJ9_DIAGNOSTICS_PREFIX + "jstat.thread.live";
+	public static final String DIAGNOSTICS_STAT_THREAD_DAEMON = DiagnosticProperties.OPENJ9_DIAGNOSTICS_PREFIX + "jstat.thread.daemon";
+	public static final String DIAGNOSTICS_STAT_THREAD_PEAK = DiagnosticProperties.OPENJ9_DIAGNOSTICS_PREFIX + "jstat.thread.peak";
+	public static final String DIAGNOSTICS_STAT_THREAD_STARTED = DiagnosticProperties.OPENJ9_DIAGNOSTICS_PREFIX + "jstat.thread.started";
+
 	// load JVMTI agent
 	private static final String DIAGNOSTICS_LOAD_JVMTI_AGENT = "JVMTI.agent_load";
 
@@ -170,10 +209,31 @@ public class DiagnosticUtils {
 	private static final String ALL_OPTION = "all";
 	private static final String LIVE_OPTION = "live";
 	private static final String THREAD_LOCKED_SYNCHRONIZERS_OPTION = "-l";
+	private static final String THREAD_SUMMARY_OPTION = "-s";
+/*[IF JAVA_SPEC_VERSION >= 21]*/
+	private static final String PINNING_RESET_OPTION = "reset";
+	private static final String PINNING_INTERVAL_OPTION = "interval=";
+/*[ENDIF] JAVA_SPEC_VERSION >= 21 */
 
 	private static final Map<String, Function<String, DiagnosticProperties>> commandTable;
+	private static final Map<String, StreamingCommand> streamingCommandTable;
 	private static final Map<String, String> helpTable;
 
+	/**
+	 * A command which writes its result to the attacher as it is produced.
+	 */
+	@FunctionalInterface
+	private interface StreamingCommand {
+		/**
+		 * @param diagnosticCommand String containing the command and options
+		 * @param responseStream stream to the attacher
+		 * @param resultStream writer for the result
+		 * @return diagnostic information in case of error, or null if the result was written to resultStream
+		 * @throws IOException on communication error
+		 */
+		DiagnosticProperties run(String diagnosticCommand, OutputStream responseStream, DiagnosticResultStream resultStream) throws IOException;
+	}
+
 	/**
 	 * Create the command to run the heapHisto command
 	 *
@@ -195,9 +255,24 @@ public class DiagnosticUtils {
 	 * @return formatted string
 	 */
 	public static String makeThreadPrintCommand(boolean lockedSynchronizers) {
-		String cmd = lockedSynchronizers
-				? DIAGNOSTICS_THREAD_PRINT + DIAGNOSTICS_OPTION_SEPARATOR + THREAD_LOCKED_SYNCHRONIZERS_OPTION
-				: DIAGNOSTICS_THREAD_PRINT;
+		return makeThreadPrintCommand(lockedSynchronizers, false);
+	}
+
+	/**
+	 * Create the command to run the Thread.print command
+	 *
+	 * @param lockedSynchronizers print the locked ownable synchronizers
+	 * @param summary print each distinct stack once, with the threads that have it
+	 * @return formatted string
+	 */
+	public static String makeThreadPrintCommand(boolean lockedSynchronizers, boolean summary) {
+		String cmd = DIAGNOSTICS_THREAD_PRINT;
+		if (lockedSynchronizers) {
+			cmd += DIAGNOSTICS_OPTION_SEPARATOR + THREAD_LOCKED_SYNCHRONIZERS_OPTION;
+		}
+		if (summary) {
+			cmd += DIAGNOSTICS_OPTION_SEPARATOR + THREAD_SUMMARY_OPTION;
+		}
 		return cmd;
 	}
 
@@ -238,6 +313,31 @@ public class DiagnosticUtils {
 		return result;
 	}
 
+	/**
+	 * Run a diagnostic command. If the command supports it, the result is written
+	 * to the attacher as it is produced rather than returned.
+	 *
+	 * @param diagnosticCommand String containing the command and options
+	 * @param responseStream stream to the attacher
+	 * @param resultStream writer for a streamed result
+	 * @return command result or diagnostic information in case of error, or null if the result was streamed
+	 * @throws IOException on communication error
+	 */
+	static DiagnosticProperties executeDiagnosticCommand(String diagnosticCommand, OutputStream responseStream,
+			DiagnosticResultStream resultStream) throws IOException {
+		String[] commandRoot = diagnosticCommand.split(DiagnosticUtils.DIAGNOSTICS_OPTION_SEPARATOR);
+		StreamingCommand cmd = streamingCommandTable.get(commandRoot[0]);
+		if (null == cmd) {
+			return executeDiagnosticCommand(diagnosticCommand);
+		}
+		IPC.logMessage("executeDiagnosticCommand streaming: ", diagnosticCommand);
+		DiagnosticProperties result = cmd.run(diagnosticCommand, responseStream, resultStream);
+		if (null != result) {
+			result.put(DiagnosticUtils.COMMAND_STRING, diagnosticCommand);
+		}
+		return result;
+	}
+
 	private static DiagnosticProperties getHeapStatistics(String diagnosticCommand) {
 		DiagnosticProperties result = null;
 		boolean invalidArg = false;
@@ -269,52 +369,70 @@ public class DiagnosticUtils {
 		return result;
 	}
 
-	private static DiagnosticProperties getThreadInfo(String diagnosticCommand) {
-		DiagnosticProperties result = null;
-		boolean okay = true;
+	/**
+	 * Parse the options of the Thread.print command.
+	 *
+	 * @param diagnosticCommand String containing the command and options
+	 * @return the options, {synchronizers, summary}, or null if the options are invalid
+	 */
+	private static boolean[] parseThreadPrintOptions(String diagnosticCommand) {
 		boolean addSynchronizers = false;
+		boolean summary = false;
 		String[] parts = diagnosticCommand.split(DIAGNOSTICS_OPTION_SEPARATOR);
-		/* only one option ("-l[=<BOOLEAN>]") is allowed, so the diagnosticCommand can comprise at most
-		 * the base command and one option, with an optional value */
-		if (parts.length > 2) {
-			okay = false;
-		} else if (parts.length == 2) {
-			String option = parts[1];
+		/* the options are "-l[=<BOOLEAN>]" and "-s[=<BOOLEAN>]", so the diagnosticCommand can comprise at most
+		 * the base command and two options, each with an optional value */
+		if (parts.length > 3) {
+			return null;
+		}
+		for (int i = 1; i < parts.length; ++i) {
+			String option = parts[i];
 			if (option.startsWith(THREAD_LOCKED_SYNCHRONIZERS_OPTION)) {
-				if ((THREAD_LOCKED_SYNCHRONIZERS_OPTION.length() == option.length()) /* exact match */
-						|| option.toLowerCase().equals(THREAD_LOCKED_SYNCHRONIZERS_OPTION + "=true")) {
-					addSynchronizers = true;
-				}
+				addSynchronizers = isBooleanOptionSet(option, THREAD_LOCKED_SYNCHRONIZERS_OPTION);
+			} else if (option.startsWith(THREAD_SUMMARY_OPTION)) {
+				summary = isBooleanOptionSet(option, THREAD_SUMMARY_OPTION);
 			} else {
-				okay = false;
+				return null;
 			}
 		}
-		if (!okay) {
+		return new boolean[] { addSynchronizers, summary };
+	}
+
+	private static boolean isBooleanOptionSet(String option, String name) {
+		return (name.length() == option.length()) /* exact match */
+				|| option.toLowerCase().equals(name + "=true");
+	}
+
+	private static DiagnosticProperties getThreadInfo(String diagnosticCommand) {
+		DiagnosticProperties result = null;
+		boolean[] options = parseThreadPrintOptions(diagnosticCommand);
+		if (null == options) {
 			result = DiagnosticProperties.makeErrorProperties("Command not recognized: " + diagnosticCommand);
 		} else {
-			StringWriter buffer = new StringWriter(2000);
-			PrintWriter bufferPrinter = new PrintWriter(buffer);
-			bufferPrinter.println(System.getProperty("java.vm.info"));
-			bufferPrinter.println();
-			ThreadInfoBase[] threadInfoBases = dumpAllThreadsImpl(true, addSynchronizers, Integer.MAX_VALUE);
-			for (ThreadInfoBase currentThreadInfoBase : threadInfoBases) {
-				bufferPrinter.print(currentThreadInfoBase.toString());
-				if (addSynchronizers) {
-					LockInfoBase[] lockedSynchronizers = currentThreadInfoBase.getLockedSynchronizers();
-					bufferPrinter.printf("%n\tLocked ownable synchronizers: %d%n",
-							Integer.valueOf(lockedSynchronizers.length));
-					for (LockInfoBase currentLockedSynchronizer : lockedSynchronizers) {
-						bufferPrinter.printf("\t- %s%n", currentLockedSynchronizer.toString());
-					}
-				}
-				bufferPrinter.println();
+			StringBuilder buffer = new StringBuilder(2000);
+			try {
+				ThreadPrint.print(buffer, options[0], options[1]);
+			} catch (IOException e) {
+				/* StringBuilder does not throw IOException */
 			}
-			bufferPrinter.flush();
 			result = DiagnosticProperties.makeStringResult(buffer.toString());
 		}
 		return result;
 	}
 
+	private static DiagnosticProperties streamThreadInfo(String diagnosticCommand, OutputStream responseStream,
+			DiagnosticResultStream resultStream) throws IOException {
+		DiagnosticProperties result = null;
+		boolean[] options = parseThreadPrintOptions(diagnosticCommand);
+		if (null == options) {
+			result = DiagnosticProperties.makeErrorProperties("Command not recognized: " + diagnosticCommand);
+		} else {
+			resultStream.begin(responseStream, diagnosticCommand);
+			ThreadPrint.print(resultStream, options[0], options[1]);
+			resultStream.end();
+		}
+		return result;
+	}
+
 	private static DiagnosticProperties doDump(String diagnosticCommand) {
 		DiagnosticProperties result = null;
 		String[] parts = diagnosticCommand.split(DIAGNOSTICS_OPTION_SEPARATOR);
@@ -521,6 +639,11 @@ public class DiagnosticUtils {
 	private static native ThreadInfoBase[] dumpAllThreadsImpl(boolean lockedMonitors,
 			boolean lockedSynchronizers, int maxDepth);
 
+	static native long[] getAllThreadIdsImpl();
+
+	static native ThreadInfoBase[] getMultiThreadInfoImpl(long[] ids, int maxStackDepth,
+			boolean lockedMonitors, boolean lockedSynchronizers);
+
 	private static DiagnosticProperties runGC() {
 		VM.globalGC();
 		return DiagnosticProperties.makeCommandSucceeded();
@@ -530,14 +653,117 @@ public class DiagnosticUtils {
 		IPC.logMessage("jstat command : ", diagnosticCommand);
 		StringWriter buffer = new StringWriter(100);
 		PrintWriter bufferPrinter = new PrintWriter(buffer);
+		long loaded = ClassLoaderInfoBaseImpl.getLoadedClassCountImpl();
+		long unloaded = ClassLoaderInfoBaseImpl.getUnloadedClassCountImpl();
 		bufferPrinter.println("Class Loaded    Class Unloaded");
 		// "Class Loaded".length = 12, "Class Unloaded".length = 14
-		bufferPrinter.printf("%12d    %14d%n",
-				Long.valueOf(ClassLoaderInfoBaseImpl.getLoadedClassCountImpl()),
-				Long.valueOf(ClassLoaderInfoBaseImpl.getUnloadedClassCountImpl()));
+		bufferPrinter.printf("%12d    %14d%n", Long.valueOf(loaded), Long.valueOf(unloaded));
+		bufferPrinter.flush();
+		DiagnosticProperties result = DiagnosticProperties.makeStringResult(buffer.toString());
+		result.put(DIAGNOSTICS_STAT_CLASS_LOADED, loaded);
+		result.put(DIAGNOSTICS_STAT_CLASS_UNLOADED, unloaded);
+		return result;
+	}
+
+	private static DiagnosticProperties getJstatGC(String diagnosticCommand) {
+		IPC.logMessage("jstat command : ", diagnosticCommand);
+		long[] counts = new long[RuntimeCountersBaseImpl.GC_COUNTERS];
+		RuntimeCountersBaseImpl.getCollectorCountersImpl(counts);
+		long count = counts[RuntimeCountersBaseImpl.GC_COLLECTION_COUNT];
+		long time = counts[RuntimeCountersBaseImpl.GC_COLLECTION_TIME];
+		long heapUsed = counts[RuntimeCountersBaseImpl.GC_HEAP_USED];
+		long heapSize = counts[RuntimeCountersBaseImpl.GC_HEAP_SIZE];
+		StringWriter buffer = new StringWriter(100);
+		PrintWriter bufferPrinter = new PrintWriter(buffer);
+		bufferPrinter.println("GC Count    GC Time (ms)    Heap Used (B)    Heap Size (B)");
+		bufferPrinter.printf("%8d    %12d    %13d    %13d%n",
+				Long.valueOf(count), Long.valueOf(time), Long.valueOf(heapUsed), Long.valueOf(heapSize));
+		bufferPrinter.flush();
+		DiagnosticProperties result = DiagnosticProperties.makeStringResult(buffer.toString());
+		result.put(DIAGNOSTICS_STAT_GC_COUNT, count);
+		result.put(DIAGNOSTICS_STAT_GC_TIME, time);
+		result.put(DIAGNOSTICS_STAT_GC_HEAP_USED, heapUsed);
+		result.put(DIAGNOSTICS_STAT_GC_HEAP_SIZE, heapSize);
+		return result;
+	}
+
+	private static DiagnosticProperties getJstatThread(String diagnosticCommand) {
+		IPC.logMessage("jstat command : ", diagnosticCommand);
+		long[] counts = new long[RuntimeCountersBaseImpl.THREAD_COUNTERS];
+		RuntimeCountersBaseImpl.getThreadCountersImpl(counts);
+		long live = counts[RuntimeCountersBaseImpl.THREAD_LIVE];
+		long daemon = counts[RuntimeCountersBaseImpl.THREAD_DAEMON];
+		long peak = counts[RuntimeCountersBaseImpl.THREAD_PEAK];
+		long started = counts[RuntimeCountersBaseImpl.THREAD_STARTED];
+		StringWriter buffer = new StringWriter(100);
+		PrintWriter bufferPrinter = new PrintWriter(buffer);
+		bufferPrinter.println("Live    Daemon    Peak    Started");
+		bufferPrinter.printf("%4d    %6d    %4d    %7d%n",
+				Long.valueOf(live), Long.valueOf(daemon), Long.valueOf(peak), Long.valueOf(started));
+		bufferPrinter.flush();
+		DiagnosticProperties result = DiagnosticProperties.makeStringResult(buffer.toString());
+		result.put(DIAGNOSTICS_STAT_THREAD_LIVE, live);
+		result.put(DIAGNOSTICS_STAT_THREAD_DAEMON, daemon);
+		result.put(DIAGNOSTICS_STAT_THREAD_PEAK, peak);
+		result.put(DIAGNOSTICS_STAT_THREAD_STARTED, started);
+		return result;
+	}
+
+/*[IF JAVA_SPEC_VERSION >= 21]*/
+	private static DiagnosticProperties getPinningStatistics(String diagnosticCommand) {
+		String[] parts = diagnosticCommand.split(DIAGNOSTICS_OPTION_SEPARATOR);
+		boolean reset = false;
+		for (int i = 1; i < parts.length; i++) {
+			String option = parts[i].trim();
+			if (PINNING_RESET_OPTION.equals(option)) {
+				reset = true;
+			} else if (option.startsWith(PINNING_INTERVAL_OPTION)) {
+				String value = option.substring(PINNING_INTERVAL_OPTION.length());
+				try {
+					VirtualThreadPinningStatistics.setSampleInterval(Integer.parseInt(value));
+				} catch (IllegalArgumentException e) {
+					return DiagnosticProperties.makeErrorProperties("Invalid sample interval: " + value);
+				}
+			} else {
+				return DiagnosticProperties.makeErrorProperties("Command not recognized due to invalid option: " + option);
+			}
+		}
+
+		StringWriter buffer = new StringWriter(1000);
+		PrintWriter bufferPrinter = new PrintWriter(buffer);
+		int interval = VirtualThreadPinningStatistics.getSampleInterval();
+		if (0 == interval) {
+			bufferPrinter.println("Virtual thread pinning statistics are disabled");
+		} else {
+			bufferPrinter.printf("Virtual thread pinning statistics, sampling 1 in %d events%n", Integer.valueOf(interval));
+		}
+		String[] reasons = VirtualThreadPinningStatistics.getReasonNames();
+		long[] counts = VirtualThreadPinningStatistics.getReasonCounts();
+		long[] times = VirtualThreadPinningStatistics.getReasonTimes();
+		bufferPrinter.printf("%n%-20s %12s %14s%n", "Reason", "Events", "Time (ms)");
+		for (int i = 0; i < reasons.length; i++) {
+			bufferPrinter.printf("%-20s %12d %14.3f%n", reasons[i], Long.valueOf(counts[i]), Double.valueOf(times[i] / 1e6));
+		}
+		VirtualThreadPinningStatistics.Site[] sites = VirtualThreadPinningStatistics.getSites();
+		bufferPrinter.printf("%nSampled sites: %d (%d samples dropped)%n", Integer.valueOf(sites.length),
+				Long.valueOf(VirtualThreadPinningStatistics.getDroppedSampleCount()));
+		if (sites.length > 0) {
+			bufferPrinter.printf("%12s %14s %14s  %-20s %s%n", "Samples", "Time (ms)", "Max (ms)", "Reason", "Frame");
+			for (VirtualThreadPinningStatistics.Site site : sites) {
+				bufferPrinter.printf("%12d %14.3f %14.3f  %-20s %s%n", Long.valueOf(site.getCount()),
+						Double.valueOf(site.getTime() / 1e6), Double.valueOf(site.getMaxTime() / 1e6),
+						site.getReason(), site.getFrame());
+			}
+		}
+		if (reset) {
+			VirtualThreadPinningStatistics.reset();
+			bufferPrinter.println();
+			bufferPrinter.println("Statistics reset");
+		}
 		bufferPrinter.flush();
 		return DiagnosticProperties.makeStringResult(buffer.toString());
 	}
+/*[ENDIF] JAVA_SPEC_VERSION >= 21 */
 
 	private static DiagnosticProperties loadJVMTIAgent(String diagnosticCommand) {
 		DiagnosticProperties result;
@@ -612,7 +838,17 @@ public class DiagnosticUtils {
 
 	private static final String DIAGNOSTICS_THREAD_PRINT_HELP = "List thread information.%n"
 			+ FORMAT_PREFIX + DIAGNOSTICS_THREAD_PRINT + " [options]%n"
-			+ " Options: -l : print information about ownable synchronizers%n";
+			+ " Options:%n"
+			+ "          -l : print information about ownable synchronizers%n"
+			+ "          -s : print each distinct stack once, with the number of threads which have it%n";
+
+/*[IF JAVA_SPEC_VERSION >= 21]*/
+	private static final String DIAGNOSTICS_THREAD_PINNING_HELP = "Show where virtual threads are pinned to their carriers.%n"
+			+ FORMAT_PREFIX + DIAGNOSTICS_THREAD_PINNING + " [options]%n"
+			+ " Options:%n"
+			+ "           reset : discard the statistics after printing them%n"
+			+ "    interval=<n> : walk the stack for 1 in <n> pinning events, 0 disables the statistics%n";
+/*[ENDIF] JAVA_SPEC_VERSION >= 21 */
 
 	private static final String DIAGNOSTICS_DUMP_HEAP_HELP = "Create a heap dump.%n"
 			+ FORMAT_PREFIX + DIAGNOSTICS_DUMP_HEAP + HEAP_DUMP_OPTION_HELP + HEAPSYSTEM_DUMP_OPTION_HELP + GENERIC_DUMP_OPTION_HELP
@@ -631,6 +867,13 @@ public class DiagnosticUtils {
 			+ FORMAT_PREFIX + DIAGNOSTICS_STAT_CLASS + "%n"
 			+ "NOTE: this utility might significantly affect the performance of the target VM.%n";
 
+	private static final String DIAGNOSTICS_JSTAT_GC_HELP = "Show JVM garbage collection statistics.%n"
+			+ FORMAT_PREFIX + DIAGNOSTICS_STAT_GC + "%n"
+			+ "The heap figures are those after the last collection.%n";
+
+	private static final String DIAGNOSTICS_JSTAT_THREAD_HELP = "Show JVM thread statistics.%n"
+			+ FORMAT_PREFIX + DIAGNOSTICS_STAT_THREAD + "%n";
+
 	private static final String DIAGNOSTICS_LOAD_JVMTI_AGENT_HELP = "Load JVMTI agent.%n"
 			+ FORMAT_PREFIX + DIAGNOSTICS_LOAD_JVMTI_AGENT + " <agentLibrary> [<agent option>]%n"
 			+ "          agentLibrary: the absolute path of the agent%n"
@@ -657,6 +900,7 @@ public class DiagnosticUtils {
 	static {
 		IDCacheInitializer.init();
 		commandTable = new HashMap<>();
+		streamingCommandTable = new HashMap<>();
 		helpTable = new HashMap<>();
 
 		commandTable.put(DIAGNOSTICS_HELP, DiagnosticUtils::doHelp);
@@ -669,8 +913,14 @@ public class DiagnosticUtils {
 		helpTable.put(DIAGNOSTICS_GC_RUN, DIAGNOSTICS_GC_RUN_HELP);
 
 		commandTable.put(DIAGNOSTICS_THREAD_PRINT, DiagnosticUtils::getThreadInfo);
+		streamingCommandTable.put(DIAGNOSTICS_THREAD_PRINT, DiagnosticUtils::streamThreadInfo);
 		helpTable.put(DIAGNOSTICS_THREAD_PRINT, DIAGNOSTICS_THREAD_PRINT_HELP);
 
+/*[IF JAVA_SPEC_VERSION >= 21]*/
+		commandTable.put(DIAGNOSTICS_THREAD_PINNING, DiagnosticUtils::getPinningStatistics);
+		helpTable.put(DIAGNOSTICS_THREAD_PINNING, DIAGNOSTICS_THREAD_PINNING_HELP);
+/*[ENDIF] JAVA_SPEC_VERSION >= 21 */
+
 		commandTable.put(DIAGNOSTICS_DUMP_HEAP, DiagnosticUtils::doDump);
 		helpTable.put(DIAGNOSTICS_DUMP_HEAP, DIAGNOSTICS_DUMP_HEAP_HELP);
 
@@ -689,6 +939,12 @@ public class DiagnosticUtils {
 		commandTable.put(DIAGNOSTICS_STAT_CLASS, DiagnosticUtils::getJstatClass);
 		helpTable.put(DIAGNOSTICS_STAT_CLASS, DIAGNOSTICS_JSTAT_CLASS_HELP);
 
+		commandTable.put(DIAGNOSTICS_STAT_GC, DiagnosticUtils::getJstatGC);
+		helpTable.put(DIAGNOSTICS_STAT_GC, DIAGNOSTICS_JSTAT_GC_HELP);
+
+		commandTable.put(DIAGNOSTICS_STAT_THREAD, DiagnosticUtils::getJstatThread);
+		helpTable.put(DIAGNOSTICS_STAT_THREAD, DIAGNOSTICS_JSTAT_THREAD_HELP);
+
 		commandTable.put(DIAGNOSTICS_LOAD_JVMTI_AGENT, DiagnosticUtils::loadJVMTIAgent);
 		helpTable.put(DIAGNOSTICS_LOAD_JVMTI_AGENT, DIAGNOSTICS_LOAD_JVMTI_AGENT_HELP);
 
@@ -0,0 +1,281 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package openj9.internal.tools.attach.target;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.ibm.oti.util.Util;
+
+import openj9.management.internal.LockInfoBase;
+import openj9.management.internal.MonitorInfoBase;
+import openj9.management.internal.ThreadInfoBase;
+
+/**
+ * Produces the output of the Thread.print diagnostic command. Thread information
+ * is fetched from the VM in batches and each thread is formatted directly to the
+ * receiver, so the memory used does not grow with the number of threads.
+ */
+final class ThreadPrint {
+
+	/**
+	 * Number of threads for which information is fetched from the VM at a time.
+	 */
+	private static final int BATCH_SIZE = 256;
+
+	/**
+	 * Number of thread names listed for each distinct stack in a summary.
+	 */
+	private static final int SUMMARY_NAME_COUNT = 3;
+
+	private static final String LINE_SEPARATOR = System.lineSeparator();
+
+	private ThreadPrint() {
+	}
+
+	/**
+	 * Print information about all threads.
+	 *
+	 * @param out receiver for the text
+	 * @param lockedSynchronizers print the locked ownable synchronizers of each thread
+	 * @param summary print each distinct stack once with the number of threads that have it,
+	 * instead of printing every thread
+	 * @throws IOException if the receiver throws IOException
+	 */
+	static void print(Appendable out, boolean lockedSynchronizers, boolean summary) throws IOException {
+		out.append(System.getProperty("java.vm.info")); //$NON-NLS-1$
+		out.append(LINE_SEPARATOR);
+		out.append(LINE_SEPARATOR);
+
+		long[] threadIds = DiagnosticUtils.getAllThreadIdsImpl();
+		Map<StackGroup, StackGroup> groups = summary ? new HashMap<>() : null;
+		StackGroup probe = summary ? new StackGroup() : null;
+		long[] batch = null;
+		for (int start = 0; start < threadIds.length; start += BATCH_SIZE) {
+			int length = Math.min(BATCH_SIZE, threadIds.length - start);
+			if ((null == batch) || (batch.length != length)) {
+				batch = new long[length];
+			}
+			/* the native may overwrite the IDs, so copy them for every batch */
+			System.arraycopy(threadIds, start, batch, 0, length);
+			ThreadInfoBase[] threadInfoBases = DiagnosticUtils.getMultiThreadInfoImpl(batch, Integer.MAX_VALUE,
+					!summary, !summary && lockedSynchronizers);
+			for (ThreadInfoBase threadInfoBase : threadInfoBases) {
+				/* threads which ended after the IDs were collected have no information */
+				if (null == threadInfoBase) {
+					continue;
+				}
+				if (summary) {
+					probe.set(threadInfoBase.getThreadState(), threadInfoBase.getStackTrace());
+					StackGroup group = groups.get(probe);
+					if (null == group) {
+						group = new StackGroup();
+						group.set(threadInfoBase.getThreadState(), threadInfoBase.getStackTrace());
+						groups.put(group, group);
+					}
+					group.add(threadInfoBase);
+				} else {
+					printThread(out, threadInfoBase, lockedSynchronizers);
+				}
+			}
+		}
+
+		if (summary) {
+			printSummary(out, groups);
+		}
+	}
+
+	private static void printThread(Appendable out, ThreadInfoBase threadInfoBase, boolean lockedSynchronizers) throws IOException {
+		/* this is the same text as ThreadInfoBase.toString() */
+		out.append('"');
+		out.append(threadInfoBase.getThreadName());
+		out.append('"');
+/*[IF JAVA_SPEC_VERSION >= 11]*/
+		out.append(" prio="); //$NON-NLS-1$
+		Util.appendTo(out, threadInfoBase.getPriority());
+/*[ENDIF] JAVA_SPEC_VERSION >= 11 */
+		out.append(" Id="); //$NON-NLS-1$
+		appendLong(out, threadInfoBase.getThreadId());
+		out.append(' ');
+		out.append(threadInfoBase.getThreadState().name());
+		if (Thread.State.BLOCKED == threadInfoBase.getThreadState()) {
+			out.append(" on "); //$NON-NLS-1$
+			out.append(threadInfoBase.getLockName());
+			out.append(" owned by \""); //$NON-NLS-1$
+			out.append(threadInfoBase.getLockOwnerName());
+			out.append("\" Id="); //$NON-NLS-1$
+			appendLong(out, threadInfoBase.getLockOwnerId());
+		}
+		out.append(LINE_SEPARATOR);
+
+		StackTraceElement[] stackTrace = threadInfoBase.getStackTrace();
+		MonitorInfoBase[] lockedMonitors = threadInfoBase.getLockedMonitors();
+		if (null != stackTrace) {
+			for (int depth = 0; depth < stackTrace.length; ++depth) {
+				printFrame(out, stackTrace[depth]);
+				for (MonitorInfoBase monitor : lockedMonitors) {
+					if (depth == monitor.getStackDepth()) {
+						out.append("\t- locked "); //$NON-NLS-1$
+						appendLock(out, monitor);
+						out.append(LINE_SEPARATOR);
+					}
+				}
+			}
+		}
+
+		if (lockedSynchronizers) {
+			LockInfoBase[] synchronizers = threadInfoBase.getLockedSynchronizers();
+			out.append(LINE_SEPARATOR);
+			out.append("\tLocked ownable synchronizers: "); //$NON-NLS-1$
+			Util.appendTo(out, synchronizers.length);
+			out.append(LINE_SEPARATOR);
+			for (LockInfoBase synchronizer : synchronizers) {
+				out.append("\t- "); //$NON-NLS-1$
+				appendLock(out, synchronizer);
+				out.append(LINE_SEPARATOR);
+			}
+		}
+		out.append(LINE_SEPARATOR);
+	}
+
+	private static void printSummary(Appendable out, Map<StackGroup, StackGroup> groups) throws IOException {
+		List<StackGroup> sortedGroups = new ArrayList<>(groups.keySet());
+		/* most common stacks first */
+		sortedGroups.sort((group1, group2) -> Integer.compare(group2.count, group1.count));
+		int threadCount = 0;
+		for (StackGroup group : sortedGroups) {
+			threadCount += group.count;
+		}
+		Util.appendTo(out, threadCount);
+		out.append(" threads with "); //$NON-NLS-1$
+		Util.appendTo(out, sortedGroups.size());
+		out.append(" distinct stacks"); //$NON-NLS-1$
+		out.append(LINE_SEPARATOR);
+		out.append(LINE_SEPARATOR);
+
+		for (StackGroup group : sortedGroups) {
+			Util.appendTo(out, group.count);
+			out.append((1 == group.count) ? " thread " : " threads "); //$NON-NLS-1$ //$NON-NLS-2$
+			out.append(group.state.name());
+			out.append(':');
+			int nameCount = Math.min(group.count, SUMMARY_NAME_COUNT);
+			for (int i = 0; i < nameCount; ++i) {
+				out.append((0 == i) ? " \"" : ", \""); //$NON-NLS-1$ //$NON-NLS-2$
+				out.append(group.names[i]);
+				out.append("\" Id="); //$NON-NLS-1$
+				appendLong(out, group.ids[i]);
+			}
+			if (group.count > nameCount) {
+				out.append(", ..."); //$NON-NLS-1$
+			}
+			out.append(LINE_SEPARATOR);
+			if (null != group.stack) {
+				for (StackTraceElement element : group.stack) {
+					printFrame(out, element);
+				}
+			}
+			out.append(LINE_SEPARATOR);
+		}
+	}
+
+	private static void printFrame(Appendable out, StackTraceElement element) throws IOException {
+		out.append("\tat "); //$NON-NLS-1$
+		Util.printStackTraceElement(element, null, out, true);
+		out.append(LINE_SEPARATOR);
+	}
+
+	/* the same text as LockInfoBase.toString() */
+	private static void appendLock(Appendable out, LockInfoBase lock) throws IOException {
+		out.append(lock.getClassName());
+		out.append('@');
+		int hash = lock.getIdentityHashCode();
+		boolean leadingZero = true;
+		for (int shift = 28; shift >= 0; shift -= 4) {
+			int digit = (hash >>> shift) & 0xF;
+			if ((0 != digit) || !leadingZero || (0 == shift)) {
+				out.append(Character.forDigit(digit, 16));
+				leadingZero = false;
+			}
+		}
+	}
+
+	private static void appendLong(Appendable out, long value) throws IOException {
+		/* Util.appendTo() handles only non-negative values */
+		if ((value >= 0) && (value <= Integer.MAX_VALUE)) {
+			Util.appendTo(out, (int) value);
+		} else {
+			out.append(Long.toString(value));
+		}
+	}
+
+	/**
+	 * Threads in the same state with the same stack.
+	 */
+	private static final class StackGroup {
+		Thread.State state;
+		StackTraceElement[] stack;
+		int hash;
+		int count;
+		final String[] names = new String[SUMMARY_NAME_COUNT];
+		final long[] ids = new long[SUMMARY_NAME_COUNT];
+
+		StackGroup() {
+		}
+
+		void set(Thread.State state, StackTraceElement[] stack) {
+			this.state = state;
+			this.stack = stack;
+			this.hash = (31 * state.hashCode()) + Arrays.hashCode(stack);
+		}
+
+		void add(ThreadInfoBase threadInfoBase) {
+			if (count < SUMMARY_NAME_COUNT) {
+				names[count] = threadInfoBase.getThreadName();
+				ids[count] = threadInfoBase.getThreadId();
+			}
+			count += 1;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof StackGroup)) {
+				return false;
+			}
+			StackGroup other = (StackGroup) obj;
+			return (hash == other.hash) && (state == other.state) && Arrays.equals(stack, other.stack);
+		}
+	}
+
+}
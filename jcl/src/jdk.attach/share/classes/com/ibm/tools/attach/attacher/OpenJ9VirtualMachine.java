@@ -82,6 +82,7 @@ public final class OpenJ9VirtualMachine extends VirtualMachine implements Respon
 
 	private static int MAXIMUM_ATTACH_TIMEOUT;
 	private static int COMMAND_TIMEOUT;
+	private static boolean REQUEST_FRAMED_REPLIES;
 
 	private static final String INSTRUMENT_LIBRARY = "instrument"; //$NON-NLS-1$
 	private OutputStream commandStream;
@@ -90,6 +91,7 @@ public final class OpenJ9VirtualMachine extends VirtualMachine implements Respon
 	private Integer portNumber;
 	private InputStream responseStream;
 	private boolean targetAttached;
+	private boolean framedReplies;
 	private String targetId;
 	private FileLock[] targetLocks;
 	private ServerSocket targetServer;
@@ -99,6 +101,7 @@ public final class OpenJ9VirtualMachine extends VirtualMachine implements Respon
 		PrivilegedAction<Object> action = () -> {
 			MAXIMUM_ATTACH_TIMEOUT = Integer.getInteger("com.ibm.tools.attach.timeout", DEFAULT_ATTACH_TIMEOUT).intValue(); //$NON-NLS-1$
 			COMMAND_TIMEOUT = Integer.getInteger("com.ibm.tools.attach.command_timeout", DEFAULT_COMMAND_TIMEOUT).intValue(); //$NON-NLS-1$
+			REQUEST_FRAMED_REPLIES = Boolean.getBoolean("com.ibm.tools.attach.framed_replies"); //$NON-NLS-1$
 			return null;
 		};
 		AccessController.doPrivileged(action);
@@ -180,6 +183,10 @@ public final class OpenJ9VirtualMachine extends VirtualMachine implements Respon
 		} else {
 			IPC.logMessage("OpenJ9VirtualMachine.attachTargetImpl() finished"); //$NON-NLS-1$
 		}
+		if (REQUEST_FRAMED_REPLIES) {
+			/* targets which do not support frames reply with an error, and text is used */
+			framedReplies = AttachmentConnection.requestFramedReplies(commandStream, responseStream);
+		}
 	}
 
 	private static String createLoadAgent(String agentName, String options) {
@@ -261,7 +268,7 @@ public final class OpenJ9VirtualMachine extends VirtualMachine implements Respon
 		AttachmentConnection.streamSend(commandStream,
 				systemProperties ? Command.GET_SYSTEM_PROPERTIES
 						: Command.GET_AGENT_PROPERTIES);
-		return IPC.receiveProperties(responseStream, true);
+		return AttachmentConnection.receiveProperties(responseStream, framedReplies).toProperties();
 	}
 
 	@Override
@@ -319,9 +326,21 @@ public final class OpenJ9VirtualMachine extends VirtualMachine implements Respon
 	 * @throws IOException in case of a communication error
 	 */
 	public Properties executeDiagnosticCommand(String diagnosticCommand) throws IOException {
+		return executeTypedDiagnosticCommand(diagnosticCommand).toProperties();
+	}
+
+	/**
+	 * Execute a diagnostic command, keeping the types of the numeric and boolean
+	 * fields of the result when the target sends framed replies.
+	 *
+	 * @param diagnosticCommand name of command to execute
+	 * @return result of the command
+	 * @throws IOException in case of a communication error
+	 */
+	public DiagnosticProperties executeTypedDiagnosticCommand(String diagnosticCommand) throws IOException {
 		IPC.logMessage("OpenJ9VirtualMachine enter executeDiagnosticCommand ", diagnosticCommand); //$NON-NLS-1$
 		AttachmentConnection.streamSend(commandStream, Command.ATTACH_DIAGNOSTICS_PREFIX + diagnosticCommand);
-		return IPC.receiveProperties(responseStream, true);
+		return AttachmentConnection.receiveProperties(responseStream, framedReplies);
 	}
 
 	private void lockAllAttachNotificationSyncFiles(
@@ -59,6 +59,23 @@ public class AttacherDiagnosticsProvider {
 		return info;
 	}
 
+	/**
+	 * Execute a diagnostic command. Numeric and boolean fields of the result keep
+	 * their types when the target sends framed replies, so a caller polling
+	 * counters need not parse them.
+	 *
+	 * @param diagnosticCommand name of command to execute
+	 * @return result of the command
+	 * @throws IOException in case of a communication error
+	 */
+	public DiagnosticProperties executeTypedDiagnosticCommand(String diagnosticCommand) throws IOException {
+		IPC.logMessage("AttacherDiagnosticsProvider enter executeTypedDiagnosticCommand ", diagnosticCommand); //$NON-NLS-1$
+		checkAttached();
+		DiagnosticProperties info = vm.executeTypedDiagnosticCommand(diagnosticCommand);
+		DiagnosticProperties.dumpPropertiesIfDebug("Properties from target:", info); //$NON-NLS-1$
+		return info;
+	}
+
 	/**
 	 * Call equivalent com.sun.tools.attach.VirtualMachine method.
 	 *
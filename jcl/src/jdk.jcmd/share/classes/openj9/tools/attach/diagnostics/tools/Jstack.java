@@ -46,6 +46,7 @@ public class Jstack {
 	private static List<String> vmids;
 	private static boolean printProperties;
 	private static boolean printSynchronizers;
+	private static boolean printSummary;
 	/**
 	 * Print a list of Java processes and information about them.
 	 * @param args Arguments to the application
@@ -74,7 +75,7 @@ public class Jstack {
 			try {
 				diagProvider.attach(vmid);
 				out.printf("Virtual machine: %s JVM information:%n", vmid); //$NON-NLS-1$
-				Util.runCommandAndPrintResult(diagProvider, DiagnosticUtils.makeThreadPrintCommand(printSynchronizers), "jstack"); //$NON-NLS-1$
+				Util.runCommandAndPrintResult(diagProvider, DiagnosticUtils.makeThreadPrintCommand(printSynchronizers, printSummary), "jstack"); //$NON-NLS-1$
 
 				if (printProperties) {
 					out.println("System properties:"); //$NON-NLS-1$
@@ -101,6 +102,7 @@ public class Jstack {
 		boolean okay = true;
 		printProperties = DiagnosticProperties.isDebug;
 		printSynchronizers = false;
+		printSummary = false;
 		final String HELPTEXT = "jstack: list thread information about another Java process%n"
 				+ " Usage:%n"
 				+ "    jstack <vmid>*%n"
@@ -108,6 +110,7 @@ public class Jstack {
 				+ "        <vmid>s are read from stdin if none are supplied as arguments%n"
 				+ "    -p: print the target's system and agent properties%n"
 				+ "    -l: Long format. Print the thread's ownable synchronizers%n"
+				+ "    -s: Summary format. Print each distinct stack once, with the number of threads which have it%n"
 				+ "    -J: supply arguments to the Java VM running jstack%n"
 				;
 		vmids = new ArrayList<>();
@@ -118,6 +121,8 @@ public class Jstack {
 				printProperties = true;
 			} else if (a.equals("-l")) {
 				printSynchronizers = true;
+			} else if (a.equals("-s")) {
+				printSummary = true;
 			} else {
 				System.err.printf(HELPTEXT);
 				okay = false;
@@ -27,6 +27,7 @@ import java.io.IOException;
 
 import openj9.internal.tools.attach.target.AttachHandler;
 import openj9.internal.tools.attach.target.DiagnosticProperties;
+import openj9.internal.tools.attach.target.DiagnosticUtils;
 import openj9.internal.tools.attach.target.IPC;
 import openj9.tools.attach.diagnostics.attacher.AttacherDiagnosticsProvider;
 
@@ -39,9 +40,32 @@ public class Jstat {
 
 	private static String vmid;
 	private static String statOption;
+	private static String[] statHeaders;
+	private static String[] statKeys;
+	private static long interval = -1;
+	private static long count = -1;
 
 	private static final String OPTION_CLASS = "-class";
-	private static final String[] OPTIONS = { OPTION_CLASS };
+	private static final String OPTION_GC = "-gc";
+	private static final String OPTION_THREAD = "-thread";
+	private static final String[] OPTIONS = { OPTION_CLASS, OPTION_GC, OPTION_THREAD };
+
+	private static final String[] CLASS_HEADERS = { "Class Loaded", "Class Unloaded" };
+	private static final String[] CLASS_KEYS = {
+			DiagnosticUtils.DIAGNOSTICS_STAT_CLASS_LOADED,
+			DiagnosticUtils.DIAGNOSTICS_STAT_CLASS_UNLOADED };
+	private static final String[] GC_HEADERS = { "GC Count", "GC Time (ms)", "Heap Used (B)", "Heap Size (B)" };
+	private static final String[] GC_KEYS = {
+			DiagnosticUtils.DIAGNOSTICS_STAT_GC_COUNT,
+			DiagnosticUtils.DIAGNOSTICS_STAT_GC_TIME,
+			DiagnosticUtils.DIAGNOSTICS_STAT_GC_HEAP_USED,
+			DiagnosticUtils.DIAGNOSTICS_STAT_GC_HEAP_SIZE };
+	private static final String[] THREAD_HEADERS = { "Live", "Daemon", "Peak", "Started" };
+	private static final String[] THREAD_KEYS = {
+			DiagnosticUtils.DIAGNOSTICS_STAT_THREAD_LIVE,
+			DiagnosticUtils.DIAGNOSTICS_STAT_THREAD_DAEMON,
+			DiagnosticUtils.DIAGNOSTICS_STAT_THREAD_PEAK,
+			DiagnosticUtils.DIAGNOSTICS_STAT_THREAD_STARTED };
 
 	private static final String ERROR_AN_ARG_REQUIRED = "An argument is required";
 	private static final String ERROR_INVALID_ARG = "An invalid argument";
@@ -53,14 +77,18 @@ public class Jstat {
 
 	private static String HELPTEXT = "jstat: obtain statistics information about a Java process%n"
 			+ " Usage:%n"
-			+ "    jstat [<option>] [<vmid>]%n"
+			+ "    jstat [<option>] [<vmid>] [<interval> [<count>]]%n"
 			+ "%n"
 			+ "  option:%n"
 			+ "   -J : supply arguments to the Java VM running jstat%n"
 			+ "   -h : print this help message%n"
 			+ "   -options : list the available command options%n"
 			+ "   -class : Classloading statistics%n"
+			+ "   -gc : Garbage collection statistics%n"
+			+ "   -thread : Thread statistics%n"
 			+ "  <vmid>: Attach API VM ID as shown in jps or other Attach API-based tools%n"
+			+ "  <interval>: sample the statistics every <interval> milliseconds%n"
+			+ "  <count>: stop after <count> samples, the default is to sample until the target VM exits%n"
 			+ "NOTE: this utility might significantly affect the performance of the target VM.%n"
 			+ "At least one option must be selected.%n";
 
@@ -94,7 +122,11 @@ public class Jstat {
 
 			try {
 				diagProvider.attach(vmid);
-				Util.runCommandAndPrintResult(diagProvider, statOption, "jstat");
+				if (interval < 0) {
+					Util.runCommandAndPrintResult(diagProvider, statOption, "jstat");
+				} else {
+					pollStatistics(diagProvider);
+				}
 			} catch (Exception e) {
 				System.err.printf("Error getting data from %s", vmid);
 				final String msg = e.getMessage();
@@ -120,6 +152,53 @@ public class Jstat {
 		}
 	}
 
+	/**
+	 * Sample the statistics repeatedly, printing one row per sample built from
+	 * the typed values in the reply rather than re-parsing the target's text.
+	 *
+	 * @param diagProvider the provider attached to the target VM
+	 * @throws IOException if the target cannot be reached
+	 * @throws InterruptedException if the sampling is interrupted
+	 */
+	private static void pollStatistics(AttacherDiagnosticsProvider diagProvider) throws IOException, InterruptedException {
+		StringBuilder header = new StringBuilder();
+		for (int i = 0; i < statHeaders.length; i++) {
+			if (i > 0) {
+				header.append("    ");
+			}
+			header.append(statHeaders[i]);
+		}
+		System.out.println(header);
+		for (long sample = 0; (count < 0) || (sample < count); sample++) {
+			if (sample > 0) {
+				Thread.sleep(interval);
+			}
+			DiagnosticProperties result = diagProvider.executeTypedDiagnosticCommand(statOption);
+			DiagnosticProperties.dumpPropertiesIfDebug("jstat result:", result);
+			StringBuilder row = new StringBuilder();
+			for (int i = 0; i < statKeys.length; i++) {
+				if (i > 0) {
+					row.append("    ");
+				}
+				row.append(String.format("%" + statHeaders[i].length() + "d", Long.valueOf(result.getLong(statKeys[i]))));
+			}
+			System.out.println(row);
+		}
+	}
+
+	private static long parseNonNegative(String arg) {
+		long value = -1;
+		try {
+			value = Long.parseLong(arg);
+		} catch (NumberFormatException e) {
+			// reported below
+		}
+		if (value < 0) {
+			Util.exitJVMWithReasonAndHelp(ERROR_INVALID_ARG, HELPTEXT);
+		}
+		return value;
+	}
+
 	private static boolean parseArguments(String[] args) {
 		boolean foundStatOption = false;
 
@@ -149,6 +228,18 @@ public class Jstat {
 						switch (arg) {
 						case OPTION_CLASS:
 							statOption = "jstat.class";
+							statHeaders = CLASS_HEADERS;
+							statKeys = CLASS_KEYS;
+							break;
+						case OPTION_GC:
+							statOption = "jstat.gc";
+							statHeaders = GC_HEADERS;
+							statKeys = GC_KEYS;
+							break;
+						case OPTION_THREAD:
+							statOption = "jstat.thread";
+							statHeaders = THREAD_HEADERS;
+							statKeys = THREAD_KEYS;
 							break;
 						default:
 							// invalid option was specified, print error message and help text, and exit
@@ -159,11 +250,15 @@ public class Jstat {
 					if (statOption == null) {
 						// no option was specified, print error message and help text, and exit
 						Util.exitJVMWithReasonAndHelp(ERROR_OPTION_REQUIRED, HELPTEXT);
-					} else if (vmid != null) {
-						// one vmid has already been set, print error message and help text, and exit
-						Util.exitJVMWithReasonAndHelp(ERROR_INVALID_ARG, HELPTEXT);
-					} else {
+					} else if (vmid == null) {
 						vmid = arg;
+					} else if (interval < 0) {
+						interval = parseNonNegative(arg);
+					} else if (count < 0) {
+						count = parseNonNegative(arg);
+					} else {
+						// vmid, interval and count have already been set, print error message and help text, and exit
+						Util.exitJVMWithReasonAndHelp(ERROR_INVALID_ARG, HELPTEXT);
 					}
 				}
 			}
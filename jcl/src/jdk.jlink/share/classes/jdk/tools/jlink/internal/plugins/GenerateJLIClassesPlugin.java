@@ -22,41 +22,345 @@
  */
 package jdk.tools.jlink.internal.plugins;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/*[IF OPENJDK_METHODHANDLES]*/
+import jdk.internal.access.JavaLangInvokeAccess;
+import jdk.internal.access.SharedSecrets;
+/*[ENDIF] OPENJDK_METHODHANDLES*/
+import jdk.tools.jlink.internal.ExecutableImage;
+import jdk.tools.jlink.internal.PostProcessor;
 import jdk.tools.jlink.plugin.Plugin;
+import jdk.tools.jlink.plugin.PluginException;
 import jdk.tools.jlink.plugin.ResourcePool;
 import jdk.tools.jlink.plugin.ResourcePoolBuilder;
-import java.util.EnumSet;
-import java.util.Set;
+import jdk.tools.jlink.plugin.ResourcePoolEntry;
 
 /**
  * We override the default GenerateJLIClassesPlugin with this
  * one because the default relies on Hotspot-specific code.
- * Removing this class entirely causes the build to fail when
- * using the default module-info.java file for the jlink module.
- * So we create the class, but include no code that affects any
- * change.
+ * <p>
+ * The plugin is not enabled by default. When requested with
+ * <pre>
+ * --generate-jli-classes=&lt;default|none|@trace-file&gt;[:scc-workload=&lt;arg,arg,...|@argfile&gt;][:scc-name=&lt;name&gt;][:scc-size=&lt;size&gt;]
+ * </pre>
+ * it does two things:
+ * <ul>
+ * <li>When the java.lang.invoke implementation is the OpenJDK one, the
+ * {@code java.lang.invoke} holder classes are regenerated from the default
+ * trace (or the given trace file) and replace the placeholder entries in
+ * java.base, so the common lambda forms are loaded from the image instead
+ * of being spun at runtime.</li>
+ * <li>When {@code scc-workload} is given, the linked image is started with
+ * those arguments once the image has been written, populating a shared class
+ * cache (ROM classes, AOT code and JIT data) in the image. The arguments are
+ * either a comma separated list, or a launcher argument file which is passed
+ * to the image as is. The cache is then added to {@code lib/options.default}
+ * as a read-only cache, so every launch of the image starts from it. The cache
+ * directory is given relative to the Java home ({@code %home}), so the image
+ * finds its cache wherever it is installed.</li>
+ * </ul>
  */
-public class GenerateJLIClassesPlugin implements Plugin
+public class GenerateJLIClassesPlugin implements Plugin, PostProcessor
 {
+	private static final String NAME = "generate-jli-classes"; //$NON-NLS-1$
+
+	private static final String DEFAULT_TRACE_FILE = "default_jli_trace.txt"; //$NON-NLS-1$
+
+	private static final String SCC_WORKLOAD = "scc-workload"; //$NON-NLS-1$
+	private static final String SCC_NAME = "scc-name"; //$NON-NLS-1$
+	private static final String SCC_SIZE = "scc-size"; //$NON-NLS-1$
+
+	private static final String DEFAULT_CACHE_NAME = "jlinkimage"; //$NON-NLS-1$
+
+	/* The cache directory, relative to the image home. */
+	private static final String CACHE_DIR = "lib/sharedclasses"; //$NON-NLS-1$
+
+	/* The cache directory as seen by the image; the VM replaces %home with the Java home at startup. */
+	private static final String RUNTIME_CACHE_DIR = "%home/" + CACHE_DIR; //$NON-NLS-1$
+
+	private static final String OPTIONS_FILE = "lib/options.default"; //$NON-NLS-1$
+
+	/*[IF OPENJDK_METHODHANDLES]*/
+	private static final JavaLangInvokeAccess JLIA = SharedSecrets.getJavaLangInvokeAccess();
+	/*[ENDIF] OPENJDK_METHODHANDLES*/
+
+	private boolean generateHolders;
+	private String traceFile;
+	private List<String> workload;
+	private String cacheName;
+	private String cacheSize;
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public String getDescription() {
+		return "Pre-generate the java.lang.invoke holder classes from a trace, and optionally" //$NON-NLS-1$
+				+ " populate a read-only shared class cache in the image by running a training workload."; //$NON-NLS-1$
+	}
+
+	@Override
+	public boolean hasArguments() {
+		return true;
+	}
+
+	@Override
+	public String getArgumentsDescription() {
+		return "<default|none|@trace-file>[:" + SCC_WORKLOAD + "=<arg,arg,...|@argfile>][:" //$NON-NLS-1$ //$NON-NLS-2$
+				+ SCC_NAME + "=<cache name>][:" + SCC_SIZE + "=<size>]"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Override
+	public Category getType() {
+		return Category.TRANSFORMER;
+	}
+
 	/**
-	 * This method makes a copy of the ResourcePool.
-	 * Since this plugin is intended to have no effect,
-	 * it lacks any transformational logic.
+	 * This method tells the caller that this plugin is functional,
+	 * but only used when requested on the command line.
+	 * @return Set<State> State of the Plugin.
+	 */
+	@Override
+	public Set<State> getState() {
+		return EnumSet.of(State.DISABLED, State.FUNCTIONAL);
+	}
+
+	@Override
+	public void configure(Map<String, String> config) {
+		String mainArgument = config.get(NAME);
+
+		if ((mainArgument == null) || mainArgument.isEmpty() || "default".equals(mainArgument)) { //$NON-NLS-1$
+			generateHolders = true;
+			traceFile = null;
+		} else if ("none".equals(mainArgument)) { //$NON-NLS-1$
+			generateHolders = false;
+		} else if (mainArgument.startsWith("@")) { //$NON-NLS-1$
+			generateHolders = true;
+			traceFile = mainArgument.substring(1);
+		} else {
+			throw new IllegalArgumentException(NAME + ": unexpected argument " + mainArgument); //$NON-NLS-1$
+		}
+
+		workload = parseWorkload(config.get(SCC_WORKLOAD));
+
+		cacheName = config.getOrDefault(SCC_NAME, DEFAULT_CACHE_NAME);
+		cacheSize = config.get(SCC_SIZE);
+		checkSubOption(SCC_NAME, cacheName);
+		if (cacheSize != null) {
+			checkSubOption(SCC_SIZE, cacheSize);
+		}
+	}
+
+	/**
+	 * Parses the arguments of the training run. An argument file is checked
+	 * here and then handed to the launcher of the image, which expands it;
+	 * otherwise the arguments are separated by commas.
+	 * @param value         The value of the scc-workload sub-option, or null.
+	 * @return List<String> The launcher arguments, or null if there is no workload.
+	 */
+	static List<String> parseWorkload(String value) {
+		List<String> arguments;
+
+		if (value == null) {
+			arguments = null;
+		} else if (value.startsWith("@")) { //$NON-NLS-1$
+			Path argFile = Paths.get(value.substring(1)).toAbsolutePath();
+
+			if (!Files.isReadable(argFile)) {
+				throw new IllegalArgumentException(NAME + ": cannot read " + SCC_WORKLOAD + " argument file " + argFile); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			arguments = Collections.singletonList("@" + argFile); //$NON-NLS-1$
+		} else {
+			arguments = Arrays.stream(value.split(",")) //$NON-NLS-1$
+					.filter(argument -> !argument.isEmpty())
+					.collect(Collectors.toList());
+			if (arguments.isEmpty()) {
+				throw new IllegalArgumentException(NAME + ": " + SCC_WORKLOAD + " requires the arguments of the training run"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+		return arguments;
+	}
+
+	private static void checkSubOption(String key, String value) {
+		if (value.isEmpty() || (value.indexOf(',') >= 0) || (value.indexOf('"') >= 0)) {
+			throw new IllegalArgumentException(NAME + ": invalid value for " + key + ": " + value); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	/**
+	 * Copies the pool of resources, replacing the java.lang.invoke holder
+	 * classes with generated versions when they are available.
 	 * @param rp            Pool of resources
 	 * @param rpb           Builder to create a copy of the pool of resources.
 	 * @return ResourcePool Built copy of the pool of resources.
 	 */
-	public ResourcePool transform(ResourcePool rp, ResourcePoolBuilder rpb){
-		return null;
+	@Override
+	public ResourcePool transform(ResourcePool rp, ResourcePoolBuilder rpb) {
+		Map<String, byte[]> holders = generateHolders ? generateHolderClasses() : Collections.emptyMap();
+
+		rp.transformAndCopy(entry -> holders.containsKey(entry.path()) ? null : entry, rpb);
+		for (Map.Entry<String, byte[]> holder : holders.entrySet()) {
+			rpb.add(ResourcePoolEntry.create(holder.getKey(), holder.getValue()));
+		}
+		return rpb.build();
+	}
+
+	private Map<String, byte[]> generateHolderClasses() {
+		/*[IF OPENJDK_METHODHANDLES]*/
+		Map<String, byte[]> holders = new HashMap<>();
+
+		try (Stream<String> traces = readTraces()) {
+			for (Map.Entry<String, byte[]> entry : JLIA.generateHolderClasses(traces).entrySet()) {
+				holders.put(toResourcePath(entry.getKey()), entry.getValue());
+			}
+		} catch (IOException | UncheckedIOException e) {
+			throw new PluginException("Failed to read the lambda form trace: " + e.getMessage(), e); //$NON-NLS-1$
+		} catch (RuntimeException e) {
+			throw new PluginException("Failed to generate the java.lang.invoke holder classes", e); //$NON-NLS-1$
+		}
+		return holders;
+		/*[ELSE] OPENJDK_METHODHANDLES*/
+		// The OpenJ9 java.lang.invoke implementation has no holder classes.
+		return Collections.emptyMap();
+		/*[ENDIF] OPENJDK_METHODHANDLES*/
+	}
+
+	/*[IF OPENJDK_METHODHANDLES]*/
+	private Stream<String> readTraces() throws IOException {
+		if (traceFile != null) {
+			return Files.lines(Paths.get(traceFile));
+		}
+
+		InputStream stream = GenerateJLIClassesPlugin.class.getResourceAsStream(DEFAULT_TRACE_FILE);
+
+		if (stream == null) {
+			// Without a trace, only the baseline lambda forms are generated.
+			System.err.println(NAME + ": warning: " + DEFAULT_TRACE_FILE //$NON-NLS-1$
+					+ " not found, only the baseline lambda forms are generated"); //$NON-NLS-1$
+			return Stream.empty();
+		}
+
+		BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+
+		return reader.lines().onClose(() -> {
+			try {
+				reader.close();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
 	}
 
+	private static String toResourcePath(String name) {
+		if (name.startsWith("/")) { //$NON-NLS-1$
+			return name;
+		}
+		if (name.endsWith(".class")) { //$NON-NLS-1$
+			name = name.substring(0, name.length() - ".class".length()); //$NON-NLS-1$
+		}
+		return "/java.base/" + name + ".class"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+	/*[ENDIF] OPENJDK_METHODHANDLES*/
+
 	/**
-	 * This method tells the caller that this plugin is disabled,
-	 * and should not be used.
-	 * @return Set<State> State of the Plugin.
+	 * Runs the training workload against the image that was just written,
+	 * and records the resulting cache in the image's default options.
+	 * @param image         The image that was written.
+	 * @return List<String> Always null; no launcher arguments are added.
 	 */
 	@Override
-	public Set<State> getState() {
-		return EnumSet.of(State.DISABLED, State.FUNCTIONAL);
+	public List<String> process(ExecutableImage image) {
+		if (workload != null) {
+			Path home = image.getHome();
+			String cacheOptions = "name=" + cacheName + ",cacheDir=" + RUNTIME_CACHE_DIR; //$NON-NLS-1$ //$NON-NLS-2$
+
+			try {
+				Files.createDirectories(home.resolve(CACHE_DIR));
+				runJava(image, cacheOptions, true);
+				// Verify that the image can attach to the cache exactly as it will at startup.
+				cacheOptions += ",readonly"; //$NON-NLS-1$
+				runJava(image, cacheOptions, false);
+				appendOption(home.resolve(OPTIONS_FILE), "-Xshareclasses:" + cacheOptions); //$NON-NLS-1$
+			} catch (IOException e) {
+				throw new PluginException("Failed to create the shared class cache: " + e.getMessage(), e); //$NON-NLS-1$
+			}
+		}
+		return null;
+	}
+
+	private void runJava(ExecutableImage image, String cacheOptions, boolean training) throws IOException {
+		List<String> command = new ArrayList<>(image.getExecutionArgs());
+
+		if (command.isEmpty() || !Files.isExecutable(Paths.get(command.get(0)))) {
+			throw new PluginException(NAME + ": the image cannot be run on this platform"); //$NON-NLS-1$
+		}
+		command.add("-Xshareclasses:" + cacheOptions); //$NON-NLS-1$
+		if (training) {
+			if (cacheSize != null) {
+				command.add("-Xscmx" + cacheSize); //$NON-NLS-1$
+			}
+			command.addAll(workload);
+		} else {
+			command.add("-version"); //$NON-NLS-1$
+		}
+
+		ProcessBuilder builder = new ProcessBuilder(command).redirectErrorStream(true);
+		Process process = builder.start();
+		String output;
+
+		try (InputStream stream = process.getInputStream()) {
+			output = new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+		}
+
+		int status;
+
+		try {
+			status = process.waitFor();
+		} catch (InterruptedException e) {
+			process.destroy();
+			Thread.currentThread().interrupt();
+			throw new PluginException(NAME + ": interrupted while running " + command, e); //$NON-NLS-1$
+		}
+		if (status != 0) {
+			throw new PluginException(NAME + ": " + command + " exited with status " + status //$NON-NLS-1$ //$NON-NLS-2$
+					+ System.lineSeparator() + output);
+		}
+	}
+
+	private static void appendOption(Path optionsFile, String option) throws IOException {
+		StringBuilder text = new StringBuilder();
+
+		if (Files.exists(optionsFile)) {
+			byte[] existing = Files.readAllBytes(optionsFile);
+
+			if ((existing.length > 0) && (existing[existing.length - 1] != '\n')) {
+				text.append(System.lineSeparator());
+			}
+		}
+		text.append('"').append(option).append('"').append(System.lineSeparator());
+		Files.write(optionsFile, text.toString().getBytes(StandardCharsets.UTF_8),
+				StandardOpenOption.CREATE, StandardOpenOption.APPEND);
 	}
 }
@@ -0,0 +1,367 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management;
+
+import java.lang.management.MemoryUsage;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.InvalidKeyException;
+
+import com.ibm.lang.management.internal.GarbageCollectionBatchNotificationInfoUtil;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.GcInfo;
+import com.sun.management.internal.GcInfoUtil;
+
+/**
+ * Encapsulates a summary of the garbage collections done by one collector over a
+ * period of time. When the <code>com.ibm.lang.management.gcNotificationBatchWindow</code>
+ * system property is set to a number of milliseconds, a garbage collector bean emits
+ * one notification of type {@link #GARBAGE_COLLECTION_BATCH_NOTIFICATION} per window
+ * in which it collected, in place of a
+ * {@link GarbageCollectionNotificationInfo#GARBAGE_COLLECTION_NOTIFICATION} per collection.
+ * <p>
+ * The summary holds counts, times and per memory pool totals in primitive arrays.
+ * The most recent collections of the window, up to the number set by the
+ * <code>com.ibm.lang.management.gcNotificationBatchDetail</code> system property
+ * (16 by default), are also retained in primitive form; the
+ * {@link GarbageCollectionNotificationInfo} for each of them is only built when
+ * {@link #getGarbageCollectionNotificationInfo(int)} is called.
+ * </p>
+ */
+public final class GarbageCollectionBatchNotificationInfo {
+
+	/**
+	 * Notification type of a garbage collection batch notification. The user data
+	 * of the notification is the {@link CompositeData} of a
+	 * <code>GarbageCollectionBatchNotificationInfo</code>.
+	 */
+	public static final String GARBAGE_COLLECTION_BATCH_NOTIFICATION = "com.ibm.lang.management.gc.batch"; //$NON-NLS-1$
+
+	/**
+	 * The number of values recorded for each memory pool of each retained collection,
+	 * see {@link #getDetailPoolUsage()}.
+	 */
+	public static final int POOL_USAGE_VALUES = 7;
+
+	private final String gcName;
+	private final long count;
+	private final long firstIndex;
+	private final long lastIndex;
+	private final long startTime;
+	private final long endTime;
+	private final long totalDuration;
+	private final long maxDuration;
+	private final String[] poolNames;
+	private final long[] poolReclaimed;
+	private final long[] poolUsed;
+	private final long[] poolCommitted;
+	private final long[] detailIndex;
+	private final String[] detailAction;
+	private final String[] detailCause;
+	private final long[] detailStartTime;
+	private final long[] detailEndTime;
+	private final long[] detailPoolUsage;
+
+	/**
+	 * Constructs a new instance of this object.
+	 *
+	 * @param gcName the name of the garbage collector
+	 * @param count the number of collections in the batch
+	 * @param firstIndex the identifier of the first collection in the batch
+	 * @param lastIndex the identifier of the last collection in the batch
+	 * @param startTime the start time of the first collection, in milliseconds since the Java virtual machine was started
+	 * @param endTime the end time of the last collection, in milliseconds since the Java virtual machine was started
+	 * @param totalDuration the sum of the durations of the collections in milliseconds
+	 * @param maxDuration the duration of the longest collection in milliseconds
+	 * @param poolNames the names of the memory pools
+	 * @param poolReclaimed for each memory pool, the sum over the collections of the used bytes before less the used bytes after
+	 * @param poolUsed for each memory pool, the used bytes after the last collection
+	 * @param poolCommitted for each memory pool, the committed bytes after the last collection
+	 * @param detailIndex the identifiers of the retained collections
+	 * @param detailAction the actions of the retained collections
+	 * @param detailCause the causes of the retained collections
+	 * @param detailStartTime the start times of the retained collections
+	 * @param detailEndTime the end times of the retained collections
+	 * @param detailPoolUsage the memory pool usage of the retained collections, see {@link #getDetailPoolUsage()}
+	 * @throws IllegalArgumentException if the lengths of the arrays are inconsistent
+	 */
+	public GarbageCollectionBatchNotificationInfo(String gcName, long count, long firstIndex, long lastIndex,
+			long startTime, long endTime, long totalDuration, long maxDuration,
+			String[] poolNames, long[] poolReclaimed, long[] poolUsed, long[] poolCommitted,
+			long[] detailIndex, String[] detailAction, String[] detailCause,
+			long[] detailStartTime, long[] detailEndTime, long[] detailPoolUsage) {
+		super();
+		int pools = poolNames.length;
+		int details = detailIndex.length;
+		if ((poolReclaimed.length != pools) || (poolUsed.length != pools) || (poolCommitted.length != pools)
+				|| (detailAction.length != details) || (detailCause.length != details)
+				|| (detailStartTime.length != details) || (detailEndTime.length != details)
+				|| (detailPoolUsage.length != (details * pools * POOL_USAGE_VALUES))) {
+			throw new IllegalArgumentException();
+		}
+		this.gcName = gcName;
+		this.count = count;
+		this.firstIndex = firstIndex;
+		this.lastIndex = lastIndex;
+		this.startTime = startTime;
+		this.endTime = endTime;
+		this.totalDuration = totalDuration;
+		this.maxDuration = maxDuration;
+		this.poolNames = poolNames;
+		this.poolReclaimed = poolReclaimed;
+		this.poolUsed = poolUsed;
+		this.poolCommitted = poolCommitted;
+		this.detailIndex = detailIndex;
+		this.detailAction = detailAction;
+		this.detailCause = detailCause;
+		this.detailStartTime = detailStartTime;
+		this.detailEndTime = detailEndTime;
+		this.detailPoolUsage = detailPoolUsage;
+	}
+
+	/**
+	 * @return the name of the garbage collector
+	 */
+	public String getGcName() {
+		return gcName;
+	}
+
+	/**
+	 * @return the number of collections in the batch
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * @return the identifier of the first collection in the batch
+	 */
+	public long getFirstIndex() {
+		return firstIndex;
+	}
+
+	/**
+	 * @return the identifier of the last collection in the batch
+	 */
+	public long getLastIndex() {
+		return lastIndex;
+	}
+
+	/**
+	 * @return the start time of the first collection, in milliseconds since the Java virtual machine was started
+	 */
+	public long getStartTime() {
+		return startTime;
+	}
+
+	/**
+	 * @return the end time of the last collection, in milliseconds since the Java virtual machine was started
+	 */
+	public long getEndTime() {
+		return endTime;
+	}
+
+	/**
+	 * @return the sum of the durations of the collections in milliseconds
+	 */
+	public long getTotalDuration() {
+		return totalDuration;
+	}
+
+	/**
+	 * @return the duration of the longest collection in milliseconds
+	 */
+	public long getMaxDuration() {
+		return maxDuration;
+	}
+
+	/**
+	 * @return the names of the memory pools, which index the other pool arrays
+	 */
+	public String[] getPoolNames() {
+		return poolNames.clone();
+	}
+
+	/**
+	 * @return for each memory pool, the sum over the collections of the used bytes before
+	 * the collection less the used bytes after it; negative if the pool grew, for example
+	 * because objects were promoted into it
+	 */
+	public long[] getPoolReclaimed() {
+		return poolReclaimed.clone();
+	}
+
+	/**
+	 * @return for each memory pool, the used bytes after the last collection
+	 */
+	public long[] getPoolUsed() {
+		return poolUsed.clone();
+	}
+
+	/**
+	 * @return for each memory pool, the committed bytes after the last collection
+	 */
+	public long[] getPoolCommitted() {
+		return poolCommitted.clone();
+	}
+
+	/**
+	 * @return the number of collections retained in detail, the most recent of the batch
+	 */
+	public int getDetailCount() {
+		return detailIndex.length;
+	}
+
+	/**
+	 * @return the identifiers of the retained collections, oldest first
+	 */
+	public long[] getDetailIndex() {
+		return detailIndex.clone();
+	}
+
+	/**
+	 * @return the actions of the retained collections
+	 */
+	public String[] getDetailAction() {
+		return detailAction.clone();
+	}
+
+	/**
+	 * @return the causes of the retained collections
+	 */
+	public String[] getDetailCause() {
+		return detailCause.clone();
+	}
+
+	/**
+	 * @return the start times of the retained collections
+	 */
+	public long[] getDetailStartTime() {
+		return detailStartTime.clone();
+	}
+
+	/**
+	 * @return the end times of the retained collections
+	 */
+	public long[] getDetailEndTime() {
+		return detailEndTime.clone();
+	}
+
+	/**
+	 * The memory pool usage of the retained collections. For collection <code>i</code> and pool
+	 * <code>p</code> the {@link #POOL_USAGE_VALUES} values starting at
+	 * <code>((i * poolCount) + p) * POOL_USAGE_VALUES</code> are the initial size, then the used,
+	 * committed and maximum bytes before the collection, then the used, committed and maximum
+	 * bytes after it.
+	 *
+	 * @return the memory pool usage of the retained collections
+	 */
+	public long[] getDetailPoolUsage() {
+		return detailPoolUsage.clone();
+	}
+
+	/**
+	 * Builds the notification info that would have been sent for one of the retained
+	 * collections if notifications were not batched.
+	 *
+	 * @param detail the index of the retained collection, from 0 to {@link #getDetailCount()} - 1
+	 * @return the notification info of the collection
+	 * @throws IndexOutOfBoundsException if <code>detail</code> is out of range
+	 */
+	public GarbageCollectionNotificationInfo getGarbageCollectionNotificationInfo(int detail) {
+		if ((detail < 0) || (detail >= detailIndex.length)) {
+			throw new IndexOutOfBoundsException();
+		}
+		int pools = poolNames.length;
+		Map<String, MemoryUsage> usageBeforeGc = new HashMap<>(pools * 4 / 3 + 1);
+		Map<String, MemoryUsage> usageAfterGc = new HashMap<>(pools * 4 / 3 + 1);
+		for (int pool = 0; pool < pools; ++pool) {
+			int offset = ((detail * pools) + pool) * POOL_USAGE_VALUES;
+			long initial = detailPoolUsage[offset];
+			usageBeforeGc.put(poolNames[pool], new MemoryUsage(initial,
+					detailPoolUsage[offset + 1], detailPoolUsage[offset + 2], detailPoolUsage[offset + 3]));
+			usageAfterGc.put(poolNames[pool], new MemoryUsage(initial,
+					detailPoolUsage[offset + 4], detailPoolUsage[offset + 5], detailPoolUsage[offset + 6]));
+		}
+		GcInfo gcInfo = GcInfoUtil.newGcInfoInstance(detailIndex[detail], detailStartTime[detail], detailEndTime[detail],
+				usageBeforeGc, usageAfterGc);
+		return new GarbageCollectionNotificationInfo(gcName, detailAction[detail], detailCause[detail], gcInfo);
+	}
+
+	/**
+	 * Receives a {@link CompositeData} representing a
+	 * <code>GarbageCollectionBatchNotificationInfo</code> object and attempts to
+	 * return the root <code>GarbageCollectionBatchNotificationInfo</code> instance.
+	 *
+	 * @param cd
+	 *            a <code>CompositeData</code> that represents a
+	 *            <code>GarbageCollectionBatchNotificationInfo</code>.
+	 * @return if <code>cd</code> is non- <code>null</code>, returns a new
+	 *         instance of <code>GarbageCollectionBatchNotificationInfo</code>.
+	 *         If <code>cd</code> is <code>null</code>, returns
+	 *         <code>null</code>.
+	 * @throws IllegalArgumentException
+	 *             if argument <code>cd</code> does not correspond to a
+	 *             <code>GarbageCollectionBatchNotificationInfo</code>
+	 */
+	public static GarbageCollectionBatchNotificationInfo from(CompositeData cd) {
+		GarbageCollectionBatchNotificationInfo result = null;
+
+		if (null != cd) {
+			if (!GarbageCollectionBatchNotificationInfoUtil.getCompositeType().isValue(cd)) {
+				/*[MSG "K05E5", "CompositeData is not of the expected type."]*/
+				throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K05E5")); //$NON-NLS-1$
+			}
+
+			try {
+				result = new GarbageCollectionBatchNotificationInfo(
+						(String) cd.get("gcName"), //$NON-NLS-1$
+						((Long) cd.get("count")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("firstIndex")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("lastIndex")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("startTime")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("endTime")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("totalDuration")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("maxDuration")).longValue(), //$NON-NLS-1$
+						(String[]) cd.get("poolNames"), //$NON-NLS-1$
+						(long[]) cd.get("poolReclaimed"), //$NON-NLS-1$
+						(long[]) cd.get("poolUsed"), //$NON-NLS-1$
+						(long[]) cd.get("poolCommitted"), //$NON-NLS-1$
+						(long[]) cd.get("detailIndex"), //$NON-NLS-1$
+						(String[]) cd.get("detailAction"), //$NON-NLS-1$
+						(String[]) cd.get("detailCause"), //$NON-NLS-1$
+						(long[]) cd.get("detailStartTime"), //$NON-NLS-1$
+						(long[]) cd.get("detailEndTime"), //$NON-NLS-1$
+						(long[]) cd.get("detailPoolUsage")); //$NON-NLS-1$
+			} catch (InvalidKeyException e) {
+				/*[MSG "K05E6", "CompositeData object does not contain expected key."]*/
+				throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K05E6")); //$NON-NLS-1$
+			}
+		}
+
+		return result;
+	}
+
+}
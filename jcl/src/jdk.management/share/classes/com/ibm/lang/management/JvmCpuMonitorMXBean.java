@@ -113,6 +113,31 @@ public interface JvmCpuMonitorMXBean extends PlatformManagedObject {
 	public JvmCpuMonitorInfo getThreadsCpuUsage()
 		throws UnsupportedOperationException;
 
+	/**
+	 * This function updates the user provided <code>JvmCpuMonitorUsage</code> object
+	 * with the CPU time and allocated bytes of each thread category since the previous
+	 * update of the same object, and a histogram of the CPU time used by each thread.
+	 * Updating the same object repeatedly does not allocate for each thread, so it is
+	 * suitable for frequent sampling.
+	 *
+	 * @param usage	User provided JvmCpuMonitorUsage object.
+	 *
+	 * @return the updated JvmCpuMonitorUsage instance.
+	 *
+	 * @throws NullPointerException if a null reference is passed.
+	 */
+	public JvmCpuMonitorUsage getThreadsUsage(JvmCpuMonitorUsage usage)
+		throws NullPointerException;
+
+	/**
+	 * This function creates a new {@link JvmCpuMonitorUsage} object and populates it
+	 * with the CPU time and allocated bytes of each thread category. As there is no
+	 * previous update, the values are totals since each thread was started.
+	 *
+	 * @return the new <code>JvmCpuMonitorUsage</code> instance.
+	 */
+	public JvmCpuMonitorUsage getThreadsUsage();
+
 	/**
 	 * This function sets the thread category of the target thread.
 	 * Valid categories are
@@ -0,0 +1,517 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management;
+
+import java.util.Arrays;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.InvalidKeyException;
+
+import com.ibm.lang.management.internal.JvmCpuMonitorUsageUtil;
+
+/**
+ * <code>JvmCpuMonitorUsage</code> provides the CPU time and allocated bytes of the threads
+ * attached to the JVM, distributed across thread categories, for the interval since the
+ * previous update of the same object.
+ * <p>
+ * Unlike {@link JvmCpuMonitorInfo}, the categories are exclusive: every thread is counted in exactly one
+ * category, the one it belongs to when the sample is taken. "System-JVM" therefore does not include
+ * the "GC" and "JIT" categories, and "Application" does not include the user defined categories.
+ * The categories are indexed from 0 to {@link #categoryCount()} - 1, see {@link #getCategoryName(int)}.
+ * </p>
+ * <p>
+ * For each category a histogram of the CPU time used by each thread in the interval is also kept,
+ * which shows whether the usage of a category comes from a few busy threads or many quiet ones.
+ * Bucket 0 counts threads which used no CPU time; bucket <code>i</code> counts threads which used
+ * at least 2<sup>i-1</sup> and less than 2<sup>i</sup> microseconds, with the last bucket open ended.
+ * </p>
+ * <p>
+ * An instance is intended to be updated repeatedly through
+ * {@link JvmCpuMonitorMXBean#getThreadsUsage(JvmCpuMonitorUsage)}: the per-thread values from the previous
+ * update are kept in primitive arrays that are only re-allocated when the number of threads grows.
+ * Values for threads which were not present in the previous update (including every thread on the
+ * first update) are their totals since they were started. CPU time and allocations of threads which
+ * exit between two updates are not reported for the interval in which they exit.
+ * </p>
+ *
+ * @see JvmCpuMonitorMXBean For more information on thread categories.
+ */
+public final class JvmCpuMonitorUsage {
+
+	private static final int HASHMASK = 0x0FFFFFFF;
+
+	/**
+	 * The number of buckets in each CPU time histogram.
+	 */
+	public static final int HISTOGRAM_BUCKETS = 24;
+
+	private static final String[] CATEGORY_NAMES = {
+		"System-JVM", //$NON-NLS-1$
+		"GC", //$NON-NLS-1$
+		"JIT", //$NON-NLS-1$
+		"Resource-Monitor", //$NON-NLS-1$
+		"Application", //$NON-NLS-1$
+		"Application-User1", //$NON-NLS-1$
+		"Application-User2", //$NON-NLS-1$
+		"Application-User3", //$NON-NLS-1$
+		"Application-User4", //$NON-NLS-1$
+		"Application-User5" //$NON-NLS-1$
+	};
+
+	private static final int NUM_CATEGORIES = CATEGORY_NAMES.length;
+
+	/* Size of a thread record written by the native, see updateValues() */
+	private static final int RECORD_SIZE = 4;
+
+	private long timestamp;
+	private long interval;
+	private final long[] cpuTime = new long[NUM_CATEGORIES];
+	private final long[] allocatedBytes = new long[NUM_CATEGORIES];
+	private final int[] threadCount = new int[NUM_CATEGORIES];
+	private final long[][] cpuTimeHistogram = new long[NUM_CATEGORIES][HISTOGRAM_BUCKETS];
+
+	/* Per-thread cumulative values from the previous update, in an open addressed hash table keyed by thread */
+	private boolean hasPrevious;
+	private long[] previousKeys = new long[0];
+	private long[] previousCpuTime = new long[0];
+	private long[] previousAllocatedBytes = new long[0];
+	private long[] currentKeys = new long[0];
+	private long[] currentCpuTime = new long[0];
+	private long[] currentAllocatedBytes = new long[0];
+
+	/**
+	 * Creates a new <code>JvmCpuMonitorUsage</code> instance.
+	 */
+	public JvmCpuMonitorUsage() {
+		super();
+	}
+
+	private JvmCpuMonitorUsage(long timestamp, long interval, long[] cpuTime, long[] allocatedBytes,
+			int[] threadCount, long[][] cpuTimeHistogram) throws IllegalArgumentException {
+		super();
+		if ((timestamp < 0) || (interval < 0)
+				|| (cpuTime.length != NUM_CATEGORIES)
+				|| (allocatedBytes.length != NUM_CATEGORIES)
+				|| (threadCount.length != NUM_CATEGORIES)
+				|| (cpuTimeHistogram.length != NUM_CATEGORIES)) {
+			throw new IllegalArgumentException();
+		}
+		this.timestamp = timestamp;
+		this.interval = interval;
+		System.arraycopy(cpuTime, 0, this.cpuTime, 0, NUM_CATEGORIES);
+		System.arraycopy(allocatedBytes, 0, this.allocatedBytes, 0, NUM_CATEGORIES);
+		System.arraycopy(threadCount, 0, this.threadCount, 0, NUM_CATEGORIES);
+		for (int i = 0; i < NUM_CATEGORIES; ++i) {
+			if (cpuTimeHistogram[i].length != HISTOGRAM_BUCKETS) {
+				throw new IllegalArgumentException();
+			}
+			System.arraycopy(cpuTimeHistogram[i], 0, this.cpuTimeHistogram[i], 0, HISTOGRAM_BUCKETS);
+		}
+	}
+
+	/**
+	 * This method returns the number of thread categories, which is the length of the
+	 * arrays returned by the other methods.
+	 *
+	 * @return	The number of thread categories.
+	 */
+	public static int categoryCount() {
+		return NUM_CATEGORIES;
+	}
+
+	/**
+	 * This method returns the name of a thread category, as used by
+	 * {@link JvmCpuMonitorMXBean#getThreadCategory(long)}.
+	 *
+	 * @param category	The category index.
+	 * @return	The thread category name.
+	 */
+	public static String getCategoryName(int category) {
+		return CATEGORY_NAMES[category];
+	}
+
+	/**
+	 * This method returns the time stamp of the sample. It is taken from a monotonic
+	 * clock and is only meaningful relative to other samples.
+	 *
+	 * @return	The sampling time stamp in microseconds.
+	 */
+	public long getTimestamp() {
+		return this.timestamp;
+	}
+
+	/**
+	 * This method returns the time between the previous update and this one.
+	 *
+	 * @return	The length of the sampled interval in microseconds, or 0 if there was no previous update.
+	 */
+	public long getInterval() {
+		return this.interval;
+	}
+
+	/**
+	 * This method returns the CPU time used in the interval by the threads of each category.
+	 *
+	 * @return	Array of CPU usage time in microseconds, indexed by category.
+	 */
+	public long[] getCpuTime() {
+		return this.cpuTime.clone();
+	}
+
+	/**
+	 * This method returns the number of bytes allocated in the interval by the threads of each category.
+	 *
+	 * @return	Array of allocated bytes, indexed by category.
+	 */
+	public long[] getAllocatedBytes() {
+		return this.allocatedBytes.clone();
+	}
+
+	/**
+	 * This method returns the number of sampled threads in each category.
+	 *
+	 * @return	Array of thread counts, indexed by category.
+	 */
+	public int[] getThreadCount() {
+		return this.threadCount.clone();
+	}
+
+	/**
+	 * This method returns, for each category, the histogram of the CPU time used by each of its
+	 * threads in the interval.
+	 *
+	 * @return	Array of {@link #HISTOGRAM_BUCKETS} thread counts per category.
+	 */
+	public long[][] getCpuTimeHistogram() {
+		long[][] histogram = new long[NUM_CATEGORIES][];
+		for (int i = 0; i < NUM_CATEGORIES; ++i) {
+			histogram[i] = this.cpuTimeHistogram[i].clone();
+		}
+		return histogram;
+	}
+
+	/**
+	 * This method returns the CPU time used in the interval by the threads of one category,
+	 * without copying.
+	 *
+	 * @param category	The category index.
+	 * @return	CPU usage time in microseconds.
+	 */
+	public long getCpuTime(int category) {
+		return this.cpuTime[category];
+	}
+
+	/**
+	 * This method returns the number of bytes allocated in the interval by the threads of one
+	 * category, without copying.
+	 *
+	 * @param category	The category index.
+	 * @return	Allocated bytes.
+	 */
+	public long getAllocatedBytes(int category) {
+		return this.allocatedBytes[category];
+	}
+
+	/**
+	 * This method returns one bucket of the CPU time histogram of a category, without copying.
+	 *
+	 * @param category	The category index.
+	 * @param bucket	The bucket index.
+	 * @return	The number of threads in the bucket.
+	 */
+	public long getCpuTimeHistogram(int category, int bucket) {
+		return this.cpuTimeHistogram[category][bucket];
+	}
+
+	/* (non-Javadoc)
+	 * Updates this instance from cumulative per-thread values, called from the native.
+	 * Each record in the array is { thread key, Java thread category, CPU time in microseconds, allocated bytes },
+	 * with -1 for values that could not be obtained.
+	 *
+	 * @param tstamp The time stamp when the sample was taken in microseconds.
+	 * @param records The thread records.
+	 * @param count The number of records.
+	 */
+	void updateValues(long tstamp, long[] records, int count) {
+		Arrays.fill(this.cpuTime, 0);
+		Arrays.fill(this.allocatedBytes, 0);
+		Arrays.fill(this.threadCount, 0);
+		for (int i = 0; i < NUM_CATEGORIES; ++i) {
+			Arrays.fill(this.cpuTimeHistogram[i], 0);
+		}
+
+		int capacity = tableCapacity(count);
+		if (this.currentKeys.length < capacity) {
+			this.currentKeys = new long[capacity];
+			this.currentCpuTime = new long[capacity];
+			this.currentAllocatedBytes = new long[capacity];
+		} else {
+			Arrays.fill(this.currentKeys, 0);
+		}
+
+		for (int i = 0; i < count; ++i) {
+			int offset = i * RECORD_SIZE;
+			long key = records[offset];
+			int category = categoryIndex(records[offset + 1]);
+			long threadCpuTime = records[offset + 2];
+			long threadAllocatedBytes = records[offset + 3];
+			long lastCpuTime = 0;
+			long lastAllocatedBytes = 0;
+
+			int previous = this.hasPrevious ? find(this.previousKeys, key) : -1;
+			if (previous >= 0) {
+				lastCpuTime = this.previousCpuTime[previous];
+				lastAllocatedBytes = this.previousAllocatedBytes[previous];
+			}
+
+			int slot = insert(this.currentKeys, key);
+			this.currentCpuTime[slot] = threadCpuTime;
+			this.currentAllocatedBytes[slot] = threadAllocatedBytes;
+
+			if (category < 0) {
+				continue;
+			}
+
+			long deltaCpuTime = delta(threadCpuTime, lastCpuTime);
+			long deltaAllocatedBytes = delta(threadAllocatedBytes, lastAllocatedBytes);
+
+			this.cpuTime[category] += deltaCpuTime;
+			this.allocatedBytes[category] += deltaAllocatedBytes;
+			this.threadCount[category] += 1;
+			this.cpuTimeHistogram[category][histogramBucket(deltaCpuTime)] += 1;
+		}
+
+		this.interval = this.hasPrevious ? Math.max(0, tstamp - this.timestamp) : 0;
+		this.timestamp = tstamp;
+		this.hasPrevious = true;
+
+		long[] swap = this.previousKeys;
+		this.previousKeys = this.currentKeys;
+		this.currentKeys = swap;
+		swap = this.previousCpuTime;
+		this.previousCpuTime = this.currentCpuTime;
+		this.currentCpuTime = swap;
+		swap = this.previousAllocatedBytes;
+		this.previousAllocatedBytes = this.currentAllocatedBytes;
+		this.currentAllocatedBytes = swap;
+	}
+
+	private static long delta(long current, long previous) {
+		if (current < 0) {
+			return 0;
+		}
+		/* a smaller value than last time means the key now identifies a different thread */
+		if ((previous < 0) || (current < previous)) {
+			return current;
+		}
+		return current - previous;
+	}
+
+	private static int histogramBucket(long time) {
+		int bucket = 64 - Long.numberOfLeadingZeros(time);
+		return Math.min(bucket, HISTOGRAM_BUCKETS - 1);
+	}
+
+	private static int categoryIndex(long category) {
+		switch ((int) category) {
+		case 1:
+			return 0;
+		case 2:
+			return 1;
+		case 3:
+			return 2;
+		case 10:
+			return 3;
+		case 100:
+			return 4;
+		case 101:
+		case 102:
+		case 103:
+		case 104:
+		case 105:
+			return 5 + (int) category - 101;
+		default:
+			return -1;
+		}
+	}
+
+	private static int tableCapacity(int count) {
+		int capacity = 16;
+		while (capacity < (count * 2)) {
+			capacity <<= 1;
+		}
+		return capacity;
+	}
+
+	private static int hash(long key, int mask) {
+		int h = (int) (key ^ (key >>> 32));
+		return (h * 0x9E3779B9) & mask;
+	}
+
+	/* keys are never 0: Java thread IDs are positive and other threads use a negated address */
+	private static int find(long[] keys, long key) {
+		if (0 == keys.length) {
+			return -1;
+		}
+		int mask = keys.length - 1;
+		for (int slot = hash(key, mask);; slot = (slot + 1) & mask) {
+			long candidate = keys[slot];
+			if (candidate == key) {
+				return slot;
+			} else if (0 == candidate) {
+				return -1;
+			}
+		}
+	}
+
+	private static int insert(long[] keys, long key) {
+		int mask = keys.length - 1;
+		int slot = hash(key, mask);
+		while ((0 != keys[slot]) && (key != keys[slot])) {
+			slot = (slot + 1) & mask;
+		}
+		keys[slot] = key;
+		return slot;
+	}
+
+	/**
+	 * Receives a {@link javax.management.openmbean.CompositeData} representing a
+	 * {@link JvmCpuMonitorUsage} object and attempts to return the root
+	 * {@link JvmCpuMonitorUsage} instance. The per-thread values used to compute the
+	 * next interval are not part of the composite data, so an update of the returned
+	 * instance reports totals since each thread was started.
+	 *
+	 * @param cd	A {@link javax.management.openmbean.CompositeData} that represents a
+	 * 		{@link JvmCpuMonitorUsage}.
+	 *
+	 * @return	if <code>cd</code> is non- <code>null</code>, returns a new instance of
+	 * 		{@link JvmCpuMonitorUsage},
+	 * 		 If <code>cd</code> is <code>null</code>, returns <code>null</code>.
+	 *
+	 * @throws IllegalArgumentException	if argument <code>cd</code> does not correspond to a
+	 * 		{@link JvmCpuMonitorUsage} with the following attributes:
+	 * 		<ul>
+	 *		<li><code>timestamp</code>(<code>java.lang.Long</code>)</li>
+	 *		<li><code>interval</code>(<code>java.lang.Long</code>)</li>
+	 *		<li><code>cpuTime</code></li>
+	 *		<li><code>allocatedBytes</code></li>
+	 *		<li><code>threadCount</code></li>
+	 *		<li><code>cpuTimeHistogram</code></li>
+	 * 		</ul>
+	 */
+	public static JvmCpuMonitorUsage from(CompositeData cd) {
+		JvmCpuMonitorUsage result = null;
+
+		if (null != cd) {
+			if (!JvmCpuMonitorUsageUtil.getCompositeType().isValue(cd)) {
+				/*[MSG "K05E5", "CompositeData is not of the expected type."]*/
+				throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K05E5")); //$NON-NLS-1$
+			}
+
+			try {
+				result = new JvmCpuMonitorUsage(
+						((Long) cd.get("timestamp")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("interval")).longValue(), //$NON-NLS-1$
+						(long[]) cd.get("cpuTime"), //$NON-NLS-1$
+						(long[]) cd.get("allocatedBytes"), //$NON-NLS-1$
+						(int[]) cd.get("threadCount"), //$NON-NLS-1$
+						(long[][]) cd.get("cpuTimeHistogram")); //$NON-NLS-1$
+			} catch (InvalidKeyException e) {
+				/*[MSG "K05E6", "CompositeData object does not contain expected key."]*/
+				throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K05E6")); //$NON-NLS-1$
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Text description of this {@link JvmCpuMonitorUsage} object.
+	 *
+	 * @return Text description of this {@link JvmCpuMonitorUsage} object.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("\n========== "); //$NON-NLS-1$
+		sb.append(this.getClass().getSimpleName());
+		sb.append(" ==========\n\n"); //$NON-NLS-1$
+		sb.append("timestamp = "); //$NON-NLS-1$
+		sb.append(this.timestamp);
+		sb.append("\n"); //$NON-NLS-1$
+		sb.append(" interval = "); //$NON-NLS-1$
+		sb.append(this.interval);
+		sb.append("\n"); //$NON-NLS-1$
+		for (int i = 0; i < NUM_CATEGORIES; ++i) {
+			sb.append(CATEGORY_NAMES[i]);
+			sb.append(": threads = "); //$NON-NLS-1$
+			sb.append(this.threadCount[i]);
+			sb.append(", cpuTime = "); //$NON-NLS-1$
+			sb.append(this.cpuTime[i]);
+			sb.append(", allocatedBytes = "); //$NON-NLS-1$
+			sb.append(this.allocatedBytes[i]);
+			sb.append(", histogram = "); //$NON-NLS-1$
+			sb.append(Arrays.toString(this.cpuTimeHistogram[i]));
+			sb.append("\n"); //$NON-NLS-1$
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof JvmCpuMonitorUsage)) {
+			return false;
+		}
+
+		JvmCpuMonitorUsage usage = (JvmCpuMonitorUsage) obj;
+
+		return (usage.timestamp == this.timestamp)
+				&& (usage.interval == this.interval)
+				&& Arrays.equals(usage.cpuTime, this.cpuTime)
+				&& Arrays.equals(usage.allocatedBytes, this.allocatedBytes)
+				&& Arrays.equals(usage.threadCount, this.threadCount)
+				&& Arrays.deepEquals(usage.cpuTimeHistogram, this.cpuTimeHistogram);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode() {
+		long uHash = this.timestamp + this.interval;
+
+		for (int i = 0; i < NUM_CATEGORIES; ++i) {
+			uHash += this.cpuTime[i] + this.allocatedBytes[i] + this.threadCount[i];
+		}
+
+		return (int) ((((uHash >> 32) + uHash) & HASHMASK) * 23);
+	}
+
+}
@@ -0,0 +1,198 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.InvalidKeyException;
+
+import com.ibm.lang.management.internal.PressureStallInfoUtil;
+
+/**
+ * <code>PressureStallInfo</code> holds the pressure stall information (PSI) Linux reports
+ * for one resource, as returned by {@link UnixOperatingSystemMXBean}. The "some" values
+ * describe the time in which at least one task was stalled waiting for the resource, the
+ * "full" values the time in which all non-idle tasks were stalled at the same time.
+ * The averages are percentages of wall time over the last 10, 60 and 300 seconds;
+ * the totals are the accumulated stall times in microseconds. Values which the
+ * operating system does not report, such as the "full" values for CPU on older
+ * kernels, are -1.
+ */
+public final class PressureStallInfo {
+
+	private final double someAvg10;
+	private final double someAvg60;
+	private final double someAvg300;
+	private final long someTotal;
+	private final double fullAvg10;
+	private final double fullAvg60;
+	private final double fullAvg300;
+	private final long fullTotal;
+
+	/**
+	 * Creates a new <code>PressureStallInfo</code> instance.
+	 *
+	 * @param someAvg10 the "some" percentage over the last 10 seconds
+	 * @param someAvg60 the "some" percentage over the last 60 seconds
+	 * @param someAvg300 the "some" percentage over the last 300 seconds
+	 * @param someTotal the total "some" stall time in microseconds
+	 * @param fullAvg10 the "full" percentage over the last 10 seconds
+	 * @param fullAvg60 the "full" percentage over the last 60 seconds
+	 * @param fullAvg300 the "full" percentage over the last 300 seconds
+	 * @param fullTotal the total "full" stall time in microseconds
+	 */
+	public PressureStallInfo(double someAvg10, double someAvg60, double someAvg300, long someTotal,
+			double fullAvg10, double fullAvg60, double fullAvg300, long fullTotal) {
+		super();
+		this.someAvg10 = someAvg10;
+		this.someAvg60 = someAvg60;
+		this.someAvg300 = someAvg300;
+		this.someTotal = someTotal;
+		this.fullAvg10 = fullAvg10;
+		this.fullAvg60 = fullAvg60;
+		this.fullAvg300 = fullAvg300;
+		this.fullTotal = fullTotal;
+	}
+
+	/**
+	 * @return the percentage of wall time over the last 10 seconds in which at least one task was stalled
+	 */
+	public double getSomeAvg10() {
+		return someAvg10;
+	}
+
+	/**
+	 * @return the percentage of wall time over the last 60 seconds in which at least one task was stalled
+	 */
+	public double getSomeAvg60() {
+		return someAvg60;
+	}
+
+	/**
+	 * @return the percentage of wall time over the last 300 seconds in which at least one task was stalled
+	 */
+	public double getSomeAvg300() {
+		return someAvg300;
+	}
+
+	/**
+	 * @return the total time in microseconds in which at least one task was stalled
+	 */
+	public long getSomeTotal() {
+		return someTotal;
+	}
+
+	/**
+	 * @return the percentage of wall time over the last 10 seconds in which all non-idle tasks were stalled
+	 */
+	public double getFullAvg10() {
+		return fullAvg10;
+	}
+
+	/**
+	 * @return the percentage of wall time over the last 60 seconds in which all non-idle tasks were stalled
+	 */
+	public double getFullAvg60() {
+		return fullAvg60;
+	}
+
+	/**
+	 * @return the percentage of wall time over the last 300 seconds in which all non-idle tasks were stalled
+	 */
+	public double getFullAvg300() {
+		return fullAvg300;
+	}
+
+	/**
+	 * @return the total time in microseconds in which all non-idle tasks were stalled
+	 */
+	public long getFullTotal() {
+		return fullTotal;
+	}
+
+	/**
+	 * Receives a {@link javax.management.openmbean.CompositeData} representing a
+	 * {@link PressureStallInfo} object and attempts to return the root
+	 * {@link PressureStallInfo} instance.
+	 *
+	 * @param cd A {@link javax.management.openmbean.CompositeData} that represents a
+	 * 		{@link PressureStallInfo}.
+	 *
+	 * @return if <code>cd</code> is non- <code>null</code>, returns a new instance of
+	 * 		{@link PressureStallInfo},
+	 * 		If <code>cd</code> is <code>null</code>, returns <code>null</code>.
+	 *
+	 * @throws IllegalArgumentException if argument <code>cd</code> does not correspond to a
+	 * 		{@link PressureStallInfo} with the following attributes:
+	 * 		<ul>
+	 *		<li><code>someAvg10</code>(<code>java.lang.Double</code>)</li>
+	 *		<li><code>someAvg60</code>(<code>java.lang.Double</code>)</li>
+	 *		<li><code>someAvg300</code>(<code>java.lang.Double</code>)</li>
+	 *		<li><code>someTotal</code>(<code>java.lang.Long</code>)</li>
+	 *		<li><code>fullAvg10</code>(<code>java.lang.Double</code>)</li>
+	 *		<li><code>fullAvg60</code>(<code>java.lang.Double</code>)</li>
+	 *		<li><code>fullAvg300</code>(<code>java.lang.Double</code>)</li>
+	 *		<li><code>fullTotal</code>(<code>java.lang.Long</code>)</li>
+	 * 		</ul>
+	 */
+	public static PressureStallInfo from(CompositeData cd) {
+		PressureStallInfo result = null;
+
+		if (null != cd) {
+			if (!PressureStallInfoUtil.getCompositeType().isValue(cd)) {
+				/*[MSG "K05E5", "CompositeData is not of the expected type."]*/
+				throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K05E5")); //$NON-NLS-1$
+			}
+
+			try {
+				result = new PressureStallInfo(
+						((Double) cd.get("someAvg10")).doubleValue(), //$NON-NLS-1$
+						((Double) cd.get("someAvg60")).doubleValue(), //$NON-NLS-1$
+						((Double) cd.get("someAvg300")).doubleValue(), //$NON-NLS-1$
+						((Long) cd.get("someTotal")).longValue(), //$NON-NLS-1$
+						((Double) cd.get("fullAvg10")).doubleValue(), //$NON-NLS-1$
+						((Double) cd.get("fullAvg60")).doubleValue(), //$NON-NLS-1$
+						((Double) cd.get("fullAvg300")).doubleValue(), //$NON-NLS-1$
+						((Long) cd.get("fullTotal")).longValue()); //$NON-NLS-1$
+			} catch (InvalidKeyException e) {
+				/*[MSG "K05E6", "CompositeData object does not contain expected key."]*/
+				throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K05E6")); //$NON-NLS-1$
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Text description of this {@link PressureStallInfo} object.
+	 *
+	 * @return Text description of this {@link PressureStallInfo} object.
+	 */
+	@Override
+	public String toString() {
+		return "some avg10=" + someAvg10 + " avg60=" + someAvg60 //$NON-NLS-1$ //$NON-NLS-2$
+				+ " avg300=" + someAvg300 + " total=" + someTotal //$NON-NLS-1$ //$NON-NLS-2$
+				+ ", full avg10=" + fullAvg10 + " avg60=" + fullAvg60 //$NON-NLS-1$ //$NON-NLS-2$
+				+ " avg300=" + fullAvg300 + " total=" + fullTotal; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+}
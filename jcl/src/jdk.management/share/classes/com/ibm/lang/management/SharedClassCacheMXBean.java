@@ -0,0 +1,76 @@
+/*[INCLUDE-IF JAVA_SPEC_VERSION >= 9]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management;
+
+import java.lang.management.PlatformManagedObject;
+
+/**
+ * This interface provides cumulative statistics about the use of the shared class cache
+ * by class loaders through the helpers of the <code>com.ibm.oti.shared</code> package.
+ * <p>
+ * Every lookup and store which reaches the cache is counted, per helper type and per
+ * class loader. The counters are always maintained; they are striped so that recording
+ * an event adds no contention to class loading. The counters of a class loader are
+ * discarded when it is unloaded, while the totals per helper type are kept.
+ * <br>
+ * <b>Usage example for the {@link SharedClassCacheMXBean}</b>
+ * <pre>
+ * {@code
+ *   ...
+ *   SharedClassCacheMXBean cacheBean = ManagementFactory.getPlatformMXBean(SharedClassCacheMXBean.class);
+ *   for (SharedClassHelperCounters counters : cacheBean.getHelperTypeCounters()) {
+ *      System.out.println(counters.getName() + " hits " + counters.getFindHits() + " misses " + counters.getFindMisses());
+ *   }
+ *   ...
+ * }
+ * </pre>
+ */
+public interface SharedClassCacheMXBean extends PlatformManagedObject {
+
+	/**
+	 * @return the counters for each helper type, named after the helper interface,
+	 * for example <code>SharedClassURLClasspathHelper</code>
+	 */
+	public SharedClassHelperCounters[] getHelperTypeCounters();
+
+	/**
+	 * The counters of all the helpers of a class loader are combined. A class loader
+	 * is named by its name, or its class name if it has none, and its identity hash code.
+	 *
+	 * @return the counters for each live class loader which uses the shared class cache
+	 */
+	public SharedClassHelperCounters[] getClassLoaderCounters();
+
+	/**
+	 * @return the number of stale classes in the shared class cache,
+	 * or -1 if there is no shared class cache
+	 */
+	public long getStaleClassCount();
+
+	/**
+	 * @return the number of AOT compiled methods in the shared class cache,
+	 * or -1 if there is no shared class cache
+	 */
+	public long getAOTMethodCount();
+
+}
@@ -0,0 +1,156 @@
+/*[INCLUDE-IF JAVA_SPEC_VERSION >= 9]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.InvalidKeyException;
+
+import com.ibm.lang.management.internal.SharedClassHelperCountersUtil;
+
+/**
+ * <code>SharedClassHelperCounters</code> holds the cumulative counts of the lookups in and
+ * stores into the shared class cache made by a helper type or by a class loader, as reported
+ * by {@link SharedClassCacheMXBean}.
+ */
+public final class SharedClassHelperCounters {
+
+	private final String name;
+	private final long findHits;
+	private final long findMisses;
+	private final long stores;
+	private final long storeFailures;
+
+	/**
+	 * Creates a new <code>SharedClassHelperCounters</code> instance.
+	 *
+	 * @param name the name of the helper type or class loader
+	 * @param findHits the number of lookups which found the class or data
+	 * @param findMisses the number of lookups which did not find the class or data
+	 * @param stores the number of classes or data stored
+	 * @param storeFailures the number of attempts to store which failed
+	 */
+	public SharedClassHelperCounters(String name, long findHits, long findMisses, long stores, long storeFailures) {
+		super();
+		this.name = name;
+		this.findHits = findHits;
+		this.findMisses = findMisses;
+		this.stores = stores;
+		this.storeFailures = storeFailures;
+	}
+
+	/**
+	 * @return the name of the helper type or class loader
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return the number of lookups which found the class or data in the cache
+	 */
+	public long getFindHits() {
+		return findHits;
+	}
+
+	/**
+	 * @return the number of lookups which did not find the class or data in the cache
+	 */
+	public long getFindMisses() {
+		return findMisses;
+	}
+
+	/**
+	 * A class or data which was already in the cache is counted as stored.
+	 *
+	 * @return the number of classes or data stored
+	 */
+	public long getStores() {
+		return stores;
+	}
+
+	/**
+	 * @return the number of attempts to store which failed, for example because the cache is full
+	 */
+	public long getStoreFailures() {
+		return storeFailures;
+	}
+
+	/**
+	 * Receives a {@link javax.management.openmbean.CompositeData} representing a
+	 * {@link SharedClassHelperCounters} object and attempts to return the root
+	 * {@link SharedClassHelperCounters} instance.
+	 *
+	 * @param cd A {@link javax.management.openmbean.CompositeData} that represents a
+	 * 		{@link SharedClassHelperCounters}.
+	 *
+	 * @return if <code>cd</code> is non- <code>null</code>, returns a new instance of
+	 * 		{@link SharedClassHelperCounters},
+	 * 		If <code>cd</code> is <code>null</code>, returns <code>null</code>.
+	 *
+	 * @throws IllegalArgumentException if argument <code>cd</code> does not correspond to a
+	 * 		{@link SharedClassHelperCounters} with the following attributes:
+	 * 		<ul>
+	 *		<li><code>name</code>(<code>java.lang.String</code>)</li>
+	 *		<li><code>findHits</code>(<code>java.lang.Long</code>)</li>
+	 *		<li><code>findMisses</code>(<code>java.lang.Long</code>)</li>
+	 *		<li><code>stores</code>(<code>java.lang.Long</code>)</li>
+	 *		<li><code>storeFailures</code>(<code>java.lang.Long</code>)</li>
+	 * 		</ul>
+	 */
+	public static SharedClassHelperCounters from(CompositeData cd) {
+		SharedClassHelperCounters result = null;
+
+		if (null != cd) {
+			if (!SharedClassHelperCountersUtil.getCompositeType().isValue(cd)) {
+				/*[MSG "K05E5", "CompositeData is not of the expected type."]*/
+				throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K05E5")); //$NON-NLS-1$
+			}
+
+			try {
+				result = new SharedClassHelperCounters(
+						(String) cd.get("name"), //$NON-NLS-1$
+						((Long) cd.get("findHits")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("findMisses")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("stores")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("storeFailures")).longValue()); //$NON-NLS-1$
+			} catch (InvalidKeyException e) {
+				/*[MSG "K05E6", "CompositeData object does not contain expected key."]*/
+				throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K05E6")); //$NON-NLS-1$
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Text description of this {@link SharedClassHelperCounters} object.
+	 *
+	 * @return Text description of this {@link SharedClassHelperCounters} object.
+	 */
+	@Override
+	public String toString() {
+		return name + ": findHits = " + findHits + ", findMisses = " + findMisses //$NON-NLS-1$ //$NON-NLS-2$
+				+ ", stores = " + stores + ", storeFailures = " + storeFailures; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+}
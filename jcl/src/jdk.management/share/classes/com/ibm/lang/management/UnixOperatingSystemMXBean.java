@@ -51,4 +51,142 @@ public interface UnixOperatingSystemMXBean extends com.sun.management.UnixOperat
 	 */
 	public long getOpenFileDescriptorCount();
 
+	/**
+	 * Returns the percentage of wall time, averaged over the last 10 seconds, in which
+	 * at least one task in the process's cgroup (or, if cgroup pressure information is
+	 * unavailable, in the system) was stalled waiting for a CPU.
+	 *
+	 * @return The CPU pressure stall percentage in the range [0.0, 100.0] or -1,
+	 * if pressure stall information is not available.
+	 */
+	public default double getCpuPressure() {
+		return -1;
+	}
+
+	/**
+	 * Returns the percentage of wall time, averaged over the last 10 seconds, in which
+	 * at least one task was stalled waiting for memory.
+	 *
+	 * @return The memory pressure stall percentage in the range [0.0, 100.0] or -1,
+	 * if pressure stall information is not available.
+	 */
+	public default double getMemoryPressure() {
+		return -1;
+	}
+
+	/**
+	 * Returns the percentage of wall time, averaged over the last 10 seconds, in which
+	 * all non-idle tasks were stalled waiting for memory at the same time.
+	 *
+	 * @return The full memory pressure stall percentage in the range [0.0, 100.0] or -1,
+	 * if pressure stall information is not available.
+	 */
+	public default double getMemoryFullPressure() {
+		return -1;
+	}
+
+	/**
+	 * Returns the percentage of wall time, averaged over the last 10 seconds, in which
+	 * at least one task was stalled waiting for I/O.
+	 *
+	 * @return The I/O pressure stall percentage in the range [0.0, 100.0] or -1,
+	 * if pressure stall information is not available.
+	 */
+	public default double getIoPressure() {
+		return -1;
+	}
+
+	/**
+	 * Returns the percentage of wall time, averaged over the last 10 seconds, in which
+	 * all non-idle tasks were stalled waiting for I/O at the same time.
+	 *
+	 * @return The full I/O pressure stall percentage in the range [0.0, 100.0] or -1,
+	 * if pressure stall information is not available.
+	 */
+	public default double getIoFullPressure() {
+		return -1;
+	}
+
+	/**
+	 * Returns the number of CPU enforcement periods in which the process's cgroup
+	 * was throttled because it exhausted its CPU quota.
+	 *
+	 * @return The number of throttled periods or -1, if the process is not running
+	 * in a cgroup with the CPU controller enabled.
+	 */
+	public default long getCgroupCpuThrottledCount() {
+		return -1;
+	}
+
+	/**
+	 * Returns the total time for which the process's cgroup was throttled because
+	 * it exhausted its CPU quota.
+	 *
+	 * @return The throttled time in nanoseconds or -1, if the process is not running
+	 * in a cgroup with the CPU controller enabled.
+	 */
+	public default long getCgroupCpuThrottledTime() {
+		return -1;
+	}
+
+	/**
+	 * Returns the number of CPU enforcement periods that have elapsed for the process's cgroup.
+	 *
+	 * @return The number of enforcement periods or -1, if the process is not running
+	 * in a cgroup with the CPU controller enabled.
+	 */
+	public default long getCgroupCpuPeriodCount() {
+		return -1;
+	}
+
+	/**
+	 * Returns the memory limit of the process's cgroup.
+	 *
+	 * @return The memory limit in bytes or -1, if the process is not running in a
+	 * cgroup with the memory controller enabled or no limit is set.
+	 */
+	public default long getCgroupMemoryLimit() {
+		return -1;
+	}
+
+	/**
+	 * Returns the memory used by the process's cgroup.
+	 *
+	 * @return The memory usage in bytes or -1, if the process is not running in a
+	 * cgroup with the memory controller enabled.
+	 */
+	public default long getCgroupMemoryUsage() {
+		return -1;
+	}
+
+	/**
+	 * Returns the pressure stall information for CPU of the process's cgroup or,
+	 * if that is unavailable, of the system.
+	 *
+	 * @return The CPU pressure stall information or null, if it is not available.
+	 */
+	public default PressureStallInfo getCpuPressureInfo() {
+		return null;
+	}
+
+	/**
+	 * Returns the pressure stall information for memory of the process's cgroup or,
+	 * if that is unavailable, of the system.
+	 *
+	 * @return The memory pressure stall information or null, if it is not available.
+	 */
+	public default PressureStallInfo getMemoryPressureInfo() {
+		return null;
+	}
+
+	/**
+	 * Returns the pressure stall information for I/O of the process's cgroup or,
+	 * if that is unavailable, of the system.
+	 *
+	 * @return The I/O pressure stall information or null, if it is not available.
+	 */
+	public default PressureStallInfo getIoPressureInfo() {
+		return null;
+	}
+
 }
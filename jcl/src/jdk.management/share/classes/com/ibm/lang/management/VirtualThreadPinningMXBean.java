@@ -0,0 +1,101 @@
+/*[INCLUDE-IF JAVA_SPEC_VERSION >= 21]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management;
+
+import java.lang.management.PlatformManagedObject;
+
+/**
+ * This interface provides statistics about virtual threads which could not unmount from
+ * their carrier threads because their continuations were pinned, for example by a native
+ * frame, a held monitor or a critical section.
+ * <p>
+ * Every pinning event is counted against its reason. On average one event in every sample
+ * interval, chosen at random, also walks the stack of the virtual thread and is attributed to a {@link VirtualThreadPinningSite}.
+ * At most a fixed number of sites are kept; once that limit is reached, samples for new sites
+ * are only counted as dropped. The default sample interval can be set with the system property
+ * <code>com.ibm.lang.management.pinningSampleInterval</code>; an interval of 0 disables the statistics.
+ * <p>
+ * The same statistics are printed by the <code>Thread.pinning</code> diagnostic command of <code>jcmd</code>.
+ * <br>
+ * <b>Usage example for the {@link VirtualThreadPinningMXBean}</b>
+ * <pre>
+ * {@code
+ *   ...
+ *   VirtualThreadPinningMXBean pinningBean = ManagementFactory.getPlatformMXBean(VirtualThreadPinningMXBean.class);
+ *   for (VirtualThreadPinningSite site : pinningBean.getPinningSites()) {
+ *      System.out.println(site.getReason() + " " + site.getFrame() + " " + site.getCount());
+ *   }
+ *   ...
+ * }
+ * </pre>
+ */
+public interface VirtualThreadPinningMXBean extends PlatformManagedObject {
+
+	/**
+	 * @return the average number of pinning events per stack sample, or 0 if the statistics are disabled
+	 */
+	public int getSampleInterval();
+
+	/**
+	 * Sets the average number of pinning events per stack sample. 1 samples every event and 0 disables the statistics.
+	 *
+	 * @param interval the new sample interval
+	 * @throws IllegalArgumentException if interval is negative
+	 */
+	public void setSampleInterval(int interval);
+
+	/**
+	 * @return the names of the pinning reasons, indexing the arrays returned by
+	 * {@link #getPinningCounts()} and {@link #getPinningTimes()}
+	 */
+	public String[] getPinningReasons();
+
+	/**
+	 * @return the number of pinning events for each reason
+	 */
+	public long[] getPinningCounts();
+
+	/**
+	 * The duration of a pin is the time from the failed attempt to unmount until the virtual thread
+	 * next attempts to unmount or terminates, during which its carrier cannot run other virtual threads.
+	 *
+	 * @return the total duration of the pinning events for each reason in nanoseconds
+	 */
+	public long[] getPinningTimes();
+
+	/**
+	 * @return the sites of the sampled pinning events, most frequently sampled first
+	 */
+	public VirtualThreadPinningSite[] getPinningSites();
+
+	/**
+	 * @return the number of samples discarded because the maximum number of sites had been reached
+	 */
+	public long getDroppedSampleCount();
+
+	/**
+	 * Discards all the recorded statistics.
+	 */
+	public void reset();
+
+}
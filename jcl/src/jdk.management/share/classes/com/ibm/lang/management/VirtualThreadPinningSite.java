@@ -0,0 +1,163 @@
+/*[INCLUDE-IF JAVA_SPEC_VERSION >= 21]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.InvalidKeyException;
+
+import com.ibm.lang.management.internal.VirtualThreadPinningSiteUtil;
+
+/**
+ * <code>VirtualThreadPinningSite</code> describes a site at which virtual threads were sampled
+ * while pinned to their carrier threads, as reported by {@link VirtualThreadPinningMXBean#getPinningSites()}.
+ * A site is identified by the reason the continuation was pinned and the top frame responsible for it:
+ * the native method for the <code>NATIVE</code> reason, otherwise the innermost frame outside of the
+ * JDK's blocking and scheduling implementation.
+ * <p>
+ * Only sampled events are counted, so the count and time are approximately the totals for the site
+ * divided by the sample interval.
+ */
+public final class VirtualThreadPinningSite {
+
+	private final String reason;
+	private final String frame;
+	private final long count;
+	private final long time;
+	private final long maxTime;
+
+	/**
+	 * Creates a new <code>VirtualThreadPinningSite</code> instance.
+	 *
+	 * @param reason the name of the pinning reason
+	 * @param frame the top frame responsible for the pin
+	 * @param count the number of sampled events
+	 * @param time the total duration of the sampled events in nanoseconds
+	 * @param maxTime the longest duration of a sampled event in nanoseconds
+	 */
+	public VirtualThreadPinningSite(String reason, String frame, long count, long time, long maxTime) {
+		super();
+		this.reason = reason;
+		this.frame = frame;
+		this.count = count;
+		this.time = time;
+		this.maxTime = maxTime;
+	}
+
+	/**
+	 * @return the name of the reason the continuation was pinned:
+	 * <code>NATIVE</code>, <code>MONITOR</code> or <code>CRITICAL_SECTION</code>
+	 */
+	public String getReason() {
+		return reason;
+	}
+
+	/**
+	 * @return the top frame responsible for the pin, as <code>class.method:line</code>
+	 */
+	public String getFrame() {
+		return frame;
+	}
+
+	/**
+	 * @return the number of sampled pinning events at this site
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * The duration of a pin is the time from the failed attempt to unmount until the virtual thread
+	 * next attempts to unmount or terminates.
+	 *
+	 * @return the total duration of the sampled pinning events at this site in nanoseconds
+	 */
+	public long getTime() {
+		return time;
+	}
+
+	/**
+	 * @return the longest duration of a sampled pinning event at this site in nanoseconds
+	 */
+	public long getMaxTime() {
+		return maxTime;
+	}
+
+	/**
+	 * Receives a {@link javax.management.openmbean.CompositeData} representing a
+	 * {@link VirtualThreadPinningSite} object and attempts to return the root
+	 * {@link VirtualThreadPinningSite} instance.
+	 *
+	 * @param cd A {@link javax.management.openmbean.CompositeData} that represents a
+	 * 		{@link VirtualThreadPinningSite}.
+	 *
+	 * @return if <code>cd</code> is non- <code>null</code>, returns a new instance of
+	 * 		{@link VirtualThreadPinningSite},
+	 * 		If <code>cd</code> is <code>null</code>, returns <code>null</code>.
+	 *
+	 * @throws IllegalArgumentException if argument <code>cd</code> does not correspond to a
+	 * 		{@link VirtualThreadPinningSite} with the following attributes:
+	 * 		<ul>
+	 *		<li><code>reason</code>(<code>java.lang.String</code>)</li>
+	 *		<li><code>frame</code>(<code>java.lang.String</code>)</li>
+	 *		<li><code>count</code>(<code>java.lang.Long</code>)</li>
+	 *		<li><code>time</code>(<code>java.lang.Long</code>)</li>
+	 *		<li><code>maxTime</code>(<code>java.lang.Long</code>)</li>
+	 * 		</ul>
+	 */
+	public static VirtualThreadPinningSite from(CompositeData cd) {
+		VirtualThreadPinningSite result = null;
+
+		if (null != cd) {
+			if (!VirtualThreadPinningSiteUtil.getCompositeType().isValue(cd)) {
+				/*[MSG "K05E5", "CompositeData is not of the expected type."]*/
+				throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K05E5")); //$NON-NLS-1$
+			}
+
+			try {
+				result = new VirtualThreadPinningSite(
+						(String) cd.get("reason"), //$NON-NLS-1$
+						(String) cd.get("frame"), //$NON-NLS-1$
+						((Long) cd.get("count")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("time")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("maxTime")).longValue()); //$NON-NLS-1$
+			} catch (InvalidKeyException e) {
+				/*[MSG "K05E6", "CompositeData object does not contain expected key."]*/
+				throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K05E6")); //$NON-NLS-1$
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Text description of this {@link VirtualThreadPinningSite} object.
+	 *
+	 * @return Text description of this {@link VirtualThreadPinningSite} object.
+	 */
+	@Override
+	public String toString() {
+		return reason + " " + frame + ": count = " + count //$NON-NLS-1$ //$NON-NLS-2$
+				+ ", time = " + time + ", maxTime = " + maxTime; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+}
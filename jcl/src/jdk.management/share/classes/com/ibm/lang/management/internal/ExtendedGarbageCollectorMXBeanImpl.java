@@ -25,6 +25,7 @@ package com.ibm.lang.management.internal;
 import javax.management.MBeanNotificationInfo;
 
 import com.ibm.java.lang.management.internal.GarbageCollectorMXBeanImpl;
+import com.ibm.lang.management.GarbageCollectionBatchNotificationInfo;
 import com.ibm.lang.management.GarbageCollectorMXBean;
 import com.sun.management.GarbageCollectionNotificationInfo;
 import com.sun.management.GcInfo;
@@ -56,10 +57,18 @@ public final class ExtendedGarbageCollectorMXBeanImpl
 		// We know what kinds of notifications we can emit whereas the
 		// notifier delegate does not. So, for this method, no delegating.
 		// Instead respond using our own metadata.
-		MBeanNotificationInfo info = new MBeanNotificationInfo(
-				new String[] { GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION },
-				javax.management.Notification.class.getName(),
-				"GarbageCollection Notification"); //$NON-NLS-1$
+		MBeanNotificationInfo info;
+		if (GarbageCollectionNotificationBatcher.isEnabled()) {
+			info = new MBeanNotificationInfo(
+					new String[] { GarbageCollectionBatchNotificationInfo.GARBAGE_COLLECTION_BATCH_NOTIFICATION },
+					javax.management.Notification.class.getName(),
+					"GarbageCollection Batch Notification"); //$NON-NLS-1$
+		} else {
+			info = new MBeanNotificationInfo(
+					new String[] { GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION },
+					javax.management.Notification.class.getName(),
+					"GarbageCollection Notification"); //$NON-NLS-1$
+		}
 		return new MBeanNotificationInfo[] { info };
 	}
 
@@ -77,9 +86,10 @@ public final class ExtendedGarbageCollectorMXBeanImpl
 	 */
 	private native GcInfo getLastGcInfoImpl(int id);
 
-	static GcInfo buildGcInfo(long index, long startTime, long endTime,
-							long[] initialSize, long[] preUsed, long[] preCommitted, long[] preMax,
-							long[] postUsed, long[] postCommitted, long[] postMax) {
+	/**
+	 * @return the names of the memory pools, in the order of the pool usage arrays passed with GC notifications
+	 */
+	static String[] getPoolNames() {
 		/* retrieve the names of MemoryPools*/
 		if (null == poolNames) {
 			poolNames = ExtendedMemoryMXBeanImpl.getInstance().getMemoryPoolMXBeans(false)
@@ -87,7 +97,13 @@ public final class ExtendedGarbageCollectorMXBeanImpl
 							.map(MemoryPoolMXBean::getName)
 							.toArray(String[]::new);
 		}
+		return poolNames;
+	}
 
+	static GcInfo buildGcInfo(long index, long startTime, long endTime,
+							long[] initialSize, long[] preUsed, long[] preCommitted, long[] preMax,
+							long[] postUsed, long[] postCommitted, long[] postMax) {
+		String[] poolNames = getPoolNames();
 		int poolNamesLength = poolNames.length;
 		/*[IF JAVA_SPEC_VERSION >= 19]
 		Map<String, MemoryUsage> usageBeforeGc = HashMap.newHashMap(poolNamesLength);
@@ -34,6 +34,7 @@ import com.ibm.lang.management.CpuLoadCalculationConstants;
 import com.ibm.lang.management.MemoryUsage;
 import com.ibm.lang.management.MemoryUsageRetrievalException;
 import com.ibm.lang.management.OperatingSystemMXBean;
+import com.ibm.lang.management.PressureStallInfo;
 import com.ibm.lang.management.ProcessingCapacityNotificationInfo;
 import com.ibm.lang.management.ProcessorUsage;
 import com.ibm.lang.management.ProcessorUsageRetrievalException;
@@ -63,6 +64,15 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 	private static long latestTime = -1;
 	private static long latestCpuTime = -1;
 
+	/* Guards the sampling points above. */
+	private static final Object cpuLoadLock = new Object();
+
+	/*
+	 * The most recent snapshot of the operating system counters. Accesses
+	 * must hold the lock on the snapshot; see currentMetrics(int).
+	 */
+	private final OperatingSystemMetrics metrics = new OperatingSystemMetrics();
+
 	/**
 	 * Singleton accessor method.
 	 *
@@ -142,29 +152,73 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 	 * @param endCpuTime Cpu time consumed at the end of the interval.
 	 * @param startTs Timestamp at the beginning of the interval.
 	 * @param startCpuTime Cpu time sampled at the onset of the interval.
+	 * @param processors The number of online processors, or a non-positive value if not known.
 	 * @return number in [0.0, 1.0], or ERROR_VALUE in case of error
 	 */
-	private double calculateProcessCpuLoad(long endTs, long endCpuTime, long startTs, long startCpuTime) {
+	private double calculateProcessCpuLoad(long endTs, long endCpuTime, long startTs, long startCpuTime, int processors) {
 		double timestampDelta = endTs - startTs;
 		double processTimeDelta = endCpuTime - startCpuTime;
 		if ((timestampDelta <= 0) || (processTimeDelta < 0)) {
 			/* The stats obtained are invalid */
 			return CpuLoadCalculationConstants.ERROR_VALUE;
 		}
+		if (processors <= 0) {
+			processors = getOnlineProcessorsImpl();
+		}
 		/* Ensure that the load doesn't go over 1.0. */
-		return Math.min(processTimeDelta / (getOnlineProcessorsImpl() * timestampDelta), 1.0);
+		return Math.min(processTimeDelta / (processors * timestampDelta), 1.0);
+	}
+
+	/**
+	 * Returns the snapshot of the operating system counters, refreshing those
+	 * of the given groups which are older than the snapshot interval with a
+	 * single native call. When the snapshot is disabled, the groups are read
+	 * on every call. The caller must hold the lock on the snapshot and must
+	 * only use it while the lock is held.
+	 *
+	 * @param groups the OperatingSystemMetrics groups the caller needs
+	 * @return the current snapshot
+	 */
+	private OperatingSystemMetrics currentMetrics(int groups) {
+		long now = System.nanoTime();
+		int stale = metrics.staleGroups(groups, now, MetricsIntervalHolder.interval);
+		if (0 != stale) {
+			metrics.clear(stale);
+			getOperatingSystemMetricsImpl(metrics, stale);
+			metrics.setTimestamp(stale, now);
+		}
+		return metrics;
 	}
 
+	/**
+	 * Fills the given groups of the snapshot with the process and system counters,
+	 * the cgroup counters or the pressure stall information, where the operating
+	 * system provides them.
+	 *
+	 * @param snapshot the snapshot to be updated
+	 * @param groups the OperatingSystemMetrics groups to read
+	 */
+	private native void getOperatingSystemMetricsImpl(OperatingSystemMetrics snapshot, int groups);
+
 	/*[IF JAVA_SPEC_VERSION < 14] - inherit the default method in Java 14+ */
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public final long getFreePhysicalMemorySize() {
-		return this.getFreePhysicalMemorySizeImpl();
+		return getFreeMemory();
 	}
 	/*[ENDIF] JAVA_SPEC_VERSION < 14 */
 
+	private long getFreeMemory() {
+		if (MetricsIntervalHolder.isEnabled()) {
+			synchronized (metrics) {
+				return currentMetrics(OperatingSystemMetrics.PROCESS).freePhysicalMemory;
+			}
+		}
+		return getFreePhysicalMemorySizeImpl();
+	}
+
 	/**
 	 * Returns the amount of free physical memory at current instance on the
 	 * system in bytes. Returns -1 if the value is unavailable on this
@@ -180,7 +234,7 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 	 */
 	@Override
 	public final double getCpuLoad() {
-		return getSystemCpuLoadImpl();
+		return getSystemLoad();
 	}
 
 	/**
@@ -188,7 +242,7 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 	 */
 	@Override
 	public long getTotalMemorySize() {
-		return getTotalPhysicalMemoryImpl();
+		return getTotalMemory();
 	}
 
 	/**
@@ -196,7 +250,7 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 	 */
 	@Override
 	public long getFreeMemorySize() {
-		return getFreePhysicalMemorySizeImpl();
+		return getFreeMemory();
 	}
 /*[ENDIF] JAVA_SPEC_VERSION >= 14 */
 
@@ -255,72 +309,92 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 	 * {@inheritDoc}
 	 */
 	@Override
-	public final synchronized double getProcessCpuLoad() {
+	public final double getProcessCpuLoad() {
 		double processCpuLoad = -1;
+		long sampleTime;
+		long cpuTime;
+		int processors;
 
 		/* Get the process CPU time and also, the sampling timestamp. */
-		latestTime = System.nanoTime();
-		/*[IF JAVA_SPEC_VERSION > 8]*/
-		@SuppressWarnings("removal")
-		/*[ENDIF] JAVA_SPEC_VERSION > 8 */
-		long cpuTime = getProcessCpuTime();
+		if (MetricsIntervalHolder.isEnabled()) {
+			synchronized (metrics) {
+				OperatingSystemMetrics current = currentMetrics(OperatingSystemMetrics.PROCESS);
+				sampleTime = current.processTimestamp;
+				cpuTime = current.processCpuTime;
+				processors = current.onlineProcessors;
+			}
+		} else {
+			sampleTime = System.nanoTime();
+			cpuTime = getProcessCpuTimeImpl();
+			processors = -1;
+		}
+		cpuTime *= CpuTimePrecisionHolder.precision;
 		if (CpuTimePrecisionHolder.precision == CpuTimePrecisionHolder.NO_SCALE_FACTOR) {
 			cpuTime *= CpuTimePrecisionHolder.NS_SCALE_FACTOR;
 		}
-		latestCpuTime = cpuTime;
 
-		/* If no previous timestamps is set, the default behaviour is to return -1.
-		 * If the compatibility flag is set, return 0 to match the behaviour of RI.
-		 */
-		if (-1 == oldTime) {
-			/* Save current counters; next invocation onwards, we use these to
-			 * compute CPU loads.
-			 */
-			oldTime = interimTime = latestTime;
-			oldCpuTime = interimCpuTime = latestCpuTime;
-			if (hasCpuLoadCompatibilityFlag()) {
-				return 0;
-			} else {
-				return CpuLoadCalculationConstants.ERROR_VALUE;
+		synchronized (cpuLoadLock) {
+			/* A concurrent caller may already have recorded a newer sample; never go back in time. */
+			if (sampleTime > latestTime) {
+				latestTime = sampleTime;
+				latestCpuTime = cpuTime;
 			}
-		}
 
-		/* If a sufficiently long interval has elapsed since last sampling, calculate using
-		 * the most recent value in the history.
-		 */
-		if ((latestTime - interimTime) >= CpuLoadCalculationConstants.MINIMUM_INTERVAL) {
-			/* Calculate the ProcessCpuLoad. */
-			processCpuLoad = calculateProcessCpuLoad(latestTime,
-					latestCpuTime,
-					interimTime,
-					interimCpuTime);
-			if (processCpuLoad >= 0.0) { /* no errors detected in the statistics */
-				/* Save the interim counters as old and update the interim counters with the
-				 * latest ones (that we obtained on this invocation).
-				 */
-				oldTime = interimTime;
-				oldCpuTime = interimCpuTime;
-				interimTime = latestTime;
-				interimCpuTime = latestCpuTime;
-				return processCpuLoad;
-			} else {
-				interimTime = latestTime;
-				interimCpuTime = latestCpuTime;
-				/*
-				 * either the latest time or the interim time are bogus.
-				 * Discard the interim value and try with the oldest value.
+			/* If no previous timestamps is set, the default behaviour is to return -1.
+			 * If the compatibility flag is set, return 0 to match the behaviour of RI.
+			 */
+			if (-1 == oldTime) {
+				/* Save current counters; next invocation onwards, we use these to
+				 * compute CPU loads.
 				 */
+				oldTime = interimTime = latestTime;
+				oldCpuTime = interimCpuTime = latestCpuTime;
+				if (hasCpuLoadCompatibilityFlag()) {
+					return 0;
+				} else {
+					return CpuLoadCalculationConstants.ERROR_VALUE;
+				}
 			}
-		}
-		if ((latestTime - oldTime) >= CpuLoadCalculationConstants.MINIMUM_INTERVAL) {
-			processCpuLoad = calculateProcessCpuLoad(latestTime,
-					latestCpuTime,
-					oldTime,
-					oldCpuTime);
-			if (processCpuLoad < 0) {
-				/* the stats look bogus. Discard them */
-				oldTime = latestTime;
-				oldCpuTime = latestCpuTime;
+
+			/* If a sufficiently long interval has elapsed since last sampling, calculate using
+			 * the most recent value in the history.
+			 */
+			if ((latestTime - interimTime) >= CpuLoadCalculationConstants.MINIMUM_INTERVAL) {
+				/* Calculate the ProcessCpuLoad. */
+				processCpuLoad = calculateProcessCpuLoad(latestTime,
+						latestCpuTime,
+						interimTime,
+						interimCpuTime,
+						processors);
+				if (processCpuLoad >= 0.0) { /* no errors detected in the statistics */
+					/* Save the interim counters as old and update the interim counters with the
+					 * latest ones (that we obtained on this invocation).
+					 */
+					oldTime = interimTime;
+					oldCpuTime = interimCpuTime;
+					interimTime = latestTime;
+					interimCpuTime = latestCpuTime;
+					return processCpuLoad;
+				} else {
+					interimTime = latestTime;
+					interimCpuTime = latestCpuTime;
+					/*
+					 * either the latest time or the interim time are bogus.
+					 * Discard the interim value and try with the oldest value.
+					 */
+				}
+			}
+			if ((latestTime - oldTime) >= CpuLoadCalculationConstants.MINIMUM_INTERVAL) {
+				processCpuLoad = calculateProcessCpuLoad(latestTime,
+						latestCpuTime,
+						oldTime,
+						oldCpuTime,
+						processors);
+				if (processCpuLoad < 0) {
+					/* the stats look bogus. Discard them */
+					oldTime = latestTime;
+					oldCpuTime = latestCpuTime;
+				}
 			}
 		}
 
@@ -332,7 +406,15 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 	 */
 	@Override
 	public final long getProcessCpuTime() {
-		return this.getProcessCpuTimeImpl() * CpuTimePrecisionHolder.precision;
+		long cpuTime;
+		if (MetricsIntervalHolder.isEnabled()) {
+			synchronized (metrics) {
+				cpuTime = currentMetrics(OperatingSystemMetrics.PROCESS).processCpuTime;
+			}
+		} else {
+			cpuTime = getProcessCpuTimeImpl();
+		}
+		return cpuTime * CpuTimePrecisionHolder.precision;
 	}
 
 /*[IF JAVA_SPEC_VERSION < 19]*/
@@ -387,6 +469,11 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 	 */
 	@Override
 	public final long getProcessPhysicalMemorySize() {
+		if (MetricsIntervalHolder.isEnabled()) {
+			synchronized (metrics) {
+				return currentMetrics(OperatingSystemMetrics.PROCESS).processPhysicalMemory;
+			}
+		}
 		return this.getProcessPhysicalMemorySizeImpl();
 	}
 
@@ -405,6 +492,11 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 	 */
 	@Override
 	public final long getProcessPrivateMemorySize() {
+		if (MetricsIntervalHolder.isEnabled()) {
+			synchronized (metrics) {
+				return currentMetrics(OperatingSystemMetrics.PROCESS).processPrivateMemory;
+			}
+		}
 		return this.getProcessPrivateMemorySizeImpl();
 	}
 
@@ -423,7 +515,7 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 	 */
 	@Override
 	public long getCommittedVirtualMemorySize() {
-		return this.getProcessVirtualMemorySizeImpl();
+		return getVirtualMemory();
 	}
 
 /*[IF JAVA_SPEC_VERSION < 19]*/
@@ -438,10 +530,19 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 	/*[ENDIF] JAVA_SPEC_VERSION > 8 */
 	@Override
 	public final long getProcessVirtualMemorySize() {
-		return this.getProcessVirtualMemorySizeImpl();
+		return getVirtualMemory();
 	}
 /*[ENDIF] JAVA_SPEC_VERSION < 19 */
 
+	private long getVirtualMemory() {
+		if (MetricsIntervalHolder.isEnabled()) {
+			synchronized (metrics) {
+				return currentMetrics(OperatingSystemMetrics.PROCESS).processVirtualMemory;
+			}
+		}
+		return this.getProcessVirtualMemorySizeImpl();
+	}
+
 	/**
 	 * Returns the amount of virtual memory used by the process in bytes,
 	 * including physical memory and swap space. Returns -1 if the value
@@ -458,10 +559,15 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 	 */
 	@Override
 	public final double getSystemCpuLoad() {
-		return this.getSystemCpuLoadImpl();
+		return getSystemLoad();
 	}
 	/*[ENDIF] JAVA_SPEC_VERSION < 14 */
 
+	private double getSystemLoad() {
+		/* not part of the snapshot: every read starts a new sampling interval of the system load */
+		return this.getSystemCpuLoadImpl();
+	}
+
 	private native double getSystemCpuLoadImpl();
 
 	/*[IF JAVA_SPEC_VERSION < 14] - inherit the default method in Java 14+ */
@@ -470,7 +576,7 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 	 */
 	@Override
 	public long getTotalPhysicalMemorySize() {
-		return this.getTotalPhysicalMemoryImpl();
+		return getTotalMemory();
 	}
 	/*[ENDIF] JAVA_SPEC_VERSION < 14 */
 
@@ -486,10 +592,19 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 	/*[ENDIF] JAVA_SPEC_VERSION > 8 */
 	@Override
 	public final long getTotalPhysicalMemory() {
-		return this.getTotalPhysicalMemoryImpl();
+		return getTotalMemory();
 	}
 /*[ENDIF] JAVA_SPEC_VERSION < 19 */
 
+	private long getTotalMemory() {
+		if (MetricsIntervalHolder.isEnabled()) {
+			synchronized (metrics) {
+				return currentMetrics(OperatingSystemMetrics.PROCESS).totalPhysicalMemory;
+			}
+		}
+		return this.getTotalPhysicalMemoryImpl();
+	}
+
 	/**
 	 * @return the number of bytes used for physical memory
 	 * @see #getTotalPhysicalMemorySize()
@@ -670,6 +785,114 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 		}
 	}
 
+	/**
+	 * Do lazy initialization of the snapshot interval.
+	 * By default, the operating system counters are refreshed at most once every 100 ms.
+	 * The user can override this by -Dcom.ibm.lang.management.OperatingSystemMXBean.snapshotInterval=<ms>;
+	 * an interval of 0 disables the snapshot: each process attribute is read with its own native call,
+	 * and the cgroup and pressure stall attributes only read the counters of their own group.
+	 */
+	private static final class MetricsIntervalHolder {
+		static final long DEFAULT_INTERVAL_MS = 100;
+		static final long interval = getInterval();
+
+		static boolean isEnabled() {
+			return interval > 0;
+		}
+
+		private static long getInterval() {
+			String value = VM.internalGetProperties().getProperty("com.ibm.lang.management.OperatingSystemMXBean.snapshotInterval"); //$NON-NLS-1$
+			long intervalMs = DEFAULT_INTERVAL_MS;
+			if (null != value) {
+				try {
+					intervalMs = Math.max(0, Long.parseLong(value.trim()));
+				} catch (NumberFormatException e) {
+					// ignore invalid values and use the default
+				}
+			}
+			return intervalMs * 1_000_000L;
+		}
+	}
+
+	/**
+	 * Returns the pressure stall information for a resource from the current snapshot.
+	 *
+	 * @param resource one of the OperatingSystemMetrics.PRESSURE_* constants
+	 * @return the pressure stall information, or null if unavailable
+	 */
+	final PressureStallInfo getPressureInfo(int resource) {
+		synchronized (metrics) {
+			OperatingSystemMetrics.Pressure pressure = currentMetrics(OperatingSystemMetrics.PRESSURE).getPressure(resource);
+			if ((null == pressure) || (pressure.someTotal < 0)) {
+				return null;
+			}
+			return new PressureStallInfo(pressure.someAvg10, pressure.someAvg60, pressure.someAvg300, pressure.someTotal,
+					pressure.fullAvg10, pressure.fullAvg60, pressure.fullAvg300, pressure.fullTotal);
+		}
+	}
+
+	/**
+	 * Returns the 10 second pressure stall average for a resource from the current snapshot.
+	 *
+	 * @param resource one of the OperatingSystemMetrics.PRESSURE_* constants
+	 * @param full true for the "full" line, false for the "some" line
+	 * @return the percentage of wall time stalled, or -1 if unavailable
+	 */
+	final double getPressureAverage(int resource, boolean full) {
+		synchronized (metrics) {
+			OperatingSystemMetrics.Pressure pressure = currentMetrics(OperatingSystemMetrics.PRESSURE).getPressure(resource);
+			if (null == pressure) {
+				return -1;
+			}
+			return full ? pressure.fullAvg10 : pressure.someAvg10;
+		}
+	}
+
+	/**
+	 * @return the number of elapsed enforcement periods of the cgroup, or -1 if unavailable
+	 */
+	final long getCgroupCpuPeriods() {
+		synchronized (metrics) {
+			return currentMetrics(OperatingSystemMetrics.CGROUP).cgroupCpuPeriods;
+		}
+	}
+
+	/**
+	 * @return the number of periods in which the cgroup was throttled, or -1 if unavailable
+	 */
+	final long getCgroupCpuThrottledPeriods() {
+		synchronized (metrics) {
+			return currentMetrics(OperatingSystemMetrics.CGROUP).cgroupCpuThrottledPeriods;
+		}
+	}
+
+	/**
+	 * @return the total time in nanoseconds for which the cgroup was throttled, or -1 if unavailable
+	 */
+	final long getCgroupCpuThrottledNanos() {
+		synchronized (metrics) {
+			return currentMetrics(OperatingSystemMetrics.CGROUP).cgroupCpuThrottledTime;
+		}
+	}
+
+	/**
+	 * @return the memory limit of the cgroup in bytes, or -1 if unavailable or unlimited
+	 */
+	final long getCgroupMemoryLimitBytes() {
+		synchronized (metrics) {
+			return currentMetrics(OperatingSystemMetrics.CGROUP).cgroupMemoryLimit;
+		}
+	}
+
+	/**
+	 * @return the memory usage of the cgroup in bytes, or -1 if unavailable
+	 */
+	final long getCgroupMemoryUsageBytes() {
+		synchronized (metrics) {
+			return currentMetrics(OperatingSystemMetrics.CGROUP).cgroupMemoryUsage;
+		}
+	}
+
 	@Override
 	public boolean isProcessRunning(long pid) {
 		com.ibm.java.lang.management.internal.RuntimeMXBeanImpl.checkMonitorPermission();
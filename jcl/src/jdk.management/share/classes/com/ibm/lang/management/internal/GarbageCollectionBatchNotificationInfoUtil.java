@@ -0,0 +1,126 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management.internal;
+
+import javax.management.openmbean.ArrayType;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.OpenDataException;
+import javax.management.openmbean.OpenType;
+import javax.management.openmbean.SimpleType;
+
+import com.ibm.java.lang.management.internal.ManagementUtils;
+import com.ibm.lang.management.GarbageCollectionBatchNotificationInfo;
+
+/**
+ * Support for the {@link GarbageCollectionBatchNotificationInfo} class.
+ */
+public final class GarbageCollectionBatchNotificationInfoUtil {
+
+	private static final String[] NAMES = { "gcName", "count", //$NON-NLS-1$ //$NON-NLS-2$
+			"firstIndex", "lastIndex", "startTime", "endTime", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			"totalDuration", "maxDuration", "poolNames", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			"poolReclaimed", "poolUsed", "poolCommitted", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			"detailIndex", "detailAction", "detailCause", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			"detailStartTime", "detailEndTime", "detailPoolUsage" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+	private static CompositeType compositeType;
+
+	/**
+	 * @return an instance of {@link CompositeType} for the {@link GarbageCollectionBatchNotificationInfo} class
+	 */
+	public static CompositeType getCompositeType() {
+		if (null == compositeType) {
+			try {
+				OpenType<?> longArray = new ArrayType<>(SimpleType.LONG, true);
+				OpenType<?> stringArray = new ArrayType<>(1, SimpleType.STRING);
+				OpenType<?>[] types = { SimpleType.STRING, SimpleType.LONG,
+						SimpleType.LONG, SimpleType.LONG, SimpleType.LONG, SimpleType.LONG,
+						SimpleType.LONG, SimpleType.LONG, stringArray,
+						longArray, longArray, longArray,
+						longArray, stringArray, stringArray,
+						longArray, longArray, longArray };
+
+				compositeType = new CompositeType(
+						GarbageCollectionBatchNotificationInfo.class.getName(),
+						GarbageCollectionBatchNotificationInfo.class.getName(),
+						NAMES,
+						NAMES,
+						types);
+			} catch (OpenDataException e) {
+				if (ManagementUtils.VERBOSE_MODE) {
+					e.printStackTrace(System.err);
+				}
+			}
+		}
+
+		return compositeType;
+	}
+
+	/**
+	 * @param info a {@link GarbageCollectionBatchNotificationInfo} object
+	 * @return a {@link CompositeData} object that represents the supplied <code>info</code> object
+	 */
+	public static CompositeData toCompositeData(GarbageCollectionBatchNotificationInfo info) {
+		CompositeData result = null;
+
+		if (null != info) {
+			CompositeType type = getCompositeType();
+			Object[] values = {
+					info.getGcName(),
+					Long.valueOf(info.getCount()),
+					Long.valueOf(info.getFirstIndex()),
+					Long.valueOf(info.getLastIndex()),
+					Long.valueOf(info.getStartTime()),
+					Long.valueOf(info.getEndTime()),
+					Long.valueOf(info.getTotalDuration()),
+					Long.valueOf(info.getMaxDuration()),
+					info.getPoolNames(),
+					info.getPoolReclaimed(),
+					info.getPoolUsed(),
+					info.getPoolCommitted(),
+					info.getDetailIndex(),
+					info.getDetailAction(),
+					info.getDetailCause(),
+					info.getDetailStartTime(),
+					info.getDetailEndTime(),
+					info.getDetailPoolUsage() };
+
+			try {
+				result = new CompositeDataSupport(type, NAMES, values);
+			} catch (OpenDataException e) {
+				if (ManagementUtils.VERBOSE_MODE) {
+					e.printStackTrace(System.err);
+				}
+			}
+		}
+
+		return result;
+	}
+
+	private GarbageCollectionBatchNotificationInfoUtil() {
+		super();
+	}
+
+}
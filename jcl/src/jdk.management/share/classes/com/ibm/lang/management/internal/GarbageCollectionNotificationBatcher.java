@@ -0,0 +1,285 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management.internal;
+
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Timer;
+import java.util.TimerTask;
+
+import javax.management.Notification;
+
+import com.ibm.java.lang.management.internal.GarbageCollectorMXBeanImpl;
+import com.ibm.java.lang.management.internal.ManagementUtils;
+import com.ibm.lang.management.GarbageCollectionBatchNotificationInfo;
+import com.ibm.oti.vm.VM;
+
+/**
+ * Coalesces the garbage collection notifications of each collector over a time window
+ * and sends them as one {@link GarbageCollectionBatchNotificationInfo}.
+ * <p>
+ * Collections are accumulated into primitive arrays as they are reported by the
+ * notification thread, so no GcInfo or CompositeData is built per collection. The
+ * first collection of a window schedules the batch to be sent when the window ends.
+ * </p>
+ */
+final class GarbageCollectionNotificationBatcher {
+
+	private static final String WINDOW_PROPERTY = "com.ibm.lang.management.gcNotificationBatchWindow"; //$NON-NLS-1$
+	private static final String DETAIL_PROPERTY = "com.ibm.lang.management.gcNotificationBatchDetail"; //$NON-NLS-1$
+	private static final int DEFAULT_DETAIL = 16;
+
+	private static final long windowMillis;
+	private static final int maxDetail;
+
+	static {
+		Properties properties = VM.internalGetProperties();
+		windowMillis = Math.max(0, parseProperty(properties, WINDOW_PROPERTY, 0));
+		maxDetail = (int) Math.min(Math.max(0, parseProperty(properties, DETAIL_PROPERTY, DEFAULT_DETAIL)), 1024);
+	}
+
+	private final Map<String, Batch> batches = new HashMap<>();
+	private Timer timer;
+
+	/**
+	 * @return true if garbage collection notifications should be batched
+	 */
+	static boolean isEnabled() {
+		return windowMillis > 0;
+	}
+
+	private static long parseProperty(Properties properties, String name, long defaultValue) {
+		String value = properties.getProperty(name);
+		if (null != value) {
+			try {
+				return Long.parseLong(value.trim());
+			} catch (NumberFormatException e) {
+				if (ManagementUtils.VERBOSE_MODE) {
+					e.printStackTrace(System.err);
+				}
+			}
+		}
+		return defaultValue;
+	}
+
+	/**
+	 * Adds a collection to the batch of its collector. The arguments are those of
+	 * a garbage collection notification, see MemoryNotificationThread.
+	 */
+	synchronized void add(GarbageCollectorMXBeanImpl bean, String gcName, String gcAction, String gcCause, long index,
+			long startTime, long endTime, long[] initialSize, long[] preUsed,
+			long[] preCommitted, long[] preMax, long[] postUsed, long[] postCommitted, long[] postMax,
+			long sequenceNumber) {
+		Batch batch = batches.get(gcName);
+		if ((null == batch) || (batch.pools != postUsed.length)) {
+			batch = new Batch(bean, gcName, postUsed.length);
+			batches.put(gcName, batch);
+		}
+		if (0 == batch.count) {
+			schedule(batch);
+		}
+		batch.add(gcAction, gcCause, index, startTime, endTime, initialSize, preUsed, preCommitted, preMax,
+				postUsed, postCommitted, postMax, sequenceNumber);
+	}
+
+	/**
+	 * Sends the collections accumulated so far, called when the notification thread is shutting down.
+	 */
+	void flushAll() {
+		List<Batch> pending;
+		synchronized (this) {
+			pending = new ArrayList<>(batches.values());
+			if (null != timer) {
+				timer.cancel();
+				timer = null;
+			}
+		}
+		for (Batch batch : pending) {
+			flush(batch);
+		}
+	}
+
+	/*[IF JAVA_SPEC_VERSION >= 17]*/
+	@SuppressWarnings("removal")
+	/*[ENDIF] JAVA_SPEC_VERSION >= 17 */
+	private void schedule(final Batch batch) {
+		if (null == timer) {
+			PrivilegedAction<Timer> createTimer = () -> new Timer("GarbageCollectorMXBean batch dispatcher", true); //$NON-NLS-1$
+			timer = java.security.AccessController.doPrivileged(createTimer);
+		}
+		timer.schedule(new TimerTask() {
+			@Override
+			public void run() {
+				flush(batch);
+			}
+		}, windowMillis);
+	}
+
+	private void flush(Batch batch) {
+		Notification notification;
+
+		synchronized (this) {
+			if (0 == batch.count) {
+				return;
+			}
+			notification = new Notification(
+					GarbageCollectionBatchNotificationInfo.GARBAGE_COLLECTION_BATCH_NOTIFICATION,
+					"java.lang:type=GarbageCollector", //$NON-NLS-1$
+					batch.sequenceNumber);
+			notification.setUserData(GarbageCollectionBatchNotificationInfoUtil.toCompositeData(batch.toInfo()));
+			batch.reset();
+		}
+
+		/* listeners are called outside the lock so they do not delay the notification thread */
+		batch.bean.sendNotification(notification);
+	}
+
+	/**
+	 * The collections of one collector in the current window.
+	 */
+	private static final class Batch {
+		final GarbageCollectorMXBeanImpl bean;
+		final String gcName;
+		final int pools;
+
+		long count;
+		long firstIndex;
+		long lastIndex;
+		long startTime;
+		long endTime;
+		long totalDuration;
+		long maxDuration;
+		long sequenceNumber;
+		final long[] poolReclaimed;
+		final long[] poolUsed;
+		final long[] poolCommitted;
+
+		/* ring of the most recent collections, next is the slot to write */
+		int next;
+		int retained;
+		final long[] detailIndex = new long[maxDetail];
+		final String[] detailAction = new String[maxDetail];
+		final String[] detailCause = new String[maxDetail];
+		final long[] detailStartTime = new long[maxDetail];
+		final long[] detailEndTime = new long[maxDetail];
+		final long[] detailPoolUsage;
+
+		Batch(GarbageCollectorMXBeanImpl bean, String gcName, int pools) {
+			this.bean = bean;
+			this.gcName = gcName;
+			this.pools = pools;
+			this.poolReclaimed = new long[pools];
+			this.poolUsed = new long[pools];
+			this.poolCommitted = new long[pools];
+			this.detailPoolUsage = new long[maxDetail * pools * GarbageCollectionBatchNotificationInfo.POOL_USAGE_VALUES];
+		}
+
+		void add(String gcAction, String gcCause, long index, long start, long end, long[] initialSize, long[] preUsed,
+				long[] preCommitted, long[] preMax, long[] postUsed, long[] postCommitted, long[] postMax,
+				long sequence) {
+			long duration = end - start;
+
+			if (0 == count) {
+				firstIndex = index;
+				startTime = start;
+			}
+			count += 1;
+			lastIndex = index;
+			endTime = end;
+			totalDuration += duration;
+			maxDuration = Math.max(maxDuration, duration);
+			sequenceNumber = sequence;
+
+			for (int pool = 0; pool < pools; ++pool) {
+				poolReclaimed[pool] += preUsed[pool] - postUsed[pool];
+				poolUsed[pool] = postUsed[pool];
+				poolCommitted[pool] = postCommitted[pool];
+			}
+
+			if (maxDetail > 0) {
+				int slot = next;
+				detailIndex[slot] = index;
+				detailAction[slot] = gcAction;
+				detailCause[slot] = gcCause;
+				detailStartTime[slot] = start;
+				detailEndTime[slot] = end;
+				int offset = slot * pools * GarbageCollectionBatchNotificationInfo.POOL_USAGE_VALUES;
+				for (int pool = 0; pool < pools; ++pool) {
+					detailPoolUsage[offset++] = initialSize[pool];
+					detailPoolUsage[offset++] = preUsed[pool];
+					detailPoolUsage[offset++] = preCommitted[pool];
+					detailPoolUsage[offset++] = preMax[pool];
+					detailPoolUsage[offset++] = postUsed[pool];
+					detailPoolUsage[offset++] = postCommitted[pool];
+					detailPoolUsage[offset++] = postMax[pool];
+				}
+				next = (slot + 1) % maxDetail;
+				retained = Math.min(retained + 1, maxDetail);
+			}
+		}
+
+		GarbageCollectionBatchNotificationInfo toInfo() {
+			int width = pools * GarbageCollectionBatchNotificationInfo.POOL_USAGE_VALUES;
+			long[] index = new long[retained];
+			String[] action = new String[retained];
+			String[] cause = new String[retained];
+			long[] start = new long[retained];
+			long[] end = new long[retained];
+			long[] poolUsage = new long[retained * width];
+			int oldest = (retained < maxDetail) ? 0 : next;
+
+			for (int i = 0; i < retained; ++i) {
+				int slot = (oldest + i) % maxDetail;
+				index[i] = detailIndex[slot];
+				action[i] = detailAction[slot];
+				cause[i] = detailCause[slot];
+				start[i] = detailStartTime[slot];
+				end[i] = detailEndTime[slot];
+				System.arraycopy(detailPoolUsage, slot * width, poolUsage, i * width, width);
+			}
+
+			return new GarbageCollectionBatchNotificationInfo(gcName, count, firstIndex, lastIndex,
+					startTime, endTime, totalDuration, maxDuration,
+					ExtendedGarbageCollectorMXBeanImpl.getPoolNames().clone(),
+					poolReclaimed.clone(), poolUsed.clone(), poolCommitted.clone(),
+					index, action, cause, start, end, poolUsage);
+		}
+
+		void reset() {
+			count = 0;
+			totalDuration = 0;
+			maxDuration = 0;
+			next = 0;
+			retained = 0;
+			Arrays.fill(poolReclaimed, 0);
+			Arrays.fill(detailAction, null);
+			Arrays.fill(detailCause, null);
+		}
+	}
+
+}
@@ -28,6 +28,7 @@ import javax.management.ObjectName;
 
 import com.ibm.lang.management.JvmCpuMonitorInfo;
 import com.ibm.lang.management.JvmCpuMonitorMXBean;
+import com.ibm.lang.management.JvmCpuMonitorUsage;
 
 /**
  * Runtime type for {@link JvmCpuMonitorMXBean}.
@@ -111,8 +112,15 @@ public class JvmCpuMonitor implements JvmCpuMonitorMXBean {
 		}
 	};
 
+	/* Number of longs in each thread record filled in by getThreadsUsageImpl() */
+	private static final int USAGE_RECORD_SIZE = 4;
+
 	private static JvmCpuMonitor instance = new JvmCpuMonitor();
 
+	/* Re-used by getThreadsUsage(), guarded by usageLock */
+	private final Object usageLock = new Object();
+	private long[] usageRecords = new long[64 * USAGE_RECORD_SIZE];
+
 	/**
 	 * Singleton accessor method. Returns an instance of {@link JvmCpuMonitor}
 	 *
@@ -155,6 +163,33 @@ public class JvmCpuMonitor implements JvmCpuMonitorMXBean {
 		return getThreadsCpuUsageImpl(jcmInfo);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public JvmCpuMonitorUsage getThreadsUsage(JvmCpuMonitorUsage usage) {
+		if (null == usage) {
+			throw new NullPointerException();
+		}
+		synchronized (usageLock) {
+			for (;;) {
+				int count = getThreadsUsageImpl(usage, usageRecords);
+				if (count >= 0) {
+					break;
+				}
+				/* more threads than records, grow with some headroom and retry */
+				usageRecords = new long[(-count + (-count / 2) + 1) * USAGE_RECORD_SIZE];
+			}
+		}
+		return usage;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public JvmCpuMonitorUsage getThreadsUsage() {
+		return getThreadsUsage(new JvmCpuMonitorUsage());
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -193,6 +228,9 @@ public class JvmCpuMonitor implements JvmCpuMonitorMXBean {
 
 	/* Native implementation that returns the CPU usage statistics filled in */
 	private native JvmCpuMonitorInfo getThreadsCpuUsageImpl(JvmCpuMonitorInfo jcmInfo);
+	/* Native implementation that fills in per-thread records and passes them to the usage object.
+	 * Returns the number of threads, or the negated number of threads if the records array is too small. */
+	private native int getThreadsUsageImpl(JvmCpuMonitorUsage usage, long[] records);
 	private native int setThreadCategoryImpl(long id, int category);
 	private native int getThreadCategoryImpl(long id);
 }
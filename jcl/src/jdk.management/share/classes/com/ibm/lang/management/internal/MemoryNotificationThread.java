@@ -45,6 +45,9 @@ final class MemoryNotificationThread implements Runnable {
 
 	private final ExtendedMemoryMXBeanImpl memBean;
 
+	/* Non-null if garbage collection notifications are coalesced */
+	private final GarbageCollectionNotificationBatcher batcher;
+
 	/**
 	 * Basic constructor
 	 * @param mem The memory bean to send notifications through
@@ -53,6 +56,7 @@ final class MemoryNotificationThread implements Runnable {
 	MemoryNotificationThread(ExtendedMemoryMXBeanImpl mem) {
 		super();
 		memBean = mem;
+		batcher = GarbageCollectionNotificationBatcher.isEnabled() ? new GarbageCollectionNotificationBatcher() : null;
 	}
 
 	/**
@@ -92,6 +96,17 @@ final class MemoryNotificationThread implements Runnable {
 			long startTime, long endTime, long[] initialSize, long[] preUsed,
 			long[] preCommitted, long[] preMax, long[] postUsed, long[] postCommitted, long[] postMax,
 			long sequenceNumber) {
+		if (null != batcher) {
+			for (MemoryManagerMXBean bean : memBean.getMemoryManagerMXBeans(false)) {
+				if (bean instanceof GarbageCollectorMXBeanImpl && bean.getName().equals(gcName)) {
+					batcher.add((GarbageCollectorMXBeanImpl) bean, gcName, gcAction, gcCause, index, startTime, endTime,
+							initialSize, preUsed, preCommitted, preMax, postUsed, postCommitted, postMax, sequenceNumber);
+					break;
+				}
+			}
+			return;
+		}
+
 		GcInfo gcInfo = ExtendedGarbageCollectorMXBeanImpl.buildGcInfo(index, startTime, endTime, initialSize, preUsed, preCommitted, preMax, postUsed, postCommitted, postMax);
 		GarbageCollectionNotificationInfo info = new GarbageCollectionNotificationInfo(gcName, gcAction, gcCause, gcInfo);
 
@@ -184,6 +199,9 @@ final class MemoryNotificationThread implements Runnable {
 	public void run() {
 		if (registerShutdownHandler()) {
 			processNotificationLoop();
+			if (null != batcher) {
+				batcher.flushAll();
+			}
 		}
 	}
 
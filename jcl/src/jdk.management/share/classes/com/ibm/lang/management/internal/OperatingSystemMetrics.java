@@ -0,0 +1,229 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management.internal;
+
+/**
+ * A reusable snapshot of process, system and cgroup counters, filled in
+ * by a single native call so that the operating system bean does not have
+ * to make one native call per metric. The counters are split into groups
+ * which are refreshed independently, so reading one attribute only reads
+ * the files it needs. All values are kept in primitive fields; the native
+ * code updates them through the set*Values() methods. Counters that are
+ * unavailable on the current platform are set to -1.
+ */
+final class OperatingSystemMetrics {
+
+	/* groups of counters refreshed by the native */
+	static final int PROCESS = 1;
+	static final int CGROUP = 2;
+	static final int PRESSURE = 4;
+
+	/* resource indices used by setPressureValues() */
+	static final int PRESSURE_CPU = 0;
+	static final int PRESSURE_MEMORY = 1;
+	static final int PRESSURE_IO = 2;
+
+	/**
+	 * Pressure stall information (PSI) for one resource. The averages are
+	 * percentages of wall time over the last 10, 60 and 300 seconds; the
+	 * totals are the accumulated stall times in microseconds.
+	 */
+	static final class Pressure {
+		double someAvg10;
+		double someAvg60;
+		double someAvg300;
+		long someTotal;
+		double fullAvg10;
+		double fullAvg60;
+		double fullAvg300;
+		long fullTotal;
+
+		void clear() {
+			someAvg10 = -1;
+			someAvg60 = -1;
+			someAvg300 = -1;
+			someTotal = -1;
+			fullAvg10 = -1;
+			fullAvg60 = -1;
+			fullAvg300 = -1;
+			fullTotal = -1;
+		}
+	}
+
+	/* the System.nanoTime() at which each group was last refreshed, or -1 */
+	long processTimestamp;
+	long cgroupTimestamp;
+	long pressureTimestamp;
+
+	/* process and system counters */
+	long processCpuTime;
+	long processPhysicalMemory;
+	long processPrivateMemory;
+	long processVirtualMemory;
+	long freePhysicalMemory;
+	long totalPhysicalMemory;
+	int onlineProcessors;
+
+	/* cgroup counters */
+	long cgroupMemoryLimit;
+	long cgroupMemoryUsage;
+	long cgroupCpuPeriods;
+	long cgroupCpuThrottledPeriods;
+	long cgroupCpuThrottledTime;
+
+	final Pressure cpuPressure = new Pressure();
+	final Pressure memoryPressure = new Pressure();
+	final Pressure ioPressure = new Pressure();
+
+	OperatingSystemMetrics() {
+		super();
+		processTimestamp = -1;
+		cgroupTimestamp = -1;
+		pressureTimestamp = -1;
+		clear(CGROUP | PRESSURE);
+	}
+
+	/**
+	 * Returns those of the given groups which were not refreshed within the interval.
+	 *
+	 * @param groups the groups to check
+	 * @param now the current System.nanoTime()
+	 * @param interval the maximum age of a group in nanoseconds
+	 * @return the groups which need to be refreshed
+	 */
+	int staleGroups(int groups, long now, long interval) {
+		int stale = 0;
+		if ((0 != (groups & PROCESS)) && isStale(processTimestamp, now, interval)) {
+			stale |= PROCESS;
+		}
+		if ((0 != (groups & CGROUP)) && isStale(cgroupTimestamp, now, interval)) {
+			stale |= CGROUP;
+		}
+		if ((0 != (groups & PRESSURE)) && isStale(pressureTimestamp, now, interval)) {
+			stale |= PRESSURE;
+		}
+		return stale;
+	}
+
+	private static boolean isStale(long timestamp, long now, long interval) {
+		return (timestamp < 0) || ((now - timestamp) >= interval);
+	}
+
+	/**
+	 * Records the time at which the given groups were refreshed.
+	 *
+	 * @param groups the refreshed groups
+	 * @param now the System.nanoTime() before the refresh
+	 */
+	void setTimestamp(int groups, long now) {
+		if (0 != (groups & PROCESS)) {
+			processTimestamp = now;
+		}
+		if (0 != (groups & CGROUP)) {
+			cgroupTimestamp = now;
+		}
+		if (0 != (groups & PRESSURE)) {
+			pressureTimestamp = now;
+		}
+	}
+
+	/**
+	 * Reset the cgroup and pressure counters of the given groups before a
+	 * refresh; the native only reports the values it could read.
+	 *
+	 * @param groups the groups to reset
+	 */
+	void clear(int groups) {
+		if (0 != (groups & CGROUP)) {
+			cgroupMemoryLimit = -1;
+			cgroupMemoryUsage = -1;
+			cgroupCpuPeriods = -1;
+			cgroupCpuThrottledPeriods = -1;
+			cgroupCpuThrottledTime = -1;
+		}
+		if (0 != (groups & PRESSURE)) {
+			cpuPressure.clear();
+			memoryPressure.clear();
+			ioPressure.clear();
+		}
+	}
+
+	/**
+	 * @param resource one of the PRESSURE_* constants
+	 * @return the pressure stall information of the resource
+	 */
+	Pressure getPressure(int resource) {
+		switch (resource) {
+		case PRESSURE_CPU:
+			return cpuPressure;
+		case PRESSURE_MEMORY:
+			return memoryPressure;
+		case PRESSURE_IO:
+			return ioPressure;
+		default:
+			return null;
+		}
+	}
+
+	/* Called from native code. */
+	void setProcessValues(long processCpuTime, long processPhysicalMemory, long processPrivateMemory,
+			long processVirtualMemory, long freePhysicalMemory, long totalPhysicalMemory,
+			int onlineProcessors) {
+		this.processCpuTime = processCpuTime;
+		this.processPhysicalMemory = processPhysicalMemory;
+		this.processPrivateMemory = processPrivateMemory;
+		this.processVirtualMemory = processVirtualMemory;
+		this.freePhysicalMemory = freePhysicalMemory;
+		this.totalPhysicalMemory = totalPhysicalMemory;
+		this.onlineProcessors = onlineProcessors;
+	}
+
+	/* Called from native code. */
+	void setCgroupValues(long cgroupMemoryLimit, long cgroupMemoryUsage,
+			long cgroupCpuPeriods, long cgroupCpuThrottledPeriods, long cgroupCpuThrottledTime) {
+		this.cgroupMemoryLimit = cgroupMemoryLimit;
+		this.cgroupMemoryUsage = cgroupMemoryUsage;
+		this.cgroupCpuPeriods = cgroupCpuPeriods;
+		this.cgroupCpuThrottledPeriods = cgroupCpuThrottledPeriods;
+		this.cgroupCpuThrottledTime = cgroupCpuThrottledTime;
+	}
+
+	/* Called from native code. */
+	void setPressureValues(int resource,
+			double someAvg10, double someAvg60, double someAvg300, long someTotal,
+			double fullAvg10, double fullAvg60, double fullAvg300, long fullTotal) {
+		Pressure pressure = getPressure(resource);
+
+		if (null != pressure) {
+			pressure.someAvg10 = someAvg10;
+			pressure.someAvg60 = someAvg60;
+			pressure.someAvg300 = someAvg300;
+			pressure.someTotal = someTotal;
+			pressure.fullAvg10 = fullAvg10;
+			pressure.fullAvg60 = fullAvg60;
+			pressure.fullAvg300 = fullAvg300;
+			pressure.fullTotal = fullTotal;
+		}
+	}
+
+}
@@ -30,6 +30,7 @@ import java.util.List;
 import com.ibm.java.lang.management.internal.ComponentBuilder;
 import com.ibm.java.lang.management.internal.ManagementUtils;
 import com.ibm.lang.management.JvmCpuMonitorMXBean;
+import com.ibm.lang.management.SharedClassCacheMXBean;
 import com.ibm.virtualization.management.internal.GuestOS;
 import com.ibm.virtualization.management.internal.HypervisorMXBeanImpl;
 import openj9.lang.management.OpenJ9DiagnosticsMXBean;
@@ -38,6 +39,7 @@ import openj9.lang.management.internal.OpenJ9DiagnosticsMXBeanImpl;
 /*[IF JAVA_SPEC_VERSION >= 21]*/
 import com.sun.management.internal.ExtendedHotSpotDiagnostic;
 import com.sun.management.HotSpotDiagnosticMXBean;
+import com.ibm.lang.management.VirtualThreadPinningMXBean;
 /*[ENDIF] JAVA_SPEC_VERSION >= 21 */
 
 /*[IF JAVA_SPEC_VERSION >= 24]*/
@@ -102,6 +104,10 @@ public final class PlatformMBeanProvider extends sun.management.spi.PlatformMBea
 			.addInterface(JvmCpuMonitorMXBean.class)
 			.register(allComponents);
 
+		ComponentBuilder.create("com.ibm.lang.management:type=SharedClassCache", SharedClassCacheMXBeanImpl.getInstance()) //$NON-NLS-1$
+			.addInterface(SharedClassCacheMXBean.class)
+			.register(allComponents);
+
 		/* OpenJ9DiagnosticsMXBeanImpl depends on openj9.jvm. If openj9.jvm is not
 		 * available exclude this component.
 		 */
@@ -121,6 +127,10 @@ public final class PlatformMBeanProvider extends sun.management.spi.PlatformMBea
 		ComponentBuilder.create("com.sun.management:type=HotSpotDiagnostic", ExtendedHotSpotDiagnostic.getInstance()) //$NON-NLS-1$
 			.addInterface(HotSpotDiagnosticMXBean.class)
 			.register(allComponents);
+
+		ComponentBuilder.create("com.ibm.lang.management:type=VirtualThreadPinning", VirtualThreadPinningMXBeanImpl.getInstance()) //$NON-NLS-1$
+			.addInterface(VirtualThreadPinningMXBean.class)
+			.register(allComponents);
 		/*[ENDIF] JAVA_SPEC_VERSION >= 21 */
 
 		/*[IF JAVA_SPEC_VERSION >= 24]*/
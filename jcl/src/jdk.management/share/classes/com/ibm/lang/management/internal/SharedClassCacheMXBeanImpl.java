@@ -0,0 +1,107 @@
+/*[INCLUDE-IF JAVA_SPEC_VERSION >= 9]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management.internal;
+
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import com.ibm.lang.management.SharedClassCacheMXBean;
+import com.ibm.lang.management.SharedClassHelperCounters;
+import openj9.internal.management.SharedClassCacheCounters;
+
+/**
+ * Runtime type for {@link SharedClassCacheMXBean}.
+ */
+public final class SharedClassCacheMXBeanImpl implements SharedClassCacheMXBean {
+
+	private static final SharedClassCacheMXBeanImpl instance = new SharedClassCacheMXBeanImpl();
+
+	/**
+	 * Singleton accessor method.
+	 *
+	 * @return the static instance of {@link SharedClassCacheMXBeanImpl}
+	 */
+	public static SharedClassCacheMXBeanImpl getInstance() {
+		return instance;
+	}
+
+	private SharedClassCacheMXBeanImpl() {
+		super();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ObjectName getObjectName() {
+		try {
+			ObjectName name = new ObjectName("com.ibm.lang.management:type=SharedClassCache"); //$NON-NLS-1$
+			return name;
+		} catch (MalformedObjectNameException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public SharedClassHelperCounters[] getHelperTypeCounters() {
+		return convert(SharedClassCacheCounters.getHelperTypeSnapshots());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public SharedClassHelperCounters[] getClassLoaderCounters() {
+		return convert(SharedClassCacheCounters.getClassLoaderSnapshots());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getStaleClassCount() {
+		return SharedClassCacheCounters.getCacheCounts()[SharedClassCacheCounters.STALE_CLASS_COUNT];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getAOTMethodCount() {
+		return SharedClassCacheCounters.getCacheCounts()[SharedClassCacheCounters.AOT_METHOD_COUNT];
+	}
+
+	private static SharedClassHelperCounters[] convert(SharedClassCacheCounters.Snapshot[] snapshots) {
+		SharedClassHelperCounters[] result = new SharedClassHelperCounters[snapshots.length];
+		for (int i = 0; i < snapshots.length; i++) {
+			SharedClassCacheCounters.Snapshot snapshot = snapshots[i];
+			result[i] = new SharedClassHelperCounters(snapshot.getName(), snapshot.getFindHits(),
+					snapshot.getFindMisses(), snapshot.getStores(), snapshot.getStoreFailures());
+		}
+		return result;
+	}
+
+}
@@ -22,6 +22,7 @@
  */
 package com.ibm.lang.management.internal;
 
+import com.ibm.lang.management.PressureStallInfo;
 import com.ibm.lang.management.UnixOperatingSystemMXBean;
 
 /*
@@ -56,6 +57,110 @@ public final class UnixExtendedOperatingSystem extends ExtendedOperatingSystemMX
 		return getOpenFileDescriptorCountImpl();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double getCpuPressure() {
+		return getPressureAverage(OperatingSystemMetrics.PRESSURE_CPU, false);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double getMemoryPressure() {
+		return getPressureAverage(OperatingSystemMetrics.PRESSURE_MEMORY, false);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double getMemoryFullPressure() {
+		return getPressureAverage(OperatingSystemMetrics.PRESSURE_MEMORY, true);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double getIoPressure() {
+		return getPressureAverage(OperatingSystemMetrics.PRESSURE_IO, false);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double getIoFullPressure() {
+		return getPressureAverage(OperatingSystemMetrics.PRESSURE_IO, true);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getCgroupCpuThrottledCount() {
+		return getCgroupCpuThrottledPeriods();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getCgroupCpuThrottledTime() {
+		return getCgroupCpuThrottledNanos();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getCgroupCpuPeriodCount() {
+		return getCgroupCpuPeriods();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getCgroupMemoryLimit() {
+		return getCgroupMemoryLimitBytes();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getCgroupMemoryUsage() {
+		return getCgroupMemoryUsageBytes();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public PressureStallInfo getCpuPressureInfo() {
+		return getPressureInfo(OperatingSystemMetrics.PRESSURE_CPU);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public PressureStallInfo getMemoryPressureInfo() {
+		return getPressureInfo(OperatingSystemMetrics.PRESSURE_MEMORY);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public PressureStallInfo getIoPressureInfo() {
+		return getPressureInfo(OperatingSystemMetrics.PRESSURE_IO);
+	}
+
 	private static native long getMaxFileDescriptorCountImpl();
 
 	private static native long getOpenFileDescriptorCountImpl();
@@ -0,0 +1,136 @@
+/*[INCLUDE-IF JAVA_SPEC_VERSION >= 21]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management.internal;
+
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import com.ibm.lang.management.VirtualThreadPinningMXBean;
+import com.ibm.lang.management.VirtualThreadPinningSite;
+import openj9.internal.management.VirtualThreadPinningStatistics;
+
+/**
+ * Runtime type for {@link VirtualThreadPinningMXBean}.
+ */
+public final class VirtualThreadPinningMXBeanImpl implements VirtualThreadPinningMXBean {
+
+	private static final VirtualThreadPinningMXBeanImpl instance = new VirtualThreadPinningMXBeanImpl();
+
+	/**
+	 * Singleton accessor method.
+	 *
+	 * @return the static instance of {@link VirtualThreadPinningMXBeanImpl}
+	 */
+	public static VirtualThreadPinningMXBeanImpl getInstance() {
+		return instance;
+	}
+
+	private VirtualThreadPinningMXBeanImpl() {
+		super();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ObjectName getObjectName() {
+		try {
+			ObjectName name = new ObjectName("com.ibm.lang.management:type=VirtualThreadPinning"); //$NON-NLS-1$
+			return name;
+		} catch (MalformedObjectNameException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getSampleInterval() {
+		return VirtualThreadPinningStatistics.getSampleInterval();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setSampleInterval(int interval) {
+		VirtualThreadPinningStatistics.setSampleInterval(interval);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String[] getPinningReasons() {
+		return VirtualThreadPinningStatistics.getReasonNames();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long[] getPinningCounts() {
+		return VirtualThreadPinningStatistics.getReasonCounts();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long[] getPinningTimes() {
+		return VirtualThreadPinningStatistics.getReasonTimes();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public VirtualThreadPinningSite[] getPinningSites() {
+		VirtualThreadPinningStatistics.Site[] sites = VirtualThreadPinningStatistics.getSites();
+		VirtualThreadPinningSite[] result = new VirtualThreadPinningSite[sites.length];
+		for (int i = 0; i < sites.length; i++) {
+			VirtualThreadPinningStatistics.Site site = sites[i];
+			result[i] = new VirtualThreadPinningSite(site.getReason(), site.getFrame(),
+					site.getCount(), site.getTime(), site.getMaxTime());
+		}
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getDroppedSampleCount() {
+		return VirtualThreadPinningStatistics.getDroppedSampleCount();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void reset() {
+		VirtualThreadPinningStatistics.reset();
+	}
+
+}
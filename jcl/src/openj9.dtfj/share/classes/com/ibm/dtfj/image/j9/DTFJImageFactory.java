@@ -29,6 +29,9 @@ import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.zip.ZipException;
 import java.util.zip.ZipFile;
 
@@ -40,11 +43,24 @@ import com.ibm.dtfj.corereaders.ICoreFileReader;
 import com.ibm.dtfj.corereaders.ResourceReleaser;
 import com.ibm.dtfj.image.Image;
 import com.ibm.dtfj.utils.file.FileManager;
+import com.ibm.jvm.j9.dump.indexsupport.BinaryIndexReader;
+import com.ibm.jvm.j9.dump.indexsupport.BinaryIndexWriter;
 import com.ibm.jvm.j9.dump.indexsupport.XMLIndexReader;
 import com.ibm.jvm.j9.dump.indexsupport.XMLInputStream;
 
 public class DTFJImageFactory implements com.ibm.dtfj.image.ImageFactory
 {
+	/**
+	 * Suffix of the binary index which is written to the cache directory the first time an XML index is parsed.
+	 */
+	private static final String BINARY_INDEX_SUFFIX = ".j9idx"; //$NON-NLS-1$
+
+	/**
+	 * Set this system property to a directory in which binary indexes are cached.  When it is not set
+	 * binary indexes are neither read nor written.
+	 */
+	private static final String BINARY_INDEX_DIR_PROPERTY = "com.ibm.dtfj.image.j9.binaryIndexDir"; //$NON-NLS-1$
+
 	/**
 	 * This public constructor is intended for use with Class.newInstance().
 	 * This class will generally be referred to by name (e.g. using Class.forName()).
@@ -155,28 +171,132 @@ public class DTFJImageFactory implements com.ibm.dtfj.image.ImageFactory
 	 * file to have already been extracted next to the core and can use the zip for library resolution.
 	 */
 	public Image getImage(File imageFile, File metadata) throws IOException {
-		FileInputStream metastream = null;
+		File meta = null;
 		IFileLocationResolver resolver = null;
 		if(FileManager.isArchive(metadata)) {
 			//archive from within which libraries should be resolved
-			File meta = new File(imageFile.getParentFile(), imageFile.getName() + ".xml");
-			metastream = new FileInputStream(meta);
+			meta = new File(imageFile.getParentFile(), imageFile.getName() + ".xml");
 			ZipFile zip = new ZipFile(metadata);
 			resolver = new ZipExtractionResolver(zip);
 		} else {
-			metastream = new FileInputStream(metadata);
+			meta = metadata;
 			resolver = new DefaultFileLocationResolver(imageFile.getParentFile());
 		}
-		ReleasingImage image = getImage(imageFile, metastream, resolver);
-		metastream.close();
+		File binaryIndex = getBinaryIndexFile(meta);
+		if (null == binaryIndex) {
+			FileInputStream metastream = new FileInputStream(meta);
+			ReleasingImage image = getImage(imageFile, metastream, resolver);
+			metastream.close();
+			return image;
+		}
+		if (binaryIndex.isFile() && (binaryIndex.lastModified() >= meta.lastModified())) {
+			ReleasingImage image = getImageFromBinaryIndex(imageFile, binaryIndex, resolver);
+			if (null != image) {
+				return image;
+			}
+		}
+		BinaryIndexWriter recorder = null;
+		try {
+			recorder = new BinaryIndexWriter(binaryIndex);
+		} catch (IOException e) {
+			//the cache directory may not be writable, in which case we just parse the XML
+		}
+		FileInputStream metastream = new FileInputStream(meta);
+		try {
+			return getImage(imageFile, metastream, resolver, recorder);
+		} finally {
+			metastream.close();
+			if (null != recorder) {
+				//an incomplete recording is discarded
+				recorder.close();
+			}
+		}
+	}
+
+	/**
+	 * Determines where the binary index for an XML index is cached.  The name is derived from the
+	 * canonical path of the XML index so that dumps with the same name in different directories do
+	 * not share an index.
+	 *
+	 * @return the binary index file, or null if binary indexes are not enabled or the cache directory cannot be created
+	 */
+	private static File getBinaryIndexFile(File meta)
+	{
+		String dirName = System.getProperty(BINARY_INDEX_DIR_PROPERTY);
+		if ((null == dirName) || dirName.isEmpty()) {
+			return null;
+		}
+		File dir = new File(dirName);
+		if (!dir.isDirectory() && !dir.mkdirs()) {
+			return null;
+		}
+		String key;
+		try {
+			key = meta.getCanonicalPath();
+		} catch (IOException e) {
+			key = meta.getAbsolutePath();
+		}
+		StringBuilder name = new StringBuilder(meta.getName());
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-1").digest(key.getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+			name.append('-');
+			for (int i = 0; i < 8; i++) {
+				name.append(Character.forDigit((digest[i] >> 4) & 0xF, 16));
+				name.append(Character.forDigit(digest[i] & 0xF, 16));
+			}
+		} catch (NoSuchAlgorithmException e) {
+			name.append('-').append(Integer.toHexString(key.hashCode()));
+		}
+		name.append(BINARY_INDEX_SUFFIX);
+		return new File(dir, name.toString());
+	}
+
+	/**
+	 * Builds an image from a binary index written by an earlier parse of the XML index.
+	 *
+	 * @return the image, or null if the binary index could not be used and the XML index must be parsed instead
+	 */
+	private ReleasingImage getImageFromBinaryIndex(File imageFile, File binaryIndex, IFileLocationResolver resolver) throws IOException
+	{
+		BinaryIndexReader index = null;
+		try {
+			index = new BinaryIndexReader(binaryIndex);
+		} catch (IOException e) {
+			return null;
+		}
+		ClosingFileReader reader = new ClosingFileReader(imageFile);
+		ICoreFileReader core = DumpFactory.createDumpForCore(reader);
+		XMLIndexReader indexData = new XMLIndexReader();
+		ReleasingImage image = null;
+		try {
+			image = indexData.parseBinaryIndexWithDump(index, core, reader, resolver);
+		} catch (IOException e) {
+			//discard the partially built image and let the caller fall back to the XML
+			index.releaseResources();
+			core.releaseResources();
+			reader.close();
+			return null;
+		}
+		image.addReleasable(index);
+		image.addReleasable(reader);
+		image.addReleasable(core);
+		if(resolver instanceof ResourceReleaser) {
+			image.addReleasable((ResourceReleaser) resolver);
+		}
 		return image;
 	}
 
 	private ReleasingImage getImage(File imageFile, InputStream metadata, IFileLocationResolver resolver) throws IOException
+	{
+		return getImage(imageFile, metadata, resolver, null);
+	}
+
+	private ReleasingImage getImage(File imageFile, InputStream metadata, IFileLocationResolver resolver, BinaryIndexWriter recorder) throws IOException
 	{
 		ClosingFileReader reader = new ClosingFileReader(imageFile);
 		ICoreFileReader core = DumpFactory.createDumpForCore(reader);
 		XMLIndexReader indexData = new XMLIndexReader();
+		indexData.setIndexRecorder(recorder);
 		//CMVC 154851 : pass the metadata stream through the new XML cleanup class
 		XMLInputStream in = new XMLInputStream(metadata);
 		ReleasingImage image = indexData.parseIndexWithDump(in, core, reader, resolver);
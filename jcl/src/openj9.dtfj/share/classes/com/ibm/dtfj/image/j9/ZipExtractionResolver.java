@@ -38,6 +38,7 @@ import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
 import com.ibm.dtfj.corereaders.ResourceReleaser;
+import com.ibm.dtfj.utils.file.LibraryStore;
 
 /**
  * @author jmdisher
@@ -74,7 +75,19 @@ public class ZipExtractionResolver implements IFileLocationResolver, ResourceRel
 				entry = _container.getEntry(name);
 			}
 			if (null == entry) {
-				throw new FileNotFoundException("No ZIP entry with name: \"" + fullPath + "\"");
+				//jextract omits libraries which are in its library store
+				File stored = null;
+				try {
+					stored = LibraryStore.findLibrary(_container, fullPath);
+				} catch (IOException e) {
+					Logger.getLogger(com.ibm.dtfj.image.ImageFactory.DTFJ_LOGGER_NAME).fine("Unable to read library store manifest: " + e.getMessage());
+				}
+				if (null == stored) {
+					throw new FileNotFoundException("No ZIP entry with name: \"" + fullPath + "\"");
+				}
+				_openFilesByName.put(fullPath, stored);
+				knownFile = stored;
+				Logger.getLogger(com.ibm.dtfj.image.ImageFactory.DTFJ_LOGGER_NAME).fine("Found " + fullPath + " in library store as " + stored.getAbsolutePath());
 			} else {
 				File temp = null;
 				InputStream zipContent = null;
@@ -34,9 +34,17 @@ import com.ibm.dtfj.image.Image;
 import com.ibm.dtfj.image.ImageFactory;
 import com.ibm.dtfj.javacore.builder.javacore.ImageBuilderFactory;
 import com.ibm.dtfj.javacore.parser.j9.JavaCoreReader;
+import com.ibm.dtfj.javacore.parser.j9.JavaCoreSectionIndex;
 
 public class JCImageFactory implements ImageFactory {
 
+	/**
+	 * Set this system property to a comma separated list of section names, for example "THREADS,LOCKS",
+	 * to parse only those sections of a javacore file. The TITLE, GPINFO and ENVINFO sections are
+	 * always parsed.
+	 */
+	private static final String SECTIONS_PROPERTY = "com.ibm.dtfj.javacore.sections";
+
 	public int getDTFJMajorVersion() {
 		return DTFJ_MAJOR_VERSION;
 	}
@@ -74,6 +82,15 @@ public class JCImageFactory implements ImageFactory {
 	 *
 	 */
 	public Image getImage(File arg0) throws IOException {
+		String sections = System.getProperty(SECTIONS_PROPERTY);
+		if ((sections != null) && (sections.trim().length() > 0)) {
+			JavaCoreSectionIndex index = new JavaCoreSectionIndex(arg0, new ImageBuilderFactory());
+			try {
+				return index.getImage(sections.trim().split("\\s*,\\s*"));
+			} finally {
+				index.close();
+			}
+		}
 		InputStream stream = new FileInputStream(arg0);
 		try {
 			Image image = new JavaCoreReader(new ImageBuilderFactory()).generateImage(stream);
@@ -25,7 +25,6 @@ package com.ibm.dtfj.java.j9;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
@@ -40,6 +39,7 @@ import com.ibm.dtfj.image.j9.ImageProcess;
 import com.ibm.dtfj.java.JavaClass;
 import com.ibm.dtfj.java.JavaClassLoader;
 import com.ibm.dtfj.java.JavaObject;
+import com.ibm.dtfj.utils.collections.LongObjectMap;
 
 /**
  * @author jmdisher
@@ -49,9 +49,9 @@ public class JavaRuntime implements com.ibm.dtfj.java.JavaRuntime
 {
 	private ImageProcess _containingProc;
 	private ImagePointer  _address;
-	private LinkedHashMap _classLoaders = new LinkedHashMap(); // use linked hashmap for predictable ordering
+	private LongObjectMap<JavaClassLoader> _classLoaders = new LongObjectMap<JavaClassLoader>(); // insertion ordered for predictable ordering
 	private Vector _vmThreads = new Vector();
-	private LinkedHashMap _classes = new LinkedHashMap(); // use linked hashmap for predictable ordering
+	private LongObjectMap<JavaClass> _classes = new LongObjectMap<JavaClass>(); // insertion ordered for predictable ordering
 	private Set _arrayClasses = new HashSet();
 	private Map _arrayClassesMap = new HashMap();
 	private Vector _monitors = new Vector();
@@ -63,12 +63,15 @@ public class JavaRuntime implements com.ibm.dtfj.java.JavaRuntime
 	private boolean _objectsShouldInferHash = false;	//used as a work-around for our hash problem.  Set to true if this is a VM version which uses our 15-bits shifted hash algorithm
 
 	//these are caches provided to help optimize or clean-up other DTFJ routines
-	private HashMap _methodsByID = new HashMap();
+	private LongObjectMap<JavaMethod> _methodsByID = new LongObjectMap<JavaMethod>();
 	private Vector deferMonitors = new Vector();
 
 	//to contain objects that represent classes, threads, monitors or classloaders
 	private HashMap _specialObjects = new HashMap();
 
+	//loads the sections of the index which were skipped when the image was opened (null once loaded)
+	private volatile Runnable _deferredSectionLoader = null;
+
 	com.ibm.dtfj.java.j9.JavaClass _weakReferenceClass = null;
 	com.ibm.dtfj.java.j9.JavaClass _softReferenceClass = null;
 	com.ibm.dtfj.java.j9.JavaClass _phantomReferenceClass = null;
@@ -90,6 +93,30 @@ public class JavaRuntime implements com.ibm.dtfj.java.JavaRuntime
 		_objectsShouldInferHash = ("2.2".equals(runtimeVersion)) || ("2.3".equals(runtimeVersion)) || ("2.4".equals(runtimeVersion));
 	}
 
+	/**
+	 * Registers the work needed to load the classes, class loaders and threads which were skipped when
+	 * the index was read.  It is run the first time any of them is needed.
+	 *
+	 * @param loader The loader to run, or null
+	 */
+	public void setDeferredSectionLoader(Runnable loader)
+	{
+		_deferredSectionLoader = loader;
+	}
+
+	private void loadDeferredSections()
+	{
+		if (null != _deferredSectionLoader) {
+			synchronized (this) {
+				Runnable loader = _deferredSectionLoader;
+				if (null != loader) {
+					_deferredSectionLoader = null;
+					loader.run();
+				}
+			}
+		}
+	}
+
 	/* (non-Javadoc)
 	 * @see com.ibm.dtfj.java.JavaRuntime#getJavaVM()
 	 */
@@ -103,7 +130,8 @@ public class JavaRuntime implements com.ibm.dtfj.java.JavaRuntime
 	 */
 	public Iterator getJavaClassLoaders()
 	{
-		return _classLoaders.values().iterator();
+		loadDeferredSections();
+		return _classLoaders.iterator();
 	}
 
 	/* (non-Javadoc)
@@ -111,6 +139,7 @@ public class JavaRuntime implements com.ibm.dtfj.java.JavaRuntime
 	 */
 	public Iterator getThreads()
 	{
+		loadDeferredSections();
 		return _vmThreads.iterator();
 	}
 
@@ -119,7 +148,8 @@ public class JavaRuntime implements com.ibm.dtfj.java.JavaRuntime
 	 */
 	public Iterator getCompiledMethods()
 	{
-		Iterator classes = _classes.values().iterator();
+		loadDeferredSections();
+		Iterator classes = _classes.iterator();
 		Vector compiledMethods = new Vector();
 
 		while (classes.hasNext()) {
@@ -143,6 +173,7 @@ public class JavaRuntime implements com.ibm.dtfj.java.JavaRuntime
 	 */
 	public Iterator getMonitors()
 	{
+		loadDeferredSections();
 		// we need to check that all the deferred items have been processed by now
 		checkDeferredMonitors();
 		return _monitors.iterator();
@@ -197,7 +228,7 @@ public class JavaRuntime implements com.ibm.dtfj.java.JavaRuntime
 			return;
 		}
 		long id = theClass.getID().getAddress();
-		_classes.put(Long.valueOf(id), theClass);
+		_classes.put(id, theClass);
 		try {
 			if (theClass.isArray()) {
 				// Useful for component type lookups
@@ -233,16 +264,18 @@ public class JavaRuntime implements com.ibm.dtfj.java.JavaRuntime
 	public void addClassLoader(com.ibm.dtfj.java.j9.JavaClassLoader loader)
 	{
 		long id = loader.getID();
-		_classLoaders.put(Long.valueOf(id), loader);
+		_classLoaders.put(id, loader);
 	}
 
 	public com.ibm.dtfj.java.JavaClass getClassForID(long classID)
 	{
-		return (com.ibm.dtfj.java.JavaClass)_classes.get(Long.valueOf(classID));
+		loadDeferredSections();
+		return _classes.get(classID);
 	}
 
 	JavaClass getComponentTypeForClass(JavaClass theClass) throws CorruptDataException
 	{
+		loadDeferredSections();
 		//CMVC 161798 add check to see if array class set is valid before populating the map
 		if ((_arrayClasses != null) && _arrayClassesMap.isEmpty()) {
 			//1st invocation. Build the map
@@ -281,7 +314,8 @@ public class JavaRuntime implements com.ibm.dtfj.java.JavaRuntime
 
 	public JavaClassLoader getClassLoaderForID(long loaderID)
 	{
-		return (JavaClassLoader) _classLoaders.get(Long.valueOf(loaderID));
+		loadDeferredSections();
+		return _classLoaders.get(loaderID);
 	}
 
 	public void addMonitor(JavaMonitor monitor)
@@ -491,12 +525,13 @@ public class JavaRuntime implements com.ibm.dtfj.java.JavaRuntime
 
 	public JavaMethod methodForID(long method)
 	{
-		return (JavaMethod) _methodsByID.get(Long.valueOf(method));
+		loadDeferredSections();
+		return _methodsByID.get(method);
 	}
 
 	public void addMethodForID(JavaMethod method, long id)
 	{
-		_methodsByID.put(Long.valueOf(id), method);
+		_methodsByID.put(id, method);
 	}
 
 	public JavaVMInitArgs createJavaVMInitArgs(int version, boolean ignoreUnrecognized)
@@ -527,7 +562,8 @@ public class JavaRuntime implements com.ibm.dtfj.java.JavaRuntime
 	}
 
 	protected Iterator getClasses() {
-		return _classes.values().iterator();
+		loadDeferredSections();
+		return _classes.iterator();
 	}
 
 	/* (non-Javadoc)
@@ -535,6 +571,7 @@ public class JavaRuntime implements com.ibm.dtfj.java.JavaRuntime
 	 */
 	public Iterator getHeapRoots()
 	{
+		loadDeferredSections();
 		return _heapRoots.iterator();
 	}
 
@@ -574,6 +611,7 @@ public class JavaRuntime implements com.ibm.dtfj.java.JavaRuntime
 	}
 
 	public JavaObject getSpecialObject(ImagePointer address) {
+		loadDeferredSections();
 		return (JavaObject)_specialObjects.get(address);
 	}
 
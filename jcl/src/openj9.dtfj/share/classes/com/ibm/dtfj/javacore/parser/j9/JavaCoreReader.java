@@ -92,7 +92,7 @@ public class JavaCoreReader {
 		}
 	}
 
-	private Charset getJavaCoreCodePage(ByteArrayInputStream input)	throws IOException {
+	Charset getJavaCoreCodePage(ByteArrayInputStream input) throws IOException {
 		input.mark(256);
 		Charset cs = null;
 		try {
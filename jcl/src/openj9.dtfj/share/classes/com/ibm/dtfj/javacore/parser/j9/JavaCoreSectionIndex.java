@@ -0,0 +1,372 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.dtfj.javacore.parser.j9;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.ibm.dtfj.image.Image;
+import com.ibm.dtfj.image.javacore.JCImage;
+import com.ibm.dtfj.javacore.builder.IImageBuilderFactory;
+import com.ibm.dtfj.javacore.parser.j9.section.common.ICommonTypes;
+import com.ibm.dtfj.javacore.parser.j9.section.environment.IEnvironmentTypes;
+import com.ibm.dtfj.javacore.parser.j9.section.platform.IPlatformTypes;
+import com.ibm.dtfj.javacore.parser.j9.section.title.ITitleTypes;
+
+/**
+ * Streaming access to a javacore file. The file is scanned once for the offsets of its
+ * "0SECTION" headers, matching the encoded eye catcher byte by byte rather than tokenizing
+ * every line. A section (THREADS, LOCKS, MEMINFO, CLASSES, ...) is only parsed when an image
+ * containing it is first requested, and the image is then reused for later requests that need
+ * no further sections.
+ * <br><br>
+ * The TITLE, GPINFO and ENVINFO sections are small and describe the platform and runtime that
+ * the other sections depend on, so they are parsed with every request.
+ */
+public class JavaCoreSectionIndex {
+
+	private static final int SCAN_BUFFER_SIZE = 1024 * 1024;
+	private static final int HEAD_SIZE = 256;
+	private static final int MAX_SECTION_NAME_BYTES = 256;
+
+	private static final String[] BASE_SECTIONS = {
+		ITitleTypes.TITLE_SECTION,
+		IPlatformTypes.PLATFORM_SECTION,
+		IEnvironmentTypes.ENVIRONMENT_SECTION,
+	};
+
+	private final File fFile;
+	private final RandomAccessFile fRandomAccessFile;
+	private final FileChannel fChannel;
+	private final IImageBuilderFactory fImageBuilderFactory;
+	private final Charset fCharset;
+
+	/*
+	 * Section name to the list of {start, end} file offsets of each occurrence, in file order.
+	 */
+	private final Map<String, List<long[]>> fSections;
+
+	/*
+	 * Offset of the first section header. Data before it is always passed to the parser.
+	 */
+	private long fFirstSectionOffset;
+
+	/*
+	 * The most recently parsed image and the sections it was built from.
+	 */
+	private Image fImage;
+	private Set<String> fParsedSections;
+
+	/**
+	 * Indexes the sections of the given javacore.
+	 *
+	 * @param file the javacore file
+	 * @param imageBuilderFactory factory for the builders that generate the DTFJ image
+	 * @throws IOException if the file cannot be read
+	 */
+	public JavaCoreSectionIndex(File file, IImageBuilderFactory imageBuilderFactory) throws IOException {
+		fFile = file;
+		fImageBuilderFactory = imageBuilderFactory;
+		fRandomAccessFile = new RandomAccessFile(file, "r");
+		fChannel = fRandomAccessFile.getChannel();
+		fSections = new LinkedHashMap<>();
+		fParsedSections = Collections.emptySet();
+		boolean indexed = false;
+		try {
+			fCharset = detectCharset();
+			indexSections();
+			indexed = true;
+		} finally {
+			if (!indexed) {
+				fRandomAccessFile.close();
+			}
+		}
+	}
+
+	/**
+	 * @return the names of the sections present in the javacore, in file order
+	 */
+	public Set<String> getSectionNames() {
+		return Collections.unmodifiableSet(fSections.keySet());
+	}
+
+	/**
+	 * @param sectionName name of a section, as it appears after the "0SECTION" tag
+	 * @return true if the javacore contains the section
+	 */
+	public boolean hasSection(String sectionName) {
+		return fSections.containsKey(sectionName);
+	}
+
+	/**
+	 * Returns an image containing at least the requested sections. Sections are parsed on the
+	 * first request that needs them; if every requested section has already been parsed the
+	 * previous image is returned without reading the file again.
+	 *
+	 * @param sectionNames names of the sections required, for example "THREADS" and "LOCKS"
+	 * @return the image
+	 * @throws IOException if the javacore cannot be read or parsed
+	 */
+	public synchronized Image getImage(String[] sectionNames) throws IOException {
+		Set<String> required = new TreeSet<>(Arrays.asList(sectionNames));
+		required.retainAll(fSections.keySet());
+		if ((fImage != null) && fParsedSections.containsAll(required)) {
+			return fImage;
+		}
+		/*
+		 * Sections are related to each other (LOCKS refers to THREADS, for example), so parse
+		 * everything requested so far together rather than building disjoint images.
+		 */
+		required.addAll(fParsedSections);
+		for (int i = 0; i < BASE_SECTIONS.length; i++) {
+			if (fSections.containsKey(BASE_SECTIONS[i])) {
+				required.add(BASE_SECTIONS[i]);
+			}
+		}
+		InputStream stream = new SectionRangeInputStream(getRanges(required));
+		try {
+			Image image = new JavaCoreReader(fImageBuilderFactory).generateImage(stream);
+			((JCImage) image).setSource(fFile.toURI());
+			fImage = image;
+			fParsedSections = required;
+		} finally {
+			stream.close();
+		}
+		return fImage;
+	}
+
+	/**
+	 * Releases the underlying file.
+	 *
+	 * @throws IOException
+	 */
+	public void close() throws IOException {
+		fRandomAccessFile.close();
+	}
+
+	/**
+	 * Collects the byte ranges to parse in file order: the preamble before the first section
+	 * followed by every occurrence of each required section.
+	 */
+	private long[] getRanges(Set<String> required) {
+		List<long[]> ranges = new ArrayList<>();
+		if (fFirstSectionOffset > 0) {
+			ranges.add(new long[] {0, fFirstSectionOffset});
+		}
+		for (Map.Entry<String, List<long[]>> entry : fSections.entrySet()) {
+			if (required.contains(entry.getKey())) {
+				ranges.addAll(entry.getValue());
+			}
+		}
+		Collections.sort(ranges, (a, b) -> Long.compare(a[0], b[0]));
+		long[] flattened = new long[ranges.size() * 2];
+		for (int i = 0; i < ranges.size(); i++) {
+			long[] range = ranges.get(i);
+			flattened[2 * i] = range[0];
+			flattened[(2 * i) + 1] = range[1];
+		}
+		return flattened;
+	}
+
+	private Charset detectCharset() throws IOException {
+		byte[] head = new byte[HEAD_SIZE];
+		int length = read(head, 0, HEAD_SIZE, 0);
+		if (length < 0) {
+			length = 0;
+		}
+		ByteArrayInputStream headStream = new ByteArrayInputStream(head, 0, length);
+		Charset cs = new JavaCoreReader(fImageBuilderFactory).getJavaCoreCodePage(headStream);
+		return (cs != null) ? cs : Charset.defaultCharset();
+	}
+
+	/**
+	 * Single pass over the file looking for line-feed followed by the section eye catcher in
+	 * the javacore's encoding. The match is a KMP automaton over raw bytes, so no characters are
+	 * decoded except the names of the sections found.
+	 */
+	private void indexSections() throws IOException {
+		byte[] lineFeed = encode("\n");
+		byte[] eyeCatcher = encode(ICommonTypes.SECTION);
+		byte[] pattern = new byte[lineFeed.length + eyeCatcher.length];
+		System.arraycopy(lineFeed, 0, pattern, 0, lineFeed.length);
+		System.arraycopy(eyeCatcher, 0, pattern, lineFeed.length, eyeCatcher.length);
+		int[] failure = computeFailure(pattern);
+
+		List<Long> sectionStarts = new ArrayList<>();
+		ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+		long position = 0;
+		/* The start of the file behaves as if it followed a line feed. */
+		int matched = lineFeed.length;
+		for (;;) {
+			buffer.clear();
+			int count = fChannel.read(buffer, position);
+			if (count <= 0) {
+				break;
+			}
+			byte[] bytes = buffer.array();
+			for (int i = 0; i < count; i++) {
+				byte b = bytes[i];
+				while ((matched > 0) && (pattern[matched] != b)) {
+					matched = failure[matched - 1];
+				}
+				if (pattern[matched] == b) {
+					matched += 1;
+				}
+				if (matched == pattern.length) {
+					sectionStarts.add(Long.valueOf(position + i + 1 - eyeCatcher.length));
+					matched = failure[matched - 1];
+				}
+			}
+			position += count;
+		}
+
+		long fileLength = position;
+		fFirstSectionOffset = sectionStarts.isEmpty() ? fileLength : sectionStarts.get(0).longValue();
+		for (int i = 0; i < sectionStarts.size(); i++) {
+			long start = sectionStarts.get(i).longValue();
+			long end = (i + 1 < sectionStarts.size()) ? sectionStarts.get(i + 1).longValue() : fileLength;
+			String name = readSectionName(start + eyeCatcher.length, end);
+			List<long[]> occurrences = fSections.get(name);
+			if (occurrences == null) {
+				occurrences = new ArrayList<>();
+				fSections.put(name, occurrences);
+			}
+			occurrences.add(new long[] {start, end});
+		}
+	}
+
+	/**
+	 * Decodes the first word after the eye catcher, which is the section name.
+	 */
+	private String readSectionName(long offset, long end) throws IOException {
+		int length = (int) Math.min(MAX_SECTION_NAME_BYTES, end - offset);
+		byte[] bytes = new byte[Math.max(length, 0)];
+		int count = read(bytes, 0, bytes.length, offset);
+		String line = (count > 0) ? new String(bytes, 0, count, fCharset) : "";
+		line = line.trim();
+		int index = 0;
+		while ((index < line.length()) && !Character.isWhitespace(line.charAt(index))) {
+			index += 1;
+		}
+		return line.substring(0, index);
+	}
+
+	private byte[] encode(String value) {
+		ByteBuffer encoded = fCharset.encode(value);
+		byte[] bytes = new byte[encoded.remaining()];
+		encoded.get(bytes);
+		return bytes;
+	}
+
+	private static int[] computeFailure(byte[] pattern) {
+		int[] failure = new int[pattern.length];
+		int k = 0;
+		for (int i = 1; i < pattern.length; i++) {
+			while ((k > 0) && (pattern[k] != pattern[i])) {
+				k = failure[k - 1];
+			}
+			if (pattern[k] == pattern[i]) {
+				k += 1;
+			}
+			failure[i] = k;
+		}
+		return failure;
+	}
+
+	/**
+	 * Reads up to length bytes at the given file offset, returning fewer only at end of file.
+	 */
+	private int read(byte[] bytes, int offset, int length, long position) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, length);
+		int total = 0;
+		while (buffer.hasRemaining()) {
+			int count = fChannel.read(buffer, position + total);
+			if (count < 0) {
+				break;
+			}
+			total += count;
+		}
+		return (total == 0 && length > 0) ? -1 : total;
+	}
+
+	/**
+	 * Presents a set of file ranges as a single stream. Reads are filled across range boundaries
+	 * because the javacore reader sniffs the encoding from a single initial read.
+	 */
+	private final class SectionRangeInputStream extends InputStream {
+
+		private final long[] fRanges;
+		private int fRange;
+		private long fPosition;
+
+		SectionRangeInputStream(long[] ranges) {
+			fRanges = ranges;
+			fRange = 0;
+			fPosition = (ranges.length > 0) ? ranges[0] : 0;
+		}
+
+		public int read() throws IOException {
+			byte[] single = new byte[1];
+			int count = read(single, 0, 1);
+			return (count == 1) ? (single[0] & 0xFF) : -1;
+		}
+
+		public int read(byte[] b, int off, int len) throws IOException {
+			int total = 0;
+			while ((total < len) && (fRange < fRanges.length)) {
+				long end = fRanges[fRange + 1];
+				if (fPosition >= end) {
+					fRange += 2;
+					if (fRange < fRanges.length) {
+						fPosition = fRanges[fRange];
+					}
+					continue;
+				}
+				int wanted = (int) Math.min(len - total, end - fPosition);
+				int count = JavaCoreSectionIndex.this.read(b, off + total, wanted, fPosition);
+				if (count <= 0) {
+					/* the file has been truncated since it was indexed */
+					fRange = fRanges.length;
+					break;
+				}
+				fPosition += count;
+				total += count;
+			}
+			return ((total == 0) && (len > 0)) ? -1 : total;
+		}
+	}
+}
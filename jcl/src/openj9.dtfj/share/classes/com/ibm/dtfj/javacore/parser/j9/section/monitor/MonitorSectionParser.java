@@ -132,7 +132,7 @@ public class MonitorSectionParser extends SectionParser implements IMonitorTypes
 	}
 
 	static String fixMonitorClassName(String className) {
-		className = className.replaceAll("\\.", "/"); // dot to slash
+		className = className.replace('.', '/'); // dot to slash
 		if (className.endsWith("]")) {
 			// Sov has unusual names for arrays
 			// [B[1] 2d array -> [[B
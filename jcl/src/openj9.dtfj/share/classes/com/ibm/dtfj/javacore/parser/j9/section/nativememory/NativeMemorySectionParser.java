@@ -95,7 +95,7 @@ public class NativeMemorySectionParser extends SectionParser implements INativeM
 
 	private long parseCommaDelimitedLong(String tokenValue)
 	{
-		return Long.parseLong(tokenValue.replaceAll(",", ""));
+		return Long.parseLong(tokenValue.replace(",", ""));
 	}
 
 	/**
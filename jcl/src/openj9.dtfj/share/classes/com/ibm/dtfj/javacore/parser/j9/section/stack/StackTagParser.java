@@ -23,7 +23,6 @@
 package com.ibm.dtfj.javacore.parser.j9.section.stack;
 
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import com.ibm.dtfj.javacore.parser.framework.scanner.IParserToken;
 import com.ibm.dtfj.javacore.parser.framework.tag.ILineRule;
@@ -43,6 +42,8 @@ public class StackTagParser extends TagParser implements
 
 	// E.g. Linux [0x123456]
 	private static final Matcher LINUXADDRESS = CommonPatternMatchers.generateMatcher("\\[0[xX]\\p{XDigit}+\\]");
+	// E.g. Linux routine+0x12 or routine-0x12
+	private static final Matcher OFFSET_SIGN = CommonPatternMatchers.generateMatcher("[+-]");
 	/**
 	 * Initialize parser with rules for lines in the environment (CI) section in
 	 * the javacore
@@ -87,7 +88,7 @@ public class StackTagParser extends TagParser implements
 				if (indexOfLast(LINUXADDRESS) >= 0) {
 					IParserToken token = addAllCharactersAsTokenAndConsumeFirstMatch(STACK_MODULE, CommonPatternMatchers.open_paren);
 					if (token != null) {
-						addAllCharactersAsTokenAndConsumeFirstMatch(STACK_ROUTINE, Pattern.compile("[+-]").matcher(""));
+						addAllCharactersAsTokenAndConsumeFirstMatch(STACK_ROUTINE, OFFSET_SIGN);
 						addPrefixedHexToken(STACK_OFFSET);
 					} else {
 						addAllCharactersAsTokenAndConsumeFirstMatch(STACK_MODULE, CommonPatternMatchers.whitespace);
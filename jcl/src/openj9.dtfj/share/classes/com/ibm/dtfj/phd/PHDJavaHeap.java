@@ -31,7 +31,6 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.NoSuchElementException;
 
 import javax.imageio.stream.ImageInputStream;
@@ -47,6 +46,7 @@ import com.ibm.dtfj.java.JavaObject;
 import com.ibm.dtfj.phd.parser.HeapdumpReader;
 import com.ibm.dtfj.phd.parser.PortableHeapDumpListener;
 import com.ibm.dtfj.phd.util.LongEnumeration;
+import com.ibm.dtfj.utils.collections.LongObjectMap;
 
 /**
  * @author ajohnson
@@ -109,7 +109,7 @@ class PHDJavaHeap implements JavaHeap {
 				int count[] = new int[1];
 				int prev;
 				// Initial chunk
-				Iterator<JavaObject> it = getObjectsViaCache(STEP, count, false).values().iterator();
+				Iterator<JavaObject> it = getObjectsViaCache(STEP, count, false).iterator();
 				public boolean hasNext() {
 					if (it == null) {
 						return false;
@@ -121,7 +121,7 @@ class PHDJavaHeap implements JavaHeap {
 						boolean withRefs = withRefs(prev);
 						prev = count[0];
 						try {
-							it = getObjectsViaCache(STEP, count, withRefs).values().iterator();
+							it = getObjectsViaCache(STEP, count, withRefs).iterator();
 						} catch (IOException e) {
 							return false;
 						}
@@ -149,76 +149,6 @@ class PHDJavaHeap implements JavaHeap {
 		}
 	}
 
-	/**
-	 * Used to index objects from addresses.
-	 * Subclasses of this can be a bit smaller than a Long - perhaps 16 bytes, not 24.
-	 *
-	 */
-	static abstract class AddressKey {
-		abstract long value(PHDJavaHeap jh);
-		/**
-		 * Factory to create an AddressKey
-		 * @param jh The PHDJavaHeap
-		 * @param addr The address to compress
-		 * @return
-		 */
-		static AddressKey getAddress(PHDJavaHeap jh, long addr)
-		{
-			// It is not safe to not compress on creating of HashMap entry key,
-			// but to compress on retrieval as then the key is different and will not match
-			if (jh.runtime.noCompress())
-				throw new IllegalStateException("Unable to compress addresses");
-			int iv = jh.runtime.compressAddress(addr);
-			long addr2 = jh.runtime.expandAddress(iv);
-			if (addr == addr2)
-				return new IntAddressKey(iv);
-			else
-				return new LongAddressKey(addr);
-		}
-	}
-
-	private final static class IntAddressKey extends AddressKey {
-		final int val;
-
-		private IntAddressKey(int v) {
-			val = v;
-		}
-
-		long value(PHDJavaHeap jh) {
-			return jh.runtime.expandAddress(val);
-		}
-
-		public int hashCode() {
-			return val;
-		}
-
-		public boolean equals(Object o) {
-			if (this == o) return true;
-			return o instanceof IntAddressKey && val == ((IntAddressKey)o).val ;
-		}
-	}
-
-	private final static class LongAddressKey extends AddressKey {
-		final long val;
-
-		private LongAddressKey(long v) {
-			val = v;
-		}
-
-		long value(PHDJavaHeap jh) {
-			return val;
-		}
-
-		public int hashCode() {
-			return (int)val^(int)(val>>>32);
-		}
-
-		public boolean equals(Object o) {
-			if (this == o) return true;
-			return o instanceof LongAddressKey && val == ((LongAddressKey)o).val;
-		}
-	}
-
 	/**
 	 * Used to store all objects from part of the heap.
 	 * The actual objects can be discarded if we run out of memory, but the range and details remain
@@ -234,7 +164,7 @@ class PHDJavaHeap implements JavaHeap {
 		/** The number in the heap of the next object after the objects in the chunk. Used to find the next chunk */
 		final int nextIndex;
 		/** The actual JavaObjects, held via a SoftReference to avoid OutOfMemoryErrors */
-		SoftReference<Map<AddressKey,JavaObject>> objects;
+		SoftReference<LongObjectMap<JavaObject>> objects;
 		/** Whether the JavaObjects have references available */
 		boolean withRefs;
 		/** Smallest address - used to find if a JavaObject at a particular address might be in this chunk. */
@@ -249,12 +179,12 @@ class PHDJavaHeap implements JavaHeap {
 		 * @param objs
 		 * @param withRefs
 		 */
-		CacheHeapSegment(int index, int size, int nextIndex, Map<AddressKey,JavaObject> objs, boolean withRefs) {
-			objects = new SoftReference<Map<AddressKey,JavaObject>>(objs);
+		CacheHeapSegment(int index, int size, int nextIndex, LongObjectMap<JavaObject> objs, boolean withRefs) {
+			objects = new SoftReference<LongObjectMap<JavaObject>>(objs);
 			// Find the maximum and minimum addresses
 			long max = Long.MIN_VALUE;
 			long min = Long.MAX_VALUE;
-			for (JavaObject jo : objs.values()) {
+			for (JavaObject jo : objs) {
 				if (jo instanceof CorruptData) continue;
 				long addr = jo.getID().getAddress();
 				max = Math.max(max, addr);
@@ -336,11 +266,11 @@ class PHDJavaHeap implements JavaHeap {
 	 * @return
 	 * @throws IOException
 	 */
-	Map<AddressKey,JavaObject> getObjectsViaCache(final int size, final int next[], boolean withRefs) throws IOException {
+	LongObjectMap<JavaObject> getObjectsViaCache(final int size, final int next[], boolean withRefs) throws IOException {
 		int index = next[0];
 		CacheHeapSegment seg = cache.get(next[0]);
-		SoftReference<Map<AddressKey,JavaObject>> sr;
-		Map<AddressKey,JavaObject> objects;
+		SoftReference<LongObjectMap<JavaObject>> sr;
+		LongObjectMap<JavaObject> objects;
 		// If no chunk, or the chunk data has been cleared, or if the chunk doesn't have references for the JavaObjects
 		// and we need the refs, create the chunk data
 		if (seg == null || (sr = seg.objects) == null || (objects = sr.get()) == null || withRefs && !seg.withRefs) {
@@ -351,7 +281,7 @@ class PHDJavaHeap implements JavaHeap {
 				cache.put(index, seg);
 			} else {
 				// Just replace the soft reference
-				sr = new SoftReference<Map<AddressKey,JavaObject>>(objects);
+				sr = new SoftReference<LongObjectMap<JavaObject>>(objects);
 				seg.objects = sr;
 			}
 		} else {
@@ -386,9 +316,9 @@ class PHDJavaHeap implements JavaHeap {
 	 * @param next Start at object count[0], update count[0] to position after last object in iterator
 	 * @return
 	 */
-	Map<AddressKey,JavaObject> getObjects(final int maxsize, final int next[], final boolean withRefs) throws IOException {
+	LongObjectMap<JavaObject> getObjects(final int maxsize, final int next[], final boolean withRefs) throws IOException {
 		if (LOG) System.err.println("GetObjects "+next[0]+" "+withRefs);
-		final Map<AddressKey,JavaObject> objects = new LinkedHashMap<AddressKey,JavaObject>();
+		final LongObjectMap<JavaObject> objects = new LongObjectMap<JavaObject>();
 		final PHDJavaHeap heap = this;
 		// Size of a reference
 		final int REFSCALE = 1;
@@ -421,7 +351,7 @@ class PHDJavaHeap implements JavaHeap {
 							PHDJavaObject jo = withRefs
 								? b.refs(refs,adjustLen2).length(length-adjustLen2).instanceSize(instanceSize).build()
 								: b.length(length-adjustLen2).instanceSize(instanceSize).build();
-							objects.put(AddressKey.getAddress(PHDJavaHeap.this, address),jo);
+							objects.put(address,jo);
 							next[0] = rdr.where;
 						}
 						if (total >= maxsize) rdr.reader.exitParse();
@@ -442,7 +372,7 @@ class PHDJavaHeap implements JavaHeap {
 							PHDJavaObject jo = withRefs
 								? b.refs(refs, 0).build()
 								: b.build();
-							objects.put(AddressKey.getAddress(PHDJavaHeap.this, address),jo);
+							objects.put(address,jo);
 							next[0] = rdr.where;
 						}
 						if (total >= maxsize) rdr.reader.exitParse();
@@ -457,7 +387,7 @@ class PHDJavaHeap implements JavaHeap {
 						int size = OBJSCALE;
 						total += size;
 						if (total == size || total < maxsize) {
-							objects.put(AddressKey.getAddress(PHDJavaHeap.this, address),
+							objects.put(address,
 							new PHDJavaObject.Builder(heap,address,runtime.findArrayOfType(type),flags,hashCode)
 							.refsAsArray(NOREFS,0).length(length).instanceSize(instanceSize).build());
 							next[0] = rdr.where;
@@ -472,7 +402,7 @@ class PHDJavaHeap implements JavaHeap {
 			if (next[0] == 0 || current[0] != 0 || objects.size() > 0) {
 				// Only add an exception object the first time it happens
 				// Give up if exception occurs between objects
-				objects.put(AddressKey.getAddress(PHDJavaHeap.this, current[0]),new PHDCorruptJavaObject("building object", space.getPointer(current[0]), e));
+				objects.put(current[0],new PHDCorruptJavaObject("building object", space.getPointer(current[0]), e));
 				next[0]++;
 				more = true;
 			} else {
@@ -558,20 +488,20 @@ class PHDJavaHeap implements JavaHeap {
 
 	JavaObject getCachedObjectAtAddress(ImagePointer address, boolean withRefs) throws IOException {
 		for (CacheHeapSegment seg : cache.values()) {
-			SoftReference<Map<AddressKey,JavaObject>>sr = seg.objects;
-			Map<AddressKey,JavaObject>map = sr.get();
-			if (map == null || withRefs && !seg.withRefs && map.get(AddressKey.getAddress(PHDJavaHeap.this, address.getAddress())) != null) {
+			SoftReference<LongObjectMap<JavaObject>> sr = seg.objects;
+			LongObjectMap<JavaObject> map = sr.get();
+			if (map == null || withRefs && !seg.withRefs && map.get(address.getAddress()) != null) {
 				long addr = address.getAddress();
 				if (seg.minAddress <= addr && addr <= seg.maxAddress) {
 					// Possibly here, so refresh the data
 					int next[] = new int[]{seg.index};
 					map = getObjects(seg.maxSize, next, withRefs);
 					seg.withRefs = withRefs;
-					seg.objects = sr = new SoftReference<Map<AddressKey,JavaObject>>(map);
+					seg.objects = sr = new SoftReference<LongObjectMap<JavaObject>>(map);
 				}
 			}
 			if (map != null) {
-				JavaObject jo = map.get(AddressKey.getAddress(PHDJavaHeap.this, address.getAddress()));
+				JavaObject jo = map.get(address.getAddress());
 				if (jo != null) {
 					// Found object
 					return jo;
@@ -607,9 +537,9 @@ class PHDJavaHeap implements JavaHeap {
 	private JavaObject getObjectAtAddress3(ImagePointer address, boolean withRefs) throws IOException {
 			int count[] = new int[1];
 			do {
-				Map<AddressKey, JavaObject> map = getObjectsViaCache(STEP, count, withRefs);
+				LongObjectMap<JavaObject> map = getObjectsViaCache(STEP, count, withRefs);
 				if (map.isEmpty()) break;
-				JavaObject jo = map.get(AddressKey.getAddress(this, address.getAddress()));
+				JavaObject jo = map.get(address.getAddress());
 				if (jo != null) {
 					// Found object
 					return jo;
@@ -0,0 +1,185 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.dtfj.utils.collections;
+
+/**
+ * Open addressing hash table of primitive long keys using linear probing.
+ * Subclasses keep the values in a parallel block indexed by slot.
+ * <p>
+ * A slot holding zero is free, so the key zero is kept outside the table.
+ */
+abstract class LongHashTable {
+	private static final int MIN_CAPACITY = 16;
+
+	/** Returned by {@link #find(long)} when the key is not present. */
+	static final long ABSENT = -1;
+	/** Returned by {@link #find(long)} and {@link #insert(long)} for the zero key. */
+	static final long ZERO_SLOT = -2;
+
+	private SpillableStorage keys;
+	private long mask;
+	private long size;
+	private long threshold;
+	private boolean hasZeroKey;
+
+	LongHashTable(long expectedSize) {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("Negative size: " + expectedSize); //$NON-NLS-1$
+		}
+		long capacity = MIN_CAPACITY;
+		while (capacity - (capacity >>> 2) <= expectedSize) {
+			capacity <<= 1;
+		}
+		keys = allocateKeys(capacity);
+		mask = capacity - 1;
+		threshold = capacity - (capacity >>> 2);
+	}
+
+	private static SpillableStorage allocateKeys(long capacity) {
+		return new SpillableStorage(capacity << 3);
+	}
+
+	/**
+	 * Allocate value storage for the given number of slots.
+	 */
+	abstract SpillableStorage allocateValues(long capacity);
+
+	/**
+	 * Copy the value in slot <code>from</code> of the current value storage into slot
+	 * <code>to</code> of <code>newValues</code>.
+	 */
+	abstract void moveValue(long from, SpillableStorage newValues, long to);
+
+	/**
+	 * Install <code>newValues</code> as the current value storage, releasing the old one.
+	 */
+	abstract void setValues(SpillableStorage newValues);
+
+	private static long mix(long key) {
+		// MurmurHash3 finalizer: addresses are aligned so the low bits alone are poor
+		key ^= key >>> 33;
+		key *= 0xff51afd7ed558ccdL;
+		key ^= key >>> 33;
+		key *= 0xc4ceb9fe1a85ec53L;
+		key ^= key >>> 33;
+		return key;
+	}
+
+	/**
+	 * @return the slot holding <code>key</code>, {@link #ZERO_SLOT} or {@link #ABSENT}
+	 */
+	final long find(long key) {
+		if (key == 0) {
+			return hasZeroKey ? ZERO_SLOT : ABSENT;
+		}
+		for (long slot = mix(key) & mask;; slot = (slot + 1) & mask) {
+			long k = keys.getLong(slot);
+			if (k == key) {
+				return slot;
+			} else if (k == 0) {
+				return ABSENT;
+			}
+		}
+	}
+
+	/**
+	 * Find or claim the slot for <code>key</code>, growing the table if needed.
+	 * The caller must store the value in the returned slot.
+	 * @return the slot or {@link #ZERO_SLOT}
+	 */
+	final long insert(long key) {
+		if (key == 0) {
+			if (!hasZeroKey) {
+				hasZeroKey = true;
+				size += 1;
+			}
+			return ZERO_SLOT;
+		}
+		for (long slot = mix(key) & mask;; slot = (slot + 1) & mask) {
+			long k = keys.getLong(slot);
+			if (k == key) {
+				return slot;
+			} else if (k == 0) {
+				if (size >= threshold) {
+					grow();
+					return insert(key);
+				}
+				keys.putLong(slot, key);
+				size += 1;
+				return slot;
+			}
+		}
+	}
+
+	private void grow() {
+		long oldCapacity = mask + 1;
+		long capacity = oldCapacity << 1;
+		long newMask = capacity - 1;
+		SpillableStorage newKeys = allocateKeys(capacity);
+		SpillableStorage newValues = allocateValues(capacity);
+		for (long from = 0; from < oldCapacity; from++) {
+			long key = keys.getLong(from);
+			if (key != 0) {
+				long to = mix(key) & newMask;
+				while (newKeys.getLong(to) != 0) {
+					to = (to + 1) & newMask;
+				}
+				newKeys.putLong(to, key);
+				moveValue(from, newValues, to);
+			}
+		}
+		keys.release();
+		keys = newKeys;
+		setValues(newValues);
+		mask = newMask;
+		threshold = capacity - (capacity >>> 2);
+	}
+
+	/**
+	 * @return the number of slots, which is the size of the value storage
+	 */
+	final long capacity() {
+		return mask + 1;
+	}
+
+	/**
+	 * @return the number of keys in the table
+	 */
+	public final long size() {
+		return size;
+	}
+
+	/**
+	 * @return true if the table has no keys
+	 */
+	public final boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * @return whether <code>key</code> is in the table
+	 */
+	public final boolean containsKey(long key) {
+		return find(key) != ABSENT;
+	}
+}
@@ -0,0 +1,111 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.dtfj.utils.collections;
+
+/**
+ * Map from primitive long keys, such as addresses or ids, to primitive int values.
+ * <p>
+ * Entries are held in an open addressing table of primitives rather than as boxed
+ * map entries. Once the tables of all maps hold more than <code>com.ibm.dtfj.spillThreshold</code>
+ * bytes of heap, further tables are moved off the Java heap into memory mapped files.
+ * Entries cannot be removed.
+ */
+public final class LongIntMap extends LongHashTable {
+	private final int missingValue;
+	private SpillableStorage values;
+	private int zeroValue;
+
+	/**
+	 * Create an empty map.
+	 * @param missingValue the value returned by {@link #get(long)} for absent keys
+	 */
+	public LongIntMap(int missingValue) {
+		this(0, missingValue);
+	}
+
+	/**
+	 * Create an empty map sized to hold <code>expectedSize</code> entries without growing.
+	 * @param expectedSize the anticipated number of entries
+	 * @param missingValue the value returned by {@link #get(long)} for absent keys
+	 */
+	public LongIntMap(long expectedSize, int missingValue) {
+		super(expectedSize);
+		this.missingValue = missingValue;
+		this.values = allocateValues(capacity());
+	}
+
+	SpillableStorage allocateValues(long capacity) {
+		return new SpillableStorage(capacity << 2);
+	}
+
+	void moveValue(long from, SpillableStorage newValues, long to) {
+		newValues.putInt(to, values.getInt(from));
+	}
+
+	void setValues(SpillableStorage newValues) {
+		values.release();
+		values = newValues;
+	}
+
+	/**
+	 * @return the value for <code>key</code>, or the missing value if there is none
+	 */
+	public int get(long key) {
+		long slot = find(key);
+		if (slot == ABSENT) {
+			return missingValue;
+		} else if (slot == ZERO_SLOT) {
+			return zeroValue;
+		} else {
+			return values.getInt(slot);
+		}
+	}
+
+	/**
+	 * Associate <code>value</code> with <code>key</code>.
+	 * @return the previous value for <code>key</code>, or the missing value if there was none
+	 */
+	public int put(long key, int value) {
+		long slot = find(key);
+		int previous;
+		if (slot == ABSENT) {
+			previous = missingValue;
+			slot = insert(key);
+		} else {
+			previous = (slot == ZERO_SLOT) ? zeroValue : values.getInt(slot);
+		}
+		if (slot == ZERO_SLOT) {
+			zeroValue = value;
+		} else {
+			values.putInt(slot, value);
+		}
+		return previous;
+	}
+
+	/**
+	 * @return the value returned by {@link #get(long)} for absent keys
+	 */
+	public int getMissingValue() {
+		return missingValue;
+	}
+}
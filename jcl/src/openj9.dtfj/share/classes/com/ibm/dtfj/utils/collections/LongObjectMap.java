@@ -0,0 +1,138 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.dtfj.utils.collections;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Insertion ordered map from primitive long keys to objects.
+ * <p>
+ * The keys are indexed by a {@link LongIntMap} giving the position of each value
+ * in a dense array, so each entry costs one array slot plus the primitive index
+ * rather than a boxed key and a map entry. Replacing the value of an existing key
+ * keeps its original position. Entries cannot be removed.
+ * <p>
+ * Only the index can move off the Java heap; the values are object references and
+ * always stay on it.
+ *
+ * @param <V> the type of the values
+ */
+public final class LongObjectMap<V> implements Iterable<V> {
+	private final LongIntMap index;
+	private Object[] values;
+	private int size;
+
+	/**
+	 * Create an empty map.
+	 */
+	public LongObjectMap() {
+		this(0);
+	}
+
+	/**
+	 * Create an empty map sized to hold <code>expectedSize</code> entries without growing.
+	 * @param expectedSize the anticipated number of entries
+	 */
+	public LongObjectMap(int expectedSize) {
+		index = new LongIntMap(expectedSize, -1);
+		values = new Object[Math.max(expectedSize, 8)];
+	}
+
+	/**
+	 * @return the value for <code>key</code>, or null if there is none
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(long key) {
+		int position = index.get(key);
+		return (position < 0) ? null : (V) values[position];
+	}
+
+	/**
+	 * Associate <code>value</code> with <code>key</code>.
+	 * @return the previous value for <code>key</code>, or null if there was none
+	 */
+	@SuppressWarnings("unchecked")
+	public V put(long key, V value) {
+		int position = index.get(key);
+		if (position >= 0) {
+			V previous = (V) values[position];
+			values[position] = value;
+			return previous;
+		}
+		if (size == values.length) {
+			values = Arrays.copyOf(values, size + (size >> 1));
+		}
+		values[size] = value;
+		index.put(key, size);
+		size += 1;
+		return null;
+	}
+
+	/**
+	 * @return whether <code>key</code> is in the map, even if mapped to null
+	 */
+	public boolean containsKey(long key) {
+		return index.containsKey(key);
+	}
+
+	/**
+	 * @return the number of entries
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return true if the map has no entries
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * @return the values in insertion order
+	 */
+	public Iterator<V> iterator() {
+		return new Iterator<V>() {
+			private int next;
+
+			public boolean hasNext() {
+				return next < size;
+			}
+
+			@SuppressWarnings("unchecked")
+			public V next() {
+				if (next >= size) {
+					throw new NoSuchElementException();
+				}
+				return (V) values[next++];
+			}
+
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+}
@@ -0,0 +1,204 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.dtfj.utils.collections;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fixed size block of primitive storage used by the collections in this package.
+ * <p>
+ * The blocks of all tables share a heap budget of <code>com.ibm.dtfj.spillThreshold</code>
+ * bytes (default 64 MB). Once the blocks on the Java heap would exceed it, new blocks of
+ * at least 1 MB are placed in memory mapped temporary files in
+ * <code>com.ibm.dtfj.spillDirectory</code> (default <code>java.io.tmpdir</code>) so that
+ * indexing a very large dump does not exhaust the heap of the analysing JVM. A negative
+ * threshold disables spilling. If the file cannot be created or mapped the block falls
+ * back to the heap.
+ * <p>
+ * The storage is addressed by element index; longs and ints must not be mixed
+ * within one block.
+ */
+final class SpillableStorage {
+	private static final int CHUNK_SHIFT = 30;
+	private static final long CHUNK_SIZE = 1L << CHUNK_SHIFT;
+	private static final int CHUNK_MASK = (int) (CHUNK_SIZE - 1);
+	private static final long DEFAULT_SPILL_THRESHOLD = 64L * 1024 * 1024;
+	/* smaller blocks always stay on the heap: mapping them would cost more than it saves */
+	private static final long MIN_SPILL_SIZE = 1024 * 1024;
+
+	private static final long SPILL_THRESHOLD = getSpillThreshold();
+
+	/* the bytes held by heap blocks which have been neither released nor collected */
+	private static final AtomicLong heapBytes = new AtomicLong();
+	private static final Set<HeapBlock> heapBlocks = ConcurrentHashMap.newKeySet();
+	private static final ReferenceQueue<SpillableStorage> collected = new ReferenceQueue<>();
+
+	/**
+	 * Tracks the size of a heap block until it is released or its storage is collected.
+	 */
+	private static final class HeapBlock extends PhantomReference<SpillableStorage> {
+		final long size;
+
+		HeapBlock(SpillableStorage storage, long size) {
+			super(storage, collected);
+			this.size = size;
+		}
+	}
+
+	private final ByteBuffer[] chunks;
+	private final HeapBlock heapBlock;
+
+	/**
+	 * Allocate zero filled storage, on the heap unless that would exceed the heap budget.
+	 * @param byteLength the size of the block in bytes
+	 */
+	SpillableStorage(long byteLength) {
+		this(byteLength, shouldSpill(byteLength));
+	}
+
+	/**
+	 * Allocate zero filled storage.
+	 * @param byteLength the size of the block in bytes
+	 * @param spill true to try to place the block in a memory mapped file
+	 */
+	SpillableStorage(long byteLength, boolean spill) {
+		int count = (int) ((byteLength + CHUNK_SIZE - 1) >>> CHUNK_SHIFT);
+		ByteBuffer[] buffers = null;
+		if (spill) {
+			buffers = map(byteLength, count);
+		}
+		if (buffers == null) {
+			buffers = new ByteBuffer[Math.max(count, 1)];
+			long remaining = byteLength;
+			for (int i = 0; i < buffers.length; i++) {
+				int size = (int) Math.min(remaining, CHUNK_SIZE);
+				buffers[i] = ByteBuffer.allocate(size).order(ByteOrder.nativeOrder());
+				remaining -= size;
+			}
+			heapBlock = new HeapBlock(this, byteLength);
+			heapBlocks.add(heapBlock);
+			heapBytes.addAndGet(byteLength);
+		} else {
+			heapBlock = null;
+		}
+		chunks = buffers;
+	}
+
+	private static long getSpillThreshold() {
+		String threshold = System.getProperty("com.ibm.dtfj.spillThreshold"); //$NON-NLS-1$
+		if (threshold != null) {
+			try {
+				return Long.parseLong(threshold.trim());
+			} catch (NumberFormatException e) {
+				// use the default
+			}
+		}
+		return DEFAULT_SPILL_THRESHOLD;
+	}
+
+	private static boolean shouldSpill(long byteLength) {
+		if ((SPILL_THRESHOLD < 0) || (byteLength < MIN_SPILL_SIZE)) {
+			return false;
+		}
+		for (Reference<? extends SpillableStorage> ref; (ref = collected.poll()) != null;) {
+			forget((HeapBlock) ref);
+		}
+		return (heapBytes.get() + byteLength) > SPILL_THRESHOLD;
+	}
+
+	private static void forget(HeapBlock block) {
+		if (heapBlocks.remove(block)) {
+			heapBytes.addAndGet(-block.size);
+		}
+	}
+
+	private static ByteBuffer[] map(long byteLength, int count) {
+		String directory = System.getProperty("com.ibm.dtfj.spillDirectory"); //$NON-NLS-1$
+		File file = null;
+		try {
+			file = File.createTempFile("dtfj", ".idx", (directory == null) ? null : new File(directory)); //$NON-NLS-1$ //$NON-NLS-2$
+			try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) { //$NON-NLS-1$
+				raf.setLength(byteLength);
+				FileChannel channel = raf.getChannel();
+				ByteBuffer[] buffers = new ByteBuffer[count];
+				for (int i = 0; i < count; i++) {
+					long position = (long) i << CHUNK_SHIFT;
+					long size = Math.min(byteLength - position, CHUNK_SIZE);
+					buffers[i] = channel.map(FileChannel.MapMode.READ_WRITE, position, size).order(ByteOrder.nativeOrder());
+				}
+				// the mappings remain valid after the channel is closed
+				return buffers;
+			}
+		} catch (IOException | OutOfMemoryError | SecurityException e) {
+			return null;
+		} finally {
+			// the file is only needed while the mappings are alive, so remove it
+			// now where the platform allows that and otherwise on exit
+			if ((file != null) && !file.delete()) {
+				file.deleteOnExit();
+			}
+		}
+	}
+
+	/**
+	 * Called when the block has been replaced, so that its heap space is no longer
+	 * counted against the budget. The block must not be used afterwards.
+	 */
+	void release() {
+		if (heapBlock != null) {
+			heapBlock.clear();
+			forget(heapBlock);
+		}
+	}
+
+	long getLong(long index) {
+		long offset = index << 3;
+		return chunks[(int) (offset >>> CHUNK_SHIFT)].getLong((int) offset & CHUNK_MASK);
+	}
+
+	void putLong(long index, long value) {
+		long offset = index << 3;
+		chunks[(int) (offset >>> CHUNK_SHIFT)].putLong((int) offset & CHUNK_MASK, value);
+	}
+
+	int getInt(long index) {
+		long offset = index << 2;
+		return chunks[(int) (offset >>> CHUNK_SHIFT)].getInt((int) offset & CHUNK_MASK);
+	}
+
+	void putInt(long index, int value) {
+		long offset = index << 2;
+		chunks[(int) (offset >>> CHUNK_SHIFT)].putInt((int) offset & CHUNK_MASK, value);
+	}
+}
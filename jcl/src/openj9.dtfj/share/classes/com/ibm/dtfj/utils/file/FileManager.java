@@ -32,6 +32,7 @@ import java.util.logging.Logger;
 import javax.imageio.stream.ImageInputStream;
 
 import com.ibm.dtfj.image.ImageFactory;
+import com.ibm.j9ddr.corereaders.memory.BlockCompressedImageInputStream;
 
 /**
  * Class which manages the files on the local system.
@@ -127,6 +128,10 @@ public abstract class FileManager {
 			//just log the error and carry on
 			logger.log(Level.FINEST, "Error encountered sampling potential zip file", e);
 		}
+		if(BlockCompressedImageInputStream.isBlockCompressed(file)) {
+			//block compressed cores are read in place rather than being extracted
+			return new SimpleFileManager(file);
+		}
 		if(name.endsWith(".gz")) {
 			return new GZipFileManager(file);
 		}
@@ -143,6 +148,9 @@ public abstract class FileManager {
 			//just log the error and carry on
 			logger.log(Level.FINEST, "Error encountered sampling potential zip file", e);
 		}
+		if(BlockCompressedImageInputStream.isBlockCompressed(file)) {
+			return false;
+		}
 		if(name.endsWith(".gz")) {
 			return true;
 		}
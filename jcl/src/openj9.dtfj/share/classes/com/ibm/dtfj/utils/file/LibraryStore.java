@@ -0,0 +1,156 @@
+/*[INCLUDE-IF JAVA_SPEC_VERSION >= 8]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.dtfj.utils.file;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.AccessController;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivilegedAction;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * A directory of libraries shared between jextract archives, each named by the
+ * SHA-256 hash of its contents.
+ *
+ * When jextract is given a library store, libraries already in the store are
+ * omitted from the archive and listed in its {@value #MANIFEST_NAME} entry,
+ * which has the form:
+ * <pre>
+ * store &lt;absolute path of the library store&gt;
+ * &lt;status&gt; &lt;sha-256&gt; &lt;size&gt; &lt;path&gt;
+ * ...
+ * </pre>
+ * where status is {@value #OMITTED} or {@value #ARCHIVED}. Readers of the archive
+ * find omitted libraries in the store, or in the directory given by the
+ * {@value #LOCATION_PROPERTY} system property if the store has moved.
+ */
+public final class LibraryStore {
+	public static final String MANIFEST_NAME = "library-manifest.txt";
+	public static final String LOCATION_PROPERTY = "com.ibm.dtfj.library.store";
+	public static final String STORE_PREFIX = "store ";
+	public static final String OMITTED = "omitted";
+	public static final String ARCHIVED = "archived";
+
+	private LibraryStore() {
+		super();
+	}
+
+	/**
+	 * Find a library which was omitted from a jextract archive because it was in the library store.
+	 *
+	 * @param zip the archive
+	 * @param path the path of the library when the archive was created
+	 * @return the library in the store, or null if the archive does not list the library as omitted
+	 *         or the store does not hold it
+	 * @throws IOException if the manifest cannot be read
+	 */
+	public static File findLibrary(ZipFile zip, String path) throws IOException {
+		ZipEntry manifest = zip.getEntry(MANIFEST_NAME);
+		if (null == manifest) {
+			return null;
+		}
+		String storePath = null;
+		String hash = null;
+		long size = -1;
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(zip.getInputStream(manifest), StandardCharsets.UTF_8))) {
+			String line;
+			while ((null != (line = reader.readLine())) && (null == hash)) {
+				if (line.startsWith(STORE_PREFIX)) {
+					storePath = line.substring(STORE_PREFIX.length());
+				} else if (line.startsWith(OMITTED + ' ')) {
+					String[] fields = line.split(" ", 4);
+					if ((4 == fields.length) && fields[3].equals(path)) {
+						hash = fields[1];
+						try {
+							size = Long.parseLong(fields[2]);
+						} catch (NumberFormatException e) {
+							throw new IOException("Invalid library size in " + MANIFEST_NAME + ": " + line);
+						}
+					}
+				}
+			}
+		}
+		if (null == hash) {
+			return null;
+		}
+		String location = AccessController.doPrivileged(new PrivilegedAction<String>() {
+			@Override
+			public String run() {
+				return System.getProperty(LOCATION_PROPERTY);
+			}
+		});
+		if (null == location) {
+			location = storePath;
+		}
+		if (null == location) {
+			return null;
+		}
+		File stored = new File(location, hash);
+		if (stored.isFile() && (stored.length() == size)) {
+			return stored;
+		}
+		return null;
+	}
+
+	/**
+	 * Compute the name of a library in the store.
+	 *
+	 * @param file the library
+	 * @return the SHA-256 hash of the contents of the file, in hexadecimal
+	 * @throws IOException if the file cannot be read
+	 */
+	public static String hash(File file) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IOException(e);
+		}
+		byte[] buffer = new byte[32 * 1024];
+		try (InputStream in = new FileInputStream(file)) {
+			for (;;) {
+				int count = in.read(buffer);
+
+				if (count == -1) {
+					break;
+				}
+
+				digest.update(buffer, 0, count);
+			}
+		}
+		StringBuilder hex = new StringBuilder();
+		for (byte b : digest.digest()) {
+			hex.append(Character.forDigit((b >> 4) & 0xF, 16));
+			hex.append(Character.forDigit(b & 0xF, 16));
+		}
+		return hex.toString();
+	}
+}
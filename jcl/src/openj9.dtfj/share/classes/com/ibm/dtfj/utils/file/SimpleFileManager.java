@@ -31,6 +31,8 @@ import java.util.List;
 import javax.imageio.stream.FileImageInputStream;
 import javax.imageio.stream.ImageInputStream;
 
+import com.ibm.j9ddr.corereaders.memory.BlockCompressedImageInputStream;
+
 /**
  * Simple file manager for dealing with files that are intended to be read directly.
  *
@@ -117,6 +119,11 @@ public class SimpleFileManager extends FileManager {
 	}
 
 	public ImageInputStream getStream() throws IOException {
+		if (BlockCompressedImageInputStream.isBlockCompressed(managedFile)) {
+			BlockCompressedImageInputStream stream = new BlockCompressedImageInputStream(managedFile);
+			filesize = stream.length();
+			return stream;
+		}
 		if (managedFile.exists()) {
 			// found it in HFS on z/OS or normally on other platforms
 			filesize = managedFile.length();
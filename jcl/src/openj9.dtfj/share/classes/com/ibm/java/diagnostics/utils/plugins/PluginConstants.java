@@ -54,4 +54,11 @@ public interface PluginConstants {
 	 * classpath and are a later version than those shipped with the SDK e.g. in an OSGi plugin.
 	 */
 	public static final String PACKAGE_FILTER_DISABLE="com.ibm.java.diagnostics.nopackagefilter";
+
+	/**
+	 * The system property which sets the file in which the index of scanned plugin classes is kept
+	 * between runs, so that only new or changed jars and classes need to be scanned. The index is
+	 * not persisted unless this is set to a non-empty value.
+	 */
+	public static final String PLUGIN_INDEX_PROPERTY = "com.ibm.java.diagnostics.plugins.index";
 }
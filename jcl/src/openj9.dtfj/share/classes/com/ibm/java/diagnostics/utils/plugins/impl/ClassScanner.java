@@ -40,6 +40,8 @@ public class ClassScanner extends ClassVisitor {
 
 	private ClassInfo info;
 	private Annotation currentAnnotation = null;
+	private PluginIndex.ClassRecord record = null; // replayable copy of the visited class for the plugin index
+	private PluginIndex.AnnotationRecord currentAnnotationRecord = null;
 	private final URL url; // where the class is being scanned from
 	private final Set<ClassListener> listeners;
 
@@ -60,6 +62,7 @@ public class ClassScanner extends ClassVisitor {
 	@Override
 	public AnnotationVisitor visitAnnotation(String classname, boolean visible) {
 		currentAnnotation = info.addAnnotation(classname);
+		currentAnnotationRecord = record.addAnnotation(classname, visible);
 		for (ClassListener listener : listeners) {
 			listener.visitAnnotation(classname, visible);
 		}
@@ -71,6 +74,7 @@ public class ClassScanner extends ClassVisitor {
 		String dotName = name.replace('/', '.');
 		String dotSuperName = superName.replace('/', '.');
 		info = new ClassInfo(dotName, url);
+		record = new PluginIndex.ClassRecord(version, access, dotName, signature, dotSuperName, interfaces);
 		//record all interfaces supplied by this class
 		for(String iface : interfaces) {
 			info.addInterface(iface);
@@ -119,6 +123,10 @@ public class ClassScanner extends ClassVisitor {
 		return info;
 	}
 
+	PluginIndex.ClassRecord getClassRecord() {
+		return record;
+	}
+
 	class ClassScannerAnnotation extends AnnotationVisitor {
 
 		public ClassScannerAnnotation(int arg0) {
@@ -143,6 +151,7 @@ public class ClassScanner extends ClassVisitor {
 		@Override
 		public void visit(String name, Object value) {
 			currentAnnotation.addEntry(name, value);
+			currentAnnotationRecord.addValue(name, value);
 			for (ClassListener listener : listeners) {
 				listener.visitAnnotationValue(name, value);
 			}
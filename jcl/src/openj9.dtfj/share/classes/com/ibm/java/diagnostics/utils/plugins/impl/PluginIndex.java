@@ -0,0 +1,649 @@
+/*[INCLUDE-IF JAVA_SPEC_VERSION >= 8]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.java.diagnostics.utils.plugins.impl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarInputStream;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+/*[IF JAVA_SPEC_VERSION >= 9]*/
+import java.net.URI;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+/*[ENDIF] JAVA_SPEC_VERSION >= 9 */
+
+import jdk.internal.org.objectweb.asm.ClassReader;
+
+import com.ibm.java.diagnostics.utils.plugins.Annotation;
+import com.ibm.java.diagnostics.utils.plugins.ClassInfo;
+import com.ibm.java.diagnostics.utils.plugins.ClassListener;
+import com.ibm.java.diagnostics.utils.plugins.PluginConstants;
+
+/**
+ * An index of the classes found while scanning for plugins. Each source (a jar file,
+ * a class file or a module) is keyed by its identity, and is recorded together with
+ * its size and modification time so that it is only scanned again when it changes.
+ * The index can be persisted between runs.
+ */
+final class PluginIndex {
+
+	private static final Logger logger = Logger.getLogger(PluginConstants.LOGGER_NAME);
+
+	private static final int MAGIC = 0x4A39504C; // "J9PL"
+	private static final int FORMAT_VERSION = 1;
+
+	/**
+	 * The prefix of the keys used for modules in the runtime image.
+	 */
+	static final String MODULE_KEY_PREFIX = "jrt:/"; //$NON-NLS-1$
+
+	/* tags for the annotation values which can be persisted */
+	private static final byte TAG_STRING = 's';
+	private static final byte TAG_BOOLEAN = 'Z';
+	private static final byte TAG_BYTE = 'B';
+	private static final byte TAG_CHAR = 'C';
+	private static final byte TAG_SHORT = 'S';
+	private static final byte TAG_INT = 'I';
+	private static final byte TAG_LONG = 'J';
+	private static final byte TAG_FLOAT = 'F';
+	private static final byte TAG_DOUBLE = 'D';
+
+	/**
+	 * An annotation on an indexed class, with its values in the order they were visited.
+	 */
+	static final class AnnotationRecord {
+		final String classname;
+		final boolean visible;
+		final List<String> names = new ArrayList<>();
+		final List<Object> values = new ArrayList<>();
+
+		AnnotationRecord(String classname, boolean visible) {
+			this.classname = classname;
+			this.visible = visible;
+		}
+
+		void addValue(String name, Object value) {
+			names.add(name);
+			values.add(value);
+		}
+	}
+
+	/**
+	 * The information recorded for a class. It holds everything the class listeners
+	 * are told about while a class is scanned, so the scan can be replayed to them.
+	 */
+	static final class ClassRecord {
+		final int version;
+		final int access;
+		final String classname;
+		final String signature;
+		final String superName;
+		final String[] interfaces;
+		final List<AnnotationRecord> annotations = new ArrayList<>();
+		String entryName = null; // the name of the class within its source, if any
+		long size = -1;
+		long lastModified = -1;
+
+		ClassRecord(int version, int access, String classname, String signature, String superName, String[] interfaces) {
+			this.version = version;
+			this.access = access;
+			this.classname = classname;
+			this.signature = signature;
+			this.superName = superName;
+			this.interfaces = (interfaces == null) ? new String[0] : interfaces.clone();
+		}
+
+		AnnotationRecord addAnnotation(String annotationClassname, boolean visible) {
+			AnnotationRecord annotation = new AnnotationRecord(annotationClassname, visible);
+			annotations.add(annotation);
+			return annotation;
+		}
+
+		/**
+		 * Create the class information that scanning this class would have produced.
+		 *
+		 * @param url where the class is loaded from
+		 * @return the class information
+		 */
+		ClassInfo toClassInfo(URL url) {
+			ClassInfo info = new ClassInfo(classname, url);
+			for (String iface : interfaces) {
+				info.addInterface(iface);
+			}
+			for (AnnotationRecord record : annotations) {
+				Annotation annotation = info.addAnnotation(record.classname);
+				for (int i = 0; i < record.names.size(); i++) {
+					annotation.addEntry(record.names.get(i), record.values.get(i));
+				}
+			}
+			return info;
+		}
+
+		/**
+		 * Notify the listeners of this class in the same way as when it is scanned.
+		 *
+		 * @param listeners the listeners to notify
+		 */
+		void replay(Set<ClassListener> listeners) {
+			for (ClassListener listener : listeners) {
+				listener.visit(version, access, classname, signature, superName, interfaces);
+			}
+			for (AnnotationRecord annotation : annotations) {
+				for (ClassListener listener : listeners) {
+					listener.visitAnnotation(annotation.classname, annotation.visible);
+				}
+				for (int i = 0; i < annotation.names.size(); i++) {
+					for (ClassListener listener : listeners) {
+						listener.visitAnnotationValue(annotation.names.get(i), annotation.values.get(i));
+					}
+				}
+			}
+		}
+
+		boolean isPersistable() {
+			for (AnnotationRecord annotation : annotations) {
+				for (Object value : annotation.values) {
+					if (getTag(value) == 0) {
+						return false;
+					}
+				}
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * A scanned jar file, class file or module, and the classes found in it.
+	 */
+	static final class Source {
+		final String key;
+		final long size;
+		final long lastModified;
+		final List<ClassRecord> classes;
+
+		Source(String key, long size, long lastModified, List<ClassRecord> classes) {
+			this.key = key;
+			this.size = size;
+			this.lastModified = lastModified;
+			this.classes = classes;
+		}
+
+		boolean isCurrent(long currentSize, long currentLastModified) {
+			if (currentSize < 0) {
+				// the identity of the source is not known, so it must always be scanned
+				return false;
+			}
+			return (size == currentSize) && (lastModified == currentLastModified);
+		}
+	}
+
+	private final Map<String, Source> sources = new ConcurrentHashMap<>();
+	private volatile boolean modified = false;
+
+	/**
+	 * Get the indexed source with the given key if it is still current.
+	 *
+	 * @param key the identity of the source
+	 * @param size the current size of the source
+	 * @param lastModified the current modification time of the source
+	 * @return the indexed source, or null if it has not been indexed or has changed
+	 */
+	Source get(String key, long size, long lastModified) {
+		Source source = sources.get(key);
+		if ((source != null) && source.isCurrent(size, lastModified)) {
+			return source;
+		}
+		return null;
+	}
+
+	void put(Source source) {
+		sources.put(source.key, source);
+		modified = true;
+	}
+
+	boolean isModified() {
+		return modified;
+	}
+
+	/**
+	 * Scan a single class.
+	 *
+	 * @param in the class bytes
+	 * @return the record of the class
+	 * @throws IOException if the class could not be read
+	 */
+	static ClassRecord scanClass(InputStream in) throws IOException {
+		ClassScanner scanner = new ClassScanner(null, Collections.<ClassListener>emptySet());
+		ClassReader cr = new ClassReader(in);
+		cr.accept(scanner, 0);
+		return scanner.getClassRecord();
+	}
+
+	/**
+	 * Scan a class file.
+	 *
+	 * @param file the class file
+	 * @return the indexed source
+	 * @throws IOException if the file could not be read
+	 */
+	static Source scanClassFile(File file) throws IOException {
+		long size = file.length();
+		long lastModified = file.lastModified();
+		ClassRecord record;
+		try (InputStream is = new FileInputStream(file)) {
+			record = scanClass(is);
+		}
+		record.size = size;
+		record.lastModified = lastModified;
+		return new Source(file.getAbsolutePath(), size, lastModified, Collections.singletonList(record));
+	}
+
+	/**
+	 * Scan all classes in a jar file.
+	 *
+	 * @param file the jar file
+	 * @return the indexed source
+	 * @throws IOException if the file could not be read
+	 */
+	static Source scanJarFile(File file) throws IOException {
+		long size = file.length();
+		long lastModified = file.lastModified();
+		List<ClassRecord> classes = new ArrayList<>();
+		try (JarInputStream jin = new JarInputStream(new FileInputStream(file))) {
+			for (;;) {
+				JarEntry jarentry = jin.getNextJarEntry();
+				if (jarentry == null) {
+					break;
+				}
+				String entryName = jarentry.getName();
+				if (jarentry.isDirectory() || !entryName.endsWith(".class")) { //$NON-NLS-1$
+					// skip directories, only interested in classes
+					continue;
+				}
+				long entrySize = jarentry.getSize();
+				if (entrySize > Integer.MAX_VALUE) {
+					logger.fine("Skipping jar entry " + entryName + " as the uncompressed size is > Integer.MAX_VALUE"); //$NON-NLS-1$ //$NON-NLS-2$
+					continue; //skip this entry
+				}
+				// getNextJarEntry correctly positions the stream for sniffing.
+				// Note that sniffing does not close the stream, which is the desired behaviour.
+				ClassRecord record = scanClass(jin);
+				record.entryName = entryName;
+				record.size = entrySize;
+				record.lastModified = jarentry.getTime();
+				classes.add(record);
+			}
+		}
+		return new Source(file.getAbsolutePath(), size, lastModified, classes);
+	}
+
+	/*[IF JAVA_SPEC_VERSION >= 9]*/
+	/**
+	 * Get the file holding the modules of the runtime image, whose size and modification
+	 * time identify the version of the modules.
+	 *
+	 * @return the modules file
+	 */
+	static File getModulesFile() {
+		return new File(new File(System.getProperty("java.home"), "lib"), "modules"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	/**
+	 * Scan all classes of a module, in parallel.
+	 *
+	 * @param moduleName the name of the module
+	 * @param root the directory holding the classes of the module
+	 * @param size the size recorded for the module
+	 * @param lastModified the modification time recorded for the module
+	 * @return the indexed source
+	 * @throws IOException if the module could not be read
+	 */
+	static Source scanModule(String moduleName, Path root, long size, long lastModified) throws IOException {
+		List<Path> classFiles;
+		try (Stream<Path> paths = Files.walk(root)) {
+			classFiles = paths
+					.filter(path -> Files.isRegularFile(path))
+					.filter(path -> path.toString().endsWith(".class") && !path.endsWith("module-info.class")) //$NON-NLS-1$ //$NON-NLS-2$
+					.sorted()
+					.collect(Collectors.toList());
+		}
+		List<ClassRecord> classes = classFiles.parallelStream().map(path -> {
+			try (InputStream is = Files.newInputStream(path)) {
+				ClassRecord record = scanClass(is);
+				record.entryName = root.relativize(path).toString().replace(File.separatorChar, '/');
+				return record;
+			} catch (Exception e) {
+				// log and ignore exception
+				logger.log(Level.FINE, "Error occurred scanning " + path, e); //$NON-NLS-1$
+				return null;
+			}
+		}).filter(record -> record != null).collect(Collectors.toList());
+		return new Source(MODULE_KEY_PREFIX + moduleName, size, lastModified, classes);
+	}
+
+	/**
+	 * Scan all classes of a module in the runtime image.
+	 *
+	 * @param moduleName the name of the module
+	 * @return the indexed source
+	 * @throws IOException if the module could not be read
+	 */
+	static Source scanModule(String moduleName) throws IOException {
+		@SuppressWarnings("resource") // we explicitly do not want to close the file-system
+		FileSystem fs = FileSystems.getFileSystem(URI.create("jrt:/")); //$NON-NLS-1$
+		File modules = getModulesFile();
+		return scanModule(moduleName, fs.getPath("modules", moduleName), modules.length(), modules.lastModified()); //$NON-NLS-1$
+	}
+	/*[ENDIF] JAVA_SPEC_VERSION >= 9 */
+
+	static byte getTag(Object value) {
+		if (value instanceof String) {
+			return TAG_STRING;
+		} else if (value instanceof Boolean) {
+			return TAG_BOOLEAN;
+		} else if (value instanceof Byte) {
+			return TAG_BYTE;
+		} else if (value instanceof Character) {
+			return TAG_CHAR;
+		} else if (value instanceof Short) {
+			return TAG_SHORT;
+		} else if (value instanceof Integer) {
+			return TAG_INT;
+		} else if (value instanceof Long) {
+			return TAG_LONG;
+		} else if (value instanceof Float) {
+			return TAG_FLOAT;
+		} else if (value instanceof Double) {
+			return TAG_DOUBLE;
+		} else {
+			// e.g. class literals, which are not persisted
+			return 0;
+		}
+	}
+
+	/**
+	 * Load the index, adding to or replacing any sources already present.
+	 *
+	 * @param in the stream to read the index from
+	 * @throws IOException if the index could not be read or is not valid
+	 */
+	void load(InputStream in) throws IOException {
+		DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+		if ((data.readInt() != MAGIC) || (data.readInt() != FORMAT_VERSION)) {
+			throw new IOException("Unrecognised plugin index format"); //$NON-NLS-1$
+		}
+		int sourceCount = data.readInt();
+		List<Source> loaded = new ArrayList<>(sourceCount);
+		for (int i = 0; i < sourceCount; i++) {
+			String key = data.readUTF();
+			long size = data.readLong();
+			long lastModified = data.readLong();
+			int classCount = data.readInt();
+			List<ClassRecord> classes = new ArrayList<>(classCount);
+			for (int j = 0; j < classCount; j++) {
+				classes.add(readClass(data));
+			}
+			loaded.add(new Source(key, size, lastModified, classes));
+		}
+		// only add the sources once the whole index has been read successfully
+		for (Source source : loaded) {
+			sources.put(source.key, source);
+		}
+	}
+
+	/**
+	 * Load the index from a file. A missing or invalid file is ignored.
+	 *
+	 * @param file the file to read
+	 */
+	void load(File file) {
+		if (!file.isFile()) {
+			return;
+		}
+		try (InputStream in = new FileInputStream(file)) {
+			load(in);
+			logger.fine("Loaded plugin index " + file.getAbsolutePath()); //$NON-NLS-1$
+		} catch (IOException e) {
+			logger.log(Level.FINE, "Error reading plugin index " + file.getAbsolutePath(), e); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Write the index. Sources containing annotation values which cannot be persisted are
+	 * left out, and so are files which no longer exist.
+	 *
+	 * @param out the stream to write the index to
+	 * @throws IOException if the index could not be written
+	 */
+	void store(OutputStream out) throws IOException {
+		List<Source> persisted = new ArrayList<>();
+		for (Source source : sources.values()) {
+			if (!source.key.startsWith(MODULE_KEY_PREFIX) && !new File(source.key).exists()) {
+				continue;
+			}
+			boolean persistable = true;
+			for (ClassRecord record : source.classes) {
+				persistable &= record.isPersistable();
+			}
+			if (persistable) {
+				persisted.add(source);
+			}
+		}
+		DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+		data.writeInt(MAGIC);
+		data.writeInt(FORMAT_VERSION);
+		data.writeInt(persisted.size());
+		for (Source source : persisted) {
+			data.writeUTF(source.key);
+			data.writeLong(source.size);
+			data.writeLong(source.lastModified);
+			data.writeInt(source.classes.size());
+			for (ClassRecord record : source.classes) {
+				writeClass(data, record);
+			}
+		}
+		data.flush();
+	}
+
+	/**
+	 * Write the index to a file. The index is written to a temporary file first, so that
+	 * concurrent readers never see a partially written index.
+	 *
+	 * @param file the file to write
+	 */
+	void store(File file) {
+		File dir = file.getAbsoluteFile().getParentFile();
+		if ((dir != null) && !dir.isDirectory() && !dir.mkdirs()) {
+			logger.fine("Unable to create the directory for the plugin index " + file.getAbsolutePath()); //$NON-NLS-1$
+			return;
+		}
+		File temp = null;
+		try {
+			temp = File.createTempFile(file.getName(), ".tmp", dir); //$NON-NLS-1$
+			try (OutputStream out = new FileOutputStream(temp)) {
+				store(out);
+			}
+			if (!temp.renameTo(file)) {
+				// the rename can fail if the target exists on some platforms
+				file.delete();
+				if (!temp.renameTo(file)) {
+					throw new IOException("Unable to rename " + temp.getAbsolutePath()); //$NON-NLS-1$
+				}
+			}
+			temp = null;
+			modified = false;
+			logger.fine("Saved plugin index " + file.getAbsolutePath()); //$NON-NLS-1$
+		} catch (IOException e) {
+			logger.log(Level.FINE, "Error writing plugin index " + file.getAbsolutePath(), e); //$NON-NLS-1$
+		} finally {
+			if (temp != null) {
+				temp.delete();
+			}
+		}
+	}
+
+	private static String readString(DataInputStream data) throws IOException {
+		return data.readBoolean() ? data.readUTF() : null;
+	}
+
+	private static void writeString(DataOutputStream data, String value) throws IOException {
+		data.writeBoolean(value != null);
+		if (value != null) {
+			data.writeUTF(value);
+		}
+	}
+
+	private static ClassRecord readClass(DataInputStream data) throws IOException {
+		int version = data.readInt();
+		int access = data.readInt();
+		String classname = data.readUTF();
+		String signature = readString(data);
+		String superName = readString(data);
+		String[] interfaces = new String[data.readInt()];
+		for (int i = 0; i < interfaces.length; i++) {
+			interfaces[i] = data.readUTF();
+		}
+		ClassRecord record = new ClassRecord(version, access, classname, signature, superName, interfaces);
+		record.entryName = readString(data);
+		record.size = data.readLong();
+		record.lastModified = data.readLong();
+		int annotationCount = data.readInt();
+		for (int i = 0; i < annotationCount; i++) {
+			AnnotationRecord annotation = record.addAnnotation(data.readUTF(), data.readBoolean());
+			int valueCount = data.readInt();
+			for (int j = 0; j < valueCount; j++) {
+				annotation.addValue(data.readUTF(), readValue(data));
+			}
+		}
+		return record;
+	}
+
+	private static void writeClass(DataOutputStream data, ClassRecord record) throws IOException {
+		data.writeInt(record.version);
+		data.writeInt(record.access);
+		data.writeUTF(record.classname);
+		writeString(data, record.signature);
+		writeString(data, record.superName);
+		data.writeInt(record.interfaces.length);
+		for (String iface : record.interfaces) {
+			data.writeUTF(iface);
+		}
+		writeString(data, record.entryName);
+		data.writeLong(record.size);
+		data.writeLong(record.lastModified);
+		data.writeInt(record.annotations.size());
+		for (AnnotationRecord annotation : record.annotations) {
+			data.writeUTF(annotation.classname);
+			data.writeBoolean(annotation.visible);
+			data.writeInt(annotation.names.size());
+			for (int i = 0; i < annotation.names.size(); i++) {
+				data.writeUTF(annotation.names.get(i));
+				writeValue(data, annotation.values.get(i));
+			}
+		}
+	}
+
+	private static Object readValue(DataInputStream data) throws IOException {
+		byte tag = data.readByte();
+		switch (tag) {
+		case TAG_STRING:
+			return data.readUTF();
+		case TAG_BOOLEAN:
+			return Boolean.valueOf(data.readBoolean());
+		case TAG_BYTE:
+			return Byte.valueOf(data.readByte());
+		case TAG_CHAR:
+			return Character.valueOf(data.readChar());
+		case TAG_SHORT:
+			return Short.valueOf(data.readShort());
+		case TAG_INT:
+			return Integer.valueOf(data.readInt());
+		case TAG_LONG:
+			return Long.valueOf(data.readLong());
+		case TAG_FLOAT:
+			return Float.valueOf(data.readFloat());
+		case TAG_DOUBLE:
+			return Double.valueOf(data.readDouble());
+		default:
+			throw new IOException("Unrecognised annotation value tag " + tag); //$NON-NLS-1$
+		}
+	}
+
+	private static void writeValue(DataOutputStream data, Object value) throws IOException {
+		byte tag = getTag(value);
+		data.writeByte(tag);
+		switch (tag) {
+		case TAG_STRING:
+			data.writeUTF((String) value);
+			break;
+		case TAG_BOOLEAN:
+			data.writeBoolean(((Boolean) value).booleanValue());
+			break;
+		case TAG_BYTE:
+			data.writeByte(((Byte) value).byteValue());
+			break;
+		case TAG_CHAR:
+			data.writeChar(((Character) value).charValue());
+			break;
+		case TAG_SHORT:
+			data.writeShort(((Short) value).shortValue());
+			break;
+		case TAG_INT:
+			data.writeInt(((Integer) value).intValue());
+			break;
+		case TAG_LONG:
+			data.writeLong(((Long) value).longValue());
+			break;
+		case TAG_FLOAT:
+			data.writeFloat(((Float) value).floatValue());
+			break;
+		case TAG_DOUBLE:
+			data.writeDouble(((Double) value).doubleValue());
+			break;
+		default:
+			throw new IOException("Annotation value cannot be persisted: " + value); //$NON-NLS-1$
+		}
+	}
+
+}
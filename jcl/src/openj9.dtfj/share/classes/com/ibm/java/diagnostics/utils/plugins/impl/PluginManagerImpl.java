@@ -23,28 +23,18 @@
 package com.ibm.java.diagnostics.utils.plugins.impl;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.jar.JarEntry;
-import java.util.jar.JarInputStream;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 /*[IF JAVA_SPEC_VERSION >= 9]*/
 import java.net.URI;
-import java.nio.file.FileSystem;
-import java.nio.file.FileSystems;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.util.stream.Stream;
 /*[ENDIF] JAVA_SPEC_VERSION >= 9 */
 
-import jdk.internal.org.objectweb.asm.ClassReader;
-
 import com.ibm.java.diagnostics.utils.commands.CommandException;
 import com.ibm.java.diagnostics.utils.plugins.ClassInfo;
 import com.ibm.java.diagnostics.utils.plugins.ClassListener;
@@ -81,6 +71,11 @@ public class PluginManagerImpl implements PluginManager {
 
 	private URL[] classpath = null;
 
+	/**
+	 * the index of scanned jar files, class files and modules, loaded on first use
+	 */
+	private PluginIndex index = null;
+
 	public static PluginManager getPluginManager() {
 		if (instance == null) {
 			instance = new PluginManagerImpl();
@@ -141,12 +136,17 @@ public class PluginManagerImpl implements PluginManager {
 	 * Scan the supplied plugin path to find classes set by the plugin search path and then
 	 * examine the classes to see if any of the correct interfaces and annotations are supported.
 	 *
+	 * Files and modules are looked up in the plugin index first; only those which are new or
+	 * have changed since they were indexed are scanned, in parallel, and the index is then
+	 * saved for the next run.
+	 *
 	 * This method does not support MVS on z/OS, the path needs to point to HFS locations
 	 */
 	@Override
 	public void scanForClassFiles() throws CommandException {
 		synchronized (pluginSearchPath) {
 			classpath = null; // reset the URL classpath
+			List<File> files = new ArrayList<>();
 			for (File file : pluginSearchPath) { // a path entry can be null if the URI was malformed
 				logger.fine("Scanning path " + file + " in search of plugins"); //$NON-NLS-1$ //$NON-NLS-2$
 				if (!file.exists()) {
@@ -155,56 +155,94 @@ public class PluginManagerImpl implements PluginManager {
 					continue;
 				}
 				if (file.isDirectory()) {
-					scanDirectory(file);
+					listDirectory(file, files);
 				} else {
-					scanFile(file);
+					files.add(file);
 				}
 			}
 
+			PluginIndex pluginIndex = getIndex();
+			// bring the index up to date in parallel, then notify the listeners in search path order
+			files.parallelStream().forEach(file -> indexFile(pluginIndex, file));
+			for (File file : files) {
+				scanFile(file);
+			}
+
 			/*[IF JAVA_SPEC_VERSION >= 9]*/
 			scanModule("openj9.dtfj"); //$NON-NLS-1$
 			scanModule("openj9.dtfjview"); //$NON-NLS-1$
 			/*[ENDIF] JAVA_SPEC_VERSION >= 9 */
+
+			if (pluginIndex.isModified()) {
+				File indexFile = getIndexFile();
+				if (indexFile != null) {
+					pluginIndex.store(indexFile);
+				}
+			}
 		}
 	}
 
-	/*[IF JAVA_SPEC_VERSION >= 9]*/
-	private void scanModule(String moduleName) {
-		@SuppressWarnings("resource") // we explicitly do not want to close the file-system
-		FileSystem fs = FileSystems.getFileSystem(URI.create("jrt:/")); //$NON-NLS-1$
-		Path path = fs.getPath("modules/" + moduleName); //$NON-NLS-1$
+	/**
+	 * Returns the file in which the plugin index is persisted. This is set by the
+	 * system property {@value PluginConstants#PLUGIN_INDEX_PROPERTY}; by default the
+	 * index is only kept for the lifetime of the plugin manager.
+	 *
+	 * @return the index file, or null if the index is not to be persisted
+	 */
+	private static File getIndexFile() {
+		String property = System.getProperty(PluginConstants.PLUGIN_INDEX_PROPERTY);
+		if (null == property) {
+			return null;
+		}
+		property = stripQuotesFromPath(property.trim());
+		return property.isEmpty() ? null : new File(property);
+	}
 
-		logger.fine(String.format("Scanning path %s in search of plugins", path)); //$NON-NLS-1$
-		listClassFiles(path);
+	private PluginIndex getIndex() {
+		if (index == null) {
+			index = new PluginIndex();
+			File indexFile = getIndexFile();
+			if (indexFile != null) {
+				index.load(indexFile);
+			}
+		}
+		return index;
 	}
 
-	void listClassFiles(Path path) {
-		try (Stream<Path> paths = Files.list(path).filter(filePath -> !filePath.endsWith("module-info.class"))) { //$NON-NLS-1$
-			paths.forEach(filePath -> {
-				if (Files.isRegularFile(filePath)) {
-					try {
-						URL fileUrl = filePath.toUri().toURL();
-						if (fileUrl.getPath().endsWith(".class")) { //$NON-NLS-1$
-							try (InputStream is = Files.newInputStream(filePath)) {
-								Entry entry = examineClassFile(is, fileUrl);
-								if (entry != null) {
-									for (ClassListener listener : listeners) {
-										listener.scanComplete(entry);
-									}
-								}
-							}
-						}
-					} catch (Exception e) {
-						// log and ignore exception
-						logger.log(Level.FINE, "Error occurred scanning " + filePath, e); //$NON-NLS-1$
-					}
-				} else if (Files.isDirectory(filePath)) {
-					listClassFiles(filePath);
+	/*[IF JAVA_SPEC_VERSION >= 9]*/
+	private void scanModule(String moduleName) {
+		PluginIndex pluginIndex = getIndex();
+		String key = PluginIndex.MODULE_KEY_PREFIX + moduleName;
+		// the modules file identifies the version of the runtime image
+		File modules = PluginIndex.getModulesFile();
+		long size = modules.isFile() ? modules.length() : -1;
+		PluginIndex.Source source = pluginIndex.get(key, size, modules.lastModified());
+
+		if (source == null) {
+			logger.fine(String.format("Scanning module %s in search of plugins", moduleName)); //$NON-NLS-1$
+			try {
+				source = PluginIndex.scanModule(moduleName);
+			} catch (IOException e) {
+				// log and ignore exception
+				logger.log(Level.FINE, "Error occurred scanning module " + moduleName, e); //$NON-NLS-1$
+				return;
+			}
+			pluginIndex.put(source);
+		}
+		for (PluginIndex.ClassRecord record : source.classes) {
+			try {
+				URL url = URI.create(PluginIndex.MODULE_KEY_PREFIX + moduleName + "/" + record.entryName).toURL(); //$NON-NLS-1$
+				Entry entry = new Entry(record.classname, null);
+				cache.addEntry(entry);
+				record.replay(listeners);
+				entry.setData(record.toClassInfo(url));
+				for (ClassListener listener : listeners) {
+					listener.scanComplete(entry);
 				}
-			});
-		} catch (IOException e) {
-			// log and ignore exception
-			logger.log(Level.FINE, "Error occurred scanning " + path, e); //$NON-NLS-1$
+			} catch (Exception e) {
+				// log and ignore exception
+				logger.log(Level.FINE, "Error occurred scanning " + record.entryName, e); //$NON-NLS-1$
+			}
 		}
 	}
 	/*[ENDIF] JAVA_SPEC_VERSION >= 9 */
@@ -220,14 +258,16 @@ public class PluginManagerImpl implements PluginManager {
 		return (T) cache.getEntry(file);
 	}
 
-	private void scanDirectory(File dir) {
+	private static void listDirectory(File dir, List<File> files) {
 		logger.fine("Scanning directory " + dir.getAbsolutePath()); //$NON-NLS-1$
-		File[] files = dir.listFiles();
-		for (File file : files) {
-			if (file.isDirectory()) {
-				scanDirectory(file);
-			} else {
-				scanFile(file);
+		File[] children = dir.listFiles();
+		if (children != null) {
+			for (File file : children) {
+				if (file.isDirectory()) {
+					listDirectory(file, files);
+				} else {
+					files.add(file);
+				}
 			}
 		}
 	}
@@ -247,6 +287,42 @@ public class PluginManagerImpl implements PluginManager {
 		}
 	}
 
+	/**
+	 * Returns the indexed contents of a jar or class file, scanning the file if it is
+	 * new or has changed since it was indexed. This is safe to call concurrently.
+	 *
+	 * @param pluginIndex the index to use
+	 * @param file the file to look up
+	 * @return the indexed contents, or null if the file is not a candidate for plugins or could not be read
+	 */
+	private static PluginIndex.Source indexFile(PluginIndex pluginIndex, File file) {
+		String ext = getExtension(file);
+		boolean isJar = ext.equals(Entry.FILE_EXT_JAR);
+		if (isJar) {
+			if (file.getName().equalsIgnoreCase("dtfj.jar")) { //$NON-NLS-1$
+				// mask out dtfj.jar as this will cause potentially horrible circular class references
+				return null;
+			}
+		} else if (ext.equals(Entry.FILE_EXT_CLASS)) {
+			if (file.length() > Integer.MAX_VALUE) {
+				logger.fine("Skipping file " + file.getAbsolutePath() + " as the file size is > Integer.MAX_VALUE"); //$NON-NLS-1$ //$NON-NLS-2$
+				return null; // skip this file
+			}
+		} else {
+			return null;
+		}
+		PluginIndex.Source source = pluginIndex.get(file.getAbsolutePath(), file.length(), file.lastModified());
+		if (source == null) {
+			try {
+				source = isJar ? PluginIndex.scanJarFile(file) : PluginIndex.scanClassFile(file);
+				pluginIndex.put(source);
+			} catch (IOException e) {
+				logger.log(Level.FINE, "Error reading from file " + file.getAbsolutePath(), e); //$NON-NLS-1$
+			}
+		}
+		return source;
+	}
+
 	/**
 	 * Scans a file and determines if it can be loaded
 	 * @param file
@@ -272,23 +348,25 @@ public class PluginManagerImpl implements PluginManager {
 	}
 
 	private Entry examineClassFile(File file) {
-		if (file.length() > Integer.MAX_VALUE) {
-			logger.fine("Skipping file " + file.getAbsolutePath() + " as the file size is > Integer.MAX_VALUE"); //$NON-NLS-1$ //$NON-NLS-2$
-			return null; // skip this file
-		}
 		// check to see if the class has been scanned or it's changed
 		Entry entry = getEntry(file);
 		if ((entry == null) || (entry.getData() == null) || entry.hasChanged(file)) {
-			// it hasn't so scan it
-			try (InputStream is = new FileInputStream(file)) {
-				ClassInfo info = scanClassFile(is, file.toURI().toURL());
+			// it hasn't so look it up in the index
+			PluginIndex.Source source = indexFile(getIndex(), file);
+			if ((source == null) || source.classes.isEmpty()) {
+				return entry;
+			}
+			try {
+				PluginIndex.ClassRecord record = source.classes.get(0);
+				URL url = file.toURI().toURL();
+				record.replay(listeners);
 				if (entry == null) {
-					entry = new Entry(info.getClassname(), file);
+					entry = new Entry(record.classname, file);
 					cache.addEntry(entry);
 				}
-				entry.setData(info);
-				entry.setSize(file.length());
-				entry.setLastModified(file.lastModified());
+				entry.setData(record.toClassInfo(url));
+				entry.setSize(source.size);
+				entry.setLastModified(source.lastModified);
 			} catch (IOException e) {
 				logger.log(Level.FINE, e.getMessage());
 			}
@@ -296,30 +374,8 @@ public class PluginManagerImpl implements PluginManager {
 		return entry;
 	}
 
-	/*[IF JAVA_SPEC_VERSION >= 9]*/
-	private Entry examineClassFile(InputStream is, URL url) {
-		Entry entry = null;
-		try {
-			ClassInfo info = scanClassFile(is, url);
-			entry = new Entry(info.getClassname(), null);
-			cache.addEntry(entry);
-			entry.setData(info);
-		} catch (IOException e) {
-			logger.log(Level.FINE, e.getMessage());
-		}
-		return entry;
-	}
-	/*[ENDIF] JAVA_SPEC_VERSION >= 9 */
-
-	private ClassInfo scanClassFile(InputStream file, URL url) throws IOException {
-		ClassScanner scanner = new ClassScanner(url, listeners);
-		ClassReader cr = new ClassReader(file);
-		cr.accept(scanner, 0);
-		return scanner.getClassInfo();
-	}
-
 	/**
-	 * Scans all classes in the specified jar file
+	 * Adds all classes in the specified jar file
 	 * @param file
 	 */
 	private Entry examineJarFile(File file) {
@@ -332,33 +388,20 @@ public class PluginManagerImpl implements PluginManager {
 			cache.addEntry(root);
 		}
 		if ((root.getData() == null) || root.hasChanged(file)) {
-			try (JarInputStream jin = new JarInputStream(new FileInputStream(file))) {
-				for (;;) {
-					JarEntry jarentry = jin.getNextJarEntry();
-					if (jarentry == null) {
-						break;
-					}
-					String entryName = jarentry.getName();
-					if (jarentry.isDirectory() || !entryName.endsWith(".class")) { //$NON-NLS-1$
-						// skip directories, only interested in classes
-						continue;
-					}
-					long entrySize = jarentry.getSize();
-					if (entrySize > Integer.MAX_VALUE) {
-						logger.fine("Skipping jar entry " + entryName + " as the uncompressed size is > Integer.MAX_VALUE"); //$NON-NLS-1$ //$NON-NLS-2$
-						continue; //skip this entry
-					}
-					// getNextJarEntry correctly positions the stream for sniffing.
-					// Note that sniffing does not close the stream, which is the desired behaviour.
-					Entry entry = new Entry(entryName);
-					ClassInfo info = scanClassFile(jin, entry.toURL());
-					entry.setData(info);
-					entry.setSize(entrySize);
-					entry.setLastModified(jarentry.getTime());
+			PluginIndex.Source source = indexFile(getIndex(), file);
+			// replace any entries from an earlier version of the jar
+			root.getEntries().clear();
+			if (source != null) {
+				for (PluginIndex.ClassRecord record : source.classes) {
+					Entry entry = new Entry(record.entryName);
 					root.addEntry(entry);
+					record.replay(listeners);
+					entry.setData(record.toClassInfo(entry.toURL()));
+					entry.setSize(record.size);
+					entry.setLastModified(record.lastModified);
 				}
-			} catch (IOException e) {
-				logger.log(Level.FINE, "Error reading from file " + file.getAbsolutePath(), e); //$NON-NLS-1$
+				root.setSize(source.size);
+				root.setLastModified(source.lastModified);
 			}
 			// doesn't matter what the root data is set to, it acts as a marker
 			// to indicate that the jar file has been scanned
@@ -22,7 +22,9 @@
  */
 package com.ibm.jvm.j9.dump.extract;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -40,14 +42,14 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
+import java.util.zip.Deflater;
 
 import com.ibm.dtfj.addressspace.IAbstractAddressSpace;
 import com.ibm.dtfj.corereaders.Builder;
 import com.ibm.dtfj.corereaders.ClosingFileReader;
 import com.ibm.dtfj.corereaders.DumpFactory;
 import com.ibm.dtfj.corereaders.ICoreFileReader;
+import com.ibm.dtfj.utils.file.LibraryStore;
 
 public class Main {
 
@@ -248,12 +250,15 @@ public class Main {
 
 	private static final String J9_LIB_NAME = "j9jextract"; //$NON-NLS-1$
 
-	/* This is the buffer size used when copying files into the ZIP stream.
-	 * Making it bigger should improve performance on z/OS and there is only
-	 * one instance of this, anyway.
+	/* This is the buffer size used when copying files.
+	 * Making it bigger should improve performance on z/OS.
 	 */
 	private static final int ZIP_BUFFER_SIZE = 8 * 4096;
 
+	/* Files are compressed in chunks of this size, in parallel.
+	 */
+	private static final int ZIP_CHUNK_SIZE = 4 * 1024 * 1024;
+
 	// return codes
 	private static int JEXTRACT_SUCCESS = 0;
 	private static int JEXTRACT_SYNTAX_ERROR = 1;
@@ -282,6 +287,8 @@ public class Main {
 	private final ICoreFileReader _dump;
 	private final String _dumpName;
 	private final boolean _excludeCoreFile;
+	private final File _libraryStore;
+	private final int _threads;
 	private final boolean _throwExceptions;
 	private final boolean _verbose;
 	private final String _zipFileName;
@@ -299,8 +306,10 @@ public class Main {
 		report("    -e                  throw exceptions instead of calling System.exit()"); //$NON-NLS-1$
 		report("    -f executable_name  override executable name"); //$NON-NLS-1$
 		report("    -help               print this usage message"); //$NON-NLS-1$
+		report("    -l directory        share libraries with other archives through a store in directory"); //$NON-NLS-1$
 		report("    -p prefix           prefix for all paths (absolute or relative)"); //$NON-NLS-1$
 		report("    -r                  relax version checking"); //$NON-NLS-1$
+		report("    -t threads          number of threads used to compress (default: number of processors)"); //$NON-NLS-1$
 		report("    -v                  enable verbose output"); //$NON-NLS-1$
 		report("    -x                  exclude dump_name from output file"); //$NON-NLS-1$
 		report("    --                  mark end of options"); //$NON-NLS-1$
@@ -338,7 +347,9 @@ public class Main {
 		String dumpName = null;
 		boolean excludeCoreFile = false;
 		boolean ignoreOptions = false;
+		File libraryStore = null;
 		String outputName = null;
+		int threads = Runtime.getRuntime().availableProcessors();
 		boolean throwExceptions = false;
 		boolean verbose = false;
 		File virtualRootDirectory = null;
@@ -375,6 +386,27 @@ public class Main {
 					ensure(file.exists() && file.canRead() && file.isDirectory(),
 							"Virtual directory specified using -p option (\"" + arg + "\") does not exist as a readable directory."); //$NON-NLS-1$ //$NON-NLS-2$
 					virtualRootDirectory = new File(arg);
+				} else if ("-l".equals(arg)) { //$NON-NLS-1$
+					// The next argument is the directory of the library store
+					i += 1;
+					ensure(i < args.length && !args[i].startsWith("-"), //$NON-NLS-1$
+							"Syntax error: -l option specified but no library store directory given"); //$NON-NLS-1$
+					arg = args[i];
+					File file = new File(arg);
+					ensure((file.isDirectory() || file.mkdirs()) && file.canWrite(),
+							"Library store specified using -l option (\"" + arg + "\") is not a writable directory."); //$NON-NLS-1$ //$NON-NLS-2$
+					libraryStore = file;
+				} else if ("-t".equals(arg)) { //$NON-NLS-1$
+					// The next argument is the number of threads used to compress
+					i += 1;
+					ensure(i < args.length, "Syntax error: -t option specified but no number of threads given"); //$NON-NLS-1$
+					arg = args[i];
+					try {
+						threads = Integer.parseInt(arg);
+					} catch (NumberFormatException e) {
+						threads = 0;
+					}
+					ensure(threads > 0, "Number of threads specified using -t option (\"" + arg + "\") is not a positive number."); //$NON-NLS-1$ //$NON-NLS-2$
 				} else if (arg.equals("-v")) { //$NON-NLS-1$
 					verbose = true;
 				} else if (arg.equals("-e")) { //$NON-NLS-1$
@@ -403,6 +435,8 @@ public class Main {
 		_verbose = verbose;
 		_throwExceptions = throwExceptions;
 		_excludeCoreFile = excludeCoreFile;
+		_libraryStore = libraryStore;
+		_threads = threads;
 		_zipFileName = (null != outputName) ? outputName : dumpName.concat(".zip"); //$NON-NLS-1$
 
 		try {
@@ -474,8 +508,11 @@ public class Main {
 		Set<String> files = new LinkedHashSet<>();
 		files.add(_dumpName);
 
+		Set<String> libraries = new HashSet<>();
 		for (Iterator<?> iter = _dump.getAdditionalFileNames(); iter.hasNext();) {
-			files.add((String) iter.next());
+			String library = (String) iter.next();
+			files.add(library);
+			libraries.add(library);
 		}
 
 		if (_excludeCoreFile) {
@@ -509,7 +546,7 @@ public class Main {
 
 		Set<String> excluded = _excludeCoreFile ? Collections.singleton(_dumpName) : Collections.emptySet();
 		try {
-			createZipFromFileNames(files, excluded, _builder);
+			createZipFromFileNames(files, excluded, libraries, _builder);
 		} catch (Exception e) {
 			errorMessage(e.getMessage(), JEXTRACT_INTERNAL_ERROR, e);
 		}
@@ -523,118 +560,158 @@ public class Main {
 	}
 
 	private void createZipFromFileNames(Collection<String> fileNames, Collection<String> excludedNames,
-			Builder fileResolver) throws Exception {
+			Collection<String> libraryNames, Builder fileResolver) throws Exception {
 		report("Creating archive file: " + _zipFileName); //$NON-NLS-1$
+		ParallelZipWriter zip;
+		try {
+			zip = new ParallelZipWriter(new FileOutputStream(_zipFileName), _threads, ZIP_CHUNK_SIZE, Deflater.DEFAULT_COMPRESSION);
+		} catch (FileNotFoundException e) {
+			throw new Exception("Could not find archive file to output to: " + e.getMessage()); //$NON-NLS-1$
+		}
 		try {
-			ZipOutputStream zip = new ZipOutputStream(new FileOutputStream(_zipFileName));
 			if (!excludedNames.isEmpty()) {
 				final String excludedFilesFileName = "excluded-files.txt"; //$NON-NLS-1$
 
 				report("Adding \"" + excludedFilesFileName + "\""); //$NON-NLS-1$ //$NON-NLS-2$
 
-				ZipEntry zipEntry = new ZipEntry(excludedFilesFileName);
-
-				zipEntry.setTime(System.currentTimeMillis());
+				ByteArrayOutputStream note = new ByteArrayOutputStream();
+				PrintWriter noteWriter = new PrintWriter(new OutputStreamWriter(note, StandardCharsets.UTF_8));
 
-				zip.putNextEntry(zipEntry);
-
-				try {
-					@SuppressWarnings("resource" /* we can't close noteWriter */)
-					PrintWriter noteWriter = new PrintWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8));
-
-					noteWriter.println("Files omitted from archive"); //$NON-NLS-1$
-					noteWriter.println("=========================="); //$NON-NLS-1$
-
-					for (String excludedName : excludedNames) {
-						noteWriter.println(excludedName);
-					}
+				noteWriter.println("Files omitted from archive"); //$NON-NLS-1$
+				noteWriter.println("=========================="); //$NON-NLS-1$
 
-					noteWriter.flush();
-				} finally {
-					zip.closeEntry();
+				for (String excludedName : excludedNames) {
+					noteWriter.println(excludedName);
 				}
+
+				noteWriter.flush();
+				zip.addEntry(excludedFilesFileName, System.currentTimeMillis(), note.toByteArray());
 			}
-			byte[] buffer = new byte[ZIP_BUFFER_SIZE];
 			Set<String> filesInZip = new HashSet<>();
+			List<String> libraryManifest = new ArrayList<>();
 			for (String name : fileNames) {
 				try (ClosingFileReader in = fileResolver.openFile(name)) {
 					boolean mvsfile = in.isMVSFile();
 					String absolute = in.getAbsolutePath();
-					if (mvsfile || absolute.equals(new File(name).getAbsolutePath())) {
-						report("Adding \"" + name + "\""); //$NON-NLS-1$ //$NON-NLS-2$
-					} else {
-						report("Adding \"" + name + "\" (found at \"" + absolute + "\")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-					}
 					if (mvsfile) {
 						// mvs files exist in a different filespace, so read the file from
 						// mvs and insert it into the zip.
-						zip.putNextEntry(new ZipEntry(name));
+						report("Adding \"" + name + "\""); //$NON-NLS-1$ //$NON-NLS-2$
 						filesInZip.add(name);
-						copy(in, zip, buffer);
-					} else {
+						zip.addEntry(name, System.currentTimeMillis(), new ReaderInputStream(in));
+					} else if (!filesInZip.contains(absolute)) {
 						// Add files by absolute name so they have the right path in the zip.
 						// Guard against two names in fileNames mapping to the same absolute path.
-						if (!filesInZip.contains(absolute)) {
-							// note that we can't just use the file name, we have to use
-							// the full path since they may share a name
-							// note also that we will use the original path and not the
-							// path with a virtual root prepended to it
-							InputStream fileStream = in.streamFromFile();
-							ZipEntry zipEntry = new ZipEntry(absolute);
-							filesInZip.add(absolute);
-							zipEntry.setTime(new File(absolute).lastModified());
-							zip.putNextEntry(zipEntry);
-
-							copy(fileStream, zip, buffer);
-							fileStream.close();
+						filesInZip.add(absolute);
+						File file = new File(absolute);
+						if ((null != _libraryStore) && libraryNames.contains(name) && isInLibraryStore(file, libraryManifest)) {
+							report("Omitting \"" + name + "\", it is in the library store"); //$NON-NLS-1$ //$NON-NLS-2$
+							continue;
+						}
+						if (absolute.equals(new File(name).getAbsolutePath())) {
+							report("Adding \"" + name + "\""); //$NON-NLS-1$ //$NON-NLS-2$
+						} else {
+							report("Adding \"" + name + "\" (found at \"" + absolute + "\")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+						}
+						// note that we can't just use the file name, we have to use
+						// the full path since they may share a name
+						// note also that we will use the original path and not the
+						// path with a virtual root prepended to it
+						try (InputStream fileStream = in.streamFromFile()) {
+							zip.addEntry(absolute, file.lastModified(), fileStream);
 						}
 					}
 				} catch (FileNotFoundException e) {
 					report("Warning:  Could not find file \"" + name + "\" for inclusion in archive"); //$NON-NLS-1$ //$NON-NLS-2$
 				} catch (IOException e) {
 					throw new Exception("Failure adding file " + name + " to archive", e); //$NON-NLS-1$ //$NON-NLS-2$
-				} finally {
-					zip.closeEntry();
 				}
 			}
 
-			// Add execution log
-			{
-				final String diagnosticLogFileName = "execution-log.txt"; //$NON-NLS-1$
+			if (!libraryManifest.isEmpty()) {
+				report("Adding \"" + LibraryStore.MANIFEST_NAME + "\""); //$NON-NLS-1$ //$NON-NLS-2$
 
-				report("Adding \"" + diagnosticLogFileName + "\""); //$NON-NLS-1$ //$NON-NLS-2$
+				ByteArrayOutputStream note = new ByteArrayOutputStream();
+				PrintWriter noteWriter = new PrintWriter(new OutputStreamWriter(note, StandardCharsets.UTF_8));
 
-				ZipEntry zipEntry = new ZipEntry(diagnosticLogFileName);
+				noteWriter.println(LibraryStore.STORE_PREFIX + _libraryStore.getAbsolutePath());
 
-				zipEntry.setTime(System.currentTimeMillis());
+				for (String line : libraryManifest) {
+					noteWriter.println(line);
+				}
 
-				zip.putNextEntry(zipEntry);
+				noteWriter.flush();
+				zip.addEntry(LibraryStore.MANIFEST_NAME, System.currentTimeMillis(), note.toByteArray());
+			}
 
-				try {
-					@SuppressWarnings("resource" /* we can't close noteWriter */)
-					PrintWriter noteWriter = new PrintWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8));
+			// Add execution log
+			{
+				final String diagnosticLogFileName = "execution-log.txt"; //$NON-NLS-1$
+
+				report("Adding \"" + diagnosticLogFileName + "\""); //$NON-NLS-1$ //$NON-NLS-2$
 
-					noteWriter.println("Execution log"); //$NON-NLS-1$
-					noteWriter.println("============="); //$NON-NLS-1$
+				ByteArrayOutputStream note = new ByteArrayOutputStream();
+				PrintWriter noteWriter = new PrintWriter(new OutputStreamWriter(note, StandardCharsets.UTF_8));
 
-					for (String message : _diagnostics) {
-						noteWriter.println(message);
-					}
+				noteWriter.println("Execution log"); //$NON-NLS-1$
+				noteWriter.println("============="); //$NON-NLS-1$
 
-					noteWriter.flush();
-				} finally {
-					zip.closeEntry();
+				for (String message : _diagnostics) {
+					noteWriter.println(message);
 				}
-			}
 
+				noteWriter.flush();
+				zip.addEntry(diagnosticLogFileName, System.currentTimeMillis(), note.toByteArray());
+			}
+		} catch (Exception e) {
 			try {
 				zip.close();
-			} catch (IOException e) {
-				throw new Exception("Failure closing archive file (" + _zipFileName + "): " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+			} catch (IOException e2) {
+				// ignore, the original failure is reported
+			}
+			throw e;
+		}
+
+		try {
+			zip.close();
+		} catch (IOException e) {
+			throw new Exception("Failure closing archive file (" + _zipFileName + "): " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	/**
+	 * Check whether a library is already in the library store, adding it to the
+	 * store if it is not. The store holds one copy of each library, named by the
+	 * SHA-256 hash of its contents, so dumps from the same host image share the
+	 * libraries they have in common. DTFJ finds omitted libraries in the store
+	 * through the manifest.
+	 *
+	 * @param library the library file
+	 * @param manifest list to which a line describing the library is added
+	 * @return true if the library was already in the store and can be omitted from the archive
+	 * @throws IOException if the library cannot be read
+	 */
+	private boolean isInLibraryStore(File library, List<String> manifest) throws IOException {
+		String hash = LibraryStore.hash(library);
+		long size = library.length();
+		File stored = new File(_libraryStore, hash);
+		boolean present = stored.isFile() && (stored.length() == size);
+		if (!present) {
+			// Copy to a temporary name first, so that a concurrent jextract never sees a partial library.
+			File temp = File.createTempFile(hash, ".tmp", _libraryStore); //$NON-NLS-1$
+			try {
+				try (InputStream from = new FileInputStream(library); OutputStream to = new FileOutputStream(temp)) {
+					copy(from, to, new byte[ZIP_BUFFER_SIZE]);
+				}
+				if (!temp.renameTo(stored) && !stored.isFile()) {
+					report("Warning:  Could not add \"" + library + "\" to the library store"); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+			} finally {
+				temp.delete();
 			}
-		} catch (FileNotFoundException e) {
-			throw new Exception("Could not find archive file to output to: " + e.getMessage()); //$NON-NLS-1$
 		}
+		manifest.add((present ? LibraryStore.OMITTED : LibraryStore.ARCHIVED) + ' ' + hash + ' ' + size + ' ' + library.getAbsolutePath());
+		return present;
 	}
 
 	/**
@@ -658,22 +735,24 @@ public class Main {
 	}
 
 	/**
-	 * Copies from the given ClosingFileReader to the given output stream using the buffer provided (this is for file copying, zipping, etc)
-	 *
-	 * @param from The ClosingFileReader to read from
-	 * @param to The stream to write the data to
-	 * @param buffer The buffer to use to hold intermediate data (this buffer may be quite large so re-using it from the callsite allows for less re-allocation of the same large buffer)
-	 * @throws IOException
+	 * Presents a ClosingFileReader as an InputStream, for files which cannot be opened as streams.
 	 */
-	private static void copy(ClosingFileReader from, OutputStream to, byte[] buffer) throws IOException {
-		for (;;) {
-			int count = from.read(buffer);
+	private static final class ReaderInputStream extends InputStream {
+		private final ClosingFileReader reader;
 
-			if (count == -1) {
-				break;
-			}
+		ReaderInputStream(ClosingFileReader reader) {
+			super();
+			this.reader = reader;
+		}
 
-			to.write(buffer, 0, count);
+		@Override
+		public int read() throws IOException {
+			return reader.read();
+		}
+
+		@Override
+		public int read(byte[] buffer, int offset, int length) throws IOException {
+			return reader.read(buffer, offset, length);
 		}
 	}
 
@@ -0,0 +1,423 @@
+/*[INCLUDE-IF JAVA_SPEC_VERSION >= 8]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.jvm.j9.dump.extract;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Writes a zip archive to a stream, compressing large entries on several
+ * threads. An entry is split into fixed size chunks which are compressed
+ * independently, each ending on a byte boundary, so their concatenation is a
+ * single valid deflate stream and the archive can be read by any zip reader.
+ */
+final class ParallelZipWriter implements Closeable {
+
+	private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+	private static final int DATA_DESCRIPTOR_SIGNATURE = 0x08074b50;
+	private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+	private static final int ZIP64_END_SIGNATURE = 0x06064b50;
+	private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+	private static final int END_SIGNATURE = 0x06054b50;
+
+	private static final int FLAG_DATA_DESCRIPTOR = 0x0008;
+	private static final int FLAG_UTF8 = 0x0800;
+	private static final int METHOD_DEFLATED = 8;
+	private static final int VERSION_DEFLATE = 20;
+	private static final int VERSION_ZIP64 = 45;
+	private static final int ZIP64_EXTRA_ID = 0x0001;
+	private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+	private static final int ZIP64_MAGIC_COUNT = 0xFFFF;
+
+	private static final class CentralEntry {
+		final byte[] name;
+		final int dosTime;
+		final long headerOffset;
+		long crc;
+		long compressedSize;
+		long size;
+
+		CentralEntry(byte[] name, int dosTime, long headerOffset) {
+			this.name = name;
+			this.dosTime = dosTime;
+			this.headerOffset = headerOffset;
+		}
+	}
+
+	/**
+	 * Counts the bytes written, to give the offsets and sizes of entries.
+	 */
+	private static final class CountingOutputStream extends BufferedOutputStream {
+		long count;
+
+		CountingOutputStream(OutputStream out, int size) {
+			super(out, size);
+		}
+
+		@Override
+		public synchronized void write(int b) throws IOException {
+			super.write(b);
+			count += 1;
+		}
+
+		@Override
+		public synchronized void write(byte[] b, int off, int len) throws IOException {
+			super.write(b, off, len);
+			count += len;
+		}
+	}
+
+	private final CountingOutputStream out;
+	private final DataOutputStream dataOut;
+	private final ExecutorService compressors;
+	private final int maxChunksInFlight;
+	private final int chunkSize;
+	private final int level;
+	private final List<CentralEntry> entries;
+	private boolean closed;
+
+	/**
+	 * @param out the stream to write the archive to, closed by close()
+	 * @param threads the number of threads to compress with
+	 * @param chunkSize the uncompressed size of each independently compressed chunk
+	 * @param level the deflate compression level
+	 */
+	ParallelZipWriter(OutputStream out, int threads, int chunkSize, int level) {
+		super();
+		this.out = new CountingOutputStream(out, 64 * 1024);
+		this.dataOut = new DataOutputStream(this.out);
+		this.compressors = Executors.newFixedThreadPool(threads);
+		/* bound the memory used by chunks waiting to be compressed or written */
+		this.maxChunksInFlight = threads * 2;
+		this.chunkSize = chunkSize;
+		this.level = level;
+		this.entries = new ArrayList<>();
+	}
+
+	/**
+	 * Add an entry containing the given bytes.
+	 */
+	void addEntry(String name, long time, byte[] data) throws IOException {
+		addEntry(name, time, new ByteArrayInputStream(data));
+	}
+
+	/**
+	 * Add an entry containing the remaining contents of the given stream,
+	 * which is not closed.
+	 *
+	 * @param name the name of the entry
+	 * @param time the modification time of the entry in milliseconds
+	 * @param in the contents of the entry
+	 * @throws IOException if the stream cannot be read or the archive written
+	 */
+	void addEntry(String name, long time, InputStream in) throws IOException {
+		if (closed) {
+			throw new IOException("Archive is closed"); //$NON-NLS-1$
+		}
+		CentralEntry entry = new CentralEntry(name.getBytes(StandardCharsets.UTF_8), javaToDosTime(time), out.count);
+		writeLocalHeader(entry);
+
+		long dataStart = out.count;
+		ArrayDeque<Future<byte[]>> pending = new ArrayDeque<>();
+		CRC32 crc = new CRC32();
+		long size = 0;
+		try {
+			byte[] chunk = readChunk(in);
+			for (;;) {
+				/* read ahead one chunk so that the final chunk can be finished rather than flushed */
+				byte[] next = (chunk.length < chunkSize) ? null : readChunk(in);
+				boolean last = (null == next) || (0 == next.length);
+				crc.update(chunk, 0, chunk.length);
+				size += chunk.length;
+				if (pending.size() >= maxChunksInFlight) {
+					writeChunk(pending.removeFirst());
+				}
+				pending.addLast(compressors.submit(new ChunkCompressor(chunk, last, level)));
+				if (last) {
+					break;
+				}
+				chunk = next;
+			}
+			while (!pending.isEmpty()) {
+				writeChunk(pending.removeFirst());
+			}
+		} finally {
+			for (Future<byte[]> future : pending) {
+				future.cancel(false);
+			}
+		}
+
+		entry.crc = crc.getValue();
+		entry.size = size;
+		entry.compressedSize = out.count - dataStart;
+		writeDataDescriptor(entry);
+		entries.add(entry);
+	}
+
+	/**
+	 * Write the central directory, and close the stream.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		try {
+			closed = true;
+			writeCentralDirectory();
+			dataOut.flush();
+		} finally {
+			closed = true;
+			compressors.shutdownNow();
+			out.close();
+		}
+	}
+
+	private byte[] readChunk(InputStream in) throws IOException {
+		byte[] buffer = new byte[chunkSize];
+		int count = 0;
+		while (count < chunkSize) {
+			int read = in.read(buffer, count, chunkSize - count);
+			if (read < 0) {
+				break;
+			}
+			count += read;
+		}
+		if (count < chunkSize) {
+			byte[] shorter = new byte[count];
+			System.arraycopy(buffer, 0, shorter, 0, count);
+			buffer = shorter;
+		}
+		return buffer;
+	}
+
+	private void writeChunk(Future<byte[]> future) throws IOException {
+		byte[] compressed;
+		try {
+			compressed = future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while compressing", e); //$NON-NLS-1$
+		} catch (ExecutionException e) {
+			throw new IOException("Failure compressing", e.getCause()); //$NON-NLS-1$
+		}
+		out.write(compressed, 0, compressed.length);
+	}
+
+	/**
+	 * Compresses one chunk with a new raw deflater. All but the last chunk end
+	 * with a sync flush, which aligns the output to a byte boundary without
+	 * ending the deflate stream.
+	 */
+	private static final class ChunkCompressor implements Callable<byte[]> {
+		private final byte[] data;
+		private final boolean last;
+		private final int level;
+
+		ChunkCompressor(byte[] data, boolean last, int level) {
+			super();
+			this.data = data;
+			this.last = last;
+			this.level = level;
+		}
+
+		@Override
+		public byte[] call() {
+			Deflater deflater = new Deflater(level, true);
+			try {
+				deflater.setInput(data, 0, data.length);
+				if (last) {
+					deflater.finish();
+				}
+				byte[] output = new byte[Math.max(data.length / 2, 64)];
+				int length = 0;
+				for (;;) {
+					int space = output.length - length;
+					int count = last
+							? deflater.deflate(output, length, space)
+							: deflater.deflate(output, length, space, Deflater.SYNC_FLUSH);
+					length += count;
+					if (last ? deflater.finished() : (count < space)) {
+						break;
+					}
+					if (length == output.length) {
+						byte[] larger = new byte[output.length * 2];
+						System.arraycopy(output, 0, larger, 0, length);
+						output = larger;
+					}
+				}
+				byte[] result = new byte[length];
+				System.arraycopy(output, 0, result, 0, length);
+				return result;
+			} finally {
+				deflater.end();
+			}
+		}
+	}
+
+	private void writeLocalHeader(CentralEntry entry) throws IOException {
+		writeInt(LOCAL_HEADER_SIGNATURE);
+		writeShort(VERSION_DEFLATE);
+		writeShort(FLAG_DATA_DESCRIPTOR | FLAG_UTF8);
+		writeShort(METHOD_DEFLATED);
+		writeInt(entry.dosTime);
+		/* the crc and sizes follow the data, in the data descriptor */
+		writeInt(0);
+		writeInt(0);
+		writeInt(0);
+		writeShort(entry.name.length);
+		writeShort(0);
+		out.write(entry.name, 0, entry.name.length);
+	}
+
+	private void writeDataDescriptor(CentralEntry entry) throws IOException {
+		writeInt(DATA_DESCRIPTOR_SIGNATURE);
+		writeInt((int) entry.crc);
+		if ((entry.compressedSize >= ZIP64_MAGIC) || (entry.size >= ZIP64_MAGIC)) {
+			writeLong(entry.compressedSize);
+			writeLong(entry.size);
+		} else {
+			writeInt((int) entry.compressedSize);
+			writeInt((int) entry.size);
+		}
+	}
+
+	private void writeCentralDirectory() throws IOException {
+		long centralStart = out.count;
+		for (CentralEntry entry : entries) {
+			boolean largeSize = entry.size >= ZIP64_MAGIC;
+			boolean largeCompressedSize = entry.compressedSize >= ZIP64_MAGIC;
+			boolean largeOffset = entry.headerOffset >= ZIP64_MAGIC;
+			int extraLength = (largeSize ? 8 : 0) + (largeCompressedSize ? 8 : 0) + (largeOffset ? 8 : 0);
+			int version = (0 == extraLength) ? VERSION_DEFLATE : VERSION_ZIP64;
+
+			writeInt(CENTRAL_HEADER_SIGNATURE);
+			writeShort(version);
+			writeShort(version);
+			writeShort(FLAG_DATA_DESCRIPTOR | FLAG_UTF8);
+			writeShort(METHOD_DEFLATED);
+			writeInt(entry.dosTime);
+			writeInt((int) entry.crc);
+			writeInt((int) (largeCompressedSize ? ZIP64_MAGIC : entry.compressedSize));
+			writeInt((int) (largeSize ? ZIP64_MAGIC : entry.size));
+			writeShort(entry.name.length);
+			writeShort((0 == extraLength) ? 0 : (4 + extraLength));
+			writeShort(0); /* comment length */
+			writeShort(0); /* disk number */
+			writeShort(0); /* internal attributes */
+			writeInt(0); /* external attributes */
+			writeInt((int) (largeOffset ? ZIP64_MAGIC : entry.headerOffset));
+			out.write(entry.name, 0, entry.name.length);
+			if (0 != extraLength) {
+				writeShort(ZIP64_EXTRA_ID);
+				writeShort(extraLength);
+				if (largeSize) {
+					writeLong(entry.size);
+				}
+				if (largeCompressedSize) {
+					writeLong(entry.compressedSize);
+				}
+				if (largeOffset) {
+					writeLong(entry.headerOffset);
+				}
+			}
+		}
+		long centralEnd = out.count;
+		long centralSize = centralEnd - centralStart;
+		int count = entries.size();
+
+		if ((count >= ZIP64_MAGIC_COUNT) || (centralSize >= ZIP64_MAGIC) || (centralStart >= ZIP64_MAGIC)) {
+			writeInt(ZIP64_END_SIGNATURE);
+			writeLong(44); /* size of the remainder of this record */
+			writeShort(VERSION_ZIP64);
+			writeShort(VERSION_ZIP64);
+			writeInt(0); /* disk number */
+			writeInt(0); /* disk with the central directory */
+			writeLong(count);
+			writeLong(count);
+			writeLong(centralSize);
+			writeLong(centralStart);
+
+			writeInt(ZIP64_LOCATOR_SIGNATURE);
+			writeInt(0); /* disk with the zip64 end record */
+			writeLong(centralEnd);
+			writeInt(1); /* number of disks */
+		}
+
+		writeInt(END_SIGNATURE);
+		writeShort(0); /* disk number */
+		writeShort(0); /* disk with the central directory */
+		writeShort(Math.min(count, ZIP64_MAGIC_COUNT));
+		writeShort(Math.min(count, ZIP64_MAGIC_COUNT));
+		writeInt((int) Math.min(centralSize, ZIP64_MAGIC));
+		writeInt((int) Math.min(centralStart, ZIP64_MAGIC));
+		writeShort(0); /* comment length */
+	}
+
+	/* zip files are little-endian */
+
+	private void writeShort(int value) throws IOException {
+		dataOut.writeShort(Short.reverseBytes((short) value));
+	}
+
+	private void writeInt(int value) throws IOException {
+		dataOut.writeInt(Integer.reverseBytes(value));
+	}
+
+	private void writeLong(long value) throws IOException {
+		dataOut.writeLong(Long.reverseBytes(value));
+	}
+
+	private static int javaToDosTime(long time) {
+		Calendar calendar = Calendar.getInstance();
+		calendar.setTimeInMillis(time);
+		int year = calendar.get(Calendar.YEAR);
+		if (year < 1980) {
+			return (1 << 21) | (1 << 16);
+		}
+		return ((year - 1980) << 25)
+				| ((calendar.get(Calendar.MONTH) + 1) << 21)
+				| (calendar.get(Calendar.DAY_OF_MONTH) << 16)
+				| (calendar.get(Calendar.HOUR_OF_DAY) << 11)
+				| (calendar.get(Calendar.MINUTE) << 5)
+				| (calendar.get(Calendar.SECOND) >> 1);
+	}
+
+}
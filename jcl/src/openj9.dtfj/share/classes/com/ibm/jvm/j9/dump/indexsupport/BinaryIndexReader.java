@@ -0,0 +1,325 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.jvm.j9.dump.indexsupport;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+
+import com.ibm.dtfj.corereaders.ResourceReleaser;
+
+/**
+ * Reads a binary index written by {@link BinaryIndexWriter} and replays it to a SAX content handler
+ * so that the same parser nodes used for the XML index can build the DTFJ objects.  The string table
+ * is loaded once up front; the body is streamed so the whole index is never held in memory, and
+ * handlers can skip elements and replay them later on demand.
+ */
+public class BinaryIndexReader implements ResourceReleaser
+{
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final RandomAccessFile _file;
+	private final long _stringTableOffset;
+	private String[] _strings;
+	private byte[] _scratch = new byte[256];
+	private long _position;
+	private IndexInputStream _buffer;
+
+	/**
+	 * Opens the given binary index and validates its header.
+	 *
+	 * @param index The binary index file
+	 * @throws IOException if the file is not a binary index of a supported version
+	 */
+	public BinaryIndexReader(File index) throws IOException
+	{
+		_file = new RandomAccessFile(index, "r");
+		boolean valid = false;
+		try {
+			if (_file.length() < BinaryIndexWriter.HEADER_SIZE) {
+				throw new IOException("Binary index is truncated: " + index);
+			}
+			if (BinaryIndexWriter.MAGIC != _file.readInt()) {
+				throw new IOException("Not a binary index: " + index);
+			}
+			int version = _file.readInt();
+			if (BinaryIndexWriter.VERSION != version) {
+				throw new IOException("Unsupported binary index version " + version + ": " + index);
+			}
+			_stringTableOffset = _file.readLong();
+			if ((_stringTableOffset < BinaryIndexWriter.HEADER_SIZE) || (_stringTableOffset >= _file.length())) {
+				throw new IOException("Binary index is incomplete: " + index);
+			}
+			valid = true;
+		} finally {
+			if (!valid) {
+				_file.close();
+			}
+		}
+	}
+
+	/**
+	 * Implemented by handlers which can load some elements later.  For each element the handler
+	 * chooses to defer, the replay skips straight past its subtree using the recorded extent; the
+	 * handler can replay it later with {@link BinaryIndexReader#replayRange(ContentHandler, long, long)}.
+	 */
+	public interface DeferringHandler extends ContentHandler
+	{
+		/**
+		 * @param qName The name of the element about to be replayed
+		 * @param start The offset of the element in the index
+		 * @param end The offset just after the end of the element
+		 * @return true to skip the element now
+		 */
+		boolean deferElement(String qName, long start, long end);
+	}
+
+	/**
+	 * Replays the recorded events to the given handler.
+	 *
+	 * @param handler The handler to receive the element and character events
+	 * @throws IOException if the index is truncated or inconsistent
+	 * @throws SAXException if thrown by the handler
+	 */
+	public synchronized void replay(ContentHandler handler) throws IOException, SAXException
+	{
+		_loadStrings(_file.getChannel());
+		_replay(handler, BinaryIndexWriter.HEADER_SIZE, -1);
+	}
+
+	/**
+	 * Replays the elements between two offsets, as passed to {@link DeferringHandler#deferElement(String, long, long)}.
+	 * Elements within the range are never deferred again.
+	 *
+	 * @param handler The handler to receive the element and character events
+	 * @param start The offset of the first element
+	 * @param end The offset just after the last element
+	 * @throws IOException if the index is truncated or inconsistent
+	 * @throws SAXException if thrown by the handler
+	 */
+	public synchronized void replayRange(ContentHandler handler, long start, long end) throws IOException, SAXException
+	{
+		if (null == _strings) {
+			throw new IOException("Binary index has been released");
+		}
+		if ((start < BinaryIndexWriter.HEADER_SIZE) || (end > _stringTableOffset) || (start > end)) {
+			throw new IOException("Invalid range " + start + "-" + end + " in binary index");
+		}
+		_replay(handler, start, end);
+	}
+
+	/**
+	 * Replays records from start until the EOF record (end < 0) or until end is reached with no open elements.
+	 */
+	private void _replay(ContentHandler handler, long start, long end) throws IOException, SAXException
+	{
+		FileChannel channel = _file.getChannel();
+		DataInputStream in = _streamAt(channel, start);
+		DeferringHandler deferring = ((end < 0) && (handler instanceof DeferringHandler)) ? (DeferringHandler) handler : null;
+		long[] endOffsets = new long[64];
+		String[] names = new String[64];
+		int depth = 0;
+		AttributesImpl attributes = new AttributesImpl();
+
+		for (;;) {
+			if ((end >= 0) && (0 == depth) && (_position >= end)) {
+				if (_position != end) {
+					throw new IOException("Range ends inside an element in binary index at offset " + _position);
+				}
+				break;
+			}
+			long recordStart = _position;
+			int record = in.readUnsignedByte();
+			_position += 1;
+			if (BinaryIndexWriter.RECORD_START == record) {
+				String name = _string(_readVarInt(in));
+				int count = _readVarInt(in);
+				attributes.clear();
+				for (int i = 0; i < count; i++) {
+					String attributeName = _string(_readVarInt(in));
+					String value = _string(_readVarInt(in));
+					attributes.addAttribute("", attributeName, attributeName, "CDATA", value);
+				}
+				long endOffset = in.readLong();
+				_position += 8;
+				if ((endOffset <= _position) || (endOffset > _stringTableOffset)) {
+					throw new IOException("Corrupt element extent in binary index at offset " + recordStart);
+				}
+				if ((null != deferring) && deferring.deferElement(name, recordStart, endOffset)) {
+					in = _skipTo(channel, in, endOffset);
+					continue;
+				}
+				if (depth == names.length) {
+					names = _grow(names);
+					endOffsets = _grow(endOffsets);
+				}
+				names[depth] = name;
+				endOffsets[depth] = endOffset;
+				depth += 1;
+				handler.startElement("", name, name, attributes);
+			} else if (BinaryIndexWriter.RECORD_TEXT == record) {
+				char[] text = _readUTF8(in).toCharArray();
+				handler.characters(text, 0, text.length);
+			} else if (BinaryIndexWriter.RECORD_END == record) {
+				if (0 == depth) {
+					throw new IOException("Unbalanced end record in binary index at offset " + _position);
+				}
+				depth -= 1;
+				if (endOffsets[depth] != _position) {
+					throw new IOException("Corrupt element extent in binary index at offset " + _position);
+				}
+				handler.endElement("", names[depth], names[depth]);
+				names[depth] = null;
+			} else if ((BinaryIndexWriter.RECORD_EOF == record) && (end < 0)) {
+				if (0 != depth) {
+					throw new IOException("Binary index ended with " + depth + " open elements");
+				}
+				break;
+			} else {
+				throw new IOException("Unknown record type " + record + " in binary index at offset " + recordStart);
+			}
+		}
+	}
+
+	public synchronized void releaseResources() throws IOException
+	{
+		_strings = null;
+		_file.close();
+	}
+
+	private void _loadStrings(FileChannel channel) throws IOException
+	{
+		DataInputStream in = _streamAt(channel, _stringTableOffset);
+		int count = _readVarInt(in);
+		String[] strings = new String[count];
+		for (int i = 0; i < count; i++) {
+			strings[i] = _readUTF8(in);
+		}
+		_strings = strings;
+	}
+
+	private DataInputStream _streamAt(FileChannel channel, long offset) throws IOException
+	{
+		channel.position(offset);
+		_position = offset;
+		_buffer = new IndexInputStream(channel);
+		return new DataInputStream(_buffer);
+	}
+
+	/**
+	 * Moves forward to offset, skipping within the buffered data when it is already there
+	 * and only seeking the channel when offset is past the end of the buffer.
+	 */
+	private DataInputStream _skipTo(FileChannel channel, DataInputStream in, long offset) throws IOException
+	{
+		long distance = offset - _position;
+		if (distance > _buffer.buffered()) {
+			return _streamAt(channel, offset);
+		}
+		while (distance > 0) {
+			long skipped = in.skip(distance);
+			if (skipped <= 0) {
+				throw new EOFException("Unexpected end of binary index at offset " + _position);
+			}
+			distance -= skipped;
+			_position += skipped;
+		}
+		return in;
+	}
+
+	private String _string(int index) throws IOException
+	{
+		if ((index < 0) || (index >= _strings.length)) {
+			throw new IOException("String index " + index + " out of range in binary index");
+		}
+		return _strings[index];
+	}
+
+	private String _readUTF8(DataInputStream in) throws IOException
+	{
+		int length = _readVarInt(in);
+		if (length > _scratch.length) {
+			_scratch = new byte[Math.max(length, _scratch.length * 2)];
+		}
+		in.readFully(_scratch, 0, length);
+		_position += length;
+		return new String(_scratch, 0, length, StandardCharsets.UTF_8);
+	}
+
+	private int _readVarInt(DataInputStream in) throws IOException
+	{
+		int value = 0;
+		for (int shift = 0; shift < 35; shift += 7) {
+			int b = in.read();
+			if (b < 0) {
+				throw new EOFException("Truncated binary index");
+			}
+			_position += 1;
+			value |= (b & 0x7F) << shift;
+			if (0 == (b & 0x80)) {
+				return value;
+			}
+		}
+		throw new IOException("Malformed variable length integer in binary index at offset " + _position);
+	}
+
+	/**
+	 * A buffered stream over the index that reports how much of the file is already buffered.
+	 */
+	private static final class IndexInputStream extends BufferedInputStream
+	{
+		IndexInputStream(FileChannel channel)
+		{
+			super(Channels.newInputStream(channel), BUFFER_SIZE);
+		}
+
+		synchronized int buffered()
+		{
+			return count - pos;
+		}
+	}
+
+	private static String[] _grow(String[] array)
+	{
+		String[] grown = new String[array.length * 2];
+		System.arraycopy(array, 0, grown, 0, array.length);
+		return grown;
+	}
+
+	private static long[] _grow(long[] array)
+	{
+		long[] grown = new long[array.length * 2];
+		System.arraycopy(array, 0, grown, 0, array.length);
+		return grown;
+	}
+}
@@ -0,0 +1,271 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.jvm.j9.dump.indexsupport;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Records the SAX events produced while parsing a jextract XML index into the compact binary
+ * index format read by {@link BinaryIndexReader}.
+ *
+ * The file layout is:
+ * <pre>
+ * header:   int magic, int version, long stringTableOffset
+ * body:     records, terminated by RECORD_EOF
+ *           RECORD_START  varint name, varint attributeCount, (varint name, varint value)*, long endOffset
+ *           RECORD_TEXT   varint byteLength, UTF-8 bytes
+ *           RECORD_END
+ * strings:  varint count, (varint byteLength, UTF-8 bytes)*
+ * </pre>
+ * Element names, attribute names and attribute values are deduplicated through the string table.
+ * The endOffset of each start record is the file offset just after its matching end record, so
+ * a reader can seek past an entire element without decoding it.
+ */
+public class BinaryIndexWriter extends DefaultHandler
+{
+	public static final int MAGIC = 0x4A39494E; // "J9IN"
+	public static final int VERSION = 1;
+
+	static final int RECORD_EOF = 0;
+	static final int RECORD_START = 1;
+	static final int RECORD_TEXT = 2;
+	static final int RECORD_END = 3;
+
+	static final int HEADER_SIZE = 16;
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final File _target;
+	private final RandomAccessFile _file;
+	private final DataOutputStream _out;
+	private final Map<String, Integer> _stringIndex = new HashMap<String, Integer>();
+	private final List<String> _strings = new ArrayList<String>();
+
+	// file positions of the endOffset slots of the currently open elements
+	private long[] _openSlots = new long[64];
+	private int _depth = 0;
+
+	// (slot position, end offset) pairs which are written when the index is closed
+	private long[] _patches = new long[1024];
+	private int _patchCount = 0;
+
+	private long _position;
+	private StringBuilder _text = new StringBuilder();
+	private boolean _failed = false;
+
+	/**
+	 * Creates a writer for the given file, replacing any existing content.
+	 *
+	 * @param target The file to write the binary index into
+	 * @throws IOException
+	 */
+	public BinaryIndexWriter(File target) throws IOException
+	{
+		_target = target;
+		_file = new RandomAccessFile(target, "rw");
+		_file.setLength(0);
+		_out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(_file.getChannel()), BUFFER_SIZE));
+		_out.writeInt(MAGIC);
+		_out.writeInt(VERSION);
+		_out.writeLong(0);
+		_position = HEADER_SIZE;
+	}
+
+	public void startElement(String uri, String localName, String qName, Attributes attributes) throws SAXException
+	{
+		if (_failed) {
+			return;
+		}
+		try {
+			_flushText();
+			_out.writeByte(RECORD_START);
+			_position += 1;
+			_writeVarInt(_indexOf(qName));
+			int count = attributes.getLength();
+			_writeVarInt(count);
+			for (int i = 0; i < count; i++) {
+				_writeVarInt(_indexOf(attributes.getQName(i)));
+				_writeVarInt(_indexOf(attributes.getValue(i)));
+			}
+			if (_depth == _openSlots.length) {
+				_openSlots = Arrays.copyOf(_openSlots, _depth * 2);
+			}
+			_openSlots[_depth++] = _position;
+			_out.writeLong(0);
+			_position += 8;
+		} catch (IOException e) {
+			_fail(e);
+		}
+	}
+
+	public void endElement(String uri, String localName, String qName) throws SAXException
+	{
+		if (_failed) {
+			return;
+		}
+		try {
+			_flushText();
+			_out.writeByte(RECORD_END);
+			_position += 1;
+			if (_depth > 0) {
+				_addPatch(_openSlots[--_depth], _position);
+			}
+		} catch (IOException e) {
+			_fail(e);
+		}
+	}
+
+	public void characters(char[] ch, int start, int length) throws SAXException
+	{
+		if (!_failed) {
+			_text.append(ch, start, length);
+		}
+	}
+
+	/**
+	 * Completes the index.  If the recorded event stream was incomplete or any write failed the
+	 * partial file is deleted so that it is never mistaken for a valid index.
+	 *
+	 * @return true if a complete index was written
+	 */
+	public boolean close()
+	{
+		boolean complete = false;
+		try {
+			if (!_failed && (0 == _depth)) {
+				_flushText();
+				_out.writeByte(RECORD_EOF);
+				_position += 1;
+				long stringTableOffset = _position;
+				_writeVarInt(_strings.size());
+				for (String string : _strings) {
+					_writeUTF8(string);
+				}
+				_out.flush();
+				FileChannel channel = _file.getChannel();
+				ByteBuffer slot = ByteBuffer.allocate(8);
+				for (int i = 0; i < _patchCount; i += 2) {
+					slot.clear();
+					slot.putLong(_patches[i + 1]).flip();
+					channel.write(slot, _patches[i]);
+				}
+				slot.clear();
+				slot.putLong(stringTableOffset).flip();
+				channel.write(slot, 8);
+				complete = true;
+			}
+		} catch (IOException e) {
+			complete = false;
+		} finally {
+			try {
+				_out.close();
+			} catch (IOException e) {
+				complete = false;
+			}
+			if (!complete) {
+				_target.delete();
+			}
+		}
+		return complete;
+	}
+
+	private void _flushText() throws IOException
+	{
+		if (_text.length() > 0) {
+			_out.writeByte(RECORD_TEXT);
+			_position += 1;
+			_writeUTF8(_text.toString());
+			_text.setLength(0);
+		}
+	}
+
+	private int _indexOf(String string)
+	{
+		Integer index = _stringIndex.get(string);
+		if (null == index) {
+			index = Integer.valueOf(_strings.size());
+			_strings.add(string);
+			_stringIndex.put(string, index);
+		}
+		return index.intValue();
+	}
+
+	private void _addPatch(long slot, long value)
+	{
+		if (_patchCount == _patches.length) {
+			_patches = Arrays.copyOf(_patches, _patchCount * 2);
+		}
+		_patches[_patchCount++] = slot;
+		_patches[_patchCount++] = value;
+	}
+
+	private void _writeUTF8(String string) throws IOException
+	{
+		byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+		_writeVarInt(bytes.length);
+		_out.write(bytes);
+		_position += bytes.length;
+	}
+
+	private void _writeVarInt(int value) throws IOException
+	{
+		while ((value & ~0x7F) != 0) {
+			_out.writeByte((value & 0x7F) | 0x80);
+			_position += 1;
+			value >>>= 7;
+		}
+		_out.writeByte(value);
+		_position += 1;
+	}
+
+	private void _fail(IOException e)
+	{
+		// a failure to record the index must not prevent the XML from being parsed so just stop recording
+		_failed = true;
+	}
+
+	/**
+	 * @return true if recording has stopped because of a write failure
+	 */
+	public boolean hasFailed()
+	{
+		return _failed;
+	}
+}
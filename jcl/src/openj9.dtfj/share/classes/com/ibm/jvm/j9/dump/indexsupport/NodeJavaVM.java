@@ -22,9 +22,11 @@
  */
 package com.ibm.jvm.j9.dump.indexsupport;
 
+import java.io.IOException;
 import java.util.Iterator;
 
 import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
 
 import com.ibm.dtfj.image.CorruptDataException;
 import com.ibm.dtfj.image.ImagePointer;
@@ -46,9 +48,17 @@ import com.ibm.dtfj.java.j9.JavaRuntime;
 public class NodeJavaVM extends NodeAbstract
 {
 	private JavaRuntime _runtime;
+	private XMLIndexReader _parent;
+
+	/**
+	 * Pairs of start and end offsets of the sections of a binary index which are loaded on demand.
+	 */
+	private long[] _deferredRanges = new long[8];
+	private int _deferredCount = 0;
 
 	public NodeJavaVM(XMLIndexReader parent, ImageProcess process, ImageAddressSpace addressSpace, String vmVersion, Attributes attributes)
 	{
+		_parent = parent;
 		long id = _longFromString(attributes.getValue("id"));
 
 		ImagePointer vmPointer = addressSpace.getPointer(id);
@@ -93,7 +103,58 @@ public class NodeJavaVM extends NodeAbstract
 		return child;
 	}
 
+	/**
+	 * Called while a binary index is replayed to decide whether a child element is loaded only
+	 * when the runtime is first asked for its classes, class loaders or threads.
+	 *
+	 * @param qName The name of the child element
+	 * @param start The offset of the element in the binary index
+	 * @param end The offset just after the end of the element
+	 * @return true if the element was deferred and should be skipped
+	 */
+	boolean deferSection(String qName, long start, long end)
+	{
+		if (!(qName.equals("class") || qName.equals("arrayclass") || qName.equals("vmthread"))) {
+			return false;
+		}
+		if ((_deferredCount > 0) && (_deferredRanges[_deferredCount - 1] == start)) {
+			/* contiguous with the previous deferred element so extend its range */
+			_deferredRanges[_deferredCount - 1] = end;
+		} else {
+			if (_deferredCount == _deferredRanges.length) {
+				long[] grown = new long[_deferredRanges.length * 2];
+				System.arraycopy(_deferredRanges, 0, grown, 0, _deferredCount);
+				_deferredRanges = grown;
+			}
+			_deferredRanges[_deferredCount++] = start;
+			_deferredRanges[_deferredCount++] = end;
+		}
+		return true;
+	}
+
 	public void didFinishParsing()
+	{
+		if (0 == _deferredCount) {
+			_associateObjects();
+		} else {
+			_runtime.setDeferredSectionLoader(new Runnable() {
+				public void run()
+				{
+					try {
+						_parent.replayDeferredSections(NodeJavaVM.this, _deferredRanges, _deferredCount);
+					} catch (IOException e) {
+						//the deferred sections could not be read so the runtime is left with what has been loaded
+					} catch (SAXException e) {
+						//as above
+					}
+					_deferredRanges = null;
+					_associateObjects();
+				}
+			});
+		}
+	}
+
+	private void _associateObjects()
 	{
 		Iterator classLoaders = _runtime.getJavaClassLoaders();
 		while (classLoaders.hasNext()) {
@@ -51,7 +51,7 @@ import com.ibm.dtfj.image.j9.ImageProcess;
  * @author jmdisher
  * Reads the XML Index and builds the DTFJ objects as it goes.
  */
-public class XMLIndexReader extends DefaultHandler implements IParserNode
+public class XMLIndexReader extends DefaultHandler implements IParserNode, BinaryIndexReader.DeferringHandler
 {
 	private ICoreFileReader _coreFile;
 	private Image _coreImage;
@@ -69,6 +69,27 @@ public class XMLIndexReader extends DefaultHandler implements IParserNode
 	private ClosingFileReader _reader;
 	private ImageInputStream _stream;
 
+	/**
+	 * If non-null, receives a copy of every SAX event so that a binary index can be written for the XML.
+	 */
+	private BinaryIndexWriter _recorder;
+
+	/**
+	 * The binary index being replayed, from which deferred sections are loaded on demand.
+	 */
+	private BinaryIndexReader _binaryIndex;
+
+	/**
+	 * Records the events of the next XML parse into the given binary index writer.  The writer is not closed
+	 * by this reader.
+	 *
+	 * @param recorder The writer to receive the events, or null to stop recording
+	 */
+	public void setIndexRecorder(BinaryIndexWriter recorder)
+	{
+		_recorder = recorder;
+	}
+
 	/**
 	 * Creates an Image from the given XML index stream and the corresponding corefile
 	 * @param input
@@ -138,12 +159,74 @@ public class XMLIndexReader extends DefaultHandler implements IParserNode
 		return _coreImage;
 	}
 
+	/**
+	 * Creates an Image from the given binary index and the corresponding corefile.  Unlike the XML variants, a problem
+	 * reading the index itself is reported to the caller so that it can fall back to the XML index.
+	 * @param index The binary index written by a previous parse of the XML index
+	 * @param core
+	 * @param reader The open file that the core is built upon
+	 * @param fileResolver The file location resolving agent which we can use when constructing the builder to find other files for us
+	 * @return
+	 * @throws IOException if the binary index is unreadable or inconsistent
+	 */
+	public Image parseBinaryIndexWithDump(BinaryIndexReader index, ICoreFileReader core, ClosingFileReader reader, IFileLocationResolver fileResolver) throws IOException
+	{
+		_fileResolvingAgent = fileResolver;
+		_elements = new Stack();
+		_coreFile = core;	//some entities need this for instantiation
+		_reader = reader;	//required for when the builder starts up
+		_binaryIndex = index;
+		try {
+			_elements.push(this);
+			index.replay(this);
+			_elements.pop();
+			_coreImage.SetSource(reader.getURIOfFile());
+		} catch (SAXException e) {
+			_createCoreImageAfterParseError(e);
+		} catch (IllegalStateException e ) {
+			_createCoreImageAfterParseError(e);
+		}
+		return _coreImage;
+	}
+
+	public boolean deferElement(String qName, long start, long end)
+	{
+		Object top = _elements.peek();
+		return (top instanceof NodeJavaVM) && ((NodeJavaVM) top).deferSection(qName, start, end);
+	}
+
+	/**
+	 * Replays sections of the binary index which were deferred by a node while the index was first replayed.
+	 *
+	 * @param root The node which deferred the sections, which receives their elements
+	 * @param ranges Pairs of start and end offsets in the binary index
+	 * @throws IOException if the binary index can no longer be read
+	 * @throws SAXException if thrown by the parser nodes
+	 */
+	synchronized void replayDeferredSections(IParserNode root, long[] ranges, int count) throws IOException, SAXException
+	{
+		Stack elements = _elements;
+		_elements = new Stack();
+		try {
+			_elements.push(root);
+			for (int i = 0; i < count; i += 2) {
+				_binaryIndex.replayRange(this, ranges[i], ranges[i + 1]);
+			}
+			_checkScrapeBuffer();
+		} finally {
+			_elements = elements;
+		}
+	}
+
 	public void startElement(String uri,
 			String localName,
 			String qName,
 			Attributes attributes)
 		throws SAXException
 	{
+		if (null != _recorder) {
+			_recorder.startElement(uri, localName, qName, attributes);
+		}
 		_checkScrapeBuffer();
 		IParserNode node = ((IParserNode)(_elements.peek())).nodeToPushAfterStarting(uri, localName, qName, attributes);
 		assert (null != node) : "Node should not be null when starting new tag: " + qName;
@@ -155,6 +238,9 @@ public class XMLIndexReader extends DefaultHandler implements IParserNode
 			String qName)
 		throws SAXException
 	{
+		if (null != _recorder) {
+			_recorder.endElement(uri, localName, qName);
+		}
 		_checkScrapeBuffer();
 		// pop whatever we were parsing and notify them that we are discarding them
 		IParserNode formerTop = (IParserNode) _elements.pop();
@@ -170,6 +256,9 @@ public class XMLIndexReader extends DefaultHandler implements IParserNode
 
 	public void characters(char[] arg0, int arg1, int arg2) throws SAXException
 	{
+		if (null != _recorder) {
+			_recorder.characters(arg0, arg1, arg2);
+		}
 		_scrapingBuffer.append(arg0, arg1, arg2);
 	}
 
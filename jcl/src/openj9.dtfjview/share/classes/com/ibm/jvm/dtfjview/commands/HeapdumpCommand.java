@@ -29,14 +29,13 @@ import java.io.DataOutputStream;
 import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintStream;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.lang.reflect.Modifier;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -55,12 +54,16 @@ import com.ibm.dtfj.java.JavaObject;
 import com.ibm.dtfj.java.JavaReference;
 import com.ibm.dtfj.java.JavaRuntime;
 import com.ibm.java.diagnostics.utils.IContext;
+import com.ibm.java.diagnostics.utils.IDTFJContext;
 import com.ibm.java.diagnostics.utils.commands.CommandException;
 import com.ibm.java.diagnostics.utils.plugins.DTFJPlugin;
+import com.ibm.jvm.dtfjview.heapdump.AsyncGZIPOutputStream;
 import com.ibm.jvm.dtfjview.heapdump.HeapDumpFormatter;
 import com.ibm.jvm.dtfjview.heapdump.HeapDumpSettings;
-import com.ibm.jvm.dtfjview.heapdump.LongListReferenceIterator;
+import com.ibm.jvm.dtfjview.heapdump.LongArrayReferenceIterator;
+import com.ibm.jvm.dtfjview.heapdump.LongReferenceList;
 import com.ibm.jvm.dtfjview.heapdump.ReferenceIterator;
+import com.ibm.jvm.dtfjview.heapdump.TeeHeapDumpFormatter;
 import com.ibm.jvm.dtfjview.heapdump.classic.ClassicHeapDumpFormatter;
 import com.ibm.jvm.dtfjview.heapdump.portable.PortableHeapDumpFormatter;
 
@@ -91,11 +94,14 @@ public class HeapdumpCommand extends BaseJdmpviewCommand
 	//Do not change the order this array - the indexes are used to extract type codes in the getPrimitiveTypeCode method
 	private static final String[] PRIMITIVE_TYPES = { "boolean", "char",
 			"float", "double", "byte", "short", "int", "long", "void" };
+
 	private int _numberOfObjects = 0;
 	private int _numberOfClasses = 0;
 	private int _numberOfErrors = 0;
 	private boolean _verbose = false;
 	private boolean _is32BitHash;
+	private HeapDumpFormatter _listener = null;
+	private boolean _writeFile = true;
 
 	{
 		addCommand(COMMAND_NAME, "", DESCRIPTION);
@@ -108,6 +114,33 @@ public class HeapdumpCommand extends BaseJdmpviewCommand
 		doCommand(args);
 	}
 
+	/**
+	 * Walks the heaps of the runtime in the supplied context without a jdmpview session,
+	 * as done by the batch heap analysis. Every record is also passed to the listener, if
+	 * there is one. The heapdump file, named and formatted by the context properties, is
+	 * only written if writeFile is true.
+	 *
+	 * @return the number of errors found while walking the heaps
+	 * @throws IllegalArgumentException if there is no listener and no file is to be written
+	 */
+	public int dump(IDTFJContext context, PrintStream out, HeapDumpFormatter listener, boolean writeFile)
+	{
+		if (!writeFile && (listener == null)) {
+			throw new IllegalArgumentException("A listener is required when no heapdump file is written");
+		}
+		this.ctx = context;
+		this.out = out;
+		_listener = listener;
+		_writeFile = writeFile;
+		try {
+			doCommand(new String[0]);
+		} finally {
+			_listener = null;
+			_writeFile = true;
+		}
+		return _numberOfErrors;
+	}
+
 	public void doCommand(String[] args)
 	{
 		Set heapsToDump = new HashSet();
@@ -270,29 +303,36 @@ public class HeapdumpCommand extends BaseJdmpviewCommand
 
 		HeapDumpFormatter formatter = getFormatter(filename, version, is64Bit, phdFormat);
 
-		out.println("Writing " + ( phdFormat ? "PHD" : "Classic") + " format heapdump into " + filename);
+		if (_writeFile) {
+			out.println("Writing " + ( phdFormat ? "PHD" : "Classic") + " format heapdump into " + filename);
+		}
 
-		while (heapIterator.hasNext()) {
-			Object thisHeapObj = heapIterator.next();
+		try {
+			while (heapIterator.hasNext()) {
+				Object thisHeapObj = heapIterator.next();
 
-			if (thisHeapObj instanceof CorruptData) {
-				out.println("Corrupt heap data found at: "
-						+ ((CorruptData) thisHeapObj).getAddress());
-				_numberOfErrors++;
-				continue;
-			}
+				if (thisHeapObj instanceof CorruptData) {
+					out.println("Corrupt heap data found at: "
+							+ ((CorruptData) thisHeapObj).getAddress());
+					_numberOfErrors++;
+					continue;
+				}
 
-			JavaHeap thisHeap = (JavaHeap) thisHeapObj;
+				JavaHeap thisHeap = (JavaHeap) thisHeapObj;
 
-			if(heapsToDump.size() > 0 && ! heapsToDump.contains(thisHeap.getName())) {
-				continue;
+				if(heapsToDump.size() > 0 && ! heapsToDump.contains(thisHeap.getName())) {
+					continue;
+				}
+
+				dumpHeap(formatter, thisHeap);
 			}
 
-			dumpHeap(formatter, thisHeap);
+			dumpClasses(formatter,runtime);
+		} catch (IOException | RuntimeException | Error e) {
+			closeAfterFailure(formatter);
+			throw e;
 		}
 
-		dumpClasses(formatter,runtime);
-
 		formatter.close();
 	}
 
@@ -302,42 +342,50 @@ public class HeapdumpCommand extends BaseJdmpviewCommand
 
 		HeapDumpFormatter formatter = null;
 
-		while (heapIterator.hasNext()) {
-			Object thisHeapObj = heapIterator.next();
+		try {
+			while (heapIterator.hasNext()) {
+				Object thisHeapObj = heapIterator.next();
 
-			if (thisHeapObj instanceof CorruptData) {
-				out.println("Heap corrupted at: "
-						+ ((CorruptData) thisHeapObj).getAddress());
-				_numberOfErrors++;
-				continue;
-			}
+				if (thisHeapObj instanceof CorruptData) {
+					out.println("Heap corrupted at: "
+							+ ((CorruptData) thisHeapObj).getAddress());
+					_numberOfErrors++;
+					continue;
+				}
 
-			JavaHeap thisHeap = (JavaHeap) thisHeapObj;
+				JavaHeap thisHeap = (JavaHeap) thisHeapObj;
 
-			// Create a new heapdump formatter for every heap we find
-			if (formatter != null) {
-				formatter.close();
-			}
+				// Create a new heapdump formatter for every heap we find
+				if (formatter != null) {
+					formatter.close();
+					formatter = null;
+				}
 
-			if(heapsToDump.size() > 0 && ! heapsToDump.contains(thisHeap.getName())) {
-				continue;
-			}
+				if(heapsToDump.size() > 0 && ! heapsToDump.contains(thisHeap.getName())) {
+					continue;
+				}
 
-			String fileName = getFileNameForHeap(thisHeap,baseFileName);
+				String fileName = getFileNameForHeap(thisHeap,baseFileName);
 
-			out.print("Writing "
-					+ ( phdFormat ? "PHD" : "Classic")
-					+ " format heapdump for heap "
-					+ thisHeap.getName()
-					+ " into "
-					+ fileName + "\n");
+				if (_writeFile) {
+					out.print("Writing "
+							+ ( phdFormat ? "PHD" : "Classic")
+							+ " format heapdump for heap "
+							+ thisHeap.getName()
+							+ " into "
+							+ fileName + "\n");
+				}
 
-			formatter = getFormatter(fileName, version, is64Bit, phdFormat);
+				formatter = getFormatter(fileName, version, is64Bit, phdFormat);
 
-			//We have to dump classes in every heapdump
-			dumpClasses(formatter,runtime);
+				//We have to dump classes in every heapdump
+				dumpClasses(formatter,runtime);
 
-			dumpHeap(formatter, thisHeap);
+				dumpHeap(formatter, thisHeap);
+			}
+		} catch (IOException | RuntimeException | Error e) {
+			closeAfterFailure(formatter);
+			throw e;
 		}
 
 		if(formatter != null) {
@@ -345,6 +393,21 @@ public class HeapdumpCommand extends BaseJdmpviewCommand
 		}
 	}
 
+	/**
+	 * Closes a formatter after writing the heapdump has failed, so that its output file is released
+	 * and any compression thread is stopped. The original failure is the one reported.
+	 */
+	private static void closeAfterFailure(HeapDumpFormatter formatter)
+	{
+		if (formatter != null) {
+			try {
+				formatter.close();
+			} catch (IOException | RuntimeException e) {
+				// already failing
+			}
+		}
+	}
+
 	/**
 	 * Walks the runtime classes and passes them through the formatter interface
 	 */
@@ -429,12 +492,18 @@ ITERATING_CLASSES:while(classesIt.hasNext()) {
 	}
 
 	/**
-	 * Walks the supplied heap and passes the artifacts through the formatter
+	 * Walks the supplied heap and passes the artifacts through the formatter.
+	 *
+	 * All DTFJ reads happen on this thread, as DTFJ implementations are not thread safe; only
+	 * compression, if enabled, runs on a separate thread. The references of each object are
+	 * collected into one reused primitive list rather than a new list per object.
 	 */
 	private void dumpHeap(HeapDumpFormatter formatter, JavaHeap thisHeap)
 			throws IOException
 	{
 		Iterator objectIterator = thisHeap.getObjects();
+		LongReferenceList references = new LongReferenceList(1024);
+		LongArrayReferenceIterator referenceIterator = new LongArrayReferenceIterator(new long[0]);
 
 		while (objectIterator.hasNext()) {
 			Object next = objectIterator.next();
@@ -472,32 +541,53 @@ ITERATING_CLASSES:while(classesIt.hasNext()) {
 				}
 
 				if (thisObject.isArray()) {
-					if (isPrimitive(thisClass.getComponentType())) {
+					JavaClass componentType = thisClass.getComponentType();
+
+					if (isPrimitive(componentType)) {
 						formatter.addPrimitiveArray(thisObject.getID().getAddress(),
-													thisClassObject.getID().getAddress(),
-													getPrimitiveTypeCode(thisClass.getComponentType()),
-													thisObject.getSize(),
-													hashcode,
-													thisObject.getArraySize());
+												thisClassObject.getID().getAddress(),
+												getPrimitiveTypeCode(componentType),
+												thisObject.getSize(),
+												hashcode,
+												thisObject.getArraySize());
 					} else {
-						formatter.addObjectArray(thisObject.getID().getAddress(),
-								thisClassObject.getID().getAddress(),
-								thisClass.getName(),
-								thisClass.getComponentType().getObject().getID().getAddress(),
-								thisClass.getComponentType().getName(),
-								thisObject.getSize(),
-								thisObject.getArraySize(),
+						long address = thisObject.getID().getAddress();
+						long classAddress = thisClassObject.getID().getAddress();
+						String className = thisClass.getName();
+						long elementClassAddress = componentType.getObject().getID().getAddress();
+						String elementClassName = componentType.getName();
+						long size = thisObject.getSize();
+						int numberOfElements = thisObject.getArraySize();
+
+						references.clear();
+						addObjectReferences(thisObject, references);
+						referenceIterator.set(references.array(), 0, references.size());
+						formatter.addObjectArray(address,
+								classAddress,
+								className,
+								elementClassAddress,
+								elementClassName,
+								size,
+								numberOfElements,
 								hashcode,
-								getObjectReferences(thisObject));
+								referenceIterator);
 					}
 				}
 				else {
-					formatter.addObject(thisObject.getID().getAddress(),
-										thisClassObject.getID().getAddress(),
-										thisClass.getName(),
-										(int)thisObject.getSize(),
-										hashcode,
-										getObjectReferences(thisObject));
+					long address = thisObject.getID().getAddress();
+					long classAddress = thisClassObject.getID().getAddress();
+					String className = thisClass.getName();
+					int size = (int)thisObject.getSize();
+
+					references.clear();
+					addObjectReferences(thisObject, references);
+					referenceIterator.set(references.array(), 0, references.size());
+					formatter.addObject(address,
+									classAddress,
+									className,
+									size,
+									hashcode,
+									referenceIterator);
 				}
 			}
 			catch (CorruptDataException ex) {
@@ -520,7 +610,7 @@ ITERATING_CLASSES:while(classesIt.hasNext()) {
 	 */
 	private ReferenceIterator getClassReferences(JavaClass thisJavaClass)
 	{
-		List references = new LinkedList();
+		LongReferenceList references = new LongReferenceList();
 
 		try {
 			// Class object instance references
@@ -537,14 +627,14 @@ ITERATING_CLASSES:while(classesIt.hasNext()) {
 				if (cpObject instanceof JavaClass) {
 					// Found a class reference, add it to the list
 					JavaClass cpJavaClass = (JavaClass)cpObject;
-					references.add(Long.valueOf(cpJavaClass.getObject().getID().getAddress()));
+					references.add(cpJavaClass.getObject().getID().getAddress());
 				}
 			}
 
 			// Superclass references
 			JavaClass superClass = thisJavaClass.getSuperclass();
 			while (null != superClass){
-				references.add(Long.valueOf(superClass.getObject().getID().getAddress()));
+				references.add(superClass.getObject().getID().getAddress());
 				superClass = superClass.getSuperclass();
 			}
 
@@ -554,7 +644,7 @@ ITERATING_CLASSES:while(classesIt.hasNext()) {
 			if(loader != null) {
 				JavaObject loaderObject = loader.getObject();
 				if(loaderObject != null) {
-					references.add(Long.valueOf(loaderObject.getID().getAddress()));
+					references.add(loaderObject.getID().getAddress());
 				} else {
 					reportError("Null loader object returned for class: " + thisJavaClass.getName() + "(" + thisJavaClass.getID() + ")",null);
 					_numberOfErrors++;
@@ -569,19 +659,19 @@ ITERATING_CLASSES:while(classesIt.hasNext()) {
 			_numberOfErrors++;
 		}
 
-		return new LongListReferenceIterator(references);
+		return new LongArrayReferenceIterator(references.array(), 0, references.size());
 	}
 
 	private long pdSkipCount = 0;
 
 	private void addProtectionDomainReference(JavaClass thisJavaClass,
-			List references) throws CorruptDataException, MemoryAccessException
+			LongReferenceList references) throws CorruptDataException, MemoryAccessException
 
 	{
 		try {
 			JavaObject protectionDomain = thisJavaClass.getProtectionDomain();
 			if(protectionDomain != null) {
-				references.add(Long.valueOf(protectionDomain.getID().getAddress()));
+				references.add(protectionDomain.getID().getAddress());
 			}
 		} catch (DataUnavailable e) {
 			//record that access to the protection domain was not possible
@@ -594,7 +684,7 @@ ITERATING_CLASSES:while(classesIt.hasNext()) {
 	 * @param thisClass Class being examined
 	 * @param references List to add references to
 	 */
-	private void addStaticReferences(JavaClass thisClass, List references)
+	private void addStaticReferences(JavaClass thisClass, LongReferenceList references)
 			throws CorruptDataException, MemoryAccessException
 	{
 		Iterator fieldsIt = thisClass.getDeclaredFields();
@@ -632,9 +722,9 @@ ITERATING_CLASSES:while(classesIt.hasNext()) {
 			} else if (referent instanceof JavaObject) {
 				JavaObject referredObject = (JavaObject) referent;
 
-				references.add(Long.valueOf(referredObject.getID().getAddress()));
+				references.add(referredObject.getID().getAddress());
 			} else if (referent == null) {
-				references.add(Long.valueOf(0));
+				references.add(0);
 			} else if (referent instanceof Number || referent instanceof Boolean || referent instanceof Character) {
 				//Ignore
 			} else {
@@ -652,13 +742,13 @@ ITERATING_CLASSES:while(classesIt.hasNext()) {
 	}
 
 	/**
-	 * Gets instance references for objects
+	 * Adds the instance references for an object to the list
 	 * @param thisObject Object being examined
-	 * @return Iterator of references
+	 * @param references List to add references to
 	 */
-	private ReferenceIterator getObjectReferences(JavaObject thisObject)
+	private void addObjectReferences(JavaObject thisObject, LongReferenceList references)
 	{
-		List<Long> references = new LinkedList<Long>();
+		int start = references.size();
 
 		try {
 			addReferences(thisObject, references);
@@ -674,29 +764,21 @@ ITERATING_CLASSES:while(classesIt.hasNext()) {
 				 * <p>
 				 * See CMVC 193691
 				 */
-				Long[] refsAsArray = references.toArray(new Long[0]); // Java idiom to dump a list to an array
-				references.clear();
-
-				for (int i = refsAsArray.length - 1; i >= 0; i--) {
-					references.add(refsAsArray[i]);
-				}
+				references.reverse(start, references.size());
 			}
 		} catch(DTFJException ex) {
 			_numberOfErrors++;
 			reportError(null,ex);
 		}
-
-		return new LongListReferenceIterator(references);
 	}
 
 	/**
 	 * Extracts the instance references from an object
 	 * @param object Object being walked
-	 * @param references List<Long> to add references to
-	 * @param thisClass Class of object
+	 * @param references List to add references to
 	 */
 	private void addReferences(JavaObject object,
-			List<Long> references) throws CorruptDataException,
+			LongReferenceList references) throws CorruptDataException,
 			MemoryAccessException
 	{
 		Iterator it = object.getReferences();
@@ -711,8 +793,7 @@ ITERATING_CLASSES:while(classesIt.hasNext()) {
 			ref = it.next();
 			if(ref instanceof CorruptData) {
 				// can sometimes get a nasty surprise in the list - e.g. a J9DDRCorruptData
-				_numberOfErrors++;
-				reportError("Corrupt data found at address "
+				error("Corrupt data found at address "
 						+ ((CorruptData)ref).getAddress()
 						+ " getting references from object at address: "
 						+ Long.toHexString(object.getID().getAddress())
@@ -723,8 +804,7 @@ ITERATING_CLASSES:while(classesIt.hasNext()) {
 				continue;
 			}
 			if ( ! (ref instanceof JavaReference)) {
-				_numberOfErrors++;
-				reportError("Object of unexpected type "
+				error("Object of unexpected type "
 						+ ref.getClass()
 						+ " found within references from object at address: "
 						+ object.getID().getAddress()
@@ -738,20 +818,18 @@ ITERATING_CLASSES:while(classesIt.hasNext()) {
 				try {
 					target = ((JavaReference)ref).getTarget();
 				} catch (DataUnavailable e) {
-					_numberOfErrors++;
-					reportError("DataUnavailable thrown from call to getTarget() on reference: "
+					error("DataUnavailable thrown from call to getTarget() on reference: "
 							+ ref
 							,null);
 					continue;
 				}
 				// the following ugliness is necessary as JavaObject and JavaClass both support getID() but do not inherit from a common parent
 				if (target instanceof JavaObject) {
-					references.add(Long.valueOf(((JavaObject) target).getID().getAddress()));
+					references.add(((JavaObject) target).getID().getAddress());
 				} else if (target instanceof JavaClass) {
-					references.add(Long.valueOf(((JavaClass) target).getID().getAddress()));
+					references.add(((JavaClass) target).getID().getAddress());
 				} else {
-					_numberOfErrors++;
-					reportError("Object of unexpected type "
+					error("Object of unexpected type "
 							+ target.getClass()
 							+ " returned from call to getTarget() on reference "
 							+ ref
@@ -817,12 +895,25 @@ ITERATING_CLASSES:while(classesIt.hasNext()) {
 	private HeapDumpFormatter getFormatter(String fileName, String version,
 			boolean is64Bit, boolean phdFormat) throws IOException
 	{
-		if(phdFormat) {
-			DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(fileName)));
-			return new PortableHeapDumpFormatter(dos,version,is64Bit,_is32BitHash);
+		HeapDumpFormatter formatter = null;
+
+		if(!_writeFile) {
+			// only the listener sees the records
+		} else if(phdFormat) {
+			OutputStream os = new FileOutputStream(fileName);
+			if(HeapDumpSettings.areHeapDumpsCompressed(ctx.getProperties())) {
+				os = new AsyncGZIPOutputStream(os);
+			}
+			DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(os));
+			formatter = new PortableHeapDumpFormatter(dos,version,is64Bit,_is32BitHash);
 		} else {
-			return new ClassicHeapDumpFormatter(new FileWriter(fileName),version,is64Bit);
+			formatter = new ClassicHeapDumpFormatter(new FileWriter(fileName),version,is64Bit);
 		}
+
+		if(_listener != null) {
+			formatter = new TeeHeapDumpFormatter(formatter, _listener, version, is64Bit);
+		}
+		return formatter;
 	}
 
 	/**
@@ -831,6 +922,11 @@ ITERATING_CLASSES:while(classesIt.hasNext()) {
 	 */
 	private String getFileNameForHeap(JavaHeap thisHeap, String baseFileName)
 	{
+		if(baseFileName.endsWith(".gz")) {
+			// keep the compression suffix last, so foo.phd.gz becomes foo.immortal.phd.gz
+			return getFileNameForHeap(thisHeap, baseFileName.substring(0, baseFileName.length() - 3)) + ".gz";
+		}
+
 		int pointIndex = baseFileName.lastIndexOf(".");
 
 		if(pointIndex != -1) {
@@ -840,6 +936,15 @@ ITERATING_CLASSES:while(classesIt.hasNext()) {
 		}
 	}
 
+	/**
+	 * Counts and reports an error found while walking references.
+	 */
+	private void error(String msg, Throwable t)
+	{
+		_numberOfErrors++;
+		reportError(msg, t);
+	}
+
 	/**
 	 * Internal error handling routine that only reports the supplied message if verbose was supplied on the command line.
 	 */
@@ -35,11 +35,12 @@ public class SetHeapdumpCommand extends BaseJdmpviewCommand
 {
 	private static final String SHORT_DESCRIPTION = "configures heapdump format, filename and multiple heap support";
 	private static final String COMMAND_NAME = "set heapdump";
-	private static final String LONG_DESCRIPTION = "parameters: [phd|txt], [file <filename>], [multiplefiles on|off]\n\n"
+	private static final String LONG_DESCRIPTION = "parameters: [phd|txt], [file <filename>], [multiplefiles on|off], [compress on|off]\n\n"
 		+ "[phd|txt] - the format for the heapdump. Default: phd.\n"
 		+ "[file <filename>] - the file to write the heapdump to. Default: <core file name>.phd or <core file name>.txt.\n\n"
 		+ "[multiplefiles on|off] - if set to on, multiple heaps are written to separate heapdumps. If set to off, multiple heaps are written " +
 				"to the same heapdump. Default: off.\n\n"
+		+ "[compress on|off] - if set to on, PHD heapdumps are gzip compressed on a separate thread as they are written. Default: off.\n\n"
 		+ "Use \"show heapdump\" to see current settings.\n";
 
 	{
@@ -105,6 +106,23 @@ public class SetHeapdumpCommand extends BaseJdmpviewCommand
 			} else {
 				out.println("Unrecognised setting: " + setting + ". Valid options are \"on\" or \"off\"\n");
 			}
+		} else if (arg1.equalsIgnoreCase("compress")) {
+			if(args.length != 2) {
+				out.println("\"set heapdump compress\" requires one parameter: on or off\n");
+				return;
+			}
+
+			String setting = args[1];
+
+			if(setting.equalsIgnoreCase("on")) {
+				out.println("PHD heapdumps will be gzip compressed");
+				HeapDumpSettings.setCompressed(ctx.getProperties(), true);
+			} else if (setting.equalsIgnoreCase("off")) {
+				out.println("PHD heapdumps will not be compressed");
+				HeapDumpSettings.setCompressed(ctx.getProperties(), false);
+			} else {
+				out.println("Unrecognised setting: " + setting + ". Valid options are \"on\" or \"off\"\n");
+			}
 		} else {
 			out.println(arg1 + " is not a valid parameter for the \"set heapdump\" command");
 		}
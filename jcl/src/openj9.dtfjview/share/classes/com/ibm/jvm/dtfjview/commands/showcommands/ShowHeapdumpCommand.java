@@ -59,6 +59,7 @@ public class ShowHeapdumpCommand extends BaseJdmpviewCommand
 		out.print("\tMultiple heaps will be written to "
 				+ (HeapDumpSettings.multipleHeapsInMultipleFiles(ctx.getProperties()) ? "multiple files":"a single file")
 				+ "\n");
+		out.print("\tCompressed: " + (HeapDumpSettings.areHeapDumpsCompressed(ctx.getProperties()) ? "on" : "off") + "\n");
 	}
 
 	@Override
@@ -0,0 +1,198 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.jvm.dtfjview.heapdump;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Output stream which gzips its data on a separate thread, so that compression
+ * overlaps with walking the heap rather than adding to it.
+ *
+ * Data is handed to the compressing thread in fixed size blocks; a small pool of
+ * blocks is recycled between the two threads, bounding the memory used.
+ */
+public class AsyncGZIPOutputStream extends OutputStream
+{
+	private static final int BLOCK_SIZE = 256 * 1024;
+	private static final int BLOCK_COUNT = 4;
+	private static final byte[] END_OF_STREAM = new byte[0];
+
+	private final BlockingQueue<byte[]> _full = new ArrayBlockingQueue<byte[]>(BLOCK_COUNT + 1);
+	private final BlockingQueue<byte[]> _free = new ArrayBlockingQueue<byte[]>(BLOCK_COUNT);
+	private final Thread _compressor;
+	private volatile IOException _failure;
+	private byte[] _block;
+	private int _position = 0;
+	private boolean _closed = false;
+
+	public AsyncGZIPOutputStream(final OutputStream out) throws IOException
+	{
+		final GZIPOutputStream gzip = new GZIPOutputStream(out, BLOCK_SIZE);
+
+		for (int i = 0; i < BLOCK_COUNT; i++) {
+			_free.add(new byte[BLOCK_SIZE + 4]);
+		}
+
+		_block = takeFree();
+
+		_compressor = new Thread("heapdump gzip") {
+			@Override
+			public void run()
+			{
+				try {
+					for (;;) {
+						byte[] block = _full.take();
+
+						if (block == END_OF_STREAM) {
+							break;
+						}
+
+						// after a failure keep recycling blocks so the writer never blocks, it will see the failure on its next write
+						if (_failure == null) {
+							try {
+								gzip.write(block, 4, readLength(block));
+							} catch (IOException e) {
+								_failure = e;
+							}
+						}
+
+						_free.put(block);
+					}
+				} catch (InterruptedException e) {
+					_failure = new InterruptedIOException("Compression interrupted");
+				}
+				try {
+					gzip.close();
+				} catch (IOException e) {
+					if (_failure == null) {
+						_failure = e;
+					}
+				}
+			}
+		};
+		_compressor.setDaemon(true);
+		_compressor.start();
+	}
+
+	/* The block length is stored in the first four bytes of each block so no other object needs to travel with it */
+	private static void writeLength(byte[] block, int length)
+	{
+		block[0] = (byte) (length >>> 24);
+		block[1] = (byte) (length >>> 16);
+		block[2] = (byte) (length >>> 8);
+		block[3] = (byte) length;
+	}
+
+	private static int readLength(byte[] block)
+	{
+		return ((block[0] & 0xFF) << 24) | ((block[1] & 0xFF) << 16) | ((block[2] & 0xFF) << 8) | (block[3] & 0xFF);
+	}
+
+	private byte[] takeFree() throws IOException
+	{
+		try {
+			return _free.take();
+		} catch (InterruptedException e) {
+			throw new InterruptedIOException("Interrupted waiting for compression");
+		}
+	}
+
+	private void checkState() throws IOException
+	{
+		if (_closed) {
+			throw new IOException("Stream closed");
+		}
+		if (_failure != null) {
+			throw _failure;
+		}
+	}
+
+	private void handOff() throws IOException
+	{
+		writeLength(_block, _position);
+		try {
+			_full.put(_block);
+		} catch (InterruptedException e) {
+			throw new InterruptedIOException("Interrupted waiting for compression");
+		}
+		_block = takeFree();
+		_position = 0;
+	}
+
+	@Override
+	public void write(int b) throws IOException
+	{
+		checkState();
+		if (_position == BLOCK_SIZE) {
+			handOff();
+		}
+		_block[4 + _position++] = (byte) b;
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException
+	{
+		checkState();
+		while (len > 0) {
+			if (_position == BLOCK_SIZE) {
+				handOff();
+			}
+			int count = Math.min(len, BLOCK_SIZE - _position);
+			System.arraycopy(b, off, _block, 4 + _position, count);
+			_position += count;
+			off += count;
+			len -= count;
+		}
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		if (_closed) {
+			return;
+		}
+		try {
+			if (_position > 0) {
+				handOff();
+			}
+			_full.put(END_OF_STREAM);
+			_compressor.join();
+		} catch (InterruptedException e) {
+			throw new InterruptedIOException("Interrupted waiting for compression");
+		} finally {
+			_closed = true;
+			if (_compressor.isAlive()) {
+				// the end of stream was not handed off, so stop the compressor rather than leave it waiting
+				_compressor.interrupt();
+			}
+		}
+		if (_failure != null) {
+			throw _failure;
+		}
+	}
+}
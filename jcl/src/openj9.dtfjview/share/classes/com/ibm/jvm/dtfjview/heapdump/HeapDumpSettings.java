@@ -40,6 +40,7 @@ public class HeapDumpSettings
 	public static final String HEAP_DUMP_FORMAT_PROPERTY = "heap_dump_format";
 	public static final String MULTIPLE_HEAPS_MULTIPLE_FILES_PROPERTY = "heap_dump_multiple_heaps_multiple_files";
 	public static final String HEAP_DUMP_RUNTIME_ID = "heap_dump_runtime_id";
+	public static final String HEAP_DUMP_COMPRESS_PROPERTY = "heap_dump_compress";
 
 	public static void setFileName(String fileName,Map properties)
 	{
@@ -75,6 +76,9 @@ public class HeapDumpSettings
 		}
 
 		if(areHeapDumpsPHD(properties)) {
+			if(areHeapDumpsCompressed(properties)) {
+				return baseFileName + runtimeID +".phd.gz";
+			}
 			return baseFileName + runtimeID +".phd";
 		} else {
 			return baseFileName + runtimeID +".txt";
@@ -126,4 +130,20 @@ public class HeapDumpSettings
 			return multipleFilesValue.equals("true");
 		}
 	}
+
+	public static void setCompressed(Map properties, boolean compressed)
+	{
+		properties.put(HEAP_DUMP_COMPRESS_PROPERTY, compressed ? "true" : "false");
+	}
+
+	/**
+	 * PHD heapdumps can be gzipped as they are written. The DTFJ PHD reader
+	 * accepts gzipped files directly.
+	 */
+	public static boolean areHeapDumpsCompressed(Map properties)
+	{
+		Object compressValue = properties.get(HEAP_DUMP_COMPRESS_PROPERTY);
+
+		return compressValue != null && compressValue.equals("true");
+	}
 }
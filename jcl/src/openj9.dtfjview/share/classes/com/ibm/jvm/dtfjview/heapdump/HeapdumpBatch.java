@@ -0,0 +1,383 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.jvm.dtfjview.heapdump;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.ibm.dtfj.image.Image;
+import com.ibm.dtfj.image.ImageAddressSpace;
+import com.ibm.dtfj.image.ImageFactory;
+import com.ibm.dtfj.image.ImageProcess;
+import com.ibm.dtfj.java.JavaRuntime;
+import com.ibm.dtfj.utils.file.FileManager;
+import com.ibm.java.diagnostics.utils.DTFJContext;
+import com.ibm.jvm.dtfjview.ExitCodes;
+import com.ibm.jvm.dtfjview.SessionProperties;
+import com.ibm.jvm.dtfjview.commands.HeapdumpCommand;
+
+/**
+ * Headless tool writing class histograms, leak-suspect summaries and optionally
+ * PHD heapdumps for a set of system cores, without an interactive jdmpview session.
+ *
+ * Several cores are processed at once; the number is limited by the processors and
+ * by the Java heap available for each core. Each Java runtime is walked once, with
+ * the heapdump records passed to both the PHD writer and the histogram. Outputs
+ * which are newer than their core are not regenerated, so an interrupted batch
+ * can be resumed. The DDR classes generated for a core are reused for the other
+ * cores from the same build.
+ */
+public class HeapdumpBatch
+{
+	private static final String HISTOGRAM_SUFFIX = ".histogram.csv";
+	private static final String SUSPECTS_SUFFIX = ".suspects.txt";
+	private static final String DEFAULT_FACTORY = "com.ibm.dtfj.image.j9.ImageFactory";
+	private static final String SYSPROP_FACTORY = "com.ibm.dtfj.image.factory";
+
+	private File _outputDirectory = null;
+	private boolean _writePHD = false;
+	private boolean _compress = false;
+	private boolean _force = false;
+	private int _jobs = 0;
+	private long _memoryPerCore = 1024;
+	private int _top = 20;
+	private double _threshold = 10.0;
+	private final List<File> _cores = new ArrayList<File>();
+
+	public static void main(String[] args)
+	{
+		HeapdumpBatch batch = new HeapdumpBatch();
+
+		if (!batch.parseArguments(args)) {
+			printHelp();
+			System.exit(ExitCodes.JDMPVIEW_SYNTAX_ERROR);
+		}
+		System.exit(batch.run());
+	}
+
+	private static void printHelp()
+	{
+		System.out.println("Usage: java -m openj9.dtfjview/com.ibm.jvm.dtfjview.heapdump.HeapdumpBatch [options] <core file or archive>...\n");
+		System.out.println("  -outdir <dir>      directory for the output files (default: the directory of each core)");
+		System.out.println("  -phd               also write a PHD heapdump for each Java runtime");
+		System.out.println("  -compress          gzip the PHD heapdumps");
+		System.out.println("  -jobs <n>          number of cores processed at once (default: limited by processors and -memory)");
+		System.out.println("  -memory <MB>       Java heap to allow for each core when choosing the number of jobs (default: 1024)");
+		System.out.println("  -top <n>           number of classes and objects in the leak-suspect summary (default: 20)");
+		System.out.println("  -threshold <pct>   share of the heap above which a class is a leak suspect (default: 10)");
+		System.out.println("  -force             process cores whose outputs are already up to date");
+	}
+
+	private boolean parseArguments(String[] args)
+	{
+		try {
+			for (int i = 0; i < args.length; i++) {
+				String arg = args[i];
+
+				if (arg.equals("-outdir") && (i + 1 < args.length)) {
+					_outputDirectory = new File(args[++i]);
+				} else if (arg.equals("-phd")) {
+					_writePHD = true;
+				} else if (arg.equals("-compress")) {
+					_compress = true;
+				} else if (arg.equals("-force")) {
+					_force = true;
+				} else if (arg.equals("-jobs") && (i + 1 < args.length)) {
+					_jobs = Integer.parseInt(args[++i]);
+				} else if (arg.equals("-memory") && (i + 1 < args.length)) {
+					_memoryPerCore = Long.parseLong(args[++i]);
+				} else if (arg.equals("-top") && (i + 1 < args.length)) {
+					_top = Integer.parseInt(args[++i]);
+				} else if (arg.equals("-threshold") && (i + 1 < args.length)) {
+					_threshold = Double.parseDouble(args[++i]);
+				} else if (arg.startsWith("-")) {
+					System.err.println("Unrecognised option: " + arg);
+					return false;
+				} else {
+					_cores.add(new File(arg));
+				}
+			}
+		} catch (NumberFormatException e) {
+			System.err.println("Invalid number: " + e.getMessage());
+			return false;
+		}
+		return !_cores.isEmpty() && _jobs >= 0 && _memoryPerCore > 0 && _top >= 0;
+	}
+
+	/**
+	 * Chooses how many cores to process at once: the requested number, or as many as
+	 * there are processors and heap for.
+	 */
+	private int getJobs()
+	{
+		if (_jobs > 0) {
+			return Math.min(_jobs, _cores.size());
+		}
+
+		Runtime runtime = Runtime.getRuntime();
+		long maxMemory = runtime.maxMemory();
+		int byProcessors = runtime.availableProcessors();
+		int byMemory = (maxMemory == Long.MAX_VALUE) ? byProcessors : (int) Math.max(1, maxMemory / (_memoryPerCore << 20));
+
+		return Math.min(_cores.size(), Math.min(byProcessors, byMemory));
+	}
+
+	private int run()
+	{
+		if (_outputDirectory != null && !_outputDirectory.isDirectory() && !_outputDirectory.mkdirs()) {
+			System.err.println("Could not create the output directory " + _outputDirectory);
+			return ExitCodes.JDMPVIEW_FILE_ERROR;
+		}
+
+		int jobs = getJobs();
+		ExecutorService executor = Executors.newFixedThreadPool(jobs, r -> {
+			Thread thread = new Thread(r, "heapdump batch");
+			thread.setDaemon(true);
+			return thread;
+		});
+		List<Future<Integer>> results = new ArrayList<Future<Integer>>();
+		int status = ExitCodes.JDMPVIEW_SUCCESS;
+
+		System.out.println("Processing " + _cores.size() + " cores, " + jobs + " at a time");
+		for (final File core : _cores) {
+			results.add(executor.submit(() -> processCore(core)));
+		}
+
+		// a failing core is reported and the batch carries on with the others
+		try {
+			for (int i = 0; i < results.size(); i++) {
+				int coreStatus;
+
+				try {
+					coreStatus = results.get(i).get().intValue();
+				} catch (ExecutionException e) {
+					synchronized (System.out) {
+						System.out.println("Core " + _cores.get(i) + ":");
+						System.out.println("\tcould not process the core:");
+						e.getCause().printStackTrace(System.out);
+						System.out.flush();
+					}
+					coreStatus = ExitCodes.JDMPVIEW_INTERNAL_ERROR;
+				}
+				status = Math.max(status, coreStatus);
+			}
+			executor.shutdown();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			executor.shutdownNow();
+			status = ExitCodes.JDMPVIEW_INTERNAL_ERROR;
+		}
+		return status;
+	}
+
+	private static ImageFactory getFactory() throws IOException
+	{
+		String factoryName = System.getProperty(SYSPROP_FACTORY, DEFAULT_FACTORY);
+
+		try {
+			return (ImageFactory) Class.forName(factoryName).getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException | ClassCastException e) {
+			throw new IOException("Could not create the image factory " + factoryName, e);
+		}
+	}
+
+	private File getOutputBase(File core)
+	{
+		File directory = (_outputDirectory != null) ? _outputDirectory : core.getAbsoluteFile().getParentFile();
+
+		return new File(directory, core.getName());
+	}
+
+	/**
+	 * Checks whether the outputs of an earlier run are newer than the core.
+	 */
+	private boolean isUpToDate(File core)
+	{
+		File histogram = new File(getOutputBase(core).getPath() + HISTOGRAM_SUFFIX);
+
+		return histogram.isFile() && histogram.lastModified() >= core.lastModified();
+	}
+
+	/**
+	 * Processes every Java runtime in a core. The messages for the core are collected
+	 * and printed together so the output of concurrent cores is not interleaved.
+	 *
+	 * @return the exit code for the core
+	 */
+	private Integer processCore(File core)
+	{
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(buffer, true);
+		int status = ExitCodes.JDMPVIEW_SUCCESS;
+		long start = System.nanoTime();
+
+		out.println("Core " + core + ":");
+		if (!core.isFile()) {
+			out.println("\tfile not found");
+			status = ExitCodes.JDMPVIEW_FILE_ERROR;
+		} else if (!_force && isUpToDate(core)) {
+			out.println("\toutputs are up to date, skipped");
+		} else {
+			try {
+				ImageFactory factory = getFactory();
+				Image[] images;
+
+				if (FileManager.isArchive(core)) {
+					images = factory.getImagesFromArchive(core, false);
+				} else {
+					images = new Image[] { factory.getImage(core) };
+				}
+
+				int runtimes = 0;
+				for (Image image : images) {
+					try {
+						runtimes = processImage(factory, image, core, runtimes, out);
+					} finally {
+						image.close();
+					}
+				}
+				if (runtimes == 0) {
+					out.println("\tno Java runtime found");
+					status = ExitCodes.JDMPVIEW_NOJVM_ERROR;
+				}
+			} catch (IOException e) {
+				out.println("\tcould not process the core: " + e.getMessage());
+				status = ExitCodes.JDMPVIEW_FILE_ERROR;
+			} catch (Throwable e) {
+				out.println("\tcould not process the core:");
+				e.printStackTrace(out);
+				status = ExitCodes.JDMPVIEW_INTERNAL_ERROR;
+			}
+			out.printf("\tdone in %.1f s%n", (System.nanoTime() - start) / 1e9);
+		}
+
+		synchronized (System.out) {
+			System.out.print(buffer.toString());
+			System.out.flush();
+		}
+		return Integer.valueOf(status);
+	}
+
+	private int processImage(ImageFactory factory, Image image, File core, int runtimeCount, PrintStream out) throws IOException
+	{
+		int count = runtimeCount;
+
+		for (Iterator<?> spaces = image.getAddressSpaces(); spaces.hasNext();) {
+			Object space = spaces.next();
+
+			if (!(space instanceof ImageAddressSpace)) {
+				continue;
+			}
+			for (Iterator<?> processes = ((ImageAddressSpace) space).getProcesses(); processes.hasNext();) {
+				Object process = processes.next();
+
+				if (!(process instanceof ImageProcess)) {
+					continue;
+				}
+				for (Iterator<?> runtimes = ((ImageProcess) process).getRuntimes(); runtimes.hasNext();) {
+					Object runtime = runtimes.next();
+
+					if (runtime instanceof JavaRuntime) {
+						DTFJContext context = new DTFJContext(factory.getDTFJMajorVersion(), factory.getDTFJMinorVersion(),
+								image, (ImageAddressSpace) space, (ImageProcess) process, (JavaRuntime) runtime);
+
+						processRuntime(context, core, count, out);
+						count++;
+					}
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Walks the heaps of one Java runtime and writes its outputs. Each output is written
+	 * to a temporary file first, so an interrupted run never leaves an output that looks
+	 * complete.
+	 */
+	private void processRuntime(DTFJContext context, File core, int runtimeIndex, PrintStream out) throws IOException
+	{
+		String base = getOutputBase(core).getPath() + ((runtimeIndex > 0) ? "." + runtimeIndex : "");
+		String phdName = base + (_compress ? ".phd.gz" : ".phd");
+		File phdTemp = new File(phdName + ".tmp");
+		Properties properties = context.getProperties();
+
+		properties.put(SessionProperties.CORE_FILE_PATH_PROPERTY, core.getAbsolutePath());
+		HeapDumpSettings.setFileName(phdTemp.getPath(), properties);
+		HeapDumpSettings.setPHDHeapDumps(properties);
+		HeapDumpSettings.setMultipleHeapsSingleFile(properties);
+		HeapDumpSettings.setCompressed(properties, _compress);
+
+		String version;
+		try {
+			version = context.getRuntime().getVersion();
+		} catch (Exception e) {
+			version = "";
+		}
+
+		HistogramHeapDumpFormatter histogram = new HistogramHeapDumpFormatter(version, false, _top);
+		int errors = new HeapdumpCommand().dump(context, out, histogram, _writePHD);
+
+		if (_writePHD) {
+			Files.move(phdTemp.toPath(), new File(phdName).toPath(), StandardCopyOption.REPLACE_EXISTING);
+			out.println("\twrote " + phdName);
+		}
+
+		File suspects = new File(base + SUSPECTS_SUFFIX);
+		File suspectsTemp = new File(suspects.getPath() + ".tmp");
+		try (PrintWriter writer = new PrintWriter(new FileWriter(suspectsTemp))) {
+			writer.println("Leak-suspect summary for " + core.getAbsolutePath());
+			writer.println(version);
+			if (errors > 0) {
+				writer.println("Warning: " + errors + " errors were found while walking the heap; the figures may be incomplete.");
+			}
+			writer.println();
+			histogram.writeLeakSuspects(writer, _threshold, _top);
+		}
+		Files.move(suspectsTemp.toPath(), suspects.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		out.println("\twrote " + suspects);
+
+		// the histogram is written last, as its timestamp marks the core as done
+		File histogramFile = new File(base + HISTOGRAM_SUFFIX);
+		File histogramTemp = new File(histogramFile.getPath() + ".tmp");
+		try (PrintWriter writer = new PrintWriter(new FileWriter(histogramTemp))) {
+			histogram.writeHistogram(writer);
+		}
+		Files.move(histogramTemp.toPath(), histogramFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		out.println("\twrote " + histogramFile + " (" + histogram.getTotalObjects() + " objects, " + histogram.getTotalBytes() + " bytes)");
+	}
+}
@@ -0,0 +1,320 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.jvm.dtfjview.heapdump;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Builds a class histogram and a summary of likely leak suspects from the
+ * heapdump records, instead of writing them to a file.
+ *
+ * Memory use is bounded by the number of classes and the number of largest
+ * objects kept, not by the size of the heap. Sizes are shallow sizes: retained
+ * sizes need the whole reference graph, for which a PHD should be written and
+ * loaded into a heap analyzer.
+ */
+public class HistogramHeapDumpFormatter extends HeapDumpFormatter
+{
+	/* Names of the primitive array classes, indexed by the type codes of addPrimitiveArray() */
+	private static final String[] PRIMITIVE_ARRAY_NAMES = { "[Z", "[C", "[F", "[D", "[B", "[S", "[I", "[J" };
+	private static final String CLASS_CLASS_NAME = "java/lang/Class";
+
+	private static final class ClassEntry
+	{
+		final long address;
+		String name;
+		boolean defined;
+		long instances;
+		long bytes;
+
+		ClassEntry(long address)
+		{
+			this.address = address;
+		}
+	}
+
+	private static final class LargeObject implements Comparable<LargeObject>
+	{
+		final long address;
+		final long classAddress;
+		final long size;
+		final int numberOfElements;
+
+		LargeObject(long address, long classAddress, long size, int numberOfElements)
+		{
+			this.address = address;
+			this.classAddress = classAddress;
+			this.size = size;
+			this.numberOfElements = numberOfElements;
+		}
+
+		public int compareTo(LargeObject other)
+		{
+			return Long.compare(size, other.size);
+		}
+	}
+
+	private final Map<Long, ClassEntry> _classes = new HashMap<Long, ClassEntry>();
+	private final PriorityQueue<LargeObject> _largest = new PriorityQueue<LargeObject>();
+	private final int _largestLimit;
+	private long _classObjects = 0;
+	private long _classObjectBytes = 0;
+	private long _totalObjects = 0;
+	private long _totalBytes = 0;
+
+	/**
+	 * Constructor
+	 *
+	 * @param version JVM version information
+	 * @param is64Bit True if we are dumping a 64 bit image, false otherwise
+	 * @param largestLimit Number of largest objects to keep for the leak-suspect summary
+	 */
+	public HistogramHeapDumpFormatter(String version, boolean is64Bit, int largestLimit)
+	{
+		super(version, is64Bit);
+		_largestLimit = largestLimit;
+	}
+
+	private ClassEntry getEntry(long address, String name)
+	{
+		ClassEntry entry = _classes.get(address);
+
+		if (entry == null) {
+			entry = new ClassEntry(address);
+			_classes.put(address, entry);
+		}
+		if (entry.name == null) {
+			entry.name = name;
+		}
+		return entry;
+	}
+
+	private void addInstance(long address, long classAddress, String className, long size, int numberOfElements)
+	{
+		ClassEntry entry = getEntry(classAddress, className);
+
+		entry.instances++;
+		entry.bytes += size;
+		_totalObjects++;
+		_totalBytes += size;
+
+		if (_largestLimit > 0) {
+			if (_largest.size() < _largestLimit) {
+				_largest.add(new LargeObject(address, classAddress, size, numberOfElements));
+			} else if (_largest.peek().size < size) {
+				_largest.poll();
+				_largest.add(new LargeObject(address, classAddress, size, numberOfElements));
+			}
+		}
+	}
+
+	public void addClass(long address, String name, long superClassAddress, int size, long instanceSize,
+			int hashCode, ReferenceIterator references) throws IOException
+	{
+		ClassEntry entry = getEntry(address, name);
+
+		// classes are written to every file when each heap has its own heapdump
+		if (!entry.defined) {
+			entry.defined = true;
+			entry.name = name;
+			_classObjects++;
+			_classObjectBytes += size;
+			_totalObjects++;
+			_totalBytes += size;
+		}
+	}
+
+	public void addObject(long address, long classAddress, String className, int size, int hashCode,
+			ReferenceIterator references) throws IOException
+	{
+		addInstance(address, classAddress, className, size, -1);
+	}
+
+	public void addPrimitiveArray(long address, long arrayClassAddress, int type, long size, int hashCode,
+			int numberOfElements) throws IOException, IllegalArgumentException
+	{
+		if (type < 0 || type >= PRIMITIVE_ARRAY_NAMES.length) {
+			throw new IllegalArgumentException("Invalid primitive type code: " + type);
+		}
+		addInstance(address, arrayClassAddress, PRIMITIVE_ARRAY_NAMES[type], size, numberOfElements);
+	}
+
+	public void addObjectArray(long address, long arrayClassAddress, String arrayClassName,
+			long elementClassAddress, String elementClassName, long size, int numberOfElements, int hashCode,
+			ReferenceIterator references) throws IOException
+	{
+		addInstance(address, arrayClassAddress, arrayClassName, size, numberOfElements);
+	}
+
+	public void close() throws IOException
+	{
+		// nothing to release, the results are written on request
+	}
+
+	public long getTotalObjects()
+	{
+		return _totalObjects;
+	}
+
+	public long getTotalBytes()
+	{
+		return _totalBytes;
+	}
+
+	/**
+	 * Returns the classes with instances, largest total size first. Class objects,
+	 * which are not in the heap walk, are counted as instances of java/lang/Class.
+	 */
+	private List<ClassEntry> getHistogram()
+	{
+		List<ClassEntry> histogram = new ArrayList<ClassEntry>();
+		ClassEntry classClass = null;
+
+		for (ClassEntry entry : _classes.values()) {
+			if (classClass == null && CLASS_CLASS_NAME.equals(entry.name)) {
+				classClass = entry;
+			}
+			if (entry.instances > 0) {
+				histogram.add(entry);
+			}
+		}
+
+		if (_classObjects > 0) {
+			ClassEntry classObjects = new ClassEntry(classClass != null ? classClass.address : 0);
+
+			classObjects.name = CLASS_CLASS_NAME;
+			classObjects.instances = _classObjects;
+			classObjects.bytes = _classObjectBytes;
+			if (classClass != null) {
+				histogram.remove(classClass);
+				classObjects.instances += classClass.instances;
+				classObjects.bytes += classClass.bytes;
+			}
+			histogram.add(classObjects);
+		}
+
+		Collections.sort(histogram, (a, b) -> (a.bytes != b.bytes) ? Long.compare(b.bytes, a.bytes) : Long.compare(b.instances, a.instances));
+		return histogram;
+	}
+
+	private String getClassName(long address)
+	{
+		ClassEntry entry = _classes.get(address);
+
+		return (entry != null && entry.name != null) ? entry.name : "<unknown>";
+	}
+
+	/**
+	 * Writes the histogram as comma separated values: class name, class address,
+	 * number of instances and their total size in bytes.
+	 */
+	public void writeHistogram(PrintWriter writer)
+	{
+		writer.println("class,address,instances,bytes");
+		for (ClassEntry entry : getHistogram()) {
+			writer.print(quote(entry.name != null ? entry.name : "<unknown>"));
+			writer.print(",0x");
+			writer.print(Long.toHexString(entry.address));
+			writer.print(',');
+			writer.print(entry.instances);
+			writer.print(',');
+			writer.println(entry.bytes);
+		}
+	}
+
+	private static String quote(String value)
+	{
+		if (value.indexOf(',') < 0 && value.indexOf('"') < 0) {
+			return value;
+		}
+		return '"' + value.replace("\"", "\"\"") + '"';
+	}
+
+	/**
+	 * Writes a summary of the classes and objects taking an unusual share of the heap.
+	 *
+	 * @param writer Where to write the summary
+	 * @param threshold Percentage of the heap above which a class is reported as a suspect
+	 * @param limit Number of classes and objects to list
+	 */
+	public void writeLeakSuspects(PrintWriter writer, double threshold, int limit)
+	{
+		List<ClassEntry> histogram = getHistogram();
+
+		writer.printf("Objects: %d, total size: %d bytes, classes with instances: %d%n", _totalObjects, _totalBytes, histogram.size());
+		writer.println();
+
+		writer.printf("Leak suspects (classes using more than %.1f%% of the heap):%n", threshold);
+		boolean found = false;
+		for (ClassEntry entry : histogram) {
+			double share = percentage(entry.bytes);
+
+			if (share < threshold) {
+				break;
+			}
+			writer.printf("\t%5.1f%%  %d bytes in %d instances (average %d bytes) of %s%n",
+					share, entry.bytes, entry.instances, entry.bytes / entry.instances, entry.name);
+			found = true;
+		}
+		if (!found) {
+			writer.println("\tnone");
+		}
+		writer.println();
+
+		writer.printf("Top %d classes by total size:%n", Math.min(limit, histogram.size()));
+		for (int i = 0; i < limit && i < histogram.size(); i++) {
+			ClassEntry entry = histogram.get(i);
+
+			writer.printf("\t%5.1f%%  %d bytes in %d instances of %s%n",
+					percentage(entry.bytes), entry.bytes, entry.instances, entry.name);
+		}
+		writer.println();
+
+		List<LargeObject> largest = new ArrayList<LargeObject>(_largest);
+
+		Collections.sort(largest, Collections.reverseOrder());
+		writer.printf("Largest %d objects:%n", Math.min(limit, largest.size()));
+		for (int i = 0; i < limit && i < largest.size(); i++) {
+			LargeObject object = largest.get(i);
+
+			writer.printf("\t%5.1f%%  %d bytes at 0x%x, %s", percentage(object.size), object.size, object.address,
+					getClassName(object.classAddress));
+			if (object.numberOfElements >= 0) {
+				writer.printf(" with %d elements", object.numberOfElements);
+			}
+			writer.println();
+		}
+	}
+
+	private double percentage(long bytes)
+	{
+		return (_totalBytes == 0) ? 0 : (bytes * 100.0) / _totalBytes;
+	}
+}
@@ -24,25 +24,57 @@ package com.ibm.jvm.dtfjview.heapdump;
 
 public class LongArrayReferenceIterator implements ReferenceIterator
 {
-	private final long _fields[];
-	private int _index = 0;
+	private static final long[] EMPTY = new long[0];
+
+	private long _fields[];
+	private int _start;
+	private int _end;
+	private int _index;
 
 	public LongArrayReferenceIterator(long[] fields) {
 		if(fields != null) {
-			_fields = fields;
+			set(fields, 0, fields.length);
 		} else {
-			_fields = new long[0];
+			set(EMPTY, 0, 0);
+		}
+	}
+
+	/**
+	 * Iterates over the references fields[offset] to fields[offset + length - 1].
+	 */
+	public LongArrayReferenceIterator(long[] fields, int offset, int length) {
+		set(fields, offset, length);
+	}
+
+	/**
+	 * Re-targets this iterator at a different range so a single instance can be used
+	 * for many records. The formatters consume the references before returning, so the
+	 * iterator must not be re-targeted while a record is being written.
+	 */
+	public void set(long[] fields, int offset, int length)
+	{
+		if ((offset < 0) || (length < 0) || (offset + length > fields.length)) {
+			throw new IndexOutOfBoundsException("offset " + offset + ", length " + length + ", array length " + fields.length);
 		}
+		_fields = fields;
+		_start = offset;
+		_end = offset + length;
+		_index = offset;
 	}
 
 	public boolean hasNext()
 	{
-		return _index < (_fields.length);
+		return _index < _end;
 	}
 
 	public Long next()
 	{
-		Long toReturn = Long.valueOf(_fields[_index]);
+		return Long.valueOf(nextLong());
+	}
+
+	public long nextLong()
+	{
+		long toReturn = _fields[_index];
 
 		_index++;
 
@@ -51,7 +83,7 @@ public class LongArrayReferenceIterator implements ReferenceIterator
 
 	public void reset()
 	{
-		_index = 0;
+		_index = _start;
 	}
 
 }
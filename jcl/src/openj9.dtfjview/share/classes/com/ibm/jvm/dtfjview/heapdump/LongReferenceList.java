@@ -0,0 +1,86 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.jvm.dtfjview.heapdump;
+
+/**
+ * Growable list of references held as primitive longs.
+ *
+ * Intended to be cleared and re-used, so walking a heap does not allocate
+ * a list (or box a Long) per reference.
+ */
+public class LongReferenceList
+{
+	private long[] _data;
+	private int _size = 0;
+
+	public LongReferenceList()
+	{
+		this(16);
+	}
+
+	public LongReferenceList(int initialCapacity)
+	{
+		_data = new long[Math.max(1, initialCapacity)];
+	}
+
+	public void add(long reference)
+	{
+		if (_size == _data.length) {
+			long[] grown = new long[_data.length * 2];
+			System.arraycopy(_data, 0, grown, 0, _size);
+			_data = grown;
+		}
+		_data[_size++] = reference;
+	}
+
+	public int size()
+	{
+		return _size;
+	}
+
+	public void clear()
+	{
+		_size = 0;
+	}
+
+	/**
+	 * Reverses the order of the references from start (inclusive) to end (exclusive).
+	 */
+	public void reverse(int start, int end)
+	{
+		for (int i = start, j = end - 1; i < j; i++, j--) {
+			long temp = _data[i];
+			_data[i] = _data[j];
+			_data[j] = temp;
+		}
+	}
+
+	/**
+	 * The backing array. Only the first {@link #size()} entries are valid, and
+	 * the array may be replaced by later calls to {@link #add(long)}.
+	 */
+	public long[] array()
+	{
+		return _data;
+	}
+}
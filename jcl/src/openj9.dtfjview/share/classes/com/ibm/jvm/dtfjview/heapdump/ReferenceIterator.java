@@ -44,6 +44,17 @@ public interface ReferenceIterator
 	 */
 	public Long next();
 
+	/**
+	 * Primitive form of {@link #next()} for iterators which can supply
+	 * references without boxing them.
+	 *
+	 * @return Next reference
+	 */
+	public default long nextLong()
+	{
+		return next().longValue();
+	}
+
 	/**
 	 * Resets the iterator back to the start of the
 	 * structure it is iterating. Iterator will behave
@@ -0,0 +1,102 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.jvm.dtfjview.heapdump;
+
+import java.io.IOException;
+
+/**
+ * Passes every heapdump record to two formatters, for example to write a PHD
+ * and build a histogram from a single walk of the heap.
+ *
+ * Closing this formatter only closes the primary formatter; the secondary one
+ * belongs to the caller, which may use it across several heapdump files.
+ */
+public class TeeHeapDumpFormatter extends HeapDumpFormatter
+{
+	private final HeapDumpFormatter _primary;
+	private final HeapDumpFormatter _secondary;
+
+	/**
+	 * Constructor
+	 *
+	 * @param primary Formatter writing the heapdump, or null if only the secondary formatter is used
+	 * @param secondary Formatter also receiving every record
+	 * @param version JVM version information
+	 * @param is64Bit True if we are dumping a 64 bit image, false otherwise
+	 */
+	public TeeHeapDumpFormatter(HeapDumpFormatter primary, HeapDumpFormatter secondary, String version, boolean is64Bit)
+	{
+		super(version, is64Bit);
+		_primary = primary;
+		_secondary = secondary;
+	}
+
+	public void addClass(long address, String name, long superClassAddress, int size, long instanceSize,
+			int hashCode, ReferenceIterator references) throws IOException
+	{
+		if (_primary != null) {
+			_primary.addClass(address, name, superClassAddress, size, instanceSize, hashCode, references);
+			references.reset();
+		}
+		_secondary.addClass(address, name, superClassAddress, size, instanceSize, hashCode, references);
+	}
+
+	public void addObject(long address, long classAddress, String className, int size, int hashCode,
+			ReferenceIterator references) throws IOException
+	{
+		if (_primary != null) {
+			_primary.addObject(address, classAddress, className, size, hashCode, references);
+			references.reset();
+		}
+		_secondary.addObject(address, classAddress, className, size, hashCode, references);
+	}
+
+	public void addPrimitiveArray(long address, long arrayClassAddress, int type, long size, int hashCode,
+			int numberOfElements) throws IOException, IllegalArgumentException
+	{
+		if (_primary != null) {
+			_primary.addPrimitiveArray(address, arrayClassAddress, type, size, hashCode, numberOfElements);
+		}
+		_secondary.addPrimitiveArray(address, arrayClassAddress, type, size, hashCode, numberOfElements);
+	}
+
+	public void addObjectArray(long address, long arrayClassAddress, String arrayClassName,
+			long elementClassAddress, String elementClassName, long size, int numberOfElements, int hashCode,
+			ReferenceIterator references) throws IOException
+	{
+		if (_primary != null) {
+			_primary.addObjectArray(address, arrayClassAddress, arrayClassName, elementClassAddress,
+					elementClassName, size, numberOfElements, hashCode, references);
+			references.reset();
+		}
+		_secondary.addObjectArray(address, arrayClassAddress, arrayClassName, elementClassAddress,
+				elementClassName, size, numberOfElements, hashCode, references);
+	}
+
+	public void close() throws IOException
+	{
+		if (_primary != null) {
+			_primary.close();
+		}
+	}
+}
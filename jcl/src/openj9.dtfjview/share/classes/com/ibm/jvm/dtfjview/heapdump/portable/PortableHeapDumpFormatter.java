@@ -24,6 +24,7 @@ package com.ibm.jvm.dtfjview.heapdump.portable;
 
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.util.NoSuchElementException;
 
 import com.ibm.jvm.dtfjview.heapdump.HeapDumpFormatter;
 import com.ibm.jvm.dtfjview.heapdump.ReferenceIterator;
@@ -153,9 +154,11 @@ public class PortableHeapDumpFormatter extends HeapDumpFormatter
 	{
 		_closed = true;
 
-		_out.writeByte(END_OF_DUMP_TAG);
-
-		_out.close();
+		try {
+			_out.writeByte(END_OF_DUMP_TAG);
+		} finally {
+			_out.close();
+		}
 	}
 
 	/**
@@ -168,19 +171,21 @@ public class PortableHeapDumpFormatter extends HeapDumpFormatter
 		return new ReferenceIterator()
 		{
 
-			private Long next;
+			private long next;
+			private boolean hasNext;
 
 			public boolean hasNext()
 			{
-				while(next == null && input.hasNext()) {
-					Long potential = input.next();
+				while(!hasNext && input.hasNext()) {
+					long potential = input.nextLong();
 
-					if(potential.longValue() != 0) {
+					if(potential != 0) {
 						next = potential;
+						hasNext = true;
 					}
 				}
 
-				return next != null;
+				return hasNext;
 			}
 
 			public Long next()
@@ -189,16 +194,24 @@ public class PortableHeapDumpFormatter extends HeapDumpFormatter
 					return null;
 				}
 
-				Long toReturn = next;
-				next = null;
+				return Long.valueOf(nextLong());
+			}
+
+			public long nextLong()
+			{
+				if(! hasNext()) {
+					throw new NoSuchElementException();
+				}
+
+				hasNext = false;
 
-				return toReturn;
+				return next;
 			}
 
 			public void reset()
 			{
 				input.reset();
-				next = null;
+				hasNext = false;
 			}
 
 		};
@@ -46,11 +46,16 @@ public abstract class PortableHeapDumpRecord
 	public static final int ADDRESS_SHIFT_SIZE = 2; // pow(2,2) = 4 - objects
 													// lies on 4 byte boundary
 
+	private static final long[] NO_REFERENCES = new long[0];
+
 	/**
 	 * Address diff-addresses are based from
 	 */
 	protected final long _baseAddress;
-	protected final ReferenceIterator _references;
+	/**
+	 * References relative to _baseAddress, in the order they are written
+	 */
+	protected final long[] _references;
 	protected final byte _referenceFieldSize;
 	protected final long _gapPreceding;
 	protected final byte _gapSize;
@@ -71,9 +76,10 @@ public abstract class PortableHeapDumpRecord
 
 		if(references != null) {
 			_references = getDifferenceReferences(references, address);
-			_referenceFieldSize = calculateReferenceFieldSize(references);
+			_numberOfReferences = _references.length;
+			_referenceFieldSize = calculateReferenceFieldSize(_references);
 		} else {
-			_references = null;
+			_references = NO_REFERENCES;
 			_referenceFieldSize = 0;
 		}
 
@@ -81,24 +87,16 @@ public abstract class PortableHeapDumpRecord
 		_gapSize = sizeofReference(_gapPreceding);
 	}
 
-	private byte calculateReferenceFieldSize(ReferenceIterator references)
+	private static byte calculateReferenceFieldSize(long[] references)
 	{
 		byte toReturn = ONE_BYTE_REF;
 
-		references.reset();
-
-		_numberOfReferences = 0;
-
-		while (references.hasNext()) {
-			Long thisRef = references.next();
-
-			byte thisSize = sizeofReference(thisRef.longValue());
+		for (int i = 0; i < references.length; i++) {
+			byte thisSize = sizeofReference(references[i]);
 
 			if (thisSize > toReturn) {
 				toReturn = thisSize;
 			}
-
-			_numberOfReferences++;
 		}
 
 		return toReturn;
@@ -119,35 +117,33 @@ public abstract class PortableHeapDumpRecord
 
 	}
 
-	protected ReferenceIterator getDifferenceReferences(
+	/**
+	 * Drains the input into an array of addresses relative to base, without boxing.
+	 */
+	protected static long[] getDifferenceReferences(
 			final ReferenceIterator input, final long base)
 	{
-		return new ReferenceIterator()
-		{
+		long[] differences = NO_REFERENCES;
+		int count = 0;
 
-			public boolean hasNext()
-			{
-				return input.hasNext();
-			}
+		input.reset();
 
-			public Long next()
-			{
-				Long toConvert = input.next();
-
-				if (toConvert == null) {
-					return null;
-				}
-				else {
-					return Long.valueOf(getAddressDifference(toConvert.longValue(),
-							base));
-				}
+		while (input.hasNext()) {
+			if (count == differences.length) {
+				long[] grown = new long[Math.max(8, count * 2)];
+				System.arraycopy(differences, 0, grown, 0, count);
+				differences = grown;
 			}
+			differences[count++] = getAddressDifference(input.nextLong(), base);
+		}
 
-			public void reset()
-			{
-				input.reset();
-			}
-		};
+		if (count != differences.length) {
+			long[] trimmed = new long[count];
+			System.arraycopy(differences, 0, trimmed, 0, count);
+			differences = trimmed;
+		}
+
+		return differences;
 	}
 
 	protected static long getAddressDifference(long address, long base)
@@ -157,34 +153,25 @@ public abstract class PortableHeapDumpRecord
 
 	protected final void writeReferences(DataOutput out) throws IOException
 	{
-		_references.reset();
-		if (!_references.hasNext()) {
-			return;
-		}
-
 		switch (_referenceFieldSize) {
 		case PortableHeapDumpRecord.ONE_BYTE_REF:
-			while (_references.hasNext()) {
-				Long thisRef = _references.next();
-				out.writeByte(thisRef.byteValue());
+			for (int i = 0; i < _references.length; i++) {
+				out.writeByte((byte) _references[i]);
 			}
 			break;
 		case PortableHeapDumpRecord.TWO_BYTE_REF:
-			while (_references.hasNext()) {
-				Long thisRef = _references.next();
-				out.writeShort(thisRef.shortValue());
+			for (int i = 0; i < _references.length; i++) {
+				out.writeShort((short) _references[i]);
 			}
 			break;
 		case PortableHeapDumpRecord.FOUR_BYTE_REF:
-			while (_references.hasNext()) {
-				Long thisRef = _references.next();
-				out.writeInt(thisRef.intValue());
+			for (int i = 0; i < _references.length; i++) {
+				out.writeInt((int) _references[i]);
 			}
 			break;
 		case PortableHeapDumpRecord.EIGHT_BYTE_REF:
-			while (_references.hasNext()) {
-				Long thisRef = _references.next();
-				out.writeLong(thisRef.longValue());
+			for (int i = 0; i < _references.length; i++) {
+				out.writeLong(_references[i]);
 			}
 			break;
 		default:
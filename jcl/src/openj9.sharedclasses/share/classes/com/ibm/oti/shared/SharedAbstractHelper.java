@@ -26,6 +26,7 @@ import java.lang.ref.WeakReference;
 import java.security.AccessControlException;
 
 import com.ibm.oti.util.Msg;
+import openj9.internal.management.SharedClassCacheCounters;
 
 /**
  * SharedAbstractHelper provides common functions and data to helper subclasses.
@@ -42,6 +43,7 @@ public abstract class SharedAbstractHelper implements SharedHelper {
 	boolean canFind;
 	boolean canStore;
 	int id;
+	SharedClassCacheCounters.Counters counters;
 
 	/**
 	 * Constructs a new instance of this class.
@@ -55,6 +57,7 @@ public abstract class SharedAbstractHelper implements SharedHelper {
 		this.canFind = canLoaderFind;
 		this.canStore = canLoaderStore;
 		loaderRef = new WeakReference<>(loader);
+		counters = SharedClassCacheCounters.newHelperCounters(getHelperTypeIndex(), loader);
 		/*[MSG "K0591", "Created {0} with id {1}"]*/
 		printVerboseInfo(Msg.getString("K0591", getHelperType(), Integer.valueOf(id))); //$NON-NLS-1$
 	}
@@ -131,4 +134,7 @@ public abstract class SharedAbstractHelper implements SharedHelper {
 	}
 
 	abstract String getHelperType();
+
+	/* one of the helper type constants of SharedClassCacheCounters */
+	abstract int getHelperTypeIndex();
 }
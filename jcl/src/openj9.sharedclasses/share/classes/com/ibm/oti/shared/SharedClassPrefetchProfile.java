@@ -0,0 +1,265 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.oti.shared;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records the order in which the classes of each SharedClassURLClasspathHelper are requested
+ * and replays it in a later run. The profile is enabled by naming a file with the system property
+ * <code>com.ibm.oti.shared.prefetchProfile</code>.
+ * <p>
+ * A helper is identified across runs by the class of its loader and its initial classpath.
+ * Each line of the profile holds the helper key, the partition (empty if none) and a class
+ * name, separated by tabs, in the order the classes were first requested, up to 65536 classes
+ * for each key. The profile is rewritten when the JVM exits.
+ * <p>
+ * When a helper whose key is in the profile first finds a class after its classpath has been
+ * confirmed, its recorded classes are prefetched in batches by a small pool of daemon threads
+ * while the class loader proceeds.
+ */
+final class SharedClassPrefetchProfile {
+
+	private static final String PROFILE_PROPERTY = "com.ibm.oti.shared.prefetchProfile"; //$NON-NLS-1$
+	private static final int BATCH_SIZE = 256;
+	private static final int MAX_THREADS = 4;
+	/* the maximum number of classes recorded for a helper key */
+	private static final int MAX_RECORDED = 65536;
+
+	/* null if the profile is not enabled */
+	private static final SharedClassPrefetchProfile instance = create();
+
+	private final File file;
+	/* classes recorded in the previous run, keyed by helper key, then partition */
+	private final Map<String, Map<String, List<String>>> replay;
+	private final Map<String, Recorder> records = new ConcurrentHashMap<>();
+	private ExecutorService executor;
+
+	@SuppressWarnings("removal")
+	private static SharedClassPrefetchProfile create() {
+		String fileName = com.ibm.oti.vm.VM.internalGetProperties().getProperty(PROFILE_PROPERTY);
+		if ((null == fileName) || fileName.isEmpty()) {
+			return null;
+		}
+		final File file = new File(fileName);
+		return AccessController.doPrivileged(new PrivilegedAction<SharedClassPrefetchProfile>() {
+			@Override
+			public SharedClassPrefetchProfile run() {
+				final SharedClassPrefetchProfile profile = new SharedClassPrefetchProfile(file, load(file));
+				Thread hook = new Thread(new Runnable() {
+					@Override
+					public void run() {
+						profile.save();
+					}
+				}, "Shared class prefetch profile writer"); //$NON-NLS-1$
+				Runtime.getRuntime().addShutdownHook(hook);
+				return profile;
+			}
+		});
+	}
+
+	private SharedClassPrefetchProfile(File file, Map<String, Map<String, List<String>>> replay) {
+		super();
+		this.file = file;
+		this.replay = replay;
+	}
+
+	/**
+	 * @return the profile, or null if it is not enabled
+	 */
+	static SharedClassPrefetchProfile getInstance() {
+		return instance;
+	}
+
+	/**
+	 * The classes requested from the helpers with one key. Each class is kept once, in the
+	 * order of its first request, and at most MAX_RECORDED classes are kept.
+	 */
+	static final class Recorder {
+		private final Set<String> seen = ConcurrentHashMap.newKeySet();
+		private final ConcurrentLinkedQueue<String> order = new ConcurrentLinkedQueue<>();
+		private final AtomicInteger count = new AtomicInteger();
+
+		void record(String partition, String className) {
+			if (count.get() < MAX_RECORDED) {
+				String record = ((null == partition) ? "" : partition) + '\t' + className; //$NON-NLS-1$
+				if (seen.add(record) && (count.incrementAndGet() <= MAX_RECORDED)) {
+					order.add(record);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the recorder in which a helper records the classes requested from it.
+	 * Helpers with the same key share a recorder.
+	 *
+	 * @param key the helper key
+	 * @return the recorder for the key
+	 */
+	Recorder getRecorder(String key) {
+		Recorder recorder = records.get(key);
+		if (null == recorder) {
+			Recorder newRecorder = new Recorder();
+			recorder = records.putIfAbsent(key, newRecorder);
+			if (null == recorder) {
+				recorder = newRecorder;
+			}
+		}
+		return recorder;
+	}
+
+	/**
+	 * Starts prefetching the classes recorded for a helper in the previous run.
+	 * The recorded classes are handed out once, to the first helper with the key.
+	 *
+	 * @param key the helper key
+	 * @param helper the helper to prefetch the classes of
+	 */
+	void replay(String key, final SharedClassURLClasspathHelperImpl helper) {
+		Map<String, List<String>> partitions;
+		synchronized (replay) {
+			partitions = replay.remove(key);
+		}
+		if (null == partitions) {
+			return;
+		}
+		ExecutorService pool = getExecutor();
+		for (Map.Entry<String, List<String>> entry : partitions.entrySet()) {
+			final String partition = entry.getKey().isEmpty() ? null : entry.getKey();
+			List<String> names = entry.getValue();
+			for (int start = 0; start < names.size(); start += BATCH_SIZE) {
+				int end = Math.min(start + BATCH_SIZE, names.size());
+				final String[] batch = names.subList(start, end).toArray(new String[end - start]);
+				pool.execute(new Runnable() {
+					@Override
+					public void run() {
+						helper.prefetchSharedClasses(partition, batch);
+					}
+				});
+			}
+		}
+	}
+
+	private synchronized ExecutorService getExecutor() {
+		if (null == executor) {
+			int threads = Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors());
+			ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 5, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+						@Override
+						public Thread newThread(Runnable runnable) {
+							Thread thread = new Thread(runnable, "Shared class prefetch"); //$NON-NLS-1$
+							thread.setDaemon(true);
+							return thread;
+						}
+					});
+			pool.allowCoreThreadTimeOut(true);
+			executor = pool;
+		}
+		return executor;
+	}
+
+	private static Map<String, Map<String, List<String>>> load(File file) {
+		Map<String, Map<String, List<String>>> result = new HashMap<>();
+		if (!file.isFile()) {
+			return result;
+		}
+		try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
+			String line;
+			while (null != (line = reader.readLine())) {
+				int first = line.indexOf('\t');
+				int second = line.indexOf('\t', first + 1);
+				if ((first <= 0) || (second < 0)) {
+					continue;
+				}
+				String key = line.substring(0, first);
+				String partition = line.substring(first + 1, second);
+				Map<String, List<String>> partitions = result.get(key);
+				if (null == partitions) {
+					partitions = new HashMap<>();
+					result.put(key, partitions);
+				}
+				List<String> names = partitions.get(partition);
+				if (null == names) {
+					names = new ArrayList<>();
+					partitions.put(partition, names);
+				}
+				names.add(line.substring(second + 1));
+			}
+		} catch (IOException e) {
+			/* an unreadable profile is treated as empty */
+			result.clear();
+		}
+		return result;
+	}
+
+	void save() {
+		File temp = new File(file.getPath() + ".tmp"); //$NON-NLS-1$
+		try (BufferedWriter writer = new BufferedWriter(
+				new OutputStreamWriter(new FileOutputStream(temp), StandardCharsets.UTF_8))) {
+			for (Map.Entry<String, Recorder> entry : records.entrySet()) {
+				String key = entry.getKey();
+				for (String record : entry.getValue().order) {
+					writer.write(key);
+					writer.write('\t');
+					writer.write(record);
+					writer.newLine();
+				}
+			}
+		} catch (IOException e) {
+			temp.delete();
+			return;
+		}
+		if (!temp.renameTo(file)) {
+			file.delete();
+			if (!temp.renameTo(file)) {
+				temp.delete();
+			}
+		}
+	}
+
+}
@@ -2,6 +2,7 @@
 package com.ibm.oti.shared;
 
 import com.ibm.oti.util.Msg;
+import openj9.internal.management.SharedClassCacheCounters;
 /*
  * Copyright IBM Corp. and others 1998
  *
@@ -82,6 +83,7 @@ final class SharedClassTokenHelperImpl extends SharedClassAbstractHelper impleme
 		}
 		byte[] romClassCookie = new byte[ROMCLASS_COOKIE_SIZE];
 		boolean found = findSharedClassImpl2(this.id, className, loader, token, doFind, doStore, romClassCookie);
+		counters.recordFind(found);
 		if (!found) {
 			return null;
 		}
@@ -108,11 +110,18 @@ final class SharedClassTokenHelperImpl extends SharedClassAbstractHelper impleme
 			/* Attempt to call storeSharedClass with class defined by a different classloader */
 			return false;
 		}
-		return storeSharedClassImpl2(this.id, actualLoader, token, clazz, nativeFlags);
+		boolean stored = storeSharedClassImpl2(this.id, actualLoader, token, clazz, nativeFlags);
+		counters.recordStore(stored);
+		return stored;
 	}
 
 	@Override
 	String getHelperType() {
 		return "SharedClassTokenHelper"; //$NON-NLS-1$
 	}
+
+	@Override
+	int getHelperTypeIndex() {
+		return SharedClassCacheCounters.TOKEN_HELPER;
+	}
 }
@@ -269,4 +269,38 @@ public interface SharedClassURLClasspathHelper extends SharedClassHelper {
 	 * (see <q>Efficient use of the SharedClassURLClasspathHelper</q>).</p>
 	 */
 	public void confirmAllEntries();
+
+	/**
+	 * <p>Finds a number of classes in the shared cache in a single call, by using the given partition
+	 * and (implicitly) the caller's classpath.</p>
+	 *
+	 * <p>The classes that are found are kept by the helper, so that a later findSharedClass call for
+	 * one of them with the same partition returns it without searching the cache again.
+	 * A class loader that knows which classes it is about to load, for example from an earlier run,
+	 * can use this to avoid the cost of searching for each class separately.
+	 * The same rules as for findSharedClass determine which classes are found (see <q>Using classpaths</q>).
+	 * Classes that are kept are discarded if the classpath is changed, and are searched for again if
+	 * their jar or zip file has been modified since they were found. Classes found in a directory
+	 * entry are not kept.</p>
+	 *
+	 * <p>If the system property <code>com.ibm.oti.shared.prefetchProfile</code> names a file, the
+	 * helper records the classes requested through findSharedClass in that file when the JVM exits.
+	 * When a helper for the same type of class loader and classpath is created in a later run,
+	 * the recorded classes are prefetched by background threads.</p>
+	 *
+	 * <p>The default implementation finds no classes and returns 0.</p>
+	 *
+	 * @param 		partition String.
+	 * 					User-defined partition if finding modified bytecode (see <q>Partitions</q>).
+	 * 					Passing null is the equivalent of prefetching without a partition.
+	 *
+	 * @param 		classNames String[].
+	 * 					The names of the classes to be found
+	 *
+	 * @return		int.
+	 * 					The number of classes found in the shared cache.
+	 */
+	public default int prefetchSharedClasses(String partition, String[] classNames) {
+		return 0;
+	}
 }
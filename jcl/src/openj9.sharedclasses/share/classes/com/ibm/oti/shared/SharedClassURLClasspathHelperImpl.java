@@ -23,10 +23,14 @@ package com.ibm.oti.shared;
  * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
  */
 
+import java.io.File;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import com.ibm.oti.util.Msg;
+import openj9.internal.management.SharedClassCacheCounters;
 
 /**
  * <p>Implementation of SharedClassURLClasspathHelper.</p>
@@ -41,6 +45,28 @@ final class SharedClassURLClasspathHelperImpl extends SharedClassAbstractHelper
 	private int urlCount, confirmedCount;
 	private boolean invalidURLExists;
 	private ReentrantReadWriteLock urlcpReadWriteLock;
+	/* classes found by prefetchSharedClasses and not yet requested, guarded by urlcpReadWriteLock */
+	private final ConcurrentHashMap<String, PrefetchedClass> prefetched = new ConcurrentHashMap<>();
+	/* classes requested from this helper, or null if the prefetch profile is not enabled */
+	private SharedClassPrefetchProfile.Recorder profileRecorder;
+	/* the profile key of the classes to prefetch once entries are confirmed, or null */
+	private volatile String replayKey;
+
+	/* the maximum number of prefetched classes kept by a helper */
+	private static final int MAX_PREFETCHED = 65536;
+
+	private static final class PrefetchedClass {
+		final byte[] romClassCookie;
+		final int indexFoundAt;
+		/* the modification time of the classpath entry when the class was found */
+		final long entryTimestamp;
+
+		PrefetchedClass(byte[] romClassCookie, int indexFoundAt, long entryTimestamp) {
+			this.romClassCookie = romClassCookie;
+			this.indexFoundAt = indexFoundAt;
+			this.entryTimestamp = entryTimestamp;
+		}
+	}
 
 	private static native void init();
 
@@ -63,6 +89,48 @@ final class SharedClassURLClasspathHelperImpl extends SharedClassAbstractHelper
 		if (!invalidURLExists) {
 			notifyClasspathChange3(id, loader, this.urls, 0, this.urlCount, true);
 		}
+		SharedClassPrefetchProfile profile = SharedClassPrefetchProfile.getInstance();
+		if (null != profile) {
+			String key = getProfileKey(loader, classpath);
+			profileRecorder = profile.getRecorder(key);
+			replayKey = key;
+		}
+	}
+
+	private static String getProfileKey(ClassLoader loader, URL[] classpath) {
+		StringBuilder path = new StringBuilder();
+		for (URL url : classpath) {
+			path.append(url).append(' ');
+		}
+		return loader.getClass().getName() + '#' + Integer.toHexString(path.toString().hashCode());
+	}
+
+	private static String getPrefetchKey(String partition, String className) {
+		return (null == partition) ? className : (partition + '\u0000' + className);
+	}
+
+	/**
+	 * Returns the modification time of a classpath entry which is a jar or zip file, to
+	 * revalidate classes found by prefetchSharedClasses before they are returned.
+	 * The classes of a directory entry cannot be checked this way.
+	 *
+	 * @param index the index of the entry in the classpath
+	 * @param checkFile true to return 0 unless the entry is an existing file
+	 * @return the modification time, or 0 if the entry is not a file or cannot be read
+	 */
+	private long getEntryTimestamp(int index, boolean checkFile) {
+		URL url = urls[index];
+		if ((null != url) && "file".equals(url.getProtocol())) { //$NON-NLS-1$
+			try {
+				File file = new File(url.toURI());
+				if (!checkFile || file.isFile()) {
+					return file.lastModified();
+				}
+			} catch (URISyntaxException | IllegalArgumentException | SecurityException e) {
+				/* not a local file */
+			}
+		}
+		return 0;
 	}
 
 	private void initializeURLs() {
@@ -74,6 +142,9 @@ final class SharedClassURLClasspathHelperImpl extends SharedClassAbstractHelper
 		}
 	}
 
+	private native int findSharedClassesImpl2(int loaderId, String partition, String[] classNames, ClassLoader loader, URL[] loaderURLs,
+			boolean doFind, boolean doStore, int loaderURLCount, int confirmedCount, byte[][] romClassCookies, int[] indexesFoundAt);
+
 	private native int findSharedClassImpl2(int loaderId, String partition, String className, ClassLoader loader, URL[] loaderURLs,
 			boolean doFind, boolean doStore, int loaderURLCount, int confirmedURLCount, byte[] romClassCookie);
 
@@ -110,6 +181,9 @@ final class SharedClassURLClasspathHelperImpl extends SharedClassAbstractHelper
 			printVerboseError(Msg.getString("K05a1")); //$NON-NLS-1$
 			return null;
 		}
+		if (null != profileRecorder) {
+			profileRecorder.record(partition, className);
+		}
 		SharedClassFilter theFilter = getSharingFilter();
 		boolean doFind, doStore;
 		if (theFilter!=null) {
@@ -126,7 +200,7 @@ final class SharedClassURLClasspathHelperImpl extends SharedClassAbstractHelper
 			doFind = true;
 			doStore = true;
 		}
-		byte[] romClassCookie = new byte[ROMCLASS_COOKIE_SIZE];
+		byte[] romClassCookie = null;
 		int indexFoundAt = -1;
 		urlcpReadWriteLock.readLock().lock();
 		try {
@@ -147,8 +221,31 @@ final class SharedClassURLClasspathHelperImpl extends SharedClassAbstractHelper
 				printVerboseInfo(Msg.getString("K05a5")); //$NON-NLS-1$
 				return null;
 			}
-			indexFoundAt = findSharedClassImpl2(this.id, partition, className, loader, this.urls, doFind, doStore, this.urlCount, this.confirmedCount, romClassCookie);
+			String key = replayKey;
+			if (null != key) {
+				/* prefetching is only possible once the class loader has confirmed its classpath */
+				replayKey = null;
+				SharedClassPrefetchProfile.getInstance().replay(key, this);
+			}
+			PrefetchedClass prefetchedClass = null;
+			if (doFind && !prefetched.isEmpty()) {
+				prefetchedClass = prefetched.remove(getPrefetchKey(partition, className));
+			}
+			if ((null != prefetchedClass)
+				&& (prefetchedClass.entryTimestamp != getEntryTimestamp(prefetchedClass.indexFoundAt, false))
+			) {
+				/* the entry has changed since the class was prefetched, so the cache must check it again */
+				prefetchedClass = null;
+			}
+			if (null != prefetchedClass) {
+				romClassCookie = prefetchedClass.romClassCookie;
+				indexFoundAt = prefetchedClass.indexFoundAt;
+			} else {
+				romClassCookie = new byte[ROMCLASS_COOKIE_SIZE];
+				indexFoundAt = findSharedClassImpl2(this.id, partition, className, loader, this.urls, doFind, doStore, this.urlCount, this.confirmedCount, romClassCookie);
+			}
 			/* indexFoundAt will be -1 if class is not found */
+			counters.recordFind(indexFoundAt >= 0);
 		} finally {
 			urlcpReadWriteLock.readLock().unlock();
 		}
@@ -161,6 +258,68 @@ final class SharedClassURLClasspathHelperImpl extends SharedClassAbstractHelper
 		return romClassCookie;
 	}
 
+	@Override
+	public int prefetchSharedClasses(String partition, String[] classNames) {
+		ClassLoader loader = getClassLoader();
+		if (loader == null) {
+			/*[MSG "K059f", "ClassLoader has been garbage collected. Returning null."]*/
+			printVerboseInfo(Msg.getString("K059f")); //$NON-NLS-1$
+			return 0;
+		}
+		if (!canFind || (null == classNames)) {
+			return 0;
+		}
+		SharedClassFilter theFilter = getSharingFilter();
+		String[] names = new String[classNames.length];
+		int count = 0;
+		for (String className : classNames) {
+			if ((null == className) || prefetched.containsKey(getPrefetchKey(partition, className))) {
+				continue;
+			}
+			if (theFilter != null) {
+				synchronized (this) {
+					if (!theFilter.acceptFind(className)) {
+						continue;
+					}
+				}
+			}
+			names[count++] = className;
+		}
+		if (0 == count) {
+			return 0;
+		}
+		if (count < names.length) {
+			String[] trimmed = new String[count];
+			System.arraycopy(names, 0, trimmed, 0, count);
+			names = trimmed;
+		}
+		byte[][] romClassCookies = new byte[count][ROMCLASS_COOKIE_SIZE];
+		int[] indexesFoundAt = new int[count];
+		int found = 0;
+		urlcpReadWriteLock.readLock().lock();
+		try {
+			/* see findSharedClass */
+			if (invalidURLExists || (0 == confirmedCount)) {
+				return 0;
+			}
+			found = findSharedClassesImpl2(this.id, partition, names, loader, this.urls, true, true, this.urlCount, this.confirmedCount, romClassCookies, indexesFoundAt);
+			if (found > 0) {
+				for (int i = 0; (i < count) && (prefetched.size() < MAX_PREFETCHED); i++) {
+					if (indexesFoundAt[i] >= 0) {
+						/* only keep classes whose classpath entry can be revalidated when they are requested */
+						long entryTimestamp = getEntryTimestamp(indexesFoundAt[i], true);
+						if (0 != entryTimestamp) {
+							prefetched.putIfAbsent(getPrefetchKey(partition, names[i]), new PrefetchedClass(romClassCookies[i], indexesFoundAt[i], entryTimestamp));
+						}
+					}
+				}
+			}
+		} finally {
+			urlcpReadWriteLock.readLock().unlock();
+		}
+		return found;
+	}
+
 	@Override
 	public boolean storeSharedClass(Class<?> clazz, int foundAtIndex) {
 		return storeSharedClass(null, clazz, foundAtIndex);
@@ -223,6 +382,7 @@ final class SharedClassURLClasspathHelperImpl extends SharedClassAbstractHelper
 				incConfirmedCount = true;
 			}
 			storeRet = storeSharedClassImpl2(this.id, partition, actualLoader, this.urls, this.urlCount, foundAtIndex, clazz, nativeFlags);
+			counters.recordStore(storeRet);
 		} finally {
 			urlcpReadWriteLock.readLock().unlock();
 		}
@@ -274,6 +434,7 @@ final class SharedClassURLClasspathHelperImpl extends SharedClassAbstractHelper
 				urls[urlCount] = convertedurl;
 				invalidURLExists = invalidUrl;
 				notifyClasspathChange2(loader);
+				prefetched.clear();
 				if (!invalidURLExists) {
 					notifyClasspathChange3(id, loader, urls, urlCount, (urlCount + 1), true);
 				}
@@ -412,6 +573,7 @@ final class SharedClassURLClasspathHelperImpl extends SharedClassAbstractHelper
 				/*[MSG "K05b2", "setClasspath() updated classpath. Now urlCount={0}"]*/
 				printVerboseInfo(Msg.getString("K05b2", urlCount)); //$NON-NLS-1$
 				notifyClasspathChange2(loader);
+				prefetched.clear();
 				if (!invalidURLExists) {
 					notifyClasspathChange3(id, loader, urls, 0, urlCount, true);
 				}
@@ -425,4 +587,9 @@ final class SharedClassURLClasspathHelperImpl extends SharedClassAbstractHelper
 	String getHelperType() {
 		return "SharedClassURLClasspathHelper"; //$NON-NLS-1$
 	}
+
+	@Override
+	int getHelperTypeIndex() {
+		return SharedClassCacheCounters.URL_CLASSPATH_HELPER;
+	}
 }
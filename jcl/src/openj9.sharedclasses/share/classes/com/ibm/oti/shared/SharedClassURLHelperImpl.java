@@ -28,6 +28,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import com.ibm.oti.util.Msg;
+import openj9.internal.management.SharedClassCacheCounters;
 
 /**
  * Implementation of SharedClassURLHelper.
@@ -147,6 +148,7 @@ final class SharedClassURLHelperImpl extends SharedClassAbstractHelper implement
 		byte[] romClassCookie = new byte[ROMCLASS_COOKIE_SIZE];
 		boolean newJarFile = minimizeUpdateChecks ? false : newJarFileCheck(convertedPath);
 		boolean found = findSharedClassImpl3(this.id, partition, className, loader, convertedPath, doFind, doStore, romClassCookie, newJarFile, minimizeUpdateChecks);
+		counters.recordFind(found);
 		if (!found) {
 			return null;
 		}
@@ -185,11 +187,18 @@ final class SharedClassURLHelperImpl extends SharedClassAbstractHelper implement
 			return false;
 		}
 		boolean newJarFile = minimizeUpdateChecks ? false : newJarFileCheck(convertedPath);
-		return storeSharedClassImpl3(this.id, partition, actualLoader, convertedPath, clazz, newJarFile, minimizeUpdateChecks, nativeFlags);
+		boolean stored = storeSharedClassImpl3(this.id, partition, actualLoader, convertedPath, clazz, newJarFile, minimizeUpdateChecks, nativeFlags);
+		counters.recordStore(stored);
+		return stored;
 	}
 
 	@Override
 	String getHelperType() {
 		return "SharedClassURLHelper"; //$NON-NLS-1$
 	}
+
+	@Override
+	int getHelperTypeIndex() {
+		return SharedClassCacheCounters.URL_HELPER;
+	}
 }
@@ -26,6 +26,7 @@ package com.ibm.oti.shared;
 import java.nio.ByteBuffer;
 
 import com.ibm.oti.util.Msg;
+import openj9.internal.management.SharedClassCacheCounters;
 
 /**
  * Implementation of SharedDataHelper.
@@ -64,7 +65,9 @@ final class SharedDataHelperImpl extends SharedAbstractHelper implements SharedD
 			printVerboseError(Msg.getString("K05b6")); //$NON-NLS-1$
 			return null;
 		}
-		return findSharedDataImpl(this.id, token);
+		ByteBuffer result = findSharedDataImpl(this.id, token);
+		counters.recordFind(null != result);
+		return result;
 	}
 
 	@Override
@@ -93,11 +96,18 @@ final class SharedDataHelperImpl extends SharedAbstractHelper implements SharedD
 			printVerboseError(Msg.getString("K05b9")); //$NON-NLS-1$
 			return null;
 		}
-		return storeSharedDataImpl(loader, this.id, token, data);
+		ByteBuffer result = storeSharedDataImpl(loader, this.id, token, data);
+		counters.recordStore(null != result);
+		return result;
 	}
 
 	@Override
 	String getHelperType() {
 		return "SharedDataHelper"; //$NON-NLS-1$
 	}
+
+	@Override
+	int getHelperTypeIndex() {
+		return SharedClassCacheCounters.DATA_HELPER;
+	}
 }
@@ -692,6 +692,25 @@ public class TraceContext {
 		return addData(new TraceRecord(this, file, offset));
 	}
 
+	/**
+	 * Adds a trace buffer held in a larger buffer, such as a region of a trace file mapped
+	 * into memory. The record keeps a view of the buffer rather than a copy and its body is
+	 * only copied out when tracepoints are read from it, so buffers for threads excluded by
+	 * the thread filter are never read beyond their headers.
+	 *
+	 * Until then the record holds a reference to the buffer. A mapped buffer therefore stays
+	 * mapped until every record added from it has been formatted, or discarded by the thread
+	 * filter, and the records have been garbage collected.
+	 *
+	 * @see com.ibm.jvm.trace.format.api.TraceContext#addData(TraceRecord)
+	 * @param buffer - buffer containing trace data
+	 * @param offset - the absolute position in the buffer of the trace buffer
+	 * @return - the thread that generated the buffer
+	 */
+	public TraceThread addData(ByteBuffer buffer, int offset) {
+		return addData(new TraceRecord(this, buffer, offset));
+	}
+
 	/**
 	 * @see com.ibm.jvm.trace.format.api.TraceContext#addData(TraceRecord)
 	 * @param data - a trace buffer generated by the JVM corresponding the context
@@ -25,6 +25,7 @@ package com.ibm.jvm.trace.format.api;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.List;
 import java.util.Vector;
@@ -73,6 +74,9 @@ public class TraceRecord implements Comparable<TraceRecord> {
 	RandomAccessFile file;
 	long offset;
 
+	/* This field is only used if this is a trace record backed by a view of a mapped buffer */
+	private ByteBuffer view;
+
 	/* a record of the offsets that we've preprocessed to aid in debugging */
 	List<Integer> debugOffsets = null;
 
@@ -129,6 +133,53 @@ public class TraceRecord implements Comparable<TraceRecord> {
 		}
 	}
 
+	/**
+	 * This will create a TraceRecord backed by a region of a buffer, typically one mapped from a
+	 * trace file. Only the header is read at construction; the body of the record is copied out
+	 * of the buffer the first time it's appended to a stream, so records that are filtered out
+	 * never have their bodies touched. Until then the record keeps a slice of the buffer, which
+	 * keeps a mapped buffer mapped for as long as the record is reachable.
+	 *
+	 * @param context
+	 * @param buffer - the buffer containing the record. Its position and limit are not modified.
+	 * @param position - the absolute position of the record in the buffer
+	 * @throws IllegalArgumentException
+	 */
+	public TraceRecord(TraceContext context, ByteBuffer buffer, int position) throws IllegalArgumentException {
+		this.context = context;
+		this.offset = position;
+
+		int recordSize = context.getRecordSize();
+		if (position < 0 || buffer.limit() - position < recordSize) {
+			throw new IllegalArgumentException();
+		}
+
+		ByteBuffer duplicate = buffer.duplicate();
+		duplicate.limit(position + recordSize);
+		duplicate.position(position);
+		view = duplicate.slice();
+
+		if (context.debugLevel > 0) {
+			debugOffsets = new Vector<Integer>();
+		}
+
+		int required = TRACERECORD_HEADER_SIZE + GUESSED_MAX_THREAD_NAME;
+
+		while (required != 0) {
+			/* as for the file backed constructor this should only run twice at most */
+			byte data[] = new byte[Math.min(required, recordSize)];
+
+			view.position(0);
+			view.get(data);
+
+			required = parseHeader(data);
+		}
+
+		if (context.debugStream != null) {
+			context.debug(this, 3, summary());
+		}
+	}
+
 	private int parseHeader(byte[] data) throws IllegalArgumentException {
 		ByteStream stream = context.createByteStream(data);
 
@@ -177,11 +228,30 @@ public class TraceRecord implements Comparable<TraceRecord> {
 	}
 
 	/**
-	 * This method ensures that if the record is backed by data in a file that the data is present in memory.
-	 * If it's not backed by a file it will return the current size of the records data array.
+	 * This method ensures that if the record is backed by data in a file or a mapped buffer that the data
+	 * is present in memory. If it's not backed by either it will return the current size of the records
+	 * data array.
 	 * @return - the number of bytes loaded for the record
 	 */
 	private int load() {
+		/* if we've got a view of a mapped buffer then copy the record out of it, as the body is modified
+		 * in place when it's appended to a stream
+		 */
+		if (view != null && data == null) {
+			data = new byte[view.capacity()];
+			if (context.debugStream != null) {
+				context.debug(this, 3, "Copying full "+data.length+ "byte record from buffer @"+offset);
+			}
+
+			view.position(0);
+			view.get(data);
+
+			/* we don't need the view once the data's in memory */
+			view = null;
+
+			return data.length;
+		}
+
 		/* if we've got a file and offset then make sure we've got all the data */
 		if (file != null && (data == null || data.length != context.getRecordSize())) {
 			data = new byte[context.getRecordSize()];
@@ -736,6 +806,8 @@ public class TraceRecord implements Comparable<TraceRecord> {
 
 			if (file != null) {
 				s.append("file offset:    "+offset).append(System.getProperty("line.separator"));
+			} else if (view != null) {
+				s.append("buffer offset:  "+offset).append(System.getProperty("line.separator"));
 			} else {
 				s.append("non file data").append(System.getProperty("line.separator"));
 			}
@@ -56,6 +56,9 @@ import com.ibm.jvm.trace.format.api.TraceThread;
  */
 public class TraceFormat
 {
+	/* the maximum size of each region of a trace file mapped while reading in its records */
+	private static final long MAPPED_WINDOW_SIZE = 64 * 1024 * 1024;
+
 	Object options[][] = {
 			{"timezoneoffset", Integer.valueOf(-1), "An offset in hours to add to the time stamps", Boolean.FALSE, Boolean.FALSE},
 
@@ -217,16 +220,43 @@ public class TraceFormat
 			}
 
 			while (offset < length) {
-				try {
-					TraceThread thread = context.addData(traceFile, offset);
-					indentMap.put(thread, "");
-				} catch (IllegalArgumentException e) {
-					context.error(context, "Bad block of trace data in input file at offset "+offset+": "+e.getMessage());
+				/* map as many whole records as fit in a window, the records keep views of the mapping
+				 * and only copy their bodies out when they're formatted. A window therefore stays mapped
+				 * until all its records have been formatted or discarded by the thread filter.
+				 */
+				long windowRecords = Math.min((length - offset) / recordSize, MAPPED_WINDOW_SIZE / recordSize);
+				ByteBuffer window = null;
+
+				if (windowRecords > 0) {
+					try {
+						window = traceFile.getChannel().map(FileChannel.MapMode.READ_ONLY, offset, windowRecords * recordSize);
+					} catch (IOException e) {
+						context.debug(context, 1, "Unable to map trace data at offset "+offset+", reading records from the file instead: "+e.getMessage());
+					}
+				}
+
+				if (window == null) {
+					/* either a partial record at the end of the file or the mapping failed */
+					windowRecords = Math.max(windowRecords, 1);
 				}
 
-				offset += recordSize;
-				totalBytes+= recordSize;
-				recordsInData++;
+				for (long r = 0; r < windowRecords; r++) {
+					try {
+						TraceThread thread;
+						if (window != null) {
+							thread = context.addData(window, (int)(r * recordSize));
+						} else {
+							thread = context.addData(traceFile, offset);
+						}
+						indentMap.put(thread, "");
+					} catch (IllegalArgumentException e) {
+						context.error(context, "Bad block of trace data in input file at offset "+offset+": "+e.getMessage());
+					}
+
+					offset += recordSize;
+					totalBytes+= recordSize;
+					recordsInData++;
+				}
 			}
 		}
 
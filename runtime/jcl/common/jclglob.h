@@ -77,6 +77,10 @@ typedef struct JniIDCache {
 	jclass CLS_com_ibm_lang_management_MemoryUsage;
 	jmethodID MID_com_ibm_lang_management_MemoryUsage_updateValues;
 
+	jmethodID MID_com_ibm_lang_management_internal_OperatingSystemMetrics_setProcessValues;
+	jmethodID MID_com_ibm_lang_management_internal_OperatingSystemMetrics_setCgroupValues;
+	jmethodID MID_com_ibm_lang_management_internal_OperatingSystemMetrics_setPressureValues;
+
 	jclass CLS_java_com_ibm_virtualization_management_GuestOSProcessorUsage;
 	jmethodID MID_java_com_ibm_virtualization_management_GuestOSProcessorUsage_updateValues;
 	jclass CLS_java_com_ibm_virtualization_management_GuestOSMemoryUsage;
@@ -91,6 +95,8 @@ typedef struct JniIDCache {
 
 	jclass CLS_java_com_ibm_lang_management_JvmCpuMonitorInfo;
 	jmethodID MID_java_com_ibm_lang_management_JvmCpuMonitorInfo_updateValues;
+	jclass CLS_java_com_ibm_lang_management_JvmCpuMonitorUsage;
+	jmethodID MID_java_com_ibm_lang_management_JvmCpuMonitorUsage_updateValues;
 
 	jclass CLS_java_net_URL;
 	jmethodID MID_java_net_URL_getPath;
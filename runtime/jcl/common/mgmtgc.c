@@ -84,6 +84,27 @@ Java_com_ibm_java_lang_management_internal_GarbageCollectorMXBeanImpl_getMemoryU
 	return getCollectorField(env, id, FIELD_MEMORY_USED);
 }
 
+void JNICALL
+Java_openj9_internal_management_RuntimeCountersBaseImpl_getCollectorCountersImpl(JNIEnv *env, jclass clazz, jlongArray counts)
+{
+	J9JavaLangManagementData *mgmt = ((J9VMThread *) env)->javaVM->managementData;
+	jlong values[4] = { 0 };
+	U_32 idx = 0;
+
+	omrthread_rwmutex_enter_read(mgmt->managementDataLock);
+	for (idx = 0; idx < mgmt->supportedCollectors; ++idx) {
+		J9GarbageCollectorData *gc = &mgmt->garbageCollectors[idx];
+
+		values[0] += (jlong) gc->lastGcInfo.index;
+		values[1] += (jlong) gc->totalGCTime;
+	}
+	values[2] = (jlong) mgmt->postCollectionHeapUsed;
+	values[3] = (jlong) mgmt->postCollectionHeapSize;
+	omrthread_rwmutex_exit_read(mgmt->managementDataLock);
+
+	(*env)->SetLongArrayRegion(env, counts, 0, 4, values);
+}
+
 static UDATA
 getIndexFromCollectorID(J9JavaLangManagementData *mgmt, UDATA id)
 {
@@ -20,9 +20,33 @@
  * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
  *******************************************************************************/
 
+#if defined(LINUX)
+#include <stdlib.h>
+#include <string.h>
+#endif /* defined(LINUX) */
+
 #include "jni.h"
 #include "j9.h"
 #include "j9port.h"
+#include "jclglob.h"
+#include "jclprots.h"
+
+/* Values shared with com.ibm.lang.management.internal.OperatingSystemMetrics. */
+#define OS_METRICS_PROCESS 1
+#define OS_METRICS_CGROUP 2
+#define OS_METRICS_PRESSURE 4
+#define OS_METRICS_PRESSURE_CPU 0
+#define OS_METRICS_PRESSURE_MEMORY 1
+#define OS_METRICS_PRESSURE_IO 2
+
+/*
+ * The port library does not expose pressure stall information, so the cgroup
+ * v2 *.pressure files are read directly below the usual cgroup mount point.
+ */
+#define OS_METRICS_CGROUP_ROOT "/sys/fs/cgroup"
+#define OS_METRICS_PROC_PRESSURE "/proc/pressure/"
+#define OS_METRICS_BUFFER_SIZE 4096
+#define OS_METRICS_PATH_SIZE 1024
 
 /**
  * Returns total amount of time the process has been scheduled or executed so far
@@ -149,3 +173,306 @@ Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getProce
 	int32_t rc = j9vmem_get_process_memory_size(J9PORT_VMEM_PROCESS_PHYSICAL, &size);
 	return (0 == rc)? (jlong) size: (jlong) -1;
 }
+
+
+#if defined(LINUX)
+/**
+ * Reads a small procfs or cgroupfs file into a NUL terminated buffer.
+ *
+ * @param[in] portLibrary The port library.
+ * @param[in] path The file to read.
+ * @param[out] buffer The buffer to fill.
+ * @param[in] bufferSize The size of the buffer in bytes.
+ *
+ * @return The number of bytes read, or -1 if the file could not be read.
+ */
+static intptr_t
+readMetricsFile(J9PortLibrary *portLibrary, const char *path, char *buffer, intptr_t bufferSize)
+{
+	PORT_ACCESS_FROM_PORT(portLibrary);
+	intptr_t total = 0;
+	intptr_t fd = j9file_open(path, EsOpenRead, 0);
+
+	if (-1 == fd) {
+		return -1;
+	}
+	while (total < (bufferSize - 1)) {
+		intptr_t bytesRead = j9file_read(fd, buffer + total, bufferSize - 1 - total);
+		if (bytesRead <= 0) {
+			if (bytesRead < 0) {
+				total = -1;
+			}
+			break;
+		}
+		total += bytesRead;
+	}
+	j9file_close(fd);
+	buffer[(total < 0) ? 0 : total] = '\0';
+	return total;
+}
+
+/**
+ * Reads metrics of one cgroup subsystem through the port library. Each metric is
+ * identified by the key the port library reports it under; values which are not
+ * numbers, such as an unlimited setting, are left at -1. Times reported in
+ * microseconds are converted to nanoseconds.
+ *
+ * @param[in] portLibrary The port library.
+ * @param[in] subsystem The OMR_CGROUP_SUBSYSTEM_* flag of the subsystem.
+ * @param[in] keys The metric keys to look for.
+ * @param[out] values The values of the metrics, in the order of the keys.
+ * @param[in] count The number of keys.
+ */
+static void
+readCgroupSubsystemMetrics(J9PortLibrary *portLibrary, uint64_t subsystem, const char * const *keys, jlong *values, uintptr_t count)
+{
+	OMRPORT_ACCESS_FROM_J9PORT(portLibrary);
+	OMRCgroupMetricIteratorState cgroupState = {0};
+
+	if ((subsystem != omrsysinfo_cgroup_are_subsystems_enabled(subsystem))
+		|| (0 != omrsysinfo_cgroup_subsystem_iterator_init(subsystem, &cgroupState))
+	) {
+		return;
+	}
+	while (0 != omrsysinfo_cgroup_subsystem_iterator_hasNext(&cgroupState)) {
+		const char *metricKey = NULL;
+		OMRCgroupMetricElement metricElement = {0};
+
+		if (0 != omrsysinfo_cgroup_subsystem_iterator_metricKey(&cgroupState, &metricKey)) {
+			break;
+		}
+		if (0 == omrsysinfo_cgroup_subsystem_iterator_next(&cgroupState, &metricElement)) {
+			uintptr_t i = 0;
+
+			for (i = 0; i < count; i++) {
+				if ((0 == strcmp(metricKey, keys[i])) && (NULL != metricElement.value)
+					&& ('0' <= metricElement.value[0]) && ('9' >= metricElement.value[0])
+				) {
+					values[i] = (jlong)strtoll(metricElement.value, NULL, 10);
+					if ((NULL != metricElement.units) && (0 == strcmp(metricElement.units, "microseconds"))) {
+						values[i] *= 1000;
+					}
+				}
+			}
+		}
+	}
+	omrsysinfo_cgroup_subsystem_iterator_destroy(&cgroupState);
+}
+
+/**
+ * Reads the cgroup memory and CPU counters of the current process through the port
+ * library's cgroup support and passes them to the snapshot.
+ */
+static void
+updateCgroupMetrics(JNIEnv *env, jobject snapshot, jmethodID setCgroupValues)
+{
+	PORT_ACCESS_FROM_ENV(env);
+	OMRPORT_ACCESS_FROM_J9PORT(PORTLIB);
+	static const char * const memoryKeys[] = { "Memory Usage" };
+	static const char * const cpuKeys[] = { "Period intervals elapsed count", "Throttled count", "Total throttle time" };
+	jlong memoryLimit = -1;
+	jlong memoryUsage[1] = { -1 };
+	jlong cpu[3] = { -1, -1, -1 };
+	uint64_t limit = 0;
+
+	if (!omrsysinfo_cgroup_is_system_available()) {
+		return;
+	}
+	if ((OMR_CGROUP_SUBSYSTEM_MEMORY == omrsysinfo_cgroup_are_subsystems_enabled(OMR_CGROUP_SUBSYSTEM_MEMORY))
+		&& (0 == omrsysinfo_cgroup_get_memlimit(&limit))
+	) {
+		memoryLimit = (jlong)limit;
+	}
+	readCgroupSubsystemMetrics(PORTLIB, OMR_CGROUP_SUBSYSTEM_MEMORY, memoryKeys, memoryUsage, 1);
+	readCgroupSubsystemMetrics(PORTLIB, OMR_CGROUP_SUBSYSTEM_CPU, cpuKeys, cpu, 3);
+	(*env)->CallVoidMethod(env, snapshot, setCgroupValues, memoryLimit, memoryUsage[0], cpu[0], cpu[1], cpu[2]);
+}
+
+/**
+ * Parses one line of a pressure stall information file, which has the form
+ * "some avg10=0.00 avg60=0.00 avg300=0.00 total=0".
+ *
+ * @param[in] contents The file contents.
+ * @param[in] kind The line to parse, "some" or "full".
+ * @param[out] averages The 10, 60 and 300 second averages.
+ * @param[out] total The total stall time in microseconds.
+ */
+static void
+parsePressureLine(const char *contents, const char *kind, jdouble averages[3], jlong *total)
+{
+	size_t kindLength = strlen(kind);
+	const char *line = contents;
+
+	while (NULL != line) {
+		if ((0 == strncmp(line, kind, kindLength)) && (' ' == line[kindLength])) {
+			/* every line carries all four fields, so the first match of each is on this line */
+			const char *avg10 = strstr(line, "avg10=");
+			const char *avg60 = strstr(line, "avg60=");
+			const char *avg300 = strstr(line, "avg300=");
+			const char *stall = strstr(line, "total=");
+
+			if ((NULL != avg10) && (NULL != avg60) && (NULL != avg300) && (NULL != stall)) {
+				averages[0] = (jdouble)strtod(avg10 + LITERAL_STRLEN("avg10="), NULL);
+				averages[1] = (jdouble)strtod(avg60 + LITERAL_STRLEN("avg60="), NULL);
+				averages[2] = (jdouble)strtod(avg300 + LITERAL_STRLEN("avg300="), NULL);
+				*total = (jlong)strtoll(stall + LITERAL_STRLEN("total="), NULL, 10);
+			}
+			return;
+		}
+		line = strchr(line, '\n');
+		if (NULL != line) {
+			line += 1;
+		}
+	}
+}
+
+/**
+ * Reads the pressure stall information for one resource and passes it to the snapshot.
+ * The file of the process's cgroup is tried first, then the one at the root of the
+ * hierarchy, which is where it is found when the cgroup is the root of a container's
+ * namespace. The system wide file in /proc/pressure is used if neither exists, as is
+ * the case for cgroup v1.
+ *
+ * @return FALSE if an exception is pending, TRUE otherwise.
+ */
+static BOOLEAN
+updatePressure(JNIEnv *env, jobject snapshot, jmethodID setPressureValues, jint resource, const char *resourceName, const char *cgroupPath, char *buffer)
+{
+	PORT_ACCESS_FROM_ENV(env);
+	char fileName[OS_METRICS_PATH_SIZE];
+	intptr_t rc = -1;
+
+	if ((NULL != cgroupPath) && (0 != strcmp(cgroupPath, "/"))) {
+		j9str_printf(PORTLIB, fileName, sizeof(fileName), OS_METRICS_CGROUP_ROOT "%s/%s.pressure", cgroupPath, resourceName);
+		rc = readMetricsFile(PORTLIB, fileName, buffer, OS_METRICS_BUFFER_SIZE);
+	}
+	if ((rc < 0) && (NULL != cgroupPath)) {
+		j9str_printf(PORTLIB, fileName, sizeof(fileName), OS_METRICS_CGROUP_ROOT "/%s.pressure", resourceName);
+		rc = readMetricsFile(PORTLIB, fileName, buffer, OS_METRICS_BUFFER_SIZE);
+	}
+	if (rc < 0) {
+		j9str_printf(PORTLIB, fileName, sizeof(fileName), OS_METRICS_PROC_PRESSURE "%s", resourceName);
+		rc = readMetricsFile(PORTLIB, fileName, buffer, OS_METRICS_BUFFER_SIZE);
+	}
+	if (rc > 0) {
+		jdouble some[3] = { -1, -1, -1 };
+		jdouble full[3] = { -1, -1, -1 };
+		jlong someTotal = -1;
+		jlong fullTotal = -1;
+
+		parsePressureLine(buffer, "some", some, &someTotal);
+		parsePressureLine(buffer, "full", full, &fullTotal);
+		(*env)->CallVoidMethod(env, snapshot, setPressureValues, resource,
+				some[0], some[1], some[2], someTotal,
+				full[0], full[1], full[2], fullTotal);
+		if ((*env)->ExceptionCheck(env)) {
+			return FALSE;
+		}
+	}
+	return TRUE;
+}
+
+/**
+ * Reads the cpu, memory and io pressure stall information of the current process
+ * and passes it to the snapshot. The cgroup of the process is taken from the port
+ * library's cgroup support.
+ */
+static void
+updatePressureMetrics(JNIEnv *env, jobject snapshot, jmethodID setPressureValues)
+{
+	PORT_ACCESS_FROM_ENV(env);
+	OMRPORT_ACCESS_FROM_J9PORT(PORTLIB);
+	const char *cgroupPath = NULL;
+	char *buffer = j9mem_allocate_memory(OS_METRICS_BUFFER_SIZE, J9MEM_CATEGORY_VM_JCL);
+
+	if (NULL == buffer) {
+		return;
+	}
+	if (omrsysinfo_cgroup_is_system_available()) {
+		const OMRCgroupEntry *entryHead = omrsysinfo_get_cgroup_subsystem_list();
+		const OMRCgroupEntry *cgEntry = entryHead;
+
+		if (NULL != cgEntry) {
+			do {
+				if (OMR_CGROUP_SUBSYSTEM_CPU == cgEntry->flag) {
+					cgroupPath = cgEntry->cgroup;
+					break;
+				}
+				cgEntry = cgEntry->next;
+			} while (cgEntry != entryHead);
+		}
+	}
+
+	if (updatePressure(env, snapshot, setPressureValues, OS_METRICS_PRESSURE_CPU, "cpu", cgroupPath, buffer)
+		&& updatePressure(env, snapshot, setPressureValues, OS_METRICS_PRESSURE_MEMORY, "memory", cgroupPath, buffer)
+	) {
+		updatePressure(env, snapshot, setPressureValues, OS_METRICS_PRESSURE_IO, "io", cgroupPath, buffer);
+	}
+
+	j9mem_free_memory(buffer);
+}
+#endif /* defined(LINUX) */
+
+/**
+ * Fills the requested groups of an OperatingSystemMetrics snapshot, so that the bean
+ * can serve its attributes from one native call. Counters which are not available on
+ * the current platform are left at -1. The system CPU load is not part of the snapshot,
+ * as every read of it starts a new sampling interval.
+ *
+ * @param[in] env The JNI env.
+ * @param[in] instance The this pointer.
+ * @param[in] snapshot The OperatingSystemMetrics instance to fill.
+ * @param[in] groups The OS_METRICS_PROCESS, OS_METRICS_CGROUP and OS_METRICS_PRESSURE groups to read.
+ */
+void JNICALL
+Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getOperatingSystemMetricsImpl(JNIEnv *env, jobject instance, jobject snapshot, jint groups)
+{
+	jmethodID setProcessValues = JCL_CACHE_GET(env, MID_com_ibm_lang_management_internal_OperatingSystemMetrics_setProcessValues);
+	jmethodID setCgroupValues = JCL_CACHE_GET(env, MID_com_ibm_lang_management_internal_OperatingSystemMetrics_setCgroupValues);
+	jmethodID setPressureValues = JCL_CACHE_GET(env, MID_com_ibm_lang_management_internal_OperatingSystemMetrics_setPressureValues);
+
+	if (NULL == setPressureValues) {
+		jclass snapshotClass = (*env)->GetObjectClass(env, snapshot);
+
+		setProcessValues = (*env)->GetMethodID(env, snapshotClass, "setProcessValues", "(JJJJJJI)V");
+		if (NULL != setProcessValues) {
+			setCgroupValues = (*env)->GetMethodID(env, snapshotClass, "setCgroupValues", "(JJJJJ)V");
+		}
+		if (NULL != setCgroupValues) {
+			setPressureValues = (*env)->GetMethodID(env, snapshotClass, "setPressureValues", "(IDDDJDDDJ)V");
+		}
+		(*env)->DeleteLocalRef(env, snapshotClass);
+		if (NULL == setPressureValues) {
+			return;
+		}
+		JCL_CACHE_SET(env, MID_com_ibm_lang_management_internal_OperatingSystemMetrics_setProcessValues, setProcessValues);
+		JCL_CACHE_SET(env, MID_com_ibm_lang_management_internal_OperatingSystemMetrics_setCgroupValues, setCgroupValues);
+		JCL_CACHE_SET(env, MID_com_ibm_lang_management_internal_OperatingSystemMetrics_setPressureValues, setPressureValues);
+	}
+
+	if (OS_METRICS_PROCESS == (groups & OS_METRICS_PROCESS)) {
+		(*env)->CallVoidMethod(env, snapshot, setProcessValues,
+				Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getProcessCpuTimeImpl(env, instance),
+				Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getProcessPhysicalMemorySizeImpl(env, instance),
+				Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getProcessPrivateMemorySizeImpl(env, instance),
+				Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getProcessVirtualMemorySizeImpl(env, instance),
+				Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getFreePhysicalMemorySizeImpl(env, instance),
+				Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getTotalPhysicalMemoryImpl(env, instance),
+				Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getOnlineProcessorsImpl(env, instance));
+		if ((*env)->ExceptionCheck(env)) {
+			return;
+		}
+	}
+
+#if defined(LINUX)
+	if (OS_METRICS_CGROUP == (groups & OS_METRICS_CGROUP)) {
+		updateCgroupMetrics(env, snapshot, setCgroupValues);
+		if ((*env)->ExceptionCheck(env)) {
+			return;
+		}
+	}
+	if (OS_METRICS_PRESSURE == (groups & OS_METRICS_PRESSURE)) {
+		updatePressureMetrics(env, snapshot, setPressureValues);
+	}
+#endif /* defined(LINUX) */
+}
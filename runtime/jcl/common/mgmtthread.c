@@ -117,6 +117,7 @@ static jlongArray findDeadlockedThreads(JNIEnv *env, UDATA findFlags);
 static jlong getThreadID(J9VMThread *currentThread, j9object_t threadObj);
 static J9VMThread *getThread(JNIEnv *env, jlong threadID);
 static jlong getThreadUserTime(omrthread_t thread);
+static jint toJavaThreadCategory(UDATA category);
 static jlong getCurrentThreadUserTime(omrthread_t self);
 static ThreadInfo *getArrayOfThreadInfo(JNIEnv *env, jlong *threadIDs, jint numThreads, jboolean getLockedMonitors, jboolean getLockedSynchronizers);
 static IDATA getThreadInfo(J9VMThread *currentThread, J9VMThread *targetThread, ThreadInfo *info, jboolean getLockedMonitors);
@@ -361,6 +362,22 @@ Java_com_ibm_java_lang_management_internal_ThreadMXBeanImpl_getDaemonThreadCount
 	return result;
 }
 
+void JNICALL
+Java_openj9_internal_management_RuntimeCountersBaseImpl_getThreadCountersImpl(JNIEnv *env, jclass clazz, jlongArray counts)
+{
+	J9JavaLangManagementData *mgmt = ((J9VMThread *) env)->javaVM->managementData;
+	jlong values[4];
+
+	omrthread_rwmutex_enter_read(mgmt->managementDataLock);
+	values[0] = (jlong) mgmt->liveJavaThreads;
+	values[1] = (jlong) mgmt->liveJavaDaemonThreads;
+	values[2] = (jlong) mgmt->peakLiveJavaThreads;
+	values[3] = (jlong) mgmt->totalJavaThreadsStarted;
+	omrthread_rwmutex_exit_read(mgmt->managementDataLock);
+
+	(*env)->SetLongArrayRegion(env, counts, 0, 4, values);
+}
+
 jint JNICALL
 Java_com_ibm_java_lang_management_internal_ThreadMXBeanImpl_getPeakThreadCountImpl(JNIEnv *env, jobject beanInstance)
 {
@@ -820,6 +837,22 @@ Java_com_ibm_java_lang_management_internal_ThreadMXBeanImpl_dumpAllThreadsImpl
 			maxDepth);
 }
 
+/* This is an alias for the private native method ThreadMXBeanImpl.getAllThreadIdsImpl() */
+jlongArray JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_getAllThreadIdsImpl(JNIEnv *env, jclass clazz)
+{
+	return (jlongArray)Java_com_ibm_java_lang_management_internal_ThreadMXBeanImpl_getAllThreadIdsImpl(env, clazz);
+}
+
+/* This is an alias for the private native method ThreadMXBeanImpl.getMultiThreadInfoImpl() */
+jobjectArray JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_getMultiThreadInfoImpl(JNIEnv *env, jclass clazz,
+	jlongArray ids, jint maxStackDepth, jboolean getLockedMonitors, jboolean getLockedSynchronizers)
+{
+	return Java_com_ibm_java_lang_management_internal_ThreadMXBeanImpl_getMultiThreadInfoImpl(
+			env, clazz, ids, maxStackDepth, getLockedMonitors, getLockedSynchronizers);
+}
+
 /**
  * Allocate and populate an array of ThreadInfo for a given array of threadIDs
  *
@@ -2318,6 +2351,113 @@ Java_com_ibm_lang_management_internal_JvmCpuMonitor_getThreadsCpuUsageImpl(JNIEn
 	return jvmCpuMonitorInfoObject;
 }
 
+/* Number of jlongs written for each thread by getThreadsUsageImpl */
+#define THREAD_USAGE_RECORD_SIZE 4
+
+/**
+ * Fills the buffer with one record per thread attached to the VM and passes it to the
+ * JvmCpuMonitorUsage object, which turns the cumulative values into deltas. Each record is
+ * { key, Java thread category, CPU time in microseconds, allocated bytes }. The key is the
+ * Java thread ID, or the negated J9VMThread address for threads without a thread object.
+ * CPU time and allocated bytes are -1 if they could not be obtained.
+ *
+ * @param env						The JNI env.
+ * @param beanInstance				beanInstance.
+ * @param jvmCpuMonitorUsageObject	The JvmCpuMonitorUsage object to update.
+ * @param buffer					The array to fill with thread records.
+ * @return							The number of threads on success, the negated number of threads
+ * 									if the buffer is too small, or 0 if an exception is pending.
+ */
+jint JNICALL
+Java_com_ibm_lang_management_internal_JvmCpuMonitor_getThreadsUsageImpl(JNIEnv *env, jobject beanInstance, jobject jvmCpuMonitorUsageObject, jlongArray buffer)
+{
+	J9VMThread *currentThread = (J9VMThread *)env;
+	J9JavaVM *javaVM = currentThread->javaVM;
+	J9InternalVMFunctions *vmfns = javaVM->internalVMFunctions;
+	J9MemoryManagerFunctions *mmfns = javaVM->memoryManagerFunctions;
+	jmethodID MID_updateValues = NULL;
+	jclass CLS_JvmCpuMonitorUsage = NULL;
+	jint count = 0;
+	jlong timestamp = 0;
+	UDATA capacity = (UDATA)(*env)->GetArrayLength(env, buffer) / THREAD_USAGE_RECORD_SIZE;
+	PORT_ACCESS_FROM_JAVAVM(javaVM);
+
+	/* Check if the JvmCpuMonitorUsage class has been cached */
+	CLS_JvmCpuMonitorUsage = JCL_CACHE_GET(env, CLS_java_com_ibm_lang_management_JvmCpuMonitorUsage);
+	if (NULL == CLS_JvmCpuMonitorUsage) {
+		jclass CLS_JvmCpuMonitorUsageLocal = (*env)->GetObjectClass(env, jvmCpuMonitorUsageObject);
+		if (NULL == CLS_JvmCpuMonitorUsageLocal) {
+			return 0;
+		}
+
+		/* Convert to a global reference and delete the local one */
+		CLS_JvmCpuMonitorUsage = (*env)->NewGlobalRef(env, CLS_JvmCpuMonitorUsageLocal);
+		(*env)->DeleteLocalRef(env, CLS_JvmCpuMonitorUsageLocal);
+		if (NULL == CLS_JvmCpuMonitorUsage) {
+			return 0;
+		}
+		JCL_CACHE_SET(env, CLS_java_com_ibm_lang_management_JvmCpuMonitorUsage, CLS_JvmCpuMonitorUsage);
+	}
+	MID_updateValues = JCL_CACHE_GET(env, MID_java_com_ibm_lang_management_JvmCpuMonitorUsage_updateValues);
+	if (NULL == MID_updateValues) {
+		MID_updateValues = (*env)->GetMethodID(env, CLS_JvmCpuMonitorUsage, "updateValues", "(J[JI)V");
+		if (NULL == MID_updateValues) {
+			return 0;
+		}
+		JCL_CACHE_SET(env, MID_java_com_ibm_lang_management_JvmCpuMonitorUsage_updateValues, MID_updateValues);
+	}
+
+	vmfns->internalEnterVMFromJNI(currentThread);
+	omrthread_monitor_enter(javaVM->vmThreadListMutex);
+
+	if (capacity < javaVM->totalThreadCount) {
+		count = -(jint)javaVM->totalThreadCount;
+	} else {
+		j9object_t records = J9_JNI_UNWRAP_REFERENCE(buffer);
+		J9VMThread *walkThread = currentThread;
+
+		timestamp = (jlong)(j9time_nano_time() / 1000);
+		do {
+			omrthread_t osThread = walkThread->osThread;
+
+			if ((NULL != osThread) && ((UDATA)count < capacity)) {
+				UDATA index = (UDATA)count * THREAD_USAGE_RECORD_SIZE;
+				jlong key = -(jlong)(UDATA)walkThread;
+				I_64 cpuTime = omrthread_get_cpu_time(osThread);
+				UDATA allocatedBytes = 0;
+				jlong allocated = -1;
+
+				if (NULL != walkThread->threadObject) {
+					key = getThreadID(currentThread, (j9object_t)walkThread->threadObject);
+				}
+				if (0 != mmfns->j9gc_get_cumulative_bytes_allocated_by_thread(walkThread, &allocatedBytes)) {
+					allocated = (jlong)allocatedBytes;
+				}
+
+				J9JAVAARRAYOFLONG_STORE(currentThread, records, index, key);
+				J9JAVAARRAYOFLONG_STORE(currentThread, records, index + 1, (jlong)toJavaThreadCategory(omrthread_get_category(osThread)));
+				J9JAVAARRAYOFLONG_STORE(currentThread, records, index + 2, (cpuTime < 0) ? (jlong)-1 : (jlong)(cpuTime / 1000));
+				J9JAVAARRAYOFLONG_STORE(currentThread, records, index + 3, allocated);
+				count += 1;
+			}
+			walkThread = walkThread->linkNext;
+		} while (walkThread != currentThread);
+	}
+
+	omrthread_monitor_exit(javaVM->vmThreadListMutex);
+	vmfns->internalExitVMToJNI(currentThread);
+
+	if (count >= 0) {
+		/* Let the usage object compute the deltas from the records */
+		(*env)->CallVoidMethod(env, jvmCpuMonitorUsageObject, MID_updateValues, timestamp, buffer, count);
+		if ((*env)->ExceptionCheck(env)) {
+			return 0;
+		}
+	}
+
+	return count;
+}
+
 /**
  * Return the internal omrthread structure for a given threadID.
  *
@@ -2373,6 +2513,53 @@ get_thread_from_id(J9VMThread *currentThread, jlong threadID)
 #define STRNCASECMP	strncasecmp
 #endif /* WIN32 || WIN64 */
 
+/**
+ * Converts a thread library category into the value used by the Java thread categories.
+ *
+ * @param category	The thread library category.
+ * @return			The Java thread category or THREAD_CATEGORY_INVALID if there is no equivalent.
+ */
+static jint
+toJavaThreadCategory(UDATA category)
+{
+	switch (category) {
+	case J9THREAD_CATEGORY_SYSTEM_THREAD:
+		return THREAD_CATEGORY_SYSTEM_JVM;
+		break;
+	case J9THREAD_CATEGORY_SYSTEM_GC_THREAD:
+		return THREAD_CATEGORY_GC;
+		break;
+	case J9THREAD_CATEGORY_SYSTEM_JIT_THREAD:
+		return THREAD_CATEGORY_JIT;
+		break;
+	case J9THREAD_CATEGORY_RESOURCE_MONITOR_THREAD:
+		return THREAD_CATEGORY_RESOURCE_MONITOR;
+		break;
+	case J9THREAD_CATEGORY_APPLICATION_THREAD:
+		return THREAD_CATEGORY_APPLICATION;
+		break;
+	case J9THREAD_USER_DEFINED_THREAD_CATEGORY_1:
+		return THREAD_CATEGORY_APPLICATION_USER1;
+		break;
+	case J9THREAD_USER_DEFINED_THREAD_CATEGORY_2:
+		return THREAD_CATEGORY_APPLICATION_USER2;
+		break;
+	case J9THREAD_USER_DEFINED_THREAD_CATEGORY_3:
+		return THREAD_CATEGORY_APPLICATION_USER3;
+		break;
+	case J9THREAD_USER_DEFINED_THREAD_CATEGORY_4:
+		return THREAD_CATEGORY_APPLICATION_USER4;
+		break;
+	case J9THREAD_USER_DEFINED_THREAD_CATEGORY_5:
+		return THREAD_CATEGORY_APPLICATION_USER5;
+		break;
+	default:
+		return THREAD_CATEGORY_INVALID;
+	}
+
+	return THREAD_CATEGORY_INVALID;
+}
+
 /**
  * Sets the thread category of the given threadID to the one that is passed with the following caveats
  * 1. System thread categories cannot be changed.
@@ -2505,42 +2692,7 @@ Java_com_ibm_lang_management_internal_JvmCpuMonitor_getThreadCategoryImpl(JNIEnv
 	}
 	vmfns->internalExitVMToJNI(currentThread);
 
-	switch (category) {
-	case J9THREAD_CATEGORY_SYSTEM_THREAD:
-		return THREAD_CATEGORY_SYSTEM_JVM;
-		break;
-	case J9THREAD_CATEGORY_SYSTEM_GC_THREAD:
-		return THREAD_CATEGORY_GC;
-		break;
-	case J9THREAD_CATEGORY_SYSTEM_JIT_THREAD:
-		return THREAD_CATEGORY_JIT;
-		break;
-	case J9THREAD_CATEGORY_RESOURCE_MONITOR_THREAD:
-		return THREAD_CATEGORY_RESOURCE_MONITOR;
-		break;
-	case J9THREAD_CATEGORY_APPLICATION_THREAD:
-		return THREAD_CATEGORY_APPLICATION;
-		break;
-	case J9THREAD_USER_DEFINED_THREAD_CATEGORY_1:
-		return THREAD_CATEGORY_APPLICATION_USER1;
-		break;
-	case J9THREAD_USER_DEFINED_THREAD_CATEGORY_2:
-		return THREAD_CATEGORY_APPLICATION_USER2;
-		break;
-	case J9THREAD_USER_DEFINED_THREAD_CATEGORY_3:
-		return THREAD_CATEGORY_APPLICATION_USER3;
-		break;
-	case J9THREAD_USER_DEFINED_THREAD_CATEGORY_4:
-		return THREAD_CATEGORY_APPLICATION_USER4;
-		break;
-	case J9THREAD_USER_DEFINED_THREAD_CATEGORY_5:
-		return THREAD_CATEGORY_APPLICATION_USER5;
-		break;
-	default:
-		return THREAD_CATEGORY_INVALID;
-	}
-
-	return THREAD_CATEGORY_INVALID;
+	return toJavaThreadCategory(category);
 }
 
 /**
@@ -100,6 +100,12 @@ static UDATA getPathProtocolFromURL(JNIEnv* env, jobject url, jmethodID URLgetPa
 static void releaseStringChars(JNIEnv* env, jstring str, const char* chars);
 static void releaseStringPair(JNIEnv* env, jstring str1, const char* chars1, jstring str2, const char* chars2);
 static J9Pool* getTokenCache(JNIEnv* env);
+static jint findSharedClassURLClasspath(JNIEnv* env, jint helperID, jstring partitionObj, jstring classNameObj, jobject loaderObj, jobjectArray urlArrayObj,
+		jboolean doFind, jboolean doStore, jint urlCount, jint confirmedCount, jbyteArray romClassCookie);
+#if defined(J9VM_OPT_SHARED_CLASSES)
+static UDATA getURLClasspathEntries(JNIEnv* env, jint helperID, J9ClassLoader* classloader, jobjectArray urlArrayObj, jint urlCount,
+		const char* partitionChars, jsize partitionLen, J9ClassPathEntry*** cpEntriesPtr, const J9UTF8** partitionPtr);
+#endif /* J9VM_OPT_SHARED_CLASSES */
 
 
 /* Pass a jclStringFarm if this string is to be copied and kept, otherwise pass a large enough char buffer in correctedPathPtr */
@@ -1618,75 +1624,147 @@ Java_com_ibm_oti_shared_SharedClassURLClasspathHelperImpl_findSharedClassImpl2(J
 		jstring partitionObj, jstring classNameObj, jobject loaderObj, jobjectArray urlArrayObj, jboolean doFind, jboolean doStore,  
 		jint urlCount, jint confirmedCount, jbyteArray romClassCookie)
 {
+	return findSharedClassURLClasspath(env, helperID, partitionObj, classNameObj, loaderObj, urlArrayObj, doFind, doStore, urlCount, confirmedCount, romClassCookie);
+}
+
+/**
+ * Finds a number of classes for a SharedClassURLClasspathHelper in a single call.
+ * The class loader, the class name of the partition, the classpath entries and the
+ * cached partition are looked up once for the batch, so the cost per class is the
+ * class name and the lookup in the cache.
+ *
+ * @return the number of classes found. indexesFoundAt[i] is set to the classpath index
+ * at which classNames[i] was found, or -1 if it was not found.
+ */
+jint JNICALL
+Java_com_ibm_oti_shared_SharedClassURLClasspathHelperImpl_findSharedClassesImpl2(JNIEnv* env, jobject thisObj, jint helperID,
+		jstring partitionObj, jobjectArray classNamesObj, jobject loaderObj, jobjectArray urlArrayObj, jboolean doFind, jboolean doStore,
+		jint urlCount, jint confirmedCount, jobjectArray romClassCookies, jintArray indexesFoundAt)
+{
+	jint found = 0;
 #if defined(J9VM_OPT_SHARED_CLASSES)
 	J9VMThread* vmThread = ((J9VMThread*)env);
 	J9JavaVM* vm = vmThread->javaVM;
-	const char* nameChars = NULL;
 	const char* partitionChars = NULL;
-	jsize nameLen = 0;
 	jsize partitionLen = 0;
-	J9ROMClass* romClass = NULL;
-	J9ClassPathEntry** cpEntries = NULL;
-	UDATA entryCount = (UDATA)urlCount;
-	IDATA indexFoundAt = 0;
-	UDATA oldState;
 	const J9UTF8* partition = NULL;
-	omrthread_monitor_t jclCacheMutex;
-	J9ClassLoader* classloader;
-	URLElements* urlArrayElements = NULL;
-	IDATA i = 0;
-	jmethodID urlGetPathID = NULL;
-	jmethodID urlGetProtocolID = NULL;
-	
-	PORT_ACCESS_FROM_VMC((J9VMThread*)env);
+	J9ClassPathEntry** cpEntries = NULL;
+	J9ClassLoader* classloader = NULL;
+	UDATA oldState = 0;
+	jsize count = 0;
+	jsize i = 0;
 
 	Trc_JCL_com_ibm_oti_shared_SharedClassURLClasspathHelperImpl_findSharedClassImpl_Entry(env, helperID);
 
-	jclCacheMutex = vm->sharedClassConfig->jclCacheMutex;
-
 	if ((helperID > 0xFFFF) || (vm->sharedClassConfig->runtimeFlags & J9SHR_RUNTIMEFLAG_DENY_CACHE_ACCESS)) {
-		/* trace event is at level 1 and trace exit message is at level 2 as per CMVC 155318/157683 */		
 		Trc_JCL_com_ibm_oti_shared_SharedClassURLClasspathHelperImpl_findSharedClassImpl_ExitDenyAccess_Event(env, helperID);
 		Trc_JCL_com_ibm_oti_shared_SharedClassURLClasspathHelperImpl_findSharedClassImpl_ExitDenyAccess(env);
-		return -1;
+		return 0;
 	}
 
-	oldState = ((J9VMThread*)env)->omrVMThread->vmState;
-	((J9VMThread*)env)->omrVMThread->vmState = J9VMSTATE_SHAREDCLASS_FIND;
+	oldState = vmThread->omrVMThread->vmState;
+	vmThread->omrVMThread->vmState = J9VMSTATE_SHAREDCLASS_FIND;
 
 	vm->internalVMFunctions->internalEnterVMFromJNI(vmThread);
 	classloader = J9VMJAVALANGCLASSLOADER_VMREF(vmThread, J9_JNI_UNWRAP_REFERENCE(loaderObj));
 	vm->internalVMFunctions->internalExitVMToJNI(vmThread);
 
-	if (!getStringPair(env, &nameChars, &nameLen, &partitionChars, &partitionLen, classNameObj, partitionObj)) {
+	if (!getStringChars(env, &partitionChars, &partitionLen, partitionObj)) {
 		Trc_JCL_com_ibm_oti_shared_SharedClassURLClasspathHelperImpl_findSharedClassImpl_ExitError2_Event(env, helperID);
-		goto _errorPostClassNamePartition;
+		goto _error;
+	}
+	if (!getURLClasspathEntries(env, helperID, classloader, urlArrayObj, urlCount, partitionChars, partitionLen, &cpEntries, &partition)) {
+		goto _error;
 	}
 
+	count = (*env)->GetArrayLength(env, classNamesObj);
+	for (i = 0; i < count; i++) {
+		jstring classNameObj = (jstring)(*env)->GetObjectArrayElement(env, classNamesObj, i);
+		jbyteArray romClassCookie = (jbyteArray)(*env)->GetObjectArrayElement(env, romClassCookies, i);
+		const char* nameChars = NULL;
+		jsize nameLen = 0;
+		J9ROMClass* romClass = NULL;
+		IDATA indexFoundAt = 0;
+		jint result = -1;
+
+		if ((NULL != classNameObj) && (NULL != romClassCookie) && getStringChars(env, &nameChars, &nameLen, classNameObj)) {
+			ALWAYS_TRIGGER_J9HOOK_VM_FIND_LOCALLY_DEFINED_CLASS(vm->hookInterface, vmThread, classloader, NULL,
+					nameChars, (UDATA)nameLen, cpEntries, (UDATA)urlCount, confirmedCount, partition, !doFind, !doStore, &indexFoundAt, romClass);
+			releaseStringChars(env, classNameObj, nameChars);
+			if (NULL != romClass) {
+				createROMClassCookie(env, vm, romClass, romClassCookie);
+				result = (jint)indexFoundAt;
+				found += 1;
+			}
+		}
+		(*env)->SetIntArrayRegion(env, indexesFoundAt, i, 1, &result);
+		(*env)->DeleteLocalRef(env, classNameObj);
+		(*env)->DeleteLocalRef(env, romClassCookie);
+		if (JNI_TRUE == (*env)->ExceptionCheck(env)) {
+			break;
+		}
+	}
+
+	releaseStringChars(env, partitionObj, partitionChars);
+	vmThread->omrVMThread->vmState = oldState;
+	Trc_JCL_com_ibm_oti_shared_SharedClassURLClasspathHelperImpl_findSharedClassImpl_ExitResult(env, found);
+	return found;
+
+_error:
+	releaseStringChars(env, partitionObj, partitionChars);
+	(*env)->ExceptionClear(env);
+	vmThread->omrVMThread->vmState = oldState;
+	Trc_JCL_com_ibm_oti_shared_SharedClassURLClasspathHelperImpl_findSharedClassImpl_ExitError(env);
+#endif /* J9VM_OPT_SHARED_CLASSES */
+	return found;
+}
+
+#if defined(J9VM_OPT_SHARED_CLASSES)
+/**
+ * Creates the classpath entries of a class loader used by a SharedClassURLClasspathHelper
+ * if it does not have them yet, and gets the cached copy of the partition.
+ *
+ * @return TRUE on success, FALSE otherwise
+ */
+static UDATA
+getURLClasspathEntries(JNIEnv* env, jint helperID, J9ClassLoader* classloader, jobjectArray urlArrayObj, jint urlCount,
+		const char* partitionChars, jsize partitionLen, J9ClassPathEntry*** cpEntriesPtr, const J9UTF8** partitionPtr)
+{
+	J9JavaVM* vm = ((J9VMThread*)env)->javaVM;
+	omrthread_monitor_t jclCacheMutex = vm->sharedClassConfig->jclCacheMutex;
+	J9ClassPathEntry** cpEntries = NULL;
+	URLElements* urlArrayElements = NULL;
+	jmethodID urlGetPathID = NULL;
+	jmethodID urlGetProtocolID = NULL;
+	UDATA result = FALSE;
+	IDATA i = 0;
+
+	PORT_ACCESS_FROM_VMC((J9VMThread*)env);
+
 	urlGetPathID = JCL_CACHE_GET(env, MID_java_net_URL_getPath);
 	if (NULL == urlGetPathID) {
-		goto _errorPostClassNamePartition;
+		return FALSE;
 	}
 	urlGetProtocolID = JCL_CACHE_GET(env, MID_java_net_URL_getProtocol);
 	if (NULL == urlGetProtocolID) {
-		goto _errorPostClassNamePartition;
+		return FALSE;
 	}
 
 	if (NULL == classloader->classPathEntries) {
 		urlArrayElements = (URLElements *)j9mem_allocate_memory(urlCount * sizeof(URLElements), J9MEM_CATEGORY_VM_JCL);
 		if (NULL == urlArrayElements) {
-			goto _errorPostClassNamePartition;
+			return FALSE;
 		}
 		memset(urlArrayElements, 0, urlCount * sizeof(URLElements));
 
 		for (i = 0; i < urlCount; i++) {
 			jobject url = (*env)->GetObjectArrayElement(env, urlArrayObj, (jsize)i);
 			if (JNI_TRUE == (*env)->ExceptionCheck(env)) {
-				goto _errorFreeURLElements;
+				goto _done;
 			}
 
 			if (!getPathProtocolFromURL(env, url, urlGetPathID, urlGetProtocolID, urlArrayElements + i)) {
-				goto _errorFreeURLElements;
+				goto _done;
 			}
 		}
 	}
@@ -1705,23 +1783,24 @@ Java_com_ibm_oti_shared_SharedClassURLClasspathHelperImpl_findSharedClassImpl2(J
 				j9mem_free_memory(cpEntries);
 			}
 			Trc_JCL_com_ibm_oti_shared_SharedClassURLClasspathHelperImpl_findSharedClassImpl_ExitError3_Event(env, helperID);
-			goto _errorWithMutex;
+			goto _doneWithMutex;
 		}
 		classloader->classPathEntries = cpEntries;
 		Trc_JCL_com_ibm_oti_shared_SharedClassURLClasspathHelperImpl_findSharedClassImpl_SetCPE(env, classloader, cpEntries);
 	}
 
 	if (partitionChars) {
-		if (!getCachedString(env, partitionChars, partitionLen, &(vm->sharedClassConfig->jclStringFarm), &partition)) {
+		if (!getCachedString(env, partitionChars, partitionLen, &(vm->sharedClassConfig->jclStringFarm), partitionPtr)) {
 			Trc_JCL_com_ibm_oti_shared_SharedClassURLClasspathHelperImpl_findSharedClassImpl_ExitError4_Event(env, helperID);
-			goto _errorWithMutex;
+			goto _doneWithMutex;
 		}
 	}
-	omrthread_monitor_exit(jclCacheMutex);
-
-	ALWAYS_TRIGGER_J9HOOK_VM_FIND_LOCALLY_DEFINED_CLASS(vm->hookInterface, (J9VMThread*)env, classloader, NULL,
-			(const char*)nameChars, (UDATA)nameLen, cpEntries, entryCount, confirmedCount, partition, !doFind, !doStore, &indexFoundAt, romClass);
+	*cpEntriesPtr = cpEntries;
+	result = TRUE;
 
+_doneWithMutex:
+	omrthread_monitor_exit(jclCacheMutex);
+_done:
 	if (NULL != urlArrayElements) {
 		for (i = 0; i < urlCount; i++) {
 			/* NULL check is done in releaseStringPair(), so no need to do it here */
@@ -1729,6 +1808,56 @@ Java_com_ibm_oti_shared_SharedClassURLClasspathHelperImpl_findSharedClassImpl2(J
 		}
 		j9mem_free_memory(urlArrayElements);
 	}
+	return result;
+}
+#endif /* J9VM_OPT_SHARED_CLASSES */
+
+static jint
+findSharedClassURLClasspath(JNIEnv* env, jint helperID, jstring partitionObj, jstring classNameObj, jobject loaderObj, jobjectArray urlArrayObj,
+		jboolean doFind, jboolean doStore, jint urlCount, jint confirmedCount, jbyteArray romClassCookie)
+{
+#if defined(J9VM_OPT_SHARED_CLASSES)
+	J9VMThread* vmThread = ((J9VMThread*)env);
+	J9JavaVM* vm = vmThread->javaVM;
+	const char* nameChars = NULL;
+	const char* partitionChars = NULL;
+	jsize nameLen = 0;
+	jsize partitionLen = 0;
+	J9ROMClass* romClass = NULL;
+	J9ClassPathEntry** cpEntries = NULL;
+	UDATA entryCount = (UDATA)urlCount;
+	IDATA indexFoundAt = 0;
+	UDATA oldState;
+	const J9UTF8* partition = NULL;
+	J9ClassLoader* classloader;
+
+	Trc_JCL_com_ibm_oti_shared_SharedClassURLClasspathHelperImpl_findSharedClassImpl_Entry(env, helperID);
+
+	if ((helperID > 0xFFFF) || (vm->sharedClassConfig->runtimeFlags & J9SHR_RUNTIMEFLAG_DENY_CACHE_ACCESS)) {
+		/* trace event is at level 1 and trace exit message is at level 2 as per CMVC 155318/157683 */		
+		Trc_JCL_com_ibm_oti_shared_SharedClassURLClasspathHelperImpl_findSharedClassImpl_ExitDenyAccess_Event(env, helperID);
+		Trc_JCL_com_ibm_oti_shared_SharedClassURLClasspathHelperImpl_findSharedClassImpl_ExitDenyAccess(env);
+		return -1;
+	}
+
+	oldState = ((J9VMThread*)env)->omrVMThread->vmState;
+	((J9VMThread*)env)->omrVMThread->vmState = J9VMSTATE_SHAREDCLASS_FIND;
+
+	vm->internalVMFunctions->internalEnterVMFromJNI(vmThread);
+	classloader = J9VMJAVALANGCLASSLOADER_VMREF(vmThread, J9_JNI_UNWRAP_REFERENCE(loaderObj));
+	vm->internalVMFunctions->internalExitVMToJNI(vmThread);
+
+	if (!getStringPair(env, &nameChars, &nameLen, &partitionChars, &partitionLen, classNameObj, partitionObj)) {
+		Trc_JCL_com_ibm_oti_shared_SharedClassURLClasspathHelperImpl_findSharedClassImpl_ExitError2_Event(env, helperID);
+		goto _errorPostClassNamePartition;
+	}
+
+	if (!getURLClasspathEntries(env, helperID, classloader, urlArrayObj, urlCount, partitionChars, partitionLen, &cpEntries, &partition)) {
+		goto _errorPostClassNamePartition;
+	}
+
+	ALWAYS_TRIGGER_J9HOOK_VM_FIND_LOCALLY_DEFINED_CLASS(vm->hookInterface, (J9VMThread*)env, classloader, NULL,
+			(const char*)nameChars, (UDATA)nameLen, cpEntries, entryCount, confirmedCount, partition, !doFind, !doStore, &indexFoundAt, romClass);
 
 	releaseStringPair(env, classNameObj, nameChars, partitionObj, partitionChars);
 
@@ -1746,16 +1875,6 @@ Java_com_ibm_oti_shared_SharedClassURLClasspathHelperImpl_findSharedClassImpl2(J
 	Trc_JCL_com_ibm_oti_shared_SharedClassURLClasspathHelperImpl_findSharedClassImpl_ExitNoResult(env);
 	return -1;
 
-_errorWithMutex:
-	omrthread_monitor_exit(jclCacheMutex);
-_errorFreeURLElements:
-	if (NULL != urlArrayElements) {
-		for (i = 0; i < urlCount; i++) {
-			/* NULL check is done in releaseStringPair(), no need to do it here */
-			releaseStringPair(env, urlArrayElements[i].pathObj, urlArrayElements[i].pathChars, urlArrayElements[i].protocolObj, urlArrayElements[i].protocolChars);
-		}
-		j9mem_free_memory(urlArrayElements);
-	}
 _errorPostClassNamePartition:
 	releaseStringPair(env, classNameObj, nameChars, partitionObj, partitionChars);
 	(*env)->ExceptionClear(env);
@@ -1961,6 +2080,24 @@ Java_com_ibm_oti_shared_SharedClassStatistics_numberAttachedImpl(JNIEnv *env, jo
 #endif /* defined(J9VM_OPT_SHARED_CLASSES) */
 }
 
+void JNICALL
+Java_openj9_internal_management_SharedClassCacheCounters_getCacheCountsImpl(JNIEnv *env, jclass clazz, jlongArray counts)
+{
+#if defined(J9VM_OPT_SHARED_CLASSES)
+	J9JavaVM *vm = ((J9VMThread *)env)->javaVM;
+
+	if (NULL != vm->sharedClassConfig) {
+		J9SharedClassJavacoreDataDescriptor descriptor;
+		if (0 != vm->sharedClassConfig->getJavacoreData(vm, &descriptor)) {
+			jlong values[2];
+			values[0] = (jlong)descriptor.numStaleClasses;
+			values[1] = (jlong)descriptor.numAOTMethods;
+			(*env)->SetLongArrayRegion(env, counts, 0, 2, values);
+		}
+	}
+#endif /* defined(J9VM_OPT_SHARED_CLASSES) */
+}
+
 
 void JNICALL
 Java_com_ibm_oti_shared_SharedClassURLClasspathHelperImpl_notifyClasspathChange2(JNIEnv* env, jobject thisObj, jobject classLoaderObj)
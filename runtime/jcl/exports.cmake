@@ -29,6 +29,8 @@ omr_add_exports(jclse
 	Java_openj9_internal_management_ClassLoaderInfoBaseImpl_getLoadedClassCountImpl
 	Java_com_ibm_java_lang_management_internal_ClassLoadingMXBeanImpl_getTotalLoadedClassCountImpl
 	Java_openj9_internal_management_ClassLoaderInfoBaseImpl_getUnloadedClassCountImpl
+	Java_openj9_internal_management_RuntimeCountersBaseImpl_getCollectorCountersImpl
+	Java_openj9_internal_management_RuntimeCountersBaseImpl_getThreadCountersImpl
 	Java_com_ibm_java_lang_management_internal_ClassLoadingMXBeanImpl_isVerboseImpl
 	Java_com_ibm_java_lang_management_internal_ClassLoadingMXBeanImpl_setVerboseImpl
 	Java_com_ibm_java_lang_management_internal_CompilationMXBeanImpl_getTotalCompilationTimeImpl
@@ -219,6 +221,7 @@ omr_add_exports(jclse
 	Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getHardwareModelImpl
 	Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getMemoryUsageImpl
 	Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getOnlineProcessorsImpl
+	Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getOperatingSystemMetricsImpl
 	Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getProcessCpuTimeImpl
 	Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getProcessPhysicalMemorySizeImpl
 	Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getProcessPrivateMemorySizeImpl
@@ -233,6 +236,7 @@ omr_add_exports(jclse
 	Java_com_ibm_lang_management_internal_ExtendedRuntimeMXBeanImpl_getVMIdleStateImpl
 	Java_com_ibm_lang_management_internal_JvmCpuMonitor_getThreadCategoryImpl
 	Java_com_ibm_lang_management_internal_JvmCpuMonitor_getThreadsCpuUsageImpl
+	Java_com_ibm_lang_management_internal_JvmCpuMonitor_getThreadsUsageImpl
 	Java_com_ibm_lang_management_internal_JvmCpuMonitor_setThreadCategoryImpl
 	Java_com_ibm_lang_management_internal_MemoryNotificationThreadShutdown_sendShutdownNotification
 	Java_com_ibm_lang_management_internal_MemoryNotificationThread_processNotificationLoop
@@ -242,6 +246,8 @@ omr_add_exports(jclse
 	Java_com_ibm_lang_management_internal_UnixExtendedOperatingSystem_getOpenFileDescriptorCountImpl
 	Java_openj9_internal_tools_attach_target_DiagnosticUtils_getHeapClassStatisticsImpl
 	Java_openj9_internal_tools_attach_target_DiagnosticUtils_dumpAllThreadsImpl
+	Java_openj9_internal_tools_attach_target_DiagnosticUtils_getAllThreadIdsImpl
+	Java_openj9_internal_tools_attach_target_DiagnosticUtils_getMultiThreadInfoImpl
 	Java_openj9_internal_tools_attach_target_DiagnosticUtils_triggerDumpsImpl
 	Java_openj9_management_internal_IDCacheInitializer_initIDCache
 	Java_com_ibm_oti_reflect_AnnotationParser_getAnnotationsDataImpl__Ljava_lang_Class_2
@@ -267,9 +273,11 @@ omr_add_exports(jclse
 	Java_com_ibm_oti_shared_SharedClassStatistics_minJitDataBytesImpl
 	Java_com_ibm_oti_shared_SharedClassStatistics_numberAttachedImpl
 	Java_com_ibm_oti_shared_SharedClassStatistics_softmxBytesImpl
+	Java_openj9_internal_management_SharedClassCacheCounters_getCacheCountsImpl
 	Java_com_ibm_oti_shared_SharedClassTokenHelperImpl_findSharedClassImpl2
 	Java_com_ibm_oti_shared_SharedClassTokenHelperImpl_storeSharedClassImpl2
 	Java_com_ibm_oti_shared_SharedClassURLClasspathHelperImpl_findSharedClassImpl2
+	Java_com_ibm_oti_shared_SharedClassURLClasspathHelperImpl_findSharedClassesImpl2
 	Java_com_ibm_oti_shared_SharedClassURLClasspathHelperImpl_init
 	Java_com_ibm_oti_shared_SharedClassURLClasspathHelperImpl_notifyClasspathChange2
 	Java_com_ibm_oti_shared_SharedClassURLClasspathHelperImpl_notifyClasspathChange3
@@ -948,6 +948,9 @@ extern "C" {
 #define J9JFR_EVENT_TYPE_CPU_LOAD 5
 #define J9JFR_EVENT_TYPE_THREAD_CPU_LOAD 6
 #define J9JFR_EVENT_TYPE_CLASS_LOADING_STATISTICS 7
+#define J9JFR_EVENT_TYPE_OBJECT_ALLOCATION_SAMPLE 8
+#define J9JFR_EVENT_TYPE_MONITOR_ENTER 9
+#define J9JFR_EVENT_TYPE_GARBAGE_COLLECTION 10
 
 /* JFR thread states */
 
@@ -349,6 +349,8 @@ struct J9VMContinuation;
 typedef struct J9ThreadJFRState {
 	omrthread_thread_time_t prevThreadCPUTimes;
 	int64_t prevTimestamp;
+	I_64 monitorEnterStartTicks;
+	UDATA allocationSampleWeight;
 } J9ThreadJFRState;
 
 typedef struct J9JFRBufferWalkState {
@@ -440,6 +442,33 @@ typedef struct J9JFRClassLoadingStatistics {
 	I_64 unloadedClassCount;
 } J9JFRClassLoadingStatistics;
 
+/* Variable-size structure - stackTraceSize worth of UDATA follow the fixed portion */
+typedef struct J9JFRObjectAllocationSample {
+	J9JFR_EVENT_WITH_STACKTRACE_FIELDS
+	struct J9Class *objectClass;
+	UDATA weight;
+} J9JFRObjectAllocationSample;
+
+#define J9JFROBJECTALLOCATIONSAMPLE_STACKTRACE(jfrEvent) ((UDATA*)(((J9JFRObjectAllocationSample*)(jfrEvent)) + 1))
+
+/* Variable-size structure - stackTraceSize worth of UDATA follow the fixed portion */
+typedef struct J9JFRMonitorEntered {
+	J9JFR_EVENT_WITH_STACKTRACE_FIELDS
+	I_64 duration;
+	struct J9Class *monitorClass;
+	UDATA monitorAddress;
+} J9JFRMonitorEntered;
+
+#define J9JFRMONITORENTERED_STACKTRACE(jfrEvent) ((UDATA*)(((J9JFRMonitorEntered*)(jfrEvent)) + 1))
+
+typedef struct J9JFRGarbageCollection {
+	J9JFR_EVENT_COMMON_FIELDS
+	I_64 duration;
+	UDATA gcID;
+	BOOLEAN isLocal;
+	const char *gcCause;
+} J9JFRGarbageCollection;
+
 #endif /* defined(J9VM_OPT_JFR) */
 
 /* @ddr_namespace: map_to_type=J9CfrError */
@@ -4784,6 +4813,7 @@ typedef struct J9MemoryManagerFunctions {
 	UDATA  ( *j9gc_arraylet_getLeafSize)(struct J9JavaVM* javaVM) ;
 	UDATA  ( *j9gc_arraylet_getLeafLogSize)(struct J9JavaVM* javaVM) ;
 	void  ( *j9gc_set_allocation_sampling_interval)(struct J9JavaVM *vm, UDATA samplingInterval);
+	UDATA  ( *j9gc_get_allocation_sampling_interval)(struct J9JavaVM *vm);
 	void  ( *j9gc_set_allocation_threshold)(struct J9VMThread *vmThread, UDATA low, UDATA high) ;
 	void  ( *j9gc_objaccess_recentlyAllocatedObject)(struct J9VMThread *vmThread, J9Object *dstObject) ;
 	void  ( *j9gc_objaccess_postStoreClassToClassLoader)(struct J9VMThread* vmThread, J9ClassLoader* destClassLoader, J9Class* srcClass) ;
@@ -5718,6 +5748,11 @@ typedef struct JFRState {
 	J9SysinfoCPUTime prevSysCPUTime;
 	omrthread_process_time_t prevProcCPUTimes;
 	int64_t prevProcTimestamp;
+	I_64 gcStartTicks;
+	UDATA gcCount;
+	I_64 allocationSampleWindowStart;
+	UDATA allocationSampleWindowCount;
+	UDATA allocationSamplingInterval;
 } JFRState;
 
 typedef struct J9ReflectFunctionTable {
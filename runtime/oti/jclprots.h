@@ -65,12 +65,16 @@ jlong JNICALL
 Java_com_ibm_oti_shared_SharedClassStatistics_softMaxBytesImpl(JNIEnv* env, jobject thisObj);
 jlong JNICALL
 Java_com_ibm_oti_shared_SharedClassStatistics_softmxBytesImpl(JNIEnv* env, jobject thisObj);
+void JNICALL
+Java_openj9_internal_management_SharedClassCacheCounters_getCacheCountsImpl(JNIEnv *env, jclass clazz, jlongArray counts);
 jboolean JNICALL
 Java_com_ibm_oti_shared_SharedClassTokenHelperImpl_findSharedClassImpl2(JNIEnv* env, jobject thisObj, jint helperID, jstring classNameObj, jobject loaderObj, jstring tokenObj, jboolean doFind, jboolean doStore, jbyteArray romClassCookie);
 jint JNICALL
 Java_com_ibm_oti_shared_SharedClassTokenHelperImpl_storeSharedClassImpl2(JNIEnv* env, jobject thisObj, jint helperID, jobject loaderObj, jstring tokenObj, jclass clazzObj, jbyteArray nativeFlags);
 jint JNICALL
 Java_com_ibm_oti_shared_SharedClassURLClasspathHelperImpl_findSharedClassImpl2(JNIEnv* env, jobject thisObj, jint helperID, jstring partitionObj, jstring classNameObj, jobject loaderObj, jobjectArray urlArrayObj, jboolean doFind, jboolean doStore, jint urlCount, jint confirmedCount, jbyteArray romClassCookie);
+jint JNICALL
+Java_com_ibm_oti_shared_SharedClassURLClasspathHelperImpl_findSharedClassesImpl2(JNIEnv* env, jobject thisObj, jint helperID, jstring partitionObj, jobjectArray classNamesObj, jobject loaderObj, jobjectArray urlArrayObj, jboolean doFind, jboolean doStore, jint urlCount, jint confirmedCount, jobjectArray romClassCookies, jintArray indexesFoundAt);
 void JNICALL
 Java_com_ibm_oti_shared_SharedClassURLClasspathHelperImpl_init(JNIEnv *env, jclass clazz);
 void JNICALL
@@ -148,6 +152,8 @@ extern J9_CFUNC jlong JNICALL
 Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getProcessPhysicalMemorySizeImpl (JNIEnv *env, jobject instance);
 extern J9_CFUNC jdouble JNICALL
 Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getSystemCpuLoadImpl (JNIEnv *env, jobject instance);
+extern J9_CFUNC void JNICALL
+Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getOperatingSystemMetricsImpl (JNIEnv *env, jobject instance, jobject snapshot, jint groups);
 
 /* BBresmanNativesCommonMemorySpace*/
 jboolean JNICALL Java_com_ibm_oti_vm_MemorySpace_isObjectInMemorySpace (JNIEnv * env, jobject memorySpace, jlong memorySpaceAddress, jobject anObject);
@@ -241,6 +247,8 @@ extern J9_CFUNC jlong JNICALL
 Java_com_ibm_java_lang_management_internal_MemoryPoolMXBeanImpl_getUsageThresholdImpl (JNIEnv *env, jobject beanInstance, jint id);
 
 /* J9SourceManagementThread*/
+extern J9_CFUNC void JNICALL
+Java_openj9_internal_management_RuntimeCountersBaseImpl_getThreadCountersImpl (JNIEnv *env, jclass clazz, jlongArray counts);
 extern J9_CFUNC jlong JNICALL
 Java_com_ibm_java_lang_management_internal_ThreadMXBeanImpl_findNativeThreadIDImpl (JNIEnv *env, jclass beanClass, jlong threadId);
 extern J9_CFUNC void JNICALL
@@ -360,6 +368,8 @@ extern J9_CFUNC jlong JNICALL
 Java_openj9_internal_management_ClassLoaderInfoBaseImpl_getLoadedClassCountImpl (JNIEnv *env, jobject beanInstance);
 
 /* J9SourceManagementGarbageCollector*/
+extern J9_CFUNC void JNICALL
+Java_openj9_internal_management_RuntimeCountersBaseImpl_getCollectorCountersImpl (JNIEnv *env, jclass clazz, jlongArray counts);
 extern J9_CFUNC jlong JNICALL
 Java_com_ibm_java_lang_management_internal_GarbageCollectorMXBeanImpl_getCollectionCountImpl (JNIEnv *env, jobject beanInstance, jint id);
 extern J9_CFUNC jlong JNICALL
@@ -727,6 +737,9 @@ jboolean JNICALL Java_com_ibm_oti_vm_VM_isApplicationClassLoaderPresent(JNIEnv *
 jstring JNICALL Java_openj9_internal_tools_attach_target_DiagnosticUtils_getHeapClassStatisticsImpl(JNIEnv * env, jclass unused);
 jobjectArray JNICALL Java_openj9_internal_tools_attach_target_DiagnosticUtils_dumpAllThreadsImpl(JNIEnv *env, jobject beanInstance,
 	jboolean getLockedMonitors, jboolean getLockedSynchronizers, jint maxDepth);
+jlongArray JNICALL Java_openj9_internal_tools_attach_target_DiagnosticUtils_getAllThreadIdsImpl(JNIEnv *env, jclass clazz);
+jobjectArray JNICALL Java_openj9_internal_tools_attach_target_DiagnosticUtils_getMultiThreadInfoImpl(JNIEnv *env, jclass clazz,
+	jlongArray ids, jint maxStackDepth, jboolean getLockedMonitors, jboolean getLockedSynchronizers);
 jstring JNICALL Java_openj9_internal_tools_attach_target_DiagnosticUtils_triggerDumpsImpl(JNIEnv *env, jclass clazz, jstring opts, jstring event);
 
 /* J9SourceJclCommonInit*/
@@ -1229,6 +1242,17 @@ Java_com_ibm_virtualization_management_internal_GuestOS_retrieveMemoryUsageImpl(
  */
 jobject JNICALL
 Java_com_ibm_lang_management_internal_JvmCpuMonitor_getThreadsCpuUsageImpl(JNIEnv *env, jobject beanInstance, jobject jvmCpuMonitorInfoObject);
+/**
+ * Fills the buffer with per-thread CPU time and allocation records and passes them to the JvmCpuMonitorUsage object.
+ *
+ * @param env						The JNI env.
+ * @param beanInstance				beanInstance.
+ * @param jvmCpuMonitorUsageObject	The JvmCpuMonitorUsage object to update.
+ * @param buffer					The array to fill with thread records.
+ * @return							The number of threads on success, the negated number of threads if the buffer is too small.
+ */
+jint JNICALL
+Java_com_ibm_lang_management_internal_JvmCpuMonitor_getThreadsUsageImpl(JNIEnv *env, jobject beanInstance, jobject jvmCpuMonitorUsageObject, jlongArray buffer);
 /**
  * Sets the thread category of the given threadID to the one that is passed.
  *
@@ -31,6 +31,9 @@
 #define SHRCLSSUP_ERR_TRACE(verbose, var) if (verbose) j9nls_printf(PORTLIB, J9NLS_ERROR, var)
 #define SHRCLSSUP_ERR_TRACE1(verbose, var, p1) if (verbose) j9nls_printf(PORTLIB, J9NLS_ERROR, var, p1)
 
+/* A cacheDir starting with this token is relative to the Java home, e.g. cacheDir=%home/lib/sharedclasses */
+#define CACHEDIR_HOME_TOKEN "%home"
+
 #if defined(J9VM_OPT_JITSERVER)
 static BOOLEAN
 shouldEnableJITServerAOTCacheLayer(J9JavaVM* vm, U_64 runtimeFlags)
@@ -132,6 +135,48 @@ parseXXOptions(J9JavaVM* vm, U_64 *runtimeFlags)
 	}
 }
 
+/**
+ * Copy the cacheDir value, replacing a leading %home token with the Java home directory,
+ * so that a cache shipped inside a runtime image can be found wherever the image is installed.
+ * The token is only replaced when it is the whole value or is followed by a path separator,
+ * so a directory such as %homefoo is left unchanged.
+ *
+ * @param[in] vm The Java VM
+ * @param[in] ctrlDirName The cacheDir value from the command line
+ *
+ * @return An allocated copy of the directory name, or NULL on failure
+ */
+static char *
+copyCacheDirName(J9JavaVM* vm, const char* ctrlDirName)
+{
+	PORT_ACCESS_FROM_JAVAVM(vm);
+	const char *home = "";
+	UDATA homeLength = 0;
+	UDATA length = 0;
+	char *result = NULL;
+
+	if (0 == strncmp(ctrlDirName, CACHEDIR_HOME_TOKEN, LITERAL_STRLEN(CACHEDIR_HOME_TOKEN))) {
+		char afterToken = ctrlDirName[LITERAL_STRLEN(CACHEDIR_HOME_TOKEN)];
+		J9VMSystemProperty *javaHome = NULL;
+
+		if ((('\0' == afterToken) || ('/' == afterToken) || (DIR_SEPARATOR == afterToken))
+			&& (J9SYSPROP_ERROR_NONE == vm->internalVMFunctions->getSystemProperty(vm, "java.home", &javaHome))
+			&& (NULL != javaHome->value)
+		) {
+			home = javaHome->value;
+			homeLength = strlen(home);
+			ctrlDirName += LITERAL_STRLEN(CACHEDIR_HOME_TOKEN);
+		}
+	}
+	length = homeLength + strlen(ctrlDirName);
+	result = (char *) j9mem_allocate_memory(length + 1, J9MEM_CATEGORY_CLASSES);
+	if (NULL != result) {
+		memcpy(result, home, homeLength);
+		memcpy(result + homeLength, ctrlDirName, length - homeLength + 1);
+	}
+	return result;
+}
+
 static void
 updateSharedCacheAPI(J9JavaVM* vm, U_64 *runtimeFlags, U_64 runtimeFlags2, UDATA verboseFlags)
 {
@@ -285,11 +330,10 @@ IDATA J9VMDllMain(J9JavaVM* vm, IDATA stage, void* reserved)
 					memcpy(vm->sharedCacheAPI->cacheName, cacheName, strlen(cacheName)+1);
 				}
 				if (ctrlDirName != NULL) {
-					vm->sharedCacheAPI->ctrlDirName = (char *) j9mem_allocate_memory(strlen(ctrlDirName)+1, J9MEM_CATEGORY_CLASSES);
+					vm->sharedCacheAPI->ctrlDirName = copyCacheDirName(vm, ctrlDirName);
 					if (vm->sharedCacheAPI->ctrlDirName == NULL) {
 						return J9VMDLLMAIN_FAILED;
 					}
-					memcpy(vm->sharedCacheAPI->ctrlDirName, ctrlDirName, strlen(ctrlDirName)+1);
 				}
 				if (modContext != NULL) {
 					vm->sharedCacheAPI->modContext = (char *) j9mem_allocate_memory(strlen(modContext)+1, J9MEM_CATEGORY_CLASSES);
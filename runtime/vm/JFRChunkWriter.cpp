@@ -888,4 +888,162 @@ VM_JFRChunkWriter::writeClassLoadingStatisticsEvent(void *anElement, void *userD
 	/* write size */
 	_bufferWriter->writeLEB128PaddedU32(dataStart, _bufferWriter->getCursor() - dataStart);
 }
+
+void
+VM_JFRChunkWriter::writeObjectAllocationSampleEvent(void *anElement, void *userData)
+{
+	ObjectAllocationSampleEntry *entry = (ObjectAllocationSampleEntry *)anElement;
+	VM_BufferWriter *_bufferWriter = (VM_BufferWriter *)userData;
+
+	/* reserve size field */
+	U_8 *dataStart = _bufferWriter->getAndIncCursor(sizeof(U_32));
+
+	/* write event type */
+	_bufferWriter->writeLEB128(ObjectAllocationSampleID);
+
+	/* write start time, this event has no duration */
+	_bufferWriter->writeLEB128(entry->ticks);
+
+	/* write event thread index */
+	_bufferWriter->writeLEB128(entry->eventThreadIndex);
+
+	/* stacktrace index */
+	_bufferWriter->writeLEB128(entry->stackTraceIndex);
+
+	/* object class index */
+	_bufferWriter->writeLEB128(entry->objectClass);
+
+	/* write weight which is the number of bytes the sample represents */
+	_bufferWriter->writeLEB128(entry->weight);
+
+	/* write size */
+	_bufferWriter->writeLEB128PaddedU32(dataStart, _bufferWriter->getCursor() - dataStart);
+}
+
+void
+VM_JFRChunkWriter::writeMonitorEnterEvent(void *anElement, void *userData)
+{
+	MonitorEnterEntry *entry = (MonitorEnterEntry *)anElement;
+	VM_BufferWriter *_bufferWriter = (VM_BufferWriter *)userData;
+
+	/* reserve size field */
+	U_8 *dataStart = _bufferWriter->getAndIncCursor(sizeof(U_32));
+
+	/* write event type */
+	_bufferWriter->writeLEB128(MonitorEnterID);
+
+	/* write start time - the event is emitted once the monitor has been entered so
+	 * subtract the time spent blocked.
+	 */
+	_bufferWriter->writeLEB128(entry->ticks - entry->duration);
+
+	/* write duration time which is always in ticks, in our case nanos */
+	_bufferWriter->writeLEB128(entry->duration);
+
+	/* write event thread index */
+	_bufferWriter->writeLEB128(entry->eventThreadIndex);
+
+	/* stacktrace index */
+	_bufferWriter->writeLEB128(entry->stackTraceIndex);
+
+	/* monitor class index */
+	_bufferWriter->writeLEB128(entry->monitorClass);
+
+	/* previous owner thread index */
+	_bufferWriter->writeLEB128(entry->previousOwner);
+
+	/* address of monitor */
+	_bufferWriter->writeLEB128(entry->monitorAddress);
+
+	/* write size */
+	_bufferWriter->writeLEB128PaddedU32(dataStart, _bufferWriter->getCursor() - dataStart);
+}
+
+void
+VM_JFRChunkWriter::writeGarbageCollectionEvent(void *anElement, void *userData)
+{
+	GarbageCollectionEntry *entry = (GarbageCollectionEntry *)anElement;
+	VM_BufferWriter *_bufferWriter = (VM_BufferWriter *)userData;
+
+	/* reserve size field */
+	U_8 *dataStart = _bufferWriter->getAndIncCursor(sizeof(U_32));
+
+	/* write event type */
+	_bufferWriter->writeLEB128(GarbageCollectionID);
+
+	/* write start time - the event is emitted at the end of the collection */
+	_bufferWriter->writeLEB128(entry->ticks - entry->duration);
+
+	/* write duration time which is always in ticks, in our case nanos */
+	_bufferWriter->writeLEB128(entry->duration);
+
+	/* write GC ID */
+	_bufferWriter->writeLEB128(entry->gcID);
+
+	/* write GC name index */
+	_bufferWriter->writeLEB128(entry->gcName);
+
+	/* write GC cause index */
+	_bufferWriter->writeLEB128(entry->gcCause);
+
+	/* write sum of pauses, the collection is a single stop-the-world pause */
+	_bufferWriter->writeLEB128(entry->duration);
+
+	/* write longest pause */
+	_bufferWriter->writeLEB128(entry->duration);
+
+	/* write size */
+	_bufferWriter->writeLEB128PaddedU32(dataStart, _bufferWriter->getCursor() - dataStart);
+}
+
+U_8 *
+VM_JFRChunkWriter::writeGCNameCheckpointEvent()
+{
+	U_8 *dataStart = writeCheckpointEventHeader(Generic, 1);
+
+	/* class ID */
+	_bufferWriter->writeLEB128(GCNameID);
+
+	/* number of names */
+	_bufferWriter->writeLEB128(GCNAME_COUNT);
+
+	for (int i = 0; i < GCNAME_COUNT; i++) {
+		/* constant index */
+		_bufferWriter->writeLEB128(i);
+
+		/* name */
+		writeStringLiteral(gcNames[i]);
+	}
+
+	/* write size */
+	_bufferWriter->writeLEB128PaddedU32(dataStart, _bufferWriter->getCursor() - dataStart);
+
+	return dataStart;
+}
+
+U_8 *
+VM_JFRChunkWriter::writeGCCauseCheckpointEvent()
+{
+	U_8 *dataStart = writeCheckpointEventHeader(Generic, 1);
+	U_32 count = _constantPoolTypes.getGCCauseCount();
+
+	/* class ID */
+	_bufferWriter->writeLEB128(GCCauseID);
+
+	/* number of causes */
+	_bufferWriter->writeLEB128(count);
+
+	for (U_32 i = 0; i < count; i++) {
+		/* constant index */
+		_bufferWriter->writeLEB128(i);
+
+		/* cause */
+		writeStringLiteral(_constantPoolTypes.getGCCause(i));
+	}
+
+	/* write size */
+	_bufferWriter->writeLEB128PaddedU32(dataStart, _bufferWriter->getCursor() - dataStart);
+
+	return dataStart;
+}
 #endif /* defined(J9VM_OPT_JFR) */
@@ -52,6 +52,11 @@ static constexpr const char * const threadStateNames[] = {
 	"STATE_BLOCKED_ON_MONITOR_ENTER"
 };
 
+static constexpr const char * const gcNames[] = {
+	"Global",
+	"Local"
+};
+
 enum StringEnconding {
 	NullString = 0,
 	EmptyString,
@@ -65,7 +70,10 @@ enum MetadataTypeID {
 	ThreadStartID = 2,
 	ThreadEndID = 3,
 	ThreadSleepID = 4,
+	MonitorEnterID = 6,
 	MonitorWaitID = 7,
+	GarbageCollectionID = 35,
+	ObjectAllocationSampleID = 83,
 	JVMInformationID = 87,
 	OSInformationID = 88,
 	VirtualizationInformationID = 89,
@@ -84,6 +92,8 @@ enum MetadataTypeID {
 	MethodID = 168,
 	SymbolID = 169,
 	ThreadStateID = 170,
+	GCNameID = 171,
+	GCCauseID = 172,
 	ModuleID = 186,
 	PackageID = 187,
 	StackTraceID = 188,
@@ -166,6 +176,10 @@ private:
 	static constexpr int THREAD_CPU_LOAD_EVENT_SIZE = (2 * sizeof(float)) + (4 * sizeof(I_64));
 	static constexpr int INITIAL_ENVIRONMENT_VARIABLE_EVENT_SIZE = 6000;
 	static constexpr int CLASS_LOADING_STATISTICS_EVENT_SIZE = 5 * sizeof(I_64);
+	static constexpr int OBJECT_ALLOCATION_SAMPLE_EVENT_SIZE = (6 * sizeof(U_64)) + sizeof(U_32);
+	static constexpr int MONITOR_ENTER_EVENT_SIZE = (8 * sizeof(U_64)) + sizeof(U_32);
+	static constexpr int GARBAGE_COLLECTION_EVENT_SIZE = (7 * sizeof(U_64)) + sizeof(U_32);
+	static constexpr int GCNAME_ENTRY_LENGTH = CHECKPOINT_EVENT_HEADER_AND_FOOTER + sizeof(gcNames) + (GCNAME_COUNT * STRING_HEADER_LENGTH);
 
 	static constexpr int METADATA_ID = 1;
 
@@ -343,6 +357,18 @@ done:
 
 			pool_do(_constantPoolTypes.getClassLoadingStatisticsTable(), &writeClassLoadingStatisticsEvent, _bufferWriter);
 
+			pool_do(_constantPoolTypes.getObjectAllocationSampleTable(), &writeObjectAllocationSampleEvent, _bufferWriter);
+
+			pool_do(_constantPoolTypes.getMonitorEnterTable(), &writeMonitorEnterEvent, _bufferWriter);
+
+			if (_constantPoolTypes.getGarbageCollectionCount() > 0) {
+				writeGCNameCheckpointEvent();
+
+				writeGCCauseCheckpointEvent();
+
+				pool_do(_constantPoolTypes.getGarbageCollectionTable(), &writeGarbageCollectionEvent, _bufferWriter);
+			}
+
 			/* Only write constant events in first chunk */
 			if (0 == _vm->jfrState.jfrChunkCount) {
 				writeJVMInformationEvent();
@@ -674,6 +700,16 @@ done:
 
 	static void writeClassLoadingStatisticsEvent(void *anElement, void *userData);
 
+	static void writeObjectAllocationSampleEvent(void *anElement, void *userData);
+
+	static void writeMonitorEnterEvent(void *anElement, void *userData);
+
+	static void writeGarbageCollectionEvent(void *anElement, void *userData);
+
+	U_8 *writeGCNameCheckpointEvent();
+
+	U_8 *writeGCCauseCheckpointEvent();
+
 	UDATA
 	calculateRequiredBufferSize()
 	{
@@ -736,6 +772,16 @@ done:
 
 		requiredBufferSize += _constantPoolTypes.getClassLoadingStatisticsCount() * CLASS_LOADING_STATISTICS_EVENT_SIZE;
 
+		requiredBufferSize += _constantPoolTypes.getObjectAllocationSampleCount() * OBJECT_ALLOCATION_SAMPLE_EVENT_SIZE;
+
+		requiredBufferSize += _constantPoolTypes.getMonitorEnterCount() * MONITOR_ENTER_EVENT_SIZE;
+
+		requiredBufferSize += GCNAME_ENTRY_LENGTH;
+
+		requiredBufferSize += CHECKPOINT_EVENT_HEADER_AND_FOOTER + (_constantPoolTypes.getGCCauseCount() * STRING_CONSTANT_SIZE);
+
+		requiredBufferSize += _constantPoolTypes.getGarbageCollectionCount() * GARBAGE_COLLECTION_EVENT_SIZE;
+
 		return requiredBufferSize;
 	}
 
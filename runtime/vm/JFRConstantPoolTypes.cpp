@@ -1167,6 +1167,121 @@ done:
 	return index;
 }
 
+U_32
+VM_JFRConstantPoolTypes::addObjectAllocationSampleEntry(J9JFRObjectAllocationSample *objectAllocationSampleData)
+{
+	ObjectAllocationSampleEntry *entry = (ObjectAllocationSampleEntry *)pool_newElement(_objectAllocationSampleTable);
+	U_32 index = U_32_MAX;
+
+	if (NULL == entry) {
+		_buildResult = OutOfMemory;
+		goto done;
+	}
+
+	entry->ticks = objectAllocationSampleData->startTicks;
+	entry->weight = (I_64)objectAllocationSampleData->weight;
+
+	entry->eventThreadIndex = addThreadEntry(objectAllocationSampleData->vmThread);
+	if (isResultNotOKay()) goto done;
+
+	entry->stackTraceIndex = consumeStackTrace(objectAllocationSampleData->vmThread, J9JFROBJECTALLOCATIONSAMPLE_STACKTRACE(objectAllocationSampleData), objectAllocationSampleData->stackTraceSize);
+	if (isResultNotOKay()) goto done;
+
+	entry->objectClass = getClassEntry(objectAllocationSampleData->objectClass);
+	if (isResultNotOKay()) goto done;
+
+	index = _objectAllocationSampleCount;
+	_objectAllocationSampleCount += 1;
+
+done:
+	return index;
+}
+
+U_32
+VM_JFRConstantPoolTypes::addMonitorEnterEntry(J9JFRMonitorEntered *monitorEnterData)
+{
+	MonitorEnterEntry *entry = (MonitorEnterEntry *)pool_newElement(_monitorEnterTable);
+	U_32 index = U_32_MAX;
+
+	if (NULL == entry) {
+		_buildResult = OutOfMemory;
+		goto done;
+	}
+
+	entry->ticks = monitorEnterData->startTicks;
+	entry->duration = monitorEnterData->duration;
+	entry->monitorAddress = (I_64)(U_64)monitorEnterData->monitorAddress;
+
+	entry->eventThreadIndex = addThreadEntry(monitorEnterData->vmThread);
+	if (isResultNotOKay()) goto done;
+
+	entry->stackTraceIndex = consumeStackTrace(monitorEnterData->vmThread, J9JFRMONITORENTERED_STACKTRACE(monitorEnterData), monitorEnterData->stackTraceSize);
+	if (isResultNotOKay()) goto done;
+
+	if (NULL == monitorEnterData->monitorClass) {
+		entry->monitorClass = 0;
+	} else {
+		entry->monitorClass = getClassEntry(monitorEnterData->monitorClass);
+		if (isResultNotOKay()) goto done;
+	}
+
+	entry->previousOwner = 0; //The owner may have exited by the time the event is reported
+
+	index = _monitorEnterCount;
+	_monitorEnterCount += 1;
+
+done:
+	return index;
+}
+
+U_32
+VM_JFRConstantPoolTypes::addGarbageCollectionEntry(J9JFRGarbageCollection *garbageCollectionData)
+{
+	GarbageCollectionEntry *entry = (GarbageCollectionEntry *)pool_newElement(_garbageCollectionTable);
+	U_32 index = U_32_MAX;
+
+	if (NULL == entry) {
+		_buildResult = OutOfMemory;
+		goto done;
+	}
+
+	entry->ticks = garbageCollectionData->startTicks;
+	entry->duration = garbageCollectionData->duration;
+	entry->gcID = (U_32)garbageCollectionData->gcID;
+	entry->gcName = garbageCollectionData->isLocal ? LOCAL_GC : GLOBAL_GC;
+	entry->gcCause = getGCCauseIndex(garbageCollectionData->gcCause);
+
+	index = _garbageCollectionCount;
+	_garbageCollectionCount += 1;
+
+done:
+	return index;
+}
+
+U_32
+VM_JFRConstantPoolTypes::getGCCauseIndex(const char *gcCause)
+{
+	U_32 index = 0;
+
+	if (NULL != gcCause) {
+		/* The GC reports a handful of static strings so a linear search is enough */
+		for (U_32 i = 1; i < _gcCauseCount; i++) {
+			if ((_gcCauses[i] == gcCause) || (0 == strcmp(_gcCauses[i], gcCause))) {
+				index = i;
+				goto done;
+			}
+		}
+		if (_gcCauseCount < JFR_MAX_GC_CAUSES) {
+			index = _gcCauseCount;
+			_gcCauses[index] = gcCause;
+			_gcCauseCount += 1;
+		}
+	}
+
+done:
+	return index;
+}
+
 void
 VM_JFRConstantPoolTypes::printTables()
 {
@@ -75,6 +75,15 @@ enum ThreadState {
 	THREADSTATE_COUNT,
 };
 
+enum GCName {
+	GLOBAL_GC = 0,
+	LOCAL_GC,
+	GCNAME_COUNT,
+};
+
+/* GC cause zero is reserved for causes that are unknown or don't fit in the table */
+#define JFR_MAX_GC_CAUSES 32
+
 struct ClassEntry {
 	J9Class *clazz;
 	U_32 classLoaderIndex;
@@ -234,6 +243,32 @@ struct ClassLoadingStatisticsEntry {
 	I_64 unloadedClassCount;
 };
 
+struct ObjectAllocationSampleEntry {
+	I_64 ticks;
+	I_64 weight;
+	U_32 objectClass;
+	U_32 eventThreadIndex;
+	U_32 stackTraceIndex;
+};
+
+struct MonitorEnterEntry {
+	I_64 ticks;
+	I_64 duration;
+	I_64 monitorAddress;
+	U_32 monitorClass;
+	U_32 previousOwner;
+	U_32 eventThreadIndex;
+	U_32 stackTraceIndex;
+};
+
+struct GarbageCollectionEntry {
+	I_64 ticks;
+	I_64 duration;
+	U_32 gcID;
+	U_32 gcName;
+	U_32 gcCause;
+};
+
 struct JVMInformationEntry {
 	const char *jvmName;
 	const char *jvmVersion;
@@ -317,6 +352,14 @@ private:
 	UDATA _threadCPULoadCount;
 	J9Pool *_classLoadingStatisticsTable;
 	UDATA _classLoadingStatisticsCount;
+	J9Pool *_objectAllocationSampleTable;
+	UDATA _objectAllocationSampleCount;
+	J9Pool *_monitorEnterTable;
+	UDATA _monitorEnterCount;
+	J9Pool *_garbageCollectionTable;
+	UDATA _garbageCollectionCount;
+	const char *_gcCauses[JFR_MAX_GC_CAUSES];
+	U_32 _gcCauseCount;
 
 	/* Processing buffers */
 	StackFrame *_currentStackFrameBuffer;
@@ -586,6 +629,14 @@ public:
 
 	U_32 addClassLoadingStatisticsEntry(J9JFRClassLoadingStatistics *classLoadingStatisticsData);
 
+	U_32 addObjectAllocationSampleEntry(J9JFRObjectAllocationSample *objectAllocationSampleData);
+
+	U_32 addMonitorEnterEntry(J9JFRMonitorEntered *monitorEnterData);
+
+	U_32 addGarbageCollectionEntry(J9JFRGarbageCollection *garbageCollectionData);
+
+	U_32 getGCCauseIndex(const char *gcCause);
+
 	J9Pool *getExecutionSampleTable()
 	{
 		return _executionSampleTable;
@@ -626,6 +677,21 @@ public:
 		return _classLoadingStatisticsTable;
 	}
 
+	J9Pool *getObjectAllocationSampleTable()
+	{
+		return _objectAllocationSampleTable;
+	}
+
+	J9Pool *getMonitorEnterTable()
+	{
+		return _monitorEnterTable;
+	}
+
+	J9Pool *getGarbageCollectionTable()
+	{
+		return _garbageCollectionTable;
+	}
+
 	UDATA getExecutionSampleCount()
 	{
 		return _executionSampleCount;
@@ -666,6 +732,31 @@ public:
 		return _classLoadingStatisticsCount;
 	}
 
+	UDATA getObjectAllocationSampleCount()
+	{
+		return _objectAllocationSampleCount;
+	}
+
+	UDATA getMonitorEnterCount()
+	{
+		return _monitorEnterCount;
+	}
+
+	UDATA getGarbageCollectionCount()
+	{
+		return _garbageCollectionCount;
+	}
+
+	U_32 getGCCauseCount()
+	{
+		return _gcCauseCount;
+	}
+
+	const char *getGCCause(U_32 index)
+	{
+		return _gcCauses[index];
+	}
+
 	ClassloaderEntry *getClassloaderEntry()
 	{
 		return _firstClassloaderEntry;
@@ -818,6 +909,15 @@ public:
 			case J9JFR_EVENT_TYPE_CLASS_LOADING_STATISTICS:
 				addClassLoadingStatisticsEntry((J9JFRClassLoadingStatistics *)event);
 				break;
+			case J9JFR_EVENT_TYPE_OBJECT_ALLOCATION_SAMPLE:
+				addObjectAllocationSampleEntry((J9JFRObjectAllocationSample *)event);
+				break;
+			case J9JFR_EVENT_TYPE_MONITOR_ENTER:
+				addMonitorEnterEntry((J9JFRMonitorEntered *)event);
+				break;
+			case J9JFR_EVENT_TYPE_GARBAGE_COLLECTION:
+				addGarbageCollectionEntry((J9JFRGarbageCollection *)event);
+				break;
 			default:
 				Assert_VM_unreachable();
 				break;
@@ -1143,6 +1243,13 @@ done:
 		, _threadCPULoadCount(0)
 		, _classLoadingStatisticsTable(NULL)
 		, _classLoadingStatisticsCount(0)
+		, _objectAllocationSampleTable(NULL)
+		, _objectAllocationSampleCount(0)
+		, _monitorEnterTable(NULL)
+		, _monitorEnterCount(0)
+		, _garbageCollectionTable(NULL)
+		, _garbageCollectionCount(0)
+		, _gcCauseCount(0)
 		, _previousStackTraceEntry(NULL)
 		, _firstStackTraceEntry(NULL)
 		, _previousThreadEntry(NULL)
@@ -1263,6 +1370,28 @@ done:
 			goto done;
 		}
 
+		_objectAllocationSampleTable = pool_new(sizeof(ObjectAllocationSampleEntry), 0, sizeof(U_64), 0, J9_GET_CALLSITE(), OMRMEM_CATEGORY_VM, POOL_FOR_PORT(privatePortLibrary));
+		if (NULL == _objectAllocationSampleTable) {
+			_buildResult = OutOfMemory;
+			goto done;
+		}
+
+		_monitorEnterTable = pool_new(sizeof(MonitorEnterEntry), 0, sizeof(U_64), 0, J9_GET_CALLSITE(), OMRMEM_CATEGORY_VM, POOL_FOR_PORT(privatePortLibrary));
+		if (NULL == _monitorEnterTable) {
+			_buildResult = OutOfMemory;
+			goto done;
+		}
+
+		_garbageCollectionTable = pool_new(sizeof(GarbageCollectionEntry), 0, sizeof(U_64), 0, J9_GET_CALLSITE(), OMRMEM_CATEGORY_VM, POOL_FOR_PORT(privatePortLibrary));
+		if (NULL == _garbageCollectionTable) {
+			_buildResult = OutOfMemory;
+			goto done;
+		}
+
+		/* Reserve GC cause zero for unknown causes */
+		_gcCauses[0] = "unknown";
+		_gcCauseCount = 1;
+
 		/* Add reserved index for default entries. For strings zero is the empty or NUll string.
 		 * For package zero is the deafult package, for Module zero is the unnamed module. ThreadGroup
 		 * zero is NULL threadGroup.
@@ -1352,6 +1481,9 @@ done:
 		pool_kill(_cpuLoadTable);
 		pool_kill(_threadCPULoadTable);
 		pool_kill(_classLoadingStatisticsTable);
+		pool_kill(_objectAllocationSampleTable);
+		pool_kill(_monitorEnterTable);
+		pool_kill(_garbageCollectionTable);
 		j9mem_free_memory(_globalStringTable);
 	}
 
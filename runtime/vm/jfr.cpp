@@ -21,6 +21,8 @@
  *******************************************************************************/
 #include "JFRConstantPoolTypes.hpp"
 #include "j9protos.h"
+#include "mmhook.h"
+#include "mmomrhook.h"
 #include "omrlinkedlist.h"
 #include "pool_api.h"
 #include "thread_api.h"
@@ -40,6 +42,12 @@ extern "C" {
 #define J9JFR_THREAD_BUFFER_SIZE (1024*1024)
 #define J9JFR_GLOBAL_BUFFER_SIZE (10 * J9JFR_THREAD_BUFFER_SIZE)
 #define J9JFR_SAMPLING_RATE 10
+/* Contended monitor enters shorter than this are not recorded */
+#define J9JFR_MONITOR_ENTER_THRESHOLD_NANOS (20 * 1000000)
+/* Allocation sampling interval in bytes used when nothing else has configured allocation sampling */
+#define J9JFR_ALLOCATION_SAMPLING_INTERVAL (512 * 1024)
+/* Maximum number of allocation samples recorded per second across all threads */
+#define J9JFR_ALLOCATION_SAMPLES_PER_SECOND 150
 
 static UDATA jfrEventSize(J9JFREvent *jfrEvent);
 static bool flushBufferToGlobal(J9VMThread *currentThread, J9VMThread *flushThread);
@@ -53,6 +61,13 @@ static void jfrThreadStarting(J9HookInterface **hook, UDATA eventNum, void *even
 static void jfrThreadEnd(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
 static void jfrVMInitialized(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
 static void jfrVMMonitorWaited(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+static void jfrVMMonitorContendedEnter(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+static void jfrVMMonitorContendedEntered(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+static void jfrAboutToBootstrap(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+static void jfrObjectAllocationSample(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+static void jfrGCStart(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+static void jfrGCEnd(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+static void jfrRegisterGCHooks(J9JavaVM *vm);
 static void jfrStartSamplingThread(J9JavaVM *vm);
 static void initializeEventFields(J9VMThread *currentThread, J9JFREvent *jfrEvent, UDATA eventType);
 static int J9THREAD_PROC jfrSamplingThreadProc(void *entryArg);
@@ -96,6 +111,15 @@ jfrEventSize(J9JFREvent *jfrEvent)
 	case J9JFR_EVENT_TYPE_CLASS_LOADING_STATISTICS:
 		size = sizeof(J9JFRClassLoadingStatistics);
 		break;
+	case J9JFR_EVENT_TYPE_OBJECT_ALLOCATION_SAMPLE:
+		size = sizeof(J9JFRObjectAllocationSample) + (((J9JFRObjectAllocationSample*)jfrEvent)->stackTraceSize * sizeof(UDATA));
+		break;
+	case J9JFR_EVENT_TYPE_MONITOR_ENTER:
+		size = sizeof(J9JFRMonitorEntered) + (((J9JFRMonitorEntered*)jfrEvent)->stackTraceSize * sizeof(UDATA));
+		break;
+	case J9JFR_EVENT_TYPE_GARBAGE_COLLECTION:
+		size = sizeof(J9JFRGarbageCollection);
+		break;
 	default:
 		Assert_VM_unreachable();
 		break;
@@ -635,6 +659,199 @@ jfrVMMonitorWaited(J9HookInterface **hook, UDATA eventNum, void *eventData, void
 	}
 }
 
+/**
+ * Hook for VM monitor contended enter, the current thread is about to block.
+ *
+ * @param hook[in] the VM hook interface
+ * @param eventNum[in] the event number
+ * @param eventData[in] the event data
+ * @param userData[in] the registered user data
+ */
+static void
+jfrVMMonitorContendedEnter(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	J9VMMonitorContendedEnterEvent *event = (J9VMMonitorContendedEnterEvent *)eventData;
+	J9VMThread *currentThread = event->currentThread;
+	PORT_ACCESS_FROM_VMC(currentThread);
+
+	currentThread->threadJfrState.monitorEnterStartTicks = j9time_nano_time();
+}
+
+/**
+ * Hook for VM monitor contended entered. Only blocks which lasted at least
+ * J9JFR_MONITOR_ENTER_THRESHOLD_NANOS are recorded so that the stack walk is
+ * not paid for every short contention.
+ *
+ * @param hook[in] the VM hook interface
+ * @param eventNum[in] the event number
+ * @param eventData[in] the event data
+ * @param userData[in] the registered user data
+ */
+static void
+jfrVMMonitorContendedEntered(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	J9VMMonitorContendedEnteredEvent *event = (J9VMMonitorContendedEnteredEvent *)eventData;
+	J9VMThread *currentThread = event->currentThread;
+	I_64 startTicks = currentThread->threadJfrState.monitorEnterStartTicks;
+	PORT_ACCESS_FROM_VMC(currentThread);
+
+#if defined(DEBUG)
+	j9tty_printf(PORTLIB, "\n!!! VM monitor contended entered %p\n", currentThread);
+#endif /* defined(DEBUG) */
+
+	currentThread->threadJfrState.monitorEnterStartTicks = 0;
+	if (0 != startTicks) {
+		I_64 duration = j9time_nano_time() - startTicks;
+		if (duration >= J9JFR_MONITOR_ENTER_THRESHOLD_NANOS) {
+			/* The blocking object remains set until the entered event has been reported */
+			j9object_t object = J9VMTHREAD_BLOCKINGENTEROBJECT(currentThread, currentThread);
+			J9JFRMonitorEntered *jfrEvent = (J9JFRMonitorEntered*)reserveBufferWithStackTrace(currentThread, currentThread, J9JFR_EVENT_TYPE_MONITOR_ENTER, sizeof(*jfrEvent));
+			if (NULL != jfrEvent) {
+				jfrEvent->duration = duration;
+				jfrEvent->monitorClass = (NULL == object) ? NULL : J9OBJECT_CLAZZ(currentThread, object);
+				jfrEvent->monitorAddress = (UDATA)event->monitor;
+			}
+		}
+	}
+}
+
+/**
+ * Hook for object allocation samples, triggered by the GC on TLH refresh once
+ * the allocation sampling interval has been allocated. The weight of a sample is
+ * the interval in effect. Samples are throttled to J9JFR_ALLOCATION_SAMPLES_PER_SECOND;
+ * the weight of dropped samples is carried over to the next recorded sample on the
+ * same thread.
+ *
+ * @param hook[in] the GC hook interface
+ * @param eventNum[in] the event number
+ * @param eventData[in] the event data
+ * @param userData[in] the registered user data
+ */
+static void
+jfrObjectAllocationSample(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	MM_ObjectAllocationSamplingEvent *event = (MM_ObjectAllocationSamplingEvent *)eventData;
+	J9VMThread *currentThread = event->currentThread;
+	J9JavaVM *vm = currentThread->javaVM;
+	JFRState *jfrState = &vm->jfrState;
+	PORT_ACCESS_FROM_VMC(currentThread);
+
+	/* the interval may have been set by JVMTI SetHeapSamplingInterval */
+	currentThread->threadJfrState.allocationSampleWeight += vm->memoryManagerFunctions->j9gc_get_allocation_sampling_interval(vm);
+
+	/* Races between threads resetting the window only let a few extra samples through */
+	I_64 now = j9time_nano_time();
+	if ((now - jfrState->allocationSampleWindowStart) >= 1000000000) {
+		jfrState->allocationSampleWindowStart = now;
+		jfrState->allocationSampleWindowCount = 0;
+	}
+	if (VM_AtomicSupport::add(&jfrState->allocationSampleWindowCount, 1) <= J9JFR_ALLOCATION_SAMPLES_PER_SECOND) {
+		J9JFRObjectAllocationSample *jfrEvent = (J9JFRObjectAllocationSample*)reserveBufferWithStackTrace(currentThread, currentThread, J9JFR_EVENT_TYPE_OBJECT_ALLOCATION_SAMPLE, sizeof(*jfrEvent));
+		if (NULL != jfrEvent) {
+			jfrEvent->objectClass = event->clazz;
+			jfrEvent->weight = currentThread->threadJfrState.allocationSampleWeight;
+			currentThread->threadJfrState.allocationSampleWeight = 0;
+		}
+	}
+}
+
+/**
+ * Hook for global and local GC start. Called with exclusive VM access.
+ *
+ * @param hook[in] the OMR GC hook interface
+ * @param eventNum[in] the event number
+ * @param eventData[in] the event data
+ * @param userData[in] the registered user data
+ */
+static void
+jfrGCStart(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	J9JavaVM *vm = (J9JavaVM*)userData;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	vm->jfrState.gcStartTicks = j9time_nano_time();
+}
+
+/**
+ * Hook for global and local GC end. Called with exclusive VM access, the event is
+ * recorded in the buffer of the thread that performed the collection.
+ *
+ * @param hook[in] the OMR GC hook interface
+ * @param eventNum[in] the event number
+ * @param eventData[in] the event data
+ * @param userData[in] the registered user data
+ */
+static void
+jfrGCEnd(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	J9JavaVM *vm = (J9JavaVM*)userData;
+	/* Global and local GC end events have currentThread in the same position */
+	OMR_VMThread *omrVMThread = ((MM_GlobalGCEndEvent *)eventData)->currentThread;
+	J9VMThread *currentThread = (J9VMThread*)omrVMThread->_language_vmthread;
+
+#if defined(DEBUG)
+	PORT_ACCESS_FROM_JAVAVM(vm);
+	j9tty_printf(PORTLIB, "\n!!! GC end %p\n", currentThread);
+#endif /* defined(DEBUG) */
+
+	if ((NULL != currentThread) && (0 != vm->jfrState.gcStartTicks)) {
+		J9JFRGarbageCollection *jfrEvent = (J9JFRGarbageCollection*)reserveBuffer(currentThread, sizeof(J9JFRGarbageCollection));
+		if (NULL != jfrEvent) {
+			initializeEventFields(currentThread, (J9JFREvent*)jfrEvent, J9JFR_EVENT_TYPE_GARBAGE_COLLECTION);
+			jfrEvent->duration = jfrEvent->startTicks - vm->jfrState.gcStartTicks;
+			jfrEvent->gcID = vm->jfrState.gcCount;
+			jfrEvent->isLocal = (J9HOOK_MM_OMR_LOCAL_GC_END == eventNum);
+			jfrEvent->gcCause = vm->memoryManagerFunctions->j9gc_get_gc_cause(omrVMThread);
+		}
+	}
+	vm->jfrState.gcCount += 1;
+	vm->jfrState.gcStartTicks = 0;
+}
+
+/**
+ * Register the GC hooks. The allocation sampling hook is disabled once the VM is about
+ * to bootstrap, so it is only available to recordings started on the command line.
+ * The allocation sampling interval is only set if nothing else, such as a JVMTI agent,
+ * has enabled allocation sampling, and is reset by tearDownJFR.
+ *
+ * @param vm[in] pointer to the J9JavaVM
+ */
+static void
+jfrRegisterGCHooks(J9JavaVM *vm)
+{
+	J9MemoryManagerFunctions const * const mmFuncs = vm->memoryManagerFunctions;
+	J9HookInterface **gcHooks = mmFuncs->j9gc_get_hook_interface(vm);
+	J9HookInterface **gcOmrHooks = mmFuncs->j9gc_get_omr_hook_interface(vm->omrVM);
+
+	if (0 == (*gcHooks)->J9HookRegisterWithCallSite(gcHooks, J9HOOK_MM_OBJECT_ALLOCATION_SAMPLING, jfrObjectAllocationSample, OMR_GET_CALLSITE(), NULL)) {
+		if (UDATA_MAX == mmFuncs->j9gc_get_allocation_sampling_interval(vm)) {
+			mmFuncs->j9gc_set_allocation_sampling_interval(vm, J9JFR_ALLOCATION_SAMPLING_INTERVAL);
+			vm->jfrState.allocationSamplingInterval = J9JFR_ALLOCATION_SAMPLING_INTERVAL;
+		}
+	}
+	(*gcOmrHooks)->J9HookRegisterWithCallSite(gcOmrHooks, J9HOOK_MM_OMR_GLOBAL_GC_START, jfrGCStart, OMR_GET_CALLSITE(), vm);
+	(*gcOmrHooks)->J9HookRegisterWithCallSite(gcOmrHooks, J9HOOK_MM_OMR_LOCAL_GC_START, jfrGCStart, OMR_GET_CALLSITE(), vm);
+	(*gcOmrHooks)->J9HookRegisterWithCallSite(gcOmrHooks, J9HOOK_MM_OMR_GLOBAL_GC_END, jfrGCEnd, OMR_GET_CALLSITE(), vm);
+	(*gcOmrHooks)->J9HookRegisterWithCallSite(gcOmrHooks, J9HOOK_MM_OMR_LOCAL_GC_END, jfrGCEnd, OMR_GET_CALLSITE(), vm);
+}
+
+/**
+ * Hook for VM about to bootstrap. The GC is initialized by now, and this runs before
+ * the hooks which must be reserved by now are disabled.
+ *
+ * @param hook[in] the VM hook interface
+ * @param eventNum[in] the event number
+ * @param eventData[in] the event data
+ * @param userData[in] the registered user data
+ */
+static void
+jfrAboutToBootstrap(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	J9VMThread *currentThread = ((J9VMAboutToBootstrapEvent *)eventData)->currentThread;
+
+	jfrRegisterGCHooks(currentThread->javaVM);
+}
+
 jint
 initializeJFR(J9JavaVM *vm, BOOLEAN lateInit)
 {
@@ -686,6 +903,19 @@ initializeJFR(J9JavaVM *vm, BOOLEAN lateInit)
 	if ((*vmHooks)->J9HookRegisterWithCallSite(vmHooks, J9HOOK_VM_MONITOR_WAITED, jfrVMMonitorWaited, OMR_GET_CALLSITE(), NULL)) {
 		goto fail;
 	}
+	if ((*vmHooks)->J9HookRegisterWithCallSite(vmHooks, J9HOOK_VM_MONITOR_CONTENDED_ENTER, jfrVMMonitorContendedEnter, OMR_GET_CALLSITE(), NULL)) {
+		goto fail;
+	}
+	if ((*vmHooks)->J9HookRegisterWithCallSite(vmHooks, J9HOOK_VM_MONITOR_CONTENDED_ENTERED, jfrVMMonitorContendedEntered, OMR_GET_CALLSITE(), NULL)) {
+		goto fail;
+	}
+	if (lateInit) {
+		jfrRegisterGCHooks(vm);
+	} else {
+		if ((*vmHooks)->J9HookRegisterWithCallSite(vmHooks, J9HOOK_VM_ABOUT_TO_BOOTSTRAP, jfrAboutToBootstrap, OMR_GET_CALLSITE(), NULL)) {
+			goto fail;
+		}
+	}
 
 	/* Allocate constantEvents. */
 	vm->jfrState.constantEvents = j9mem_allocate_memory(sizeof(JFRConstantEvents), J9MEM_CATEGORY_VM);
@@ -808,6 +1038,25 @@ tearDownJFR(J9JavaVM *vm)
 	/* Unregister it anyway even it wasn't registered for initializeJFR(vm, TRUE). */
 	(*vmHooks)->J9HookUnregister(vmHooks, J9HOOK_VM_INITIALIZED, jfrVMInitialized, NULL);
 	(*vmHooks)->J9HookUnregister(vmHooks, J9HOOK_VM_MONITOR_WAITED, jfrVMMonitorWaited, NULL);
+	(*vmHooks)->J9HookUnregister(vmHooks, J9HOOK_VM_MONITOR_CONTENDED_ENTER, jfrVMMonitorContendedEnter, NULL);
+	(*vmHooks)->J9HookUnregister(vmHooks, J9HOOK_VM_MONITOR_CONTENDED_ENTERED, jfrVMMonitorContendedEntered, NULL);
+	(*vmHooks)->J9HookUnregister(vmHooks, J9HOOK_VM_ABOUT_TO_BOOTSTRAP, jfrAboutToBootstrap, NULL);
+	if (NULL != vm->memoryManagerFunctions) {
+		J9HookInterface **gcHooks = vm->memoryManagerFunctions->j9gc_get_hook_interface(vm);
+		J9HookInterface **gcOmrHooks = vm->memoryManagerFunctions->j9gc_get_omr_hook_interface(vm->omrVM);
+		(*gcHooks)->J9HookUnregister(gcHooks, J9HOOK_MM_OBJECT_ALLOCATION_SAMPLING, jfrObjectAllocationSample, NULL);
+		/* disable sampling again unless the interval has since been changed by someone else */
+		if ((0 != vm->jfrState.allocationSamplingInterval)
+			&& (vm->jfrState.allocationSamplingInterval == vm->memoryManagerFunctions->j9gc_get_allocation_sampling_interval(vm))
+		) {
+			vm->memoryManagerFunctions->j9gc_set_allocation_sampling_interval(vm, UDATA_MAX);
+		}
+		vm->jfrState.allocationSamplingInterval = 0;
+		(*gcOmrHooks)->J9HookUnregister(gcOmrHooks, J9HOOK_MM_OMR_GLOBAL_GC_START, jfrGCStart, vm);
+		(*gcOmrHooks)->J9HookUnregister(gcOmrHooks, J9HOOK_MM_OMR_LOCAL_GC_START, jfrGCStart, vm);
+		(*gcOmrHooks)->J9HookUnregister(gcOmrHooks, J9HOOK_MM_OMR_GLOBAL_GC_END, jfrGCEnd, vm);
+		(*gcOmrHooks)->J9HookUnregister(gcOmrHooks, J9HOOK_MM_OMR_LOCAL_GC_END, jfrGCEnd, vm);
+	}
 
 	/* Free global data */
 	VM_JFRConstantPoolTypes::freeJFRConstantEvents(vm);
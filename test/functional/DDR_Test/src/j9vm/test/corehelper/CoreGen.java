@@ -38,6 +38,7 @@ public class CoreGen {
 		tjet.configureJittedHelperThread();
 
 		st.configureObj();
+		st.configureDuplicateStrings();
 		st.configureValidJavaThreads();
 
 		tjet.endJittedHelperThread();
@@ -53,4 +53,29 @@ package j9vm.test.corehelper;
  	public void configureObj() {
 		Object obj = "test";
 	}
+
+	/* Strings with known duplicates for !duplicatestrings, kept reachable until the dump is taken */
+	static String[] duplicateStrings;
+
+	/**
+	 * Keeps 10 copies of one value and 20 copies of another value of the same length,
+	 * each copy with its own value array.
+	 */
+	public void configureDuplicateStrings() {
+		duplicateStrings = new String[10 + 20];
+		copyString("DDRTestDuplicateString", 'A', 0, 10);
+		copyString("DDRTestDuplicateString", 'B', 10, 20);
+
+		/* collect the Strings used to build the copies so only the copies are found */
+		System.gc();
+	}
+
+	/* the value is built at run time so that no literal with the same content adds another String to the heap */
+	private static void copyString(String prefix, char suffix, int start, int count) {
+		char[] chars = new StringBuilder(prefix).append(suffix).toString().toCharArray();
+
+		for (int i = start; i < start + count; i++) {
+			duplicateStrings[i] = new String(chars);
+		}
+	}
 }
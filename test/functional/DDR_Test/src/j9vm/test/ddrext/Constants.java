@@ -623,6 +623,14 @@ public class Constants {
 	public static final String NATIVEMEMINFO_SUCCESS_KEYS = "JRE:,VM:,Classes:,Memory Manager,Java Heap:,Other:,Threads:,Java Stack:, bytes, allocations";
 	public static final String NATIVEMEMINFO_FAILURE_KEYS = "Problem running command";
 
+	/* Constants related to !duplicatestrings, matching the Strings kept by SimpleThread.configureDuplicateStrings() */
+	public static final String DUPLICATESTRINGS_CMD = "duplicatestrings";
+	public static final String DUPLICATESTRINGS_VALUE_A = "DDRTestDuplicateStringA";
+	public static final String DUPLICATESTRINGS_VALUE_B = "DDRTestDuplicateStringB";
+	public static final int DUPLICATESTRINGS_COUNT_A = 10;
+	public static final int DUPLICATESTRINGS_COUNT_B = 20;
+	public static final String DUPLICATESTRINGS_FAILURE_KEYS = "Problem running command";
+
 	public static final String MONITORS_CMD = "monitors";
 
 	public static final String TENANTREGIONS_CMD = "tenantregions";
@@ -35,6 +35,8 @@ import j9vm.test.ddrext.util.parser.MethodForNameOutputParser;
 import j9vm.test.ddrext.util.parser.ParserUtil;
 
 import java.math.BigInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.testng.log4testng.Logger;
 
@@ -596,4 +598,57 @@ public class TestDDRExtensionGeneral extends DDRExtTesterBase {
 			assertTrue(validate(versionInfoOutput, Constants.COREINFO_VERSION_IBM_SUCCESS_KEYS, Constants.COREINFO_VERSION_FAILURE_KEYS));
 		}
 	}
+
+	/**
+	 * This junit method tests the !duplicatestrings DDR extension functionality against
+	 * the Strings with known duplicates kept by the core generator
+	 */
+	public void testDuplicateStrings()
+	{
+		String output = exec(Constants.DUPLICATESTRINGS_CMD, new String[] { "-limit", "0" });
+		if (null == output) {
+			fail("\"!duplicatestrings\" output is null");
+		}
+		assertTrue(validate(output, "Duplicate strings,Strings scanned = ,Duplicated values = ",
+				Constants.DUPLICATESTRINGS_FAILURE_KEYS, false));
+
+		long wastedA = checkDuplicateString(output, Constants.DUPLICATESTRINGS_VALUE_A, Constants.DUPLICATESTRINGS_COUNT_A);
+		long wastedB = checkDuplicateString(output, Constants.DUPLICATESTRINGS_VALUE_B, Constants.DUPLICATESTRINGS_COUNT_B);
+
+		/* the values have the same length, so each copy wastes the same String and value array */
+		long copyA = wastedA / (Constants.DUPLICATESTRINGS_COUNT_A - 1);
+		long copyB = wastedB / (Constants.DUPLICATESTRINGS_COUNT_B - 1);
+		assertTrue("each copy should waste some bytes", copyA > 0);
+		assertEquals("bytes wasted by each copy", copyA, copyB);
+		assertEquals("bytes wasted by " + Constants.DUPLICATESTRINGS_VALUE_A, copyA * (Constants.DUPLICATESTRINGS_COUNT_A - 1), wastedA);
+		assertEquals("bytes wasted by " + Constants.DUPLICATESTRINGS_VALUE_B, copyB * (Constants.DUPLICATESTRINGS_COUNT_B - 1), wastedB);
+
+		Matcher summary = Pattern.compile("Duplicated values = (\\d+), held by (\\d+) strings, wasting (\\d+) bytes").matcher(output);
+		if (!summary.find()) {
+			fail("\"!duplicatestrings\" summary not found");
+		}
+		log.info("!duplicatestrings summary: " + summary.group());
+		assertTrue("duplicated values", Long.parseLong(summary.group(1)) >= 2);
+		assertTrue("strings holding duplicated values",
+				Long.parseLong(summary.group(2)) >= (Constants.DUPLICATESTRINGS_COUNT_A + Constants.DUPLICATESTRINGS_COUNT_B));
+		assertTrue("total wasted bytes", Long.parseLong(summary.group(3)) >= (wastedA + wastedB));
+	}
+
+	/*
+	 * Finds the !duplicatestrings row for a value, checks that every copy was found
+	 * with its own value array and returns the wasted bytes reported
+	 */
+	private long checkDuplicateString(String output, String value, int count)
+	{
+		Pattern row = Pattern.compile("^\\s*(\\d+)\\s+(\\d+)\\s+(\\d+)\\s+!j9object 0x[0-9a-fA-F]+\\s+<" + value + ">\\s*$",
+				Pattern.MULTILINE);
+		Matcher matcher = row.matcher(output);
+		if (!matcher.find()) {
+			fail("\"!duplicatestrings\" row not found for " + value);
+		}
+		log.info("!duplicatestrings row: " + matcher.group());
+		assertEquals("instances of " + value, count, Integer.parseInt(matcher.group(2)));
+		assertEquals("value arrays of " + value, count, Integer.parseInt(matcher.group(3)));
+		return Long.parseLong(matcher.group(1));
+	}
 }
@@ -0,0 +1,268 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package jit.test.tr.BigDecimal;
+
+import org.testng.annotations.Test;
+import org.testng.AssertJUnit;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+
+/**
+ * Checks BigDecimal arithmetic on values that fit the long lookaside representation
+ * against results computed independently with BigInteger. Run with
+ * -Dcom.ibm.jit.softwareDecimal64=true this covers the software decimal64 path
+ * of com.ibm.jit.BigDecimalExtension on hosts without DFP hardware.
+ */
+@Test(groups = { "level.sanity","component.jit" })
+public class BDSoftwareDecimal64Test {
+   private static final int ITERATIONS = 20000;
+   private static final RoundingMode[] MODES = {
+      RoundingMode.UP, RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR,
+      RoundingMode.HALF_UP, RoundingMode.HALF_DOWN, RoundingMode.HALF_EVEN
+   };
+
+   private static BigDecimal randomOperand(Random random) {
+      long unscaled;
+      switch (random.nextInt(4)) {
+      case 0:
+         unscaled = random.nextInt(1000) - 500;
+         break;
+      case 1:
+         unscaled = random.nextLong() % 10000000000000000L;
+         break;
+      case 2:
+         unscaled = random.nextLong() % 1000000000L;
+         break;
+      default:
+         unscaled = random.nextLong() >> random.nextInt(64);
+         break;
+      }
+      if (unscaled == 0) {
+         unscaled = 7;
+      }
+      return BigDecimal.valueOf(unscaled, random.nextInt(16) - 5);
+   }
+
+   private static MathContext randomContext(Random random) {
+      return new MathContext(1 + random.nextInt(18), MODES[random.nextInt(MODES.length)]);
+   }
+
+   /**
+    * Rounds unscaled * 10^-scale to the precision of the context using BigInteger arithmetic only.
+    */
+   private static BigDecimal round(BigInteger unscaled, int scale, MathContext mc) {
+      int digits = unscaled.signum() == 0 ? 1 : unscaled.abs().toString().length();
+      int drop = digits - mc.getPrecision();
+      if (mc.getPrecision() == 0 || drop <= 0) {
+         return new BigDecimal(unscaled, scale);
+      }
+      BigInteger divisor = BigInteger.TEN.pow(drop);
+      BigInteger[] qr = unscaled.divideAndRemainder(divisor);
+      BigInteger quotient = qr[0];
+      int sign = unscaled.signum();
+      int half = qr[1].abs().shiftLeft(1).compareTo(divisor);
+      boolean inexact = qr[1].signum() != 0;
+      boolean increment;
+      switch (mc.getRoundingMode()) {
+      case UP:
+         increment = inexact;
+         break;
+      case DOWN:
+         increment = false;
+         break;
+      case CEILING:
+         increment = inexact && sign > 0;
+         break;
+      case FLOOR:
+         increment = inexact && sign < 0;
+         break;
+      case HALF_UP:
+         increment = half >= 0;
+         break;
+      case HALF_DOWN:
+         increment = half > 0;
+         break;
+      case HALF_EVEN:
+         increment = half > 0 || (half == 0 && quotient.testBit(0));
+         break;
+      default:
+         if (inexact) {
+            throw new ArithmeticException("Rounding necessary");
+         }
+         increment = false;
+         break;
+      }
+      if (increment) {
+         quotient = quotient.add(BigInteger.valueOf(sign));
+         if (quotient.abs().toString().length() > mc.getPrecision()) {
+            /* carried into a new digit, e.g. 999 -> 1000 */
+            quotient = quotient.divide(BigInteger.TEN);
+            drop += 1;
+         }
+      }
+      return new BigDecimal(quotient, scale - drop);
+   }
+
+   private static BigInteger unscaledAtScale(BigDecimal value, int scale) {
+      return value.unscaledValue().multiply(BigInteger.TEN.pow(scale - value.scale()));
+   }
+
+   private static void assertSame(String message, BigDecimal expected, BigDecimal actual) {
+      AssertJUnit.assertEquals(message + " unscaled", expected.unscaledValue(), actual.unscaledValue());
+      AssertJUnit.assertEquals(message + " scale", expected.scale(), actual.scale());
+   }
+
+   @Test
+   public void testAddSubtract() {
+      Random random = new Random(1);
+      for (int i = 0; i < ITERATIONS; i++) {
+         BigDecimal a = randomOperand(random);
+         BigDecimal b = randomOperand(random);
+         MathContext mc = randomContext(random);
+         int scale = Math.max(a.scale(), b.scale());
+         BigInteger sum = unscaledAtScale(a, scale).add(unscaledAtScale(b, scale));
+         BigInteger difference = unscaledAtScale(a, scale).subtract(unscaledAtScale(b, scale));
+         String operands = a + ", " + b + ", " + mc;
+
+         assertSame("add " + operands, new BigDecimal(sum, scale), a.add(b));
+         assertSame("subtract " + operands, new BigDecimal(difference, scale), a.subtract(b));
+         assertSame("add mc " + operands, round(sum, scale, mc), a.add(b, mc));
+         assertSame("subtract mc " + operands, round(difference, scale, mc), a.subtract(b, mc));
+      }
+   }
+
+   @Test
+   public void testMultiply() {
+      Random random = new Random(2);
+      for (int i = 0; i < ITERATIONS; i++) {
+         BigDecimal a = randomOperand(random);
+         BigDecimal b = randomOperand(random);
+         MathContext mc = randomContext(random);
+         BigInteger product = a.unscaledValue().multiply(b.unscaledValue());
+         int scale = a.scale() + b.scale();
+         String operands = a + ", " + b + ", " + mc;
+
+         assertSame("multiply " + operands, new BigDecimal(product, scale), a.multiply(b));
+         assertSame("multiply mc " + operands, round(product, scale, mc), a.multiply(b, mc));
+      }
+   }
+
+   @Test
+   public void testDivide() {
+      Random random = new Random(3);
+      for (int i = 0; i < ITERATIONS; i++) {
+         BigDecimal a = randomOperand(random);
+         BigDecimal b = randomOperand(random);
+         MathContext mc = randomContext(random);
+         int preferredScale = a.scale() - b.scale();
+         /* enough extra digits that the truncated quotient decides every rounding */
+         int extra = mc.getPrecision() + 20 + Math.max(0, b.precision() - a.precision());
+         BigInteger[] qr = a.unscaledValue().multiply(BigInteger.TEN.pow(extra)).divideAndRemainder(b.unscaledValue());
+         BigInteger quotient = qr[0];
+         int scale = preferredScale + extra;
+         if (qr[1].signum() != 0) {
+            /* a sticky digit so that a discarded remainder is never mistaken for an exact half */
+            quotient = quotient.multiply(BigInteger.TEN).add(BigInteger.valueOf(a.signum() * b.signum()));
+            scale += 1;
+         }
+         BigDecimal expected = round(quotient, scale, mc);
+         if (qr[1].signum() == 0) {
+            /* an exact quotient is reduced towards the preferred scale */
+            while (expected.scale() > preferredScale) {
+               BigInteger[] reduced = expected.unscaledValue().divideAndRemainder(BigInteger.TEN);
+               if (reduced[1].signum() != 0) {
+                  break;
+               }
+               expected = new BigDecimal(reduced[0], expected.scale() - 1);
+            }
+         }
+         assertSame("divide mc " + a + ", " + b + ", " + mc, expected, a.divide(b, mc));
+      }
+   }
+
+   @Test
+   public void testSetScale() {
+      Random random = new Random(4);
+      for (int i = 0; i < ITERATIONS; i++) {
+         BigDecimal a = randomOperand(random);
+         int newScale = a.scale() + random.nextInt(12) - 8;
+         RoundingMode mode = MODES[random.nextInt(MODES.length)];
+         BigDecimal expected;
+         if (newScale >= a.scale()) {
+            expected = new BigDecimal(unscaledAtScale(a, newScale), newScale);
+         } else {
+            int digits = a.unscaledValue().abs().toString().length();
+            int precision = digits - (a.scale() - newScale);
+            if (precision <= 0) {
+               /* every digit is discarded: round a single guard digit below the new scale */
+               BigInteger guard = a.signum() > 0 ? BigInteger.ONE : BigInteger.ONE.negate();
+               int half = a.abs().compareTo(new BigDecimal(BigInteger.valueOf(5), newScale + 1));
+               boolean up;
+               switch (mode) {
+               case UP:
+                  up = true;
+                  break;
+               case CEILING:
+                  up = a.signum() > 0;
+                  break;
+               case FLOOR:
+                  up = a.signum() < 0;
+                  break;
+               case HALF_UP:
+                  up = half >= 0;
+                  break;
+               case HALF_DOWN:
+               case HALF_EVEN:
+                  up = half > 0;
+                  break;
+               default:
+                  up = false;
+                  break;
+               }
+               expected = new BigDecimal(up ? guard : BigInteger.ZERO, newScale);
+            } else {
+               expected = round(a.unscaledValue(), a.scale(), new MathContext(precision, mode));
+               if (expected.scale() < newScale) {
+                  /* rounding carried into a new digit */
+                  expected = new BigDecimal(unscaledAtScale(expected, newScale), newScale);
+               }
+            }
+         }
+         assertSame("setScale " + a + ", " + newScale + ", " + mode, expected, a.setScale(newScale, mode));
+      }
+   }
+
+   @Test
+   public void testCompareTo() {
+      Random random = new Random(5);
+      for (int i = 0; i < ITERATIONS; i++) {
+         BigDecimal a = randomOperand(random);
+         BigDecimal b = (random.nextInt(4) == 0) ? a.setScale(a.scale() + random.nextInt(3)) : randomOperand(random);
+         int scale = Math.max(a.scale(), b.scale());
+         int expected = unscaledAtScale(a, scale).compareTo(unscaledAtScale(b, scale));
+         AssertJUnit.assertEquals("compareTo " + a + ", " + b, expected, a.compareTo(b));
+      }
+   }
+}
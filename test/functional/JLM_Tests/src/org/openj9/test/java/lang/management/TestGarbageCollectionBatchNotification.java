@@ -0,0 +1,237 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+
+
+package org.openj9.test.java.lang.management;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.management.MBeanNotificationInfo;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.testng.log4testng.Logger;
+
+import com.ibm.lang.management.GarbageCollectionBatchNotificationInfo;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.GcInfo;
+
+/**
+ * Test the garbage collection notifications sent in batches when the
+ * com.ibm.lang.management.gcNotificationBatchWindow property is set.
+ */
+@Test(groups = { "level.extended" })
+public class TestGarbageCollectionBatchNotification {
+
+	private static Logger logger = Logger.getLogger(TestGarbageCollectionBatchNotification.class);
+
+	private static final String WINDOW_PROPERTY = "com.ibm.lang.management.gcNotificationBatchWindow";
+
+	/* the default number of collections retained in detail */
+	private static final int DEFAULT_DETAIL = 16;
+
+	private static final int COLLECTIONS = 5;
+
+	private static final long TIMEOUT_MILLIS = 60 * 1000;
+
+	private long windowMillis;
+
+	private List<GarbageCollectorMXBean> gcBeans;
+
+	private final Map<String, List<Notification>> batches = new ConcurrentHashMap<>();
+
+	private final AtomicInteger unbatched = new AtomicInteger();
+
+	@BeforeClass
+	protected void setUp() throws Exception {
+		String window = System.getProperty(WINDOW_PROPERTY);
+		Assert.assertNotNull(window, WINDOW_PROPERTY + " must be set to run this test");
+		windowMillis = Long.parseLong(window);
+		Assert.assertTrue(windowMillis > 0, WINDOW_PROPERTY + " must be positive");
+
+		gcBeans = ManagementFactory.getGarbageCollectorMXBeans();
+		NotificationListener listener = new NotificationListener() {
+			@Override
+			public void handleNotification(Notification notification, Object handback) {
+				String type = notification.getType();
+				if (GarbageCollectionBatchNotificationInfo.GARBAGE_COLLECTION_BATCH_NOTIFICATION.equals(type)) {
+					List<Notification> received = batches.get(handback);
+					synchronized (received) {
+						received.add(notification);
+						received.notifyAll();
+					}
+				} else if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(type)) {
+					unbatched.incrementAndGet();
+				}
+			}
+		};
+		for (GarbageCollectorMXBean gcBean : gcBeans) {
+			batches.put(gcBean.getName(), new ArrayList<Notification>());
+			((NotificationEmitter) gcBean).addNotificationListener(listener, null, gcBean.getName());
+		}
+
+		/* let a window opened by collections during startup end before the test starts */
+		Thread.sleep(2 * windowMillis);
+		for (List<Notification> received : batches.values()) {
+			synchronized (received) {
+				received.clear();
+			}
+		}
+		unbatched.set(0);
+	}
+
+	@Test
+	public void testNotificationInfo() {
+		for (GarbageCollectorMXBean gcBean : gcBeans) {
+			MBeanNotificationInfo[] infos = ((NotificationEmitter) gcBean).getNotificationInfo();
+			Assert.assertEquals(infos.length, 1);
+			Assert.assertEquals(infos[0].getNotifTypes(),
+					new String[] { GarbageCollectionBatchNotificationInfo.GARBAGE_COLLECTION_BATCH_NOTIFICATION });
+		}
+	}
+
+	@Test
+	public void testBatchedCollections() throws Exception {
+		Map<String, Long> countsBefore = new HashMap<>();
+		for (GarbageCollectorMXBean gcBean : gcBeans) {
+			countsBefore.put(gcBean.getName(), Long.valueOf(gcBean.getCollectionCount()));
+		}
+
+		for (int i = 0; i < COLLECTIONS; i++) {
+			System.gc();
+		}
+
+		/* the collector that ran the explicit collections, and its last collection */
+		GarbageCollectorMXBean collector = null;
+		for (GarbageCollectorMXBean gcBean : gcBeans) {
+			long collections = gcBean.getCollectionCount() - countsBefore.get(gcBean.getName()).longValue();
+			if (collections >= COLLECTIONS) {
+				collector = gcBean;
+				break;
+			}
+		}
+		Assert.assertNotNull(collector, "no collector ran " + COLLECTIONS + " collections");
+		GcInfo lastGcInfo = ((com.sun.management.GarbageCollectorMXBean) collector).getLastGcInfo();
+		Assert.assertNotNull(lastGcInfo);
+		logger.info("Collector " + collector.getName() + ", last collection " + lastGcInfo.getId());
+
+		/* wait for the batch, then for one more window to see that nothing else is sent */
+		List<Notification> received = batches.get(collector.getName());
+		long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+		synchronized (received) {
+			while (received.isEmpty() && (System.currentTimeMillis() < deadline)) {
+				received.wait(windowMillis);
+			}
+		}
+		Thread.sleep(2 * windowMillis);
+
+		List<Notification> notifications;
+		synchronized (received) {
+			notifications = new ArrayList<>(received);
+		}
+		Assert.assertEquals(notifications.size(), 1, "batched notifications from " + collector.getName());
+		Assert.assertEquals(unbatched.get(), 0, "unbatched notifications");
+
+		Notification notification = notifications.get(0);
+		Object userData = notification.getUserData();
+		Assert.assertTrue(userData instanceof CompositeData);
+		GarbageCollectionBatchNotificationInfo info = GarbageCollectionBatchNotificationInfo.from((CompositeData) userData);
+
+		Assert.assertEquals(info.getGcName(), collector.getName());
+		Assert.assertTrue(info.getCount() >= COLLECTIONS, "count " + info.getCount());
+		Assert.assertEquals(info.getLastIndex() - info.getFirstIndex() + 1, info.getCount());
+		Assert.assertTrue((info.getFirstIndex() <= lastGcInfo.getId()) && (lastGcInfo.getId() <= info.getLastIndex()));
+		Assert.assertTrue(info.getStartTime() <= info.getEndTime());
+		Assert.assertTrue(info.getMaxDuration() <= info.getTotalDuration());
+		Assert.assertEquals(info.getDetailCount(), (int) Math.min(info.getCount(), DEFAULT_DETAIL));
+
+		long[] detailIndex = info.getDetailIndex();
+		long detailDuration = 0;
+		GcInfo rebuiltLastGcInfo = null;
+		for (int i = 0; i < info.getDetailCount(); i++) {
+			GarbageCollectionNotificationInfo gcNotification = info.getGarbageCollectionNotificationInfo(i);
+			GcInfo gcInfo = gcNotification.getGcInfo();
+
+			Assert.assertEquals(gcNotification.getGcName(), info.getGcName());
+			Assert.assertEquals(gcNotification.getGcAction(), info.getDetailAction()[i]);
+			Assert.assertEquals(gcNotification.getGcCause(), info.getDetailCause()[i]);
+			Assert.assertEquals(gcInfo.getId(), detailIndex[i]);
+			Assert.assertEquals(gcInfo.getStartTime(), info.getDetailStartTime()[i]);
+			Assert.assertEquals(gcInfo.getEndTime(), info.getDetailEndTime()[i]);
+			if (i > 0) {
+				Assert.assertEquals(detailIndex[i], detailIndex[i - 1] + 1, "detail collections out of order");
+			}
+			detailDuration += gcInfo.getDuration();
+
+			/* the rebuilt info is a valid payload for an unbatched notification */
+			GarbageCollectionNotificationInfo roundTrip = GarbageCollectionNotificationInfo.from(gcNotification.toCompositeData(null));
+			Assert.assertEquals(roundTrip.getGcName(), gcNotification.getGcName());
+			Assert.assertEquals(roundTrip.getGcAction(), gcNotification.getGcAction());
+			Assert.assertEquals(roundTrip.getGcCause(), gcNotification.getGcCause());
+			assertSameGcInfo(roundTrip.getGcInfo(), gcInfo);
+
+			if (gcInfo.getId() == lastGcInfo.getId()) {
+				rebuiltLastGcInfo = gcInfo;
+			}
+		}
+		Assert.assertEquals(detailIndex[detailIndex.length - 1], info.getLastIndex());
+		Assert.assertTrue(detailDuration <= info.getTotalDuration(), "detail duration " + detailDuration);
+
+		/* the unbatched notification of a collection carries the same record as the bean's last GcInfo */
+		Assert.assertNotNull(rebuiltLastGcInfo, "collection " + lastGcInfo.getId() + " not retained");
+		assertSameGcInfo(rebuiltLastGcInfo, lastGcInfo);
+	}
+
+	private static void assertSameGcInfo(GcInfo actual, GcInfo expected) {
+		Assert.assertEquals(actual.getId(), expected.getId());
+		Assert.assertEquals(actual.getStartTime(), expected.getStartTime());
+		Assert.assertEquals(actual.getEndTime(), expected.getEndTime());
+		Assert.assertEquals(actual.getDuration(), expected.getDuration());
+		assertSameUsage(actual.getMemoryUsageBeforeGc(), expected.getMemoryUsageBeforeGc());
+		assertSameUsage(actual.getMemoryUsageAfterGc(), expected.getMemoryUsageAfterGc());
+	}
+
+	private static void assertSameUsage(Map<String, MemoryUsage> actual, Map<String, MemoryUsage> expected) {
+		Assert.assertEquals(actual.keySet(), expected.keySet());
+		for (Map.Entry<String, MemoryUsage> entry : expected.entrySet()) {
+			MemoryUsage expectedUsage = entry.getValue();
+			MemoryUsage actualUsage = actual.get(entry.getKey());
+			Assert.assertEquals(actualUsage.getInit(), expectedUsage.getInit(), entry.getKey() + " init");
+			Assert.assertEquals(actualUsage.getUsed(), expectedUsage.getUsed(), entry.getKey() + " used");
+			Assert.assertEquals(actualUsage.getCommitted(), expectedUsage.getCommitted(), entry.getKey() + " committed");
+			Assert.assertEquals(actualUsage.getMax(), expectedUsage.getMax(), entry.getKey() + " max");
+		}
+	}
+}
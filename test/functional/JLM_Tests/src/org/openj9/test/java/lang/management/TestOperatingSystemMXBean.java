@@ -56,12 +56,14 @@ import javax.management.openmbean.CompositeData;
 
 import com.ibm.lang.management.AvailableProcessorsNotificationInfo;
 import com.ibm.lang.management.CpuLoadCalculationConstants;
+import com.ibm.lang.management.PressureStallInfo;
 import com.ibm.lang.management.ProcessingCapacityNotificationInfo;
 import com.ibm.lang.management.TotalPhysicalMemoryNotificationInfo;
 
 // These classes are not part of the public API.
 import com.ibm.lang.management.internal.AvailableProcessorsNotificationInfoUtil;
 import com.ibm.lang.management.internal.ExtendedOperatingSystemMXBeanImpl;
+import com.ibm.lang.management.internal.PressureStallInfoUtil;
 import com.ibm.lang.management.internal.ProcessingCapacityNotificationInfoUtil;
 import com.ibm.lang.management.internal.TotalPhysicalMemoryNotificationInfoUtil;
 
@@ -119,6 +121,19 @@ public class TestOperatingSystemMXBean {
 		if (TestUtil.isRunningOnUnix()) {
 			attribs.put("MaxFileDescriptorCount", new AttributeData(Long.TYPE.getName(), true, false, false));
 			attribs.put("OpenFileDescriptorCount", new AttributeData(Long.TYPE.getName(), true, false, false));
+			attribs.put("CpuPressure", new AttributeData(Double.TYPE.getName(), true, false, false));
+			attribs.put("MemoryPressure", new AttributeData(Double.TYPE.getName(), true, false, false));
+			attribs.put("MemoryFullPressure", new AttributeData(Double.TYPE.getName(), true, false, false));
+			attribs.put("IoPressure", new AttributeData(Double.TYPE.getName(), true, false, false));
+			attribs.put("IoFullPressure", new AttributeData(Double.TYPE.getName(), true, false, false));
+			attribs.put("CpuPressureInfo", new AttributeData(CompositeData.class.getName(), true, false, false));
+			attribs.put("MemoryPressureInfo", new AttributeData(CompositeData.class.getName(), true, false, false));
+			attribs.put("IoPressureInfo", new AttributeData(CompositeData.class.getName(), true, false, false));
+			attribs.put("CgroupCpuPeriodCount", new AttributeData(Long.TYPE.getName(), true, false, false));
+			attribs.put("CgroupCpuThrottledCount", new AttributeData(Long.TYPE.getName(), true, false, false));
+			attribs.put("CgroupCpuThrottledTime", new AttributeData(Long.TYPE.getName(), true, false, false));
+			attribs.put("CgroupMemoryLimit", new AttributeData(Long.TYPE.getName(), true, false, false));
+			attribs.put("CgroupMemoryUsage", new AttributeData(Long.TYPE.getName(), true, false, false));
 		}
 		/* At present, we don't have support for one of the APIs. Test what's
 		 * there and exclude the other; enable when the API becomes available
@@ -371,6 +386,72 @@ public class TestOperatingSystemMXBean {
 		}
 	}
 
+	/**
+	 * IBM attributes for the cgroup counters and the pressure stall information.
+	 */
+	@Test
+	public void testUnixCgroupAndPressureAPIs() {
+		if (TestUtil.isRunningOnUnix()) {
+			try {
+				long periods = ((Long) mbs.getAttribute(objName, "CgroupCpuPeriodCount")).longValue();
+				long throttled = ((Long) mbs.getAttribute(objName, "CgroupCpuThrottledCount")).longValue();
+				long throttledTime = ((Long) mbs.getAttribute(objName, "CgroupCpuThrottledTime")).longValue();
+				long memoryLimit = ((Long) mbs.getAttribute(objName, "CgroupMemoryLimit")).longValue();
+				long memoryUsage = ((Long) mbs.getAttribute(objName, "CgroupMemoryUsage")).longValue();
+
+				AssertJUnit.assertTrue(periods >= -1);
+				AssertJUnit.assertTrue(throttled >= -1);
+				AssertJUnit.assertTrue(throttledTime >= -1);
+				if ((periods >= 0) && (throttled >= 0)) {
+					AssertJUnit.assertTrue(throttled <= periods);
+				}
+				AssertJUnit.assertTrue((memoryLimit == -1) || (memoryLimit > 0));
+				AssertJUnit.assertTrue(memoryUsage >= -1);
+				logger.debug("cgroup: periods " + periods + ", throttled " + throttled + " (" + throttledTime
+						+ "ns), memory " + memoryUsage + " of " + memoryLimit);
+
+				for (String resource : new String[] { "Cpu", "Memory", "Io" }) {
+					double average = ((Double) mbs.getAttribute(objName, resource + "Pressure")).doubleValue();
+					PressureStallInfo info = PressureStallInfo.from((CompositeData) mbs.getAttribute(objName, resource + "PressureInfo"));
+
+					if (null == info) {
+						AssertJUnit.assertEquals(-1.0, average, 0.0);
+					} else {
+						checkPressureAverage(info.getSomeAvg10());
+						checkPressureAverage(info.getSomeAvg60());
+						checkPressureAverage(info.getSomeAvg300());
+						checkPressureAverage(info.getFullAvg10());
+						checkPressureAverage(info.getFullAvg60());
+						checkPressureAverage(info.getFullAvg300());
+						AssertJUnit.assertTrue(info.getSomeTotal() >= 0);
+						AssertJUnit.assertTrue(info.getFullTotal() >= -1);
+						checkPressureAverage(average);
+						logger.debug(resource + " pressure: " + info);
+					}
+				}
+			} catch (Exception e) {
+				Assert.fail("Unexpected exception: " + e);
+			}
+		}
+
+		/* PressureStallInfo is reconstructed from its CompositeData representation */
+		PressureStallInfo info = new PressureStallInfo(1.5, 2.5, 3.5, 100, 0.5, 0.25, 0.125, 50);
+		PressureStallInfo copy = PressureStallInfo.from(PressureStallInfoUtil.toCompositeData(info));
+		AssertJUnit.assertEquals(1.5, copy.getSomeAvg10(), 0.0);
+		AssertJUnit.assertEquals(2.5, copy.getSomeAvg60(), 0.0);
+		AssertJUnit.assertEquals(3.5, copy.getSomeAvg300(), 0.0);
+		AssertJUnit.assertEquals(100, copy.getSomeTotal());
+		AssertJUnit.assertEquals(0.5, copy.getFullAvg10(), 0.0);
+		AssertJUnit.assertEquals(0.25, copy.getFullAvg60(), 0.0);
+		AssertJUnit.assertEquals(0.125, copy.getFullAvg300(), 0.0);
+		AssertJUnit.assertEquals(50, copy.getFullTotal());
+		AssertJUnit.assertNull(PressureStallInfo.from(null));
+	}
+
+	private static void checkPressureAverage(double average) {
+		AssertJUnit.assertTrue("pressure average " + average, (average == -1.0) || ((average >= 0.0) && (average <= 100.0)));
+	}
+
 	@Test
 	public final void testGetAttributes() {
 		AttributeList attributes = null;
@@ -472,6 +553,13 @@ public class TestOperatingSystemMXBean {
 					if (isSupportedOS) {
 						AssertJUnit.assertTrue(((Long)value) > 0);
 					}
+				} else if (name.endsWith("Pressure")) {
+					AssertJUnit.assertTrue(value instanceof Double);
+				} else if (name.endsWith("PressureInfo")) {
+					AssertJUnit.assertTrue((value == null) || (value instanceof CompositeData));
+				} else if (name.startsWith("Cgroup")) {
+					AssertJUnit.assertTrue(value instanceof Long);
+					AssertJUnit.assertTrue(((Long)value) >= -1);
 				} else {
 					Assert.fail("Unexpected attribute name returned! " + name);
 				}
@@ -570,7 +658,7 @@ public class TestOperatingSystemMXBean {
 		int attrNbr;
 		if (verMajor >= 14) {
 			if (TestUtil.isRunningOnUnix()) {
-				attrNbr = 27;
+				attrNbr = 40;
 			} else {
 				attrNbr = 25;
 			}
@@ -581,7 +669,7 @@ public class TestOperatingSystemMXBean {
 		} else {
 			// Java 8 - 13
 			if (TestUtil.isRunningOnUnix()) {
-				attrNbr = 24;
+				attrNbr = 37;
 			} else {
 				attrNbr = 22;
 			}
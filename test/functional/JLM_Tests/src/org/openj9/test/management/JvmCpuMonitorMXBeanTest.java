@@ -334,6 +334,69 @@ public class JvmCpuMonitorMXBeanTest {
 		return false; /* No error */
 	}
 
+	/**
+	 * Checks that getThreadsUsage() reports the allocations of a thread in a user defined
+	 * category for the interval since the previous update.
+	 */
+	@Test
+	public void testGetThreadsUsage() throws Exception {
+		final int user2 = 6;
+		final int allocations = 1000;
+		final JvmCpuMonitorMXBean jcmmxbean = ManagementFactory.getPlatformMXBean(JvmCpuMonitorMXBean.class);
+		final CountDownLatch categorySet = new CountDownLatch(1);
+		final CountDownLatch sampled = new CountDownLatch(1);
+		final CountDownLatch allocated = new CountDownLatch(1);
+		final CountDownLatch done = new CountDownLatch(1);
+
+		Assert.assertEquals(JvmCpuMonitorUsage.getCategoryName(user2), "Application-User2");
+
+		Thread worker = new Thread() {
+			public void run() {
+				try {
+					jcmmxbean.setThreadCategory(Thread.currentThread().getId(), "Application-User2");
+					categorySet.countDown();
+					sampled.await();
+					long sum = 0;
+					for (int i = 0; i < allocations; i++) {
+						sum += new byte[1024].length;
+					}
+					logger.debug("Allocated " + sum + " bytes");
+					allocated.countDown();
+					done.await();
+				} catch (InterruptedException e) {
+					logger.warn("Worker interrupted", e);
+				}
+			}
+		};
+		worker.start();
+		try {
+			categorySet.await();
+			JvmCpuMonitorUsage usage = jcmmxbean.getThreadsUsage(new JvmCpuMonitorUsage());
+			Assert.assertEquals(usage.getInterval(), 0L);
+			Assert.assertTrue(usage.getThreadCount()[user2] >= 1, "worker thread not counted: " + usage);
+			sampled.countDown();
+
+			allocated.await();
+			usage = jcmmxbean.getThreadsUsage(usage);
+			logger.debug(usage);
+			Assert.assertTrue(usage.getInterval() >= 0);
+			Assert.assertTrue(usage.getAllocatedBytes(user2) >= (allocations * 1024L), "allocations not reported: " + usage);
+
+			long histogramThreads = 0;
+			for (int bucket = 0; bucket < JvmCpuMonitorUsage.HISTOGRAM_BUCKETS; bucket++) {
+				histogramThreads += usage.getCpuTimeHistogram(user2, bucket);
+			}
+			Assert.assertEquals(histogramThreads, (long) usage.getThreadCount()[user2]);
+
+			/* nothing was allocated by the worker since the last update */
+			usage = jcmmxbean.getThreadsUsage(usage);
+			Assert.assertTrue(usage.getAllocatedBytes(user2) < (allocations * 1024L), "allocations reported twice: " + usage);
+		} finally {
+			done.countDown();
+			worker.join();
+		}
+	}
+
 	/**
 	 *
 	 * @param jcmmxbean The JvmCpuMonitorMXBean instance that has already been initialized.
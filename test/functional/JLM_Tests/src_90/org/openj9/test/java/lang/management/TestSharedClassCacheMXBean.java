@@ -0,0 +1,318 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.java.lang.management;
+
+import java.io.File;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.testng.log4testng.Logger;
+
+import com.ibm.lang.management.SharedClassCacheMXBean;
+import com.ibm.lang.management.SharedClassHelperCounters;
+import com.ibm.oti.shared.Shared;
+import com.ibm.oti.shared.SharedClassHelperFactory;
+import com.ibm.oti.shared.SharedClassTokenHelper;
+import com.ibm.oti.shared.SharedClassURLClasspathHelper;
+import com.ibm.oti.shared.SharedClassURLHelper;
+import com.ibm.oti.shared.SharedDataHelper;
+
+/**
+ * Test the counters of the SharedClassCacheMXBean. The test must be run with -Xshareclasses
+ * and a cache which does not yet contain the classes it stores.
+ */
+@Test(groups = { "level.extended" })
+public class TestSharedClassCacheMXBean {
+
+	private static Logger logger = Logger.getLogger(TestSharedClassCacheMXBean.class);
+
+	private static final String CACHE_BEAN_NAME = "com.ibm.lang.management:type=SharedClassCache";
+
+	private static final String URL_HELPER = "SharedClassURLHelper";
+	private static final String URL_CLASSPATH_HELPER = "SharedClassURLClasspathHelper";
+	private static final String TOKEN_HELPER = "SharedClassTokenHelper";
+	private static final String DATA_HELPER = "SharedDataHelper";
+
+	private static final String CACHED_CLASS_NAME = CachedClass.class.getName();
+
+	private SharedClassCacheMXBean cacheBean;
+
+	private SharedClassHelperFactory classHelperFactory;
+
+	private byte[] classBytes;
+
+	private Path tempDir;
+
+	/**
+	 * The class stored and found through the helpers. It is never loaded by the application
+	 * class loader, so it cannot already be in the cache.
+	 */
+	public static final class CachedClass {
+	}
+
+	/**
+	 * Defines CachedClass from its bytes, as a class loader which uses a helper would.
+	 */
+	private static final class HelperClassLoader extends ClassLoader {
+		HelperClassLoader() {
+			super(null);
+		}
+
+		Class<?> define(String name, byte[] bytes) {
+			return defineClass(name, bytes, 0, bytes.length);
+		}
+
+		/* the name given to the counters of this loader */
+		String countersName() {
+			return getClass().getName() + '@' + Integer.toHexString(System.identityHashCode(this));
+		}
+	}
+
+	@BeforeClass
+	protected void setUp() throws Exception {
+		cacheBean = ManagementFactory.getPlatformMXBean(SharedClassCacheMXBean.class);
+		Assert.assertNotNull(cacheBean, "no SharedClassCacheMXBean");
+		classHelperFactory = Shared.getSharedClassHelperFactory();
+		Assert.assertNotNull(classHelperFactory, "the test must be run with -Xshareclasses");
+
+		String resource = CACHED_CLASS_NAME.replace('.', '/') + ".class";
+		try (InputStream in = TestSharedClassCacheMXBean.class.getClassLoader().getResourceAsStream(resource)) {
+			Assert.assertNotNull(in, "cannot read " + resource);
+			classBytes = in.readAllBytes();
+		}
+
+		tempDir = Files.createTempDirectory("TestSharedClassCacheMXBean");
+		logger.info("Starting TestSharedClassCacheMXBean tests ...");
+	}
+
+	@AfterClass
+	protected void tearDown() throws Exception {
+		if (null != tempDir) {
+			try (Stream<Path> paths = Files.walk(tempDir)) {
+				paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+			}
+		}
+	}
+
+	@Test
+	public void testCacheCounts() {
+		Assert.assertTrue(cacheBean.getStaleClassCount() >= 0, "stale class count");
+		Assert.assertTrue(cacheBean.getAOTMethodCount() >= 0, "AOT method count");
+	}
+
+	@Test
+	public void testURLHelper() throws Exception {
+		SharedClassHelperCounters before = getHelperTypeCounters(URL_HELPER);
+		URL classDirURL = createClasspathEntry(URL_HELPER);
+
+		HelperClassLoader storeLoader = new HelperClassLoader();
+		SharedClassURLHelper storeHelper = classHelperFactory.getURLHelper(storeLoader);
+		Assert.assertNull(storeHelper.findSharedClass(classDirURL, CACHED_CLASS_NAME), "class found before it was stored");
+		Class<?> clazz = storeLoader.define(CACHED_CLASS_NAME, classBytes);
+		Assert.assertTrue(storeHelper.storeSharedClass(classDirURL, clazz), "class not stored");
+
+		HelperClassLoader findLoader = new HelperClassLoader();
+		SharedClassURLHelper findHelper = classHelperFactory.getURLHelper(findLoader);
+		Assert.assertNotNull(findHelper.findSharedClass(classDirURL, CACHED_CLASS_NAME), "stored class not found");
+
+		checkCounters(URL_HELPER, before, storeLoader, findLoader);
+	}
+
+	@Test
+	public void testURLClasspathHelper() throws Exception {
+		SharedClassHelperCounters before = getHelperTypeCounters(URL_CLASSPATH_HELPER);
+		URL[] classpath = { createClasspathEntry(URL_CLASSPATH_HELPER) };
+
+		HelperClassLoader storeLoader = new HelperClassLoader();
+		SharedClassURLClasspathHelper storeHelper = classHelperFactory.getURLClasspathHelper(storeLoader, classpath);
+		Assert.assertNull(storeHelper.findSharedClass(CACHED_CLASS_NAME, null), "class found before it was stored");
+		Class<?> clazz = storeLoader.define(CACHED_CLASS_NAME, classBytes);
+		Assert.assertTrue(storeHelper.storeSharedClass(clazz, 0), "class not stored");
+
+		HelperClassLoader findLoader = new HelperClassLoader();
+		SharedClassURLClasspathHelper findHelper = classHelperFactory.getURLClasspathHelper(findLoader, classpath);
+		findHelper.confirmAllEntries();
+		Assert.assertNotNull(findHelper.findSharedClass(CACHED_CLASS_NAME, null), "stored class not found");
+
+		checkCounters(URL_CLASSPATH_HELPER, before, storeLoader, findLoader);
+	}
+
+	@Test
+	public void testTokenHelper() throws Exception {
+		SharedClassHelperCounters before = getHelperTypeCounters(TOKEN_HELPER);
+		String token = "TestSharedClassCacheMXBean.testTokenHelper";
+
+		HelperClassLoader storeLoader = new HelperClassLoader();
+		SharedClassTokenHelper storeHelper = classHelperFactory.getTokenHelper(storeLoader);
+		Assert.assertNull(storeHelper.findSharedClass(token, CACHED_CLASS_NAME), "class found before it was stored");
+		Class<?> clazz = storeLoader.define(CACHED_CLASS_NAME, classBytes);
+		Assert.assertTrue(storeHelper.storeSharedClass(token, clazz), "class not stored");
+
+		HelperClassLoader findLoader = new HelperClassLoader();
+		SharedClassTokenHelper findHelper = classHelperFactory.getTokenHelper(findLoader);
+		Assert.assertNotNull(findHelper.findSharedClass(token, CACHED_CLASS_NAME), "stored class not found");
+
+		checkCounters(TOKEN_HELPER, before, storeLoader, findLoader);
+	}
+
+	@Test
+	public void testDataHelper() throws Exception {
+		SharedClassHelperCounters before = getHelperTypeCounters(DATA_HELPER);
+		String token = "TestSharedClassCacheMXBean.testDataHelper";
+		ByteBuffer data = ByteBuffer.allocateDirect(classBytes.length);
+		data.put(classBytes).flip();
+
+		HelperClassLoader storeLoader = new HelperClassLoader();
+		SharedDataHelper storeHelper = Shared.getSharedDataHelperFactory().getDataHelper(storeLoader);
+		Assert.assertNull(storeHelper.findSharedData(token), "data found before it was stored");
+		Assert.assertNotNull(storeHelper.storeSharedData(token, data), "data not stored");
+
+		HelperClassLoader findLoader = new HelperClassLoader();
+		SharedDataHelper findHelper = Shared.getSharedDataHelperFactory().getDataHelper(findLoader);
+		Assert.assertNotNull(findHelper.findSharedData(token), "stored data not found");
+
+		checkCounters(DATA_HELPER, before, storeLoader, findLoader);
+	}
+
+	@Test
+	public void testFromCompositeData() throws Exception {
+		/* make sure a class loader is counted, whatever order the tests run in */
+		HelperClassLoader loader = new HelperClassLoader();
+		SharedClassTokenHelper helper = classHelperFactory.getTokenHelper(loader);
+		Assert.assertNull(helper.findSharedClass("TestSharedClassCacheMXBean.testFromCompositeData", CACHED_CLASS_NAME));
+
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(CACHE_BEAN_NAME);
+
+		CompositeData[] loaderData = (CompositeData[]) server.getAttribute(name, "ClassLoaderCounters");
+		SharedClassHelperCounters counters = null;
+		for (CompositeData data : loaderData) {
+			SharedClassHelperCounters fromData = SharedClassHelperCounters.from(data);
+			Assert.assertEquals(fromData.getName(), data.get("name"));
+			Assert.assertEquals(fromData.getFindHits(), ((Long) data.get("findHits")).longValue());
+			Assert.assertEquals(fromData.getFindMisses(), ((Long) data.get("findMisses")).longValue());
+			Assert.assertEquals(fromData.getStores(), ((Long) data.get("stores")).longValue());
+			Assert.assertEquals(fromData.getStoreFailures(), ((Long) data.get("storeFailures")).longValue());
+			if (loader.countersName().equals(fromData.getName())) {
+				counters = fromData;
+			}
+		}
+		assertCounters(counters, loader.countersName(), 0, 1, 0, 0);
+
+		/* the helper type totals only ever grow, so a later direct read must not be lower */
+		CompositeData[] typeData = (CompositeData[]) server.getAttribute(name, "HelperTypeCounters");
+		SharedClassHelperCounters[] direct = cacheBean.getHelperTypeCounters();
+		Assert.assertEquals(typeData.length, direct.length);
+		for (int i = 0; i < typeData.length; i++) {
+			SharedClassHelperCounters fromData = SharedClassHelperCounters.from(typeData[i]);
+			Assert.assertEquals(fromData.getName(), direct[i].getName());
+			Assert.assertTrue(fromData.getFindHits() <= direct[i].getFindHits(), fromData.toString());
+			Assert.assertTrue(fromData.getFindMisses() <= direct[i].getFindMisses(), fromData.toString());
+			Assert.assertTrue(fromData.getStores() <= direct[i].getStores(), fromData.toString());
+			Assert.assertTrue(fromData.getStoreFailures() <= direct[i].getStoreFailures(), fromData.toString());
+		}
+
+		Assert.assertNull(SharedClassHelperCounters.from(null));
+		CompositeData heapUsage = (CompositeData) server.getAttribute(
+				new ObjectName(ManagementFactory.MEMORY_MXBEAN_NAME), "HeapMemoryUsage");
+		try {
+			SharedClassHelperCounters.from(heapUsage);
+			Assert.fail("from() accepted CompositeData of another type");
+		} catch (IllegalArgumentException e) {
+			logger.debug("Expected exception: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Checks that the store loader missed once and stored once, the find loader hit once,
+	 * and that the totals for the helper type grew by at least as much. Other class loaders,
+	 * including the built-in ones, may use the same helper type while the test runs.
+	 */
+	private void checkCounters(String helperType, SharedClassHelperCounters before,
+			HelperClassLoader storeLoader, HelperClassLoader findLoader) {
+		assertCounters(getClassLoaderCounters(storeLoader), storeLoader.countersName(), 0, 1, 1, 0);
+		assertCounters(getClassLoaderCounters(findLoader), findLoader.countersName(), 1, 0, 0, 0);
+
+		SharedClassHelperCounters after = getHelperTypeCounters(helperType);
+		logger.debug(before + " -> " + after);
+		Assert.assertTrue(after.getFindHits() - before.getFindHits() >= 1, helperType + " hits");
+		Assert.assertTrue(after.getFindMisses() - before.getFindMisses() >= 1, helperType + " misses");
+		Assert.assertTrue(after.getStores() - before.getStores() >= 1, helperType + " stores");
+		Assert.assertTrue(after.getStoreFailures() >= before.getStoreFailures(), helperType + " store failures");
+	}
+
+	private static void assertCounters(SharedClassHelperCounters counters, String name,
+			long findHits, long findMisses, long stores, long storeFailures) {
+		Assert.assertNotNull(counters, "no counters for " + name);
+		Assert.assertEquals(counters.getName(), name);
+		Assert.assertEquals(counters.getFindHits(), findHits, name + " hits");
+		Assert.assertEquals(counters.getFindMisses(), findMisses, name + " misses");
+		Assert.assertEquals(counters.getStores(), stores, name + " stores");
+		Assert.assertEquals(counters.getStoreFailures(), storeFailures, name + " store failures");
+	}
+
+	/**
+	 * Each URL helper test stores the class for its own classpath entry, so that it is
+	 * not found through an entry stored by another test.
+	 */
+	private URL createClasspathEntry(String name) throws Exception {
+		Path classDir = tempDir.resolve(name);
+		Path classFile = classDir.resolve(CACHED_CLASS_NAME.replace('.', '/') + ".class");
+		Files.createDirectories(classFile.getParent());
+		Files.write(classFile, classBytes);
+		return classDir.toUri().toURL();
+	}
+
+	private SharedClassHelperCounters getHelperTypeCounters(String helperType) {
+		for (SharedClassHelperCounters counters : cacheBean.getHelperTypeCounters()) {
+			if (helperType.equals(counters.getName())) {
+				return counters;
+			}
+		}
+		Assert.fail("no counters for " + helperType);
+		return null;
+	}
+
+	private SharedClassHelperCounters getClassLoaderCounters(HelperClassLoader loader) {
+		String name = loader.countersName();
+		for (SharedClassHelperCounters counters : cacheBean.getClassLoaderCounters()) {
+			if (name.equals(counters.getName())) {
+				return counters;
+			}
+		}
+		return null;
+	}
+}
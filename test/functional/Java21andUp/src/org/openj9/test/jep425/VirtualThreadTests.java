@@ -25,6 +25,7 @@ import org.testng.Assert;
 import org.testng.AssertJUnit;
 import org.testng.annotations.Test;
 
+import java.lang.management.ManagementFactory;
 import java.lang.reflect.*;
 import java.time.Duration;
 import java.util.concurrent.Executor;
@@ -35,6 +36,9 @@ import java.util.stream.IntStream;
 
 import org.openj9.test.util.VersionCheck;
 
+import com.ibm.lang.management.VirtualThreadPinningMXBean;
+import com.ibm.lang.management.VirtualThreadPinningSite;
+
 /**
  * Test cases for JEP 425: Virtual Threads (Preview) Continuation execution
  * which verifies the basic cases including Continuation enter, yield, resume.
@@ -175,6 +179,55 @@ public class VirtualThreadTests {
 		}
 	}
 
+	private static volatile boolean testPinnedThreadReady = false;
+
+	@Test
+	public void test_pinningStatistics() {
+		VirtualThreadPinningMXBean bean = ManagementFactory.getPlatformMXBean(VirtualThreadPinningMXBean.class);
+		int interval = bean.getSampleInterval();
+		try {
+			bean.setSampleInterval(1);
+			bean.reset();
+			Thread t = Thread.ofVirtual().name("pinned").start(() -> {
+				testPinnedThreadReady = true;
+				lockSupportPark();
+			});
+
+			while (!testPinnedThreadReady) {
+				Thread.sleep(10);
+			}
+
+			/* Incrementally wait for 10000 ms to let the virtual thread park. */
+			incrementalWait(t);
+			LockSupport.unpark(t);
+			t.join();
+
+			String[] reasons = bean.getPinningReasons();
+			long[] counts = bean.getPinningCounts();
+			long nativeCount = 0;
+			for (int i = 0; i < reasons.length; i++) {
+				if ("NATIVE".equals(reasons[i])) {
+					nativeCount = counts[i];
+				}
+			}
+			Assert.assertTrue(nativeCount > 0, "No NATIVE pinning event recorded");
+
+			VirtualThreadPinningSite nativeSite = null;
+			for (VirtualThreadPinningSite site : bean.getPinningSites()) {
+				if ("NATIVE".equals(site.getReason()) && site.getFrame().contains("lockSupportPark")) {
+					nativeSite = site;
+				}
+			}
+			Assert.assertNotNull(nativeSite, "No site recorded for the native frame");
+			Assert.assertTrue(nativeSite.getCount() > 0);
+			Assert.assertTrue(nativeSite.getMaxTime() <= nativeSite.getTime());
+		} catch (Exception e) {
+			Assert.fail("Unexpected exception occured : " + e.getMessage(), e);
+		} finally {
+			bean.setSampleInterval(interval);
+		}
+	}
+
 	private static volatile boolean testThread1Ready = false;
 
 	@Test
@@ -186,6 +186,22 @@ public class TestJcmd extends AttachApiTest {
 		}
 	}
 
+	@Test
+	public void testThreadPrintSummary() throws IOException {
+		List<String> args = new ArrayList<>();
+		args.add(getVmId());
+		args.add(THREAD_PRINT);
+		args.add("-s");
+		List<String> jcmdOutput = runCommandAndLogOutput(args);
+		String[] expectedStrings = {"distinct stacks", "Attach API wait loop"};
+		for (String expectedString : expectedStrings) {
+			log("Expected string: " + expectedString);
+			Optional<String> searchResult = StringUtilities.searchSubstring(expectedString, jcmdOutput);
+			assertTrue(searchResult.isPresent(), "Expected string not found: " + expectedString);
+		}
+		log(EXPECTED_STRING_FOUND);
+	}
+
 	@Test
 	public void testClassHistogramAll() throws IOException {
 		List<String> args = new ArrayList<>();
@@ -0,0 +1,232 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+
+package org.openj9.test.attachAPI;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Properties;
+
+import openj9.internal.tools.attach.target.AttachmentConnection;
+import openj9.internal.tools.attach.target.DiagnosticProperties;
+import openj9.internal.tools.attach.target.IPC;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test the framed properties replies used between the attacher and the target,
+ * and the fallback to text replies when the target does not support frames.
+ */
+@Test(groups = { "level.extended" })
+public class TestAttachFraming {
+	private static final String FRAMED_REPLIES_COMMAND = "ATTACH_FRAMED_REPLIES";
+
+	private static DiagnosticProperties roundTrip(DiagnosticProperties props) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		AttachmentConnection.sendFrame(out, props);
+		return AttachmentConnection.receiveFrame(new ByteArrayInputStream(out.toByteArray()));
+	}
+
+	@Test
+	public void testTypedRoundTrip() throws IOException {
+		DiagnosticProperties props = new DiagnosticProperties();
+		props.put("test.string", "value");
+		props.put("test.int", -42);
+		props.put("test.long", Long.MAX_VALUE);
+		props.put("test.boolean", true);
+
+		DiagnosticProperties received = roundTrip(props);
+		assertEquals(received.getTypedValue("test.string"), "value");
+		assertEquals(received.getTypedValue("test.int"), Integer.valueOf(-42));
+		assertEquals(received.getTypedValue("test.long"), Long.valueOf(Long.MAX_VALUE));
+		assertEquals(received.getTypedValue("test.boolean"), Boolean.TRUE);
+		assertEquals(received.getInt("test.int"), -42);
+		assertEquals(received.getLong("test.long"), Long.MAX_VALUE);
+		assertTrue(received.getBoolean("test.boolean"));
+		assertNull(received.getTypedValue("test.missing"));
+	}
+
+	@Test
+	public void testPropertiesRoundTrip() throws IOException {
+		Properties props = new Properties();
+		props.setProperty("key.one", "1");
+		props.setProperty("key.two", "two words");
+		props.setProperty("key.empty", "");
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		AttachmentConnection.sendFrame(out, props);
+		DiagnosticProperties received = AttachmentConnection.receiveFrame(new ByteArrayInputStream(out.toByteArray()));
+		assertEquals(received.toProperties(), props);
+		/* untyped values stay strings */
+		assertEquals(received.getTypedValue("key.one"), "1");
+	}
+
+	@Test
+	public void testLargeValue() throws IOException {
+		char[] chars = new char[64 * 1024];
+		Arrays.fill(chars, 'x');
+		String large = new String(chars);
+		DiagnosticProperties props = new DiagnosticProperties();
+		props.put("test.large", large);
+		props.put("test.long", 7L);
+
+		DiagnosticProperties received = roundTrip(props);
+		assertEquals(received.getTypedValue("test.large"), large);
+		assertEquals(received.getLong("test.long"), 7L);
+	}
+
+	@Test
+	public void testConsecutiveFrames() throws IOException {
+		DiagnosticProperties first = new DiagnosticProperties();
+		first.put("test.int", 1);
+		DiagnosticProperties second = new DiagnosticProperties();
+		second.put("test.int", 2);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		AttachmentConnection.sendFrame(out, first);
+		AttachmentConnection.sendFrame(out, second);
+		InputStream in = new ByteArrayInputStream(out.toByteArray());
+		assertEquals(AttachmentConnection.receiveFrame(in).getInt("test.int"), 1);
+		assertEquals(AttachmentConnection.receiveFrame(in).getInt("test.int"), 2);
+	}
+
+	@Test
+	public void testMalformedFrames() {
+		/* unknown field type */
+		ByteBuffer badType = ByteBuffer.allocate(4 + 1 + 4 + 2);
+		badType.putInt(7).put((byte) 99).putInt(1).putChar('k');
+		expectIOException(badType.array(), "invalid field type");
+
+		/* field runs past the end of the frame */
+		ByteBuffer truncated = ByteBuffer.allocate(4 + 1 + 4);
+		truncated.putInt(5).put((byte) 1).putInt(100);
+		expectIOException(truncated.array(), "truncated field");
+
+		/* stream ends before the end of the frame */
+		ByteBuffer shortStream = ByteBuffer.allocate(4 + 2);
+		shortStream.putInt(100).put((byte) 1).put((byte) 0);
+		expectIOException(shortStream.array(), "short stream");
+
+		/* negative length */
+		ByteBuffer negative = ByteBuffer.allocate(4);
+		negative.putInt(-1);
+		expectIOException(negative.array(), "negative length");
+	}
+
+	private static void expectIOException(byte[] frame, String description) {
+		try {
+			AttachmentConnection.receiveFrame(new ByteArrayInputStream(frame));
+			fail("no IOException for " + description);
+		} catch (IOException e) {
+			/* expected */
+		}
+	}
+
+	/**
+	 * Deliver each reply in its own read, as the target does by waiting for the
+	 * next command before replying again.
+	 */
+	private static final class TargetReplies extends InputStream {
+		private final ArrayDeque<ByteArrayInputStream> replies = new ArrayDeque<>();
+
+		void add(ByteArrayOutputStream reply) {
+			replies.add(new ByteArrayInputStream(reply.toByteArray()));
+		}
+
+		@Override
+		public int read() throws IOException {
+			byte[] b = new byte[1];
+			return (read(b, 0, 1) < 0) ? -1 : (b[0] & 0xFF);
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			while (!replies.isEmpty()) {
+				int count = replies.peek().read(b, off, len);
+				if (count > 0) {
+					return count;
+				}
+				replies.remove();
+			}
+			return -1;
+		}
+	}
+
+	private static ByteArrayOutputStream textReply(String text) {
+		ByteArrayOutputStream reply = new ByteArrayOutputStream();
+		reply.write(text.getBytes(StandardCharsets.UTF_8), 0, text.length());
+		reply.write(0);
+		return reply;
+	}
+
+	@Test
+	public void testFallbackToText() throws IOException {
+		Properties props = new Properties();
+		props.setProperty("test.count", "12");
+		props.setProperty("test.name", "old target");
+
+		/* a target which predates framing rejects the command and then replies in text */
+		TargetReplies in = new TargetReplies();
+		in.add(textReply("ATTACH_ERR command invalid: " + FRAMED_REPLIES_COMMAND));
+		ByteArrayOutputStream propsReply = new ByteArrayOutputStream();
+		IPC.sendProperties(props, propsReply);
+		in.add(propsReply);
+
+		ByteArrayOutputStream commands = new ByteArrayOutputStream();
+		boolean framed = AttachmentConnection.requestFramedReplies(commands, in);
+		assertFalse(framed, "old target accepted framed replies");
+		assertEquals(commands.toByteArray(), (FRAMED_REPLIES_COMMAND + '\0').getBytes(StandardCharsets.UTF_8));
+
+		DiagnosticProperties received = AttachmentConnection.receiveProperties(in, framed);
+		assertEquals(received.toProperties(), props);
+		assertEquals(received.getLong("test.count"), 12L);
+	}
+
+	@Test
+	public void testFramedRepliesAccepted() throws IOException {
+		DiagnosticProperties props = new DiagnosticProperties();
+		props.put("test.count", 12L);
+
+		TargetReplies in = new TargetReplies();
+		in.add(textReply("ATTACH_ACK"));
+		ByteArrayOutputStream frameReply = new ByteArrayOutputStream();
+		AttachmentConnection.sendFrame(frameReply, props);
+		in.add(frameReply);
+
+		boolean framed = AttachmentConnection.requestFramedReplies(new ByteArrayOutputStream(), in);
+		assertTrue(framed, "framed replies not accepted");
+		DiagnosticProperties received = AttachmentConnection.receiveProperties(in, framed);
+		assertEquals(received.getTypedValue("test.count"), Long.valueOf(12L));
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package j9vm.test.benchmark.classloading;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Measures startup style class loading, where many threads load the same
+ * classes from one parallel capable class loader at the same time. Each
+ * iteration uses a new loader, which defines the j9vm.test.benchmark.zipfile
+ * test classes itself, so every thread contends for the per class name locks
+ * and the package map of the loader.
+ *
+ * Usage: ParallelClassLoadingBenchmark [threads [iterations]]
+ */
+public class ParallelClassLoadingBenchmark {
+
+	private static final String TEST_PACKAGE = "j9vm.test.benchmark.zipfile.testclasses";
+	private static final int PACKAGE_COUNT = 10;
+	private static final int CLASSES_PER_PACKAGE = 20;
+
+	/**
+	 * Defines the test classes rather than delegating them to its parent.
+	 */
+	static final class BenchmarkLoader extends ClassLoader {
+		static {
+			registerAsParallelCapable();
+		}
+
+		private final byte[][] classBytes;
+
+		BenchmarkLoader(ClassLoader parent, byte[][] classBytes) {
+			super(parent);
+			this.classBytes = classBytes;
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			if (!name.startsWith(TEST_PACKAGE)) {
+				return super.loadClass(name, resolve);
+			}
+			synchronized (getClassLoadingLock(name)) {
+				Class<?> c = findLoadedClass(name);
+				if (null == c) {
+					byte[] bytes = classBytes[classIndex(name)];
+					c = defineClass(name, bytes, 0, bytes.length);
+				}
+				if (resolve) {
+					resolveClass(c);
+				}
+				return c;
+			}
+		}
+	}
+
+	static String className(int index) {
+		return TEST_PACKAGE + ((index / CLASSES_PER_PACKAGE) + 1) + ".TestClass" + ((index % CLASSES_PER_PACKAGE) + 1);
+	}
+
+	static int classIndex(String name) {
+		int dot = name.lastIndexOf('.');
+		int pkg = Integer.parseInt(name.substring(TEST_PACKAGE.length(), dot)) - 1;
+		int cls = Integer.parseInt(name.substring(dot + 1 + "TestClass".length())) - 1;
+		return (pkg * CLASSES_PER_PACKAGE) + cls;
+	}
+
+	private static byte[] readClassBytes(String name) throws IOException {
+		String resource = name.replace('.', '/') + ".class";
+		try (InputStream in = ParallelClassLoadingBenchmark.class.getClassLoader().getResourceAsStream(resource)) {
+			if (null == in) {
+				throw new IOException("cannot find " + resource);
+			}
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[4096];
+			int count;
+			while ((count = in.read(buffer)) > 0) {
+				out.write(buffer, 0, count);
+			}
+			return out.toByteArray();
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		int threads = (args.length > 0) ? Integer.parseInt(args[0]) : 64;
+		int iterations = (args.length > 1) ? Integer.parseInt(args[1]) : 50;
+		int classCount = PACKAGE_COUNT * CLASSES_PER_PACKAGE;
+
+		final byte[][] classBytes = new byte[classCount][];
+		for (int i = 0; i < classCount; i++) {
+			classBytes[i] = readClassBytes(className(i));
+		}
+
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		try {
+			long best = Long.MAX_VALUE;
+			long total = 0;
+			for (int iteration = 0; iteration < iterations; iteration++) {
+				final ClassLoader loader = new BenchmarkLoader(ParallelClassLoadingBenchmark.class.getClassLoader(), classBytes);
+				final CountDownLatch start = new CountDownLatch(1);
+				List<Future<Integer>> results = new ArrayList<>(threads);
+				for (int t = 0; t < threads; t++) {
+					/* each thread starts at a different class, so threads both contend and load in parallel */
+					final int first = (t * classCount) / threads;
+					results.add(pool.submit(new Callable<Integer>() {
+						@Override
+						public Integer call() throws Exception {
+							start.await();
+							int loaded = 0;
+							for (int i = 0; i < classCount; i++) {
+								String name = className((first + i) % classCount);
+								Class<?> c = loader.loadClass(name);
+								if (c.getClassLoader() != loader) {
+									throw new IllegalStateException(name + " was not defined by the benchmark loader");
+								}
+								if (null == c.getPackage()) {
+									throw new IllegalStateException("no package for " + name);
+								}
+								loaded += 1;
+							}
+							return Integer.valueOf(loaded);
+						}
+					}));
+				}
+				long startTime = System.nanoTime();
+				start.countDown();
+				for (Future<Integer> result : results) {
+					result.get();
+				}
+				long elapsed = System.nanoTime() - startTime;
+				best = Math.min(best, elapsed);
+				total += elapsed;
+			}
+			System.out.println(threads + " threads loading " + classCount + " classes in " + PACKAGE_COUNT + " packages: best "
+					+ (best / 1000) + " us, mean " + (total / iterations / 1000) + " us over " + iterations + " iterations");
+		} finally {
+			pool.shutdown();
+		}
+	}
+}
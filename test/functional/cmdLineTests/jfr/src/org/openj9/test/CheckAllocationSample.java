@@ -0,0 +1,53 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+
+package org.openj9.test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class CheckAllocationSample {
+	public static void main(String[] args) throws Exception {
+		Path recording = Paths.get((args.length > 0) ? args[0] : "defaultJ9recording.jfr");
+		int samples = 0;
+		try (RecordingFile file = new RecordingFile(recording)) {
+			while (file.hasMoreEvents()) {
+				RecordedEvent event = file.readEvent();
+				if ("jdk.ObjectAllocationSample".equals(event.getEventType().getName())) {
+					if (event.getLong("weight") <= 0) {
+						System.out.println("FAILED: allocation sample with weight " + event.getLong("weight"));
+						System.exit(1);
+					}
+					samples += 1;
+				}
+			}
+		}
+		if (0 == samples) {
+			System.out.println("FAILED: no allocation samples in " + recording);
+			System.exit(1);
+		}
+		System.out.println("Allocation samples recorded");
+	}
+}
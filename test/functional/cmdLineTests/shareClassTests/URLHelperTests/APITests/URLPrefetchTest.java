@@ -0,0 +1,79 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package APITests;
+
+import java.io.File;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import Utilities.URLClassPathCreator;
+import CustomCLs.CustomURLClassLoader;
+
+/**
+ * Checks that classes found by SharedClassURLClasspathHelper.prefetchSharedClasses are returned
+ * by findSharedClass, and are looked up in the cache again once their jar has been modified.
+ */
+public class URLPrefetchTest {
+
+	public static void main(String[] args) throws Exception {
+		URLPrefetchTest test = new URLPrefetchTest();
+		test.run();
+	}
+	
+	public void run() throws Exception {
+		/* use a copy of the jar so that touching it does not affect other tests */
+		File jar = new File("./PrefetchAlphabet.jar");
+		Files.copy(new File("./AlphabetJar/Alphabet.jar").toPath(), jar.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		
+		URLClassPathCreator pathCreator = new URLClassPathCreator("./PrefetchAlphabet.jar;");
+		URL[] urls = pathCreator.createURLClassPath();
+		
+		CustomURLClassLoader storeLoader = new CustomURLClassLoader(urls);
+		storeLoader.loadClass("A");
+		storeLoader.loadClass("B");
+		
+		CustomURLClassLoader findLoader = new CustomURLClassLoader(urls);
+		findLoader.confirmAllEntries();
+		int found = findLoader.prefetchClasses(new String[] { "A", "B", "NoSuchClass", null });
+		if (2 != found) {
+			System.out.println("\nTEST FAILED: prefetched " + found + " classes, expected 2");
+			return;
+		}
+		if (!findLoader.isClassInSharedCache("A")) {
+			System.out.println("\nTEST FAILED: prefetched class A not found");
+			return;
+		}
+		
+		/* B was prefetched before the jar changed, so it must be checked again rather than returned */
+		if (!jar.setLastModified(jar.lastModified() + 60000)) {
+			System.out.println("\nTEST FAILED: cannot change the timestamp of " + jar);
+			return;
+		}
+		if (findLoader.isClassInSharedCache("B")) {
+			System.out.println("\nTEST FAILED: stale prefetched class B was returned");
+			return;
+		}
+		
+		System.out.println("\nTEST PASSED");
+	}
+}
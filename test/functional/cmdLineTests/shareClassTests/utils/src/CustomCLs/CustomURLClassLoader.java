@@ -482,6 +482,19 @@ public class CustomURLClassLoader extends SecureClassLoader {
 		return definePackage(name, attrs[0], attrs[1], attrs[2], attrs[3], attrs[4], attrs[5], sealedAtURL);
 	}
 	
+	public void confirmAllEntries(){
+		if (scHelper!=null) {
+			scHelper.confirmAllEntries();
+		}
+	}
+	
+	public int prefetchClasses(String[] classNames){
+		if (scHelper!=null) {
+			return scHelper.prefetchSharedClasses(null, classNames);
+		}
+		return 0;
+	}
+	
 	public boolean isClassInSharedCache(String className){
 		byte[] sharedClass = null;
 		if (scHelper!=null) {